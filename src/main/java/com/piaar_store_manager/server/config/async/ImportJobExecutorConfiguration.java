@@ -0,0 +1,33 @@
+package com.piaar_store_manager.server.config.async;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 엑셀 가져오기 작업 전용 executor.
+ * <p>
+ * 대기열이 가득 차면 TaskRejectedException 이 발생하고, 요청은 즉시 실패 응답을 받는다.
+ * 종료 시에는 실행 중인 작업을 기다리지 않고 interrupt 하며, 중단된 작업은 재시작 후 이어서 처리한다.
+ */
+@Configuration
+public class ImportJobExecutorConfiguration {
+    @Value("${app.import-job.pool-size:2}")
+    private int poolSize;
+
+    @Value("${app.import-job.queue-capacity:20}")
+    private int queueCapacity;
+
+    @Bean(name = "importJobExecutor")
+    public ThreadPoolTaskExecutor importJobExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("import-job-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
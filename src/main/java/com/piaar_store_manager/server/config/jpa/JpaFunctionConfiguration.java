@@ -0,0 +1,33 @@
+package com.piaar_store_manager.server.config.jpa;
+
+import org.hibernate.boot.MetadataBuilder;
+import org.hibernate.boot.spi.MetadataBuilderContributor;
+import org.hibernate.dialect.function.SQLFunctionTemplate;
+import org.hibernate.jpa.boot.internal.EntityManagerFactoryBuilderImpl;
+import org.hibernate.type.StandardBasicTypes;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JPQL(QueryDSL) 에서 function('이름', ...) 으로 호출할 수 있는 MySQL 함수를 등록한다.
+ * <p>
+ * match_against(column, query) : MATCH (column) AGAINST (query IN BOOLEAN MODE)
+ * column 에 FULLTEXT 인덱스가 존재해야 한다.
+ */
+@Configuration
+public class JpaFunctionConfiguration {
+    public static final String MATCH_AGAINST = "match_against";
+
+    @Bean
+    public HibernatePropertiesCustomizer jpaFunctionCustomizer() {
+        return hibernateProperties -> hibernateProperties.put(EntityManagerFactoryBuilderImpl.METADATA_BUILDER_CONTRIBUTOR, new FunctionContributor());
+    }
+
+    static class FunctionContributor implements MetadataBuilderContributor {
+        @Override
+        public void contribute(MetadataBuilder metadataBuilder) {
+            metadataBuilder.applySqlFunction(MATCH_AGAINST, new SQLFunctionTemplate(StandardBasicTypes.DOUBLE, "match (?1) against (?2 in boolean mode)"));
+        }
+    }
+}
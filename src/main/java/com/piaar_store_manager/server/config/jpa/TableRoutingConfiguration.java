@@ -0,0 +1,75 @@
+package com.piaar_store_manager.server.config.jpa;
+
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 엔티티 매핑은 그대로 두고, 지정한 범위 안에서 실행되는 SQL 의 테이블만 같은 구조의 다른 테이블로 바꿔 실행한다.
+ * <p>
+ * 같은 컬럼 구성을 가진 보관 테이블(예: erp_order_item_archive)을 기존 QueryDSL 조회 로직 그대로 조회할 때 사용한다.
+ * 범위는 현재 스레드에만 적용되며, 범위 밖의 SQL 은 변경하지 않는다.
+ */
+@Configuration
+public class TableRoutingConfiguration {
+    private static final ThreadLocal<Route> CURRENT_ROUTE = new ThreadLocal<>();
+
+    @Bean
+    public HibernatePropertiesCustomizer tableRoutingCustomizer() {
+        return hibernateProperties -> hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, new TableRoutingStatementInspector());
+    }
+
+    /**
+     * fetcher 에서 실행되는 SQL 의 table 을 routedTable 로 바꿔 실행한다.
+     * 조회 전용이며, 범위 안에서 영속성 컨텍스트에 올라온 엔티티를 수정하더라도 routedTable 에는 반영되지 않는다.
+     *
+     * @param table       : String
+     * @param routedTable : String
+     * @param fetcher     : Supplier
+     * @return T
+     */
+    public static <T> T withRoutedTable(String table, String routedTable, Supplier<T> fetcher) {
+        Route previousRoute = CURRENT_ROUTE.get();
+        CURRENT_ROUTE.set(new Route(table, routedTable));
+        try {
+            return fetcher.get();
+        } finally {
+            if (previousRoute == null) {
+                CURRENT_ROUTE.remove();
+            } else {
+                CURRENT_ROUTE.set(previousRoute);
+            }
+        }
+    }
+
+    public static class TableRoutingStatementInspector implements StatementInspector {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public String inspect(String sql) {
+            Route route = CURRENT_ROUTE.get();
+            return route == null ? sql : route.apply(sql);
+        }
+    }
+
+    static class Route {
+        private final Pattern tablePattern;
+        private final String routedTable;
+
+        Route(String table, String routedTable) {
+            // 다른 테이블명의 일부(erp_order_item_staging)나 컬럼 참조(alias.erp_order_item)는 바꾸지 않는다.
+            this.tablePattern = Pattern.compile("(?<![\\w.`])" + Pattern.quote(table) + "(?![\\w`])", Pattern.CASE_INSENSITIVE);
+            this.routedTable = Matcher.quoteReplacement(routedTable);
+        }
+
+        String apply(String sql) {
+            return tablePattern.matcher(sql).replaceAll(routedTable);
+        }
+    }
+}
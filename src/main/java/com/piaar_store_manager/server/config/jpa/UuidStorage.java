@@ -0,0 +1,57 @@
+package com.piaar_store_manager.server.config.jpa;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+
+import com.piaar_store_manager.server.utils.CustomUuidUtils;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대용량 테이블(erp_order_item, product_release, delivery ready item, erp header 등)의 UUID 저장 형식.
+ * <p>
+ * app.uuid-storage.binary 가 true 라면 BINARY(16), 아니라면 기존과 같은 문자열(36자)로 저장한다.
+ * 엔티티는 @Type(type = "uuid-compact") 로 매핑하고, JDBC 로 직접 읽고 쓰는 경우에는 toParameter, getUuid 로 변환한다.
+ *
+ * @see UuidStorageConfiguration
+ * @see UuidStorageMigration
+ */
+@Component
+public class UuidStorage {
+    public static final String TYPE_NAME = "uuid-compact";
+
+    private final boolean binary;
+
+    public UuidStorage(@Value("${app.uuid-storage.binary:false}") boolean binary) {
+        this.binary = binary;
+    }
+
+    public boolean isBinary() {
+        return binary;
+    }
+
+    /**
+     * JDBC 파라미터로 바인딩할 값을 반환한다.
+     *
+     * @param uuid : UUID
+     * @return Object
+     */
+    public Object toParameter(UUID uuid) {
+        if (uuid == null) {
+            return null;
+        }
+        return binary ? CustomUuidUtils.toBytes(uuid) : uuid.toString();
+    }
+
+    public UUID getUuid(ResultSet rs, String columnLabel) throws SQLException {
+        if (binary) {
+            byte[] bytes = rs.getBytes(columnLabel);
+            return bytes == null ? null : CustomUuidUtils.fromBytes(bytes);
+        }
+
+        String value = rs.getString(columnLabel);
+        return value == null ? null : UUID.fromString(value);
+    }
+}
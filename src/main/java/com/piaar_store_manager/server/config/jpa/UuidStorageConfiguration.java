@@ -0,0 +1,54 @@
+package com.piaar_store_manager.server.config.jpa;
+
+import java.util.Collections;
+
+import org.hibernate.jpa.boot.internal.EntityManagerFactoryBuilderImpl;
+import org.hibernate.jpa.boot.spi.TypeContributorList;
+import org.hibernate.boot.model.TypeContributor;
+import org.hibernate.type.UUIDBinaryType;
+import org.hibernate.type.UUIDCharType;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * "uuid-compact" 타입을 UuidStorage 의 저장 형식에 맞는 Hibernate 타입으로 등록한다.
+ * <p>
+ * 문자열 형식이라면 uuid-char 와, BINARY(16) 형식이라면 uuid-binary 와 같다.
+ * 엔티티 매핑은 그대로 두고 설정만으로 저장 형식을 바꿀 수 있으며, 엔티티 경로로 바인딩되는 JPQL, QueryDSL 파라미터도 함께 변환된다.
+ */
+@Configuration
+public class UuidStorageConfiguration {
+
+    @Bean
+    public HibernatePropertiesCustomizer uuidStorageCustomizer(UuidStorage uuidStorage) {
+        TypeContributorList typeContributorList = () -> Collections.singletonList(UuidStorageConfiguration.typeContributor(uuidStorage));
+
+        return hibernateProperties -> hibernateProperties.put(EntityManagerFactoryBuilderImpl.TYPE_CONTRIBUTORS, typeContributorList);
+    }
+
+    public static TypeContributor typeContributor(UuidStorage uuidStorage) {
+        return (typeContributions, serviceRegistry) -> typeContributions.contributeType(
+                uuidStorage.isBinary() ? new CompactUuidBinaryType() : new CompactUuidCharType()
+        );
+    }
+
+    // uuid-compact 로만 등록한다. java.util.UUID 의 기본 타입은 변경하지 않는다.
+    static class CompactUuidBinaryType extends UUIDBinaryType {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public String[] getRegistrationKeys() {
+            return new String[] { UuidStorage.TYPE_NAME };
+        }
+    }
+
+    static class CompactUuidCharType extends UUIDCharType {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public String[] getRegistrationKeys() {
+            return new String[] { UuidStorage.TYPE_NAME };
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.piaar_store_manager.server.config.jpa;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * BINARY(16) 저장 형식이 설정된 경우 uuid-compact 컬럼 중 아직 문자열인 컬럼을 BINARY(16) 으로 변환한다.
+ * <p>
+ * 컬럼별로 VARBINARY(36) 변경 => UNHEX 로 MIGRATION_CHUNK_SIZE 행씩 변환 => BINARY(16) 변경 순서로 진행하며,
+ * 컬럼명을 유지하므로 기존 인덱스도 그대로 유지된다. 매 단계는 information_schema 의 컬럼 타입으로 판단하기 때문에
+ * 중간에 중단되더라도 다시 시작하면 남은 단계부터 이어서 진행한다.
+ * <p>
+ * 요청을 받기 전에 변환이 끝나야 하므로 EntityManagerFactory(스키마 생성) 초기화 후, 웹 서버 시작 전에 실행된다.
+ * 변환 중에는 테이블을 사용할 수 없으므로 점검 시간에 설정을 변경한다.
+ */
+@Slf4j
+@Component
+public class UuidStorageMigration {
+    // 테이블명 - uuid-compact 컬럼명. uuid-char 컬럼(user.id 등)과 조인하는 컬럼은 변환하지 않는다.
+    private static final Map<String, List<String>> UUID_COLUMNS;
+
+    static {
+        Map<String, List<String>> uuidColumns = new LinkedHashMap<>();
+        uuidColumns.put("erp_order_item", List.of("id", "created_by"));
+        uuidColumns.put("erp_order_item_archive", List.of("id", "created_by"));
+        uuidColumns.put("erp_order_item_staging", List.of("upload_token", "id", "created_by"));
+        uuidColumns.put("product_release", List.of("id", "product_option_id", "erp_order_item_id"));
+        uuidColumns.put("delivery_ready_naver_item", List.of("id"));
+        uuidColumns.put("delivery_ready_coupang_item", List.of("id"));
+        uuidColumns.put("erp_order_header", List.of("id", "created_by"));
+        uuidColumns.put("erp_sales_header", List.of("id", "created_by"));
+        uuidColumns.put("erp_release_ready_header", List.of("id", "created_by"));
+        uuidColumns.put("erp_release_complete_header", List.of("id", "created_by"));
+        uuidColumns.put("erp_delivery_header", List.of("id", "created_by"));
+        uuidColumns.put("erp_first_merge_header", List.of("id", "created_by"));
+        uuidColumns.put("erp_second_merge_header", List.of("id", "created_by"));
+        UUID_COLUMNS = Collections.unmodifiableMap(uuidColumns);
+    }
+
+    private final UuidStorage uuidStorage;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.uuid-storage.migration-chunk-size:10000}")
+    private int migrationChunkSize;
+
+    /**
+     * entityManagerFactory 는 Hibernate 의 스키마 생성이 끝난 후 실행되도록 의존성으로만 받는다.
+     */
+    @Autowired
+    public UuidStorageMigration(UuidStorage uuidStorage, JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.uuidStorage = uuidStorage;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void migrate() {
+        if (!uuidStorage.isBinary()) {
+            return;
+        }
+
+        UUID_COLUMNS.forEach((table, columns) -> columns.forEach(column -> this.migrateColumn(table, column)));
+    }
+
+    private void migrateColumn(String table, String column) {
+        List<Map<String, Object>> columnInfos = jdbcTemplate.queryForList(
+                "SELECT data_type, character_maximum_length, is_nullable FROM information_schema.columns" +
+                        " WHERE table_schema = DATABASE() AND table_name = ? AND column_name = ?",
+                table, column
+        );
+        // 아직 생성되지 않은 테이블
+        if (columnInfos.isEmpty()) {
+            return;
+        }
+
+        String dataType = String.valueOf(columnInfos.get(0).get("data_type")).toLowerCase();
+        Number maxLength = (Number) columnInfos.get(0).get("character_maximum_length");
+        String nullable = "NO".equals(columnInfos.get(0).get("is_nullable")) ? " NOT NULL" : " NULL";
+
+        if ("binary".equals(dataType) && maxLength != null && maxLength.intValue() == 16) {
+            return;
+        }
+
+        log.info("migrating {}.{} ({}) to BINARY(16)", table, column, dataType);
+
+        // Hibernate 가 새로 생성한 binary(255) 컬럼은 0x00 으로 채워져 있으므로 문자열과 같이 가변 길이로 바꾼 후 앞 16 byte 만 남긴다.
+        if (!"varbinary".equals(dataType)) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " MODIFY " + column + " VARBINARY(" + Math.max(36, maxLength == null ? 0 : maxLength.intValue()) + ")" + nullable);
+        }
+
+        String updateSql = "UPDATE " + table +
+                " SET " + column + " = IF(LENGTH(" + column + ") = 36, UNHEX(REPLACE(" + column + ", '-', '')), LEFT(" + column + ", 16))" +
+                " WHERE LENGTH(" + column + ") > 16" +
+                " LIMIT ?";
+        long convertedCount = 0;
+        int updatedCount;
+        do {
+            updatedCount = jdbcTemplate.update(updateSql, migrationChunkSize);
+            convertedCount += updatedCount;
+        } while (updatedCount > 0);
+
+        jdbcTemplate.execute("ALTER TABLE " + table + " MODIFY " + column + " BINARY(16)" + nullable);
+        log.info("migrated {}.{} to BINARY(16). converted rows : {}", table, column, convertedCount);
+    }
+}
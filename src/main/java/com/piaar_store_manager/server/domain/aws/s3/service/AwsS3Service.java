@@ -31,4 +31,9 @@ public class AwsS3Service {
             throw new IllegalStateException();
         }
     }
+
+    public void deleteObject(String uploadPath, String fileName) {
+        s3Client = awsS3Configuration.getS3Client();
+        s3Client.deleteObject(uploadPath, fileName);
+    }
 }
@@ -0,0 +1,33 @@
+package com.piaar_store_manager.server.domain.code_generator.entity;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 코드 생성기가 서버 간에 겹치지 않는 범위를 예약하기 위한 시퀀스 테이블.
+ * <p>
+ * name 별로 다음에 예약할 값(next_value)을 보관한다. 값은 CodeSequenceCustomJdbc#jdbcReserve 로만 증가시킨다.
+ */
+@Entity
+@Builder
+@Getter
+@Table(name = "code_sequence")
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class CodeSequenceEntity {
+    @Id
+    @Column(name = "name", length = 50)
+    private String name;
+
+    @Column(name = "next_value", nullable = false)
+    private Long nextValue;
+}
@@ -0,0 +1,8 @@
+package com.piaar_store_manager.server.domain.code_generator.repository;
+
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CodeSequenceCustomJdbc {
+    long jdbcReserve(String name, int size);
+}
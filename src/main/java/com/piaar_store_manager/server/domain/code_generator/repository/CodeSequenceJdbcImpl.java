@@ -0,0 +1,26 @@
+package com.piaar_store_manager.server.domain.code_generator.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class CodeSequenceJdbcImpl implements CodeSequenceCustomJdbc {
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * name 시퀀스에서 size 개의 값을 예약하고 예약한 범위의 첫번째 값을 반환한다.
+     * <p>
+     * LAST_INSERT_ID(expr) 는 커넥션 단위로 값을 보관하므로 트랜잭션 안에서 호출해 UPDATE 와 SELECT 가 같은 커넥션을 사용하도록 한다.
+     */
+    @Override
+    public long jdbcReserve(String name, int size) {
+        jdbcTemplate.update("INSERT INTO code_sequence (name, next_value) VALUES (?, 0) ON DUPLICATE KEY UPDATE name = name", name);
+        jdbcTemplate.update("UPDATE code_sequence SET next_value = LAST_INSERT_ID(next_value + ?) WHERE name = ?", size, name);
+
+        Long end = jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID()", Long.class);
+        return end - size;
+    }
+}
@@ -0,0 +1,77 @@
+package com.piaar_store_manager.server.domain.code_generator.service;
+
+import com.piaar_store_manager.server.domain.code_generator.repository.CodeSequenceCustomJdbc;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * erp_order_item 의 고유코드(unique_code), 운송코드(freight_code) 생성 서비스.
+ * <p>
+ * nodeId 가 설정되지 않았다면 code_sequence 에서 서버마다 다른 nodeId 를 예약한다.
+ * 시퀀스 예약은 호출한 트랜잭션과 분리된 새 트랜잭션에서 처리해 code_sequence 행의 잠금을 바로 해제한다.
+ * 호출한 트랜잭션이 롤백되면 예약한 번호는 사용되지 않고 건너뛴다.
+ *
+ * @see UniqueCodeGenerator
+ * @see FreightCodeAllocator
+ */
+@Slf4j
+@Service
+public class CodeGeneratorService {
+    private static final String UNIQUE_CODE_NODE_SEQUENCE = "unique_code_node";
+    private static final String FREIGHT_CODE_SEQUENCE = "freight_code";
+
+    private final CodeSequenceCustomJdbc codeSequenceCustomJdbc;
+    private final TransactionTemplate requiresNewTransactionTemplate;
+    private final int configuredNodeId;
+    private final FreightCodeAllocator freightCodeAllocator;
+    private volatile UniqueCodeGenerator uniqueCodeGenerator;
+
+    @Autowired
+    public CodeGeneratorService(
+            CodeSequenceCustomJdbc codeSequenceCustomJdbc,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.code-generator.node-id:-1}") int configuredNodeId,
+            @Value("${app.code-generator.freight-code-block-size:1000}") int freightCodeBlockSize
+    ) {
+        this.codeSequenceCustomJdbc = codeSequenceCustomJdbc;
+        this.requiresNewTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.configuredNodeId = configuredNodeId;
+        this.freightCodeAllocator = new FreightCodeAllocator(size -> this.reserve(FREIGHT_CODE_SEQUENCE, size), freightCodeBlockSize);
+    }
+
+    public String generateUniqueCode() {
+        return this.getUniqueCodeGenerator().generate();
+    }
+
+    public String generateFreightCode() {
+        return freightCodeAllocator.allocate();
+    }
+
+    private UniqueCodeGenerator getUniqueCodeGenerator() {
+        UniqueCodeGenerator generator = uniqueCodeGenerator;
+        if (generator == null) {
+            synchronized (this) {
+                generator = uniqueCodeGenerator;
+                if (generator == null) {
+                    int nodeId = configuredNodeId >= 0 ? configuredNodeId : Math.floorMod(this.reserve(UNIQUE_CODE_NODE_SEQUENCE, 1), UniqueCodeGenerator.MAX_NODE_ID + 1);
+                    log.info("unique code generator node id : {}", nodeId);
+                    generator = new UniqueCodeGenerator(nodeId);
+                    uniqueCodeGenerator = generator;
+                }
+            }
+        }
+        return generator;
+    }
+
+    private long reserve(String name, int size) {
+        return requiresNewTransactionTemplate.execute(status -> codeSequenceCustomJdbc.jdbcReserve(name, size));
+    }
+}
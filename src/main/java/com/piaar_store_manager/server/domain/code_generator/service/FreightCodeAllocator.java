@@ -0,0 +1,101 @@
+package com.piaar_store_manager.server.domain.code_generator.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 4자리 운송코드(숫자 1~9, 영문 대문자, 영문 소문자) 할당기.
+ * <p>
+ * 61^4 개의 코드 공간을 전역 시퀀스 번호에 대한 순열(i -> (i * MULTIPLIER + OFFSET) mod CODE_SPACE)로 대응시키기 때문에
+ * 연속된 CODE_SPACE 개의 시퀀스 번호는 서로 다른 코드가 된다. 즉, 처리 중인 주문이 CODE_SPACE 개 이내라면 운송코드는 중복되지 않는다.
+ * <p>
+ * 시퀀스 번호는 BlockReserver 로 blockSize 개씩 예약해 서버 간에 겹치지 않게 하고,
+ * 예약한 범위 안에서는 AtomicLong 으로 잠금 없이 할당한다. 범위를 모두 사용한 경우에만 새 범위를 예약하며 이 때만 동기화한다.
+ */
+public class FreightCodeAllocator {
+    public static final String CODE_CHARACTERS = "123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+    public static final int CODE_LENGTH = 4;
+    public static final long CODE_SPACE;
+
+    // CODE_SPACE(61^4) 와 서로소인 값. 인접한 시퀀스 번호의 코드가 비슷해 보이지 않도록 섞는다.
+    private static final long MULTIPLIER = 7368787L;
+    private static final long OFFSET = 5102939L;
+
+    static {
+        long codeSpace = 1;
+        for (int i = 0; i < CODE_LENGTH; i++) {
+            codeSpace *= CODE_CHARACTERS.length();
+        }
+        CODE_SPACE = codeSpace;
+    }
+
+    private final BlockReserver blockReserver;
+    private final int blockSize;
+    private volatile Block block;
+
+    public FreightCodeAllocator(BlockReserver blockReserver, int blockSize) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("blockSize must be positive");
+        }
+        this.blockReserver = blockReserver;
+        this.blockSize = blockSize;
+    }
+
+    public String allocate() {
+        while (true) {
+            Block currentBlock = block;
+            if (currentBlock != null) {
+                long sequence = currentBlock.next.getAndIncrement();
+                if (sequence < currentBlock.end) {
+                    return toCode(sequence);
+                }
+            }
+            this.reserveBlock(currentBlock);
+        }
+    }
+
+    /**
+     * 시퀀스 번호에 대응하는 운송코드를 반환한다. sequence 와 sequence + CODE_SPACE 는 같은 코드가 된다.
+     *
+     * @param sequence : long
+     * @return String
+     */
+    public static String toCode(long sequence) {
+        long index = (Math.floorMod(sequence, CODE_SPACE) * MULTIPLIER + OFFSET) % CODE_SPACE;
+        int radix = CODE_CHARACTERS.length();
+
+        char[] code = new char[CODE_LENGTH];
+        for (int i = CODE_LENGTH - 1; i >= 0; i--) {
+            code[i] = CODE_CHARACTERS.charAt((int) (index % radix));
+            index /= radix;
+        }
+        return new String(code);
+    }
+
+    private synchronized void reserveBlock(Block exhaustedBlock) {
+        // 다른 스레드가 이미 새 범위를 예약했다면 그대로 사용한다.
+        if (block != exhaustedBlock) {
+            return;
+        }
+
+        long start = blockReserver.reserve(blockSize);
+        block = new Block(start, start + blockSize);
+    }
+
+    /**
+     * size 개의 연속된 시퀀스 번호를 예약하고 첫번째 번호를 반환한다. 이미 예약된 번호를 다시 반환해서는 안 된다.
+     */
+    @FunctionalInterface
+    public interface BlockReserver {
+        long reserve(int size);
+    }
+
+    private static class Block {
+        private final AtomicLong next;
+        private final long end;
+
+        private Block(long start, long end) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.piaar_store_manager.server.domain.code_generator.service;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 서버(node) 단위로 단조 증가하는 고유코드 생성기.
+ * <p>
+ * 63 bit 값 = timestamp(41 bit, EPOCH 기준 밀리초) + sequence(12 bit) + nodeId(10 bit) 를 36진수 13자리로 변환하고 접두어 p 를 붙인다.
+ * 자릿수가 고정이므로 같은 서버에서 생성된 코드는 문자열 순서와 생성 순서가 같다.
+ * <p>
+ * timestamp 와 sequence 는 하나의 AtomicLong 에 보관하고 CAS 로 갱신하므로 잠금 없이 동작한다.
+ * 같은 밀리초에 sequence 가 모두 소진되면 다음 밀리초 값을 미리 사용하고, 시계가 뒤로 가더라도 마지막 값 이후부터 이어서 생성하기 때문에
+ * 같은 nodeId 안에서는 중복되지 않는다. nodeId 가 다른 서버끼리는 nodeId 로 구분된다.
+ */
+public class UniqueCodeGenerator {
+    public static final int NODE_ID_BITS = 10;
+    public static final int MAX_NODE_ID = (1 << NODE_ID_BITS) - 1;
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final long EPOCH = Instant.parse("2020-01-01T00:00:00Z").toEpochMilli();
+    private static final String PREFIX = "p";
+    private static final int CODE_LENGTH = 13;
+    private static final int RADIX = 36;
+
+    private final long nodeId;
+    // (timestamp << SEQUENCE_BITS) | sequence
+    private final AtomicLong lastState = new AtomicLong();
+
+    public UniqueCodeGenerator(int nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("nodeId must be between 0 and " + MAX_NODE_ID);
+        }
+        this.nodeId = nodeId;
+    }
+
+    public String generate() {
+        return toCode(this.nextValue());
+    }
+
+    private long nextValue() {
+        while (true) {
+            long current = lastState.get();
+            long next = Math.max(current + 1, (System.currentTimeMillis() - EPOCH) << SEQUENCE_BITS);
+            if (lastState.compareAndSet(current, next)) {
+                return (next << NODE_ID_BITS) | nodeId;
+            }
+        }
+    }
+
+    private static String toCode(long value) {
+        String digits = Long.toString(value, RADIX);
+        StringBuilder sb = new StringBuilder(PREFIX.length() + CODE_LENGTH);
+        sb.append(PREFIX);
+        for (int i = digits.length(); i < CODE_LENGTH; i++) {
+            sb.append('0');
+        }
+        sb.append(digits);
+        return sb.toString();
+    }
+}
@@ -2,6 +2,7 @@ package com.piaar_store_manager.server.domain.delivery_ready.common.dto;
 
 import com.piaar_store_manager.server.domain.delivery_ready.coupang.dto.DeliveryReadyCoupangItemViewDto;
 import com.piaar_store_manager.server.domain.delivery_ready.naver.dto.DeliveryReadyNaverItemViewDto;
+import com.piaar_store_manager.server.utils.CustomExcelStreamWriter.SheetTemplate;
 
 import lombok.Builder;
 import lombok.Data;
@@ -100,4 +101,40 @@ public class DeliveryReadyItemHansanExcelFormDto {
 
         return formDto;
     }
+
+    /**
+     * <b>Excel Form Method</b>
+     * <p>
+     * 한산 발주서 양식. 받는사람 셀은 중복 데이터(받는사람 + 번호 + 주소)인 경우 강조 표시한다.
+     * 플랫폼별로 상품주문번호 헤더명, 관리명과 코드 사이의 구분자, 미지정 문구가 다르다.
+     *
+     * @param prodOrderNumberHeaderName : String
+     * @param codeDelimiter             : String
+     * @param unassignedText            : String
+     * @param platformName              : String
+     * @return SheetTemplate::DeliveryReadyItemHansanExcelFormDto::
+     */
+    public static SheetTemplate<DeliveryReadyItemHansanExcelFormDto> toSheetTemplate(String prodOrderNumberHeaderName, String codeDelimiter, String unassignedText, String platformName) {
+        return SheetTemplate.<DeliveryReadyItemHansanExcelFormDto>builder("한산 발주서")
+                .highlightedColumn("받는사람", DeliveryReadyItemHansanExcelFormDto::getReceiver, DeliveryReadyItemHansanExcelFormDto::isDuplication)
+                .column("전화번호1", DeliveryReadyItemHansanExcelFormDto::getReceiverContact1)
+                .column("우편번호", DeliveryReadyItemHansanExcelFormDto::getZipCode)
+                .column("주소", DeliveryReadyItemHansanExcelFormDto::getDestination)
+                .column("운송장번호", DeliveryReadyItemHansanExcelFormDto::getTransportNumber)
+                .column("상품명1", dto -> dto.getStoreProdName() != null ? dto.getStoreProdName() + codeDelimiter + dto.getProdManufacturingCode() : unassignedText)       // 피아르 상품관리명 + 피아르 상품제조번호
+                .column("보내는사람(지정)", dto -> dto.getSender() != null ? dto.getSender() : "*지정바람")
+                .column("전화번호1(지정)", dto -> dto.getSenderContact1() != null ? dto.getSenderContact1() : "*지정바람")
+                .column("상품상세1", dto -> dto.getStoreOptionName() != null ? dto.getStoreOptionName() + codeDelimiter + dto.getOptionManagementCode() : unassignedText)       // 피아르 옵션관리명 + 피아르 옵션관리코드
+                .column("내품수량1", DeliveryReadyItemHansanExcelFormDto::getUnit)
+                .column("배송메시지", DeliveryReadyItemHansanExcelFormDto::getDeliveryMessage)
+                .column("수량(A타입)", DeliveryReadyItemHansanExcelFormDto::getUnitA)
+                .column("주문번호", DeliveryReadyItemHansanExcelFormDto::getOrderNumber)
+                .column(prodOrderNumberHeaderName, DeliveryReadyItemHansanExcelFormDto::getProdOrderNumber)
+                .column("오픈마켓 상품명", DeliveryReadyItemHansanExcelFormDto::getProdName)
+                .column("오픈마켓 옵션명", DeliveryReadyItemHansanExcelFormDto::getOptionInfo)
+                .column("옵션관리코드", DeliveryReadyItemHansanExcelFormDto::getOptionManagementCode)
+                .column("총 상품주문번호", DeliveryReadyItemHansanExcelFormDto::getAllProdOrderNumber)
+                .column("플랫폼명", dto -> platformName)
+                .build();
+    }
 }
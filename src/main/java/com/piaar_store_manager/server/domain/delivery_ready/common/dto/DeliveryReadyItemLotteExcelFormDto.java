@@ -2,6 +2,7 @@ package com.piaar_store_manager.server.domain.delivery_ready.common.dto;
 
 import com.piaar_store_manager.server.domain.delivery_ready.coupang.dto.DeliveryReadyCoupangItemViewDto;
 import com.piaar_store_manager.server.domain.delivery_ready.naver.dto.DeliveryReadyNaverItemViewDto;
+import com.piaar_store_manager.server.utils.CustomExcelStreamWriter.SheetTemplate;
 
 import lombok.Builder;
 import lombok.Data;
@@ -95,4 +96,35 @@ public class DeliveryReadyItemLotteExcelFormDto {
 
         return formDto;
     }
+
+    /**
+     * <b>Excel Form Method</b>
+     * <p>
+     * 롯데 발주서 양식. 상품명1 컬럼에는 총 상품정보(상품명+옵션+수량)를 작성하고, 마지막 총 상품정보 컬럼은 헤더만 작성한다.
+     *
+     * @return SheetTemplate::DeliveryReadyItemLotteExcelFormDto::
+     */
+    public static SheetTemplate<DeliveryReadyItemLotteExcelFormDto> toSheetTemplate() {
+        return SheetTemplate.<DeliveryReadyItemLotteExcelFormDto>builder("롯데 발주서")
+                .column("받는사람", DeliveryReadyItemLotteExcelFormDto::getReceiver)
+                .column("우편번호", DeliveryReadyItemLotteExcelFormDto::getZipCode)
+                .column("주소", DeliveryReadyItemLotteExcelFormDto::getDestination)
+                .column("전화번호1", DeliveryReadyItemLotteExcelFormDto::getReceiverContact1)
+                .column("전화번호2", DeliveryReadyItemLotteExcelFormDto::getReceiverContact2)
+                .column("배송메시지", DeliveryReadyItemLotteExcelFormDto::getDeliveryMessage)
+                .column("불필요한항목", DeliveryReadyItemLotteExcelFormDto::getUnnecessaryCell)
+                .column("보내는사람(지정)", DeliveryReadyItemLotteExcelFormDto::getSender)
+                .column("전화번호1(지정)", DeliveryReadyItemLotteExcelFormDto::getSenderContact1)
+                .column("주소(지정)", DeliveryReadyItemLotteExcelFormDto::getSenderAddress)
+                .column("수량(A타입)", DeliveryReadyItemLotteExcelFormDto::getUnitA)
+                .column("상품명1", DeliveryReadyItemLotteExcelFormDto::getAllProdInfo)
+                .column("상품상세1", dto -> "")
+                .column("내품수량1", dto -> "")
+                .column("상품코드1", DeliveryReadyItemLotteExcelFormDto::getOrderNumber)
+                .column("상품코드2", DeliveryReadyItemLotteExcelFormDto::getProdOrderNumber)
+                .column("상품상세2", DeliveryReadyItemLotteExcelFormDto::getPlatformName)
+                .column("총 상품주문번호", DeliveryReadyItemLotteExcelFormDto::getAllProdOrderNumber)
+                .column("총 상품정보", dto -> null)
+                .build();
+    }
 }
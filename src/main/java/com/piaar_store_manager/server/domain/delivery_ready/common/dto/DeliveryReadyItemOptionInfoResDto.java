@@ -1,5 +1,9 @@
 package com.piaar_store_manager.server.domain.delivery_ready.common.dto;
 
+import com.piaar_store_manager.server.domain.product.entity.ProductEntity;
+import com.piaar_store_manager.server.domain.product_catalog.dto.ProductCatalogEntry;
+import com.piaar_store_manager.server.domain.product_option.entity.ProductOptionEntity;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -16,4 +20,26 @@ public class DeliveryReadyItemOptionInfoResDto {
     String optionDefaultName;
     String optionManagementName;
     String prodDefaultName;
+
+    /**
+     * <b>Convert Method</b>
+     * <p>
+     * ProductCatalogEntry => DeliveryReadyItemOptionInfoResDto
+     *
+     * @param entry : ProductCatalogEntry
+     * @return DeliveryReadyItemOptionInfoResDto
+     */
+    public static DeliveryReadyItemOptionInfoResDto toResDto(ProductCatalogEntry entry) {
+        ProductOptionEntity option = entry.getProductOption();
+        ProductEntity product = entry.getProduct();
+
+        DeliveryReadyItemOptionInfoResDto dto = DeliveryReadyItemOptionInfoResDto.builder()
+            .optionCode(option.getCode())
+            .optionDefaultName(option.getDefaultName())
+            .optionManagementName(option.getManagementName())
+            .prodDefaultName(product != null ? product.getDefaultName() : null)
+            .build();
+
+        return dto;
+    }
 }
@@ -2,6 +2,7 @@ package com.piaar_store_manager.server.domain.delivery_ready.common.dto;
 
 import com.piaar_store_manager.server.domain.delivery_ready.coupang.dto.DeliveryReadyCoupangItemViewDto;
 import com.piaar_store_manager.server.domain.delivery_ready.naver.dto.DeliveryReadyNaverItemViewDto;
+import com.piaar_store_manager.server.utils.CustomExcelStreamWriter.SheetTemplate;
 
 import lombok.Builder;
 import lombok.Data;
@@ -97,4 +98,39 @@ public class DeliveryReadyItemTailoExcelFormDto {
 
         return formDto;
     }
+
+    /**
+     * <b>Excel Form Method</b>
+     * <p>
+     * 테일로 발주서 양식.
+     *
+     * @return SheetTemplate::DeliveryReadyItemTailoExcelFormDto::
+     */
+    public static SheetTemplate<DeliveryReadyItemTailoExcelFormDto> toSheetTemplate() {
+        return SheetTemplate.<DeliveryReadyItemTailoExcelFormDto>builder("테일로 발주서")
+                .column("상품고유코드", DeliveryReadyItemTailoExcelFormDto::getProdUniqueCode)
+                .column("판매상품명", DeliveryReadyItemTailoExcelFormDto::getSalesProdName)
+                .column("수량", DeliveryReadyItemTailoExcelFormDto::getUnit)
+                .column("배송방식", DeliveryReadyItemTailoExcelFormDto::getTransportType)
+                .column("주문자 이름", DeliveryReadyItemTailoExcelFormDto::getBuyer)
+                .column("받는분 이름", DeliveryReadyItemTailoExcelFormDto::getReceiver)
+                .column("전화번호1", DeliveryReadyItemTailoExcelFormDto::getReceiverContact1)
+                .column("전화번호2", DeliveryReadyItemTailoExcelFormDto::getReceiverContact2)
+                .column("우편번호", DeliveryReadyItemTailoExcelFormDto::getZipCode)
+                .column("주소1", DeliveryReadyItemTailoExcelFormDto::getDestination1)
+                .column("주소2", DeliveryReadyItemTailoExcelFormDto::getDestination2)
+                .column("배송메세지", DeliveryReadyItemTailoExcelFormDto::getDeliveryMessage)
+                .column("주문번호", DeliveryReadyItemTailoExcelFormDto::getOrderNumber)
+                .column("관리메모1", DeliveryReadyItemTailoExcelFormDto::getManagementMemo1)
+                .column("관리메모2", DeliveryReadyItemTailoExcelFormDto::getManagementMemo2)
+                .column("관리메모3", DeliveryReadyItemTailoExcelFormDto::getManagementMemo3)
+                .column("관리메모4", DeliveryReadyItemTailoExcelFormDto::getManagementMemo4)
+                .column("관리메모5", DeliveryReadyItemTailoExcelFormDto::getManagementMemo5)
+                .column("상품별 메모1", DeliveryReadyItemTailoExcelFormDto::getProdMemo1)
+                .column("상품별 메모2", DeliveryReadyItemTailoExcelFormDto::getProdMemo2)
+                .column("상품별 메모3", DeliveryReadyItemTailoExcelFormDto::getProdMemo3)
+                .column("발주 타입", DeliveryReadyItemTailoExcelFormDto::getOrderType)
+                .column("출고희망일", DeliveryReadyItemTailoExcelFormDto::getReleaseDesiredDate)
+                .build();
+    }
 }
@@ -0,0 +1,96 @@
+package com.piaar_store_manager.server.domain.delivery_ready.common.repository;
+
+import java.util.Map;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 배송준비 데이터의 상품주문번호 unique index(uk_*_prod_order_number)를 생성한다.
+ * <p>
+ * Hibernate 의 스키마 생성은 이미 저장된 중복 상품주문번호가 있으면 unique index 생성에 실패해도 경고만 남기고 시작하므로,
+ * index 가 없다면 애플리케이션 시작 시 중복 데이터를 삭제한 후 index 를 생성한다.
+ * 같은 상품주문번호의 데이터 중 출고된 데이터를 우선으로, 그 중 가장 먼저 등록된(cid 가 가장 작은) 데이터만 남긴다.
+ * <p>
+ * index 를 생성하지 못하면 업로드 시 중복 확인을 보장할 수 없으므로 애플리케이션 시작을 중단한다.
+ */
+@Slf4j
+@Component
+public class DeliveryReadyProdOrderNumberIndexMigration {
+    // 테이블명 - unique index 명. 각 엔티티의 @UniqueConstraint 와 같은 이름
+    private static final Map<String, String> PROD_ORDER_NUMBER_INDEXES = Map.of(
+            "delivery_ready_naver_item", "uk_delivery_ready_naver_item_prod_order_number",
+            "delivery_ready_coupang_item", "uk_delivery_ready_coupang_item_prod_order_number"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * entityManagerFactory 는 Hibernate 의 스키마 생성이 끝난 후 실행되도록 의존성으로만 받는다.
+     */
+    @Autowired
+    public DeliveryReadyProdOrderNumberIndexMigration(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    public void migrate() {
+        PROD_ORDER_NUMBER_INDEXES.forEach(this::createUniqueIndex);
+    }
+
+    private void createUniqueIndex(String table, String indexName) {
+        Integer columnCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.columns WHERE table_schema = DATABASE() AND table_name = ? AND column_name = ?",
+                Integer.class, table, "prod_order_number");
+        // 아직 생성되지 않은 테이블
+        if (columnCount == null || columnCount == 0) {
+            return;
+        }
+
+        if (this.existsIndex(table, indexName)) {
+            return;
+        }
+
+        log.info("removing duplicated {}.prod_order_number", table);
+        int deletedCount = transactionTemplate.execute(status -> this.deleteDuplicatedItems(table));
+        log.info("duplicated {}.prod_order_number removed. count={}", table, deletedCount);
+
+        try {
+            jdbcTemplate.execute("CREATE UNIQUE INDEX " + indexName + " ON " + table + " (prod_order_number)");
+        } catch (DataAccessException e) {
+            throw new IllegalStateException("failed to create unique index " + indexName + " on " + table, e);
+        }
+
+        if (!this.existsIndex(table, indexName)) {
+            throw new IllegalStateException("unique index " + indexName + " does not exist on " + table);
+        }
+    }
+
+    private boolean existsIndex(String table, String indexName) {
+        Integer indexCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?",
+                Integer.class, table, indexName);
+        return indexCount != null && indexCount > 0;
+    }
+
+    /*
+    같은 상품주문번호에 출고 여부가 더 앞서거나, 출고 여부가 같고 cid 가 더 작은 데이터가 있는 데이터를 삭제한다.
+     */
+    private int deleteDuplicatedItems(String table) {
+        return jdbcTemplate.update("DELETE d FROM " + table + " d" +
+                " JOIN " + table + " k ON k.prod_order_number = d.prod_order_number" +
+                " AND (COALESCE(k.released, 0) > COALESCE(d.released, 0)" +
+                " OR (COALESCE(k.released, 0) = COALESCE(d.released, 0) AND k.cid < d.cid))");
+    }
+}
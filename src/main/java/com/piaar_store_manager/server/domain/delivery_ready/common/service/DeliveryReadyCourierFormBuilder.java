@@ -0,0 +1,169 @@
+package com.piaar_store_manager.server.domain.delivery_ready.common.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.piaar_store_manager.server.domain.delivery_ready.common.dto.DeliveryReadyItemHansanExcelFormDto;
+import com.piaar_store_manager.server.domain.delivery_ready.common.dto.DeliveryReadyItemLotteExcelFormDto;
+import com.piaar_store_manager.server.domain.delivery_ready.common.dto.DeliveryReadyItemTailoExcelFormDto;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+
+/**
+ * 네이버, 쿠팡 배송준비 데이터로 택배사(한산, 롯데, 테일로) 발주서 데이터를 만든다.
+ * <p>
+ * 같은 (받는사람 + 주소 + 상품명 + 상품상세) 데이터는 한 행으로 합치고 수량, 상품주문번호를 누적한다.
+ * 정렬 후 한 번 순회하면서 hash 로 그룹을 찾으므로 같은 그룹의 데이터가 이웃하지 않아도 같은 행으로 합쳐진다.
+ * 입력 리스트의 순서는 변경하지 않으며, 입력된 발주서 데이터는 그룹의 대표 행으로 재사용한다.
+ */
+public class DeliveryReadyCourierFormBuilder {
+    private static final Comparator<String> NULLS_FIRST = Comparator.nullsFirst(Comparator.naturalOrder());
+
+    private DeliveryReadyCourierFormBuilder() {
+    }
+
+    /**
+     * 한산 발주서 데이터를 만든다.
+     * <p>
+     * 받는사람 > 주문번호 > 상품명 > 상품상세 순으로 정렬한다.
+     * (받는사람 + 주소 + 상품명 + 상품상세) 중복 데이터는 수량과 총 상품주문번호를 합친다.
+     * (받는사람 + 연락처 + 주소) 가 같은 다른 상품이 있다면 해당 행들을 중복(duplication)으로 표시한다.
+     *
+     * @param formDtos : List::DeliveryReadyItemHansanExcelFormDto::
+     * @return List::DeliveryReadyItemHansanExcelFormDto::
+     */
+    public static List<DeliveryReadyItemHansanExcelFormDto> buildHansanForms(List<DeliveryReadyItemHansanExcelFormDto> formDtos) {
+        List<DeliveryReadyItemHansanExcelFormDto> sortedDtos = new ArrayList<>(formDtos);
+        sortedDtos.sort(Comparator.comparing(DeliveryReadyItemHansanExcelFormDto::getReceiver, NULLS_FIRST)
+                .thenComparing(DeliveryReadyItemHansanExcelFormDto::getOrderNumber, NULLS_FIRST)
+                .thenComparing(DeliveryReadyItemHansanExcelFormDto::getStoreProdName, NULLS_FIRST)
+                .thenComparing(DeliveryReadyItemHansanExcelFormDto::getStoreOptionName, NULLS_FIRST));
+
+        Map<ProductKey, DeliveryReadyItemHansanExcelFormDto> productForms = new LinkedHashMap<>();
+        Map<ReceiverKey, DeliveryReadyItemHansanExcelFormDto> receiverForms = new HashMap<>();
+
+        for (DeliveryReadyItemHansanExcelFormDto dto : sortedDtos) {
+            ProductKey productKey = new ProductKey(dto.getReceiver(), dto.getDestination(), dto.getStoreProdName(), dto.getStoreOptionName());
+            DeliveryReadyItemHansanExcelFormDto productForm = productForms.get(productKey);
+
+            // 받는사람 + 주소 + 상품명 + 상품상세 : 중복인 경우
+            if (productForm != null) {
+                productForm.setUnit(productForm.getUnit() + dto.getUnit());
+                productForm.setAllProdOrderNumber(productForm.getAllProdOrderNumber() + "/" + dto.getProdOrderNumber());
+                continue;
+            }
+            productForms.put(productKey, dto);
+
+            // 받는사람 + 번호 + 주소 : 중복인 경우
+            DeliveryReadyItemHansanExcelFormDto receiverForm = receiverForms.putIfAbsent(new ReceiverKey(dto.getReceiver(), dto.getReceiverContact1(), dto.getDestination()), dto);
+            if (receiverForm != null) {
+                receiverForm.setDuplication(true);
+                dto.setDuplication(true);
+            }
+        }
+        return new ArrayList<>(productForms.values());
+    }
+
+    /**
+     * 롯데 발주서 데이터를 만든다.
+     * <p>
+     * 받는사람 > 주소 > 상품명 > 상품상세 순으로 정렬한다.
+     * (받는사람 + 주소 + 상품명 + 상품상세) 중복 데이터는 수량과 총 상품주문번호를 합친다.
+     * (받는사람 + 연락처 + 주소) 가 같은 데이터는 첫번째 행의 총 상품정보(allProdInfo)에 이어 붙인다.
+     * 바로 앞에 붙인 상품과 상품명이 같다면 상품명을 생략하고 [상품상세-수량] 만 붙인다.
+     *
+     * @param formDtos : List::DeliveryReadyItemLotteExcelFormDto::
+     * @return List::DeliveryReadyItemLotteExcelFormDto::
+     */
+    public static List<DeliveryReadyItemLotteExcelFormDto> buildLotteForms(List<DeliveryReadyItemLotteExcelFormDto> formDtos) {
+        List<DeliveryReadyItemLotteExcelFormDto> sortedDtos = new ArrayList<>(formDtos);
+        sortedDtos.sort(Comparator.comparing(DeliveryReadyItemLotteExcelFormDto::getReceiver, NULLS_FIRST)
+                .thenComparing(DeliveryReadyItemLotteExcelFormDto::getDestination, NULLS_FIRST)
+                .thenComparing(DeliveryReadyItemLotteExcelFormDto::getProdName1, NULLS_FIRST)
+                .thenComparing(DeliveryReadyItemLotteExcelFormDto::getOptionInfo1, NULLS_FIRST));
+
+        Map<ProductKey, DeliveryReadyItemLotteExcelFormDto> productForms = new LinkedHashMap<>();
+
+        for (DeliveryReadyItemLotteExcelFormDto dto : sortedDtos) {
+            ProductKey productKey = new ProductKey(dto.getReceiver(), dto.getDestination(), dto.getProdName1(), dto.getOptionInfo1());
+            DeliveryReadyItemLotteExcelFormDto productForm = productForms.putIfAbsent(productKey, dto);
+
+            // 받는사람 + 주소 + 상품명 + 상품상세 : 중복인 경우
+            if (productForm != null) {
+                productForm.setUnit(productForm.getUnit() + dto.getUnit());
+                productForm.setAllProdInfo(productForm.getProdName1() + " [" + productForm.getOptionInfo1() + "-" + productForm.getUnit() + "]");
+                productForm.setAllProdOrderNumber(productForm.getAllProdOrderNumber() + "/" + dto.getProdOrderNumber());
+            }
+        }
+
+        List<DeliveryReadyItemLotteExcelFormDto> resultDtos = new ArrayList<>();
+        Map<ReceiverKey, LotteReceiverForm> receiverForms = new HashMap<>();
+
+        for (DeliveryReadyItemLotteExcelFormDto dto : productForms.values()) {
+            ReceiverKey receiverKey = new ReceiverKey(dto.getReceiver(), dto.getReceiverContact1(), dto.getDestination());
+            LotteReceiverForm receiverForm = receiverForms.get(receiverKey);
+
+            if (receiverForm == null) {
+                receiverForms.put(receiverKey, new LotteReceiverForm(dto, dto.getProdName1()));
+                resultDtos.add(dto);
+                continue;
+            }
+
+            // 받는사람 + 연락처 + 주소 : 중복인 경우
+            DeliveryReadyItemLotteExcelFormDto headForm = receiverForm.headForm;
+            if (Objects.equals(receiverForm.lastProdName, dto.getProdName1())) {
+                headForm.setAllProdInfo(headForm.getAllProdInfo() + " | " + "[" + dto.getOptionInfo1() + "-" + dto.getUnit() + "]");
+            } else {
+                headForm.setAllProdInfo(headForm.getAllProdInfo() + " | " + dto.getAllProdInfo());
+            }
+            headForm.setAllProdOrderNumber(headForm.getAllProdOrderNumber() + "/" + dto.getAllProdOrderNumber());
+            receiverForm.lastProdName = dto.getProdName1();
+        }
+        return resultDtos;
+    }
+
+    /**
+     * 테일로 발주서 데이터를 상품명 > 수취인명 > 주소 순으로 정렬한다.
+     *
+     * @param formDtos : List::DeliveryReadyItemTailoExcelFormDto::
+     * @return List::DeliveryReadyItemTailoExcelFormDto::
+     */
+    public static List<DeliveryReadyItemTailoExcelFormDto> buildTailoForms(List<DeliveryReadyItemTailoExcelFormDto> formDtos) {
+        List<DeliveryReadyItemTailoExcelFormDto> sortedDtos = new ArrayList<>(formDtos);
+        sortedDtos.sort(Comparator.comparing(DeliveryReadyItemTailoExcelFormDto::getProdMemo2, NULLS_FIRST)
+                .thenComparing(DeliveryReadyItemTailoExcelFormDto::getReceiver, NULLS_FIRST)
+                .thenComparing(DeliveryReadyItemTailoExcelFormDto::getDestination1, NULLS_FIRST));
+        return sortedDtos;
+    }
+
+    // 받는사람 + 주소 + 상품명 + 상품상세
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class ProductKey {
+        private final String receiver;
+        private final String destination;
+        private final String prodName;
+        private final String optionName;
+    }
+
+    // 받는사람 + 연락처 + 주소
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class ReceiverKey {
+        private final String receiver;
+        private final String receiverContact1;
+        private final String destination;
+    }
+
+    @AllArgsConstructor
+    private static class LotteReceiverForm {
+        private final DeliveryReadyItemLotteExcelFormDto headForm;
+        private String lastProdName;     // 마지막으로 이어 붙인 상품명
+    }
+}
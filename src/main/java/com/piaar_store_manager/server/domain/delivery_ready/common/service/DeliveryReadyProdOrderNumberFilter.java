@@ -0,0 +1,87 @@
+package com.piaar_store_manager.server.domain.delivery_ready.common.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import com.piaar_store_manager.server.utils.CustomBloomFilter;
+
+/**
+ * 배송준비 엑셀 업로드 시 이미 저장된 상품주문번호를 조회한다.
+ * <p>
+ * 업로드 파일의 상품주문번호만 LOOKUP_CHUNK_SIZE 개씩 IN 절로 조회하므로 조회 비용은 저장된 데이터 수와 관계없이 파일 크기에 비례한다.
+ * Bloom filter 를 생성했다면 filter 에 없는 상품주문번호(한번도 저장된 적 없는 값)는 조회하지 않는다.
+ * <p>
+ * Bloom filter 는 이 서버에서 저장한 값만 반영하므로 여러 서버에서 같은 테이블에 저장한다면 사용하지 않는다.
+ * 어느 경우든 prod_order_number unique 제약이 중복 저장을 막는다.
+ */
+public class DeliveryReadyProdOrderNumberFilter {
+    private static final int LOOKUP_CHUNK_SIZE = 1000;
+
+    private volatile CustomBloomFilter bloomFilter;
+    // 생성 중인 filter. 생성하는 동안 저장된 값도 함께 반영한다.
+    private volatile CustomBloomFilter buildingBloomFilter;
+
+    /**
+     * storedProdOrderNumbers 로 Bloom filter 를 새로 만든다. 완료되기 전까지는 모든 상품주문번호를 DB 에서 조회한다.
+     *
+     * @param newBloomFilter         : CustomBloomFilter
+     * @param storedProdOrderNumbers : Stream::String::
+     */
+    public void rebuild(CustomBloomFilter newBloomFilter, Stream<String> storedProdOrderNumbers) {
+        buildingBloomFilter = newBloomFilter;
+        try {
+            storedProdOrderNumbers.forEach(newBloomFilter::put);
+            bloomFilter = newBloomFilter;
+        } finally {
+            buildingBloomFilter = null;
+        }
+    }
+
+    /**
+     * 저장된 상품주문번호를 Bloom filter 에 반영한다.
+     *
+     * @param prodOrderNumbers : Collection::String::
+     */
+    public void put(Collection<String> prodOrderNumbers) {
+        CustomBloomFilter building = buildingBloomFilter;
+        CustomBloomFilter current = bloomFilter;
+
+        for (String prodOrderNumber : prodOrderNumbers) {
+            if (building != null) {
+                building.put(prodOrderNumber);
+            }
+            if (current != null) {
+                current.put(prodOrderNumber);
+            }
+        }
+    }
+
+    /**
+     * prodOrderNumbers 중 이미 저장된 상품주문번호를 조회한다.
+     *
+     * @param prodOrderNumbers : Collection::String::
+     * @param storedFinder     : Function::List::String::, Collection::String::: : IN 절 조회
+     * @return Set::String::
+     */
+    public Set<String> searchStored(Collection<String> prodOrderNumbers, Function<List<String>, Collection<String>> storedFinder) {
+        CustomBloomFilter current = bloomFilter;
+        List<String> candidates = new ArrayList<>();
+
+        for (String prodOrderNumber : new HashSet<>(prodOrderNumbers)) {
+            if (current == null || current.mightContain(prodOrderNumber)) {
+                candidates.add(prodOrderNumber);
+            }
+        }
+
+        Set<String> storedProdOrderNumbers = new HashSet<>();
+        for (int i = 0; i < candidates.size(); i += LOOKUP_CHUNK_SIZE) {
+            storedProdOrderNumbers.addAll(storedFinder.apply(candidates.subList(i, Math.min(i + LOOKUP_CHUNK_SIZE, candidates.size()))));
+        }
+        return storedProdOrderNumbers;
+    }
+}
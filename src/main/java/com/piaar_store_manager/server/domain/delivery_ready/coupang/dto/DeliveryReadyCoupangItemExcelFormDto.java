@@ -1,7 +1,12 @@
 package com.piaar_store_manager.server.domain.delivery_ready.coupang.dto;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Date;
 
+import com.piaar_store_manager.server.utils.CustomDateUtils;
+import com.piaar_store_manager.server.utils.CustomExcelStreamWriter.SheetTemplate;
+
 import lombok.Builder;
 import lombok.Data;
 
@@ -76,4 +81,46 @@ public class DeliveryReadyCoupangItemExcelFormDto {
 
         return formDto;
     }
+
+    /**
+     * <b>Excel Form Method</b>
+     * <p>
+     * 쿠팡 배송준비 데이터 양식. 일시는 yyyy-MM-dd HH:mm:ss 형식의 문자열로 작성한다.
+     *
+     * @return SheetTemplate::DeliveryReadyCoupangItemExcelFormDto::
+     */
+    public static SheetTemplate<DeliveryReadyCoupangItemExcelFormDto> toSheetTemplate() {
+        return SheetTemplate.<DeliveryReadyCoupangItemExcelFormDto>builder("쿠팡 배송준비 데이터")
+                .column("묶음배송번호", DeliveryReadyCoupangItemExcelFormDto::getShipmentCostBundleNumber)
+                .column("주문번호", DeliveryReadyCoupangItemExcelFormDto::getOrderNumber)
+                .column("구매자", DeliveryReadyCoupangItemExcelFormDto::getBuyer)
+                .column("수취인이름", DeliveryReadyCoupangItemExcelFormDto::getReceiver)
+                .column("피아르 상품관리명", DeliveryReadyCoupangItemExcelFormDto::getProdManagementName)
+                .column("피아르 상품제조번호", DeliveryReadyCoupangItemExcelFormDto::getProdManufacturingCode)
+                .column("피아르 옵션관리코드", DeliveryReadyCoupangItemExcelFormDto::getOptionManagementCode)
+                .column("피아르 옵션관리명1", DeliveryReadyCoupangItemExcelFormDto::getOptionDefaultName)
+                .column("피아르 옵션관리명2", DeliveryReadyCoupangItemExcelFormDto::getOptionManagementName)
+                .column("수량", DeliveryReadyCoupangItemExcelFormDto::getUnit)
+                .column("재고수량", DeliveryReadyCoupangItemExcelFormDto::getOptionStockUnit)
+                .column("노출상품ID", DeliveryReadyCoupangItemExcelFormDto::getProdNumber)
+                .column("등록상품명", DeliveryReadyCoupangItemExcelFormDto::getProdName)
+                .column("노출상품명(옵션명)", DeliveryReadyCoupangItemExcelFormDto::getProdExposureName)
+                .column("옵션ID", DeliveryReadyCoupangItemExcelFormDto::getCoupangOptionId)
+                .column("등록옵션명", DeliveryReadyCoupangItemExcelFormDto::getOptionInfo)
+                .column("노스노스 고유번호", DeliveryReadyCoupangItemExcelFormDto::getOptionNosUniqueCode)
+                .column("수취인 전화번호", DeliveryReadyCoupangItemExcelFormDto::getReceiverContact1)
+                .column("우편번호", DeliveryReadyCoupangItemExcelFormDto::getZipCode)
+                .column("수취인 주소", DeliveryReadyCoupangItemExcelFormDto::getDestination)
+                .column("구매자 전화번호", DeliveryReadyCoupangItemExcelFormDto::getBuyerContact)
+                .column("배송메세지", DeliveryReadyCoupangItemExcelFormDto::getDeliveryMessage)
+                .column("주문시 출고예정일", dto -> formatDate(dto.getShipmentDueDate()))
+                .column("주문일", dto -> formatDate(dto.getOrderDateTime()))
+                .column("출고여부", dto -> Boolean.TRUE.equals(dto.getReleased()) ? "O" : "X")
+                .column("출고일시", dto -> formatDate(dto.getReleasedAt()))
+                .build();
+    }
+
+    private static String formatDate(Date date) {
+        return date != null ? CustomDateUtils.getLocalDateTimeToyyyyMMddHHmmss(LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault())) : null;
+    }
 }
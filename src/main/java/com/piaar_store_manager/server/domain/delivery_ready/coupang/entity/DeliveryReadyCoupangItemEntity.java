@@ -8,7 +8,9 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 
 import com.piaar_store_manager.server.domain.delivery_ready.coupang.dto.DeliveryReadyCoupangItemDto;
 
@@ -22,7 +24,12 @@ import lombok.experimental.Accessors;
 
 @Entity
 @Data
-@Table(name = "delivery_ready_coupang_item")
+@Table(name = "delivery_ready_coupang_item", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_delivery_ready_coupang_item_prod_order_number", columnNames = {"prod_order_number"})
+}, indexes = {
+        @Index(name = "idx_delivery_ready_coupang_item_released_released_at", columnList = "released, released_at"),
+        @Index(name = "idx_delivery_ready_coupang_item_created_at", columnList = "created_at")
+})
 @Accessors(chain=true)
 @Builder
 @NoArgsConstructor
@@ -34,7 +41,7 @@ public class DeliveryReadyCoupangItemEntity {
     @Column(name = "cid")
     private Integer cid;
 
-    @Type(type = "uuid-char")
+    @Type(type = "uuid-compact")
     @Column(name = "id")
     private UUID id;
 
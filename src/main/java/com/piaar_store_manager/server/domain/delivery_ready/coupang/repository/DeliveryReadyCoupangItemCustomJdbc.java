@@ -0,0 +1,13 @@
+package com.piaar_store_manager.server.domain.delivery_ready.coupang.repository;
+
+import java.util.List;
+
+import com.piaar_store_manager.server.domain.delivery_ready.coupang.entity.DeliveryReadyCoupangItemEntity;
+
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DeliveryReadyCoupangItemCustomJdbc {
+    int jdbcBulkInsert(List<DeliveryReadyCoupangItemEntity> entities);
+    int jdbcBulkUpdateReleaseCompleted(List<Integer> cids, boolean releaseCompleted);
+}
@@ -0,0 +1,127 @@
+package com.piaar_store_manager.server.domain.delivery_ready.coupang.repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.piaar_store_manager.server.config.jpa.UuidStorage;
+import com.piaar_store_manager.server.domain.delivery_ready.coupang.entity.DeliveryReadyCoupangItemEntity;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class DeliveryReadyCoupangItemJdbcImpl implements DeliveryReadyCoupangItemCustomJdbc {
+    // MySQL prepared statement 의 최대 파라미터 수
+    private static final int MAX_PARAMETER_COUNT = 65535;
+    // 컬럼명 - 값. cid 는 AUTO_INCREMENT 로 생성한다.
+    private final Map<String, Function<DeliveryReadyCoupangItemEntity, Object>> columns = this.createColumns();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UuidStorage uuidStorage;
+
+    // INSERT 한 문장에 포함되는 행 수, UPDATE IN 절 한 문장에 포함되는 cid 수
+    @Value("${app.delivery-ready.bulk-batch-size:500}")
+    private int batchSize;
+
+    /**
+     * INSERT INTO delivery_ready_coupang_item (...) VALUES (...), (...) 를 batchSize 개의 행 단위로 실행한다.
+     * IDENTITY 전략으로 인해 Hibernate 가 INSERT 를 한 행씩 실행하는 saveAll 대신 사용한다. 저장된 엔터티의 cid 는 채우지 않는다.
+     */
+    @Override
+    public int jdbcBulkInsert(List<DeliveryReadyCoupangItemEntity> entities) {
+        int rowsPerStatement = Math.max(1, Math.min(batchSize, MAX_PARAMETER_COUNT / columns.size()));
+        String valuesClause = "(" + placeholders(columns.size()) + ")";
+        int insertedCount = 0;
+
+        for (int i = 0; i < entities.size(); i += rowsPerStatement) {
+            List<DeliveryReadyCoupangItemEntity> chunk = entities.subList(i, Math.min(i + rowsPerStatement, entities.size()));
+            String sql = "INSERT INTO delivery_ready_coupang_item (" + String.join(", ", columns.keySet()) + ") VALUES "
+                    + String.join(", ", Collections.nCopies(chunk.size(), valuesClause));
+
+            List<Object> params = new ArrayList<>(chunk.size() * columns.size());
+            chunk.forEach(entity -> columns.values().forEach(valueExtractor -> params.add(valueExtractor.apply(entity))));
+
+            insertedCount += jdbcTemplate.update(sql, params.toArray());
+        }
+        return insertedCount;
+    }
+
+    /**
+     * 재고 반영 여부를 cid 기준으로 batchSize 개씩 일괄 업데이트한다.
+     */
+    @Override
+    public int jdbcBulkUpdateReleaseCompleted(List<Integer> cids, boolean releaseCompleted) {
+        int updatedCount = 0;
+
+        for (int i = 0; i < cids.size(); i += batchSize) {
+            List<Integer> chunk = cids.subList(i, Math.min(i + batchSize, cids.size()));
+            String sql = "UPDATE delivery_ready_coupang_item SET release_completed = ? WHERE cid IN (" + placeholders(chunk.size()) + ")";
+
+            List<Object> params = new ArrayList<>(chunk.size() + 1);
+            params.add(releaseCompleted);
+            params.addAll(chunk);
+
+            updatedCount += jdbcTemplate.update(sql, params.toArray());
+        }
+        return updatedCount;
+    }
+
+    private Map<String, Function<DeliveryReadyCoupangItemEntity, Object>> createColumns() {
+        Map<String, Function<DeliveryReadyCoupangItemEntity, Object>> columns = new LinkedHashMap<>();
+        columns.put("id", entity -> uuidStorage.toParameter(entity.getId()));
+        columns.put("prod_order_number", DeliveryReadyCoupangItemEntity::getProdOrderNumber);
+        columns.put("order_number", DeliveryReadyCoupangItemEntity::getOrderNumber);
+        columns.put("buyer", DeliveryReadyCoupangItemEntity::getBuyer);
+        columns.put("receiver", DeliveryReadyCoupangItemEntity::getReceiver);
+        columns.put("prod_number", DeliveryReadyCoupangItemEntity::getProdNumber);
+        columns.put("prod_name", DeliveryReadyCoupangItemEntity::getProdName);
+        columns.put("prod_exposure_name", DeliveryReadyCoupangItemEntity::getProdExposureName);
+        columns.put("option_info", DeliveryReadyCoupangItemEntity::getOptionInfo);
+        columns.put("option_management_code", DeliveryReadyCoupangItemEntity::getOptionManagementCode);
+        columns.put("coupang_option_id", DeliveryReadyCoupangItemEntity::getCoupangOptionId);
+        columns.put("unit", DeliveryReadyCoupangItemEntity::getUnit);
+        columns.put("shipment_due_date", entity -> toTimestamp(entity.getShipmentDueDate()));
+        columns.put("shipment_cost_bundle_number", DeliveryReadyCoupangItemEntity::getShipmentCostBundleNumber);
+        columns.put("receiver_contact1", DeliveryReadyCoupangItemEntity::getReceiverContact1);
+        columns.put("destination", DeliveryReadyCoupangItemEntity::getDestination);
+        columns.put("buyer_contact", DeliveryReadyCoupangItemEntity::getBuyerContact);
+        columns.put("zip_code", DeliveryReadyCoupangItemEntity::getZipCode);
+        columns.put("delivery_message", DeliveryReadyCoupangItemEntity::getDeliveryMessage);
+        columns.put("order_date_time", entity -> toTimestamp(entity.getOrderDateTime()));
+        columns.put("release_option_code", DeliveryReadyCoupangItemEntity::getReleaseOptionCode);
+        columns.put("piaar_memo1", DeliveryReadyCoupangItemEntity::getPiaarMemo1);
+        columns.put("piaar_memo2", DeliveryReadyCoupangItemEntity::getPiaarMemo2);
+        columns.put("piaar_memo3", DeliveryReadyCoupangItemEntity::getPiaarMemo3);
+        columns.put("piaar_memo4", DeliveryReadyCoupangItemEntity::getPiaarMemo4);
+        columns.put("piaar_memo5", DeliveryReadyCoupangItemEntity::getPiaarMemo5);
+        columns.put("piaar_memo6", DeliveryReadyCoupangItemEntity::getPiaarMemo6);
+        columns.put("piaar_memo7", DeliveryReadyCoupangItemEntity::getPiaarMemo7);
+        columns.put("piaar_memo8", DeliveryReadyCoupangItemEntity::getPiaarMemo8);
+        columns.put("piaar_memo9", DeliveryReadyCoupangItemEntity::getPiaarMemo9);
+        columns.put("piaar_memo10", DeliveryReadyCoupangItemEntity::getPiaarMemo10);
+        columns.put("released", DeliveryReadyCoupangItemEntity::getReleased);
+        columns.put("released_at", entity -> toTimestamp(entity.getReleasedAt()));
+        columns.put("created_at", entity -> toTimestamp(entity.getCreatedAt()));
+        columns.put("release_completed", DeliveryReadyCoupangItemEntity::getReleaseCompleted);
+        columns.put("delivery_ready_file_cid", DeliveryReadyCoupangItemEntity::getDeliveryReadyFileCid);
+        return Collections.unmodifiableMap(columns);
+    }
+
+    private static Timestamp toTimestamp(Date date) {
+        return date == null ? null : new Timestamp(date.getTime());
+    }
+
+    private String placeholders(int size) {
+        return String.join(", ", Collections.nCopies(size, "?"));
+    }
+}
@@ -1,9 +1,13 @@
 package com.piaar_store_manager.server.domain.delivery_ready.coupang.repository;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
 
 import com.piaar_store_manager.server.domain.delivery_ready.common.proj.DeliveryReadyItemOptionInfoProj;
 import com.piaar_store_manager.server.domain.delivery_ready.coupang.entity.DeliveryReadyCoupangItemEntity;
@@ -12,19 +16,32 @@ import com.piaar_store_manager.server.domain.delivery_ready.coupang.proj.Deliver
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 @Repository
-public interface DeliveryReadyCoupangItemRepository extends JpaRepository<DeliveryReadyCoupangItemEntity, Integer> {
+public interface DeliveryReadyCoupangItemRepository extends JpaRepository<DeliveryReadyCoupangItemEntity, Integer>, DeliveryReadyCoupangItemRepositoryCustom {
     
     /**
-     * 배송준비 엑셀 데이터의 상품주문번호를 전체 조회한다.
-     * 
+     * prodOrderNumbers 중 이미 저장된 상품주문번호를 조회한다.
+     *
+     * @param prodOrderNumbers : Collection::String::
      * @return Set::String::
      */
+    @Query("SELECT dri.prodOrderNumber FROM DeliveryReadyCoupangItemEntity dri WHERE dri.prodOrderNumber IN :prodOrderNumbers")
+    Set<String> findProdOrderNumbers(Collection<String> prodOrderNumbers);
+
+    /**
+     * 배송준비 엑셀 데이터의 상품주문번호를 전체 조회한다. 결과를 메모리에 모으지 않고 한 행씩 읽는다.
+     * 트랜잭션 안에서 호출하고, 사용한 Stream 은 닫아야 한다.
+     *
+     * @return Stream::String::
+     */
+    // MySQL 드라이버는 fetch size 가 Integer.MIN_VALUE 일 때 결과를 한 행씩 읽는다.
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "-2147483648"))
     @Query("SELECT dri.prodOrderNumber FROM DeliveryReadyCoupangItemEntity dri")
-    Set<String> findAllProdOrderNumber();
+    Stream<String> streamAllProdOrderNumber();
 
     /**
      * 배송준비 엑셀 데이터 중 미출고 데이터를 조회한다.
@@ -0,0 +1,204 @@
+package com.piaar_store_manager.server.domain.delivery_ready.coupang.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import com.piaar_store_manager.server.domain.delivery_ready.coupang.entity.DeliveryReadyCoupangItemEntity;
+import com.piaar_store_manager.server.domain.delivery_ready.coupang.entity.QDeliveryReadyCoupangItemEntity;
+import com.piaar_store_manager.server.domain.delivery_ready.coupang.proj.DeliveryReadyCoupangItemViewProj;
+import com.piaar_store_manager.server.domain.pagenation.CursorPageDto;
+import com.piaar_store_manager.server.domain.pagenation.KeysetPagenation;
+import com.piaar_store_manager.server.domain.pagenation.PagenationCursor;
+import com.piaar_store_manager.server.domain.product.entity.QProductEntity;
+import com.piaar_store_manager.server.domain.product_option.entity.QProductOptionEntity;
+import com.piaar_store_manager.server.exception.CustomInvalidDataException;
+import com.piaar_store_manager.server.utils.CustomFieldAccessorUtils;
+import com.piaar_store_manager.server.utils.CustomFieldAccessorUtils.FieldAccessor;
+import com.querydsl.core.QueryException;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Repository
+public class DeliveryReadyCoupangItemRepositoryImpl implements DeliveryReadyCoupangItemRepositoryCustom {
+    private static final DateTimeFormatter DATE_RANGE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
+
+    private final JPAQueryFactory query;
+
+    private final QDeliveryReadyCoupangItemEntity qDeliveryReadyCoupangItemEntity = QDeliveryReadyCoupangItemEntity.deliveryReadyCoupangItemEntity;
+    private final QProductEntity qProductEntity = QProductEntity.productEntity;
+    private final QProductOptionEntity qProductOptionEntity = QProductOptionEntity.productOptionEntity;
+
+    @Autowired
+    public DeliveryReadyCoupangItemRepositoryImpl(JPAQueryFactory query) {
+        this.query = query;
+    }
+
+    /**
+     * 배송준비 데이터를 커서 이후부터 pageSize 개 조회한다. (keyset 페이지 조회)
+     * 그 데이터와 연관된 상품정보를 함께 조회한다.
+     * <p>
+     * params : releasedYn(y, n), startDate, endDate(출고일시), searchColumnName, searchQuery, cursor
+     * 정렬은 cid, releasedAt 만 허용한다.
+     *
+     * @param params   : Map::String, Object::
+     * @param pageable : Pageable
+     * @return CursorPageDto::DeliveryReadyCoupangItemViewProj::
+     */
+    @Override
+    public CursorPageDto<DeliveryReadyCoupangItemViewProj> qfindViewByCursor(Map<String, Object> params, Pageable pageable) {
+        Sort.Order order = this.getKeysetOrder(pageable);
+
+        JPQLQuery<ViewProj> customQuery = query.from(qDeliveryReadyCoupangItemEntity)
+                .select(Projections.fields(ViewProj.class,
+                        qDeliveryReadyCoupangItemEntity.as("deliveryReadyItem"),
+                        qProductEntity.manufacturingCode.as("prodManufacturingCode"),
+                        qProductEntity.managementName.as("prodManagementName"),
+                        qProductOptionEntity.defaultName.as("optionDefaultName"),
+                        qProductOptionEntity.managementName.as("optionManagementName"),
+                        qProductOptionEntity.stockUnit.as("optionStockUnit"),
+                        qProductOptionEntity.memo.as("optionMemo"),
+                        qProductOptionEntity.nosUniqueCode.as("optionNosUniqueCode")
+                ))
+                .where(eqReleasedYn(params))
+                .where(withinReleasedDateRange(params))
+                .where(lkSearchCondition(params))
+                .where(afterCursor(order, KeysetPagenation.getCursor(params)))
+                .leftJoin(qProductOptionEntity).on(qDeliveryReadyCoupangItemEntity.releaseOptionCode.eq(qProductOptionEntity.code))
+                .leftJoin(qProductEntity).on(qProductOptionEntity.productCid.eq(qProductEntity.cid))
+                .limit(pageable.getPageSize() + 1);
+
+        KeysetPagenation.orderBy(customQuery, order, qDeliveryReadyCoupangItemEntity.cid, qDeliveryReadyCoupangItemEntity.releasedAt);
+        return this.toCursorPage(customQuery.fetch(), order, pageable.getPageSize());
+    }
+
+    /*
+    첫번째 정렬 키 + cid desc 로 정렬한다. 정렬 키가 없다면 cid desc 로 정렬한다.
+     */
+    private Sort.Order getKeysetOrder(Pageable pageable) {
+        for (Sort.Order o : pageable.getSort()) {
+            if (!o.getProperty().equals("cid") && !o.getProperty().equals("releasedAt")) {
+                throw new CustomInvalidDataException("커서 조회를 지원하지 않는 정렬 항목입니다.");
+            }
+            return o;
+        }
+        return Sort.Order.desc("cid");
+    }
+
+    /*
+    커서의 출고일시는 epoch millis 이다.
+     */
+    private BooleanExpression afterCursor(Sort.Order order, PagenationCursor cursor) {
+        return KeysetPagenation.afterCursor(order, cursor, qDeliveryReadyCoupangItemEntity.cid, qDeliveryReadyCoupangItemEntity.releasedAt, value -> new Date(Long.parseLong(value)));
+    }
+
+    private CursorPageDto<DeliveryReadyCoupangItemViewProj> toCursorPage(List<ViewProj> results, Sort.Order order, int pageSize) {
+        return KeysetPagenation.<DeliveryReadyCoupangItemViewProj>toCursorPage(results, pageSize, item -> {
+            DeliveryReadyCoupangItemEntity lastItem = item.getDeliveryReadyItem();
+            // 출고일시는 epoch millis 로 커서에 담는다.
+            Object sortValue = KeysetPagenation.isCidOrder(order) || lastItem.getReleasedAt() == null ? null : lastItem.getReleasedAt().getTime();
+            return PagenationCursor.of(sortValue, lastItem.getCid());
+        });
+    }
+
+    private BooleanExpression eqReleasedYn(Map<String, Object> params) {
+        String releasedYn = params.get("releasedYn") == null ? null : params.get("releasedYn").toString();
+
+        if (releasedYn == null) {
+            return null;
+        } else {
+            return qDeliveryReadyCoupangItemEntity.released.eq(releasedYn.equals("y"));
+        }
+    }
+
+    private BooleanExpression withinReleasedDateRange(Map<String, Object> params) {
+        if (params.get("startDate") == null || params.get("endDate") == null) {
+            return null;
+        }
+
+        try {
+            LocalDateTime startDate = LocalDateTime.parse(params.get("startDate").toString(), DATE_RANGE_FORMATTER);
+            LocalDateTime endDate = LocalDateTime.parse(params.get("endDate").toString(), DATE_RANGE_FORMATTER);
+
+            if (startDate.isAfter(endDate)) {
+                throw new CustomInvalidDataException("조회기간을 정확히 선택해 주세요.");
+            }
+            return qDeliveryReadyCoupangItemEntity.releasedAt.between(Timestamp.valueOf(startDate), Timestamp.valueOf(endDate));
+        } catch (DateTimeParseException e) {
+            throw new CustomInvalidDataException("조회기간을 정확히 선택해 주세요.");
+        }
+    }
+
+    private BooleanExpression lkSearchCondition(Map<String, Object> params) {
+        String columnName = params.get("searchColumnName") == null ? null : params.get("searchColumnName").toString();
+        String searchQuery = params.get("searchQuery") == null ? null : params.get("searchQuery").toString();
+        if (columnName == null || searchQuery == null) {
+            return null;
+        }
+
+        try {
+            StringPath columnNameStringPath = null;
+            switch (columnName) {
+                case "prodManufacturingCode":
+                    columnNameStringPath = qProductEntity.manufacturingCode;
+                    break;
+                case "prodManagementName":
+                    columnNameStringPath = qProductEntity.managementName;
+                    break;
+                case "optionDefaultName":
+                    columnNameStringPath = qProductOptionEntity.defaultName;
+                    break;
+                case "optionManagementName":
+                    columnNameStringPath = qProductOptionEntity.managementName;
+                    break;
+                case "optionNosUniqueCode":
+                    columnNameStringPath = qProductOptionEntity.nosUniqueCode;
+                    break;
+                default:
+                    FieldAccessor columnAccessor = CustomFieldAccessorUtils.getAccessor(QDeliveryReadyCoupangItemEntity.class, columnName);
+                    if (columnAccessor == null) {
+                        throw new QueryException("올바른 데이터가 아닙니다.");
+                    }
+                    columnNameStringPath = columnAccessor.get(qDeliveryReadyCoupangItemEntity);
+            }
+
+            return columnNameStringPath.contains(searchQuery);
+
+        } catch (ClassCastException e) {
+            throw new CustomInvalidDataException("허용된 데이터 타입이 아닙니다.");
+        } catch (QueryException e) {
+            throw new CustomInvalidDataException(e.getMessage());
+        }
+    }
+
+    /*
+    QueryDSL 조회 결과를 담는 DeliveryReadyCoupangItemViewProj 구현체
+     */
+    @Getter
+    @NoArgsConstructor
+    public static class ViewProj implements DeliveryReadyCoupangItemViewProj {
+        private DeliveryReadyCoupangItemEntity deliveryReadyItem;
+        private String prodManufacturingCode;
+        private String prodManagementName;
+        private String optionDefaultName;
+        private String optionManagementName;
+        private Integer optionStockUnit;
+        private String optionMemo;
+        private String optionNosUniqueCode;
+    }
+}
@@ -1,18 +1,19 @@
 package com.piaar_store_manager.server.domain.delivery_ready.coupang.service;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Comparator;
 import java.util.Date;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.annotation.PostConstruct;
@@ -29,7 +30,8 @@ import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.piaar_store_manager.server.domain.delivery_ready.common.dto.DeliveryReadyItemHansanExcelFormDto;
 import com.piaar_store_manager.server.domain.delivery_ready.common.dto.DeliveryReadyItemLotteExcelFormDto;
 import com.piaar_store_manager.server.domain.delivery_ready.common.dto.DeliveryReadyItemOptionInfoResDto;
-import com.piaar_store_manager.server.domain.delivery_ready.common.proj.DeliveryReadyItemOptionInfoProj;
+import com.piaar_store_manager.server.domain.delivery_ready.common.dto.DeliveryReadyItemTailoExcelFormDto;
+import com.piaar_store_manager.server.domain.delivery_ready.common.service.DeliveryReadyCourierFormBuilder;
 import com.piaar_store_manager.server.domain.delivery_ready.coupang.dto.DeliveryReadyCoupangItemDto;
 import com.piaar_store_manager.server.domain.delivery_ready.coupang.dto.DeliveryReadyCoupangItemViewDto;
 import com.piaar_store_manager.server.domain.delivery_ready.coupang.dto.DeliveryReadyCoupangItemViewResDto;
@@ -37,41 +39,44 @@ import com.piaar_store_manager.server.domain.delivery_ready.coupang.entity.Deliv
 import com.piaar_store_manager.server.domain.delivery_ready.coupang.proj.DeliveryReadyCoupangItemViewProj;
 import com.piaar_store_manager.server.domain.delivery_ready_file.dto.DeliveryReadyFileDto;
 import com.piaar_store_manager.server.domain.delivery_ready_file.entity.DeliveryReadyFileEntity;
-import com.piaar_store_manager.server.domain.option_package.entity.OptionPackageEntity;
-import com.piaar_store_manager.server.domain.option_package.service.OptionPackageService;
+import com.piaar_store_manager.server.domain.import_job.dto.ImportJobDto;
+import com.piaar_store_manager.server.domain.import_job.service.ImportJobBusinessService;
+import com.piaar_store_manager.server.domain.pagenation.CursorPageDto;
 import com.piaar_store_manager.server.domain.product_option.dto.ProductOptionGetDto;
-import com.piaar_store_manager.server.domain.product_option.entity.ProductOptionEntity;
+import com.piaar_store_manager.server.domain.product_catalog.dto.ProductCatalogEntry;
+import com.piaar_store_manager.server.domain.product_catalog.service.ProductCatalogCache;
 import com.piaar_store_manager.server.domain.product_option.service.ProductOptionService;
-import com.piaar_store_manager.server.domain.product_receive.dto.ProductReceiveGetDto;
-import com.piaar_store_manager.server.domain.product_receive.entity.ProductReceiveEntity;
-import com.piaar_store_manager.server.domain.product_receive.service.ProductReceiveService;
-import com.piaar_store_manager.server.domain.product_release.dto.ProductReleaseGetDto;
-import com.piaar_store_manager.server.domain.product_release.entity.ProductReleaseEntity;
-import com.piaar_store_manager.server.domain.product_release.service.ProductReleaseService;
+import com.piaar_store_manager.server.domain.product_option_stock.dto.ProductOptionStockMovementDto;
+import com.piaar_store_manager.server.domain.product_option_stock.service.ProductOptionStockMovementService;
 import com.piaar_store_manager.server.domain.user.service.UserService;
+import com.piaar_store_manager.server.exception.CustomExcelFileUploadException;
 import com.piaar_store_manager.server.utils.CustomDateUtils;
 import com.piaar_store_manager.server.utils.CustomExcelUtils;
 import com.piaar_store_manager.server.utils.DateHandler;
+import com.piaar_store_manager.server.utils.CustomUuidUtils;
 
 import org.apache.commons.io.FilenameUtils;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class DeliveryReadyCoupangBusinessService {
     private final DeliveryReadyCoupangService deliveryReadyCoupangService;
-    private final ProductReleaseService productReleaseService;
-    private final ProductReceiveService productReceiveService;
     private final ProductOptionService productOptionService;
-    private final OptionPackageService optionPackageService;
+    private final ProductCatalogCache productCatalogCache;
+    private final ProductOptionStockMovementService productOptionStockMovementService;
     private final UserService userService;
+    private final ImportJobBusinessService importJobBusinessService;
 
     // AWS S3
     private AmazonS3 s3Client;
@@ -130,7 +135,7 @@ public class DeliveryReadyCoupangBusinessService {
                 prodOrderNumber = row.getCell(2).getStringCellValue() + "|" + row.getCell(13).getStringCellValue() + "|" + row.getCell(14).getStringCellValue();
             }
 
-            DeliveryReadyCoupangItemDto dto = DeliveryReadyCoupangItemDto.builder().id(UUID.randomUUID())
+            DeliveryReadyCoupangItemDto dto = DeliveryReadyCoupangItemDto.builder().id(CustomUuidUtils.timeOrderedUuid())
                     .prodOrderNumber(prodOrderNumber != null ? prodOrderNumber : "")
                     .orderNumber(row.getCell(2) != null ? row.getCell(2).getStringCellValue() : "")
                     .buyer(row.getCell(24) != null ? row.getCell(24).getStringCellValue() : "")
@@ -190,11 +195,54 @@ public class DeliveryReadyCoupangBusinessService {
      *
      * @param file : MultipartFile
      * @throws ParseException
-     * @see DeliveryReadyCoupangBusinessService#createDeliveryReadyExcelFile
+     * @see DeliveryReadyCoupangBusinessService#storeFile
      * @see DeliveryReadyCoupangBusinessService#createDeliveryReadyExcelItem
      */
     @Transactional
     public void storeDeliveryReadyExcelFile(MultipartFile file) throws ParseException {
+        // 파일 저장
+        DeliveryReadyFileDto fileDto = this.storeFile(file);
+        // 데이터 저장
+        this.createDeliveryReadyExcelItem(file, fileDto);
+    }
+
+    /**
+     * <b>Import Job Related Method</b>
+     * <p>
+     * 업로드된 엑셀파일을 S3 및 DB에 저장한 후, 데이터 저장은 가져오기 작업으로 등록하고 즉시 반환한다.
+     * 가져오기 작업을 등록하지 못했다면 저장한 파일을 삭제한다.
+     *
+     * @param file : MultipartFile
+     * @return ImportJobDto
+     * @see DeliveryReadyCoupangBusinessService#storeFile
+     * @see DeliveryReadyCoupangBusinessService#deleteStoredFile
+     * @see DeliveryReadyCoupangImportJobHandler
+     */
+    public ImportJobDto createImportJobForStore(MultipartFile file) {
+        DeliveryReadyFileDto fileDto = this.storeFile(file);
+
+        // 가져오기 작업을 등록하지 못했다면 저장한 파일을 삭제한다.
+        try (InputStream inputStream = file.getInputStream()) {
+            return importJobBusinessService.submit(DeliveryReadyCoupangImportJobHandler.JOB_TYPE, file.getOriginalFilename(), inputStream, fileDto.getCid(), fileDto.getCreatedBy());
+        } catch (IOException e) {
+            this.deleteStoredFile(fileDto);
+            throw new CustomExcelFileUploadException("쿠팡 배송 준비 엑셀 파일이 아닙니다.\n올바른 배송 준비 엑셀 파일을 업로드해주세요");
+        } catch (RuntimeException e) {
+            this.deleteStoredFile(fileDto);
+            throw e;
+        }
+    }
+
+    /**
+     * <b>S3 Upload Related Method</b>
+     * <p>
+     * 업로드된 엑셀파일을 S3 저장하고, 파일 정보를 DB에 저장한다.
+     *
+     * @param file : MultipartFile
+     * @return DeliveryReadyFileDto
+     * @see DeliveryReadyCoupangBusinessService#createDeliveryReadyExcelFile
+     */
+    private DeliveryReadyFileDto storeFile(MultipartFile file) {
         String fileName = file.getOriginalFilename();
         String newFileName = "[COUPANG_delivery_ready]" + UUID.randomUUID().toString().replaceAll("-", "") + fileName;
         String uploadPath = bucket + "/coupang-order";
@@ -209,10 +257,24 @@ public class DeliveryReadyCoupangBusinessService {
             throw new IllegalStateException();
         }
 
-        // 파일 저장
-        DeliveryReadyFileDto fileDto = this.createDeliveryReadyExcelFile(s3Client.getUrl(uploadPath, newFileName).toString(), newFileName, (int)file.getSize());
-        // 데이터 저장
-        this.createDeliveryReadyExcelItem(file, fileDto);
+        return this.createDeliveryReadyExcelFile(s3Client.getUrl(uploadPath, newFileName).toString(), newFileName, (int)file.getSize());
+    }
+
+    /**
+     * <b>S3 Delete Related Method</b>
+     * <p>
+     * storeFile 로 저장한 S3 파일과 파일 정보를 삭제한다. 삭제에 실패하더라도 원래의 오류를 반환하도록 예외를 던지지 않는다.
+     *
+     * @param fileDto : DeliveryReadyFileDto
+     * @see DeliveryReadyCoupangService#deleteFile
+     */
+    private void deleteStoredFile(DeliveryReadyFileDto fileDto) {
+        try {
+            s3Client.deleteObject(bucket + "/coupang-order", fileDto.getFileName());
+            deliveryReadyCoupangService.deleteFile(fileDto.getCid());
+        } catch (RuntimeException e) {
+            log.error("delivery ready file delete failed. fileCid={}", fileDto.getCid(), e);
+        }
     }
 
     /**
@@ -256,12 +318,28 @@ public class DeliveryReadyCoupangBusinessService {
      * @param fileDto : DeliveryReadyFileDto
      * @throws IllegalArgumentException
      * @throws ParseException
-     * @see DeliveryReadyCoupangItemEntity#toEntity
-     * @see DeliveryReadyCoupangService#createItemList
+     * @see DeliveryReadyCoupangBusinessService#readItemEntities
+     * @see DeliveryReadyCoupangService#bulkInsertItemList
      */
     public void createDeliveryReadyExcelItem(MultipartFile file, DeliveryReadyFileDto fileDto) throws ParseException {
-        Integer SHEET_INDEX = 0;
         Workbook workbook = CustomExcelUtils.getWorkbook(file);
+        List<DeliveryReadyCoupangItemEntity> entities = this.readItemEntities(workbook, fileDto);
+        deliveryReadyCoupangService.bulkInsertItemList(entities);
+    }
+
+    /**
+     * <b>Data Processing Related Method</b>
+     * <p>
+     * 배송준비 엑셀 파일에서 저장되지 않은 데이터를 읽어 상품명 > 옵션정보 > 수취인명 순으로 정렬한다.
+     *
+     * @param workbook : Workbook
+     * @param fileDto : DeliveryReadyFileDto
+     * @return List::DeliveryReadyCoupangItemEntity::
+     * @throws ParseException
+     * @see DeliveryReadyCoupangBusinessService#getDeliveryReadyCoupangExcelItem
+     */
+    public List<DeliveryReadyCoupangItemEntity> readItemEntities(Workbook workbook, DeliveryReadyFileDto fileDto) throws ParseException {
+        Integer SHEET_INDEX = 0;
         Sheet sheet = workbook.getSheetAt(SHEET_INDEX);
         List<DeliveryReadyCoupangItemDto> dtos = this.getDeliveryReadyCoupangExcelItem(sheet, fileDto);
         
@@ -269,8 +347,7 @@ public class DeliveryReadyCoupangBusinessService {
                 .thenComparing(DeliveryReadyCoupangItemDto::getOptionInfo)
                 .thenComparing(DeliveryReadyCoupangItemDto::getReceiver));
 
-        List<DeliveryReadyCoupangItemEntity> entities = dtos.stream().map(dto -> DeliveryReadyCoupangItemEntity.toEntity(dto)).collect(Collectors.toList());
-        deliveryReadyCoupangService.createItemList(entities);
+        return dtos.stream().map(dto -> DeliveryReadyCoupangItemEntity.toEntity(dto)).collect(Collectors.toList());
     }
 
     /**
@@ -281,26 +358,29 @@ public class DeliveryReadyCoupangBusinessService {
      * @param worksheet : Sheet
      * @param fileDto : DeliveryReadyFileDto
      * @return List::DeliveryReadyCoupangItemDto::
+     * @see DeliveryReadyCoupangService#searchStoredProdOrderNumbers
      */
     private List<DeliveryReadyCoupangItemDto> getDeliveryReadyCoupangExcelItem(Sheet worksheet, DeliveryReadyFileDto fileDto) throws ParseException {
         List<DeliveryReadyCoupangItemDto> dtos = new ArrayList<>();
         SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd", Locale.UK);
         SimpleDateFormat dateFormat2 = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss", Locale.UK);
 
-        // 상품주문번호를 모두 가져온다.
-        Set<String> storedProdOrderNumber = deliveryReadyCoupangService.findAllProdOrderNumber();
-
+        // 파일의 상품주문번호 중 이미 저장된 상품주문번호를 가져온다.
+        List<String> prodOrderNumbers = new ArrayList<>();
         for(int i = 1; i < worksheet.getPhysicalNumberOfRows(); i++) {
             Row row = worksheet.getRow(i);
             if(row == null) break;
 
-            String prodOrderNumber = null;
-            if((row.getCell(2) != null) && (row.getCell(13) != null) && (row.getCell(14) != null)){
-                prodOrderNumber = row.getCell(2).getStringCellValue() + "|" + row.getCell(13).getStringCellValue() + "|" + row.getCell(14).getStringCellValue();
-            }
+            prodOrderNumbers.add(this.getProdOrderNumber(row));
+        }
+        Set<String> storedProdOrderNumber = deliveryReadyCoupangService.searchStoredProdOrderNumbers(prodOrderNumbers);
+
+        for(int i = 1; i < worksheet.getPhysicalNumberOfRows(); i++) {
+            Row row = worksheet.getRow(i);
+            if(row == null) break;
 
-            DeliveryReadyCoupangItemDto dto = DeliveryReadyCoupangItemDto.builder().id(UUID.randomUUID())
-                .prodOrderNumber(prodOrderNumber != null ? prodOrderNumber : "")
+            DeliveryReadyCoupangItemDto dto = DeliveryReadyCoupangItemDto.builder().id(CustomUuidUtils.timeOrderedUuid())
+                .prodOrderNumber(prodOrderNumbers.get(i - 1))
                 .orderNumber(row.getCell(2) != null ? row.getCell(2).getStringCellValue() : "")
                 .buyer(row.getCell(24) != null ? row.getCell(24).getStringCellValue() : "")
                 .receiver(row.getCell(26) != null ? row.getCell(26).getStringCellValue() : "")
@@ -344,6 +424,16 @@ public class DeliveryReadyCoupangBusinessService {
         return dtos;
     }
 
+    /**
+     * 주문번호|상품번호|옵션ID 를 상품주문번호로 사용한다. 값이 없다면 빈 문자열을 반환한다.
+     */
+    private String getProdOrderNumber(Row row) {
+        if((row.getCell(2) != null) && (row.getCell(13) != null) && (row.getCell(14) != null)){
+            return row.getCell(2).getStringCellValue() + "|" + row.getCell(13).getStringCellValue() + "|" + row.getCell(14).getStringCellValue();
+        }
+        return "";
+    }
+
     /**
      * <b>DB Select Related Method</b>
      * <p>
@@ -382,6 +472,30 @@ public class DeliveryReadyCoupangBusinessService {
         return itemViewResDto;
     }
 
+    /**
+     * <b>DB Select Related Method</b>
+     * <p>
+     * DeliveryReadyItem 중 조회 조건에 대응하는 데이터를 커서 이후부터 pageSize 개 조회한다. (keyset 페이지 조회)
+     * 옵션재고수량은 조회된 페이지의 데이터만 재설정한다.
+     *
+     * @param params   : Map[releasedYn, startDate, endDate, searchColumnName, searchQuery, cursor]
+     * @param pageable : Pageable
+     * @return CursorPageDto::DeliveryReadyCoupangItemViewResDto::
+     * @see DeliveryReadyCoupangService#findViewByCursor
+     * @see DeliveryReadyCoupangBusinessService#changeOptionStockUnit
+     */
+    public CursorPageDto<DeliveryReadyCoupangItemViewResDto> getDeliveryReadyViewByCursor(Map<String, Object> params, Pageable pageable) {
+        CursorPageDto<DeliveryReadyCoupangItemViewProj> itemPage = deliveryReadyCoupangService.findViewByCursor(params, pageable);
+        List<DeliveryReadyCoupangItemViewResDto> itemViewResDto = this.changeOptionStockUnit(itemPage.getContent());
+
+        return CursorPageDto.<DeliveryReadyCoupangItemViewResDto>builder()
+                .content(itemViewResDto)
+                .size(itemPage.getSize())
+                .hasNext(itemPage.getHasNext())
+                .nextCursor(itemPage.getNextCursor())
+                .build();
+    }
+
     /**
      * <b>Data Processing Related Method</b>
      * <p>
@@ -484,12 +598,14 @@ public class DeliveryReadyCoupangBusinessService {
      * 등록된 모든 상품의 옵션정보들을 조회한다.
      *
      * @return List::DeliveryReadyItemOptionInfoResDto::
-     * @see DeliveryReadyCoupangService#findAllOptionInfo
+     * @see ProductCatalogCache#getAll
      */
     public List<DeliveryReadyItemOptionInfoResDto> searchDeliveryReadyItemOptionInfo() {
-        List<DeliveryReadyItemOptionInfoProj> optionInfoProjs = deliveryReadyCoupangService.findAllOptionInfo();
-        List<DeliveryReadyItemOptionInfoResDto> optionInfoDto = optionInfoProjs.stream().map(proj -> DeliveryReadyItemOptionInfoProj.toResDto(proj)).collect(Collectors.toList());
-        return optionInfoDto;
+        // 상품이 등록된 옵션만 반환한다.
+        return productCatalogCache.getAll().stream()
+                .filter(ProductCatalogEntry::hasProduct)
+                .map(DeliveryReadyItemOptionInfoResDto::toResDto)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -569,68 +685,15 @@ public class DeliveryReadyCoupangBusinessService {
      *
      * @param viewDtos : List::DeliveryReadyCoupangItemViewDto::
      * @return List::DeliveryReadyItemHansanExcelFormDto::
-     * @see DeliveryReadyCoupangBusinessService#changeDuplicationHansanDtos
+     * @see DeliveryReadyItemHansanExcelFormDto#toFormDto
+     * @see DeliveryReadyCourierFormBuilder#buildHansanForms
      */
     public List<DeliveryReadyItemHansanExcelFormDto> changeDeliveryReadyItemToHansan(List<DeliveryReadyCoupangItemViewDto> viewDtos) {
-        List<DeliveryReadyItemHansanExcelFormDto> excelFormDtos = this.changeDuplicationHansanDtos(viewDtos);     // 중복 데이터 처리
+        List<DeliveryReadyItemHansanExcelFormDto> formDtos = viewDtos.stream().map(dto -> DeliveryReadyItemHansanExcelFormDto.toFormDto(dto)).collect(Collectors.toList());
+        List<DeliveryReadyItemHansanExcelFormDto> excelFormDtos = DeliveryReadyCourierFormBuilder.buildHansanForms(formDtos);     // 중복 데이터 처리
         return excelFormDtos;
     }
 
-    /**
-     * <b>Data Processing Related Method</b>
-     * <p>
-     * (주문번호 + 받는사람 + 상품명(피아르 출고상품명) + 상품상세(피아르 출고옵션명)) 중복데이터 가공
-     *
-     * @param dtos : List::DeliveryReadyCoupangItemViewDto::
-     * @return List::DeliveryReadyItemHansanExcelFormDto::
-     */
-    public List<DeliveryReadyItemHansanExcelFormDto> changeDuplicationHansanDtos(List<DeliveryReadyCoupangItemViewDto> dtos) {
-        List<DeliveryReadyItemHansanExcelFormDto> newOrderList = new ArrayList<>();
-
-        // 받는사람 > 주문번호 > 상품명 > 상품상세 정렬
-        dtos.sort(Comparator.comparing((DeliveryReadyCoupangItemViewDto dto) -> dto.getDeliveryReadyItem().getReceiver())
-                                .thenComparing((DeliveryReadyCoupangItemViewDto dto) -> dto.getDeliveryReadyItem().getOrderNumber())
-                                .thenComparing((DeliveryReadyCoupangItemViewDto dto) -> dto.getProdManagementName())
-                                .thenComparing((DeliveryReadyCoupangItemViewDto dto) -> dto.getOptionManagementName()));
-
-        Set<String> optionSet = new HashSet<>();        // 받는사람 + 주소 + 상품명 + 상품상세
-
-        for(int i = 0; i < dtos.size(); i++){
-            StringBuilder sb = new StringBuilder();
-            sb.append(dtos.get(i).getDeliveryReadyItem().getReceiver());
-            sb.append(dtos.get(i).getDeliveryReadyItem().getDestination());
-            sb.append(dtos.get(i).getProdManagementName());
-            sb.append(dtos.get(i).getOptionManagementName());
-
-            StringBuilder receiverSb = new StringBuilder();
-            receiverSb.append(dtos.get(i).getDeliveryReadyItem().getReceiver());
-            receiverSb.append(dtos.get(i).getDeliveryReadyItem().getReceiverContact1());
-            receiverSb.append(dtos.get(i).getDeliveryReadyItem().getDestination());
-
-            String resultStr = sb.toString();
-            String receiverStr = receiverSb.toString();
-            int prevOrderIdx = newOrderList.size()-1;   // 추가되는 데이터 리스트의 마지막 index
-
-            DeliveryReadyItemHansanExcelFormDto currentProd = DeliveryReadyItemHansanExcelFormDto.toFormDto(dtos.get(i));
-            
-            // 받는사람 + 주소 + 상품명 + 상품상세 : 중복인 경우
-            if(!optionSet.add(resultStr)){
-                DeliveryReadyItemHansanExcelFormDto prevProd = newOrderList.get(prevOrderIdx);
-                
-                newOrderList.get(prevOrderIdx).setUnit(prevProd.getUnit() + currentProd.getUnit());     // 중복데이터의 수량을 더한다
-                newOrderList.get(prevOrderIdx).setAllProdOrderNumber(prevProd.getProdOrderNumber() + "/" + currentProd.getProdOrderNumber());     // 총 상품번호 수정
-            }else{
-                // 받는사람 + 번호 + 주소 : 중복인 경우
-                if(!optionSet.add(receiverStr)){
-                    newOrderList.get(prevOrderIdx).setDuplication(true);
-                    currentProd.setDuplication(true);
-                }
-                newOrderList.add(currentProd);
-            }
-        }
-        return newOrderList;
-    }
-
     /**
      * <b>Data Processing Related Method</b>
      * <p>
@@ -639,90 +702,27 @@ public class DeliveryReadyCoupangBusinessService {
      * @param viewDtos : List::DeliveryReadyCoupangItemViewDto::
      * @return List::DeliveryReadyItemLotteExcelFormDto::
      * @see DeliveryReadyItemLotteExcelFormDto#toFormDto
+     * @see DeliveryReadyCourierFormBuilder#buildLotteForms
      */
     public List<DeliveryReadyItemLotteExcelFormDto> changeDeliveryReadyItemToLotte(List<DeliveryReadyCoupangItemViewDto> viewDtos) {
         List<DeliveryReadyItemLotteExcelFormDto> formDtos = viewDtos.stream().map(dto -> DeliveryReadyItemLotteExcelFormDto.toFormDto(dto)).collect(Collectors.toList());
-        List<DeliveryReadyItemLotteExcelFormDto> excelFormDtos = this.changeDuplicationLotteDtos(formDtos);     // 중복 데이터 처리
+        List<DeliveryReadyItemLotteExcelFormDto> excelFormDtos = DeliveryReadyCourierFormBuilder.buildLotteForms(formDtos);     // 중복 데이터 처리
         return excelFormDtos;
     }
 
     /**
      * <b>Data Processing Related Method</b>
      * <p>
-     * (받는사람 + 주소 + 상품명 + 상품상세) 중복데이터 가공
-     * (받는사람 + 연락처 + 주소) 중복데이터 가공
+     * DeliveryReadyItem 다운로드 시 테일로 발주서 데이터로 변환하고 정렬한다.
      *
-     * @param dtos : List::DeliveryReadyItemLotteExcelFormDto::
-     * @return List::DeliveryReadyItemLotteExcelFormDto::
+     * @param viewDtos : List::DeliveryReadyCoupangItemViewDto::
+     * @return List::DeliveryReadyItemTailoExcelFormDto::
+     * @see DeliveryReadyItemTailoExcelFormDto#toTailoFormDto
+     * @see DeliveryReadyCourierFormBuilder#buildTailoForms
      */
-    public List<DeliveryReadyItemLotteExcelFormDto> changeDuplicationLotteDtos(List<DeliveryReadyItemLotteExcelFormDto> dtos) {
-        List<DeliveryReadyItemLotteExcelFormDto> newOrderList = new ArrayList<>();
-        List<DeliveryReadyItemLotteExcelFormDto> resultList = new ArrayList<>();
-
-        // 받는사람 > 주소 > 상품명 > 상품상세 정렬
-        dtos.sort(Comparator.comparing(DeliveryReadyItemLotteExcelFormDto::getReceiver)
-                .thenComparing(DeliveryReadyItemLotteExcelFormDto::getDestination)
-                .thenComparing(DeliveryReadyItemLotteExcelFormDto::getProdName1)
-                .thenComparing(DeliveryReadyItemLotteExcelFormDto::getOptionInfo1));
-
-        Set<String> optionSet = new HashSet<>(); // 받는사람 + 주소 + 상품명 + 상품상세
-
-        for (int i = 0; i < dtos.size(); i++) {
-            StringBuilder sb = new StringBuilder();
-            sb.append(dtos.get(i).getReceiver());
-            sb.append(dtos.get(i).getDestination());
-            sb.append(dtos.get(i).getProdName1());
-            sb.append(dtos.get(i).getOptionInfo1());
-
-            String resultStr = sb.toString();
-            int prevOrderIdx = newOrderList.size() - 1;     // 추가되는 데이터 리스트의 마지막 index
-
-            // 받는사람 + 주소 + 상품명 + 상품상세 : 중복인 경우
-            if (!optionSet.add(resultStr)) {
-                DeliveryReadyItemLotteExcelFormDto prevProd = newOrderList.get(prevOrderIdx);
-                DeliveryReadyItemLotteExcelFormDto currentProd = dtos.get(i);
-                
-                prevProd.setUnit(prevProd.getUnit() + currentProd.getUnit());     // 중복데이터의 수량을 더한다
-                newOrderList.get(prevOrderIdx).setAllProdInfo(prevProd.getProdName1() + " [" + prevProd.getOptionInfo1() + "-" + prevProd.getUnit() + "]");
-                prevProd.setAllProdOrderNumber(prevProd.getAllProdOrderNumber() + "/" + currentProd.getProdOrderNumber());
-                newOrderList.get(prevOrderIdx).setAllProdOrderNumber(prevProd.getAllProdOrderNumber());   // 총 상품번호 수정
-            } else {
-                newOrderList.add(dtos.get(i));
-            }
-        }
-
-        String prevProdName = "";
-         
-        for (int i = 0; i < newOrderList.size(); i++) {
-            StringBuilder receiverSb = new StringBuilder();
-            receiverSb.append(newOrderList.get(i).getReceiver());
-            receiverSb.append(newOrderList.get(i).getReceiverContact1());
-            receiverSb.append(newOrderList.get(i).getDestination());
-            
-            String receiverStr = receiverSb.toString();
-            int prevOrderIdx = resultList.size() - 1;     // 추가되는 데이터 리스트의 마지막 index
-
-            // 받는사람 + 연락처 + 주소 + 상품상세 : 중복이 아니면서
-            // 받는사람 + 연락처 + 주소 : 중복인 경우
-            if (!optionSet.add(receiverStr)) {
-                DeliveryReadyItemLotteExcelFormDto prevProd = resultList.get(prevOrderIdx);
-                DeliveryReadyItemLotteExcelFormDto currentProd = newOrderList.get(i);
-
-                // 상품명이 동일한 경우, 중복처리 되었을 때 바로 이전의 상품명과 동일한 경우.
-                if(prevProd.getProdName1().equals(currentProd.getProdName1()) || prevProdName.equals(currentProd.getProdName1())){
-                    prevProdName = "";
-                    resultList.get(prevOrderIdx).setAllProdInfo(prevProd.getAllProdInfo() + " | " + "[" + currentProd.getOptionInfo1() + "-" + currentProd.getUnit() + "]");
-                }else{      // 상품명이 동일하지 않은 경우
-                    prevProdName = currentProd.getProdName1();
-                    resultList.get(prevOrderIdx).setAllProdInfo(prevProd.getAllProdInfo() + " | " + currentProd.getAllProdInfo());
-                }
-                resultList.get(prevOrderIdx).setAllProdOrderNumber(prevProd.getAllProdOrderNumber() + "/" + currentProd.getAllProdOrderNumber());    // 총 상품번호 수정
-            } else {
-                prevProdName = "";
-                resultList.add(newOrderList.get(i));
-            }
-        }
-        return resultList;
+    public List<DeliveryReadyItemTailoExcelFormDto> changeDeliveryReadyItemToTailo(List<DeliveryReadyCoupangItemViewDto> viewDtos) {
+        List<DeliveryReadyItemTailoExcelFormDto> formDtos = viewDtos.stream().map(dto -> DeliveryReadyItemTailoExcelFormDto.toTailoFormDto(dto)).collect(Collectors.toList());
+        return DeliveryReadyCourierFormBuilder.buildTailoForms(formDtos);
     }
 
     /**
@@ -744,13 +744,11 @@ public class DeliveryReadyCoupangBusinessService {
      * 재고 반영 시 출고완료 값을 변경한다.
      *
      * @param dtos : List::DeliveryReadyCoupangItemViewDto::
-     * @see DeliveryReadyCoupangItemEntity#toEntity
+     * @see DeliveryReadyCoupangService#bulkUpdateReleaseCompleted
      */
     public void updateListReleaseCompleted(List<DeliveryReadyCoupangItemViewDto> dtos) {
         List<Integer> itemCids = dtos.stream().map(dto -> dto.getDeliveryReadyItem().getCid()).collect(Collectors.toList());
-        List<DeliveryReadyCoupangItemEntity> entities = deliveryReadyCoupangService.searchDeliveryReadyItemList(itemCids);
-        entities.stream().forEach(entity -> entity.setReleaseCompleted(true));
-        deliveryReadyCoupangService.createItemList(entities);
+        deliveryReadyCoupangService.bulkUpdateReleaseCompleted(itemCids, true);
     }
 
     /**
@@ -760,14 +758,11 @@ public class DeliveryReadyCoupangBusinessService {
      *
      * @param dtos : List::DeliveryReadyCoupangItemViewDto::
      * @param reflected : boolean
-     * @see DeliveryReadyCoupangService#searchDeliveryReadyItemList
-     * @see DeliveryReadyCoupangService#createItemList
+     * @see DeliveryReadyCoupangService#bulkUpdateReleaseCompleted
      */
     public void updateListReleaseCompleted(List<DeliveryReadyCoupangItemViewDto> dtos, boolean reflected) {
         List<Integer> itemCids = dtos.stream().map(dto -> dto.getDeliveryReadyItem().getCid()).collect(Collectors.toList());
-        List<DeliveryReadyCoupangItemEntity> entities = deliveryReadyCoupangService.searchDeliveryReadyItemList(itemCids);
-        entities.stream().forEach(entity -> entity.setReleaseCompleted(reflected));
-        deliveryReadyCoupangService.createItemList(entities);
+        deliveryReadyCoupangService.bulkUpdateReleaseCompleted(itemCids, reflected);
     }
 
     // /**
@@ -784,124 +779,56 @@ public class DeliveryReadyCoupangBusinessService {
     // }
 
     /**
-     * <b>DB Select Related Method</b>
+     * <b>Convert Method</b>
      * <p>
-     * 옵션관리 코드와 대응하는 상품옵션 데이터를 조회한다.
+     * 배송준비 데이터를 재고 입출고 요청으로 변환한다. 출고옵션코드로 옵션을 찾는다.
      *
      * @param dtos : List::DeliveryReadyCoupangItemViewDto::
-     * @return List::ProductOptionEntity::
-     * @see ProductOptionService#searchListByOptionCodes
+     * @param memo : Function::DeliveryReadyCoupangItemViewDto, String::
+     * @return List::ProductOptionStockMovementDto::
      */
-    public List<ProductOptionEntity> getOptionByCode(List<DeliveryReadyCoupangItemViewDto> dtos) {
-        List<String> managementCodes = dtos.stream().map(r -> r.getDeliveryReadyItem().getReleaseOptionCode()).collect(Collectors.toList());
-        List<ProductOptionGetDto> optionGetDtos = productOptionService.searchListByOptionCodes(managementCodes);
-        return optionGetDtos.stream().map(dto -> ProductOptionEntity.toEntity(dto)).collect(Collectors.toList());
+    private List<ProductOptionStockMovementDto> toStockMovements(List<DeliveryReadyCoupangItemViewDto> dtos, Function<DeliveryReadyCoupangItemViewDto, String> memo) {
+        UUID USER_ID = userService.getUserId();
+
+        return dtos.stream().map(dto -> ProductOptionStockMovementDto.builder()
+                .optionCode(dto.getDeliveryReadyItem().getReleaseOptionCode())
+                .unit(dto.getDeliveryReadyItem().getUnit())
+                .memo(memo.apply(dto))
+                .createdBy(USER_ID)
+                .build()
+        ).collect(Collectors.toList());
     }
-    
+
     /**
      * <b>Update data for delivery ready.</b>
      * <b>Reflect the stock unit of product options.</b>
      * <p>
      * 배송준비 데이터의 출고완료 항목을 업데이트한다.
-     * 출고(재고 반영) 데이터를 생성하여 재고에 반영한다.
-     * 기본 옵션 상품과 세트 구성 상품을 분리하여 재고반영 처리한다.
+     * 출고(재고 반영) 데이터를 생성하여 재고에 반영한다. 세트상품은 구성옵션별로 분해되어 함께 반영된다.
      *
      * @param dtos : List::DeliveryReadyCoupangItemViewDto::
      * @see DeliveryReadyCoupangBusinessService#updateListReleaseCompleted
-     * @see DeliveryReadyCoupangBusinessService#getOptionByCode
-     * @see DeliveryReadyCoupangBusinessService#reflectStockUnitOfPackageOption
+     * @see ProductOptionStockMovementService#release
      */
     @Transactional
     public void releaseListStockUnit(List<DeliveryReadyCoupangItemViewDto> dtos) {
         // 재고반영이 선행되지 않은 데이터들만 재고 반영
         List<DeliveryReadyCoupangItemViewDto> unreleasedDtos = dtos.stream().filter(dto -> ((!dto.getDeliveryReadyItem().getReleaseCompleted()) && (dto.getOptionManagementName() != null))).collect(Collectors.toList());
         this.updateListReleaseCompleted(unreleasedDtos, true);
-        
-        // 출고 옵션데이터 추출
-        List<ProductOptionEntity> optionEntities = this.getOptionByCode(unreleasedDtos);
-        // 1. 세트상품 X
-        List<ProductOptionEntity> originOptionEntities = optionEntities.stream().filter(r -> r.getPackageYn().equals("n")).collect(Collectors.toList());
-        // 2. 세트상품 O
-        List<ProductOptionEntity> parentOptionEntities = optionEntities.stream().filter(r -> r.getPackageYn().equals("y")).collect(Collectors.toList());
-
-        this.reflectStockUnit(unreleasedDtos, originOptionEntities);
-
-        if (parentOptionEntities.size() > 0) {
-            this.reflectStockUnitOfPackageOption(unreleasedDtos, parentOptionEntities);
-        }
-    }
 
-    public void reflectStockUnit(List<DeliveryReadyCoupangItemViewDto> unreleasedDtos, List<ProductOptionEntity> originOptionEntities) {
-        UUID USER_ID = userService.getUserId();
-        
-        // 1. 세트상품이 아닌 애들 재고반영
-        List<ProductReleaseEntity> productReleaseEntities = new ArrayList<>();
-        // 출고데이터 설정 및 생성
-        unreleasedDtos.forEach(dto -> {
-            originOptionEntities.forEach(option -> {
-                if (dto.getDeliveryReadyItem().getReleaseOptionCode().equals(option.getCode())) {
-                    ProductReleaseGetDto releaseGetDto = ProductReleaseGetDto.builder()
-                            .id(UUID.randomUUID())
-                            .releaseUnit(dto.getDeliveryReadyItem().getUnit())
-                            .memo(dto.getReleaseMemo())
-                            .createdAt(CustomDateUtils.getCurrentDateTime())
-                            .createdBy(USER_ID)
-                            .productOptionCid(option.getCid())
-                            .productOptionId(option.getId())
-                            .build();
-
-                    productReleaseEntities.add(ProductReleaseEntity.toEntity(releaseGetDto));
-                }
-            });
-        });
-        productReleaseService.saveListAndModify(productReleaseEntities);
+        productOptionStockMovementService.release(this.toStockMovements(unreleasedDtos, DeliveryReadyCoupangItemViewDto::getReleaseMemo));
     }
 
-    public void reflectStockUnitOfPackageOption(List<DeliveryReadyCoupangItemViewDto> unreleasedDtos, List<ProductOptionEntity> parentOptionEntities) {
-        UUID USER_ID = userService.getUserId();
-
-        // 1. 해당 옵션에 포함되는 하위 패키지 옵션들 추출
-        List<UUID> parentOptionIdList = parentOptionEntities.stream().map(r -> r.getId()).collect(Collectors.toList());
-        // 2. 구성된 옵션패키지 추출 - 여러 패키지들이 다 섞여있는 상태
-        List<OptionPackageEntity> optionPackageEntities = optionPackageService.searchListByParentOptionIdList(parentOptionIdList);
-
-        List<ProductReleaseEntity> productReleaseEntities = new ArrayList<>();
-        unreleasedDtos.forEach(dto -> {
-            parentOptionEntities.forEach(parentOption -> {
-                if (dto.getDeliveryReadyItem().getReleaseOptionCode().equals(parentOption.getCode())) {
-                    optionPackageEntities.forEach(option -> {
-                        if(option.getParentOptionId().equals(parentOption.getId())) {
-                            ProductReleaseGetDto releaseGetDto = ProductReleaseGetDto.builder()
-                                .id(UUID.randomUUID())
-                                .releaseUnit(option.getPackageUnit() * dto.getDeliveryReadyItem().getUnit())
-                                .memo(dto.getReleaseMemo())
-                                .createdAt(CustomDateUtils.getCurrentDateTime())
-                                .createdBy(USER_ID)
-                                .productOptionCid(option.getOriginOptionCid())
-                                .productOptionId(option.getOriginOptionId())
-                                .build();
-                            
-                            productReleaseEntities.add(ProductReleaseEntity.toEntity(releaseGetDto));
-                        }
-                    });
-                }
-            });
-        });
-        productReleaseService.saveListAndModify(productReleaseEntities);
-    }
-    
     /**
      * <b>Update data for delivery ready.</b>
      * <b>Cancel the stock unit reflection of product options.</b>
      * <p>
      * 배송준비 데이터의 출고완료 항목을 업데이트한다.
-     * 입고(재고 반영 취소) 데이터를 생성하여 재고에 반영한다.
-     * 기본 옵션 상품과 세트 구성 상품을 분리하여 재고반영 취소 처리한다.
+     * 입고(재고 반영 취소) 데이터를 생성하여 재고에 반영한다. 세트상품은 구성옵션별로 분해되어 함께 반영된다.
      *
      * @param dtos : List::DeliveryReadyCoupangItemViewDto::
      * @see DeliveryReadyCoupangBusinessService#updateListReleaseCompleted
-     * @see DeliveryReadyCoupangBusinessService#getOptionByCode
-     * @see DeliveryReadyCoupangBusinessService#cancelReflectedStockUnitOfPackageOption
+     * @see ProductOptionStockMovementService#receive
      */
     @Transactional
     public void cancelReleaseListStockUnit(List<DeliveryReadyCoupangItemViewDto> dtos) {
@@ -909,74 +836,6 @@ public class DeliveryReadyCoupangBusinessService {
         List<DeliveryReadyCoupangItemViewDto> releasedDtos = dtos.stream().filter(dto -> (dto.getDeliveryReadyItem().getReleaseCompleted()) && (dto.getOptionManagementName() != null)).collect(Collectors.toList());
         this.updateListReleaseCompleted(releasedDtos, false);
 
-        // 옵션데이터 추출
-        List<ProductOptionEntity> optionEntities = this.getOptionByCode(releasedDtos);
-        // 1. 세트상품 X
-        List<ProductOptionEntity> originOptionEntities = optionEntities.stream().filter(r -> r.getPackageYn().equals("n")).collect(Collectors.toList());
-        // 2. 세트상품 O
-        List<ProductOptionEntity> parentOptionEntities = optionEntities.stream().filter(r -> r.getPackageYn().equals("y")).collect(Collectors.toList());
-
-        this.cancelReflectedStockUnit(releasedDtos, originOptionEntities);
-
-        if(parentOptionEntities.size() > 0) {
-            this.cancelReflectedStockUnitOfPackageOption(releasedDtos, parentOptionEntities);
-        }
-    }
-
-    public void cancelReflectedStockUnit(List<DeliveryReadyCoupangItemViewDto> unreleasedDtos, List<ProductOptionEntity> originOptionEntities) {
-        UUID USER_ID = userService.getUserId();
-        
-        // 1. 세트상품이 아닌 애들 재고반영
-        List<ProductReceiveEntity> productReceiveEntities = new ArrayList<>();
-        // 출고 취소데이터 설정 및 생성
-        unreleasedDtos.stream().forEach(dto -> {
-            originOptionEntities.stream().forEach(option -> {
-                if (dto.getDeliveryReadyItem().getReleaseOptionCode().equals(option.getCode())) {
-                    ProductReceiveGetDto receiveGetDto = ProductReceiveGetDto.builder()
-                            .id(UUID.randomUUID())
-                            .receiveUnit(dto.getDeliveryReadyItem().getUnit())
-                            .memo(dto.getReceiveMemo())
-                            .createdAt(CustomDateUtils.getCurrentDateTime())
-                            .createdBy(USER_ID)
-                            .productOptionCid(option.getCid())
-                            .build();
-
-                    productReceiveEntities.add(ProductReceiveEntity.toEntity(receiveGetDto));
-                }
-            });
-        });
-        productReceiveService.saveListAndModify(productReceiveEntities);
-    }
-
-    public void cancelReflectedStockUnitOfPackageOption(List<DeliveryReadyCoupangItemViewDto> unreleasedDtos, List<ProductOptionEntity> parentOptionEntities) {
-        UUID USER_ID = userService.getUserId();
-
-        // 1. 해당 옵션에 포함되는 하위 패키지 옵션들 추출
-        List<UUID> parentOptionIdList = parentOptionEntities.stream().map(r -> r.getId()).collect(Collectors.toList());
-        // 2. 구성된 옵션패키지 추출 - 여러 패키지들이 다 섞여있는 상태
-        List<OptionPackageEntity> optionPackageEntities = optionPackageService.searchListByParentOptionIdList(parentOptionIdList);
-
-        List<ProductReceiveEntity> productReceiveEntities = new ArrayList<>();
-        unreleasedDtos.stream().forEach(dto -> {
-            parentOptionEntities.stream().forEach(parentOption -> {
-                if (dto.getDeliveryReadyItem().getReleaseOptionCode().equals(parentOption.getCode())) {
-                    optionPackageEntities.stream().forEach(option -> {
-                        if(option.getParentOptionId().equals(parentOption.getId())) {
-                            ProductReceiveGetDto receiveGetDto = ProductReceiveGetDto.builder()
-                                .id(UUID.randomUUID())
-                                .receiveUnit(option.getPackageUnit() * dto.getDeliveryReadyItem().getUnit())
-                                .memo(dto.getReceiveMemo())
-                                .createdAt(CustomDateUtils.getCurrentDateTime())
-                                .createdBy(USER_ID)
-                                .productOptionCid(option.getOriginOptionCid())
-                                .build();
-                            
-                            productReceiveEntities.add(ProductReceiveEntity.toEntity(receiveGetDto));
-                        }
-                    });
-                }
-            });
-        });
-        productReceiveService.saveListAndModify(productReceiveEntities);
+        productOptionStockMovementService.receive(this.toStockMovements(releasedDtos, DeliveryReadyCoupangItemViewDto::getReceiveMemo));
     }
 }
@@ -1,22 +1,39 @@
 package com.piaar_store_manager.server.domain.delivery_ready.coupang.service;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.transaction.Transactional;
 
 import com.piaar_store_manager.server.domain.delivery_ready.common.proj.DeliveryReadyItemOptionInfoProj;
+import com.piaar_store_manager.server.domain.delivery_ready.common.service.DeliveryReadyProdOrderNumberFilter;
 import com.piaar_store_manager.server.domain.delivery_ready.coupang.entity.DeliveryReadyCoupangItemEntity;
 import com.piaar_store_manager.server.domain.delivery_ready.coupang.proj.DeliveryReadyCoupangItemViewProj;
+import com.piaar_store_manager.server.domain.delivery_ready.coupang.repository.DeliveryReadyCoupangItemCustomJdbc;
 import com.piaar_store_manager.server.domain.delivery_ready.coupang.repository.DeliveryReadyCoupangItemRepository;
 import com.piaar_store_manager.server.domain.delivery_ready_file.entity.DeliveryReadyFileEntity;
 import com.piaar_store_manager.server.domain.delivery_ready_file.repository.DeliveryReadyFileRepository;
+import com.piaar_store_manager.server.domain.pagenation.CursorPageDto;
+import com.piaar_store_manager.server.domain.sales_analysis.entity.SalesDailyRollupEntity;
+import com.piaar_store_manager.server.domain.sales_analysis.service.SalesDailyRollupService;
 import com.piaar_store_manager.server.exception.CustomNotFoundDataException;
+import com.piaar_store_manager.server.utils.CustomBloomFilter;
 import com.piaar_store_manager.server.utils.DateHandler;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
@@ -26,6 +43,17 @@ import lombok.RequiredArgsConstructor;
 public class DeliveryReadyCoupangService {
     private final DeliveryReadyFileRepository deliveryReadyFileRepository;
     private final DeliveryReadyCoupangItemRepository deliveryReadyCoupangItemRepository;
+    private final DeliveryReadyCoupangItemCustomJdbc deliveryReadyCoupangItemCustomJdbc;
+    private final SalesDailyRollupService salesDailyRollupService;
+    private final DeliveryReadyProdOrderNumberFilter prodOrderNumberFilter = new DeliveryReadyProdOrderNumberFilter();
+
+    private static final double PROD_ORDER_NUMBER_FILTER_FALSE_POSITIVE_RATE = 0.01;
+
+    @Value("${app.delivery-ready.prod-order-number-filter.enabled:false}")
+    private boolean prodOrderNumberFilterEnabled;
+
+    @Value("${app.delivery-ready.prod-order-number-filter.expected-insertions:1000000}")
+    private long prodOrderNumberFilterExpectedInsertions;
 
     /**
      * <b>DB Insert Related Method</b>
@@ -50,7 +78,35 @@ public class DeliveryReadyCoupangService {
      * @see DeliveryReadyCoupangItemRepository#save
      */
     public DeliveryReadyCoupangItemEntity createItem(DeliveryReadyCoupangItemEntity fileEntity) {
-        return deliveryReadyCoupangItemRepository.save(fileEntity);
+        DeliveryReadyCoupangItemEntity savedEntity = deliveryReadyCoupangItemRepository.save(fileEntity);
+        prodOrderNumberFilter.put(Collections.singletonList(savedEntity.getProdOrderNumber()));
+        salesDailyRollupService.markDirty(SalesDailyRollupEntity.CHANNEL_COUPANG, Collections.singletonList(toLocalDateTime(savedEntity.getCreatedAt())));
+        return savedEntity;
+    }
+
+    /**
+     * <b>DB Select Related Method</b>
+     * <p>
+     * cid 에 대응하는 배송준비 엑셀 파일의 정보를 조회한다.
+     *
+     * @param fileCid : Integer
+     * @return DeliveryReadyFileEntity
+     * @see DeliveryReadyFileRepository#findById
+     */
+    public DeliveryReadyFileEntity searchFile(Integer fileCid) {
+        return deliveryReadyFileRepository.findById(fileCid).orElseThrow(() -> new CustomNotFoundDataException("데이터를 찾을 수 없습니다."));
+    }
+
+    /**
+     * <b>DB Delete Related Method</b>
+     * <p>
+     * cid 에 대응하는 배송준비 엑셀 파일의 정보를 삭제한다.
+     *
+     * @param fileCid : Integer
+     * @see DeliveryReadyFileRepository#deleteById
+     */
+    public void deleteFile(Integer fileCid) {
+        deliveryReadyFileRepository.deleteById(fileCid);
     }
 
     /**
@@ -63,19 +119,74 @@ public class DeliveryReadyCoupangService {
      * @see DeliveryReadyCoupangItemRepository#saveAll
      */
     public List<DeliveryReadyCoupangItemEntity> createItemList(List<DeliveryReadyCoupangItemEntity> itemEntities) {
-        return deliveryReadyCoupangItemRepository.saveAll(itemEntities);
+        List<DeliveryReadyCoupangItemEntity> savedEntities = deliveryReadyCoupangItemRepository.saveAll(itemEntities);
+        prodOrderNumberFilter.put(savedEntities.stream().map(DeliveryReadyCoupangItemEntity::getProdOrderNumber).collect(Collectors.toList()));
+        salesDailyRollupService.markDirty(SalesDailyRollupEntity.CHANNEL_COUPANG, savedEntities.stream().map(entity -> toLocalDateTime(entity.getCreatedAt())).collect(Collectors.toList()));
+        return savedEntities;
+    }
+
+    /**
+     * <b>DB Insert Related Method</b>
+     * <p>
+     * 배송준비 엑셀 파일의 데이터를 JDBC 로 일괄 저장한다. 저장된 엔터티의 cid 는 채우지 않는다.
+     *
+     * @param itemEntities : List::DeliveryReadyCoupangItemEntity::
+     * @return int : 저장된 데이터 수
+     * @see DeliveryReadyCoupangItemCustomJdbc#jdbcBulkInsert
+     */
+    @Transactional
+    public int bulkInsertItemList(List<DeliveryReadyCoupangItemEntity> itemEntities) {
+        int insertedCount = deliveryReadyCoupangItemCustomJdbc.jdbcBulkInsert(itemEntities);
+        prodOrderNumberFilter.put(itemEntities.stream().map(DeliveryReadyCoupangItemEntity::getProdOrderNumber).collect(Collectors.toList()));
+        salesDailyRollupService.markDirty(SalesDailyRollupEntity.CHANNEL_COUPANG, itemEntities.stream().map(entity -> toLocalDateTime(entity.getCreatedAt())).collect(Collectors.toList()));
+        return insertedCount;
+    }
+
+    /**
+     * <b>DB Update Related Method</b>
+     * <p>
+     * 재고 반영 여부를 일괄 변경한다.
+     *
+     * @param itemCids : List::Integer::
+     * @param releaseCompleted : boolean
+     * @see DeliveryReadyCoupangItemCustomJdbc#jdbcBulkUpdateReleaseCompleted
+     */
+    @Transactional
+    public void bulkUpdateReleaseCompleted(List<Integer> itemCids, boolean releaseCompleted) {
+        deliveryReadyCoupangItemCustomJdbc.jdbcBulkUpdateReleaseCompleted(itemCids, releaseCompleted);
     }
 
     /**
      * <b>DB Select Related Method</b>
      * <p>
-     * 배송준비 엑셀 데이터에서 상품 주문번호를 모두 조회한다.
-     * 
-     * @return Set::String
-     * @see DeliveryReadyCoupangItemRepository#findAllProdOrderNumber
+     * prodOrderNumbers 중 이미 저장된 상품주문번호를 조회한다.
+     *
+     * @param prodOrderNumbers : Collection::String::
+     * @return Set::String::
+     * @see DeliveryReadyProdOrderNumberFilter#searchStored
+     * @see DeliveryReadyCoupangItemRepository#findProdOrderNumbers
      */
-    public Set<String> findAllProdOrderNumber() {
-        return deliveryReadyCoupangItemRepository.findAllProdOrderNumber();
+    public Set<String> searchStoredProdOrderNumbers(Collection<String> prodOrderNumbers) {
+        return prodOrderNumberFilter.searchStored(prodOrderNumbers, deliveryReadyCoupangItemRepository::findProdOrderNumbers);
+    }
+
+    /**
+     * <b>DB Select Related Method</b>
+     * <p>
+     * app.delivery-ready.prod-order-number-filter.enabled 가 true 라면 애플리케이션 시작 시 저장된 상품주문번호로 Bloom filter 를 생성한다.
+     *
+     * @see DeliveryReadyCoupangItemRepository#streamAllProdOrderNumber
+     */
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildProdOrderNumberFilter() {
+        if (!prodOrderNumberFilterEnabled) {
+            return;
+        }
+
+        try (Stream<String> storedProdOrderNumbers = deliveryReadyCoupangItemRepository.streamAllProdOrderNumber()) {
+            prodOrderNumberFilter.rebuild(new CustomBloomFilter(prodOrderNumberFilterExpectedInsertions, PROD_ORDER_NUMBER_FILTER_FALSE_POSITIVE_RATE), storedProdOrderNumbers);
+        }
     }
 
     /**
@@ -104,6 +215,20 @@ public class DeliveryReadyCoupangService {
         return deliveryReadyCoupangItemRepository.findSelectedReleased(startDate, endDate);
     }
 
+    /**
+     * <b>DB Select Related Method</b>
+     * <p>
+     * DeliveryReadyItem 중 조회 조건에 대응하는 데이터를 커서 이후부터 pageSize 개 조회한다.
+     *
+     * @param params   : Map::String, Object::
+     * @param pageable : Pageable
+     * @return CursorPageDto::DeliveryReadyCoupangItemViewProj::
+     * @see DeliveryReadyCoupangItemRepository#qfindViewByCursor
+     */
+    public CursorPageDto<DeliveryReadyCoupangItemViewProj> findViewByCursor(Map<String, Object> params, Pageable pageable) {
+        return deliveryReadyCoupangItemRepository.qfindViewByCursor(params, pageable);
+    }
+
     /**
      * <b>DB Delete Related Method</b>
      * <p>
@@ -113,9 +238,11 @@ public class DeliveryReadyCoupangService {
      * @see DeliveryReadCoupangItemRepository#findById
      * @see DeliveryReadyCoupangItemRepository#delete
      */
+    @Transactional
     public void deleteOneDeliveryReadyViewData(Integer itemCid) {
         deliveryReadyCoupangItemRepository.findById(itemCid).ifPresent(item -> {
             deliveryReadyCoupangItemRepository.delete(item);
+            salesDailyRollupService.markDirty(SalesDailyRollupEntity.CHANNEL_COUPANG, Collections.singletonList(toLocalDateTime(item.getCreatedAt())));
         });
     }
 
@@ -127,7 +254,9 @@ public class DeliveryReadyCoupangService {
      * @param idList : List::UUID::
      * @see DeliveryReadyCoupangItemRepository#deleteBatchById
      */
+    @Transactional
     public void deleteListDeliveryReadyViewData(List<UUID> idList) {
+        salesDailyRollupService.markDirtyByIds(SalesDailyRollupEntity.CHANNEL_COUPANG, idList);
         deliveryReadyCoupangItemRepository.deleteBatchById(idList);
     }
 
@@ -199,4 +328,9 @@ public class DeliveryReadyCoupangService {
     public void updateReleasedAtByCid(List<Integer> itemCids) {
         deliveryReadyCoupangItemRepository.updateReleasedAtByCid(itemCids, DateHandler.getCurrentDate2());
     }
+
+    // 서버 시간대 기준 등록일시
+    private static LocalDateTime toLocalDateTime(Date createdAt) {
+        return createdAt == null ? null : LocalDateTime.ofInstant(createdAt.toInstant(), ZoneId.systemDefault());
+    }
 }
@@ -1,8 +1,6 @@
 package com.piaar_store_manager.server.domain.delivery_ready.naver.controller;
 
-import java.io.IOException;
 import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
@@ -21,17 +19,13 @@ import com.piaar_store_manager.server.domain.delivery_ready.naver.dto.DeliveryRe
 import com.piaar_store_manager.server.domain.delivery_ready.naver.service.DeliveryReadyNaverBusinessService;
 import com.piaar_store_manager.server.domain.message.Message;
 import com.piaar_store_manager.server.exception.CustomExcelFileUploadException;
+import com.piaar_store_manager.server.utils.CustomExcelStreamWriter;
 import com.piaar_store_manager.server.utils.CustomExcelUtils;
 
 import lombok.RequiredArgsConstructor;
-import org.apache.poi.ss.usermodel.Cell;
-import org.apache.poi.ss.usermodel.CellStyle;
-import org.apache.poi.ss.usermodel.FillPatternType;
-import org.apache.poi.ss.usermodel.IndexedColors;
-import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -123,6 +117,37 @@ public class DeliveryReadyNaverApiController {
         return new ResponseEntity<>(message, message.getStatus());
     }
 
+    /**
+     * Create import job for delivery ready excel.
+     * 파일은 요청 중에 저장하고, 데이터 저장은 가져오기 작업으로 등록한 후 작업 정보를 즉시 반환한다.
+     * <p>
+     * <b>POST : API URL => /api/v1/delivery-ready/naver/store/import-jobs</b>
+     *
+     * @param file
+     * @return ResponseEntity(message, HttpStatus)
+     * @throws CustomExcelFileUploadException
+     * @see Message
+     * @see HttpStatus
+     * @see CustomExcelUtils#isExcelFile
+     * @see DeliveryReadyNaverBusinessService#createImportJobForStore
+     */
+    @PermissionRole
+    @PostMapping("/store/import-jobs")
+    public ResponseEntity<?> createImportJobForStore(@RequestParam("file") MultipartFile file) {
+        Message message = new Message();
+
+        // file extension check.
+        if (!CustomExcelUtils.isExcelFile(file)) {
+            throw new CustomExcelFileUploadException("This is not an excel file.");
+        }
+
+        message.setData(deliveryReadyNaverBusinessService.createImportJobForStore(file));
+        message.setStatus(HttpStatus.ACCEPTED);
+        message.setMessage("success");
+
+        return new ResponseEntity<>(message, message.getStatus());
+    }
+
     /**
      * Search unreleased data for delivery ready.
      * <p>
@@ -169,6 +194,32 @@ public class DeliveryReadyNaverApiController {
         return new ResponseEntity<>(message, message.getStatus());
     }
 
+    /**
+     * Search data for delivery ready by cursor.
+     * Search next items of cursor without offset and total count.
+     * (params : releasedYn, startDate, endDate, searchColumnName, searchQuery, cursor / sort : cid, releasedAt)
+     * <p>
+     * <b>GET : API URL => /api/v1/delivery-ready/naver/view/search</b>
+     *
+     * @param params   : Map::String, Object::
+     * @param pageable : Pageable
+     * @return ResponseEntity(message, HttpStatus)
+     * @see Message
+     * @see HttpStatus
+     * @see DeliveryReadyNaverBusinessService#getDeliveryReadyViewByCursor
+     */
+    @PermissionRole
+    @GetMapping("/view/search")
+    public ResponseEntity<?> getDeliveryReadyViewByCursor(@RequestParam Map<String, Object> params, @PageableDefault(sort = "cid", direction = Sort.Direction.DESC, size = 300) Pageable pageable) {
+        Message message = new Message();
+
+        message.setData(deliveryReadyNaverBusinessService.getDeliveryReadyViewByCursor(params, pageable));
+        message.setStatus(HttpStatus.OK);
+        message.setMessage("success");
+
+        return new ResponseEntity<>(message, message.getStatus());
+    }
+
     /**
      * Destroy( Delete or Remove ) unreleased data for delivery ready.
      * <p>
@@ -482,7 +533,6 @@ public class DeliveryReadyNaverApiController {
      *
      * @param response : HttpServletResponse
      * @param viewDtos : List::DeliveryReadyNaverItemViewDto::
-     * @throws IOException
      * @see Message
      * @see HttpStatus
      */
@@ -492,117 +542,7 @@ public class DeliveryReadyNaverApiController {
         // 중복데이터 처리
         List<DeliveryReadyItemHansanExcelFormDto> dtos = deliveryReadyNaverBusinessService.changeDeliveryReadyItemToHansan(viewDtos);
 
-        // 엑셀 생성
-        Workbook workbook = new XSSFWorkbook();     // .xlsx
-        Sheet sheet = workbook.createSheet("한산 발주서");
-        Row row = null;
-        Cell cell = null;
-        int rowNum = 0;
-
-        row = sheet.createRow(rowNum++);
-        cell = row.createCell(0);
-        cell.setCellValue("받는사람");
-        cell = row.createCell(1);
-        cell.setCellValue("전화번호1");
-        cell = row.createCell(2);
-        cell.setCellValue("우편번호");
-        cell = row.createCell(3);
-        cell.setCellValue("주소");
-        cell = row.createCell(4);
-        cell.setCellValue("운송장번호");
-        cell = row.createCell(5);
-        cell.setCellValue("상품명1");
-        cell = row.createCell(6);
-        cell.setCellValue("보내는사람(지정)");
-        cell = row.createCell(7);
-        cell.setCellValue("전화번호1(지정)");
-        cell = row.createCell(8);
-        cell.setCellValue("상품상세1");
-        cell = row.createCell(9);
-        cell.setCellValue("내품수량1");
-        cell = row.createCell(10);
-        cell.setCellValue("배송메시지");
-        cell = row.createCell(11);
-        cell.setCellValue("수량(A타입)");
-        cell = row.createCell(12);
-        cell.setCellValue("주문번호");
-        cell = row.createCell(13);
-        cell.setCellValue("상품주문번호");
-        cell = row.createCell(14);
-        cell.setCellValue("오픈마켓 상품명");
-        cell = row.createCell(15);
-        cell.setCellValue("오픈마켓 옵션명");
-        cell = row.createCell(16);
-        cell.setCellValue("옵션관리코드");
-        cell = row.createCell(17);
-        cell.setCellValue("총 상품주문번호");
-        cell = row.createCell(18);
-        cell.setCellValue("플랫폼명");
-
-
-        CellStyle cellStyle = workbook.createCellStyle();
-        cellStyle.setFillForegroundColor(IndexedColors.YELLOW.getIndex());
-        cellStyle.setFillPattern(FillPatternType.BRICKS);
-
-        for (int i = 0; i < dtos.size(); i++) {
-            row = sheet.createRow(rowNum++);
-            cell = row.createCell(0);
-            // 받는사람 + 번호 + 주소 : 중복데이터 엑셀 셀 색상 설정
-            if (dtos.get(i).isDuplication()) {
-                cell.setCellStyle(cellStyle);
-            }
-            cell.setCellValue(dtos.get(i).getReceiver());
-            cell = row.createCell(1);
-            cell.setCellValue(dtos.get(i).getReceiverContact1());
-            cell = row.createCell(2);
-            cell.setCellValue(dtos.get(i).getZipCode());
-            cell = row.createCell(3);
-            cell.setCellValue(dtos.get(i).getDestination());
-            cell = row.createCell(4);
-            cell.setCellValue(dtos.get(i).getTransportNumber());
-            cell = row.createCell(5);
-            cell.setCellValue(dtos.get(i).getStoreProdName() != null ? dtos.get(i).getStoreProdName() + " | " + dtos.get(i).getProdManufacturingCode() : "*지정바람");       // 피아르 상품관리명 + 피아르 상품제조번호
-            cell = row.createCell(6);
-            cell.setCellValue(dtos.get(i).getSender() != null ? dtos.get(i).getSender() : "*지정바람");
-            cell = row.createCell(7);
-            cell.setCellValue(dtos.get(i).getSenderContact1() != null ? dtos.get(i).getSenderContact1() : "*지정바람");
-            cell = row.createCell(8);
-            cell.setCellValue(dtos.get(i).getStoreOptionName() != null ? dtos.get(i).getStoreOptionName() + " | " + dtos.get(i).getOptionManagementCode() : "*지정바람");       // 피아르 옵션관리명 + 피아르 옵션관리코드
-            cell = row.createCell(9);
-            cell.setCellValue(dtos.get(i).getUnit());
-            cell = row.createCell(10);
-            cell.setCellValue(dtos.get(i).getDeliveryMessage());
-            cell = row.createCell(11);
-            cell.setCellValue(dtos.get(i).getUnitA());
-            cell = row.createCell(12);
-            cell.setCellValue(dtos.get(i).getOrderNumber());
-            cell = row.createCell(13);
-            cell.setCellValue(dtos.get(i).getProdOrderNumber());
-            cell = row.createCell(14);
-            cell.setCellValue(dtos.get(i).getProdName());       // 스마트스토어 상품명
-            cell = row.createCell(15);
-            cell.setCellValue(dtos.get(i).getOptionInfo());    // 스마트스토어 옵션명
-            cell = row.createCell(16);
-            cell.setCellValue(dtos.get(i).getOptionManagementCode());
-            cell = row.createCell(17);
-            cell.setCellValue(dtos.get(i).getAllProdOrderNumber());
-            cell = row.createCell(18);
-            cell.setCellValue("네이버");
-        }
-
-        for (int i = 0; i < 19; i++) {
-            sheet.autoSizeColumn(i);
-        }
-
-        response.setContentType("ms-vnd/excel");
-        response.setHeader("Content-Disposition", "attachment;filename=example.xlsx");
-
-        try {
-            workbook.write(response.getOutputStream());
-            workbook.close();
-        } catch (IOException e) {
-            throw new IllegalArgumentException();
-        }
+        CustomExcelStreamWriter.writeToResponse(response, DeliveryReadyItemHansanExcelFormDto.toSheetTemplate("상품주문번호", " | ", "*지정바람", "네이버"), dtos);
 
         // released, released_at 설정
         deliveryReadyNaverBusinessService.updateListToReleaseDeliveryReadyItem(viewDtos);
@@ -614,7 +554,6 @@ public class DeliveryReadyNaverApiController {
      * <b>POST : API URL => /api/v1/delivery-ready/naver/view/download/tailo</b>
      *
      * @param viewDtos : List::DeliveryReadyNaverItemViewDto::
-     * @throws IOException
      * @see Message
      * @see HttpStatus
      * @see DeliveryReadyNaverBusinessService#releasedDeliveryReadyItem
@@ -622,138 +561,10 @@ public class DeliveryReadyNaverApiController {
     @PermissionRole
     @PostMapping("/view/download/tailo")
     public void downloadTailoExcelFile(HttpServletResponse response, @RequestBody List<DeliveryReadyNaverItemViewDto> viewDtos) {
-        List<DeliveryReadyItemTailoExcelFormDto> dtos = new ArrayList<>();
+        // 상품명 > 수취인명 > 주소 정렬
+        List<DeliveryReadyItemTailoExcelFormDto> dtos = deliveryReadyNaverBusinessService.changeDeliveryReadyItemToTailo(viewDtos);
 
-        for (DeliveryReadyNaverItemViewDto viewDto : viewDtos) {
-            dtos.add(DeliveryReadyItemTailoExcelFormDto.toTailoFormDto(viewDto));
-        }
-
-        // 상품명 > 수취인명 > 주소
-        Comparator<DeliveryReadyItemTailoExcelFormDto> comparing = Comparator
-                .comparing(DeliveryReadyItemTailoExcelFormDto::getProdMemo2)
-                .thenComparing(DeliveryReadyItemTailoExcelFormDto::getReceiver)
-                .thenComparing(DeliveryReadyItemTailoExcelFormDto::getDestination1);
-        dtos.sort(comparing);
-
-
-        // 엑셀 생성
-        Workbook workbook = new XSSFWorkbook();     // .xlsx
-        Sheet sheet = workbook.createSheet("테일로 발주서");
-        Row row = null;
-        Cell cell = null;
-        int rowNum = 0;
-
-        row = sheet.createRow(rowNum++);
-        cell = row.createCell(0);
-        cell.setCellValue("상품고유코드");
-        cell = row.createCell(1);
-        cell.setCellValue("판매상품명");
-        cell = row.createCell(2);
-        cell.setCellValue("수량");
-        cell = row.createCell(3);
-        cell.setCellValue("배송방식");
-        cell = row.createCell(4);
-        cell.setCellValue("주문자 이름");
-        cell = row.createCell(5);
-        cell.setCellValue("받는분 이름");
-        cell = row.createCell(6);
-        cell.setCellValue("전화번호1");
-        cell = row.createCell(7);
-        cell.setCellValue("전화번호2");
-        cell = row.createCell(8);
-        cell.setCellValue("우편번호");
-        cell = row.createCell(9);
-        cell.setCellValue("주소1");
-        cell = row.createCell(10);
-        cell.setCellValue("주소2");
-        cell = row.createCell(11);
-        cell.setCellValue("배송메세지");
-        cell = row.createCell(12);
-        cell.setCellValue("주문번호");
-        cell = row.createCell(13);
-        cell.setCellValue("관리메모1");
-        cell = row.createCell(14);
-        cell.setCellValue("관리메모2");
-        cell = row.createCell(15);
-        cell.setCellValue("관리메모3");
-        cell = row.createCell(16);
-        cell.setCellValue("관리메모4");
-        cell = row.createCell(17);
-        cell.setCellValue("관리메모5");
-        cell = row.createCell(18);
-        cell.setCellValue("상품별 메모1");
-        cell = row.createCell(19);
-        cell.setCellValue("상품별 메모2");
-        cell = row.createCell(20);
-        cell.setCellValue("상품별 메모3");
-        cell = row.createCell(21);
-        cell.setCellValue("발주 타입");
-        cell = row.createCell(22);
-        cell.setCellValue("출고희망일");
-
-        for (int i = 0; i < dtos.size(); i++) {
-            row = sheet.createRow(rowNum++);
-            cell = row.createCell(0);
-            cell.setCellValue(dtos.get(i).getProdUniqueCode());
-            cell = row.createCell(1);
-            cell.setCellValue(dtos.get(i).getSalesProdName());
-            cell = row.createCell(2);
-            cell.setCellValue(dtos.get(i).getUnit());
-            cell = row.createCell(3);
-            cell.setCellValue(dtos.get(i).getTransportType());
-            cell = row.createCell(4);
-            cell.setCellValue(dtos.get(i).getBuyer());
-            cell = row.createCell(5);
-            cell.setCellValue(dtos.get(i).getReceiver());
-            cell = row.createCell(6);
-            cell.setCellValue(dtos.get(i).getReceiverContact1());
-            cell = row.createCell(7);
-            cell.setCellValue(dtos.get(i).getReceiverContact2());
-            cell = row.createCell(8);
-            cell.setCellValue(dtos.get(i).getZipCode());
-            cell = row.createCell(9);
-            cell.setCellValue(dtos.get(i).getDestination1());
-            cell = row.createCell(10);
-            cell.setCellValue(dtos.get(i).getDestination2());
-            cell = row.createCell(11);
-            cell.setCellValue(dtos.get(i).getDeliveryMessage());
-            cell = row.createCell(12);
-            cell.setCellValue(dtos.get(i).getOrderNumber());
-            cell = row.createCell(13);
-            cell.setCellValue(dtos.get(i).getManagementMemo1());
-            cell = row.createCell(14);
-            cell.setCellValue(dtos.get(i).getManagementMemo2());
-            cell = row.createCell(15);
-            cell.setCellValue(dtos.get(i).getManagementMemo3());
-            cell = row.createCell(16);
-            cell.setCellValue(dtos.get(i).getManagementMemo4());
-            cell = row.createCell(17);
-            cell.setCellValue(dtos.get(i).getManagementMemo5());
-            cell = row.createCell(18);
-            cell.setCellValue(dtos.get(i).getProdMemo1());
-            cell = row.createCell(19);
-            cell.setCellValue(dtos.get(i).getProdMemo2());
-            cell = row.createCell(20);
-            cell.setCellValue(dtos.get(i).getProdMemo3());
-            cell = row.createCell(21);
-            cell.setCellValue(dtos.get(i).getOrderType());
-            cell = row.createCell(22);
-            cell.setCellValue(dtos.get(i).getReleaseDesiredDate());
-        }
-
-        for (int i = 0; i < 23; i++) {
-            sheet.autoSizeColumn(i);
-        }
-
-        response.setContentType("ms-vnd/excel");
-        response.setHeader("Content-Disposition", "attachment;filename=example.xlsx");
-
-        try {
-            workbook.write(response.getOutputStream());
-            workbook.close();
-        } catch (IOException e) {
-            throw new IllegalArgumentException();
-        }
+        CustomExcelStreamWriter.writeToResponse(response, DeliveryReadyItemTailoExcelFormDto.toSheetTemplate(), dtos);
 
         // released, released_at 설정
         deliveryReadyNaverBusinessService.updateListToReleaseDeliveryReadyItem(viewDtos);
@@ -765,7 +576,6 @@ public class DeliveryReadyNaverApiController {
      * <b>POST : API URL => /api/v1/delivery-ready/naver/view/download/lotte</b>
      *
      * @param viewDtos : List::DeliveryReadyNaverItemViewDto::
-     * @throws IOException
      * @see Message
      * @see HttpStatus
      */
@@ -782,107 +592,7 @@ public class DeliveryReadyNaverApiController {
                 .thenComparing(DeliveryReadyItemLotteExcelFormDto::getProdName1);
         dtos.sort(comparing);
 
-
-        // 엑셀 생성
-        Workbook workbook = new XSSFWorkbook();     // .xlsx
-        Sheet sheet = workbook.createSheet("롯데 발주서");
-        Row row = null;
-        Cell cell = null;
-        int rowNum = 0;
-
-        row = sheet.createRow(rowNum++);
-        cell = row.createCell(0);
-        cell.setCellValue("받는사람");
-        cell = row.createCell(1);
-        cell.setCellValue("우편번호");
-        cell = row.createCell(2);
-        cell.setCellValue("주소");
-        cell = row.createCell(3);
-        cell.setCellValue("전화번호1");
-        cell = row.createCell(4);
-        cell.setCellValue("전화번호2");
-        cell = row.createCell(5);
-        cell.setCellValue("배송메시지");
-        cell = row.createCell(6);
-        cell.setCellValue("불필요한항목");
-        cell = row.createCell(7);
-        cell.setCellValue("보내는사람(지정)");
-        cell = row.createCell(8);
-        cell.setCellValue("전화번호1(지정)");
-        cell = row.createCell(9);
-        cell.setCellValue("주소(지정)");
-        cell = row.createCell(10);
-        cell.setCellValue("수량(A타입)");
-        cell = row.createCell(11);
-        cell.setCellValue("상품명1");
-        cell = row.createCell(12);
-        cell.setCellValue("상품상세1");
-        cell = row.createCell(13);
-        cell.setCellValue("내품수량1");
-        cell = row.createCell(14);
-        cell.setCellValue("상품코드1");
-        cell = row.createCell(15);
-        cell.setCellValue("상품코드2");
-        cell = row.createCell(16);
-        cell.setCellValue("상품상세2");
-        cell = row.createCell(17);
-        cell.setCellValue("총 상품주문번호");
-        cell = row.createCell(18);
-        cell.setCellValue("총 상품정보");
-
-        for (int i = 0; i < dtos.size(); i++) {
-            row = sheet.createRow(rowNum++);
-            cell = row.createCell(0);
-            cell.setCellValue(dtos.get(i).getReceiver());
-            cell = row.createCell(1);
-            cell.setCellValue(dtos.get(i).getZipCode());
-            cell = row.createCell(2);
-            cell.setCellValue(dtos.get(i).getDestination());
-            cell = row.createCell(3);
-            cell.setCellValue(dtos.get(i).getReceiverContact1());
-            cell = row.createCell(4);
-            cell.setCellValue(dtos.get(i).getReceiverContact2());
-            cell = row.createCell(5);
-            cell.setCellValue(dtos.get(i).getDeliveryMessage());
-            cell = row.createCell(6);
-            cell.setCellValue(dtos.get(i).getUnnecessaryCell());
-            cell = row.createCell(7);
-            cell.setCellValue(dtos.get(i).getSender());
-            cell = row.createCell(8);
-            cell.setCellValue(dtos.get(i).getSenderContact1());
-            cell = row.createCell(9);
-            cell.setCellValue(dtos.get(i).getSenderAddress());
-            cell = row.createCell(10);
-            cell.setCellValue(dtos.get(i).getUnitA());
-            cell = row.createCell(11);
-            cell.setCellValue(dtos.get(i).getAllProdInfo());
-            cell = row.createCell(12);
-            cell.setCellValue("");
-            cell = row.createCell(13);
-            cell.setCellValue("");
-            cell = row.createCell(14);
-            cell.setCellValue(dtos.get(i).getOrderNumber());
-            cell = row.createCell(15);
-            cell.setCellValue(dtos.get(i).getProdOrderNumber());
-            cell = row.createCell(16);
-            cell.setCellValue(dtos.get(i).getPlatformName());
-            cell = row.createCell(17);
-            cell.setCellValue(dtos.get(i).getAllProdOrderNumber());
-        }
-
-        for (int i = 0; i < 18; i++) {
-            sheet.autoSizeColumn(i);
-        }
-
-        response.setContentType("ms-vnd/excel");
-        response.setHeader("Content-Disposition", "attachment;filename=example.xlsx");
-
-        try {
-            workbook.write(response.getOutputStream());
-            workbook.close();
-        } catch (IOException e) {
-            throw new IllegalArgumentException();
-        }
+        CustomExcelStreamWriter.writeToResponse(response, DeliveryReadyItemLotteExcelFormDto.toSheetTemplate(), dtos);
 
         // released, released_at 설정
         deliveryReadyNaverBusinessService.updateListToReleaseDeliveryReadyItem(viewDtos);
@@ -897,158 +607,6 @@ public class DeliveryReadyNaverApiController {
             dtos.add(DeliveryReadyNaverItemExcelFormDto.toNaverFormDto(viewDto));
         }
 
-        // 엑셀 생성
-        Workbook workbook = new XSSFWorkbook();     // .xlsx
-        Sheet sheet = workbook.createSheet("네이버 배송준비 데이터");
-        Row row = null;
-        Cell cell = null;
-        int rowNum = 0;
-
-        SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
-
-        row = sheet.createRow(rowNum++);
-        cell = row.createCell(0);
-        cell.setCellValue("상품주문번호");
-        cell = row.createCell(1);
-        cell.setCellValue("주문번호");
-        cell = row.createCell(2);
-        cell.setCellValue("구매자명");
-        cell = row.createCell(3);
-        cell.setCellValue("구매자ID");
-        cell = row.createCell(4);
-        cell.setCellValue("수취인명");
-        cell = row.createCell(5);
-        cell.setCellValue("피아르 상품관리명");
-        cell = row.createCell(6);
-        cell.setCellValue("피아르 상품제조번호");
-        cell = row.createCell(7);
-        cell.setCellValue("피아르 옵션관리코드");
-        cell = row.createCell(8);
-        cell.setCellValue("피아르 옵션관리명1");
-        cell = row.createCell(9);
-        cell.setCellValue("피아르 옵션관리명2");
-        cell = row.createCell(10);
-        cell.setCellValue("수량");
-        cell = row.createCell(11);
-        cell.setCellValue("재고수량");
-        cell = row.createCell(12);
-        cell.setCellValue("결제일");
-        cell = row.createCell(13);
-        cell.setCellValue("발주확인일");
-        cell = row.createCell(14);
-        cell.setCellValue("발송기한");
-        cell = row.createCell(15);
-        cell.setCellValue("배송비 묶음번호");
-        cell = row.createCell(16);
-        cell.setCellValue("상품번호");
-        cell = row.createCell(17);
-        cell.setCellValue("판매자 상품코드");
-        cell = row.createCell(18);
-        cell.setCellValue("상품명");
-        cell = row.createCell(19);
-        cell.setCellValue("옵션정보");
-        cell = row.createCell(20);
-        cell.setCellValue("노스노스 고유번호");
-        cell = row.createCell(21);
-        cell.setCellValue("수취인연락처1");
-        cell = row.createCell(22);
-        cell.setCellValue("수취인연락처2");
-        cell = row.createCell(23);
-        cell.setCellValue("우편번호");
-        cell = row.createCell(24);
-        cell.setCellValue("배송지");
-        cell = row.createCell(25);
-        cell.setCellValue("구매자연락처");
-        cell = row.createCell(26);
-        cell.setCellValue("배송메세지");
-        cell = row.createCell(27);
-        cell.setCellValue("주문일시");
-        cell = row.createCell(28);
-        cell.setCellValue("출고여부");
-        cell = row.createCell(29);
-        cell.setCellValue("출고일시");
-
-        for (int i = 0; i < dtos.size(); i++) {
-            row = sheet.createRow(rowNum++);
-            cell = row.createCell(0);
-            cell.setCellValue(dtos.get(i).getProdOrderNumber());
-            cell = row.createCell(1);
-            cell.setCellValue(dtos.get(i).getOrderNumber());
-            cell = row.createCell(2);
-            cell.setCellValue(dtos.get(i).getBuyer());
-            cell = row.createCell(3);
-            cell.setCellValue(dtos.get(i).getBuyerId());
-            cell = row.createCell(4);
-            cell.setCellValue(dtos.get(i).getReceiver());
-            cell = row.createCell(5);
-            cell.setCellValue(dtos.get(i).getProdManagementName());
-            cell = row.createCell(6);
-            cell.setCellValue(dtos.get(i).getProdManufacturingCode());
-            cell = row.createCell(7);
-            cell.setCellValue(dtos.get(i).getOptionManagementCode());
-            cell = row.createCell(8);
-            cell.setCellValue(dtos.get(i).getOptionDefaultName());
-            cell = row.createCell(9);
-            cell.setCellValue(dtos.get(i).getOptionManagementName());
-            cell = row.createCell(10);
-            cell.setCellValue(dtos.get(i).getUnit());
-            cell = row.createCell(11);
-            cell.setCellValue(dtos.get(i).getOptionStockUnit());
-            cell = row.createCell(12);
-            cell.setCellValue(dtos.get(i).getPaymentDate() != null ? dateFormat.format(dtos.get(i).getPaymentDate()) : null);
-            cell = row.createCell(13);
-            cell.setCellValue(dtos.get(i).getOrderConfirmationDate() != null ? dateFormat.format(dtos.get(i).getOrderConfirmationDate()) : null);
-            cell = row.createCell(14);
-            cell.setCellValue(dtos.get(i).getShipmentDueDate() != null ? dateFormat.format(dtos.get(i).getShipmentDueDate()) : null);
-            cell = row.createCell(15);
-            cell.setCellValue(dtos.get(i).getShipmentCostBundleNumber());
-            cell = row.createCell(16);
-            cell.setCellValue(dtos.get(i).getProdNumber());
-            cell = row.createCell(17);
-            cell.setCellValue(dtos.get(i).getSellerProdCode());
-            cell = row.createCell(18);
-            cell.setCellValue(dtos.get(i).getProdName());
-            cell = row.createCell(19);
-            cell.setCellValue(dtos.get(i).getOptionInfo());
-            cell = row.createCell(20);
-            cell.setCellValue(dtos.get(i).getOptionNosUniqueCode());
-            cell = row.createCell(21);
-            cell.setCellValue(dtos.get(i).getReceiverContact1());
-            cell = row.createCell(22);
-            cell.setCellValue(dtos.get(i).getReceiverContact2());
-            cell = row.createCell(23);
-            cell.setCellValue(dtos.get(i).getZipCode());
-            cell = row.createCell(24);
-            cell.setCellValue(dtos.get(i).getDestination());
-            cell = row.createCell(25);
-            cell.setCellValue(dtos.get(i).getBuyerContact());
-            cell = row.createCell(26);
-            cell.setCellValue(dtos.get(i).getDeliveryMessage());
-            cell = row.createCell(27);
-            cell.setCellValue(dtos.get(i).getOrderDateTime() != null ? dateFormat.format(dtos.get(i).getOrderDateTime()) : null);
-            cell = row.createCell(28);
-            if (dtos.get(i).getReleased()) {
-                cell.setCellValue("O");
-            } else {
-                cell.setCellValue("X");
-            }
-            cell = row.createCell(29);
-            cell.setCellValue(dtos.get(i).getReleasedAt() != null ? dateFormat.format(dtos.get(i).getReleasedAt()) : null);
-
-        }
-
-        for (int i = 0; i < 30; i++) {
-            sheet.autoSizeColumn(i);
-        }
-
-        response.setContentType("ms-vnd/excel");
-        response.setHeader("Content-Disposition", "attachment;filename=example.xlsx");
-
-        try {
-            workbook.write(response.getOutputStream());
-            workbook.close();
-        } catch (IOException e) {
-            throw new IllegalArgumentException();
-        }
+        CustomExcelStreamWriter.writeToResponse(response, DeliveryReadyNaverItemExcelFormDto.toSheetTemplate(), dtos);
     }
 }
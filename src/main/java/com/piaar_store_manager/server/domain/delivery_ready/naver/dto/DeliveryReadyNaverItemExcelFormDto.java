@@ -2,6 +2,9 @@ package com.piaar_store_manager.server.domain.delivery_ready.naver.dto;
 
 import java.time.LocalDateTime;
 
+import com.piaar_store_manager.server.utils.CustomDateUtils;
+import com.piaar_store_manager.server.utils.CustomExcelStreamWriter.SheetTemplate;
+
 import lombok.Builder;
 import lombok.Data;
 
@@ -83,4 +86,50 @@ public class DeliveryReadyNaverItemExcelFormDto {
 
         return formDto;
     }
+
+    /**
+     * <b>Excel Form Method</b>
+     * <p>
+     * 네이버 배송준비 데이터 양식. 일시는 yyyy-MM-dd HH:mm:ss 형식의 문자열로 작성한다.
+     *
+     * @return SheetTemplate::DeliveryReadyNaverItemExcelFormDto::
+     */
+    public static SheetTemplate<DeliveryReadyNaverItemExcelFormDto> toSheetTemplate() {
+        return SheetTemplate.<DeliveryReadyNaverItemExcelFormDto>builder("네이버 배송준비 데이터")
+                .column("상품주문번호", DeliveryReadyNaverItemExcelFormDto::getProdOrderNumber)
+                .column("주문번호", DeliveryReadyNaverItemExcelFormDto::getOrderNumber)
+                .column("구매자명", DeliveryReadyNaverItemExcelFormDto::getBuyer)
+                .column("구매자ID", DeliveryReadyNaverItemExcelFormDto::getBuyerId)
+                .column("수취인명", DeliveryReadyNaverItemExcelFormDto::getReceiver)
+                .column("피아르 상품관리명", DeliveryReadyNaverItemExcelFormDto::getProdManagementName)
+                .column("피아르 상품제조번호", DeliveryReadyNaverItemExcelFormDto::getProdManufacturingCode)
+                .column("피아르 옵션관리코드", DeliveryReadyNaverItemExcelFormDto::getOptionManagementCode)
+                .column("피아르 옵션관리명1", DeliveryReadyNaverItemExcelFormDto::getOptionDefaultName)
+                .column("피아르 옵션관리명2", DeliveryReadyNaverItemExcelFormDto::getOptionManagementName)
+                .column("수량", DeliveryReadyNaverItemExcelFormDto::getUnit)
+                .column("재고수량", DeliveryReadyNaverItemExcelFormDto::getOptionStockUnit)
+                .column("결제일", dto -> formatDateTime(dto.getPaymentDate()))
+                .column("발주확인일", dto -> formatDateTime(dto.getOrderConfirmationDate()))
+                .column("발송기한", dto -> formatDateTime(dto.getShipmentDueDate()))
+                .column("배송비 묶음번호", DeliveryReadyNaverItemExcelFormDto::getShipmentCostBundleNumber)
+                .column("상품번호", DeliveryReadyNaverItemExcelFormDto::getProdNumber)
+                .column("판매자 상품코드", DeliveryReadyNaverItemExcelFormDto::getSellerProdCode)
+                .column("상품명", DeliveryReadyNaverItemExcelFormDto::getProdName)
+                .column("옵션정보", DeliveryReadyNaverItemExcelFormDto::getOptionInfo)
+                .column("노스노스 고유번호", DeliveryReadyNaverItemExcelFormDto::getOptionNosUniqueCode)
+                .column("수취인연락처1", DeliveryReadyNaverItemExcelFormDto::getReceiverContact1)
+                .column("수취인연락처2", DeliveryReadyNaverItemExcelFormDto::getReceiverContact2)
+                .column("우편번호", DeliveryReadyNaverItemExcelFormDto::getZipCode)
+                .column("배송지", DeliveryReadyNaverItemExcelFormDto::getDestination)
+                .column("구매자연락처", DeliveryReadyNaverItemExcelFormDto::getBuyerContact)
+                .column("배송메세지", DeliveryReadyNaverItemExcelFormDto::getDeliveryMessage)
+                .column("주문일시", dto -> formatDateTime(dto.getOrderDateTime()))
+                .column("출고여부", dto -> Boolean.TRUE.equals(dto.getReleased()) ? "O" : "X")
+                .column("출고일시", dto -> formatDateTime(dto.getReleasedAt()))
+                .build();
+    }
+
+    private static String formatDateTime(LocalDateTime dateTime) {
+        return dateTime != null ? CustomDateUtils.getLocalDateTimeToyyyyMMddHHmmss(dateTime) : null;
+    }
 }
@@ -9,7 +9,9 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 
 import com.piaar_store_manager.server.domain.delivery_ready.naver.dto.DeliveryReadyNaverItemDto;
 
@@ -27,7 +29,12 @@ import lombok.experimental.Accessors;
 @Builder
 @Getter @Setter
 @ToString
-@Table(name = "delivery_ready_naver_item")
+@Table(name = "delivery_ready_naver_item", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_delivery_ready_naver_item_prod_order_number", columnNames = {"prod_order_number"})
+}, indexes = {
+        @Index(name = "idx_delivery_ready_naver_item_released_released_at", columnList = "released, released_at"),
+        @Index(name = "idx_delivery_ready_naver_item_created_at", columnList = "created_at")
+})
 @Accessors(chain = true)
 @NoArgsConstructor
 @AllArgsConstructor
@@ -38,7 +45,7 @@ public class DeliveryReadyNaverItemEntity {
     @Column(name = "cid")
     private Integer cid;
 
-    @Type(type = "uuid-char")
+    @Type(type = "uuid-compact")
     @Column(name = "id")
     private UUID id;
 
@@ -0,0 +1,13 @@
+package com.piaar_store_manager.server.domain.delivery_ready.naver.repository;
+
+import java.util.List;
+
+import com.piaar_store_manager.server.domain.delivery_ready.naver.entity.DeliveryReadyNaverItemEntity;
+
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DeliveryReadyNaverItemCustomJdbc {
+    int jdbcBulkInsert(List<DeliveryReadyNaverItemEntity> entities);
+    int jdbcBulkUpdateReleaseCompleted(List<Integer> cids, boolean releaseCompleted);
+}
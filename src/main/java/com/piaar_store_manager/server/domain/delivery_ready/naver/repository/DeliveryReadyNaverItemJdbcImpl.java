@@ -0,0 +1,128 @@
+package com.piaar_store_manager.server.domain.delivery_ready.naver.repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.piaar_store_manager.server.config.jpa.UuidStorage;
+import com.piaar_store_manager.server.domain.delivery_ready.naver.entity.DeliveryReadyNaverItemEntity;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class DeliveryReadyNaverItemJdbcImpl implements DeliveryReadyNaverItemCustomJdbc {
+    // MySQL prepared statement 의 최대 파라미터 수
+    private static final int MAX_PARAMETER_COUNT = 65535;
+    // 컬럼명 - 값. cid 는 AUTO_INCREMENT 로 생성한다.
+    private final Map<String, Function<DeliveryReadyNaverItemEntity, Object>> columns = this.createColumns();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UuidStorage uuidStorage;
+
+    // INSERT 한 문장에 포함되는 행 수, UPDATE IN 절 한 문장에 포함되는 cid 수
+    @Value("${app.delivery-ready.bulk-batch-size:500}")
+    private int batchSize;
+
+    /**
+     * INSERT INTO delivery_ready_naver_item (...) VALUES (...), (...) 를 batchSize 개의 행 단위로 실행한다.
+     * IDENTITY 전략으로 인해 Hibernate 가 INSERT 를 한 행씩 실행하는 saveAll 대신 사용한다. 저장된 엔터티의 cid 는 채우지 않는다.
+     */
+    @Override
+    public int jdbcBulkInsert(List<DeliveryReadyNaverItemEntity> entities) {
+        int rowsPerStatement = Math.max(1, Math.min(batchSize, MAX_PARAMETER_COUNT / columns.size()));
+        String valuesClause = "(" + placeholders(columns.size()) + ")";
+        int insertedCount = 0;
+
+        for (int i = 0; i < entities.size(); i += rowsPerStatement) {
+            List<DeliveryReadyNaverItemEntity> chunk = entities.subList(i, Math.min(i + rowsPerStatement, entities.size()));
+            String sql = "INSERT INTO delivery_ready_naver_item (" + String.join(", ", columns.keySet()) + ") VALUES "
+                    + String.join(", ", Collections.nCopies(chunk.size(), valuesClause));
+
+            List<Object> params = new ArrayList<>(chunk.size() * columns.size());
+            chunk.forEach(entity -> columns.values().forEach(valueExtractor -> params.add(valueExtractor.apply(entity))));
+
+            insertedCount += jdbcTemplate.update(sql, params.toArray());
+        }
+        return insertedCount;
+    }
+
+    /**
+     * 재고 반영 여부를 cid 기준으로 batchSize 개씩 일괄 업데이트한다.
+     */
+    @Override
+    public int jdbcBulkUpdateReleaseCompleted(List<Integer> cids, boolean releaseCompleted) {
+        int updatedCount = 0;
+
+        for (int i = 0; i < cids.size(); i += batchSize) {
+            List<Integer> chunk = cids.subList(i, Math.min(i + batchSize, cids.size()));
+            String sql = "UPDATE delivery_ready_naver_item SET release_completed = ? WHERE cid IN (" + placeholders(chunk.size()) + ")";
+
+            List<Object> params = new ArrayList<>(chunk.size() + 1);
+            params.add(releaseCompleted);
+            params.addAll(chunk);
+
+            updatedCount += jdbcTemplate.update(sql, params.toArray());
+        }
+        return updatedCount;
+    }
+
+    private Map<String, Function<DeliveryReadyNaverItemEntity, Object>> createColumns() {
+        Map<String, Function<DeliveryReadyNaverItemEntity, Object>> columns = new LinkedHashMap<>();
+        columns.put("id", entity -> uuidStorage.toParameter(entity.getId()));
+        columns.put("prod_order_number", DeliveryReadyNaverItemEntity::getProdOrderNumber);
+        columns.put("order_number", DeliveryReadyNaverItemEntity::getOrderNumber);
+        columns.put("sales_channel", DeliveryReadyNaverItemEntity::getSalesChannel);
+        columns.put("buyer", DeliveryReadyNaverItemEntity::getBuyer);
+        columns.put("buyer_id", DeliveryReadyNaverItemEntity::getBuyerId);
+        columns.put("receiver", DeliveryReadyNaverItemEntity::getReceiver);
+        columns.put("payment_date", DeliveryReadyNaverItemEntity::getPaymentDate);
+        columns.put("prod_number", DeliveryReadyNaverItemEntity::getProdNumber);
+        columns.put("prod_name", DeliveryReadyNaverItemEntity::getProdName);
+        columns.put("option_info", DeliveryReadyNaverItemEntity::getOptionInfo);
+        columns.put("option_management_code", DeliveryReadyNaverItemEntity::getOptionManagementCode);
+        columns.put("unit", DeliveryReadyNaverItemEntity::getUnit);
+        columns.put("order_confirmation_date", DeliveryReadyNaverItemEntity::getOrderConfirmationDate);
+        columns.put("shipment_due_date", DeliveryReadyNaverItemEntity::getShipmentDueDate);
+        columns.put("shipment_cost_bundle_number", DeliveryReadyNaverItemEntity::getShipmentCostBundleNumber);
+        columns.put("seller_prod_code", DeliveryReadyNaverItemEntity::getSellerProdCode);
+        columns.put("seller_inner_code1", DeliveryReadyNaverItemEntity::getSellerInnerCode1);
+        columns.put("seller_inner_code2", DeliveryReadyNaverItemEntity::getSellerInnerCode2);
+        columns.put("receiver_contact1", DeliveryReadyNaverItemEntity::getReceiverContact1);
+        columns.put("receiver_contact2", DeliveryReadyNaverItemEntity::getReceiverContact2);
+        columns.put("destination", DeliveryReadyNaverItemEntity::getDestination);
+        columns.put("buyer_contact", DeliveryReadyNaverItemEntity::getBuyerContact);
+        columns.put("zip_code", DeliveryReadyNaverItemEntity::getZipCode);
+        columns.put("delivery_message", DeliveryReadyNaverItemEntity::getDeliveryMessage);
+        columns.put("release_area", DeliveryReadyNaverItemEntity::getReleaseArea);
+        columns.put("order_date_time", DeliveryReadyNaverItemEntity::getOrderDateTime);
+        columns.put("release_option_code", DeliveryReadyNaverItemEntity::getReleaseOptionCode);
+        columns.put("piaar_memo1", DeliveryReadyNaverItemEntity::getPiaarMemo1);
+        columns.put("piaar_memo2", DeliveryReadyNaverItemEntity::getPiaarMemo2);
+        columns.put("piaar_memo3", DeliveryReadyNaverItemEntity::getPiaarMemo3);
+        columns.put("piaar_memo4", DeliveryReadyNaverItemEntity::getPiaarMemo4);
+        columns.put("piaar_memo5", DeliveryReadyNaverItemEntity::getPiaarMemo5);
+        columns.put("piaar_memo6", DeliveryReadyNaverItemEntity::getPiaarMemo6);
+        columns.put("piaar_memo7", DeliveryReadyNaverItemEntity::getPiaarMemo7);
+        columns.put("piaar_memo8", DeliveryReadyNaverItemEntity::getPiaarMemo8);
+        columns.put("piaar_memo9", DeliveryReadyNaverItemEntity::getPiaarMemo9);
+        columns.put("piaar_memo10", DeliveryReadyNaverItemEntity::getPiaarMemo10);
+        columns.put("released", DeliveryReadyNaverItemEntity::getReleased);
+        columns.put("released_at", DeliveryReadyNaverItemEntity::getReleasedAt);
+        columns.put("created_at", DeliveryReadyNaverItemEntity::getCreatedAt);
+        columns.put("release_completed", DeliveryReadyNaverItemEntity::getReleaseCompleted);
+        columns.put("delivery_ready_file_cid", DeliveryReadyNaverItemEntity::getDeliveryReadyFileCid);
+        return Collections.unmodifiableMap(columns);
+    }
+
+    private String placeholders(int size) {
+        return String.join(", ", Collections.nCopies(size, "?"));
+    }
+}
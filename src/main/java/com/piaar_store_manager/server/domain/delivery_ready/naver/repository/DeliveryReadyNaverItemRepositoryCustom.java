@@ -0,0 +1,14 @@
+package com.piaar_store_manager.server.domain.delivery_ready.naver.repository;
+
+import java.util.Map;
+
+import com.piaar_store_manager.server.domain.delivery_ready.naver.proj.DeliveryReadyNaverItemViewProj;
+import com.piaar_store_manager.server.domain.pagenation.CursorPageDto;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DeliveryReadyNaverItemRepositoryCustom {
+    CursorPageDto<DeliveryReadyNaverItemViewProj> qfindViewByCursor(Map<String, Object> params, Pageable pageable);
+}
@@ -1,5 +1,7 @@
 package com.piaar_store_manager.server.domain.delivery_ready.naver.service;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.text.ParseException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -7,11 +9,11 @@ import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Comparator;
 import java.util.Date;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
@@ -22,7 +24,8 @@ import com.piaar_store_manager.server.domain.aws.s3.service.AwsS3Service;
 import com.piaar_store_manager.server.domain.delivery_ready.common.dto.DeliveryReadyItemHansanExcelFormDto;
 import com.piaar_store_manager.server.domain.delivery_ready.common.dto.DeliveryReadyItemLotteExcelFormDto;
 import com.piaar_store_manager.server.domain.delivery_ready.common.dto.DeliveryReadyItemOptionInfoResDto;
-import com.piaar_store_manager.server.domain.delivery_ready.common.proj.DeliveryReadyItemOptionInfoProj;
+import com.piaar_store_manager.server.domain.delivery_ready.common.dto.DeliveryReadyItemTailoExcelFormDto;
+import com.piaar_store_manager.server.domain.delivery_ready.common.service.DeliveryReadyCourierFormBuilder;
 import com.piaar_store_manager.server.domain.delivery_ready.naver.dto.DeliveryReadyNaverItemDto;
 import com.piaar_store_manager.server.domain.delivery_ready.naver.dto.DeliveryReadyNaverItemViewDto;
 import com.piaar_store_manager.server.domain.delivery_ready.naver.dto.DeliveryReadyNaverItemViewResDto;
@@ -30,43 +33,46 @@ import com.piaar_store_manager.server.domain.delivery_ready.naver.entity.Deliver
 import com.piaar_store_manager.server.domain.delivery_ready.naver.proj.DeliveryReadyNaverItemViewProj;
 import com.piaar_store_manager.server.domain.delivery_ready_file.dto.DeliveryReadyFileDto;
 import com.piaar_store_manager.server.domain.delivery_ready_file.entity.DeliveryReadyFileEntity;
-import com.piaar_store_manager.server.domain.option_package.entity.OptionPackageEntity;
-import com.piaar_store_manager.server.domain.option_package.service.OptionPackageService;
+import com.piaar_store_manager.server.domain.import_job.dto.ImportJobDto;
+import com.piaar_store_manager.server.domain.import_job.service.ImportJobBusinessService;
+import com.piaar_store_manager.server.domain.pagenation.CursorPageDto;
 import com.piaar_store_manager.server.domain.product_option.dto.ProductOptionGetDto;
-import com.piaar_store_manager.server.domain.product_option.entity.ProductOptionEntity;
+import com.piaar_store_manager.server.domain.product_catalog.dto.ProductCatalogEntry;
+import com.piaar_store_manager.server.domain.product_catalog.service.ProductCatalogCache;
 import com.piaar_store_manager.server.domain.product_option.service.ProductOptionService;
-import com.piaar_store_manager.server.domain.product_receive.dto.ProductReceiveGetDto;
-import com.piaar_store_manager.server.domain.product_receive.entity.ProductReceiveEntity;
-import com.piaar_store_manager.server.domain.product_receive.service.ProductReceiveService;
-import com.piaar_store_manager.server.domain.product_release.dto.ProductReleaseGetDto;
-import com.piaar_store_manager.server.domain.product_release.entity.ProductReleaseEntity;
-import com.piaar_store_manager.server.domain.product_release.service.ProductReleaseService;
+import com.piaar_store_manager.server.domain.product_option_stock.dto.ProductOptionStockMovementDto;
+import com.piaar_store_manager.server.domain.product_option_stock.service.ProductOptionStockMovementService;
 import com.piaar_store_manager.server.domain.user.service.UserService;
+import com.piaar_store_manager.server.exception.CustomExcelFileUploadException;
 import com.piaar_store_manager.server.utils.CustomDateUtils;
 import com.piaar_store_manager.server.utils.CustomExcelUtils;
 import com.piaar_store_manager.server.utils.DateHandler;
+import com.piaar_store_manager.server.utils.CustomUuidUtils;
 
 import org.apache.commons.io.FilenameUtils;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class DeliveryReadyNaverBusinessService {
     private final DeliveryReadyNaverService deliveryReadyNaverService;
-    private final ProductReleaseService productReleaseService;
-    private final ProductReceiveService productReceiveService;
     private final ProductOptionService productOptionService;
-    private final OptionPackageService optionPackageService;
+    private final ProductCatalogCache productCatalogCache;
+    private final ProductOptionStockMovementService productOptionStockMovementService;
     private final UserService userService;
     private final AwsS3Configuration awsS3Configuration;
     private final AwsS3Service awsS3Service;
+    private final ImportJobBusinessService importJobBusinessService;
     
     @Value("${file.upload-dir}")
     String fileLocation;
@@ -103,7 +109,7 @@ public class DeliveryReadyNaverBusinessService {
         for (int i = 2; i < worksheet.getPhysicalNumberOfRows(); i++) {
             Row row = worksheet.getRow(i);
 
-            DeliveryReadyNaverItemDto dto = DeliveryReadyNaverItemDto.builder().id(UUID.randomUUID())
+            DeliveryReadyNaverItemDto dto = DeliveryReadyNaverItemDto.builder().id(CustomUuidUtils.timeOrderedUuid())
                     .prodOrderNumber(row.getCell(0).getStringCellValue())
                     .orderNumber(row.getCell(1).getStringCellValue()).salesChannel(row.getCell(7).getStringCellValue())
                     .buyer(row.getCell(8) != null ? row.getCell(8).getStringCellValue() : "")
@@ -156,26 +162,86 @@ public class DeliveryReadyNaverBusinessService {
      * 업로드된 엑셀파일을 S3 저장하고, 파일과 데이터를 DB에 저장한다.
      *
      * @param file : MultipartFile
-     * @see DeliveryReadyNaverBusinessService#createFile
+     * @see DeliveryReadyNaverBusinessService#storeFile
      * @see DeliveryReadyNaverBusinessService#createItem
      */
     @Transactional
     public void storeDeliveryReadyExcelFile(MultipartFile file) {
+        // 파일 저장
+        DeliveryReadyFileDto fileDto = this.storeFile(file);
+        // 데이터 저장
+        this.createItem(file, fileDto);
+    }
+
+    /**
+     * <b>Import Job Related Method</b>
+     * <p>
+     * 업로드된 엑셀파일을 S3 및 DB에 저장한 후, 데이터 저장은 가져오기 작업으로 등록하고 즉시 반환한다.
+     * 가져오기 작업을 등록하지 못했다면 저장한 파일을 삭제한다.
+     *
+     * @param file : MultipartFile
+     * @return ImportJobDto
+     * @see DeliveryReadyNaverBusinessService#storeFile
+     * @see DeliveryReadyNaverBusinessService#deleteStoredFile
+     * @see DeliveryReadyNaverImportJobHandler
+     */
+    public ImportJobDto createImportJobForStore(MultipartFile file) {
+        DeliveryReadyFileDto fileDto = this.storeFile(file);
+
+        // 가져오기 작업을 등록하지 못했다면 저장한 파일을 삭제한다.
+        try (InputStream inputStream = file.getInputStream()) {
+            return importJobBusinessService.submit(DeliveryReadyNaverImportJobHandler.JOB_TYPE, file.getOriginalFilename(), inputStream, fileDto.getCid(), fileDto.getCreatedBy());
+        } catch (IOException e) {
+            this.deleteStoredFile(fileDto);
+            throw new CustomExcelFileUploadException("스마트스토어 배송 준비 엑셀 파일이 아닙니다.\n올바른 배송 준비 엑셀 파일을 업로드해주세요");
+        } catch (RuntimeException e) {
+            this.deleteStoredFile(fileDto);
+            throw e;
+        }
+    }
+
+    /**
+     * <b>S3 Upload Related Method</b>
+     * <p>
+     * 업로드된 엑셀파일을 S3 저장하고, 파일 정보를 DB에 저장한다.
+     *
+     * @param file : MultipartFile
+     * @return DeliveryReadyFileDto
+     * @see AwsS3Service#putObject
+     * @see DeliveryReadyNaverBusinessService#createFile
+     */
+    private DeliveryReadyFileDto storeFile(MultipartFile file) {
         String fileName = file.getOriginalFilename();
         String newFileName = "[NAVER_delivery_ready]" + UUID.randomUUID().toString().replaceAll("-", "") + fileName;
         String uploadPath = awsS3Configuration.getS3().get("bucket") + "/naver-order";
 
+        // 업로드마다 다른 이름으로 저장한다. 같은 이름의 파일이 덮어쓰이지 않고, 저장된 파일 정보로 삭제할 수 있다.
         AwsS3ReqDto reqDto = AwsS3ReqDto.builder()
             .uploadPath(uploadPath)
-            .fileName(fileName)
+            .fileName(newFileName)
             .file(file)
             .build();
         awsS3Service.putObject(reqDto);
 
-        // 파일 저장
-        DeliveryReadyFileDto fileDto = this.createFile(uploadPath, newFileName, (int)file.getSize());
-        // 데이터 저장
-        this.createItem(file, fileDto);
+        return this.createFile(uploadPath, newFileName, (int)file.getSize());
+    }
+
+    /**
+     * <b>S3 Delete Related Method</b>
+     * <p>
+     * storeFile 로 저장한 S3 파일과 파일 정보를 삭제한다. 삭제에 실패하더라도 원래의 오류를 반환하도록 예외를 던지지 않는다.
+     *
+     * @param fileDto : DeliveryReadyFileDto
+     * @see AwsS3Service#deleteObject
+     * @see DeliveryReadyNaverService#deleteFile
+     */
+    private void deleteStoredFile(DeliveryReadyFileDto fileDto) {
+        try {
+            awsS3Service.deleteObject(fileDto.getFilePath(), fileDto.getFileName());
+            deliveryReadyNaverService.deleteFile(fileDto.getCid());
+        } catch (RuntimeException e) {
+            log.error("delivery ready file delete failed. fileCid={}", fileDto.getCid(), e);
+        }
     }
     
     /**
@@ -216,12 +282,27 @@ public class DeliveryReadyNaverBusinessService {
      *
      * @param file : MultipartFile
      * @param fileDto : DeliveryReadyFileDto
-     * @see DeliveryReadyNaverBusinessService#getDeliveryReadyNaverExcelItem
-     * @see DeliveryReadyNaverService#saveAndModifyForItemList
+     * @see DeliveryReadyNaverBusinessService#readItemEntities
+     * @see DeliveryReadyNaverService#bulkInsertItemList
      */
     public void createItem(MultipartFile file, DeliveryReadyFileDto fileDto) {
-        Integer SHEET_INDEX = 0;
         Workbook workbook = CustomExcelUtils.getWorkbook(file);
+        List<DeliveryReadyNaverItemEntity> entities = this.readItemEntities(workbook, fileDto);
+        deliveryReadyNaverService.bulkInsertItemList(entities);
+    }
+
+    /**
+     * <b>Data Processing Related Method</b>
+     * <p>
+     * 배송준비 엑셀 파일에서 저장되지 않은 데이터를 읽어 상품명 > 옵션정보 > 수취인명 순으로 정렬한다.
+     *
+     * @param workbook : Workbook
+     * @param fileDto : DeliveryReadyFileDto
+     * @return List::DeliveryReadyNaverItemEntity::
+     * @see DeliveryReadyNaverBusinessService#getDeliveryReadyNaverExcelItem
+     */
+    public List<DeliveryReadyNaverItemEntity> readItemEntities(Workbook workbook, DeliveryReadyFileDto fileDto) {
+        Integer SHEET_INDEX = 0;
         Sheet sheet = workbook.getSheetAt(SHEET_INDEX);
         List<DeliveryReadyNaverItemDto> dtos = this.getDeliveryReadyNaverExcelItem(sheet, fileDto);
         
@@ -230,8 +311,7 @@ public class DeliveryReadyNaverBusinessService {
                 .thenComparing(DeliveryReadyNaverItemDto::getOptionInfo)
                 .thenComparing(DeliveryReadyNaverItemDto::getReceiver));
 
-        List<DeliveryReadyNaverItemEntity> entities = dtos.stream().map(dto -> DeliveryReadyNaverItemEntity.toEntity(dto)).collect(Collectors.toList());
-        deliveryReadyNaverService.saveAndModifyForItemList(entities);
+        return dtos.stream().map(dto -> DeliveryReadyNaverItemEntity.toEntity(dto)).collect(Collectors.toList());
     }
 
     /**
@@ -241,13 +321,17 @@ public class DeliveryReadyNaverBusinessService {
      *
      * @param worksheet : Sheet
      * @param fileDto : DeliveryReadyFileDto
-     * @see DeliveryReadyNaverService#findAllProdOrderNubmer
+     * @see DeliveryReadyNaverService#searchStoredProdOrderNumbers
      */
     private List<DeliveryReadyNaverItemDto> getDeliveryReadyNaverExcelItem(Sheet worksheet, DeliveryReadyFileDto fileDto) {
         List<DeliveryReadyNaverItemDto> dtos = new ArrayList<>();
 
-        // 상품주문번호를 모두 가져온다.
-        Set<String> storedProdOrderNumber = deliveryReadyNaverService.findAllProdOrderNubmer();
+        // 파일의 상품주문번호 중 이미 저장된 상품주문번호를 가져온다.
+        List<String> prodOrderNumbers = new ArrayList<>();
+        for(int i = 2; i < worksheet.getPhysicalNumberOfRows(); i++) {
+            prodOrderNumbers.add(worksheet.getRow(i).getCell(0).getStringCellValue());
+        }
+        Set<String> storedProdOrderNumber = deliveryReadyNaverService.searchStoredProdOrderNumbers(prodOrderNumbers);
 
         for(int i = 2; i < worksheet.getPhysicalNumberOfRows(); i++) {
             Row row = worksheet.getRow(i);
@@ -258,7 +342,7 @@ public class DeliveryReadyNaverBusinessService {
             }
 
             DeliveryReadyNaverItemDto dto = DeliveryReadyNaverItemDto.builder()
-                .id(UUID.randomUUID())
+                .id(CustomUuidUtils.timeOrderedUuid())
                 .prodOrderNumber(row.getCell(0).getStringCellValue())
                 .orderNumber(row.getCell(1).getStringCellValue())
                 .salesChannel(row.getCell(7).getStringCellValue())
@@ -353,6 +437,30 @@ public class DeliveryReadyNaverBusinessService {
         return itemViewResDto;
     }
 
+    /**
+     * <b>DB Select Related Method</b>
+     * <p>
+     * DeliveryReadyItem 중 조회 조건에 대응하는 데이터를 커서 이후부터 pageSize 개 조회한다. (keyset 페이지 조회)
+     * 옵션재고수량은 조회된 페이지의 데이터만 재설정한다.
+     *
+     * @param params   : Map[releasedYn, startDate, endDate, searchColumnName, searchQuery, cursor]
+     * @param pageable : Pageable
+     * @return CursorPageDto::DeliveryReadyNaverItemDto.ViewReqAndRes::
+     * @see DeliveryReadyNaverService#findViewByCursor
+     * @see DeliveryReadyNaverBusinessService#changeOptionStockUnit
+     */
+    public CursorPageDto<DeliveryReadyNaverItemDto.ViewReqAndRes> getDeliveryReadyViewByCursor(Map<String, Object> params, Pageable pageable) {
+        CursorPageDto<DeliveryReadyNaverItemViewProj> itemPage = deliveryReadyNaverService.findViewByCursor(params, pageable);
+        List<DeliveryReadyNaverItemDto.ViewReqAndRes> itemViewResDto = this.changeOptionStockUnit(itemPage.getContent());
+
+        return CursorPageDto.<DeliveryReadyNaverItemDto.ViewReqAndRes>builder()
+                .content(itemViewResDto)
+                .size(itemPage.getSize())
+                .hasNext(itemPage.getHasNext())
+                .nextCursor(itemPage.getNextCursor())
+                .build();
+    }
+
     /**
      * <b>Data Processing Related Method</b>
      * <p>
@@ -456,13 +564,14 @@ public class DeliveryReadyNaverBusinessService {
      * 등록된 모든 상품의 옵션정보들을 조회한다.
      *
      * @return List::DeliveryReadyItemOptionInfoResDto::
-     * @see DeliveryReadyNaverService#findAllOptionInfo
-     * @see DeliveryReadyItemOptionInfoProj#toResDtos
+     * @see ProductCatalogCache#getAll
      */
     public List<DeliveryReadyItemOptionInfoResDto> searchDeliveryReadyItemOptionInfo() {
-        List<DeliveryReadyItemOptionInfoProj> optionInfoProjs = deliveryReadyNaverService.findAllOptionInfo();
-        List<DeliveryReadyItemOptionInfoResDto> optionInfoDto = optionInfoProjs.stream().map(proj -> DeliveryReadyItemOptionInfoProj.toResDto(proj)).collect(Collectors.toList());
-        return optionInfoDto;
+        // 상품이 등록된 옵션만 반환한다.
+        return productCatalogCache.getAll().stream()
+                .filter(ProductCatalogEntry::hasProduct)
+                .map(DeliveryReadyItemOptionInfoResDto::toResDto)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -544,68 +653,15 @@ public class DeliveryReadyNaverBusinessService {
      *
      * @param viewDtos : List::DeliveryReadyNaverItemViewDto::
      * @return List::DeliveryReadyItemHansanExcelFormDto::
-     * @see DeliveryReadyNaverBusinessService#changeDuplicationHansanDtos
+     * @see DeliveryReadyItemHansanExcelFormDto#toFormDto
+     * @see DeliveryReadyCourierFormBuilder#buildHansanForms
      */
     public List<DeliveryReadyItemHansanExcelFormDto> changeDeliveryReadyItemToHansan(List<DeliveryReadyNaverItemViewDto> viewDtos) {
-        List<DeliveryReadyItemHansanExcelFormDto> excelFormDtos = this.changeDuplicationHansanDtos(viewDtos);     // 중복 데이터 처리
+        List<DeliveryReadyItemHansanExcelFormDto> formDtos = viewDtos.stream().map(dto -> DeliveryReadyItemHansanExcelFormDto.toFormDto(dto)).collect(Collectors.toList());
+        List<DeliveryReadyItemHansanExcelFormDto> excelFormDtos = DeliveryReadyCourierFormBuilder.buildHansanForms(formDtos);     // 중복 데이터 처리
         return excelFormDtos;
     }
 
-    /**
-     * <b>Data Processing Related Method</b>
-     * <p>
-     * (주문번호 + 받는사람 + 상품명(피아르 출고상품명) + 상품상세(피아르 출고옵션명)) 중복데이터 가공
-     *
-     * @param dtos : List::DeliveryReadyNaverItemViewDto::
-     * @return List::DeliveryReadyItemHansanExcelFormDto::
-     */
-    public List<DeliveryReadyItemHansanExcelFormDto> changeDuplicationHansanDtos(List<DeliveryReadyNaverItemViewDto> dtos) {
-        List<DeliveryReadyItemHansanExcelFormDto> newOrderList = new ArrayList<>();
-
-        // 받는사람 > 주문번호 > 상품명 > 상품상세 정렬
-        dtos.sort(Comparator.comparing((DeliveryReadyNaverItemViewDto dto) -> dto.getDeliveryReadyItem().getReceiver())
-                                .thenComparing((DeliveryReadyNaverItemViewDto dto) -> dto.getDeliveryReadyItem().getOrderNumber())
-                                .thenComparing((DeliveryReadyNaverItemViewDto dto) -> dto.getProdManagementName())
-                                .thenComparing((DeliveryReadyNaverItemViewDto dto) -> dto.getOptionManagementName()));
-
-        Set<String> optionSet = new HashSet<>();        // 받는사람 + 주소 + 상품명 + 상품상세
-
-        for(int i = 0; i < dtos.size(); i++){
-            StringBuilder sb = new StringBuilder();
-            sb.append(dtos.get(i).getDeliveryReadyItem().getReceiver());
-            sb.append(dtos.get(i).getDeliveryReadyItem().getDestination());
-            sb.append(dtos.get(i).getProdManagementName());
-            sb.append(dtos.get(i).getOptionManagementName());
-
-            StringBuilder receiverSb = new StringBuilder();
-            receiverSb.append(dtos.get(i).getDeliveryReadyItem().getReceiver());
-            receiverSb.append(dtos.get(i).getDeliveryReadyItem().getReceiverContact1());
-            receiverSb.append(dtos.get(i).getDeliveryReadyItem().getDestination());
-
-            String resultStr = sb.toString();
-            String receiverStr = receiverSb.toString();
-            int prevOrderIdx = newOrderList.size()-1;   // 추가되는 데이터 리스트의 마지막 index
-
-            DeliveryReadyItemHansanExcelFormDto currentProd = DeliveryReadyItemHansanExcelFormDto.toFormDto(dtos.get(i));
-
-            // 받는사람 + 주소 + 상품명 + 상품상세 : 중복인 경우
-            if(!optionSet.add(resultStr)){
-                DeliveryReadyItemHansanExcelFormDto prevProd = newOrderList.get(prevOrderIdx);
-                
-                newOrderList.get(prevOrderIdx).setUnit(prevProd.getUnit() + currentProd.getUnit());     // 중복데이터의 수량을 더한다
-                newOrderList.get(prevOrderIdx).setAllProdOrderNumber(prevProd.getProdOrderNumber() + "/" + currentProd.getProdOrderNumber());     // 총 상품번호 수정
-            }else{
-                // 받는사람 + 번호 + 주소 : 중복인 경우
-                if(!optionSet.add(receiverStr)){
-                    newOrderList.get(prevOrderIdx).setDuplication(true);
-                    currentProd.setDuplication(true);
-                }
-                newOrderList.add(currentProd);
-            }
-        }
-        return newOrderList;
-    }
-
     /**
      * <b>Data Processing Related Method</b>
      * <p>
@@ -614,90 +670,27 @@ public class DeliveryReadyNaverBusinessService {
      * @param viewDtos : List::DeliveryReadyNaverItemViewDto::
      * @return List::DeliveryReadyItemLotteExcelFormDto::
      * @see DeliveryReadyItemLotteExcelFormDto#toFormDto
+     * @see DeliveryReadyCourierFormBuilder#buildLotteForms
      */
     public List<DeliveryReadyItemLotteExcelFormDto> changeDeliveryReadyItemToLotte(List<DeliveryReadyNaverItemViewDto> viewDtos) {
         List<DeliveryReadyItemLotteExcelFormDto> formDtos = viewDtos.stream().map(dto -> DeliveryReadyItemLotteExcelFormDto.toFormDto(dto)).collect(Collectors.toList());
-        List<DeliveryReadyItemLotteExcelFormDto> excelFormDtos = this.changeDuplicationLotteDtos(formDtos);     // 중복 데이터 처리
+        List<DeliveryReadyItemLotteExcelFormDto> excelFormDtos = DeliveryReadyCourierFormBuilder.buildLotteForms(formDtos);     // 중복 데이터 처리
         return excelFormDtos;
     }
-    
+
     /**
      * <b>Data Processing Related Method</b>
      * <p>
-     * (받는사람 + 주소 + 상품명 + 상품상세) 중복데이터 가공
-     * (받는사람 + 연락처 + 주소) 중복데이터 가공
+     * DeliveryReadyItem 다운로드 시 테일로 발주서 데이터로 변환하고 정렬한다.
      *
-     * @param dtos : List::DeliveryReadyItemLotteExcelFormDto::
-     * @return List::DeliveryReadyItemLotteExcelFormDto::
+     * @param viewDtos : List::DeliveryReadyNaverItemViewDto::
+     * @return List::DeliveryReadyItemTailoExcelFormDto::
+     * @see DeliveryReadyItemTailoExcelFormDto#toTailoFormDto
+     * @see DeliveryReadyCourierFormBuilder#buildTailoForms
      */
-    public List<DeliveryReadyItemLotteExcelFormDto> changeDuplicationLotteDtos(List<DeliveryReadyItemLotteExcelFormDto> dtos) {
-        List<DeliveryReadyItemLotteExcelFormDto> newOrderList = new ArrayList<>();
-        List<DeliveryReadyItemLotteExcelFormDto> resultList = new ArrayList<>();
-
-        // 받는사람 > 주소 > 상품명 > 상품상세 정렬
-        dtos.sort(Comparator.comparing(DeliveryReadyItemLotteExcelFormDto::getReceiver)
-                .thenComparing(DeliveryReadyItemLotteExcelFormDto::getDestination)
-                .thenComparing(DeliveryReadyItemLotteExcelFormDto::getProdName1)
-                .thenComparing(DeliveryReadyItemLotteExcelFormDto::getOptionInfo1));
-
-        Set<String> optionSet = new HashSet<>(); // 받는사람 + 주소 + 상품명 + 상품상세
-
-        for (int i = 0; i < dtos.size(); i++) {
-            StringBuilder sb = new StringBuilder();
-            sb.append(dtos.get(i).getReceiver());
-            sb.append(dtos.get(i).getDestination());
-            sb.append(dtos.get(i).getProdName1());
-            sb.append(dtos.get(i).getOptionInfo1());
-
-            String resultStr = sb.toString();
-            int prevOrderIdx = newOrderList.size() - 1;     // 추가되는 데이터 리스트의 마지막 index
-
-            // 받는사람 + 주소 + 상품명 + 상품상세 : 중복인 경우
-            if (!optionSet.add(resultStr)) {
-                DeliveryReadyItemLotteExcelFormDto prevProd = newOrderList.get(prevOrderIdx);
-                DeliveryReadyItemLotteExcelFormDto currentProd = dtos.get(i);
-                
-                prevProd.setUnit(prevProd.getUnit() + currentProd.getUnit());     // 중복데이터의 수량을 더한다
-                newOrderList.get(prevOrderIdx).setAllProdInfo(prevProd.getProdName1() + " [" + prevProd.getOptionInfo1() + "-" + prevProd.getUnit() + "]");
-                prevProd.setAllProdOrderNumber(prevProd.getAllProdOrderNumber() + "/" + currentProd.getProdOrderNumber());
-                newOrderList.get(prevOrderIdx).setAllProdOrderNumber(prevProd.getAllProdOrderNumber());   // 총 상품번호 수정
-            } else {
-                newOrderList.add(dtos.get(i));
-            }
-        }
-
-        String prevProdName = "";
-         
-        for (int i = 0; i < newOrderList.size(); i++) {
-            StringBuilder receiverSb = new StringBuilder();
-            receiverSb.append(newOrderList.get(i).getReceiver());
-            receiverSb.append(newOrderList.get(i).getReceiverContact1());
-            receiverSb.append(newOrderList.get(i).getDestination());
-            
-            String receiverStr = receiverSb.toString();
-            int prevOrderIdx = resultList.size() - 1;     // 추가되는 데이터 리스트의 마지막 index
-
-            // 받는사람 + 연락처 + 주소 + 상품상세 : 중복이 아니면서
-            // 받는사람 + 연락처 + 주소 : 중복인 경우
-            if (!optionSet.add(receiverStr)) {
-                DeliveryReadyItemLotteExcelFormDto prevProd = resultList.get(prevOrderIdx);
-                DeliveryReadyItemLotteExcelFormDto currentProd = newOrderList.get(i);
-
-                // 상품명이 동일한 경우, 중복처리 되었을 때 바로 이전의 상품명과 동일한 경우.
-                if(prevProd.getProdName1().equals(currentProd.getProdName1()) || prevProdName.equals(currentProd.getProdName1())){
-                    prevProdName = "";
-                    resultList.get(prevOrderIdx).setAllProdInfo(prevProd.getAllProdInfo() + " | " + "[" + currentProd.getOptionInfo1() + "-" + currentProd.getUnit() + "]");
-                }else{      // 상품명이 동일하지 않은 경우
-                    prevProdName = currentProd.getProdName1();
-                    resultList.get(prevOrderIdx).setAllProdInfo(prevProd.getAllProdInfo() + " | " + currentProd.getAllProdInfo());
-                }
-                resultList.get(prevOrderIdx).setAllProdOrderNumber(prevProd.getAllProdOrderNumber() + "/" + currentProd.getAllProdOrderNumber());    // 총 상품번호 수정
-            } else {
-                prevProdName = "";
-                resultList.add(newOrderList.get(i));
-            }
-        }
-        return resultList;
+    public List<DeliveryReadyItemTailoExcelFormDto> changeDeliveryReadyItemToTailo(List<DeliveryReadyNaverItemViewDto> viewDtos) {
+        List<DeliveryReadyItemTailoExcelFormDto> formDtos = viewDtos.stream().map(dto -> DeliveryReadyItemTailoExcelFormDto.toTailoFormDto(dto)).collect(Collectors.toList());
+        return DeliveryReadyCourierFormBuilder.buildTailoForms(formDtos);
     }
 
     /**
@@ -719,15 +712,11 @@ public class DeliveryReadyNaverBusinessService {
      * 재고 반영 시 출고완료 값을 변경한다.
      *
      * @param dtos : List::DeliveryReadyNaverItemViewDto::
-     * @see DeliveryReadyNaverItemEntity#toEntity
-     * @see DeliveryReadyNaverItemRepository#findById
-     * @see DeliveryReadyNaverItemRepository#save
+     * @see DeliveryReadyNaverService#bulkUpdateReleaseCompleted
      */
     public void updateListReleaseCompleted(List<DeliveryReadyNaverItemViewDto> dtos) {
         List<Integer> itemCids = dtos.stream().map(dto -> dto.getDeliveryReadyItem().getCid()).collect(Collectors.toList());
-        List<DeliveryReadyNaverItemEntity> entities = deliveryReadyNaverService.searchDeliveryReadyItemList(itemCids);
-        entities.stream().forEach(entity -> entity.setReleaseCompleted(true));
-        deliveryReadyNaverService.saveAndModifyForItemList(entities);
+        deliveryReadyNaverService.bulkUpdateReleaseCompleted(itemCids, true);
     }
 
     /**
@@ -737,29 +726,32 @@ public class DeliveryReadyNaverBusinessService {
      *
      * @param dtos : List::DeliveryReadyNaverItemViewDto::
      * @param reflected : boolean
-     * @see DeliveryReadyNaverService#searchDeliveryReadyItemList
-     * @see DeliveryReadyNaverService#createItemList
+     * @see DeliveryReadyNaverService#bulkUpdateReleaseCompleted
      */
     public void updateListReleaseCompleted(List<DeliveryReadyNaverItemViewDto> dtos, boolean reflected) {
         List<Integer> itemCids = dtos.stream().map(dto -> dto.getDeliveryReadyItem().getCid()).collect(Collectors.toList());
-        List<DeliveryReadyNaverItemEntity> entities = deliveryReadyNaverService.searchDeliveryReadyItemList(itemCids);
-        entities.stream().forEach(entity -> entity.setReleaseCompleted(reflected));
-        deliveryReadyNaverService.saveAndModifyForItemList(entities);
+        deliveryReadyNaverService.bulkUpdateReleaseCompleted(itemCids, reflected);
     }
 
     /**
-     * <b>DB Select Related Method</b>
+     * <b>Convert Method</b>
      * <p>
-     * 옵션관리 코드와 대응하는 상품옵션 데이터를 조회한다.
+     * 배송준비 데이터를 재고 입출고 요청으로 변환한다. 출고옵션코드로 옵션을 찾는다.
      *
-     * @param dto : List::DeliveryReadyNaverItemViewDto::
-     * @return List::ProductOptionEntity::
-     * @see ProductOptionService#findAllByCode
+     * @param dtos : List::DeliveryReadyNaverItemViewDto::
+     * @param memo : Function::DeliveryReadyNaverItemViewDto, String::
+     * @return List::ProductOptionStockMovementDto::
      */
-    public List<ProductOptionEntity> getOptionByCode(List<DeliveryReadyNaverItemViewDto> dtos) {
-        List<String> managementCodes = dtos.stream().map(r -> r.getDeliveryReadyItem().getReleaseOptionCode()).collect(Collectors.toList());
-        List<ProductOptionGetDto> optionGetDtos = productOptionService.searchListByOptionCodes(managementCodes);
-        return optionGetDtos.stream().map(dto -> ProductOptionEntity.toEntity(dto)).collect(Collectors.toList());
+    private List<ProductOptionStockMovementDto> toStockMovements(List<DeliveryReadyNaverItemViewDto> dtos, Function<DeliveryReadyNaverItemViewDto, String> memo) {
+        UUID USER_ID = userService.getUserId();
+
+        return dtos.stream().map(dto -> ProductOptionStockMovementDto.builder()
+                .optionCode(dto.getDeliveryReadyItem().getReleaseOptionCode())
+                .unit(dto.getDeliveryReadyItem().getUnit())
+                .memo(memo.apply(dto))
+                .createdBy(USER_ID)
+                .build()
+        ).collect(Collectors.toList());
     }
 
     /**
@@ -767,93 +759,19 @@ public class DeliveryReadyNaverBusinessService {
      * <b>Reflect the stock unit of product options.</b>
      * <p>
      * 배송준비 데이터의 출고완료 항목을 업데이트한다.
-     * 출고(재고 반영) 데이터를 생성하여 재고에 반영한다.
-     * 기본 옵션 상품과 세트 구성 상품을 분리하여 재고반영 처리한다.
+     * 출고(재고 반영) 데이터를 생성하여 재고에 반영한다. 세트상품은 구성옵션별로 분해되어 함께 반영된다.
      *
      * @param dtos : List::DeliveryReadyNaverItemViewDto::
-     * @param userId : UUID
-     * @see DeliveryReadyNaveBusinessService#updateListReleaseCompleted
-     * @see DeliveryReadyNaveBusinessService#getOptionByCode
-     * @see ProductReleaseGetDto#toDto
-     * @see productReleaseBusinessService#createPLList
+     * @see DeliveryReadyNaverBusinessService#updateListReleaseCompleted
+     * @see ProductOptionStockMovementService#release
      */
     @Transactional
     public void releaseListStockUnit(List<DeliveryReadyNaverItemViewDto> dtos) {
         // 재고반영이 선행되지 않은 데이터들만 재고 반영
         List<DeliveryReadyNaverItemViewDto> unreleasedDtos = dtos.stream().filter(dto -> ((!dto.getDeliveryReadyItem().getReleaseCompleted()) && (dto.getOptionManagementName() != null))).collect(Collectors.toList());
         this.updateListReleaseCompleted(unreleasedDtos, true);
-        
-        // 출고 옵션데이터 추출
-        List<ProductOptionEntity> optionEntities = this.getOptionByCode(unreleasedDtos);
-        // 1. 세트상품 X
-        List<ProductOptionEntity> originOptionEntities = optionEntities.stream().filter(r -> r.getPackageYn().equals("n")).collect(Collectors.toList());
-        // 2. 세트상품 O
-        List<ProductOptionEntity> parentOptionEntities = optionEntities.stream().filter(r -> r.getPackageYn().equals("y")).collect(Collectors.toList());
-        
-        this.reflectStockUnit(unreleasedDtos, originOptionEntities);
-
-        if(parentOptionEntities.size() > 0) {
-            this.reflectStockUnitOfPackageOption(unreleasedDtos, parentOptionEntities);
-        }
-    }
 
-    public void reflectStockUnit(List<DeliveryReadyNaverItemViewDto> unreleasedDtos, List<ProductOptionEntity> originOptionEntities) {
-        UUID USER_ID = userService.getUserId();
-        
-        // 1. 세트상품이 아닌 애들 재고반영
-        List<ProductReleaseEntity> productReleaseEntities = new ArrayList<>();
-        // 출고데이터 설정 및 생성
-        unreleasedDtos.stream().forEach(dto -> {
-            originOptionEntities.stream().forEach(option -> {
-                if (dto.getDeliveryReadyItem().getReleaseOptionCode().equals(option.getCode())) {
-                    ProductReleaseGetDto releaseGetDto = ProductReleaseGetDto.builder()
-                            .id(UUID.randomUUID())
-                            .releaseUnit(dto.getDeliveryReadyItem().getUnit())
-                            .memo(dto.getReleaseMemo())
-                            .createdAt(CustomDateUtils.getCurrentDateTime())
-                            .createdBy(USER_ID)
-                            .productOptionCid(option.getCid())
-                            .productOptionId(option.getId())
-                            .build();
-
-                    productReleaseEntities.add(ProductReleaseEntity.toEntity(releaseGetDto));
-                }
-            });
-        });
-        productReleaseService.saveListAndModify(productReleaseEntities);
-    }
-
-    public void reflectStockUnitOfPackageOption(List<DeliveryReadyNaverItemViewDto> unreleasedDtos, List<ProductOptionEntity> parentOptionEntities) {
-        UUID USER_ID = userService.getUserId();
-
-        // 1. 해당 옵션에 포함되는 하위 패키지 옵션들 추출
-        List<UUID> parentOptionIdList = parentOptionEntities.stream().map(r -> r.getId()).collect(Collectors.toList());
-        // 2. 구성된 옵션패키지 추출 - 여러 패키지들이 다 섞여있는 상태
-        List<OptionPackageEntity> optionPackageEntities = optionPackageService.searchListByParentOptionIdList(parentOptionIdList);
-
-        List<ProductReleaseEntity> productReleaseEntities = new ArrayList<>();
-        unreleasedDtos.forEach(dto -> {
-            parentOptionEntities.forEach(parentOption -> {
-                if (dto.getDeliveryReadyItem().getReleaseOptionCode().equals(parentOption.getCode())) {
-                    optionPackageEntities.forEach(option -> {
-                        if(option.getParentOptionId().equals(parentOption.getId())) {
-                            ProductReleaseGetDto releaseGetDto = ProductReleaseGetDto.builder()
-                                .id(UUID.randomUUID())
-                                .releaseUnit(option.getPackageUnit() * dto.getDeliveryReadyItem().getUnit())
-                                .memo(dto.getReleaseMemo())
-                                .createdAt(CustomDateUtils.getCurrentDateTime())
-                                .createdBy(USER_ID)
-                                .productOptionCid(option.getOriginOptionCid())
-                                .productOptionId(option.getOriginOptionId())
-                                .build();
-                            
-                            productReleaseEntities.add(ProductReleaseEntity.toEntity(releaseGetDto));
-                        }
-                    });
-                }
-            });
-        });
-        productReleaseService.saveListAndModify(productReleaseEntities);
+        productOptionStockMovementService.release(this.toStockMovements(unreleasedDtos, DeliveryReadyNaverItemViewDto::getReleaseMemo));
     }
 
     /**
@@ -861,15 +779,11 @@ public class DeliveryReadyNaverBusinessService {
      * <b>Cancel the stock unit reflection of product options.</b>
      * <p>
      * 배송준비 데이터의 출고완료 항목을 업데이트한다.
-     * 입고(재고 반영 취소) 데이터를 생성하여 재고에 반영한다.
-     * 기본 옵션 상품과 세트 구성 상품을 분리하여 재고반영 취소 처리한다.
+     * 입고(재고 반영 취소) 데이터를 생성하여 재고에 반영한다. 세트상품은 구성옵션별로 분해되어 함께 반영된다.
      *
      * @param dtos : List::DeliveryReadyNaverItemViewDto::
-     * @param userId : UUID
      * @see DeliveryReadyNaverBusinessService#updateListReleaseCompleted
-     * @see DeliveryReadyNaverBusinessService#getOptionByCode
-     * @see ProductReceiveGetDto#toDto
-     * @see productReceiveBusinessService#createPRList
+     * @see ProductOptionStockMovementService#receive
      */
     @Transactional
     public void cancelReleaseListStockUnit(List<DeliveryReadyNaverItemViewDto> dtos) {
@@ -877,74 +791,6 @@ public class DeliveryReadyNaverBusinessService {
         List<DeliveryReadyNaverItemViewDto> releasedDtos = dtos.stream().filter(dto -> (dto.getDeliveryReadyItem().getReleaseCompleted()) && (dto.getOptionManagementName() != null)).collect(Collectors.toList());
         this.updateListReleaseCompleted(releasedDtos, false);
 
-        // 옵션데이터 추출
-        List<ProductOptionEntity> optionEntities = this.getOptionByCode(releasedDtos);
-        // 1. 세트상품 X
-        List<ProductOptionEntity> originOptionEntities = optionEntities.stream().filter(r -> r.getPackageYn().equals("n")).collect(Collectors.toList());
-        // 2. 세트상품 O
-        List<ProductOptionEntity> parentOptionEntities = optionEntities.stream().filter(r -> r.getPackageYn().equals("y")).collect(Collectors.toList());
-
-        this.cancelReflectedStockUnit(releasedDtos, originOptionEntities);
-
-        if(parentOptionEntities.size() > 0) {
-            this.cancelReflectedStockUnitOfPackageOption(releasedDtos, parentOptionEntities);
-        }
-    }
-
-    public void cancelReflectedStockUnit(List<DeliveryReadyNaverItemViewDto> unreleasedDtos, List<ProductOptionEntity> originOptionEntities) {
-        UUID USER_ID = userService.getUserId();
-        
-        // 1. 세트상품이 아닌 애들 재고반영
-        List<ProductReceiveEntity> productReceiveEntities = new ArrayList<>();
-        // 출고 취소데이터 설정 및 생성
-        unreleasedDtos.forEach(dto -> {
-            originOptionEntities.forEach(option -> {
-                if (dto.getDeliveryReadyItem().getReleaseOptionCode().equals(option.getCode())) {
-                    ProductReceiveGetDto receiveGetDto = ProductReceiveGetDto.builder()
-                            .id(UUID.randomUUID())
-                            .receiveUnit(dto.getDeliveryReadyItem().getUnit())
-                            .memo(dto.getReceiveMemo())
-                            .createdAt(CustomDateUtils.getCurrentDateTime())
-                            .createdBy(USER_ID)
-                            .productOptionCid(option.getCid())
-                            .build();
-
-                    productReceiveEntities.add(ProductReceiveEntity.toEntity(receiveGetDto));
-                }
-            });
-        });
-        productReceiveService.saveListAndModify(productReceiveEntities);
-    }
-
-    public void cancelReflectedStockUnitOfPackageOption(List<DeliveryReadyNaverItemViewDto> unreleasedDtos, List<ProductOptionEntity> parentOptionEntities) {
-        UUID USER_ID = userService.getUserId();
-
-        // 1. 해당 옵션에 포함되는 하위 패키지 옵션들 추출
-        List<UUID> parentOptionIdList = parentOptionEntities.stream().map(r -> r.getId()).collect(Collectors.toList());
-        // 2. 구성된 옵션패키지 추출 - 여러 패키지들이 다 섞여있는 상태
-        List<OptionPackageEntity> optionPackageEntities = optionPackageService.searchListByParentOptionIdList(parentOptionIdList);
-
-        List<ProductReceiveEntity> productReceiveEntities = new ArrayList<>();
-        unreleasedDtos.forEach(dto -> {
-            parentOptionEntities.forEach(parentOption -> {
-                if (dto.getDeliveryReadyItem().getReleaseOptionCode().equals(parentOption.getCode())) {
-                    optionPackageEntities.forEach(option -> {
-                        if(option.getParentOptionId().equals(parentOption.getId())) {
-                            ProductReceiveGetDto receiveGetDto = ProductReceiveGetDto.builder()
-                                .id(UUID.randomUUID())
-                                .receiveUnit(option.getPackageUnit() * dto.getDeliveryReadyItem().getUnit())
-                                .memo(dto.getReceiveMemo())
-                                .createdAt(CustomDateUtils.getCurrentDateTime())
-                                .createdBy(USER_ID)
-                                .productOptionCid(option.getOriginOptionCid())
-                                .build();
-                            
-                            productReceiveEntities.add(ProductReceiveEntity.toEntity(receiveGetDto));
-                        }
-                    });
-                }
-            });
-        });
-        productReceiveService.saveListAndModify(productReceiveEntities);
+        productOptionStockMovementService.receive(this.toStockMovements(releasedDtos, DeliveryReadyNaverItemViewDto::getReceiveMemo));
     }
 }
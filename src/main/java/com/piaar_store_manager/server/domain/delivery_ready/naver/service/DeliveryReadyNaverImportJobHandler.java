@@ -0,0 +1,57 @@
+package com.piaar_store_manager.server.domain.delivery_ready.naver.service;
+
+import java.util.List;
+
+import com.piaar_store_manager.server.domain.delivery_ready.naver.entity.DeliveryReadyNaverItemEntity;
+import com.piaar_store_manager.server.domain.delivery_ready_file.dto.DeliveryReadyFileDto;
+import com.piaar_store_manager.server.domain.import_job.service.ImportJobChunkWriter;
+import com.piaar_store_manager.server.domain.import_job.service.ImportJobContext;
+import com.piaar_store_manager.server.domain.import_job.service.ImportJobHandler;
+import com.piaar_store_manager.server.exception.CustomExcelFileUploadException;
+
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 스마트스토어 배송준비 엑셀 파일 데이터 저장(/api/v1/delivery-ready/naver/store) 가져오기 작업.
+ * <p>
+ * 상품주문번호로 이미 저장된 데이터를 제외하고 읽기 때문에, 재시작 시 resumeOffset 대신 다시 읽어서 남은 데이터만 저장한다.
+ * 엑셀 양식이 올바르지 않으면 기존 저장 API 와 동일하게 파일 전체를 실패 처리한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DeliveryReadyNaverImportJobHandler implements ImportJobHandler {
+    public static final String JOB_TYPE = "DELIVERY_READY_NAVER";
+
+    private final DeliveryReadyNaverBusinessService deliveryReadyNaverBusinessService;
+    private final DeliveryReadyNaverService deliveryReadyNaverService;
+
+    @Override
+    public String getJobType() {
+        return JOB_TYPE;
+    }
+
+    @Override
+    public void execute(ImportJobContext context) throws Exception {
+        DeliveryReadyFileDto fileDto = DeliveryReadyFileDto.toDto(deliveryReadyNaverService.searchFile(context.getReferenceCid()));
+
+        List<DeliveryReadyNaverItemEntity> entities;
+        try (Workbook workbook = WorkbookFactory.create(context.getFilePath().toFile(), null, true)) {
+            entities = deliveryReadyNaverBusinessService.readItemEntities(workbook, fileDto);
+        } catch (NullPointerException e) {
+            throw new CustomExcelFileUploadException("엑셀 파일 데이터에 올바르지 않은 값이 존재합니다.");
+        } catch (IllegalStateException e) {
+            throw new CustomExcelFileUploadException("스마트스토어 배송 준비 엑셀 파일과 데이터 타입이 다른 값이 존재합니다.\n올바른 배송 준비 엑셀 파일을 업로드해주세요");
+        } catch (IllegalArgumentException e) {
+            throw new CustomExcelFileUploadException("스마트스토어 배송 준비 엑셀 파일이 아닙니다.\n올바른 배송 준비 엑셀 파일을 업로드해주세요");
+        }
+        context.changeTotalCount(context.getResumeOffset() + entities.size());
+
+        ImportJobChunkWriter<DeliveryReadyNaverItemEntity> chunkWriter = context.chunkWriter(deliveryReadyNaverService::bulkInsertItemList);
+        entities.forEach(chunkWriter::add);
+        chunkWriter.flush();
+    }
+}
@@ -1,22 +1,38 @@
 package com.piaar_store_manager.server.domain.delivery_ready.naver.service;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.transaction.Transactional;
 
 import com.piaar_store_manager.server.domain.delivery_ready.common.proj.DeliveryReadyItemOptionInfoProj;
+import com.piaar_store_manager.server.domain.delivery_ready.common.service.DeliveryReadyProdOrderNumberFilter;
 import com.piaar_store_manager.server.domain.delivery_ready.naver.entity.DeliveryReadyNaverItemEntity;
 import com.piaar_store_manager.server.domain.delivery_ready.naver.proj.DeliveryReadyNaverItemViewProj;
+import com.piaar_store_manager.server.domain.delivery_ready.naver.repository.DeliveryReadyNaverItemCustomJdbc;
 import com.piaar_store_manager.server.domain.delivery_ready.naver.repository.DeliveryReadyNaverItemRepository;
 import com.piaar_store_manager.server.domain.delivery_ready_file.entity.DeliveryReadyFileEntity;
 import com.piaar_store_manager.server.domain.delivery_ready_file.repository.DeliveryReadyFileRepository;
+import com.piaar_store_manager.server.domain.pagenation.CursorPageDto;
+import com.piaar_store_manager.server.domain.sales_analysis.entity.SalesDailyRollupEntity;
+import com.piaar_store_manager.server.domain.sales_analysis.service.SalesDailyRollupService;
+import com.piaar_store_manager.server.exception.CustomNotFoundDataException;
+import com.piaar_store_manager.server.utils.CustomBloomFilter;
 import com.piaar_store_manager.server.utils.DateHandler;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
@@ -26,6 +42,17 @@ import lombok.RequiredArgsConstructor;
 public class DeliveryReadyNaverService {
     private final DeliveryReadyFileRepository deliveryReadyFileRepository;
     private final DeliveryReadyNaverItemRepository deliveryReadyNaverItemRepository;
+    private final DeliveryReadyNaverItemCustomJdbc deliveryReadyNaverItemCustomJdbc;
+    private final SalesDailyRollupService salesDailyRollupService;
+    private final DeliveryReadyProdOrderNumberFilter prodOrderNumberFilter = new DeliveryReadyProdOrderNumberFilter();
+
+    private static final double PROD_ORDER_NUMBER_FILTER_FALSE_POSITIVE_RATE = 0.01;
+
+    @Value("${app.delivery-ready.prod-order-number-filter.enabled:false}")
+    private boolean prodOrderNumberFilterEnabled;
+
+    @Value("${app.delivery-ready.prod-order-number-filter.expected-insertions:1000000}")
+    private long prodOrderNumberFilterExpectedInsertions;
  
     /**
      * <b>DB Insert Related Method</b>
@@ -40,6 +67,31 @@ public class DeliveryReadyNaverService {
         return deliveryReadyFileRepository.save(fileEntity);
     }
 
+    /**
+     * <b>DB Select Related Method</b>
+     * <p>
+     * cid 에 대응하는 배송준비 엑셀 파일의 정보를 조회한다.
+     *
+     * @param fileCid : Integer
+     * @return DeliveryReadyFileEntity
+     * @see DeliveryReadyFileRepository#findById
+     */
+    public DeliveryReadyFileEntity searchFile(Integer fileCid) {
+        return deliveryReadyFileRepository.findById(fileCid).orElseThrow(() -> new CustomNotFoundDataException("데이터를 찾을 수 없습니다."));
+    }
+
+    /**
+     * <b>DB Delete Related Method</b>
+     * <p>
+     * cid 에 대응하는 배송준비 엑셀 파일의 정보를 삭제한다.
+     *
+     * @param fileCid : Integer
+     * @see DeliveryReadyFileRepository#deleteById
+     */
+    public void deleteFile(Integer fileCid) {
+        deliveryReadyFileRepository.deleteById(fileCid);
+    }
+
     /**
      * <b>DB Insert Related Method</b>
      * <p>
@@ -50,7 +102,10 @@ public class DeliveryReadyNaverService {
      * @see DeliveryReadyNaverItemRepository#save
      */
     public DeliveryReadyNaverItemEntity saveAndModifyForItem(DeliveryReadyNaverItemEntity entity) {
-        return deliveryReadyNaverItemRepository.save(entity);
+        DeliveryReadyNaverItemEntity savedEntity = deliveryReadyNaverItemRepository.save(entity);
+        prodOrderNumberFilter.put(Collections.singletonList(savedEntity.getProdOrderNumber()));
+        salesDailyRollupService.markDirty(SalesDailyRollupEntity.CHANNEL_NAVER, Collections.singletonList(savedEntity.getCreatedAt()));
+        return savedEntity;
     }
 
     /**
@@ -63,19 +118,74 @@ public class DeliveryReadyNaverService {
      * @see DeliveryReadyNaverItemRepository#saveAll
      */
     public List<DeliveryReadyNaverItemEntity> saveAndModifyForItemList(List<DeliveryReadyNaverItemEntity> itemEntities) {
-        return deliveryReadyNaverItemRepository.saveAll(itemEntities);
+        List<DeliveryReadyNaverItemEntity> savedEntities = deliveryReadyNaverItemRepository.saveAll(itemEntities);
+        prodOrderNumberFilter.put(savedEntities.stream().map(DeliveryReadyNaverItemEntity::getProdOrderNumber).collect(Collectors.toList()));
+        salesDailyRollupService.markDirty(SalesDailyRollupEntity.CHANNEL_NAVER, savedEntities.stream().map(DeliveryReadyNaverItemEntity::getCreatedAt).collect(Collectors.toList()));
+        return savedEntities;
+    }
+
+    /**
+     * <b>DB Insert Related Method</b>
+     * <p>
+     * 배송준비 엑셀 파일의 데이터를 JDBC 로 일괄 저장한다. 저장된 엔터티의 cid 는 채우지 않는다.
+     *
+     * @param itemEntities : List::DeliveryReadyNaverItemEntity::
+     * @return int : 저장된 데이터 수
+     * @see DeliveryReadyNaverItemCustomJdbc#jdbcBulkInsert
+     */
+    @Transactional
+    public int bulkInsertItemList(List<DeliveryReadyNaverItemEntity> itemEntities) {
+        int insertedCount = deliveryReadyNaverItemCustomJdbc.jdbcBulkInsert(itemEntities);
+        prodOrderNumberFilter.put(itemEntities.stream().map(DeliveryReadyNaverItemEntity::getProdOrderNumber).collect(Collectors.toList()));
+        salesDailyRollupService.markDirty(SalesDailyRollupEntity.CHANNEL_NAVER, itemEntities.stream().map(DeliveryReadyNaverItemEntity::getCreatedAt).collect(Collectors.toList()));
+        return insertedCount;
+    }
+
+    /**
+     * <b>DB Update Related Method</b>
+     * <p>
+     * 재고 반영 여부를 일괄 변경한다.
+     *
+     * @param itemCids : List::Integer::
+     * @param releaseCompleted : boolean
+     * @see DeliveryReadyNaverItemCustomJdbc#jdbcBulkUpdateReleaseCompleted
+     */
+    @Transactional
+    public void bulkUpdateReleaseCompleted(List<Integer> itemCids, boolean releaseCompleted) {
+        deliveryReadyNaverItemCustomJdbc.jdbcBulkUpdateReleaseCompleted(itemCids, releaseCompleted);
+    }
+
+    /**
+     * <b>DB Select Related Method</b>
+     * <p>
+     * prodOrderNumbers 중 이미 저장된 상품주문번호를 조회한다.
+     *
+     * @param prodOrderNumbers : Collection::String::
+     * @return Set::String::
+     * @see DeliveryReadyProdOrderNumberFilter#searchStored
+     * @see DeliveryReadyNaverItemRepository#findProdOrderNumbers
+     */
+    public Set<String> searchStoredProdOrderNumbers(Collection<String> prodOrderNumbers) {
+        return prodOrderNumberFilter.searchStored(prodOrderNumbers, deliveryReadyNaverItemRepository::findProdOrderNumbers);
     }
 
     /**
      * <b>DB Select Related Method</b>
      * <p>
-     * 배송준비 엑셀 데이터에서 상품 주문번호를 모두 조회한다.
-     * 
-     * @return Set::String
-     * @see DeliveryReadyNaverItemRepository#findAllProdOrderNumber
+     * app.delivery-ready.prod-order-number-filter.enabled 가 true 라면 애플리케이션 시작 시 저장된 상품주문번호로 Bloom filter 를 생성한다.
+     *
+     * @see DeliveryReadyNaverItemRepository#streamAllProdOrderNumber
      */
-    public Set<String> findAllProdOrderNubmer() {
-        return deliveryReadyNaverItemRepository.findAllProdOrderNumber();
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildProdOrderNumberFilter() {
+        if (!prodOrderNumberFilterEnabled) {
+            return;
+        }
+
+        try (Stream<String> storedProdOrderNumbers = deliveryReadyNaverItemRepository.streamAllProdOrderNumber()) {
+            prodOrderNumberFilter.rebuild(new CustomBloomFilter(prodOrderNumberFilterExpectedInsertions, PROD_ORDER_NUMBER_FILTER_FALSE_POSITIVE_RATE), storedProdOrderNumbers);
+        }
     }
 
     /**
@@ -103,6 +213,20 @@ public class DeliveryReadyNaverService {
     public List<DeliveryReadyNaverItemViewProj> findSelectedReleased(LocalDateTime startDate, LocalDateTime endDate) {
         return deliveryReadyNaverItemRepository.findSelectedReleased(startDate, endDate);
     }
+
+    /**
+     * <b>DB Select Related Method</b>
+     * <p>
+     * DeliveryReadyItem 중 조회 조건에 대응하는 데이터를 커서 이후부터 pageSize 개 조회한다.
+     *
+     * @param params   : Map::String, Object::
+     * @param pageable : Pageable
+     * @return CursorPageDto::DeliveryReadyNaverItemViewProj::
+     * @see DeliveryReadyNaverItemRepository#qfindViewByCursor
+     */
+    public CursorPageDto<DeliveryReadyNaverItemViewProj> findViewByCursor(Map<String, Object> params, Pageable pageable) {
+        return deliveryReadyNaverItemRepository.qfindViewByCursor(params, pageable);
+    }
  
     /**
      * <b>DB Delete Related Method</b>
@@ -113,9 +237,11 @@ public class DeliveryReadyNaverService {
      * @see DeliveryReadyNaverItemRepository#findById
      * @see DeliveryReadyNaverItemRepository#delete
      */
+    @Transactional
     public void deleteOneDeliveryReadyViewData(Integer itemCid) {
         deliveryReadyNaverItemRepository.findById(itemCid).ifPresent(item -> {
             deliveryReadyNaverItemRepository.delete(item);
+            salesDailyRollupService.markDirty(SalesDailyRollupEntity.CHANNEL_NAVER, Collections.singletonList(item.getCreatedAt()));
         });
     }
 
@@ -127,7 +253,9 @@ public class DeliveryReadyNaverService {
      * @param idList : List::UUID::
      * @see DeliveryReadyNaverItemRepository#deleteBatchById
      */
+    @Transactional
     public void deleteListDeliveryReadyViewData(List<UUID> idList) {
+        salesDailyRollupService.markDirtyByIds(SalesDailyRollupEntity.CHANNEL_NAVER, idList);
         deliveryReadyNaverItemRepository.deleteBatchById(idList);
     }
 
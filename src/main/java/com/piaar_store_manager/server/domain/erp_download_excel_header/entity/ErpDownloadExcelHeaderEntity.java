@@ -28,7 +28,7 @@ public class ErpDownloadExcelHeaderEntity {
     private Integer cid;
 
     @Setter
-    @Type(type = "uuid-char")
+    @Type(type = "uuid-compact")
     @Column(name = "id")
     private UUID id;
 
@@ -45,7 +45,7 @@ public class ErpDownloadExcelHeaderEntity {
     private LocalDateTime createdAt;
 
     @Setter
-    @Type(type = "uuid-char")
+    @Type(type = "uuid-compact")
     @Column(name = "created_by")
     private UUID createdBy;
 
@@ -3,6 +3,7 @@ package com.piaar_store_manager.server.domain.erp_download_excel_header.service;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -59,6 +60,19 @@ public class ErpDownloadExcelHeaderService {
         }
     }
 
+    /**
+     * <b>DB Select Related Method</b>
+     * <p>
+     * id에 대응하는 erp download excel header의 수정 일시를 조회한다. 수정 일시와 생성 일시가 모두 없다면 empty 를 반환한다.
+     *
+     * @param id : UUID
+     * @return Optional::LocalDateTime::
+     * @see ErpDownloadExcelHeaderRepository#findVersionById
+     */
+    public Optional<LocalDateTime> searchVersion(UUID id) {
+        return erpDownloadExcelHeader.findVersionById(id);
+    }
+
     /**
      * <b>DB Delete Related Method</b>
      * <p>
@@ -0,0 +1,164 @@
+package com.piaar_store_manager.server.domain.erp_download_excel_header.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import com.piaar_store_manager.server.domain.erp_download_excel_header.dto.DetailDto;
+import com.piaar_store_manager.server.domain.erp_download_excel_header.dto.ErpDownloadExcelHeaderDto;
+import com.piaar_store_manager.server.domain.erp_order_item.dto.ErpDownloadOrderItemDto;
+import com.piaar_store_manager.server.domain.erp_order_item.dto.ErpOrderItemDto;
+import com.piaar_store_manager.server.domain.erp_order_item.vo.ErpDownloadItemVo;
+import com.piaar_store_manager.server.utils.CustomDateUtils;
+import com.piaar_store_manager.server.utils.CustomExcelStreamWriter.SheetTemplate;
+import com.piaar_store_manager.server.utils.CustomFieldAccessorUtils;
+import com.piaar_store_manager.server.utils.CustomFieldAccessorUtils.FieldAccessor;
+
+/**
+ * 다운로드 헤더 설정으로부터 미리 만들어둔 다운로드 계획.
+ * <p>
+ * 항목별 view 컬럼의 필드 접근자, 구분자, 병합 여부, 고정값을 배열로 보관하므로
+ * 다운로드할 때마다 header_detail 을 다시 읽거나 항목 목록을 다시 탐색하지 않는다.
+ * 만든 후에는 변경되지 않으므로 여러 요청에서 함께 사용할 수 있다.
+ */
+public class ErpDownloadExcelPlan {
+    private static final String FIELD_TYPE_FREIGHT_CODE = "운송코드";
+    private static final String FIELD_TYPE_FIXED_VALUE = "고정값";
+
+    private static final Comparator<ErpOrderItemDto> DOWNLOAD_ORDER = Comparator.comparing(ErpOrderItemDto::getProdName)
+            .thenComparing(ErpOrderItemDto::getReleaseOptionCode);
+
+    private final String[] cellNames;
+    private final String[] fieldTypes;
+    private final String[] fixedValues;
+    private final FieldAccessor[][] viewAccessors;
+    private final String[] valueSplitters;
+    private final int[] mergeColumnIndexes;
+    private final String[] mergeSplitters;
+
+    private ErpDownloadExcelPlan(List<DetailDto> details) {
+        int columnSize = details.size();
+        this.cellNames = new String[columnSize];
+        this.fieldTypes = new String[columnSize];
+        this.fixedValues = new String[columnSize];
+        this.viewAccessors = new FieldAccessor[columnSize][];
+        this.valueSplitters = new String[columnSize];
+
+        List<Integer> mergeIndexes = new ArrayList<>();
+        for (int k = 0; k < columnSize; k++) {
+            DetailDto detail = details.get(k);
+            cellNames[k] = detail.getCustomCellName();
+            fieldTypes[k] = detail.getFieldType();
+            fixedValues[k] = detail.getFixedValue();
+            // view 컬럼명을 미리 검증하고 필드 접근자를 꺼내둔다
+            viewAccessors[k] = CustomFieldAccessorUtils.getAccessors(ErpOrderItemDto.class,
+                    detail.getViewDetails().stream().map(r -> r.getMatchedColumnName()).collect(Collectors.toList()))
+                    .toArray(new FieldAccessor[0]);
+            valueSplitters[k] = Objects.toString(detail.getValueSplitter(), "");
+
+            if ("y".equals(detail.getMergeYn())) {
+                mergeIndexes.add(k);
+            }
+        }
+
+        this.mergeColumnIndexes = mergeIndexes.stream().mapToInt(Integer::intValue).toArray();
+        this.mergeSplitters = Arrays.stream(mergeColumnIndexes).mapToObj(k -> details.get(k).getMergeSplitter()).toArray(String[]::new);
+    }
+
+    public static ErpDownloadExcelPlan of(ErpDownloadExcelHeaderDto headerDto) {
+        return new ErpDownloadExcelPlan(headerDto.getHeaderDetail().getDetails());
+    }
+
+    /**
+     * 합배송 단위(erpDownloadOrderItemDto)마다 하나의 행을 만든다.
+     * 합배송 데이터는 상품명 > 출고옵션코드 순으로 정렬하고, 첫번째 데이터의 값으로 행을 채운 후
+     * 병합 여부가 y 인 항목은 나머지 데이터의 값을 mergeSplitter 로 이어붙인다.
+     *
+     * @param erpDownloadOrderItemDtos : List::ErpDownloadOrderItemDto::
+     * @return List::ErpDownloadItemVo::
+     */
+    public List<ErpDownloadItemVo> toDownloadItemVos(List<ErpDownloadOrderItemDto> erpDownloadOrderItemDtos) {
+        List<ErpDownloadItemVo> downloadItemVos = new ArrayList<>(erpDownloadOrderItemDtos.size());
+
+        for (ErpDownloadOrderItemDto erpDownloadOrderItemDto : erpDownloadOrderItemDtos) {
+            List<ErpOrderItemDto> dtos = erpDownloadOrderItemDto.getCollections();
+            if (dtos.isEmpty()) {
+                continue;
+            }
+            dtos.sort(DOWNLOAD_ORDER);
+
+            ErpOrderItemDto firstDto = dtos.get(0);
+            List<Object> cellValues = new ArrayList<>(cellNames.length);
+            for (int k = 0; k < cellNames.length; k++) {
+                cellValues.add(this.getViewValue(k, firstDto));
+            }
+
+            // 중복데이터 처리 (dtos들의 receiver, receiverContact1, destination은 항상 같은 값이기 때문에 중복검사하지 않아도 된다)
+            if (dtos.size() > 1 && mergeColumnIndexes.length > 0) {
+                for (int m = 0; m < mergeColumnIndexes.length; m++) {
+                    int k = mergeColumnIndexes[m];
+                    StringBuilder mergedValue = new StringBuilder((String) cellValues.get(k));
+                    for (int j = 1; j < dtos.size(); j++) {
+                        mergedValue.append(mergeSplitters[m]).append(this.getViewValue(k, dtos.get(j)));
+                    }
+                    cellValues.set(k, mergedValue.toString());
+                }
+            }
+
+            downloadItemVos.add(ErpDownloadItemVo.builder().cellValue(cellValues).build());
+        }
+        return downloadItemVos;
+    }
+
+    /**
+     * 행 번호로 vos 와 erpDownloadOrderItemDtos 의 같은 위치 데이터를 참조하는 엑셀 양식을 만든다.
+     *
+     * @param vos                      : List::ErpDownloadItemVo::
+     * @param erpDownloadOrderItemDtos : List::ErpDownloadOrderItemDto::
+     * @return SheetTemplate::Integer::
+     */
+    public SheetTemplate<Integer> toSheetTemplate(List<ErpDownloadItemVo> vos, List<ErpDownloadOrderItemDto> erpDownloadOrderItemDtos) {
+        SheetTemplate.Builder<Integer> templateBuilder = SheetTemplate.builder("Sheet1");
+        for (int k = 0; k < cellNames.length; k++) {
+            int columnIndex = k;
+
+            switch (fieldTypes[k]) {
+                case FIELD_TYPE_FREIGHT_CODE:
+                    templateBuilder.column(cellNames[k], i -> erpDownloadOrderItemDtos.get(i).getCombinedFreightCode());
+                    break;
+                case FIELD_TYPE_FIXED_VALUE:
+                    String fixedValue = fixedValues[k];
+                    templateBuilder.column(cellNames[k], i -> fixedValue);
+                    break;
+                default:
+                    templateBuilder.column(cellNames[k], i -> vos.get(i).getCellValue().get(columnIndex).toString());
+            }
+        }
+        return templateBuilder.build();
+    }
+
+    /*
+    항목의 view 헤더로 지정된 데이터들을 valueSplitter 와 함께 나열한다. LocalDateTime 타입의 데이터는 다운로드 형식(+9시간)으로 변환한다.
+     */
+    private String getViewValue(int columnIndex, ErpOrderItemDto dto) {
+        FieldAccessor[] accessors = viewAccessors[columnIndex];
+        StringBuilder sb = new StringBuilder();
+
+        for (int z = 0; z < accessors.length; z++) {
+            if (z > 0) {
+                sb.append(valueSplitters[columnIndex]);
+            }
+
+            Object fieldValue = accessors[z].get(dto);
+            if (fieldValue == null) {
+                continue;
+            }
+            sb.append(fieldValue instanceof LocalDateTime ? CustomDateUtils.getLocalDateTimeToDownloadFormat((LocalDateTime) fieldValue) : fieldValue.toString());
+        }
+        return sb.toString();
+    }
+}
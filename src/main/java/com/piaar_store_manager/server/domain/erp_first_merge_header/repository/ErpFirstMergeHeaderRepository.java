@@ -1,8 +1,10 @@
 package com.piaar_store_manager.server.domain.erp_first_merge_header.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -11,4 +13,14 @@ import com.piaar_store_manager.server.domain.erp_first_merge_header.entity.ErpFi
 @Repository
 public interface ErpFirstMergeHeaderRepository extends JpaRepository<ErpFirstMergeHeaderEntity, Integer> {
     Optional<ErpFirstMergeHeaderEntity> findById(UUID headerId);
+
+    /**
+     * headerId 에 대응하는 header 의 마지막 수정 일시(수정 이력이 없다면 생성 일시)를 조회한다.
+     * header_detail 을 읽지 않으므로 캐시된 header 가 최신인지 확인하는 용도로 사용한다.
+     *
+     * @param headerId : UUID
+     * @return Optional::LocalDateTime::
+     */
+    @Query("SELECT COALESCE(h.updatedAt, h.createdAt) FROM ErpFirstMergeHeaderEntity h WHERE h.id = :headerId")
+    Optional<LocalDateTime> findVersionById(UUID headerId);
 }
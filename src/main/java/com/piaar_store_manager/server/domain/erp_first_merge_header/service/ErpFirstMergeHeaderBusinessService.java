@@ -10,6 +10,7 @@ import java.util.stream.Collectors;
 
 import com.piaar_store_manager.server.domain.erp_first_merge_header.dto.ErpFirstMergeHeaderDto;
 import com.piaar_store_manager.server.domain.erp_first_merge_header.entity.ErpFirstMergeHeaderEntity;
+import com.piaar_store_manager.server.domain.erp_order_item.service.ErpOrderItemMergePlanCache;
 import com.piaar_store_manager.server.domain.user.service.UserService;
 import com.piaar_store_manager.server.utils.CustomDateUtils;
 
@@ -18,6 +19,7 @@ import com.piaar_store_manager.server.utils.CustomDateUtils;
 public class ErpFirstMergeHeaderBusinessService {
     private final ErpFirstMergeHeaderService erpFirstMergeHeaderService;
     private final UserService userService;
+    private final ErpOrderItemMergePlanCache erpOrderItemMergePlanCache;
 
     /**
      * <b>DB Insert Related Method</b>
@@ -84,6 +86,7 @@ public class ErpFirstMergeHeaderBusinessService {
         entity.setTitle(headerDto.getTitle()).setUpdatedAt(CustomDateUtils.getCurrentDateTime());
 
         erpFirstMergeHeaderService.saveAndModify(entity);
+        erpOrderItemMergePlanCache.removeFirstMergePlan(entity.getId());
     }
 
     public void deleteOne(UUID id) {
@@ -92,5 +95,6 @@ public class ErpFirstMergeHeaderBusinessService {
         userService.userManagerRoleCheck();
 
         erpFirstMergeHeaderService.deleteOne(id);
+        erpOrderItemMergePlanCache.removeFirstMergePlan(id);
     }
 }
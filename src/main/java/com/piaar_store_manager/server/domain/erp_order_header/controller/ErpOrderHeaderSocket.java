@@ -2,49 +2,45 @@ package com.piaar_store_manager.server.domain.erp_order_header.controller;
 
 import com.piaar_store_manager.server.domain.erp_order_header.dto.ErpOrderHeaderDto;
 import com.piaar_store_manager.server.domain.erp_order_header.service.ErpOrderHeaderBusinessService;
-import com.piaar_store_manager.server.domain.message.Message;
+import com.piaar_store_manager.server.domain.message.SocketChangeEvent;
+import com.piaar_store_manager.server.domain.message.SocketChangeEventPublisher;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Collections;
+
 @RestController
 @RequestMapping("/ws/v1/erp-order-headers")
 public class ErpOrderHeaderSocket {
-    //    TODO : 소켓통신 보완해야됨.
+    private static final String TOPIC = "/topic/erp.erp-order-header";
+
     private ErpOrderHeaderBusinessService erpOrderHeaderBusinessService;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final SocketChangeEventPublisher socketChangeEventPublisher;
 
     @Autowired
     public ErpOrderHeaderSocket(
             ErpOrderHeaderBusinessService erpOrderHeaderBusinessService,
-            SimpMessagingTemplate messagingTemplate
+            SocketChangeEventPublisher socketChangeEventPublisher
     ) {
         this.erpOrderHeaderBusinessService = erpOrderHeaderBusinessService;
-        this.messagingTemplate = messagingTemplate;
+        this.socketChangeEventPublisher = socketChangeEventPublisher;
     }
 
     @PostMapping("")
     public void saveOne(@RequestBody ErpOrderHeaderDto headerDto) {
-        Message message = new Message();
-
         erpOrderHeaderBusinessService.saveOne(headerDto);
-        message.setStatus(HttpStatus.OK);
-        message.setMessage("success");
 
-        messagingTemplate.convertAndSend("/topic/erp.erp-order-header",message);
+        socketChangeEventPublisher.publish(TOPIC, SocketChangeEvent.created(Collections.singletonList(headerDto.getId()))
+                .value("headerDetail", headerDto.getHeaderDetail()));
     }
 
     @PutMapping("")
     public void updateOne(@RequestBody ErpOrderHeaderDto headerDto) {
-        Message message = new Message();
-
         erpOrderHeaderBusinessService.updateOne(headerDto);
-        message.setStatus(HttpStatus.OK);
-        message.setMessage("success");
 
-        messagingTemplate.convertAndSend("/topic/erp.erp-order-header",message);
+        socketChangeEventPublisher.publish(TOPIC, SocketChangeEvent.updated(Collections.singletonList(headerDto.getId()))
+                .value("headerDetail", headerDto.getHeaderDetail()));
     }
 }
@@ -42,7 +42,7 @@ public class ErpOrderHeaderEntity {
     private Integer cid;
 
     @Setter
-    @Type(type = "uuid-char")
+    @Type(type = "uuid-compact")
     @Column(name = "id")
     private UUID id;
 
@@ -55,7 +55,7 @@ public class ErpOrderHeaderEntity {
     private LocalDateTime createdAt;
 
     @Setter
-    @Type(type = "uuid-char")
+    @Type(type = "uuid-compact")
     @Column(name = "created_by")
     private UUID createdBy;
 
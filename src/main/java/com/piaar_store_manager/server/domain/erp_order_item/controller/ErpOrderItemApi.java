@@ -5,15 +5,19 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
 
 import com.piaar_store_manager.server.annotation.RequiredLogin;
 import com.piaar_store_manager.server.domain.erp_order_item.dto.ErpOrderItemDto;
+import com.piaar_store_manager.server.domain.erp_order_item.dto.ErpOrderItemWaybillMatchResultDto;
 import com.piaar_store_manager.server.domain.erp_order_item.service.ErpOrderItemBusinessService;
 import com.piaar_store_manager.server.domain.excel_form.waybill.WaybillExcelFormDto;
 import com.piaar_store_manager.server.domain.message.Message;
 import com.piaar_store_manager.server.exception.CustomExcelFileUploadException;
 import com.piaar_store_manager.server.utils.CustomExcelUtils;
+import com.piaar_store_manager.server.utils.CustomJsonStreamWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -35,6 +39,7 @@ import lombok.RequiredArgsConstructor;
 public class ErpOrderItemApi {
     private final ErpOrderItemBusinessService erpOrderItemBusinessService;
     private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
 
     /**
      * Upload excel data for order excel.
@@ -63,6 +68,84 @@ public class ErpOrderItemApi {
         return new ResponseEntity<>(message, message.getStatus());
     }
 
+    /**
+     * Create import job for order excel.
+     * 주문 파일 업로드 엑셀 대량등록을 가져오기 작업으로 처리할 때 사용하는 API.
+     * 등록된 작업 정보를 즉시 반환하며, 진행 상황과 행 단위 오류는 작업의 destination 으로 전송된다.
+     * <p>
+     * <b>POST : API URL => /api/v1/erp-order-items/excel/import-jobs</b>
+     *
+     * @param file : MultipartFile
+     * @return ResponseEntity(message, HttpStatus)
+     * @see CustomExcelUtils#isExcelFile
+     * @see ErpOrderItemBusinessService#createImportJobForExcel
+     */
+    @PostMapping("/excel/import-jobs")
+    public ResponseEntity<?> createImportJobForExcel(@RequestParam("file") MultipartFile file) {
+        Message message = new Message();
+
+        // file extension check.
+        if (!CustomExcelUtils.isExcelFile(file)) {
+            throw new CustomExcelFileUploadException("This is not an excel file.");
+        }
+
+        message.setData(erpOrderItemBusinessService.createImportJobForExcel(file));
+        message.setStatus(HttpStatus.ACCEPTED);
+        message.setMessage("success");
+
+        return new ResponseEntity<>(message, message.getStatus());
+    }
+
+    /**
+     * Upload excel data to staging for order excel.
+     * 주문 파일 업로드 엑셀 대량등록시 변환된 행을 응답으로 돌려주지 않고 서버에 임시 저장하는 API.
+     * 반환된 uploadToken 으로 미리보기를 조회하고 /ws/v1/erp-order-items/uploads/{uploadToken}/commit 으로 등록한다.
+     * <p>
+     * <b>POST : API URL => /api/v1/erp-order-items/uploads</b>
+     *
+     * @param file : MultipartFile
+     * @return ResponseEntity(message, HttpStatus)
+     * @see CustomExcelUtils#isExcelFile
+     * @see ErpOrderItemBusinessService#uploadErpOrderExcelToStaging
+     */
+    @PostMapping("/uploads")
+    public ResponseEntity<?> uploadErpOrderExcelToStaging(@RequestParam("file") MultipartFile file) {
+        Message message = new Message();
+
+        // file extension check.
+        if (!CustomExcelUtils.isExcelFile(file)) {
+            throw new CustomExcelFileUploadException("This is not an excel file.");
+        }
+
+        message.setData(erpOrderItemBusinessService.uploadErpOrderExcelToStaging(file));
+        message.setStatus(HttpStatus.OK);
+        message.setMessage("success");
+
+        return new ResponseEntity<>(message, message.getStatus());
+    }
+
+    /**
+     * Search uploaded order excel data.
+     * 임시 저장된 업로드 데이터를 엑셀 행 순서대로 페이지 조회한다.
+     * <p>
+     * <b>GET : API URL => /api/v1/erp-order-items/uploads/{uploadToken}</b>
+     *
+     * @param uploadToken : UUID
+     * @param pageable    : Pageable
+     * @return ResponseEntity(message, HttpStatus)
+     * @see ErpOrderItemBusinessService#searchUploadedItems
+     */
+    @GetMapping("/uploads/{uploadToken}")
+    public ResponseEntity<?> searchUploadedItems(@PathVariable(value = "uploadToken") UUID uploadToken, @PageableDefault(size = 300) Pageable pageable) {
+        Message message = new Message();
+
+        message.setData(erpOrderItemBusinessService.searchUploadedItems(uploadToken, pageable));
+        message.setStatus(HttpStatus.OK);
+        message.setMessage("success");
+
+        return new ResponseEntity<>(message, message.getStatus());
+    }
+
     /**
      * Store excel data for order excel.
      * <p>
@@ -116,9 +199,49 @@ public class ErpOrderItemApi {
         return new ResponseEntity<>(message, message.getStatus());
     }
 
+    /**
+     * Search erp order item as stream.
+     * 조회 결과를 Message 로 감싸지 않고 chunk 단위로 바로 작성한다. 결과 건수가 많은 조회에 사용한다.
+     * format 파라미터가 json 이라면 JSON 배열, 그 외에는 NDJSON(application/x-ndjson) 형식으로 응답한다.
+     * <p>
+     * <b>GET : API URL => /api/v1/erp-order-items/stream</b>
+     *
+     * @param params   : Map::String, Object::
+     * @param response : HttpServletResponse
+     * @see ErpOrderItemBusinessService#searchListByChunk
+     */
+    @GetMapping("/stream")
+    public void searchListAsStream(@RequestParam Map<String, Object> params, HttpServletResponse response) {
+        CustomJsonStreamWriter writer = CustomJsonStreamWriter.of(response, objectMapper, (String) params.get("format"));
+
+        erpOrderItemBusinessService.searchListByChunk(params, writer::writeAll);
+        writer.finish();
+    }
+
+    /**
+     * Search erp order item by ids as stream.
+     * <p>
+     * <b>POST : API URL => /api/v1/erp-order-items/action-refresh/stream</b>
+     *
+     * @param params   : Map::String, Object::
+     * @param response : HttpServletResponse
+     * @see ErpOrderItemBusinessService#searchBatchByIdsByChunk
+     */
+    @PostMapping("/action-refresh/stream")
+    public void refreshAsStream(@RequestBody Map<String, Object> params, HttpServletResponse response) {
+        List<String> idsStr = (List<String>) params.get("ids");
+        List<UUID> ids = idsStr.stream().map(r->UUID.fromString(r)).collect(Collectors.toList());
+        CustomJsonStreamWriter writer = CustomJsonStreamWriter.of(response, objectMapper, (String) params.get("format"));
+
+        erpOrderItemBusinessService.searchBatchByIdsByChunk(ids, params, writer::writeAll);
+        writer.finish();
+    }
+
     /**
      * Search erp order item.
      * Mapping by option code.
+     * If pagingMode is keyset, search next items of cursor without offset and total count.
+     * (params : cursor, withTotal)
      * <p>
      * <b>GET : API URL => /api/v1/erp-order-items/search</b>
      *
@@ -126,12 +249,17 @@ public class ErpOrderItemApi {
      * @param pageable : Pageable
      * @return ResponseEntity(message, HttpStatus)
      * @see ErpOrderItemBusinessService#searchBatchByPaging
+     * @see ErpOrderItemBusinessService#searchBatchByCursor
      */
     @GetMapping("/search")
     public ResponseEntity<?> searchBatchByPaging(@RequestParam Map<String, Object> params, @PageableDefault(sort = "cid", direction = Sort.Direction.DESC, size = 300) Pageable pageable) {
         Message message = new Message();
 
-        message.setData(erpOrderItemBusinessService.searchBatchByPaging(params, pageable));
+        if (this.isKeysetPaging(params)) {
+            message.setData(erpOrderItemBusinessService.searchBatchByCursor(params, pageable));
+        } else {
+            message.setData(erpOrderItemBusinessService.searchBatchByPaging(params, pageable));
+        }
         message.setStatus(HttpStatus.OK);
         message.setMessage("success");
 
@@ -141,19 +269,26 @@ public class ErpOrderItemApi {
     /**
      * Search erp order item.
      * Mapping by release option code.
+     * If pagingMode is keyset, search next items of cursor without offset and total count.
+     * (params : cursor, withTotal)
      * <p>
      * <b>GET : API URL => /api/v1/erp-order-items/search/release</b>
      *
      * @param params   : Map::String, Object::
      * @param pageable : Pageable
      * @return ResponseEntity(message, HttpStatus)
-     * @see ErpOrderItemBusinessService#searchBatchByPaging
+     * @see ErpOrderItemBusinessService#searchReleaseItemBatchByPaging
+     * @see ErpOrderItemBusinessService#searchReleaseItemBatchByCursor
      */
     @GetMapping("/search/release")
     public ResponseEntity<?> searchReleaseItemBatchByPaging(@RequestParam Map<String, Object> params, @PageableDefault(sort = "cid", direction = Sort.Direction.DESC, size = 300) Pageable pageable) {
         Message message = new Message();
 
-        message.setData(erpOrderItemBusinessService.searchReleaseItemBatchByPaging(params, pageable));
+        if (this.isKeysetPaging(params)) {
+            message.setData(erpOrderItemBusinessService.searchReleaseItemBatchByCursor(params, pageable));
+        } else {
+            message.setData(erpOrderItemBusinessService.searchReleaseItemBatchByPaging(params, pageable));
+        }
         message.setStatus(HttpStatus.OK);
         message.setMessage("success");
 
@@ -329,11 +464,18 @@ public class ErpOrderItemApi {
         Message message = new Message();
 
         List<WaybillExcelFormDto> waybillExcelFormDtos = erpOrderItemBusinessService.readWaybillExcelFile(file);
-        int updatedCount = erpOrderItemBusinessService.changeBatchForWaybill(data, waybillExcelFormDtos);
+        ErpOrderItemWaybillMatchResultDto resultDto = erpOrderItemBusinessService.changeBatchForWaybill(data, waybillExcelFormDtos);
         message.setStatus(HttpStatus.OK);
         message.setMessage("success");
-        message.setMemo("선택된 데이터 : " + data.size() + " 건\n" + "운송장 입력된 데이터 총 : " + updatedCount + " 건");
+        message.setMemo("선택된 데이터 : " + data.size() + " 건\n" + "운송장 입력된 데이터 총 : " + resultDto.getUpdatedCount() + " 건\n"
+                + "일치하는 데이터가 없는 운송장 : " + resultDto.getUnmatchedWaybills().size() + " 건\n"
+                + "운송장 정보가 중복되어 반영되지 않은 운송장 : " + resultDto.getAmbiguousWaybills().size() + " 건");
+        message.setData(resultDto);
 
         return new ResponseEntity<>(message, message.getStatus());
     }
+
+    private boolean isKeysetPaging(Map<String, Object> params) {
+        return params.get("pagingMode") != null && params.get("pagingMode").toString().equals("keyset");
+    }
 }
@@ -1,10 +1,8 @@
 package com.piaar_store_manager.server.domain.erp_order_item.controller;
 
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
@@ -12,98 +10,141 @@ import org.springframework.web.multipart.MultipartFile;
 import javax.validation.Valid;
 
 import com.piaar_store_manager.server.domain.erp_order_item.dto.ErpOrderItemDto;
+import com.piaar_store_manager.server.domain.erp_order_item.dto.ErpOrderItemWaybillMatchResultDto;
 import com.piaar_store_manager.server.domain.erp_order_item.service.ErpOrderItemBusinessService;
 import com.piaar_store_manager.server.domain.excel_form.waybill.WaybillExcelFormDto;
 import com.piaar_store_manager.server.domain.message.Message;
+import com.piaar_store_manager.server.domain.message.SocketChangeEvent;
+import com.piaar_store_manager.server.domain.message.SocketChangeEventPublisher;
 
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Validated
 @RestController
 @RequestMapping("/ws/v1/erp-order-items")
 public class ErpOrderItemSocket {
-    //    TODO : 소켓통신 보완해야됨.
+    public static final String TOPIC = "/topic/erp.erp-order-item";
+
     private final ErpOrderItemBusinessService erpOrderItemBusinessService;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final SocketChangeEventPublisher socketChangeEventPublisher;
 
     @Autowired
     public ErpOrderItemSocket(
             ErpOrderItemBusinessService erpOrderItemBusinessService,
-            SimpMessagingTemplate messagingTemplate
+            SocketChangeEventPublisher socketChangeEventPublisher
     ) {
         this.erpOrderItemBusinessService = erpOrderItemBusinessService;
-        this.messagingTemplate = messagingTemplate;
+        this.socketChangeEventPublisher = socketChangeEventPublisher;
     }
 
     @PostMapping("/batch")
     public ResponseEntity<?> createBatch(@RequestBody @Valid List<ErpOrderItemDto> itemDtos) {
         Message message = new Message();
 
-        erpOrderItemBusinessService.createBatch(itemDtos);
+        List<UUID> createdIds = erpOrderItemBusinessService.createBatch(itemDtos);
         message.setStatus(HttpStatus.OK);
         message.setMessage("success");
         message.setSocketMemo("[주문 수집 관리] 에 추가된 데이터가 있습니다.");
 
-        messagingTemplate.convertAndSend("/topic/erp.erp-order-item", message);
+        socketChangeEventPublisher.publish(TOPIC, SocketChangeEvent.created(createdIds), message.getSocketMemo(), null);
 
         return new ResponseEntity<>(message, message.getStatus());
     }
 
-    @PutMapping("")
-    public void updateOne(@RequestBody @Valid ErpOrderItemDto itemDtos) {
+    /**
+     * 주문 데이터 일괄 등록을 가져오기 작업으로 처리한다.
+     * 행 단위로 검증하므로 일부 행이 올바르지 않아도 나머지 행은 저장되며, 추가된 데이터는 chunk 가 저장될 때마다 알린다.
+     */
+    @PostMapping("/batch/import-jobs")
+    public ResponseEntity<?> createImportJobForBatch(@RequestBody List<ErpOrderItemDto> itemDtos) {
         Message message = new Message();
 
-        erpOrderItemBusinessService.updateOne(itemDtos);
-        message.setStatus(HttpStatus.OK);
+        message.setData(erpOrderItemBusinessService.createImportJobForBatch(itemDtos));
+        message.setStatus(HttpStatus.ACCEPTED);
         message.setMessage("success");
 
-        messagingTemplate.convertAndSend("/topic/erp.erp-order-item", message);
+        return new ResponseEntity<>(message, message.getStatus());
     }
 
-    @PatchMapping("/batch/option-code/all")
-    public void changeBatchForAllOptionCode(@RequestBody List<ErpOrderItemDto> itemDtos) {
+    /**
+     * 임시 저장된 업로드 데이터를 주문 데이터로 등록한다.
+     * 이미 등록된 주문과 업로드 파일 안의 중복 주문은 제외되며, 등록 후 업로드 데이터는 삭제된다.
+     */
+    @PostMapping("/uploads/{uploadToken}/commit")
+    public ResponseEntity<?> commitUpload(@PathVariable(value = "uploadToken") UUID uploadToken) {
         Message message = new Message();
 
-        erpOrderItemBusinessService.changeBatchForAllOptionCode(itemDtos);
+        List<UUID> createdIds = erpOrderItemBusinessService.commitUpload(uploadToken);
+        message.setData(createdIds.size());
         message.setStatus(HttpStatus.OK);
         message.setMessage("success");
+        message.setSocketMemo("[주문 수집 관리] 에 추가된 데이터가 있습니다.");
+
+        if (!createdIds.isEmpty()) {
+            socketChangeEventPublisher.publish(TOPIC, SocketChangeEvent.created(createdIds), message.getSocketMemo(), null);
+        }
+
+        return new ResponseEntity<>(message, message.getStatus());
+    }
+
+    @PutMapping("")
+    public void updateOne(@RequestBody @Valid ErpOrderItemDto itemDtos) {
+        erpOrderItemBusinessService.updateOne(itemDtos);
+
+        socketChangeEventPublisher.publish(TOPIC, SocketChangeEvent.updated(Collections.singletonList(itemDtos.getId())));
+    }
+
+    @PatchMapping("/batch/option-code/all")
+    public void changeBatchForAllOptionCode(@RequestBody List<ErpOrderItemDto> itemDtos) {
+        erpOrderItemBusinessService.changeBatchForAllOptionCode(itemDtos);
 
-        messagingTemplate.convertAndSend("/topic/erp.erp-order-item", message);
+        SocketChangeEvent event = SocketChangeEvent.updated(getIds(itemDtos));
+        itemDtos.forEach(dto -> {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("id", dto.getId());
+            row.put("optionCode", dto.getOptionCode());
+            row.put("releaseOptionCode", dto.getOptionCode());
+            event.row(row);
+        });
+        socketChangeEventPublisher.publish(TOPIC, event);
     }
 
     @PatchMapping("/batch/release-option-code")
     public void changeBatchForReleaseOptionCode(@RequestBody List<ErpOrderItemDto> itemDtos) {
-        Message message = new Message();
-
         erpOrderItemBusinessService.changeBatchForReleaseOptionCode(itemDtos);
-        message.setStatus(HttpStatus.OK);
-        message.setMessage("success");
 
-        messagingTemplate.convertAndSend("/topic/erp.erp-order-item", message);
+        SocketChangeEvent event = SocketChangeEvent.updated(getIds(itemDtos));
+        itemDtos.forEach(dto -> {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("id", dto.getId());
+            row.put("releaseOptionCode", dto.getReleaseOptionCode());
+            event.row(row);
+        });
+        socketChangeEventPublisher.publish(TOPIC, event);
     }
 
     @PatchMapping("/batch/sales-yn")
     public void changeBatchForSalesYn(@RequestBody List<ErpOrderItemDto> itemDtos) {
-        Message message = new Message();
-
         erpOrderItemBusinessService.changeBatchForSalesYn(itemDtos);
-        message.setStatus(HttpStatus.OK);
-        message.setMessage("success");
 
-        messagingTemplate.convertAndSend("/topic/erp.erp-order-item", message);
+        // 같은 값으로 변경된 주문건은 버퍼에서 하나의 이벤트로 합쳐진다.
+        itemDtos.forEach(dto -> socketChangeEventPublisher.publish(TOPIC, SocketChangeEvent.updated(Collections.singletonList(dto.getId()))
+                .value("salesYn", dto.getSalesYn())
+                .value("salesAt", dto.getSalesAt())));
     }
 
     @PatchMapping("/batch/release-yn")
     public void changeBatchForReleaseYn(@RequestBody List<ErpOrderItemDto> itemDtos) {
-        Message message = new Message();
-
         erpOrderItemBusinessService.changeBatchForReleaseYn(itemDtos);
-        message.setStatus(HttpStatus.OK);
-        message.setMessage("success");
 
-        messagingTemplate.convertAndSend("/topic/erp.erp-order-item", message);
+        itemDtos.forEach(dto -> socketChangeEventPublisher.publish(TOPIC, SocketChangeEvent.updated(Collections.singletonList(dto.getId()))
+                .value("releaseYn", dto.getReleaseYn())
+                .value("releaseAt", dto.getReleaseAt())));
     }
 
     @PatchMapping("/batch/stock/action-reflect")
@@ -115,7 +156,8 @@ public class ErpOrderItemSocket {
         message.setMessage("success");
         message.setMemo(count + " 건의 옵션 상품에 재고 반영 되었습니다.");
 
-        messagingTemplate.convertAndSend("/topic/erp.erp-order-item", message);
+        // 재고 반영 여부는 옵션 등록 여부에 따라 달라지므로 id 만 전달하고 클라이언트가 해당 행을 다시 조회한다.
+        socketChangeEventPublisher.publish(TOPIC, SocketChangeEvent.updated(getIds(itemDtos)), null, message.getMemo());
         return new ResponseEntity<>(message, message.getStatus());
     }
 
@@ -128,19 +170,16 @@ public class ErpOrderItemSocket {
         message.setMessage("success");
         message.setMemo(count + " 건의 데이터가 재고 취소 되었습니다.");
 
-        messagingTemplate.convertAndSend("/topic/erp.erp-order-item", message);
+        List<UUID> canceledIds = itemDtos.stream().filter(r -> "y".equals(r.getStockReflectYn())).map(ErpOrderItemDto::getId).collect(Collectors.toList());
+        socketChangeEventPublisher.publish(TOPIC, SocketChangeEvent.updated(canceledIds).value("stockReflectYn", "n"), null, message.getMemo());
         return new ResponseEntity<>(message, message.getStatus());
     }
 
     @PostMapping("/batch-delete")
     public void deleteBatch(@RequestBody List<ErpOrderItemDto> itemDtos) {
-        Message message = new Message();
-
         erpOrderItemBusinessService.deleteBatch(itemDtos);
-        message.setStatus(HttpStatus.OK);
-        message.setMessage("success");
 
-        messagingTemplate.convertAndSend("/topic/erp.erp-order-item", message);
+        socketChangeEventPublisher.publish(TOPIC, SocketChangeEvent.deleted(getIds(itemDtos)));
     }
 
     @PatchMapping(value = "/batch/waybill")
@@ -150,13 +189,19 @@ public class ErpOrderItemSocket {
         Message message = new Message();
 
         List<WaybillExcelFormDto> waybillExcelFormDtos = erpOrderItemBusinessService.readWaybillExcelFile(file);
-        int updatedCount = erpOrderItemBusinessService.changeBatchForWaybill(data, waybillExcelFormDtos);
+        ErpOrderItemWaybillMatchResultDto resultDto = erpOrderItemBusinessService.changeBatchForWaybill(data, waybillExcelFormDtos);
         message.setStatus(HttpStatus.OK);
         message.setMessage("success");
-        message.setMemo("운송장이 입력된 데이터는 총 : " + updatedCount + " 건 입니다.");
+        message.setMemo("운송장이 입력된 데이터는 총 : " + resultDto.getUpdatedCount() + " 건 입니다.\n"
+                + "일치하는 데이터가 없는 운송장 : " + resultDto.getUnmatchedWaybills().size() + " 건\n"
+                + "운송장 정보가 중복되어 반영되지 않은 운송장 : " + resultDto.getAmbiguousWaybills().size() + " 건");
 
-        messagingTemplate.convertAndSend("/topic/erp.erp-order-item", message);
+        socketChangeEventPublisher.publish(TOPIC, SocketChangeEvent.updated(resultDto.getUpdatedIds()), null, message.getMemo());
 
         return new ResponseEntity<>(message, message.getStatus());
     }
+
+    private List<UUID> getIds(List<ErpOrderItemDto> itemDtos) {
+        return itemDtos.stream().map(ErpOrderItemDto::getId).collect(Collectors.toList());
+    }
 }
@@ -9,6 +9,8 @@ import javax.validation.constraints.PositiveOrZero;
 import javax.validation.constraints.Size;
 
 import com.piaar_store_manager.server.domain.erp_order_item.entity.ErpOrderItemEntity;
+import com.piaar_store_manager.server.domain.erp_order_item.vo.ErpOrderItemVo;
+import com.piaar_store_manager.server.domain.erp_order_item_staging.entity.ErpOrderItemStagingEntity;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -225,4 +227,96 @@ public class ErpOrderItemDto {
 
         return dto;
     }
+
+    /**
+     * 엑셀 업로드 데이터(ErpOrderItemVo)를 저장용 dto 로 변환한다.
+     * 수량, 판매금액, 배송비가 숫자가 아니라면 NumberFormatException 을 던진다.
+     *
+     * @param vo : ErpOrderItemVo
+     * @return ErpOrderItemDto
+     */
+    public static ErpOrderItemDto toDto(ErpOrderItemVo vo) {
+        ErpOrderItemDto dto = ErpOrderItemDto.builder()
+                .prodName(vo.getProdName())
+                .optionName(vo.getOptionName())
+                .unit(Integer.parseInt(vo.getUnit()))
+                .receiver(vo.getReceiver())
+                .receiverContact1(vo.getReceiverContact1())
+                .receiverContact2(vo.getReceiverContact2())
+                .destination(vo.getDestination())
+                .salesChannel(vo.getSalesChannel())
+                .orderNumber1(vo.getOrderNumber1())
+                .orderNumber2(vo.getOrderNumber2())
+                .channelProdCode(vo.getChannelProdCode())
+                .channelOptionCode(vo.getChannelOptionCode())
+                .zipCode(vo.getZipCode())
+                .courier(vo.getCourier())
+                .transportType(vo.getTransportType())
+                .deliveryMessage(vo.getDeliveryMessage())
+                .waybillNumber(vo.getWaybillNumber())
+                .price(vo.getPrice() == null || vo.getPrice().isEmpty() ? 0 : Integer.parseInt(vo.getPrice()))
+                .deliveryCharge(vo.getDeliveryCharge() == null || vo.getDeliveryCharge().isEmpty() ? 0 : Integer.parseInt(vo.getDeliveryCharge()))
+                .barcode(vo.getBarcode())
+                .prodCode(vo.getProdCode())
+                .optionCode(vo.getOptionCode())
+                .releaseOptionCode(vo.getReleaseOptionCode())
+                .managementMemo1(vo.getManagementMemo1())
+                .managementMemo2(vo.getManagementMemo2())
+                .managementMemo3(vo.getManagementMemo3())
+                .managementMemo4(vo.getManagementMemo4())
+                .managementMemo5(vo.getManagementMemo5())
+                .managementMemo6(vo.getManagementMemo6())
+                .managementMemo7(vo.getManagementMemo7())
+                .managementMemo8(vo.getManagementMemo8())
+                .managementMemo9(vo.getManagementMemo9())
+                .managementMemo10(vo.getManagementMemo10())
+                .build();
+
+        return dto;
+    }
+
+    public static ErpOrderItemDto toDto(ErpOrderItemStagingEntity entity) {
+        ErpOrderItemDto dto = ErpOrderItemDto.builder()
+                .id(entity.getId())
+                .uniqueCode(entity.getUniqueCode())
+                .prodName(entity.getProdName())
+                .optionName(entity.getOptionName())
+                .unit(entity.getUnit())
+                .receiver(entity.getReceiver())
+                .receiverContact1(entity.getReceiverContact1())
+                .receiverContact2(entity.getReceiverContact2())
+                .destination(entity.getDestination())
+                .salesChannel(entity.getSalesChannel())
+                .orderNumber1(entity.getOrderNumber1())
+                .orderNumber2(entity.getOrderNumber2())
+                .channelProdCode(entity.getChannelProdCode())
+                .channelOptionCode(entity.getChannelOptionCode())
+                .zipCode(entity.getZipCode())
+                .courier(entity.getCourier())
+                .transportType(entity.getTransportType())
+                .deliveryMessage(entity.getDeliveryMessage())
+                .waybillNumber(entity.getWaybillNumber())
+                .price(entity.getPrice())
+                .deliveryCharge(entity.getDeliveryCharge())
+                .barcode(entity.getBarcode())
+                .prodCode(entity.getProdCode())
+                .optionCode(entity.getOptionCode())
+                .releaseOptionCode(entity.getReleaseOptionCode())
+                .managementMemo1(entity.getManagementMemo1())
+                .managementMemo2(entity.getManagementMemo2())
+                .managementMemo3(entity.getManagementMemo3())
+                .managementMemo4(entity.getManagementMemo4())
+                .managementMemo5(entity.getManagementMemo5())
+                .managementMemo6(entity.getManagementMemo6())
+                .managementMemo7(entity.getManagementMemo7())
+                .managementMemo8(entity.getManagementMemo8())
+                .managementMemo9(entity.getManagementMemo9())
+                .managementMemo10(entity.getManagementMemo10())
+                .freightCode(entity.getFreightCode())
+                .createdAt(entity.getCreatedAt())
+                .createdBy(entity.getCreatedBy())
+                .build();
+
+        return dto;
+    }
 }
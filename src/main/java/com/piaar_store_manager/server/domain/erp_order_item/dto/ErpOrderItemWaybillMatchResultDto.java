@@ -0,0 +1,32 @@
+package com.piaar_store_manager.server.domain.erp_order_item.dto;
+
+import lombok.*;
+import lombok.experimental.Accessors;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.piaar_store_manager.server.domain.excel_form.waybill.WaybillExcelFormDto;
+
+/**
+ * 운송장 일괄 등록 결과.
+ * <p>
+ * updatedIds : 운송장 정보가 반영된 주문건의 id
+ * <p>
+ * unmatchedWaybills : 선택된 주문건 중 수취인명 + 운임코드가 일치하는 데이터가 없는 운송장 행
+ * <p>
+ * ambiguousWaybills : 같은 수취인명 + 운임코드에 서로 다른 운송장 정보가 존재해서 반영하지 않은 운송장 행
+ */
+@Builder
+@Getter
+@Setter
+@ToString
+@Accessors(chain = true)
+@AllArgsConstructor
+@NoArgsConstructor
+public class ErpOrderItemWaybillMatchResultDto {
+    private int updatedCount;
+    private List<UUID> updatedIds;
+    private List<WaybillExcelFormDto> unmatchedWaybills;
+    private List<WaybillExcelFormDto> ambiguousWaybills;
+}
@@ -1,14 +1,22 @@
 package com.piaar_store_manager.server.domain.erp_order_item.entity;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 
 import com.piaar_store_manager.server.domain.erp_order_item.dto.ErpOrderItemDto;
 
@@ -27,7 +35,11 @@ import lombok.experimental.Accessors;
 @Entity
 @Builder
 @Getter
-@Table(name = "erp_order_item")
+@Table(name = "erp_order_item", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_erp_order_item_duplication_hash", columnNames = {"duplication_hash"})
+}, indexes = {
+        @Index(name = "idx_erp_order_item_created_at", columnList = "created_at")
+})
 @ToString
 @Accessors(chain = true)
 @NoArgsConstructor
@@ -35,13 +47,15 @@ import lombok.experimental.Accessors;
 @DynamicInsert
 @DynamicUpdate
 public class ErpOrderItemEntity {
+    // duplicationHash 계산 시 null 값 대신 사용하는 값
+    public static final String DUPLICATION_HASH_NULL_MARKER = "\u0000";
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "cid")
     private Integer cid;
 
-    @Type(type = "uuid-char")
+    @Type(type = "uuid-compact")
     @Column(name = "id")
     private UUID id;
 
@@ -206,10 +220,18 @@ public class ErpOrderItemEntity {
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
-    @Type(type = "uuid-char")
+    @Type(type = "uuid-compact")
     @Column(name = "created_by")
     private UUID createdBy;
 
+    /*
+    중복 등록 검사용 해시값. (주문번호1 + 수령인 + 상품명 + 옵션명 + 수량)
+    주문번호1이 비어있는 데이터는 중복 검사 대상이 아니므로 null 로 저장한다.
+    MySQL SHA2(CONCAT_WS(0x1F, order_number1, receiver, prod_name, option_name, unit), 256) 과 동일한 값이다.
+     */
+    @Column(name = "duplication_hash")
+    private String duplicationHash;
+
     public static ErpOrderItemEntity toEntity(ErpOrderItemDto dto) {
         ErpOrderItemEntity entity = ErpOrderItemEntity.builder()
                 .cid(dto.getCid())
@@ -256,8 +278,49 @@ public class ErpOrderItemEntity {
                 .stockReflectYn(dto.getStockReflectYn())
                 .createdAt(dto.getCreatedAt())
                 .createdBy(dto.getCreatedBy())
+                .duplicationHash(ErpOrderItemEntity.generateDuplicationHash(dto.getOrderNumber1(), dto.getReceiver(), dto.getProdName(), dto.getOptionName(), dto.getUnit()))
                 .build();
 
         return entity;
     }
+
+    /**
+     * 중복 검사 대상 컬럼이 변경되었을 때 duplicationHash 를 다시 계산한다.
+     */
+    public ErpOrderItemEntity refreshDuplicationHash() {
+        this.duplicationHash = ErpOrderItemEntity.generateDuplicationHash(this.orderNumber1, this.receiver, this.prodName, this.optionName, this.unit);
+        return this;
+    }
+
+    /**
+     * 주문번호1 + 수령인 + 상품명 + 옵션명 + 수량 으로 SHA-256 해시(hex)를 생성한다.
+     * 주문번호1이 비어있다면 중복 검사 대상이 아니므로 null 을 반환한다.
+     * <p>
+     * 값의 위치가 바뀌어도 같은 해시가 되지 않도록 null 값은 제외하지 않고 DUPLICATION_HASH_NULL_MARKER 로 대신한다.
+     * DB 에서 해시를 다시 계산하는 SQL 은 ErpOrderItemDuplicationHashMigration#DUPLICATION_HASH_SQL 이며, 두 계산식은 같아야 한다.
+     *
+     * @return String : 64 characters hex string
+     */
+    public static String generateDuplicationHash(String orderNumber1, String receiver, String prodName, String optionName, Integer unit) {
+        if (orderNumber1 == null || orderNumber1.isEmpty()) {
+            return null;
+        }
+
+        // 구분자(0x1F)로 연결한다. SQL 의 CONCAT_WS(CHAR(31), col1, COALESCE(col2, CHAR(0)), ...) 와 같다.
+        String key = Stream.of(orderNumber1, receiver, prodName, optionName, unit)
+                .map(value -> Objects.toString(value, DUPLICATION_HASH_NULL_MARKER))
+                .collect(Collectors.joining("\u001F"));
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            StringBuilder sb = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                sb.append(Character.forDigit((b >> 4) & 0xF, 16));
+                sb.append(Character.forDigit(b & 0xF, 16));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
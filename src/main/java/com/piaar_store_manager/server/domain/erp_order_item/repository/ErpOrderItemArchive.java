@@ -0,0 +1,217 @@
+package com.piaar_store_manager.server.domain.erp_order_item.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import com.piaar_store_manager.server.config.jpa.TableRoutingConfiguration;
+import com.piaar_store_manager.server.exception.CustomInvalidDataException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * erp_order_item 의 보관 테이블(erp_order_item_archive).
+ * <p>
+ * app.erp-order-item.archive.enabled 가 true 라면 애플리케이션 시작 시 erp_order_item 과 같은 구조의 보관 테이블을 생성하고,
+ * 보관 기준일 이전에 등록, 판매, 출고, 재고반영이 모두 끝난 주문 데이터는 ErpOrderItemArchiveService 가 주기적으로 보관 테이블로 옮긴다.
+ * 처리가 끝나지 않은 주문은 등록일과 관계없이 운영 테이블에 남는다.
+ * <p>
+ * 보관 테이블은 조회 전용이며, 판매, 출고 처리 등의 수정과 중복 주문(duplication_hash) 검사는 운영 테이블만 대상으로 한다.
+ * 보관 이후 같은 주문이 다시 등록될 수 있으므로 보관 테이블에는 중복 주문 unique index 를 두지 않는다.
+ * 조회 대상 테이블을 판단하기 위해 보관 테이블에는 판매일, 출고일 index 를 추가한다.
+ * erp_order_item 에 컬럼을 추가한다면 보관 테이블에도 같은 컬럼을 추가해야 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ErpOrderItemArchive {
+    public static final String TABLE_NAME = "erp_order_item";
+    public static final String ARCHIVE_TABLE_NAME = "erp_order_item_archive";
+    public static final String DUPLICATION_HASH_INDEX_NAME = "uk_erp_order_item_duplication_hash";
+
+    // 보관 테이블을 생성한 후 보관 테이블의 index 를 다루는 초기화 작업(FULLTEXT index 등)이 실행되도록 한다.
+    public static final int INITIALIZATION_ORDER = Ordered.HIGHEST_PRECEDENCE;
+
+    // 조회기간 기준 - 컬럼명
+    private static final Map<String, String> PERIOD_COLUMNS = Map.of(
+            "registration", "created_at",
+            "sales", "sales_at",
+            "release", "release_at"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.erp-order-item.archive.enabled:false}")
+    private boolean enabled;
+
+    // 조회 대상 테이블 판단에 사용하는 경계 시점의 캐시 유지 시간
+    @Value("${app.erp-order-item.archive.boundary-cache-millis:600000}")
+    private long boundaryCacheMillis;
+
+    private volatile Boundaries cachedBoundaries;
+
+    @Order(INITIALIZATION_ORDER)
+    @EventListener(ApplicationReadyEvent.class)
+    public void createArchiveTable() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + ARCHIVE_TABLE_NAME + " LIKE " + TABLE_NAME);
+            this.dropDuplicationHashIndex();
+            this.createIndexIfMissing("idx_erp_order_item_archive_sales_at", "sales_at");
+            this.createIndexIfMissing("idx_erp_order_item_archive_release_at", "release_at");
+        } catch (DataAccessException e) {
+            log.error("erp_order_item archive table initialization failed. archive is disabled.", e);
+            enabled = false;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 캐시된 경계 시점을 비운다. 보관 테이블로 데이터를 옮긴 후 호출한다.
+     */
+    public void invalidateBoundaries() {
+        cachedBoundaries = null;
+    }
+
+    /*
+    CREATE TABLE ... LIKE 는 운영 테이블의 unique index 도 복사한다.
+    보관 후 다시 등록된 주문이 보관될 때 중복 키 오류로 보관이 멈추지 않도록 보관 테이블의 중복 주문 index 를 삭제한다.
+     */
+    private void dropDuplicationHashIndex() {
+        if (this.existsIndex(DUPLICATION_HASH_INDEX_NAME)) {
+            jdbcTemplate.execute("ALTER TABLE " + ARCHIVE_TABLE_NAME + " DROP INDEX " + DUPLICATION_HASH_INDEX_NAME);
+        }
+    }
+
+    private void createIndexIfMissing(String indexName, String column) {
+        if (!this.existsIndex(indexName)) {
+            jdbcTemplate.execute("CREATE INDEX " + indexName + " ON " + ARCHIVE_TABLE_NAME + " (" + column + ")");
+        }
+    }
+
+    private boolean existsIndex(String indexName) {
+        Integer indexCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?",
+                Integer.class, ARCHIVE_TABLE_NAME, indexName);
+        return indexCount != null && indexCount > 0;
+    }
+
+    /**
+     * 보관 테이블을 조회해야 한다면 fetcher 를 보관 테이블 대상으로 실행한다.
+     * <p>
+     * archiveYn 이 "y" 라면 보관 테이블을, "n" 이라면 운영 테이블을 조회한다.
+     * 지정하지 않았다면 조회기간을 보관 테이블의 가장 최근 일시(조회기간 기준 컬럼)와 비교해, 조회기간이 그 이후라면 운영 테이블을 조회한다.
+     * 등록일 기준 조회는 조회기간이 운영 테이블의 가장 오래된 등록일 이전이라면 보관 테이블을 조회한다.
+     * 판매일, 출고일 기준 조회는 운영 테이블에도 오래된 판매일, 출고일이 남아있을 수 있으므로 자동으로 보관 테이블을 조회하지 않는다.
+     * 그 밖의 경우 두 테이블 모두 조회기간의 데이터가 있을 수 있으므로 조회하지 않고 오류를 반환한다.
+     * <p>
+     * 경계 시점은 boundaryCacheMillis 동안 캐시한다.
+     *
+     * @param archiveYn       : String
+     * @param periodType      : String : registration, sales, release
+     * @param searchStartDate : LocalDateTime
+     * @param searchEndDate   : LocalDateTime
+     * @param fetcher         : Supplier
+     * @return T
+     * @throws CustomInvalidDataException : 조회기간의 데이터가 운영, 보관 테이블에 나누어 있을 수 있는 경우
+     */
+    public <T> T fetch(String archiveYn, String periodType, LocalDateTime searchStartDate, LocalDateTime searchEndDate, Supplier<T> fetcher) {
+        if (!enabled || !this.isArchiveSearch(archiveYn, periodType, searchStartDate, searchEndDate)) {
+            return fetcher.get();
+        }
+        return TableRoutingConfiguration.withRoutedTable(TABLE_NAME, ARCHIVE_TABLE_NAME, fetcher);
+    }
+
+    private boolean isArchiveSearch(String archiveYn, String periodType, LocalDateTime searchStartDate, LocalDateTime searchEndDate) {
+        if (archiveYn != null) {
+            return archiveYn.equals("y");
+        }
+
+        String periodColumn = periodType == null ? null : PERIOD_COLUMNS.get(periodType);
+        if (periodColumn == null || searchStartDate == null || searchEndDate == null) {
+            return false;
+        }
+
+        Boundaries boundaries = this.getBoundaries();
+
+        // 보관 테이블에 조회기간의 데이터가 없다.
+        LocalDateTime archiveUpperBound = boundaries.archiveUpperBounds.get(periodColumn);
+        if (archiveUpperBound == null || searchStartDate.isAfter(archiveUpperBound)) {
+            return false;
+        }
+
+        // 운영 테이블에 조회기간의 데이터가 없다. 운영 테이블에 남은 가장 오래된 주문 등록일 이전에 등록된 주문은 모두 보관 테이블에 있다.
+        if (periodColumn.equals("created_at")
+                && (boundaries.hotCreatedAtLowerBound == null || searchEndDate.isBefore(boundaries.hotCreatedAtLowerBound))) {
+            return true;
+        }
+
+        throw new CustomInvalidDataException("조회기간에 보관된 주문 데이터가 포함되어 있습니다. 보관 데이터 조회 여부를 선택해 주세요.");
+    }
+
+    private Boundaries getBoundaries() {
+        Boundaries boundaries = cachedBoundaries;
+        long now = System.currentTimeMillis();
+
+        if (boundaries == null || now - boundaries.loadedAt > boundaryCacheMillis) {
+            boundaries = new Boundaries(this.searchHotCreatedAtLowerBound(), this.searchArchiveUpperBounds(), now);
+            cachedBoundaries = boundaries;
+        }
+        return boundaries;
+    }
+
+    protected LocalDateTime searchHotCreatedAtLowerBound() {
+        return jdbcTemplate.queryForObject("SELECT MIN(created_at) FROM " + TABLE_NAME, LocalDateTime.class);
+    }
+
+    /**
+     * 조회기간 기준 컬럼명 - 보관 테이블의 가장 최근 일시. 보관 테이블이 비어있다면 값은 포함되지 않는다.
+     */
+    protected Map<String, LocalDateTime> searchArchiveUpperBounds() {
+        return jdbcTemplate.query("SELECT MAX(created_at), MAX(sales_at), MAX(release_at) FROM " + ARCHIVE_TABLE_NAME, rs -> {
+            if (!rs.next()) {
+                return Collections.emptyMap();
+            }
+
+            Map<String, LocalDateTime> upperBounds = new HashMap<>();
+            String[] columns = { "created_at", "sales_at", "release_at" };
+            for (int i = 0; i < columns.length; i++) {
+                LocalDateTime upperBound = rs.getObject(i + 1, LocalDateTime.class);
+                if (upperBound != null) {
+                    upperBounds.put(columns[i], upperBound);
+                }
+            }
+            return upperBounds;
+        });
+    }
+
+    private static class Boundaries {
+        private final LocalDateTime hotCreatedAtLowerBound;
+        private final Map<String, LocalDateTime> archiveUpperBounds;
+        private final long loadedAt;
+
+        private Boundaries(LocalDateTime hotCreatedAtLowerBound, Map<String, LocalDateTime> archiveUpperBounds, long loadedAt) {
+            this.hotCreatedAtLowerBound = hotCreatedAtLowerBound;
+            this.archiveUpperBounds = archiveUpperBounds;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
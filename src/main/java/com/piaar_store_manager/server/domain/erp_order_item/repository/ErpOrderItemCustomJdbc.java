@@ -2,11 +2,19 @@ package com.piaar_store_manager.server.domain.erp_order_item.repository;
 
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 
 import com.piaar_store_manager.server.domain.erp_order_item.entity.ErpOrderItemEntity;
 
 @Repository
 public interface ErpOrderItemCustomJdbc {
     void jdbcBulkInsert(List<ErpOrderItemEntity> entities);
+    void jdbcBulkUpdateWaybill(List<ErpOrderItemEntity> entities);
+    int jdbcBulkUpdateSalesYn(List<UUID> ids, String salesYn, LocalDateTime salesAt);
+    int jdbcBulkUpdateReleaseYn(List<UUID> ids, String releaseYn, LocalDateTime releaseAt);
+    int jdbcBulkUpdateOptionCode(List<ErpOrderItemEntity> entities);
+    int jdbcBulkUpdateReleaseOptionCode(List<ErpOrderItemEntity> entities);
+    int jdbcMoveToArchive(LocalDateTime archiveBefore, int limit);
 }
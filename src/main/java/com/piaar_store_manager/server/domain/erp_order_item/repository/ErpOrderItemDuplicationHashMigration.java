@@ -0,0 +1,87 @@
+package com.piaar_store_manager.server.domain.erp_order_item.repository;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * erp_order_item.duplication_hash 를 다시 계산하고 중복 주문 unique index(uk_erp_order_item_duplication_hash)를 생성한다.
+ * <p>
+ * unique index 가 없거나 app.erp-order-item.duplication-hash.rebuild 가 true 라면 애플리케이션 시작 시 실행된다.
+ * duplication_hash 컬럼을 처음 추가하거나 해시 계산식이 변경된 경우 rebuild 를 true 로 설정해 한 번 실행한다.
+ * <p>
+ * 이미 저장된 중복 주문(주문번호1 + 수령인 + 상품명 + 옵션명 + 수량 이 동일한 데이터)은 삭제하지 않는다.
+ * 가장 먼저 등록된(cid 가 가장 작은) 데이터에만 해시를 저장하고, 나머지 데이터의 해시는 null 로 두어 unique index 생성이 실패하지 않도록 한다.
+ */
+@Slf4j
+@Component
+public class ErpOrderItemDuplicationHashMigration {
+    // ErpOrderItemEntity#generateDuplicationHash 와 같은 계산식
+    public static final String DUPLICATION_HASH_SQL = "SHA2(CONCAT_WS(CHAR(31 USING utf8mb4), order_number1," +
+            " COALESCE(receiver, CHAR(0 USING utf8mb4)), COALESCE(prod_name, CHAR(0 USING utf8mb4))," +
+            " COALESCE(option_name, CHAR(0 USING utf8mb4)), COALESCE(unit, CHAR(0 USING utf8mb4))), 256)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.erp-order-item.duplication-hash.rebuild:false}")
+    private boolean rebuild;
+
+    /**
+     * entityManagerFactory 는 Hibernate 의 스키마 생성이 끝난 후 실행되도록 의존성으로만 받는다.
+     */
+    @Autowired
+    public ErpOrderItemDuplicationHashMigration(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    public void migrate() {
+        Integer columnCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.columns WHERE table_schema = DATABASE() AND table_name = ? AND column_name = ?",
+                Integer.class, ErpOrderItemArchive.TABLE_NAME, "duplication_hash");
+        // 아직 생성되지 않은 컬럼
+        if (columnCount == null || columnCount == 0) {
+            return;
+        }
+
+        Integer indexCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?",
+                Integer.class, ErpOrderItemArchive.TABLE_NAME, ErpOrderItemArchive.DUPLICATION_HASH_INDEX_NAME);
+        boolean indexExists = indexCount != null && indexCount > 0;
+
+        if (indexExists && !rebuild) {
+            return;
+        }
+
+        log.info("rebuilding erp_order_item.duplication_hash");
+        int hashedCount = transactionTemplate.execute(status -> this.rebuildDuplicationHash());
+        log.info("erp_order_item.duplication_hash rebuilt. count={}", hashedCount);
+
+        if (!indexExists) {
+            jdbcTemplate.execute("CREATE UNIQUE INDEX " + ErpOrderItemArchive.DUPLICATION_HASH_INDEX_NAME
+                    + " ON " + ErpOrderItemArchive.TABLE_NAME + " (duplication_hash)");
+        }
+    }
+
+    /*
+    해시를 모두 지운 후 같은 해시의 데이터 중 cid 가 가장 작은 데이터에만 해시를 저장한다.
+     */
+    private int rebuildDuplicationHash() {
+        jdbcTemplate.update("UPDATE erp_order_item SET duplication_hash = NULL WHERE duplication_hash IS NOT NULL");
+
+        return jdbcTemplate.update("UPDATE erp_order_item e" +
+                " JOIN (SELECT MIN(cid) AS cid FROM erp_order_item WHERE order_number1 <> '' GROUP BY " + DUPLICATION_HASH_SQL + ") first_item" +
+                " ON first_item.cid = e.cid" +
+                " SET e.duplication_hash = " + DUPLICATION_HASH_SQL);
+    }
+}
@@ -0,0 +1,164 @@
+package com.piaar_store_manager.server.domain.erp_order_item.repository;
+
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * erp_order_item 검색 컬럼의 ngram FULLTEXT 인덱스.
+ * <p>
+ * app.erp-order-item.fulltext-search-enabled 가 true 라면 애플리케이션 시작 시 운영 테이블과 보관 테이블(존재하는 경우)에 없는 인덱스를 생성하고,
+ * 두 테이블 모두 인덱스가 존재하는 컬럼만 LIKE '%검색어%' 대신 MATCH ... AGAINST 로 후보를 좁혀 검색한다.
+ * 검색 조건은 조회 대상 테이블이 정해지기 전에 만들어지므로 보관 테이블로 조회되더라도 MATCH 를 사용할 수 있어야 한다.
+ * 보관 테이블은 ErpOrderItemArchive 가 먼저 생성한다.
+ * 인덱스는 MySQL 이 INSERT, UPDATE 시 함께 갱신하므로 JPA, JDBC batch, INSERT ... SELECT 등 저장 경로와 관계없이 항상 최신이다.
+ * <p>
+ * ngram 파서는 불용어가 포함된 토큰을 색인하지 않기 때문에 불용어를 끈 세션에서 인덱스를 생성한다.
+ * 첫번째 FULLTEXT 인덱스 생성 시 테이블을 재구성하므로 데이터가 많다면 점검 시간에 활성화한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ErpOrderItemFullTextIndex {
+    // ngram_token_size 기본값. 검색어가 이보다 짧으면 인덱스로 찾을 수 없다.
+    private static final int NGRAM_TOKEN_SIZE = 2;
+
+    // 검색 필드명 - 컬럼명
+    private static final Map<String, String> SEARCH_COLUMNS;
+
+    static {
+        Map<String, String> searchColumns = new LinkedHashMap<>();
+        searchColumns.put("receiver", "receiver");
+        searchColumns.put("receiverContact1", "receiver_contact1");
+        searchColumns.put("receiverContact2", "receiver_contact2");
+        searchColumns.put("orderNumber1", "order_number1");
+        searchColumns.put("orderNumber2", "order_number2");
+        searchColumns.put("prodName", "prod_name");
+        searchColumns.put("optionName", "option_name");
+        for (int i = 1; i <= 10; i++) {
+            searchColumns.put("managementMemo" + i, "management_memo" + i);
+        }
+        SEARCH_COLUMNS = Collections.unmodifiableMap(searchColumns);
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.erp-order-item.fulltext-search-enabled:false}")
+    private boolean enabled;
+
+    private volatile Set<String> indexedFieldNames = Collections.emptySet();
+
+    @Order(ErpOrderItemArchive.INITIALIZATION_ORDER + 1)
+    @EventListener(ApplicationReadyEvent.class)
+    public void createMissingIndexes() {
+        if (!enabled) {
+            return;
+        }
+
+        Set<String> existingColumns;
+        try {
+            existingColumns = this.createMissingIndexes(ErpOrderItemArchive.TABLE_NAME);
+            if (this.existsTable(ErpOrderItemArchive.ARCHIVE_TABLE_NAME)) {
+                existingColumns.retainAll(this.createMissingIndexes(ErpOrderItemArchive.ARCHIVE_TABLE_NAME));
+            }
+        } catch (DataAccessException e) {
+            log.error("erp_order_item fulltext index initialization failed. LIKE search is used instead.", e);
+            return;
+        }
+
+        Set<String> fieldNames = new HashSet<>();
+        SEARCH_COLUMNS.forEach((fieldName, column) -> {
+            if (existingColumns.contains(column)) {
+                fieldNames.add(fieldName);
+            }
+        });
+        indexedFieldNames = Collections.unmodifiableSet(fieldNames);
+    }
+
+    /**
+     * fieldName 컬럼의 FULLTEXT 인덱스를 사용할 수 있다면 searchQuery 를 boolean mode 구문 검색어로 변환해 반환한다.
+     * 인덱스가 없거나 검색어가 ngram 토큰보다 짧다면 null 을 반환한다.
+     * 구문 검색은 후보를 좁히는 용도이며, 정확한 일치 여부는 호출하는 쪽에서 LIKE 조건으로 확인한다.
+     *
+     * @param fieldName   : String
+     * @param searchQuery : String
+     * @return String
+     */
+    public String toBooleanPhrase(String fieldName, String searchQuery) {
+        if (!indexedFieldNames.contains(fieldName)) {
+            return null;
+        }
+
+        // 큰따옴표는 구문 검색의 구분자이므로 포함된 검색어는 LIKE 로만 검색한다.
+        String phrase = searchQuery.trim();
+        if (phrase.contains("\"") || phrase.codePointCount(0, phrase.length()) < NGRAM_TOKEN_SIZE) {
+            return null;
+        }
+        return "\"" + phrase + "\"";
+    }
+
+    /*
+    table 에 없는 인덱스를 생성하고, 인덱스가 존재하는 컬럼명을 반환한다.
+     */
+    private Set<String> createMissingIndexes(String table) {
+        Set<String> existingColumns = this.searchFullTextIndexedColumns(table);
+        List<String> missingColumns = SEARCH_COLUMNS.values().stream()
+                .filter(column -> !existingColumns.contains(column))
+                .collect(Collectors.toList());
+
+        if (missingColumns.isEmpty()) {
+            return existingColumns;
+        }
+
+        // 세션 변수는 커넥션 단위이므로 같은 커넥션에서 인덱스를 생성하고, 풀에 반환하기 전에 기본값으로 되돌린다.
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET SESSION innodb_ft_enable_stopword = OFF");
+                try {
+                    for (String column : missingColumns) {
+                        log.info("creating fulltext index on {}.{}", table, column);
+                        statement.execute("ALTER TABLE " + table + " ADD FULLTEXT INDEX ft_erp_order_item_" + column + " (" + column + ") WITH PARSER ngram");
+                        existingColumns.add(column);
+                    }
+                } finally {
+                    statement.execute("SET SESSION innodb_ft_enable_stopword = DEFAULT");
+                }
+            }
+            return null;
+        });
+        return existingColumns;
+    }
+
+    private boolean existsTable(String table) {
+        Integer tableCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = ?",
+                Integer.class, table);
+        return tableCount != null && tableCount > 0;
+    }
+
+    private Set<String> searchFullTextIndexedColumns(String table) {
+        // MATCH 의 컬럼 목록은 인덱스의 컬럼 목록과 같아야 하므로 단일 컬럼 인덱스만 사용한다.
+        String sql = "SELECT MAX(column_name) FROM information_schema.statistics" +
+                " WHERE table_schema = DATABASE() AND table_name = ? AND index_type = 'FULLTEXT'" +
+                " GROUP BY index_name HAVING COUNT(*) = 1";
+
+        return new HashSet<>(jdbcTemplate.queryForList(sql, String.class, table));
+    }
+}
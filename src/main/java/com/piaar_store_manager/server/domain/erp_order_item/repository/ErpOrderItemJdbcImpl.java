@@ -1,24 +1,38 @@
 package com.piaar_store_manager.server.domain.erp_order_item.repository;
 
+import com.piaar_store_manager.server.config.jpa.UuidStorage;
 import com.piaar_store_manager.server.domain.erp_order_item.entity.ErpOrderItemEntity;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
 
 @Repository
 @RequiredArgsConstructor
 @Slf4j
 public class ErpOrderItemJdbcImpl implements ErpOrderItemCustomJdbc {
     private final JdbcTemplate jdbcTemplate;
+    private final UuidStorage uuidStorage;
     private int batchSize = 300;
 
+    // IN 절, CASE 절 한 문장에 포함되는 id 개수
+    @Value("${app.erp-order-item.bulk-update-chunk-size:1000}")
+    private int bulkUpdateChunkSize;
+
     @Override
     public void jdbcBulkInsert(List<ErpOrderItemEntity> entities) {
         int batchCount = 0;
@@ -40,20 +54,20 @@ public class ErpOrderItemJdbcImpl implements ErpOrderItemCustomJdbc {
                 " sales_channel, order_number1, order_number2, channel_prod_code, channel_option_code, zip_code, courier, transport_type, delivery_message,waybill_number, " +
                 " price, delivery_charge, barcode, prod_code, option_code, release_option_code, management_memo1, management_memo2, management_memo3, management_memo4, " +
                 " management_memo5, management_memo6, management_memo7, management_memo8, management_memo9, management_memo10, freight_code, sales_yn, sales_at, release_yn," +
-                " release_at, stock_reflect_yn, created_at, created_by)" +
+                " release_at, stock_reflect_yn, created_at, created_by, duplication_hash)" +
                 "VALUES" +
                 "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?," +
                 " ?, ?, ?, ?, ?, ?, ?, ?, ?, ?," +
                 " ?, ?, ?, ?, ?, ?, ?, ?, ?, ?," +
                 " ?, ?, ?, ?, ?, ?, ?, ?, ?, ?," +
-                " ?, ?, ?, ?)";
+                " ?, ?, ?, ?, ?)";
 
         jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
             @Override
             public void setValues(PreparedStatement ps, int i) throws SQLException {
                 ErpOrderItemEntity entity = subItems.get(i);
                 ps.setObject(1, entity.getCid());
-                ps.setObject(2, entity.getId().toString());
+                ps.setObject(2, uuidStorage.toParameter(entity.getId()));
                 ps.setObject(3, entity.getUniqueCode());
                 ps.setString(4, entity.getProdName());
                 ps.setString(5, entity.getOptionName());
@@ -95,7 +109,8 @@ public class ErpOrderItemJdbcImpl implements ErpOrderItemCustomJdbc {
                 ps.setObject(41, entity.getReleaseAt());
                 ps.setString(42, entity.getStockReflectYn());
                 ps.setObject(43, entity.getCreatedAt());
-                ps.setObject(44, entity.getCreatedBy().toString());
+                ps.setObject(44, uuidStorage.toParameter(entity.getCreatedBy()));
+                ps.setString(45, entity.getDuplicationHash());
 
             }
 
@@ -109,4 +124,132 @@ public class ErpOrderItemJdbcImpl implements ErpOrderItemCustomJdbc {
         batchCount++;
         return batchCount;
     }
+
+    /**
+     * 운송장번호, 배송방식, 택배사를 id 기준으로 일괄 업데이트한다.
+     */
+    @Override
+    public void jdbcBulkUpdateWaybill(List<ErpOrderItemEntity> entities) {
+        String sql = "UPDATE erp_order_item SET waybill_number = ?, transport_type = ?, courier = ? WHERE id = ?";
+
+        jdbcTemplate.batchUpdate(sql, entities, batchSize, (ps, entity) -> {
+            ps.setString(1, entity.getWaybillNumber());
+            ps.setString(2, entity.getTransportType());
+            ps.setString(3, entity.getCourier());
+            ps.setObject(4, uuidStorage.toParameter(entity.getId()));
+        });
+    }
+
+    /**
+     * 판매 여부, 판매 일시를 id 기준으로 일괄 업데이트한다.
+     */
+    @Override
+    public int jdbcBulkUpdateSalesYn(List<UUID> ids, String salesYn, LocalDateTime salesAt) {
+        return updateInChunks("sales_yn = ?, sales_at = ?", Arrays.asList(salesYn, salesAt), ids);
+    }
+
+    /**
+     * 출고 여부, 출고 일시를 id 기준으로 일괄 업데이트한다.
+     */
+    @Override
+    public int jdbcBulkUpdateReleaseYn(List<UUID> ids, String releaseYn, LocalDateTime releaseAt) {
+        return updateInChunks("release_yn = ?, release_at = ?", Arrays.asList(releaseYn, releaseAt), ids);
+    }
+
+    /**
+     * 행마다 다른 주문 옵션코드, 출고 옵션코드를 CASE 절로 일괄 업데이트한다.
+     */
+    @Override
+    public int jdbcBulkUpdateOptionCode(List<ErpOrderItemEntity> entities) {
+        Map<String, Function<ErpOrderItemEntity, Object>> columnValueMap = new LinkedHashMap<>();
+        columnValueMap.put("option_code", ErpOrderItemEntity::getOptionCode);
+        columnValueMap.put("release_option_code", ErpOrderItemEntity::getReleaseOptionCode);
+        return updateByCaseInChunks(columnValueMap, entities);
+    }
+
+    /**
+     * 행마다 다른 출고 옵션코드를 CASE 절로 일괄 업데이트한다.
+     */
+    @Override
+    public int jdbcBulkUpdateReleaseOptionCode(List<ErpOrderItemEntity> entities) {
+        return updateByCaseInChunks(Collections.singletonMap("release_option_code", ErpOrderItemEntity::getReleaseOptionCode), entities);
+    }
+
+    /**
+     * archiveBefore 이전에 등록, 판매, 출고가 끝나고 재고반영된 주문 데이터를 등록일 순으로 최대 limit 개 보관 테이블로 옮긴다. 트랜잭션 안에서 호출해야 한다.
+     * 출고 또는 재고반영이 되지 않은 주문은 보관 테이블에서 처리할 수 없으므로 등록일과 관계없이 옮기지 않는다.
+     * 다른 서버에서 옮기는 중인 행은 건너뛰므로 여러 서버에서 동시에 실행되더라도 같은 행을 중복으로 옮기지 않는다.
+     */
+    @Override
+    public int jdbcMoveToArchive(LocalDateTime archiveBefore, int limit) {
+        String selectSql = "SELECT cid FROM erp_order_item" +
+                " WHERE release_yn = 'y' AND stock_reflect_yn = 'y'" +
+                " AND created_at < ? AND release_at < ? AND COALESCE(sales_at, created_at) < ?" +
+                " ORDER BY created_at LIMIT ? FOR UPDATE SKIP LOCKED";
+        List<Integer> cids = jdbcTemplate.queryForList(selectSql, Integer.class, archiveBefore, archiveBefore, archiveBefore, limit);
+
+        if (cids.isEmpty()) {
+            return 0;
+        }
+
+        String inClause = " WHERE cid IN (" + placeholders(cids.size()) + ")";
+        jdbcTemplate.update("INSERT INTO " + ErpOrderItemArchive.ARCHIVE_TABLE_NAME + " SELECT * FROM erp_order_item" + inClause, cids.toArray());
+        return jdbcTemplate.update("DELETE FROM erp_order_item" + inClause, cids.toArray());
+    }
+
+    /**
+     * UPDATE erp_order_item SET {setClause} WHERE id IN (?, ...) 를 bulkUpdateChunkSize 개의 id 단위로 실행한다.
+     */
+    private int updateInChunks(String setClause, List<Object> setParams, List<UUID> ids) {
+        int updatedCount = 0;
+
+        for (int i = 0; i < ids.size(); i += bulkUpdateChunkSize) {
+            List<UUID> chunk = ids.subList(i, Math.min(i + bulkUpdateChunkSize, ids.size()));
+            String sql = "UPDATE erp_order_item SET " + setClause + " WHERE id IN (" + placeholders(chunk.size()) + ")";
+
+            List<Object> params = new ArrayList<>(setParams);
+            chunk.forEach(id -> params.add(uuidStorage.toParameter(id)));
+
+            updatedCount += jdbcTemplate.update(sql, params.toArray());
+        }
+        return updatedCount;
+    }
+
+    /**
+     * UPDATE erp_order_item SET {column} = CASE id WHEN ? THEN ? ... END, ... WHERE id IN (?, ...) 를
+     * bulkUpdateChunkSize 개의 행 단위로 실행한다. 같은 id 가 여러번 전달되면 마지막 값으로 업데이트한다.
+     */
+    private int updateByCaseInChunks(Map<String, Function<ErpOrderItemEntity, Object>> columnValueMap, List<ErpOrderItemEntity> entities) {
+        Map<UUID, ErpOrderItemEntity> entityById = new LinkedHashMap<>();
+        entities.forEach(entity -> entityById.put(entity.getId(), entity));
+        List<ErpOrderItemEntity> distinctEntities = new ArrayList<>(entityById.values());
+        int updatedCount = 0;
+
+        for (int i = 0; i < distinctEntities.size(); i += bulkUpdateChunkSize) {
+            List<ErpOrderItemEntity> chunk = distinctEntities.subList(i, Math.min(i + bulkUpdateChunkSize, distinctEntities.size()));
+            StringBuilder sql = new StringBuilder("UPDATE erp_order_item SET ");
+            List<Object> params = new ArrayList<>();
+
+            List<String> caseClauses = new ArrayList<>();
+            columnValueMap.forEach((column, valueExtractor) -> {
+                StringBuilder caseClause = new StringBuilder(column).append(" = CASE id");
+                chunk.forEach(entity -> {
+                    caseClause.append(" WHEN ? THEN ?");
+                    params.add(uuidStorage.toParameter(entity.getId()));
+                    params.add(valueExtractor.apply(entity));
+                });
+                caseClauses.add(caseClause.append(" END").toString());
+            });
+            sql.append(String.join(", ", caseClauses))
+                    .append(" WHERE id IN (").append(placeholders(chunk.size())).append(")");
+            chunk.forEach(entity -> params.add(uuidStorage.toParameter(entity.getId())));
+
+            updatedCount += jdbcTemplate.update(sql.toString(), params.toArray());
+        }
+        return updatedCount;
+    }
+
+    private String placeholders(int size) {
+        return String.join(", ", Collections.nCopies(size, "?"));
+    }
 }
@@ -16,11 +16,17 @@ import org.springframework.transaction.annotation.Transactional;
 public interface ErpOrderItemRepository extends JpaRepository<ErpOrderItemEntity, Integer>, ErpOrderItemRepositoryCustom {
     Optional<ErpOrderItemEntity> findById(UUID id);
 
+    /**
+     * duplicationHash 값들 중 이미 저장된 해시값을 조회한다.
+     *
+     * @param duplicationHashes : List::String::
+     * @return List::String::
+     */
     @Query(
-        "SELECT item FROM ErpOrderItemEntity item\n" + 
-        "WHERE (item.orderNumber1 IN :orderNumber1 AND item.receiver IN :receiver AND item.prodName IN :prodName AND item.optionName IN :optionName AND item.unit IN :unit)"
+        "SELECT item.duplicationHash FROM ErpOrderItemEntity item\n" +
+        "WHERE item.duplicationHash IN :duplicationHashes"
     )
-    List<ErpOrderItemEntity> findDuplicationItems(List<String> orderNumber1, List<String> receiver, List<String> prodName, List<String> optionName, List<Integer> unit);
+    List<String> findDuplicationHashes(List<String> duplicationHashes);
 
     @Transactional
     @Modifying
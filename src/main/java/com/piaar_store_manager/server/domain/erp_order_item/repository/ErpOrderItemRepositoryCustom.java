@@ -6,6 +6,7 @@ import java.util.UUID;
 
 import com.piaar_store_manager.server.domain.erp_order_item.entity.ErpOrderItemEntity;
 import com.piaar_store_manager.server.domain.erp_order_item.proj.ErpOrderItemProj;
+import com.piaar_store_manager.server.domain.pagenation.CursorPageDto;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -14,8 +15,14 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface ErpOrderItemRepositoryCustom {
     List<ErpOrderItemEntity> qfindAllByIdList(List<UUID> idList);
+    List<ErpOrderItemEntity> qfindAllByIdList(List<UUID> idList, Map<String, Object> params);
+    List<ErpOrderItemEntity> qfindWaybillMatchFieldsByIdList(List<UUID> idList);
     List<ErpOrderItemProj> qfindAllM2OJ(Map<String, Object> params);
     List<ErpOrderItemProj> qfindAllM2OJByIdList(List<UUID> idList, Map<String, Object> params);
     Page<ErpOrderItemProj> qfindAllM2OJByPage(Map<String, Object> params, Pageable pageable);
     Page<ErpOrderItemProj> qfindReleaseItemM2OJByPage(Map<String, Object> params, Pageable pageable);
+    CursorPageDto<ErpOrderItemProj> qfindAllM2OJByCursor(Map<String, Object> params, Pageable pageable);
+    CursorPageDto<ErpOrderItemProj> qfindReleaseItemM2OJByCursor(Map<String, Object> params, Pageable pageable);
+    Long qcountAllM2OJ(Map<String, Object> params);
+    Long qcountReleaseItemM2OJ(Map<String, Object> params);
 }
@@ -5,22 +5,30 @@ import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Supplier;
 
+import com.piaar_store_manager.server.config.jpa.JpaFunctionConfiguration;
 import com.piaar_store_manager.server.domain.erp_order_item.entity.ErpOrderItemEntity;
 import com.piaar_store_manager.server.domain.erp_order_item.entity.QErpOrderItemEntity;
 import com.piaar_store_manager.server.domain.erp_order_item.proj.ErpOrderItemProj;
+import com.piaar_store_manager.server.domain.pagenation.CursorPageDto;
+import com.piaar_store_manager.server.domain.pagenation.KeysetPagenation;
+import com.piaar_store_manager.server.domain.pagenation.PagenationCursor;
 import com.piaar_store_manager.server.domain.product.entity.QProductEntity;
 import com.piaar_store_manager.server.domain.product_category.entity.QProductCategoryEntity;
 import com.piaar_store_manager.server.domain.product_option.entity.QProductOptionEntity;
 import com.piaar_store_manager.server.exception.CustomInvalidDataException;
-import com.piaar_store_manager.server.utils.CustomFieldUtils;
+import com.piaar_store_manager.server.utils.CustomFieldAccessorUtils;
+import com.piaar_store_manager.server.utils.CustomFieldAccessorUtils.FieldAccessor;
 import com.querydsl.core.QueryException;
 import com.querydsl.core.QueryResults;
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.StringPath;
 import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -34,7 +42,11 @@ import org.springframework.stereotype.Repository;
 
 @Repository
 public class ErpOrderItemRepositoryImpl implements ErpOrderItemRepositoryCustom {
+    private static final DateTimeFormatter DATE_RANGE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
+
     private final JPAQueryFactory query;
+    private final ErpOrderItemFullTextIndex erpOrderItemFullTextIndex;
+    private final ErpOrderItemArchive erpOrderItemArchive;
 
     private final QErpOrderItemEntity qErpOrderItemEntity = QErpOrderItemEntity.erpOrderItemEntity;
     private final QProductEntity qProductEntity = QProductEntity.productEntity;
@@ -43,9 +55,13 @@ public class ErpOrderItemRepositoryImpl implements ErpOrderItemRepositoryCustom
 
     @Autowired
     public ErpOrderItemRepositoryImpl(
-            JPAQueryFactory query
+            JPAQueryFactory query,
+            ErpOrderItemFullTextIndex erpOrderItemFullTextIndex,
+            ErpOrderItemArchive erpOrderItemArchive
     ) {
         this.query = query;
+        this.erpOrderItemFullTextIndex = erpOrderItemFullTextIndex;
+        this.erpOrderItemArchive = erpOrderItemArchive;
     }
 
     @Override
@@ -58,6 +74,35 @@ public class ErpOrderItemRepositoryImpl implements ErpOrderItemRepositoryCustom
         return result.getResults();
     }
 
+    /**
+     * qfindAllM2OJByIdList 와 같은 조건으로 조회하되 product, option, category 는 JOIN 하지 않는다.
+     * 호출하는 쪽에서 상품 카탈로그 캐시로 채운다.
+     */
+    @Override
+    public List<ErpOrderItemEntity> qfindAllByIdList(List<UUID> idList, Map<String, Object> params) {
+        JPQLQuery<ErpOrderItemEntity> customQuery = query.from(qErpOrderItemEntity)
+                .select(qErpOrderItemEntity)
+                .where(qErpOrderItemEntity.id.in(idList))
+                .where(eqSalesYn(params), eqReleaseYn(params));
+
+        return this.fetchRouted(params, customQuery::fetch);
+    }
+
+    /**
+     * 운송장 대조에 필요한 id, 수취인명, 운임코드만 조회한다. 조회된 엔터티는 영속성 컨텍스트에서 관리되지 않는다.
+     */
+    @Override
+    public List<ErpOrderItemEntity> qfindWaybillMatchFieldsByIdList(List<UUID> idList) {
+        return query.from(qErpOrderItemEntity)
+                .select(Projections.fields(ErpOrderItemEntity.class,
+                        qErpOrderItemEntity.id,
+                        qErpOrderItemEntity.receiver,
+                        qErpOrderItemEntity.freightCode
+                ))
+                .where(qErpOrderItemEntity.id.in(idList))
+                .fetch();
+    }
+
     @Override
     public List<ErpOrderItemProj> qfindAllM2OJ(Map<String, Object> params) {
         JPQLQuery customQuery = query.from(qErpOrderItemEntity)
@@ -74,7 +119,7 @@ public class ErpOrderItemRepositoryImpl implements ErpOrderItemRepositoryCustom
                 .leftJoin(qProductEntity).on(qProductOptionEntity.productCid.eq(qProductEntity.cid))
                 .leftJoin(qProductCategoryEntity).on(qProductEntity.productCategoryCid.eq(qProductCategoryEntity.cid));
 
-        QueryResults<ErpOrderItemProj> result = customQuery.fetchResults();
+        QueryResults<ErpOrderItemProj> result = this.fetchRouted(params, customQuery::fetchResults);
 
         return result.getResults();
     }
@@ -96,7 +141,7 @@ public class ErpOrderItemRepositoryImpl implements ErpOrderItemRepositoryCustom
                 .leftJoin(qProductEntity).on(qProductOptionEntity.productCid.eq(qProductEntity.cid))
                 .leftJoin(qProductCategoryEntity).on(qProductEntity.productCategoryCid.eq(qProductCategoryEntity.cid));
 
-        QueryResults<ErpOrderItemProj> result = customQuery.fetchResults();
+        QueryResults<ErpOrderItemProj> result = this.fetchRouted(params, customQuery::fetchResults);
         return result.getResults();
     }
 
@@ -124,7 +169,7 @@ public class ErpOrderItemRepositoryImpl implements ErpOrderItemRepositoryCustom
             throw new CustomInvalidDataException(e.getMessage());
         }
 
-        QueryResults<ErpOrderItemProj> result = customQuery.fetchResults();
+        QueryResults<ErpOrderItemProj> result = this.fetchRouted(params, customQuery::fetchResults);
         return new PageImpl<ErpOrderItemProj>(result.getResults(), pageable, result.getTotal());
     }
 
@@ -152,47 +197,201 @@ public class ErpOrderItemRepositoryImpl implements ErpOrderItemRepositoryCustom
             throw new CustomInvalidDataException(e.getMessage());
         }
 
-        QueryResults<ErpOrderItemProj> result = customQuery.fetchResults();
+        QueryResults<ErpOrderItemProj> result = this.fetchRouted(params, customQuery::fetchResults);
         return new PageImpl<ErpOrderItemProj>(result.getResults(), pageable, result.getTotal());
     }
 
+    @Override
+    public CursorPageDto<ErpOrderItemProj> qfindAllM2OJByCursor(Map<String, Object> params, Pageable pageable) {
+        Sort.Order order = this.getKeysetOrder(pageable);
+
+        try {
+            JPQLQuery<ErpOrderItemProj> customQuery = query.from(qErpOrderItemEntity)
+                    .select(Projections.fields(ErpOrderItemProj.class,
+                            qErpOrderItemEntity.as("erpOrderItem"),
+                            qProductEntity.as("product"),
+                            qProductOptionEntity.as("productOption"),
+                            qProductCategoryEntity.as("productCategory")
+                    ))
+                    .where(eqSalesYn(params), eqReleaseYn(params))
+                    .where(lkSearchCondition(params))
+                    .where(withinDateRange(params))
+                    .where(afterCursor(order, KeysetPagenation.getCursor(params)))
+                    .leftJoin(qProductOptionEntity).on(qErpOrderItemEntity.optionCode.eq(qProductOptionEntity.code))
+                    .leftJoin(qProductEntity).on(qProductOptionEntity.productCid.eq(qProductEntity.cid))
+                    .leftJoin(qProductCategoryEntity).on(qProductEntity.productCategoryCid.eq(qProductCategoryEntity.cid))
+                    .limit(pageable.getPageSize() + 1);
+
+            this.sortKeysetData(customQuery, order);
+            return this.toCursorPage(this.fetchRouted(params, customQuery::fetch), order, pageable.getPageSize());
+        } catch (QueryException e) {
+            throw new CustomInvalidDataException(e.getMessage());
+        }
+    }
+
+    @Override
+    public CursorPageDto<ErpOrderItemProj> qfindReleaseItemM2OJByCursor(Map<String, Object> params, Pageable pageable) {
+        Sort.Order order = this.getKeysetOrder(pageable);
+
+        try {
+            JPQLQuery<ErpOrderItemProj> customQuery = query.from(qErpOrderItemEntity)
+                    .select(Projections.fields(ErpOrderItemProj.class,
+                            qErpOrderItemEntity.as("erpOrderItem"),
+                            qProductEntity.as("product"),
+                            qProductOptionEntity.as("productOption"),
+                            qProductCategoryEntity.as("productCategory")
+                    ))
+                    .where(eqSalesYn(params), eqReleaseYn(params))
+                    .where(lkSearchCondition(params))
+                    .where(withinDateRange(params))
+                    .where(afterCursor(order, KeysetPagenation.getCursor(params)))
+                    .leftJoin(qProductOptionEntity).on(qErpOrderItemEntity.releaseOptionCode.eq(qProductOptionEntity.code))
+                    .leftJoin(qProductEntity).on(qProductOptionEntity.productCid.eq(qProductEntity.cid))
+                    .leftJoin(qProductCategoryEntity).on(qProductEntity.productCategoryCid.eq(qProductCategoryEntity.cid))
+                    .limit(pageable.getPageSize() + 1);
+
+            this.sortKeysetData(customQuery, order);
+            return this.toCursorPage(this.fetchRouted(params, customQuery::fetch), order, pageable.getPageSize());
+        } catch (QueryException e) {
+            throw new CustomInvalidDataException(e.getMessage());
+        }
+    }
+
+    @Override
+    public Long qcountAllM2OJ(Map<String, Object> params) {
+        JPQLQuery<Integer> customQuery = query.from(qErpOrderItemEntity)
+                .select(qErpOrderItemEntity.cid)
+                .where(eqSalesYn(params), eqReleaseYn(params))
+                .where(lkSearchCondition(params))
+                .where(withinDateRange(params))
+                .leftJoin(qProductOptionEntity).on(qErpOrderItemEntity.optionCode.eq(qProductOptionEntity.code))
+                .leftJoin(qProductEntity).on(qProductOptionEntity.productCid.eq(qProductEntity.cid))
+                .leftJoin(qProductCategoryEntity).on(qProductEntity.productCategoryCid.eq(qProductCategoryEntity.cid));
+
+        return this.fetchRouted(params, customQuery::fetchCount);
+    }
+
+    @Override
+    public Long qcountReleaseItemM2OJ(Map<String, Object> params) {
+        JPQLQuery<Integer> customQuery = query.from(qErpOrderItemEntity)
+                .select(qErpOrderItemEntity.cid)
+                .where(eqSalesYn(params), eqReleaseYn(params))
+                .where(lkSearchCondition(params))
+                .where(withinDateRange(params))
+                .leftJoin(qProductOptionEntity).on(qErpOrderItemEntity.releaseOptionCode.eq(qProductOptionEntity.code))
+                .leftJoin(qProductEntity).on(qProductOptionEntity.productCid.eq(qProductEntity.cid))
+                .leftJoin(qProductCategoryEntity).on(qProductEntity.productCategoryCid.eq(qProductCategoryEntity.cid));
+
+        return this.fetchRouted(params, customQuery::fetchCount);
+    }
+
     private void sortPagedData(JPQLQuery customQuery, Pageable pageable) {
         for (Sort.Order o : pageable.getSort()) {
-            PathBuilder erpOrderItemBuilder = new PathBuilder(qErpOrderItemEntity.getType(), qErpOrderItemEntity.getMetadata());
-            PathBuilder productBuilder = new PathBuilder(qProductEntity.getType(), qProductEntity.getMetadata());
-            PathBuilder productOptionBuilder = new PathBuilder(qProductOptionEntity.getType(), qProductOptionEntity.getMetadata());
-            PathBuilder productCategoryBuilder = new PathBuilder(qProductCategoryEntity.getType(), qProductCategoryEntity.getMetadata());
+            customQuery.orderBy(new OrderSpecifier(o.isAscending() ? Order.ASC : Order.DESC, this.getSortPath(o.getProperty())));
+            customQuery.orderBy(qErpOrderItemEntity.cid.desc());
+        }
+    }
 
-            switch (o.getProperty().toString()) {
-                case "categoryName":
-                    customQuery.orderBy(new OrderSpecifier(o.isAscending() ? Order.ASC : Order.DESC, productCategoryBuilder.get("name")));
-                    break;
-                case "prodManagementName":
-                    customQuery.orderBy(new OrderSpecifier(o.isAscending() ? Order.ASC : Order.DESC, productBuilder.get("managementName")));
-                    break;
-                case "prodDefaultName":
-                    customQuery.orderBy(new OrderSpecifier(o.isAscending() ? Order.ASC : Order.DESC, productBuilder.get("defaultName")));
-                    break;
-                case "optionManagementName":
-                    customQuery.orderBy(new OrderSpecifier(o.isAscending() ? Order.ASC : Order.DESC, productOptionBuilder.get("managementName")));
-                    break;
-                case "optionDefaultName":
-                    customQuery.orderBy(new OrderSpecifier(o.isAscending() ? Order.ASC : Order.DESC, productOptionBuilder.get("defaultName")));
-                    break;
-                case "optionStockUnit":
-                    customQuery.orderBy(new OrderSpecifier(o.isAscending() ? Order.ASC : Order.DESC, productOptionBuilder.get("stockUnit")));
-                    break;
-                default:
-                    if (CustomFieldUtils.getFieldByName(qErpOrderItemEntity, o.getProperty().toString()) == null) {
-                        throw new QueryException("올바른 데이터가 아닙니다.");
-                    }
-                    customQuery.orderBy(new OrderSpecifier(o.isAscending() ? Order.ASC : Order.DESC, erpOrderItemBuilder.get(o.getProperty())));
-            }
+    /*
+    정렬 키에 대응하는 컬럼을 반환한다.
+    sortPagedData, keyset 페이지 조회가 같은 정렬 키를 사용한다.
+     */
+    private Expression<?> getSortPath(String property) {
+        switch (property) {
+            case "categoryName":
+                return qProductCategoryEntity.name;
+            case "prodManagementName":
+                return qProductEntity.managementName;
+            case "prodDefaultName":
+                return qProductEntity.defaultName;
+            case "optionManagementName":
+                return qProductOptionEntity.managementName;
+            case "optionDefaultName":
+                return qProductOptionEntity.defaultName;
+            case "optionStockUnit":
+                return qProductOptionEntity.stockUnit;
+            default:
+                FieldAccessor pathAccessor = CustomFieldAccessorUtils.getAccessor(QErpOrderItemEntity.class, property);
+                if (pathAccessor == null) {
+                    throw new QueryException("올바른 데이터가 아닙니다.");
+                }
+                Object path = pathAccessor.get(qErpOrderItemEntity);
+                if (!(path instanceof ComparableExpressionBase)) {
+                    throw new QueryException("올바른 데이터가 아닙니다.");
+                }
+                return (Expression<?>) path;
+        }
+    }
 
-            customQuery.orderBy(qErpOrderItemEntity.cid.desc());
+    /*
+    keyset 페이지 조회 시 다음 커서 생성을 위해 정렬 키에 대응하는 값을 반환한다.
+     */
+    private Object getSortValue(ErpOrderItemProj proj, String property) {
+        switch (property) {
+            case "categoryName":
+                return proj.getProductCategory() != null ? proj.getProductCategory().getName() : null;
+            case "prodManagementName":
+                return proj.getProduct() != null ? proj.getProduct().getManagementName() : null;
+            case "prodDefaultName":
+                return proj.getProduct() != null ? proj.getProduct().getDefaultName() : null;
+            case "optionManagementName":
+                return proj.getProductOption() != null ? proj.getProductOption().getManagementName() : null;
+            case "optionDefaultName":
+                return proj.getProductOption() != null ? proj.getProductOption().getDefaultName() : null;
+            case "optionStockUnit":
+                return proj.getProductOption() != null ? proj.getProductOption().getStockUnit() : null;
+            default:
+                return CustomFieldAccessorUtils.getFieldValue(proj.getErpOrderItem(), property);
         }
     }
 
+    /*
+    keyset 페이지 조회는 첫번째 정렬 키 + cid desc 로 정렬한다.
+    정렬 키가 없다면 cid desc 로 정렬한다.
+     */
+    private Sort.Order getKeysetOrder(Pageable pageable) {
+        for (Sort.Order o : pageable.getSort()) {
+            return o;
+        }
+        return Sort.Order.desc("cid");
+    }
+
+    private void sortKeysetData(JPQLQuery<?> customQuery, Sort.Order order) {
+        KeysetPagenation.orderBy(customQuery, order, qErpOrderItemEntity.cid, KeysetPagenation.isCidOrder(order) ? null : this.getSortPath(order.getProperty()));
+    }
+
+    private BooleanExpression afterCursor(Sort.Order order, PagenationCursor cursor) {
+        if (cursor == null || KeysetPagenation.isCidOrder(order)) {
+            return KeysetPagenation.afterCursor(order, cursor, qErpOrderItemEntity.cid, null, null);
+        }
+
+        Expression<?> sortPath = this.getSortPath(order.getProperty());
+        return KeysetPagenation.afterCursor(order, cursor, qErpOrderItemEntity.cid, sortPath, value -> this.convertCursorValue(sortPath.getType(), value));
+    }
+
+    /*
+    커서의 정렬 키 값을 정렬 컬럼 타입으로 변환한다. 변환 오류는 KeysetPagenation#afterCursor 에서 처리한다.
+     */
+    private Object convertCursorValue(Class<?> type, String value) {
+        if (type.equals(String.class)) {
+            return value;
+        } else if (type.equals(Integer.class)) {
+            return Integer.valueOf(value);
+        } else if (type.equals(LocalDateTime.class)) {
+            return LocalDateTime.parse(value);
+        } else if (type.equals(UUID.class)) {
+            return UUID.fromString(value);
+        }
+        throw new CustomInvalidDataException("커서 조회를 지원하지 않는 정렬 항목입니다.");
+    }
+
+    private CursorPageDto<ErpOrderItemProj> toCursorPage(List<ErpOrderItemProj> results, Sort.Order order, int pageSize) {
+        return KeysetPagenation.toCursorPage(results, pageSize, lastItem -> {
+            Object sortValue = KeysetPagenation.isCidOrder(order) ? null : this.getSortValue(lastItem, order.getProperty());
+            return PagenationCursor.of(sortValue, lastItem.getErpOrderItem().getCid());
+        });
+    }
+
     private BooleanExpression eqSalesYn(Map<String, Object> params) {
         String salesYn = params.get("salesYn") == null ? null : params.get("salesYn").toString();
 
@@ -213,8 +412,23 @@ public class ErpOrderItemRepositoryImpl implements ErpOrderItemRepositoryCustom
         }
     }
 
+    /*
+    archiveYn, 조회기간에 따라 운영 테이블 또는 보관 테이블을 조회한다.
+     */
+    private <T> T fetchRouted(Map<String, Object> params, Supplier<T> fetcher) {
+        String archiveYn = params.get("archiveYn") == null ? null : params.get("archiveYn").toString();
+        String periodType = params.get("periodType") == null ? null : params.get("periodType").toString();
+        LocalDateTime searchStartDate = null;
+        LocalDateTime searchEndDate = null;
+
+        if (params.get("startDate") != null && params.get("endDate") != null && periodType != null) {
+            searchStartDate = LocalDateTime.parse(params.get("startDate").toString(), DATE_RANGE_FORMATTER);
+            searchEndDate = LocalDateTime.parse(params.get("endDate").toString(), DATE_RANGE_FORMATTER);
+        }
+        return erpOrderItemArchive.fetch(archiveYn, periodType, searchStartDate, searchEndDate, fetcher);
+    }
+
     private BooleanExpression withinDateRange(Map<String, Object> params) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
         LocalDateTime startDate = null;
         LocalDateTime endDate = null;
         String periodType = params.get("periodType") == null ? null : params.get("periodType").toString();
@@ -223,8 +437,8 @@ public class ErpOrderItemRepositoryImpl implements ErpOrderItemRepositoryCustom
             return null;
         }
 
-        startDate = LocalDateTime.parse(params.get("startDate").toString(), formatter);
-        endDate = LocalDateTime.parse(params.get("endDate").toString(), formatter);
+        startDate = LocalDateTime.parse(params.get("startDate").toString(), DATE_RANGE_FORMATTER);
+        endDate = LocalDateTime.parse(params.get("endDate").toString(), DATE_RANGE_FORMATTER);
 
         if (startDate.isAfter(endDate)) {
             throw new CustomInvalidDataException("조회기간을 정확히 선택해 주세요.");
@@ -252,25 +466,33 @@ public class ErpOrderItemRepositoryImpl implements ErpOrderItemRepositoryCustom
             StringPath columnNameStringPath = null;
             switch (columnName) {
                 case "categoryName":
-                    columnNameStringPath = CustomFieldUtils.getFieldValue(qProductCategoryEntity, "name");
+                    columnNameStringPath = qProductCategoryEntity.name;
                     break;
                 case "prodManagementName":
-                    columnNameStringPath = CustomFieldUtils.getFieldValue(qProductEntity, "managementName");
+                    columnNameStringPath = qProductEntity.managementName;
                     break;
                 case "prodDefaultName":
-                    columnNameStringPath = CustomFieldUtils.getFieldValue(qProductEntity, "defaultName");
+                    columnNameStringPath = qProductEntity.defaultName;
                     break;
                 case "optionManagementName":
-                    columnNameStringPath = CustomFieldUtils.getFieldValue(qProductOptionEntity, "managementName");
+                    columnNameStringPath = qProductOptionEntity.managementName;
                     break;
                 case "optionDefaultName":
-                    columnNameStringPath = CustomFieldUtils.getFieldValue(qProductOptionEntity, "defaultName");
+                    columnNameStringPath = qProductOptionEntity.defaultName;
                     break;
                 default:
-                    if (CustomFieldUtils.getFieldByName(qErpOrderItemEntity, columnName) == null) {
+                    FieldAccessor columnAccessor = CustomFieldAccessorUtils.getAccessor(QErpOrderItemEntity.class, columnName);
+                    if (columnAccessor == null) {
                         throw new QueryException("올바른 데이터가 아닙니다.");
                     }
-                    columnNameStringPath = CustomFieldUtils.getFieldValue(qErpOrderItemEntity, columnName);
+                    columnNameStringPath = columnAccessor.get(qErpOrderItemEntity);
+
+                    // FULLTEXT 인덱스로 후보를 좁히고, 후보 중 검색어를 포함하는 행만 남긴다.
+                    String booleanPhrase = erpOrderItemFullTextIndex.toBooleanPhrase(columnName, searchQuery);
+                    if (booleanPhrase != null) {
+                        return Expressions.numberTemplate(Double.class, "function('" + JpaFunctionConfiguration.MATCH_AGAINST + "', {0}, {1})", columnNameStringPath, booleanPhrase).gt(0.0)
+                                .and(columnNameStringPath.contains(searchQuery));
+                    }
             }
 
             return columnNameStringPath.contains(searchQuery);
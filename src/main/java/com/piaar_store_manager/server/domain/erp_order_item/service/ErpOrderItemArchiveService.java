@@ -0,0 +1,93 @@
+package com.piaar_store_manager.server.domain.erp_order_item.service;
+
+import java.time.LocalDateTime;
+
+import com.piaar_store_manager.server.domain.erp_order_item.repository.ErpOrderItemArchive;
+import com.piaar_store_manager.server.domain.erp_order_item.repository.ErpOrderItemCustomJdbc;
+import com.piaar_store_manager.server.utils.CustomDateUtils;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 보관 기간이 지난 주문 데이터를 erp_order_item 에서 보관 테이블로 옮긴다.
+ * 보관 기준일 이전에 등록, 판매, 출고가 끝나고 재고반영된 주문만 옮기며, 처리가 끝나지 않은 주문은 운영 테이블에 남긴다.
+ * <p>
+ * 보관 기간은 월 단위이며, 기준일은 (현재 월 - retentionMonths) 의 1일 0시이다.
+ * 한 트랜잭션에서 batchSize 개씩 옮겨 잠금 시간을 짧게 유지하고, 한 번의 실행에서 최대 maxBatchCount 번 반복한다.
+ * 남은 데이터는 다음 실행에서 이어서 옮긴다.
+ */
+@Slf4j
+@Service
+public class ErpOrderItemArchiveService {
+    private final ErpOrderItemArchive erpOrderItemArchive;
+    private final ErpOrderItemCustomJdbc erpOrderItemCustomJdbc;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.erp-order-item.archive.retention-months:12}")
+    private int retentionMonths;
+
+    @Value("${app.erp-order-item.archive.batch-size:2000}")
+    private int batchSize;
+
+    @Value("${app.erp-order-item.archive.max-batch-count:500}")
+    private int maxBatchCount;
+
+    @Autowired
+    public ErpOrderItemArchiveService(
+            ErpOrderItemArchive erpOrderItemArchive,
+            ErpOrderItemCustomJdbc erpOrderItemCustomJdbc,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.erpOrderItemArchive = erpOrderItemArchive;
+        this.erpOrderItemCustomJdbc = erpOrderItemCustomJdbc;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * <b>DB Insert Related Method</b>
+     * <p>
+     * 보관 기준일 이전에 처리가 끝난 주문 데이터를 보관 테이블로 옮긴다.
+     *
+     * @see ErpOrderItemCustomJdbc#jdbcMoveToArchive
+     */
+    @Scheduled(cron = "${app.erp-order-item.archive.cron:0 30 3 * * *}", zone = "Asia/Seoul")
+    public void moveToArchive() {
+        if (!erpOrderItemArchive.isEnabled()) {
+            return;
+        }
+
+        LocalDateTime archiveBefore = getArchiveCreatedBefore(CustomDateUtils.getCurrentDateTime(), retentionMonths);
+        int movedCount = 0;
+        int batchMovedCount;
+        int batchCount = 0;
+
+        do {
+            batchMovedCount = transactionTemplate.execute(status -> erpOrderItemCustomJdbc.jdbcMoveToArchive(archiveBefore, batchSize));
+            movedCount += batchMovedCount;
+            batchCount++;
+        } while (batchMovedCount == batchSize && batchCount < maxBatchCount);
+
+        if (movedCount > 0) {
+            erpOrderItemArchive.invalidateBoundaries();
+            log.info("erp order items archived. archiveBefore={}, count={}", archiveBefore, movedCount);
+        }
+    }
+
+    /**
+     * 보관 기준일을 반환한다. now 가 속한 월에서 retentionMonths 개월 전 1일 0시이다.
+     *
+     * @param now             : LocalDateTime
+     * @param retentionMonths : int
+     * @return LocalDateTime
+     */
+    public static LocalDateTime getArchiveCreatedBefore(LocalDateTime now, int retentionMonths) {
+        return now.toLocalDate().withDayOfMonth(1).minusMonths(retentionMonths).atStartOfDay();
+    }
+}
@@ -0,0 +1,56 @@
+package com.piaar_store_manager.server.domain.erp_order_item.service;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.piaar_store_manager.server.domain.erp_order_item.dto.ErpOrderItemDto;
+import com.piaar_store_manager.server.domain.import_job.service.ImportJobChunkWriter;
+import com.piaar_store_manager.server.domain.import_job.service.ImportJobContext;
+import com.piaar_store_manager.server.domain.import_job.service.ImportJobHandler;
+
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주문 데이터 일괄 등록(/ws/v1/erp-order-items/batch) 가져오기 작업.
+ * <p>
+ * 요청 데이터를 저장한 작업 파일을 읽어 행 단위로 검증한 후 chunk 단위로 중복 제거 및 일괄 저장한다.
+ * 행 번호는 요청 배열의 순번(1부터 시작)이다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ErpOrderItemBatchImportJobHandler implements ImportJobHandler {
+    public static final String JOB_TYPE = "ERP_ORDER_ITEM_BATCH";
+
+    private final ErpOrderItemImportJobSupport erpOrderItemImportJobSupport;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String getJobType() {
+        return JOB_TYPE;
+    }
+
+    @Override
+    public void execute(ImportJobContext context) throws IOException {
+        List<ErpOrderItemDto> dtos = objectMapper.readValue(context.getFilePath().toFile(), new TypeReference<List<ErpOrderItemDto>>() {});
+
+        if (context.getTotalCount() == null) {
+            context.changeTotalCount(dtos.size());
+        }
+
+        ImportJobChunkWriter<ErpOrderItemDto> chunkWriter = context.chunkWriter(chunk -> erpOrderItemImportJobSupport.insertChunk(chunk, context.getCreatedBy()));
+        for (int i = context.getResumeOffset(); i < dtos.size(); i++) {
+            String violationMessage = erpOrderItemImportJobSupport.validate(dtos.get(i));
+
+            if (violationMessage != null) {
+                chunkWriter.addError(i + 1, violationMessage);
+            } else {
+                chunkWriter.add(dtos.get(i));
+            }
+        }
+        chunkWriter.flush();
+    }
+}
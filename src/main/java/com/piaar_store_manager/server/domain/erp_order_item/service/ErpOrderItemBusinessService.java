@@ -1,33 +1,44 @@
 package com.piaar_store_manager.server.domain.erp_order_item.service;
 
+import com.piaar_store_manager.server.domain.code_generator.service.CodeGeneratorService;
 import com.piaar_store_manager.server.domain.erp_first_merge_header.dto.ErpFirstMergeHeaderDto;
 import com.piaar_store_manager.server.domain.erp_first_merge_header.entity.ErpFirstMergeHeaderEntity;
 import com.piaar_store_manager.server.domain.erp_first_merge_header.service.ErpFirstMergeHeaderService;
 import com.piaar_store_manager.server.domain.erp_order_item.dto.ErpOrderItemDto;
+import com.piaar_store_manager.server.domain.erp_order_item.dto.ErpOrderItemWaybillMatchResultDto;
 import com.piaar_store_manager.server.domain.erp_order_item.entity.ErpOrderItemEntity;
 import com.piaar_store_manager.server.domain.erp_order_item.proj.ErpOrderItemProj;
 import com.piaar_store_manager.server.domain.erp_order_item.vo.ErpOrderItemVo;
-import com.piaar_store_manager.server.domain.erp_second_merge_header.dto.DetailDto;
+import com.piaar_store_manager.server.domain.erp_order_item_staging.dto.ErpOrderItemUploadDto;
+import com.piaar_store_manager.server.domain.erp_order_item_staging.entity.ErpOrderItemStagingEntity;
+import com.piaar_store_manager.server.domain.erp_order_item_staging.service.ErpOrderItemStagingService;
 import com.piaar_store_manager.server.domain.erp_second_merge_header.dto.ErpSecondMergeHeaderDto;
 import com.piaar_store_manager.server.domain.erp_second_merge_header.entity.ErpSecondMergeHeaderEntity;
 import com.piaar_store_manager.server.domain.erp_second_merge_header.service.ErpSecondMergeHeaderService;
 import com.piaar_store_manager.server.domain.excel_form.waybill.WaybillExcelFormDto;
 import com.piaar_store_manager.server.domain.excel_form.waybill.WaybillExcelFormManager;
-import com.piaar_store_manager.server.domain.option_package.entity.OptionPackageEntity;
-import com.piaar_store_manager.server.domain.option_package.service.OptionPackageService;
-import com.piaar_store_manager.server.domain.product_option.dto.ProductOptionGetDto;
+import com.piaar_store_manager.server.domain.import_job.dto.ImportJobDto;
+import com.piaar_store_manager.server.domain.import_job.service.ImportJobBusinessService;
+import com.piaar_store_manager.server.domain.pagenation.CursorPageDto;
 import com.piaar_store_manager.server.domain.product_option.entity.ProductOptionEntity;
 import com.piaar_store_manager.server.domain.product_option.service.ProductOptionService;
+import com.piaar_store_manager.server.domain.product_option_stock.dto.ProductOptionStockMovementDto;
+import com.piaar_store_manager.server.domain.product_option_stock.service.ProductOptionStockMovementService;
 import com.piaar_store_manager.server.domain.product_release.entity.ProductReleaseEntity;
 import com.piaar_store_manager.server.domain.product_release.service.ProductReleaseService;
 import com.piaar_store_manager.server.domain.user.service.UserService;
 import com.piaar_store_manager.server.exception.CustomExcelFileUploadException;
+import com.piaar_store_manager.server.exception.CustomInvalidDataException;
 import com.piaar_store_manager.server.utils.CustomDateUtils;
 import com.piaar_store_manager.server.utils.CustomExcelUtils;
-import com.piaar_store_manager.server.utils.CustomFieldUtils;
-import com.piaar_store_manager.server.utils.CustomUniqueKeyUtils;
+import com.piaar_store_manager.server.utils.CustomFieldAccessorUtils;
+import com.piaar_store_manager.server.utils.CustomFieldAccessorUtils.FieldAccessor;
+import com.piaar_store_manager.server.utils.CustomUuidUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.apache.poi.ss.usermodel.*;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -35,29 +46,53 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ErpOrderItemBusinessService {
+    private static final int WAYBILL_MATCH_CHUNK_SIZE = 1000;
+    private static final int STAGING_INSERT_CHUNK_SIZE = 1000;
+    private static final int MAX_UPLOAD_ROW_ERROR_SIZE = 20;
+    private static final int STREAM_CHUNK_SIZE = 500;
+
     private final ErpOrderItemService erpOrderItemService;
     private final ProductOptionService productOptionService;
     private final ErpFirstMergeHeaderService erpFirstMergeHeaderService;
     private final ErpSecondMergeHeaderService erpSecondMergeHeaderService;
     private final ProductReleaseService productReleaseService;
-    private final OptionPackageService optionPackageService;
+    private final ProductOptionStockMovementService productOptionStockMovementService;
     private final UserService userService;
+    private final ImportJobBusinessService importJobBusinessService;
+    private final ObjectMapper objectMapper;
+    private final ErpOrderItemStagingService erpOrderItemStagingService;
+    private final Validator validator;
+    private final CodeGeneratorService codeGeneratorService;
+    private final ErpOrderItemMergePlanCache erpOrderItemMergePlanCache;
+
+    @Value("${app.erp-order-item.upload-ttl-minutes:60}")
+    private long uploadTtlMinutes;
 
     /**
      * <b>Upload Excel File</b>
      * <p>
      * 피아르 엑셀 파일을 업로드한다.
+     * xlsx 파일은 Workbook 을 메모리에 올리지 않고 한 행씩 읽어서 변환한다.
      *
      * @param file : MultipartFile
      * @return List::ErpOrderItemVo::
+     * @see ErpOrderItemBusinessService#uploadErpOrderExcelByStream
      */
 //    RE-OK
     public List<ErpOrderItemVo> uploadErpOrderExcel(MultipartFile file) {
@@ -65,6 +100,10 @@ public class ErpOrderItemBusinessService {
         userService.userLoginCheck();
         userService.userManagerRoleCheck();
 
+        if (CustomExcelUtils.isXlsxFile(file)) {
+            return this.uploadErpOrderExcelByStream(file);
+        }
+
         Workbook workbook;
         try {
             workbook = WorkbookFactory.create(file.getInputStream());
@@ -88,20 +127,209 @@ public class ErpOrderItemBusinessService {
         return vos;
     }
 
+    /**
+     * <b>Upload Excel File</b>
+     * <p>
+     * xlsx 피아르 엑셀 파일을 XSSF event model 로 한 행씩 읽어 ErpOrderItemVo 로 변환한다.
+     * 필수값 검사, 셀 타입 검사, 출고 옵션코드 대체 규칙은 ErpOrderItemVo#excelSheetToVos 와 동일하다.
+     *
+     * @param file : MultipartFile
+     * @return List::ErpOrderItemVo::
+     * @see ErpOrderItemVo#excelStreamToVos
+     */
+    private List<ErpOrderItemVo> uploadErpOrderExcelByStream(MultipartFile file) {
+        List<ErpOrderItemVo> vos = new ArrayList<>();
+        this.readErpOrderExcelByStream(file, vos::add);
+        return vos;
+    }
+
+    private void readErpOrderExcelByStream(MultipartFile file, Consumer<ErpOrderItemVo> consumer) {
+        try (InputStream inputStream = file.getInputStream()) {
+            ErpOrderItemVo.excelStreamToVos(inputStream, consumer);
+        } catch (IOException e) {
+            throw new CustomExcelFileUploadException("피아르 양식의 엑셀 파일이 아닙니다.\n올바른 엑셀 파일을 업로드해주세요.");
+        } catch (NullPointerException e) {
+            throw new CustomExcelFileUploadException("엑셀 파일 데이터에 올바르지 않은 값이 존재합니다.");
+        } catch (IllegalStateException | NumberFormatException e) {
+            throw new CustomExcelFileUploadException("피아르 엑셀 양식과 데이터 타입이 다른 값이 존재합니다.\n올바른 엑셀 파일을 업로드해주세요.");
+        } catch (IllegalArgumentException e) {
+            throw new CustomExcelFileUploadException("피아르 양식의 엑셀 파일이 아닙니다.\n올바른 엑셀 파일을 업로드해주세요.");
+        }
+    }
+
+    /**
+     * <b>Upload Excel File</b>
+     * <p>
+     * 피아르 엑셀 파일을 읽어 업로드 데이터(erp_order_item_staging)로 저장하고 업로드 토큰을 반환한다.
+     * 변환된 행은 응답으로 돌려주지 않고 STAGING_INSERT_CHUNK_SIZE 개씩 저장하며, 미리보기와 등록은 업로드 토큰으로 요청한다.
+     * 올바르지 않은 행이 하나라도 있다면 저장된 행을 롤백하고 행 번호와 함께 CustomExcelFileUploadException 을 던진다.
+     * 데이터 행이 없는 파일은 아무것도 저장하지 않고 업로드 토큰 없이 0건으로 반환한다.
+     *
+     * @param file : MultipartFile
+     * @return ErpOrderItemUploadDto
+     * @see ErpOrderItemStagingService#bulkInsert
+     */
     @Transactional
-    public void createBatch(List<ErpOrderItemDto> orderItemDtos) {
+    public ErpOrderItemUploadDto uploadErpOrderExcelToStaging(MultipartFile file) {
         // access check
         userService.userLoginCheck();
         userService.userManagerRoleCheck();
 
         UUID USER_ID = userService.getUserId();
+        UUID uploadToken = UUID.randomUUID();
+        LocalDateTime createdAt = CustomDateUtils.getCurrentDateTime();
+        LocalDateTime expiresAt = createdAt.plusMinutes(uploadTtlMinutes);
+
+        List<ErpOrderItemStagingEntity> stagingEntities = new ArrayList<>();
+        List<String> rowErrors = new ArrayList<>();
+        AtomicInteger rowIndex = new AtomicInteger();
+
+        Consumer<ErpOrderItemVo> stager = vo -> {
+            int currentRowIndex = rowIndex.getAndIncrement();
+            // 헤더가 엑셀의 1행이므로 데이터 행 번호는 index + 2 이다.
+            String rowNumber = (currentRowIndex + 2) + "행";
+
+            ErpOrderItemDto dto;
+            try {
+                dto = ErpOrderItemDto.toDto(vo);
+            } catch (NumberFormatException e) {
+                this.addRowError(rowErrors, rowNumber + " : 수량, 판매금액, 배송비는 숫자만 입력할 수 있습니다.");
+                return;
+            }
+
+            Set<ConstraintViolation<ErpOrderItemDto>> violations = validator.validate(dto);
+            if (!violations.isEmpty()) {
+                this.addRowError(rowErrors, rowNumber + " : " + violations.stream()
+                        .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining(", ")));
+                return;
+            }
+
+            dto.setId(CustomUuidUtils.timeOrderedUuid())
+                    .setUniqueCode(codeGeneratorService.generateUniqueCode())
+                    .setFreightCode(codeGeneratorService.generateFreightCode())
+                    .setCreatedAt(createdAt)
+                    .setCreatedBy(USER_ID);
+            stagingEntities.add(ErpOrderItemStagingEntity.toEntity(dto, uploadToken, currentRowIndex, expiresAt));
+
+            if (stagingEntities.size() >= STAGING_INSERT_CHUNK_SIZE) {
+                erpOrderItemStagingService.bulkInsert(stagingEntities);
+                stagingEntities.clear();
+            }
+        };
+
+        if (CustomExcelUtils.isXlsxFile(file)) {
+            this.readErpOrderExcelByStream(file, stager);
+        } else {
+            this.uploadErpOrderExcel(file).forEach(stager);
+        }
+
+        if (!rowErrors.isEmpty()) {
+            throw new CustomExcelFileUploadException("엑셀 파일 데이터에 올바르지 않은 값이 존재합니다.\n" + String.join("\n", rowErrors));
+        }
+
+        // 데이터 행이 없다면 저장된 행이 없으므로 미리보기, 등록할 업로드 데이터도 없다.
+        if (rowIndex.get() == 0) {
+            return ErpOrderItemUploadDto.builder()
+                    .totalCount(0)
+                    .build();
+        }
+
+        erpOrderItemStagingService.bulkInsert(stagingEntities);
+
+        return ErpOrderItemUploadDto.builder()
+                .uploadToken(uploadToken)
+                .totalCount(rowIndex.get())
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    private void addRowError(List<String> rowErrors, String rowError) {
+        if (rowErrors.size() < MAX_UPLOAD_ROW_ERROR_SIZE) {
+            rowErrors.add(rowError);
+        }
+    }
+
+    /**
+     * <b>DB Select Related Method</b>
+     * <p>
+     * 업로드 데이터를 업로드 순서대로 페이지 조회한다.
+     *
+     * @param uploadToken : UUID
+     * @param pageable    : Pageable
+     * @return Page::ErpOrderItemVo::
+     * @see ErpOrderItemStagingService#searchPage
+     */
+    @Transactional(readOnly = true)
+    public Page<ErpOrderItemVo> searchUploadedItems(UUID uploadToken, Pageable pageable) {
+        // access check
+        userService.userLoginCheck();
+        userService.userManagerRoleCheck();
+
+        Page<ErpOrderItemStagingEntity> stagingPage = erpOrderItemStagingService.searchPage(uploadToken, userService.getUserId(), pageable);
+        return stagingPage.map(entity -> ErpOrderItemVo.toVo(ErpOrderItemDto.toDto(entity)));
+    }
+
+    /**
+     * <b>DB Insert Related Method</b>
+     * <p>
+     * 업로드 데이터를 주문 데이터로 등록하고, 등록된 데이터의 id를 반환한다.
+     * 이미 등록된 주문과 업로드 파일 안에서 중복된 주문은 INSERT ... SELECT 한 문장에서 제외되며, 등록 후 업로드 데이터는 삭제된다.
+     *
+     * @param uploadToken : UUID
+     * @return List::UUID::
+     * @see ErpOrderItemStagingService#commit
+     */
+    public List<UUID> commitUpload(UUID uploadToken) {
+        // access check
+        userService.userLoginCheck();
+        userService.userManagerRoleCheck();
+
+        return erpOrderItemStagingService.commit(uploadToken, userService.getUserId());
+    }
+
+    /**
+     * <b>DB Insert Related Method</b>
+     * <p>
+     * 중복되지 않은 주문 데이터를 일괄 등록하고, 등록된 데이터의 id를 반환한다.
+     *
+     * @param orderItemDtos : List::ErpOrderItemDto::
+     * @return List::UUID::
+     * @see ErpOrderItemBusinessService#itemDuplicationCheck
+     * @see ErpOrderItemService#bulkInsert
+     */
+    @Transactional
+    public List<UUID> createBatch(List<ErpOrderItemDto> orderItemDtos) {
+        // access check
+        userService.userLoginCheck();
+        userService.userManagerRoleCheck();
+
+        return this.createBatch(orderItemDtos, userService.getUserId());
+    }
+
+    /**
+     * <b>DB Insert Related Method</b>
+     * <p>
+     * 중복되지 않은 주문 데이터를 createdBy 사용자로 일괄 등록하고, 등록된 데이터의 id를 반환한다.
+     * 요청 스레드 밖(가져오기 작업)에서 호출되므로 접근 권한 검사는 호출하는 쪽에서 한다.
+     *
+     * @param orderItemDtos : List::ErpOrderItemDto::
+     * @param createdBy     : UUID
+     * @return List::UUID::
+     * @see ErpOrderItemBusinessService#itemDuplicationCheck
+     * @see ErpOrderItemService#bulkInsert
+     */
+    @Transactional
+    public List<UUID> createBatch(List<ErpOrderItemDto> orderItemDtos, UUID createdBy) {
+        UUID USER_ID = createdBy;
         List<ErpOrderItemDto> newOrderItemDtos = this.itemDuplicationCheck(orderItemDtos);
 
         List<ErpOrderItemEntity> orderItemEntities = newOrderItemDtos.stream()
                 .map(r -> {
-                    r.setId(UUID.randomUUID())
-                            .setUniqueCode(CustomUniqueKeyUtils.generateKey())
-                            .setFreightCode(CustomUniqueKeyUtils.generateFreightCode())
+                    r.setId(CustomUuidUtils.timeOrderedUuid())
+                            .setUniqueCode(codeGeneratorService.generateUniqueCode())
+                            .setFreightCode(codeGeneratorService.generateFreightCode())
                             .setSalesYn("n")
                             .setReleaseOptionCode(r.getOptionCode())
                             .setReleaseYn("n")
@@ -113,49 +341,89 @@ public class ErpOrderItemBusinessService {
                 }).collect(Collectors.toList());
 
         erpOrderItemService.bulkInsert(orderItemEntities);
+        return orderItemEntities.stream().map(ErpOrderItemEntity::getId).collect(Collectors.toList());
     }
 
-    /*
-    로직 분리 부분 한번 더 고려 해보기
+    /**
+     * <b>Import Job Related Method</b>
+     * <p>
+     * xlsx 피아르 엑셀 파일의 가져오기 작업을 등록하고 즉시 반환한다.
+     * 파싱, 검증, 중복 제거, 저장은 작업 스레드에서 chunk 단위 트랜잭션으로 처리되고 진행 상황은 작업별 destination 으로 전송된다.
+     *
+     * @param file : MultipartFile
+     * @return ImportJobDto
+     * @see ErpOrderItemExcelImportJobHandler
+     * @see ImportJobBusinessService#submit
+     */
+    public ImportJobDto createImportJobForExcel(MultipartFile file) {
+        // access check
+        userService.userLoginCheck();
+        userService.userManagerRoleCheck();
+
+        if (!CustomExcelUtils.isXlsxFile(file)) {
+            throw new CustomExcelFileUploadException("대량 가져오기는 xlsx 파일만 지원합니다.\n엑셀 파일을 xlsx 형식으로 저장 후 업로드해주세요.");
+        }
+
+        try (InputStream inputStream = file.getInputStream()) {
+            return importJobBusinessService.submit(ErpOrderItemExcelImportJobHandler.JOB_TYPE, file.getOriginalFilename(), inputStream, null, userService.getUserId());
+        } catch (IOException e) {
+            throw new CustomExcelFileUploadException("피아르 양식의 엑셀 파일이 아닙니다.\n올바른 엑셀 파일을 업로드해주세요.");
+        }
+    }
+
+    /**
+     * <b>Import Job Related Method</b>
+     * <p>
+     * 주문 데이터 일괄 등록 가져오기 작업을 등록하고 즉시 반환한다.
+     * 요청 데이터는 작업 파일로 저장되어 재시작 시에도 이어서 처리할 수 있다.
+     *
+     * @param orderItemDtos : List::ErpOrderItemDto::
+     * @return ImportJobDto
+     * @see ErpOrderItemBatchImportJobHandler
+     * @see ImportJobBusinessService#submit
+     */
+    public ImportJobDto createImportJobForBatch(List<ErpOrderItemDto> orderItemDtos) {
+        // access check
+        userService.userLoginCheck();
+        userService.userManagerRoleCheck();
+
+        byte[] payload;
+        try {
+            payload = objectMapper.writeValueAsBytes(orderItemDtos);
+        } catch (JsonProcessingException e) {
+            throw new CustomInvalidDataException("주문 데이터를 변환할 수 없습니다.", e);
+        }
+
+        return importJobBusinessService.submit(ErpOrderItemBatchImportJobHandler.JOB_TYPE, null, new ByteArrayInputStream(payload), null, userService.getUserId());
+    }
+
+    /**
+     * <b>Data Processing Related Method</b>
+     * <p>
+     * 주문번호1 + 수령인 + 상품명 + 옵션명 + 수량 이 동일한 데이터는 저장에서 제외한다.
+     * 주문번호1이 비어있는 데이터는 중복 검사를 하지 않는다.
+     * 저장된 데이터는 duplicationHash 로 조회하고, 업로드 데이터 내의 중복도 같은 HashSet 으로 걸러낸다.
+     * duplication_hash 는 unique index 이므로 같은 업로드 내의 동일한 데이터도 첫번째 데이터만 저장된다.
+     *
+     * @param dtos : List::ErpOrderItemDto::
+     * @return List::ErpOrderItemDto::
+     * @see ErpOrderItemEntity#generateDuplicationHash
+     * @see ErpOrderItemService#findDuplicationHashes
      */
     public List<ErpOrderItemDto> itemDuplicationCheck(List<ErpOrderItemDto> dtos) {
         List<ErpOrderItemDto> newItems = dtos.stream().filter(r -> r.getOrderNumber1().isEmpty()).collect(Collectors.toList());
         List<ErpOrderItemDto> duplicationCheckItems = dtos.stream().filter(r -> !r.getOrderNumber1().isEmpty()).collect(Collectors.toList());
 
-        List<String> orderNumber1 = new ArrayList<>();
-        List<String> receiver = new ArrayList<>();
-        List<String> prodName = new ArrayList<>();
-        List<String> optionName = new ArrayList<>();
-        List<Integer> unit = new ArrayList<>();
-        duplicationCheckItems.forEach(r -> {
-            orderNumber1.add(r.getOrderNumber1());
-            receiver.add(r.getReceiver());
-            prodName.add(r.getProdName());
-            optionName.add(r.getOptionName());
-            unit.add(r.getUnit());
-        });
+        List<String> duplicationHashes = duplicationCheckItems.stream()
+                .map(r -> ErpOrderItemEntity.generateDuplicationHash(r.getOrderNumber1(), r.getReceiver(), r.getProdName(), r.getOptionName(), r.getUnit()))
+                .collect(Collectors.toList());
 
-        List<ErpOrderItemEntity> duplicationEntities = erpOrderItemService.findDuplicationItems(orderNumber1, receiver, prodName, optionName, unit);
+        Set<String> duplicationHashSet = erpOrderItemService.findDuplicationHashes(duplicationHashes);
 
-        if (duplicationEntities.size() == 0) {
-            return dtos;
-        } else {
-            for (ErpOrderItemDto duplicationCheckItem : duplicationCheckItems) {
-                boolean duplication = false;
-                // 주문번호 + 수령인 + 상품명 + 옵션명 + 수량 이 동일하다면 저장 제외
-                for (ErpOrderItemEntity duplicationEntity : duplicationEntities) {
-                    if (duplicationEntity.getOrderNumber1().equals(duplicationCheckItem.getOrderNumber1())
-                            && duplicationEntity.getReceiver().equals(duplicationCheckItem.getReceiver())
-                            && duplicationEntity.getProdName().equals(duplicationCheckItem.getProdName())
-                            && duplicationEntity.getOptionName().equals(duplicationCheckItem.getOptionName())
-                            && duplicationEntity.getUnit().equals(duplicationCheckItem.getUnit())) {
-                        duplication = true;
-                        break;
-                    }
-                }
-                if (!duplication) {
-                    newItems.add(duplicationCheckItem);
-                }
+        for (int i = 0; i < duplicationCheckItems.size(); i++) {
+            // 이미 저장되었거나 업로드 데이터 내에서 앞서 추가된 데이터라면 저장 제외
+            if (duplicationHashSet.add(duplicationHashes.get(i))) {
+                newItems.add(duplicationCheckItems.get(i));
             }
         }
         return newItems;
@@ -200,6 +468,40 @@ public class ErpOrderItemBusinessService {
         return this.setOptionStockUnitAndToVos(itemProjs);
     }
 
+    /**
+     * <b>DB Select Related Method</b>
+     * <p>
+     * searchList 와 같은 조건의 데이터를 STREAM_CHUNK_SIZE 개씩 조회하고, chunk 마다 옵션재고수량을 추가해 chunkConsumer 에 전달한다.
+     * 전체 결과를 리스트로 만들지 않으므로 조회 건수와 관계없이 메모리 사용량이 일정하다.
+     *
+     * @param params        : Map::String, Object::
+     * @param chunkConsumer : Consumer::List::ErpOrderItemVo::::
+     * @see ErpOrderItemService#findAllM2OJByChunk
+     */
+    public void searchListByChunk(Map<String, Object> params, Consumer<List<ErpOrderItemVo>> chunkConsumer) {
+        // access check
+        userService.userLoginCheck();
+
+        erpOrderItemService.findAllM2OJByChunk(params, STREAM_CHUNK_SIZE, itemProjs -> chunkConsumer.accept(this.setOptionStockUnitAndToVos(itemProjs)));
+    }
+
+    /**
+     * <b>DB Select Related Method</b>
+     * <p>
+     * searchBatchByIds 와 같은 조건의 데이터를 STREAM_CHUNK_SIZE 개씩 조회하고, chunk 마다 옵션재고수량을 추가해 chunkConsumer 에 전달한다.
+     *
+     * @param ids           : List::UUID::
+     * @param params        : Map::String, Object::
+     * @param chunkConsumer : Consumer::List::ErpOrderItemVo::::
+     * @see ErpOrderItemService#findAllM2OJByChunk
+     */
+    public void searchBatchByIdsByChunk(List<UUID> ids, Map<String, Object> params, Consumer<List<ErpOrderItemVo>> chunkConsumer) {
+        // access check
+        userService.userLoginCheck();
+
+        erpOrderItemService.findAllM2OJByChunk(ids, params, STREAM_CHUNK_SIZE, itemProjs -> chunkConsumer.accept(this.setOptionStockUnitAndToVos(itemProjs)));
+    }
+
     /*
     조건별 페이지별 ErpOrderItemProj Page 데이터를 가져온다.
     옵션 재고 수량 추가 및 vos 변환
@@ -241,6 +543,48 @@ public class ErpOrderItemBusinessService {
         return new PageImpl(erpOrderItemVos, pageable, itemPages.getTotalElements());
     }
 
+    /*
+    커서 이후의 ErpOrderItemProj 데이터를 가져온다. (keyset 페이지 조회)
+    옵션 재고 수량 추가 및 vos 변환
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDto<ErpOrderItemVo> searchBatchByCursor(Map<String, Object> params, Pageable pageable) {
+        // access check
+        userService.userLoginCheck();
+
+        CursorPageDto<ErpOrderItemProj> itemPage = erpOrderItemService.findAllM2OJByCursor(params, pageable);
+        // 옵션재고수량 추가 및 vos 변환
+        List<ErpOrderItemVo> erpOrderItemVos = this.setOptionStockUnitAndToVos(itemPage.getContent());
+
+        return this.toVoCursorPage(itemPage, erpOrderItemVos);
+    }
+
+    /*
+    커서 이후의 출고 상태인 ErpOrderItemProj 데이터를 가져온다. (keyset 페이지 조회)
+    옵션 재고 수량 추가 및 vos 변환
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDto<ErpOrderItemVo> searchReleaseItemBatchByCursor(Map<String, Object> params, Pageable pageable) {
+        // access check
+        userService.userLoginCheck();
+
+        CursorPageDto<ErpOrderItemProj> itemPage = erpOrderItemService.findReleaseItemM2OJByCursor(params, pageable);
+        // 옵션재고수량 추가 및 vos 변환
+        List<ErpOrderItemVo> erpOrderItemVos = this.setOptionStockUnitAndToVos(itemPage.getContent());
+
+        return this.toVoCursorPage(itemPage, erpOrderItemVos);
+    }
+
+    private CursorPageDto<ErpOrderItemVo> toVoCursorPage(CursorPageDto<ErpOrderItemProj> itemPage, List<ErpOrderItemVo> erpOrderItemVos) {
+        return CursorPageDto.<ErpOrderItemVo>builder()
+                .content(erpOrderItemVos)
+                .size(itemPage.getSize())
+                .hasNext(itemPage.getHasNext())
+                .nextCursor(itemPage.getNextCursor())
+                .totalElements(itemPage.getTotalElements())
+                .build();
+    }
+
     /**
      * ErpOrderItemProjs => ErpOrderItemVos
      * proj -> vos 변환 및 재고 수량 셋
@@ -279,9 +623,10 @@ public class ErpOrderItemBusinessService {
     /**
      * <b>DB Update Related Method</b>
      * <p>
-     * 엑셀 데이터의 salesYn(판매 여부)을 업데이트한다.
+     * 엑셀 데이터의 salesYn(판매 여부)을 업데이트한다. 변경된 판매 일시는 itemDtos의 salesAt에 설정된다.
      *
      * @param itemDtos : List::ErpOrderItemDto::
+     * @see ErpOrderItemService#bulkUpdateSalesYn
      */
 //    PASS
     @Transactional
@@ -290,27 +635,20 @@ public class ErpOrderItemBusinessService {
         userService.userLoginCheck();
         userService.userManagerRoleCheck();
 
-        List<UUID> idList = itemDtos.stream().map(ErpOrderItemDto::getId).collect(Collectors.toList());
-        List<ErpOrderItemEntity> entities = erpOrderItemService.findAllByIdList(idList);
-
-        entities.forEach(entity -> itemDtos.forEach(dto -> {
-            if (entity.getId().equals(dto.getId())) {
-                entity.setSalesYn(dto.getSalesYn()).setSalesAt(CustomDateUtils.getCurrentDateTime());
-            }
-        }));
-
-        erpOrderItemService.saveListAndModify(entities);
+        LocalDateTime now = CustomDateUtils.getCurrentDateTime();
+        itemDtos.forEach(dto -> dto.setSalesAt(now));
+        this.groupIdsByValue(itemDtos, ErpOrderItemDto::getSalesYn)
+                .forEach((salesYn, ids) -> erpOrderItemService.bulkUpdateSalesYn(ids, salesYn, now));
     }
 
     /**
      * <b>DB Update Related Method</b>
      * <p>
-     * 엑셀 데이터의 releaseYn(출고 여부)을 업데이트한다.
+     * 엑셀 데이터의 releaseYn(출고 여부)을 업데이트한다. 변경된 출고 일시는 itemDtos의 releaseAt에 설정된다.
      *
      * @param itemDtos : List::ErpOrderItemDto::
-     * @see ErpOrderItemService#findAllByIdList
      * @see CustomDateUtils#getCurrentDateTime
-     * @see ErpOrderItemService#saveListAndModify
+     * @see ErpOrderItemService#bulkUpdateReleaseYn
      */
 //    PASS
     @Transactional
@@ -319,16 +657,19 @@ public class ErpOrderItemBusinessService {
         userService.userLoginCheck();
         userService.userManagerRoleCheck();
 
-        List<UUID> idList = itemDtos.stream().map(ErpOrderItemDto::getId).collect(Collectors.toList());
-        List<ErpOrderItemEntity> entities = erpOrderItemService.findAllByIdList(idList);
-
-        entities.forEach(entity -> itemDtos.forEach(dto -> {
-            if (entity.getId().equals(dto.getId())) {
-                entity.setReleaseYn(dto.getReleaseYn()).setReleaseAt(CustomDateUtils.getCurrentDateTime());
-            }
-        }));
+        LocalDateTime now = CustomDateUtils.getCurrentDateTime();
+        itemDtos.forEach(dto -> dto.setReleaseAt(now));
+        this.groupIdsByValue(itemDtos, ErpOrderItemDto::getReleaseYn)
+                .forEach((releaseYn, ids) -> erpOrderItemService.bulkUpdateReleaseYn(ids, releaseYn, now));
+    }
 
-        erpOrderItemService.saveListAndModify(entities);
+    /**
+     * 같은 값으로 변경되는 id를 묶는다. 판매/출고 여부는 대부분 한 가지 값으로 변경되므로 한 두번의 UPDATE 로 처리된다.
+     */
+    private Map<String, List<UUID>> groupIdsByValue(List<ErpOrderItemDto> itemDtos, Function<ErpOrderItemDto, String> valueExtractor) {
+        Map<String, List<UUID>> idsByValue = new HashMap<>();
+        itemDtos.forEach(dto -> idsByValue.computeIfAbsent(valueExtractor.apply(dto), value -> new ArrayList<>()).add(dto.getId()));
+        return idsByValue;
     }
 
     /**
@@ -355,9 +696,11 @@ public class ErpOrderItemBusinessService {
      * <b>Data Update Related Method</b>
      * <p>
      * 피아르 엑셀 데이터를 수정한다.
+     * 수정한 주문번호1 + 수령인 + 상품명 + 옵션명 + 수량 이 다른 데이터와 동일하다면 수정하지 않는다.
      *
      * @param dto : ErpOrderItemDto
      * @see ErpOrderItemService#searchOne
+     * @see ErpOrderItemService#findDuplicationHashes
      * @see ErpOrderItemService#saveAndModify
      */
 //    PASS
@@ -369,6 +712,15 @@ public class ErpOrderItemBusinessService {
 
         ErpOrderItemEntity entity = erpOrderItemService.searchOne(dto.getId());
 
+        // 중복 검사 대상 컬럼이 변경되었다면 다른 데이터와 중복되는지 확인한다. 엔티티 변경 전에 조회해야 flush 되지 않는다.
+        String duplicationHash = ErpOrderItemEntity.generateDuplicationHash(dto.getOrderNumber1(), dto.getReceiver(), dto.getProdName(), dto.getOptionName(), dto.getUnit());
+        boolean duplicationKeyChanged = !Objects.equals(duplicationHash,
+                ErpOrderItemEntity.generateDuplicationHash(entity.getOrderNumber1(), entity.getReceiver(), entity.getProdName(), entity.getOptionName(), entity.getUnit()));
+
+        if (duplicationKeyChanged && duplicationHash != null && !erpOrderItemService.findDuplicationHashes(List.of(duplicationHash)).isEmpty()) {
+            throw new CustomInvalidDataException("주문번호1, 수령인, 상품명, 옵션명, 수량이 동일한 주문 데이터가 이미 존재합니다.");
+        }
+
         /*
         Dirty Checking 업데이트
          */
@@ -402,6 +754,10 @@ public class ErpOrderItemBusinessService {
                 .setManagementMemo8(dto.getManagementMemo8())
                 .setManagementMemo9(dto.getManagementMemo9())
                 .setManagementMemo10(dto.getManagementMemo10());
+
+        if (duplicationKeyChanged) {
+            entity.refreshDuplicationHash();
+        }
     }
 
     /**
@@ -410,8 +766,7 @@ public class ErpOrderItemBusinessService {
      * 변경 주문 옵션코드를 참고해 주문 옵션코드와 출고 옵션코드를 변경한다.
      *
      * @param itemDtos : List::ErpOrderItemDto::
-     * @see ErpOrderItemService#findAllByIdList
-     * @see ErpOrderItemService#saveListAndModify
+     * @see ErpOrderItemService#bulkUpdateOptionCode
      */
     @Transactional
     public void changeBatchForAllOptionCode(List<ErpOrderItemDto> itemDtos) {
@@ -419,15 +774,14 @@ public class ErpOrderItemBusinessService {
         userService.userLoginCheck();
         userService.userManagerRoleCheck();
 
-        List<ErpOrderItemEntity> entities = erpOrderItemService.getEntities(itemDtos);
+        List<ErpOrderItemEntity> entities = itemDtos.stream().map(dto -> ErpOrderItemEntity.builder()
+                .id(dto.getId())
+                .optionCode(dto.getOptionCode())
+                .releaseOptionCode(dto.getOptionCode())
+                .build()
+        ).collect(Collectors.toList());
 
-//        Dirty Checking update
-        entities.forEach(entity -> itemDtos.forEach(dto -> {
-            if (entity.getId().equals(dto.getId())) {
-                entity.setOptionCode(dto.getOptionCode())
-                        .setReleaseOptionCode(dto.getOptionCode());
-            }
-        }));
+        erpOrderItemService.bulkUpdateOptionCode(entities);
     }
 
     /**
@@ -436,8 +790,7 @@ public class ErpOrderItemBusinessService {
      * 출고 옵션코드를 변경한다.
      *
      * @param itemDtos : List::ErpOrderItemDto::
-     * @see ErpOrderItemService#findAllByIdList
-     * @see ErpOrderItemService#saveListAndModify
+     * @see ErpOrderItemService#bulkUpdateReleaseOptionCode
      */
 //    PASS
     @Transactional
@@ -446,17 +799,13 @@ public class ErpOrderItemBusinessService {
         userService.userLoginCheck();
         userService.userManagerRoleCheck();
 
-        List<UUID> idList = itemDtos.stream().map(ErpOrderItemDto::getId).collect(Collectors.toList());
-        List<ErpOrderItemEntity> entities = erpOrderItemService.findAllByIdList(idList);
+        List<ErpOrderItemEntity> entities = itemDtos.stream().map(dto -> ErpOrderItemEntity.builder()
+                .id(dto.getId())
+                .releaseOptionCode(dto.getReleaseOptionCode())
+                .build()
+        ).collect(Collectors.toList());
 
-        /*
-        Dirty Checking update
-         */
-        entities.forEach(entity -> itemDtos.forEach(dto -> {
-            if (entity.getId().equals(dto.getId())) {
-                entity.setReleaseOptionCode(dto.getReleaseOptionCode());
-            }
-        }));
+        erpOrderItemService.bulkUpdateReleaseOptionCode(entities);
     }
 
     /**
@@ -470,83 +819,20 @@ public class ErpOrderItemBusinessService {
      * @param firstMergeHeaderId : UUID
      * @param dtos               : List::ErpOrderItemDto::
      * @return List::ErpOrderItemVo::
+     * @see ErpFirstMergeHeaderService#searchVersion
      * @see ErpOrderItemBusinessService#searchErpFirstMergeHeader
-     * @see CustomFieldUtils#getFieldValue
-     * @see CustomFieldUtils#setFieldValue
+     * @see ErpOrderItemMergePlan#ofFirstMerge
+     * @see ErpOrderItemMergePlan#merge
      */
     public List<ErpOrderItemVo> getFirstMergeItem(UUID firstMergeHeaderId, List<ErpOrderItemDto> dtos) {
         // access check
         userService.userLoginCheck();
         userService.userManagerRoleCheck();
 
-        List<ErpOrderItemVo> itemVos = dtos.stream().map(r -> ErpOrderItemVo.toVo(r)).collect(Collectors.toList());
-
-        // 선택된 병합 헤더데이터 조회
-        ErpFirstMergeHeaderDto headerDto = this.searchErpFirstMergeHeader(firstMergeHeaderId);
-
-        // 나열 컬럼명 추출
-        List<String> matchedColumnName = headerDto.getHeaderDetail().getDetails().stream().filter(r -> r.getMergeYn().equals("y")).collect(Collectors.toList())
-                .stream().map(r -> r.getMatchedColumnName()).collect(Collectors.toList());
-
-        // fixedValue가 존재하는 컬럼의 컬럼명과 fixedValue값 추출
-        Map<String, String> fixedValueMap = headerDto.getHeaderDetail().getDetails().stream().filter(r -> !r.getFixedValue().isBlank()).collect(Collectors.toList())
-                .stream().collect(Collectors.toMap(
-                        key -> key.getMatchedColumnName(),
-                        value -> value.getFixedValue()
-                ));
-
-        itemVos.sort(Comparator.comparing(ErpOrderItemVo::getReceiver)
-                .thenComparing(ErpOrderItemVo::getReceiverContact1)
-                .thenComparing(ErpOrderItemVo::getDestination)
-                .thenComparing(ErpOrderItemVo::getProdName)
-                .thenComparing(ErpOrderItemVo::getOptionName));
-
-
-        // 반환할 병합 데이터
-        List<ErpOrderItemVo> mergeItemVos = new ArrayList<>();
-
-        Set<String> deliverySet = new HashSet<>();
-        for (int i = 0; i < itemVos.size(); i++) {
-            StringBuilder sb = new StringBuilder();
-            sb.append(itemVos.get(i).getReceiver());
-            sb.append(itemVos.get(i).getReceiverContact1());
-            sb.append(itemVos.get(i).getDestination());
-            sb.append(itemVos.get(i).getProdName());
-            sb.append(itemVos.get(i).getOptionName());
-
-            String resultStr = sb.toString();
-
-            mergeItemVos.add(itemVos.get(i));
-            int currentMergeItemIndex = mergeItemVos.size() - 1;
-
-            // 중복데이터(상품 + 옵션)
-            if (!deliverySet.add(resultStr)) {
-                ErpOrderItemVo currentVo = mergeItemVos.get(currentMergeItemIndex);
-                ErpOrderItemVo prevVo = mergeItemVos.get(currentMergeItemIndex - 1);
-
-                // 수량 더하기
-                int sumUnit = Integer.parseInt(prevVo.getUnit()) + Integer.parseInt(currentVo.getUnit());
-                CustomFieldUtils.setFieldValue(prevVo, "unit", String.valueOf(sumUnit));
-
-                // 구분자로 나열 데이터 처리 - 수량은 제외하고
-                matchedColumnName.forEach(columnName -> {
-                    if (!columnName.equals("unit")) {
-                        String prevFieldValue = CustomFieldUtils.getFieldValue(prevVo, columnName) == null ? "" : CustomFieldUtils.getFieldValue(prevVo, columnName);
-                        String currentFieldValue = CustomFieldUtils.getFieldValue(currentVo, columnName) == null ? "" : CustomFieldUtils.getFieldValue(currentVo, columnName);
-                        CustomFieldUtils.setFieldValue(prevVo, columnName, prevFieldValue + "|&&|" + currentFieldValue);
-                    }
-                });
-
-                // 중복데이터 제거
-                mergeItemVos.remove(currentMergeItemIndex);
-            }
-
-            // fixedValue가 지정된 column들은 fixedValue값으로 데이터를 덮어씌운다
-            fixedValueMap.entrySet().stream().forEach(map -> {
-                CustomFieldUtils.setFieldValue(mergeItemVos.get(mergeItemVos.size() - 1), map.getKey(), map.getValue());
-            });
-        }
-        return mergeItemVos;
+        // 선택된 병합 헤더의 병합 계획 조회 (헤더가 수정되지 않았다면 캐시된 계획을 사용한다)
+        ErpOrderItemMergePlan mergePlan = erpOrderItemMergePlanCache.getFirstMergePlan(firstMergeHeaderId, erpFirstMergeHeaderService.searchVersion(firstMergeHeaderId),
+                () -> ErpOrderItemMergePlan.ofFirstMerge(this.searchErpFirstMergeHeader(firstMergeHeaderId)));
+        return mergePlan.merge(dtos);
     }
 
     /**
@@ -576,96 +862,20 @@ public class ErpOrderItemBusinessService {
      * @param secondMergeHeaderId : UUID
      * @param dtos                : List::ErpOrderItemDto::
      * @return List::ErpOrderItemVo::
+     * @see ErpSecondMergeHeaderService#searchVersion
      * @see ErpOrderItemBusinessService#searchErpSecondMergeHeader
-     * @see CustomFieldUtils#getFieldValue
-     * @see CustomFieldUtils#setFieldValue
+     * @see ErpOrderItemMergePlan#ofSecondMerge
+     * @see ErpOrderItemMergePlan#merge
      */
     public List<ErpOrderItemVo> getSecondMergeItem(UUID secondMergeHeaderId, List<ErpOrderItemDto> dtos) {
         // access check
         userService.userLoginCheck();
         userService.userManagerRoleCheck();
 
-        List<ErpOrderItemVo> itemVos = dtos.stream().map(r -> ErpOrderItemVo.toVo(r)).collect(Collectors.toList());
-
-        // 선택된 병합 헤더데이터 조회
-        ErpSecondMergeHeaderDto headerDto = this.searchErpSecondMergeHeader(secondMergeHeaderId);
-
-        Map<String, String> splitterMap = headerDto.getHeaderDetail().getDetails().stream().filter(r -> r.getMergeYn().equals("y")).collect(Collectors.toList())
-                .stream().collect(Collectors.toMap(
-                        r -> r.getMatchedColumnName(),
-                        r -> r.getSplitter()
-                ));
-
-        // fixedValue가 존재하는 컬럼의 컬럼명과 fixedValue값 추출
-        Map<String, String> fixedValueMap = headerDto.getHeaderDetail().getDetails().stream().filter(r -> !r.getFixedValue().isBlank()).collect(Collectors.toList())
-                .stream().collect(Collectors.toMap(
-                        r -> r.getMatchedColumnName(),
-                        r -> r.getFixedValue()));
-
-        itemVos.sort(Comparator.comparing(ErpOrderItemVo::getReceiver)
-                .thenComparing(ErpOrderItemVo::getReceiverContact1)
-                .thenComparing(ErpOrderItemVo::getDestination)
-                .thenComparing(ErpOrderItemVo::getProdName)
-                .thenComparing(ErpOrderItemVo::getOptionName));
-
-        for (int i = 0; i < itemVos.size() && i < dtos.size(); i++) {
-            ErpOrderItemVo currentVo = itemVos.get(i);
-            ErpOrderItemDto originDto = dtos.get(i);
-
-            // 1. splitter로 나타낼 데이터 컬럼을 모두 추출해서 현재 데이터에 그 컬럼의 데이터 값을 구분자를 붙여 추가한다.
-            // 2. 수령인이 동일하면 |&&|구분자로 병합해서 나열. 중복처리된 열 제거
-            // 3. fixedValue가 존재하는 애들은 fixedValue값으로 채우기
-
-            // 1. splitter로 나타낼 데이터 컬럼을 추출
-            splitterMap.entrySet().stream().forEach(mergeMap -> {
-                // viewDetails 
-                DetailDto matchedDetail = headerDto.getHeaderDetail().getDetails().stream().filter(r -> r.getMatchedColumnName().equals(mergeMap.getKey())).collect(Collectors.toList()).get(0);
-                String appendFieldValue = "";
-
-                for (int j = 0; j < matchedDetail.getViewDetails().size(); j++) {
-                    appendFieldValue += CustomFieldUtils.getFieldValue(originDto, matchedDetail.getViewDetails().get(j).getMatchedColumnName()).toString();
-                    if (j < matchedDetail.getViewDetails().size() - 1) {
-                        appendFieldValue += mergeMap.getValue();
-                    }
-                }
-                CustomFieldUtils.setFieldValue(currentVo, mergeMap.getKey(), appendFieldValue);
-            });
-        }
-
-
-        // 2. 수령인 동일하면 |&&|구분자로 병합해서 나열.
-        List<ErpOrderItemVo> mergeItemVos = new ArrayList<>();
-
-        Set<String> deliverySet = new HashSet<>();
-        for (ErpOrderItemVo itemVo : itemVos) {
-
-            String resultStr = itemVo.getReceiver() +
-                    itemVo.getReceiverContact1() +
-                    itemVo.getDestination();
-
-            mergeItemVos.add(itemVo);
-            int currentMergeItemIndex = mergeItemVos.size() - 1;
-
-            // 중복데이터(상품 + 옵션)
-            if (!deliverySet.add(resultStr)) {
-                ErpOrderItemVo currentVo = mergeItemVos.get(currentMergeItemIndex);
-                ErpOrderItemVo prevVo = mergeItemVos.get(currentMergeItemIndex - 1);
-
-                splitterMap.forEach((key, value) -> {
-                    String prevFieldValue = CustomFieldUtils.getFieldValue(prevVo, key) == null ? "" : CustomFieldUtils.getFieldValue(prevVo, key);
-                    String currentFieldValue = CustomFieldUtils.getFieldValue(currentVo, key) == null ? "" : CustomFieldUtils.getFieldValue(currentVo, key);
-                    CustomFieldUtils.setFieldValue(prevVo, key, prevFieldValue + "|&&|" + currentFieldValue);
-                });
-
-                // 중복데이터 제거
-                mergeItemVos.remove(currentMergeItemIndex);
-            }
-
-            // 3. fixedValue가 지정된 column들은 fixedValue값으로 데이터를 덮어씌운다
-            fixedValueMap.forEach((key, value) -> CustomFieldUtils.setFieldValue(mergeItemVos.get(mergeItemVos.size() - 1), key, value));
-        }
-
-        return mergeItemVos;
+        // 선택된 병합 헤더의 병합 계획 조회 (헤더가 수정되지 않았다면 캐시된 계획을 사용한다)
+        ErpOrderItemMergePlan mergePlan = erpOrderItemMergePlanCache.getSecondMergePlan(secondMergeHeaderId, erpSecondMergeHeaderService.searchVersion(secondMergeHeaderId),
+                () -> ErpOrderItemMergePlan.ofSecondMerge(this.searchErpSecondMergeHeader(secondMergeHeaderId)));
+        return mergePlan.merge(dtos);
     }
 
     /**
@@ -694,7 +904,7 @@ public class ErpOrderItemBusinessService {
         }
 
         List<String> HEADER_NAMES = WaybillExcelFormManager.HEADER_NAMES;
-        List<String> FIELD_NAMES = WaybillExcelFormManager.getAllFieldNames();
+        List<FieldAccessor> FIELD_ACCESSORS = CustomFieldAccessorUtils.getAccessors(WaybillExcelFormDto.class, WaybillExcelFormManager.getAllFieldNames());
         List<Integer> REQUIRED_CELL_NUMBERS = WaybillExcelFormManager.REQUIRED_CELL_NUMBERS;
 
         int SHEET_INDEX = 0;
@@ -749,7 +959,7 @@ public class ErpOrderItemBusinessService {
                 /*
                 cellValue dto에 매핑시키기
                  */
-                CustomFieldUtils.setFieldValueWithSuper(waybillExcelFormDto, FIELD_NAMES.get(j), cellValue.toString());
+                FIELD_ACCESSORS.get(j).set(waybillExcelFormDto, cellValue.toString());
             }
             /*
             dto가 널이 아니라면 리스트에 담는다.
@@ -765,69 +975,49 @@ public class ErpOrderItemBusinessService {
     /**
      * <p>선택된 데이터와 운송장 일괄 등록을 위해 엑셀에서 dto 로 변환된 데이터를 비교 대조해서 선택된 데이터의 운송장 관련 데이터들을 업데이트 한다.</p>
      * <p>일반적으로 ErpOrderItemBusinessService#readWaybillExcelFile의 작업이 선행 되어야한다. </p>
-     * <p>Last Modifier : Austin Park 22.4.22</p>
+     * <p>운송장 데이터는 수취인명 + 운임코드로 한번만 색인하고, 일치하는 주문건은 JDBC batch update 로 반영한다.
+     * 일치하는 주문건이 없는 운송장 행과 같은 키에 서로 다른 운송장 정보가 존재하는 행은 결과에 담아 반환한다.</p>
      *
-     * @return 운송장 관련 데이터가 정상적으로 적용된 데이터의 수
+     * @return ErpOrderItemWaybillMatchResultDto
      * @since 1.1
      * @see ErpOrderItemBusinessService#readWaybillExcelFile
+     * @see ErpOrderItemWaybillMatcher
+     * @see ErpOrderItemService#bulkUpdateWaybill
      */
     @Transactional
-    public int changeBatchForWaybill(List<ErpOrderItemDto> erpOrderItemDtos, List<WaybillExcelFormDto> waybillExcelFormDtos) {
+    public ErpOrderItemWaybillMatchResultDto changeBatchForWaybill(List<ErpOrderItemDto> erpOrderItemDtos, List<WaybillExcelFormDto> waybillExcelFormDtos) {
         // access check
         userService.userLoginCheck();
         userService.userManagerRoleCheck();
 
-        /*
-        수취인명 별 운임번호 분해작업
-         */
-        List<WaybillExcelFormDto> dismantledWaybillExcelFormDtos = new ArrayList<>();
-        waybillExcelFormDtos.forEach(r -> {
-            List<String> freightCodes = List.of(r.getFreightCode().split(","));
-
-            freightCodes.forEach(freightCode -> {
-                WaybillExcelFormDto dto = new WaybillExcelFormDto();
-                dto.setReceiver(r.getReceiver());
-                dto.setFreightCode(freightCode);
-                dto.setWaybillNumber(r.getWaybillNumber());
-                dto.setTransportType(r.getTransportType());
-                dto.setCourier(r.getCourier());
-
-                dismantledWaybillExcelFormDtos.add(dto);
-            });
-        });
+        ErpOrderItemWaybillMatcher waybillMatcher = ErpOrderItemWaybillMatcher.of(waybillExcelFormDtos);
 
         /*
-        선택된 주문건의 엔터티들을 불러온다.
+        선택된 주문건의 id, 수취인명, 운임코드를 불러와 운송장 데이터와 대조한다.
          */
         List<UUID> ids = erpOrderItemDtos.stream().map(ErpOrderItemDto::getId).collect(Collectors.toList());
-        List<ErpOrderItemEntity> erpOrderItemEntities = erpOrderItemService.findAllByIdList(ids);
-        AtomicInteger updatedCount = new AtomicInteger();
+        List<ErpOrderItemEntity> updatedEntities = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += WAYBILL_MATCH_CHUNK_SIZE) {
+            List<ErpOrderItemEntity> erpOrderItemEntities = erpOrderItemService.findWaybillMatchFieldsByIdList(ids.subList(i, Math.min(i + WAYBILL_MATCH_CHUNK_SIZE, ids.size())));
+            updatedEntities.addAll(waybillMatcher.match(erpOrderItemEntities));
+        }
 
-        /*
-        분해작업이 완료된 운임코드+수취인명과 선택된 주문건들의 운임코드+수취인명을 비교해서 일치하는 데이터에 운송장 관련 데이터들을 업데이트한다.
-        업데이트 완료된건 카운팅
-         */
-        erpOrderItemEntities.forEach(erpOrderItemEntity -> {
-            String matchingData = erpOrderItemEntity.getReceiver() + erpOrderItemEntity.getFreightCode();
-            dismantledWaybillExcelFormDtos.forEach(waybillExcelFormDto -> {
-                String matchedData = waybillExcelFormDto.getReceiver() + waybillExcelFormDto.getFreightCode();
-
-                if (matchingData.equals(matchedData)) {
-                    erpOrderItemEntity.setWaybillNumber(waybillExcelFormDto.getWaybillNumber());
-                    erpOrderItemEntity.setTransportType(waybillExcelFormDto.getTransportType());
-                    erpOrderItemEntity.setCourier(waybillExcelFormDto.getCourier());
-                    updatedCount.getAndIncrement();
-                }
-            });
-        });
+        erpOrderItemService.bulkUpdateWaybill(updatedEntities);
 
-        return updatedCount.get();
+        return ErpOrderItemWaybillMatchResultDto.builder()
+                .updatedCount(updatedEntities.size())
+                .updatedIds(updatedEntities.stream().map(ErpOrderItemEntity::getId).collect(Collectors.toList()))
+                .unmatchedWaybills(waybillMatcher.getUnmatchedWaybills())
+                .ambiguousWaybills(waybillMatcher.getAmbiguousWaybills())
+                .build();
     }
 
     /**
      * 선택된 데이터들의 재고를 반영한다.
+     * 재고 미반영 주문건을 출고 요청으로 만들어 한 번에 등록하고, 출고 데이터가 생성된 주문건만 재고반영 처리한다.
+     * 세트상품은 구성옵션별로 분해되어 일반 옵션과 같은 batch 로 등록된다.
      *
-     * TODO : 현재 세트상품과 세트상품이 아닌 데이터들을 구분해서 insert 쿼리를 날리는데 이렇게되면 insert쿼리가 두번이 나누어져서 던져지게됨. 세트상품을 먼저 분해해서 일반 옵션 엔터티로 만들어서 한번에 던지는게 낫지않을까?
+     * @see ProductOptionStockMovementService#release
      */
     @Transactional
     public Integer actionReflectStock(List<ErpOrderItemDto> itemDtos, Map<String, Object> params) {
@@ -835,96 +1025,29 @@ public class ErpOrderItemBusinessService {
         userService.userLoginCheck();
         userService.userManagerRoleCheck();
 
-        Set<String> optionCodeSet = new HashSet<>();
-        List<ErpOrderItemEntity> erpOrderItemEntities = erpOrderItemService.getEntities(itemDtos);
-        List<ProductOptionEntity> productOptionEntities;
-        AtomicInteger count = new AtomicInteger();
-
-        for (ErpOrderItemEntity r : erpOrderItemEntities) {
-            if (!r.getReleaseOptionCode().isEmpty()) {
-                optionCodeSet.add(r.getReleaseOptionCode());
-            }
-        }
-
-        List<ProductOptionGetDto> productOptionGetDtos = productOptionService.searchListByOptionCodes(new ArrayList<>(optionCodeSet));
-        productOptionEntities = productOptionGetDtos.stream().map(ProductOptionEntity::toEntity).collect(Collectors.toList());
-
-        // 1. 세트상품 X
-        List<ProductOptionEntity> originOptionEntities = productOptionEntities.stream().filter(r -> r.getPackageYn().equals("n")).collect(Collectors.toList());
-        // 2. 세트상품 O
-        List<ProductOptionEntity> parentOptionEntities = productOptionEntities.stream().filter(r -> r.getPackageYn().equals("y")).collect(Collectors.toList());
+        List<ErpOrderItemEntity> erpOrderItemEntities = erpOrderItemService.getEntities(itemDtos).stream()
+                .filter(r -> r.getStockReflectYn().equals("n") && r.getReleaseOptionCode() != null && !r.getReleaseOptionCode().isEmpty())
+                .collect(Collectors.toList());
 
         String memo = params.get("memo") == null ? "" : params.get("memo").toString();
-        count.addAndGet(this.reflectStockUnit(erpOrderItemEntities, originOptionEntities, memo));
-        count.addAndGet(this.reflectStockUnitOfPackageOption(erpOrderItemEntities, parentOptionEntities));
-        return count.get();
-    }
-
-    public int reflectStockUnit(List<ErpOrderItemEntity> erpOrderItemEntities, List<ProductOptionEntity> originOptionEntities, String memo) {
-        List<ProductReleaseEntity> releaseEntities = new ArrayList<>();
-        AtomicInteger count = new AtomicInteger();
-
-        for (ErpOrderItemEntity orderItemEntity : erpOrderItemEntities) {
-            originOptionEntities.forEach(optionEntity -> {
-                if (optionEntity.getCode().equals(orderItemEntity.getReleaseOptionCode()) && orderItemEntity.getStockReflectYn().equals("n")) {
-                    count.getAndIncrement();
-                    ProductReleaseEntity releaseEntity = new ProductReleaseEntity();
-
-                    releaseEntity.setId(UUID.randomUUID());
-                    releaseEntity.setErpOrderItemId(orderItemEntity.getId());
-                    releaseEntity.setReleaseUnit(orderItemEntity.getUnit());
-                    releaseEntity.setMemo(memo);
-                    releaseEntity.setCreatedAt(CustomDateUtils.getCurrentDateTime());
-                    releaseEntity.setCreatedBy(orderItemEntity.getCreatedBy());
-                    releaseEntity.setProductOptionCid(optionEntity.getCid());
-                    releaseEntity.setProductOptionId(optionEntity.getId());
-
-                    orderItemEntity.setStockReflectYn("y");
-                    releaseEntities.add(releaseEntity);
-                }
-            });
-        }
-
-        productReleaseService.bulkInsert(releaseEntities);
-        return count.get();
-    }
-
-    public int reflectStockUnitOfPackageOption(List<ErpOrderItemEntity> erpOrderItemEntities, List<ProductOptionEntity> parentOptionEntities) {
-        List<ProductReleaseEntity> releaseEntities = new ArrayList<>();
-        AtomicInteger count = new AtomicInteger();
-
-        // 1. 해당 옵션에 포함되는 하위 패키지 옵션들 추출
-        List<UUID> parentOptionIdList = parentOptionEntities.stream().map(ProductOptionEntity::getId).collect(Collectors.toList());
-        // 2. 구성된 옵션패키지 추출 - 여러 패키지들이 다 섞여있는 상태
-        List<OptionPackageEntity> optionPackageEntities = optionPackageService.searchListByParentOptionIdList(parentOptionIdList);
-
-        for (ErpOrderItemEntity orderItemEntity : erpOrderItemEntities) {
-            parentOptionEntities.forEach(parentOption -> {
-                if (parentOption.getCode().equals(orderItemEntity.getReleaseOptionCode()) && orderItemEntity.getStockReflectYn().equals("n")) {
-                    optionPackageEntities.forEach(option -> {
-                        if (option.getParentOptionId().equals(parentOption.getId())) {
-                            count.getAndIncrement();
-
-                            ProductReleaseEntity releaseEntity = new ProductReleaseEntity();
-                            releaseEntity.setId(UUID.randomUUID());
-                            releaseEntity.setErpOrderItemId(orderItemEntity.getId());
-                            releaseEntity.setReleaseUnit(orderItemEntity.getUnit() * option.getPackageUnit());
-                            releaseEntity.setMemo("");
-                            releaseEntity.setCreatedAt(CustomDateUtils.getCurrentDateTime());
-                            releaseEntity.setCreatedBy(orderItemEntity.getCreatedBy());
-                            releaseEntity.setProductOptionCid(option.getOriginOptionCid());
-                            releaseEntity.setProductOptionId(option.getOriginOptionId());
-
-                            orderItemEntity.setStockReflectYn("y");
-                            releaseEntities.add(releaseEntity);
-                        }
-                    });
-                }
-            });
-        }
-
-        productReleaseService.bulkInsert(releaseEntities);
-        return count.get();
+        List<ProductOptionStockMovementDto> movements = erpOrderItemEntities.stream().map(r -> ProductOptionStockMovementDto.builder()
+                .optionCode(r.getReleaseOptionCode())
+                .unit(r.getUnit())
+                .memo(memo)
+                .erpOrderItemId(r.getId())
+                .createdBy(r.getCreatedBy())
+                .build()
+        ).collect(Collectors.toList());
+
+        List<ProductReleaseEntity> releaseEntities = productOptionStockMovementService.release(movements);
+
+        Set<UUID> reflectedIds = releaseEntities.stream().map(ProductReleaseEntity::getErpOrderItemId).collect(Collectors.toSet());
+        erpOrderItemEntities.forEach(r -> {
+            if (reflectedIds.contains(r.getId())) {
+                r.setStockReflectYn("y");
+            }
+        });
+        return releaseEntities.size();
     }
 
     /**
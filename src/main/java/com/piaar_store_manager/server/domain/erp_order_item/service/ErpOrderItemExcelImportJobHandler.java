@@ -0,0 +1,80 @@
+package com.piaar_store_manager.server.domain.erp_order_item.service;
+
+import com.piaar_store_manager.server.domain.erp_order_item.dto.ErpOrderItemDto;
+import com.piaar_store_manager.server.domain.erp_order_item.vo.ErpOrderItemVo;
+import com.piaar_store_manager.server.domain.import_job.service.ImportJobChunkWriter;
+import com.piaar_store_manager.server.domain.import_job.service.ImportJobContext;
+import com.piaar_store_manager.server.domain.import_job.service.ImportJobHandler;
+import com.piaar_store_manager.server.exception.CustomExcelFileUploadException;
+import com.piaar_store_manager.server.exception.CustomInvalidDataException;
+
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * xlsx 피아르 엑셀 파일 가져오기 작업.
+ * <p>
+ * 파일을 한 행씩 읽어 변환, 검증한 후 chunk 단위로 중복 제거 및 일괄 저장한다.
+ * 변환, 검증에 실패한 행은 저장에서 제외하고 행 단위 오류로 전달하며, 나머지 행은 계속 처리한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ErpOrderItemExcelImportJobHandler implements ImportJobHandler {
+    public static final String JOB_TYPE = "ERP_ORDER_ITEM_EXCEL";
+
+    private final ErpOrderItemImportJobSupport erpOrderItemImportJobSupport;
+
+    @Override
+    public String getJobType() {
+        return JOB_TYPE;
+    }
+
+    @Override
+    public void execute(ImportJobContext context) {
+        if (context.getTotalCount() == null) {
+            context.changeTotalCount(ErpOrderItemVo.countExcelFileRows(context.getFilePath()));
+        }
+
+        int resumeOffset = context.getResumeOffset();
+        ImportJobChunkWriter<ErpOrderItemDto> chunkWriter = context.chunkWriter(dtos -> erpOrderItemImportJobSupport.insertChunk(dtos, context.getCreatedBy()));
+
+        ErpOrderItemVo.excelFileToVos(context.getFilePath(), (vo, rowIndex) -> {
+            // 이전 실행에서 처리된 행
+            if (rowIndex <= resumeOffset) {
+                return;
+            }
+
+            ErpOrderItemDto dto;
+            try {
+                dto = ErpOrderItemDto.toDto(vo);
+            } catch (NumberFormatException e) {
+                chunkWriter.addError(rowIndex + 1, toRowErrorMessage(e));
+                return;
+            }
+
+            String violationMessage = erpOrderItemImportJobSupport.validate(dto);
+            if (violationMessage != null) {
+                chunkWriter.addError(rowIndex + 1, violationMessage);
+                return;
+            }
+            chunkWriter.add(dto);
+        }, (e, rowIndex) -> {
+            if (rowIndex > resumeOffset) {
+                chunkWriter.addError(rowIndex + 1, toRowErrorMessage(e));
+            }
+        });
+        chunkWriter.flush();
+    }
+
+    private static String toRowErrorMessage(RuntimeException e) {
+        if (e instanceof CustomInvalidDataException || e instanceof CustomExcelFileUploadException) {
+            return e.getMessage();
+        } else if (e instanceof NullPointerException) {
+            return "엑셀 파일 데이터에 올바르지 않은 값이 존재합니다.";
+        } else if (e instanceof IllegalStateException || e instanceof NumberFormatException) {
+            return "피아르 엑셀 양식과 데이터 타입이 다른 값이 존재합니다.";
+        }
+        return "피아르 양식의 엑셀 파일이 아닙니다.";
+    }
+}
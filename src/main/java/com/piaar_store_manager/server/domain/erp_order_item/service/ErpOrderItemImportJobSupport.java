@@ -0,0 +1,65 @@
+package com.piaar_store_manager.server.domain.erp_order_item.service;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+
+import com.piaar_store_manager.server.domain.erp_order_item.controller.ErpOrderItemSocket;
+import com.piaar_store_manager.server.domain.erp_order_item.dto.ErpOrderItemDto;
+import com.piaar_store_manager.server.domain.message.SocketChangeEvent;
+import com.piaar_store_manager.server.domain.message.SocketChangeEventPublisher;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주문 데이터 가져오기 작업(엑셀, 일괄 등록)의 행 검증과 chunk 저장.
+ */
+@Component
+@RequiredArgsConstructor
+class ErpOrderItemImportJobSupport {
+    private final ErpOrderItemBusinessService erpOrderItemBusinessService;
+    private final SocketChangeEventPublisher socketChangeEventPublisher;
+    private final Validator validator;
+
+    /**
+     * dto 의 제약조건 위반 내용을 반환한다. 위반 내용이 없다면 null 을 반환한다.
+     */
+    String validate(ErpOrderItemDto dto) {
+        Set<ConstraintViolation<ErpOrderItemDto>> violations = validator.validate(dto);
+        if (violations.isEmpty()) {
+            return null;
+        }
+
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + " : " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * chunk 를 중복 제거 후 저장하고, 트랜잭션이 커밋되면 주문 수집 관리 화면에 추가된 데이터를 알린다.
+     *
+     * @return 저장된 건수
+     */
+    int insertChunk(List<ErpOrderItemDto> dtos, UUID createdBy) {
+        List<UUID> createdIds = erpOrderItemBusinessService.createBatch(dtos, createdBy);
+
+        if (!createdIds.isEmpty()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    socketChangeEventPublisher.publish(ErpOrderItemSocket.TOPIC, SocketChangeEvent.created(createdIds), "[주문 수집 관리] 에 추가된 데이터가 있습니다.", null);
+                }
+            });
+        }
+        return createdIds.size();
+    }
+}
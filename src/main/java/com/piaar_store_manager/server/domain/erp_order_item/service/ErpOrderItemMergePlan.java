@@ -0,0 +1,250 @@
+package com.piaar_store_manager.server.domain.erp_order_item.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.piaar_store_manager.server.domain.erp_first_merge_header.dto.ErpFirstMergeHeaderDto;
+import com.piaar_store_manager.server.domain.erp_order_item.dto.ErpOrderItemDto;
+import com.piaar_store_manager.server.domain.erp_order_item.vo.ErpOrderItemVo;
+import com.piaar_store_manager.server.domain.erp_second_merge_header.dto.DetailDto;
+import com.piaar_store_manager.server.domain.erp_second_merge_header.dto.ErpSecondMergeHeaderDto;
+import com.piaar_store_manager.server.utils.CustomFieldAccessorUtils;
+import com.piaar_store_manager.server.utils.CustomFieldAccessorUtils.FieldAccessor;
+
+/**
+ * 1차, 2차 병합 헤더 설정으로부터 미리 만들어둔 병합 계획.
+ * <p>
+ * 정렬된 데이터를 한번만 순회하면서 병합 키가 이미 나온 데이터는 직전 출력 행의 그룹에 모으고,
+ * 나열 컬럼은 StringJoiner, 수량은 int 로 누적한 뒤 그룹이 끝날 때 한번만 필드에 반영한다.
+ * 고정값은 출력 행마다 한번만 덮어쓴다.
+ * <p>
+ * 기존 병합 로직(직전 행에 문자열을 이어붙이고 중복 행을 제거)과 결과가 동일하도록 다음 동작을 그대로 유지한다.
+ * - 병합 키는 키 컬럼 값을 구분자 없이 이어붙인 문자열이며, 이미 나온 키라면 직전 출력 행에 병합한다.
+ * - 2차 병합의 view 컬럼 값은 정렬된 데이터와 같은 순번의 원본(정렬 전) dto 에서 가져온다.
+ * - 고정값이 지정된 컬럼은 병합 결과와 관계없이 고정값으로 채운다.
+ */
+public class ErpOrderItemMergePlan {
+    private static final String MERGE_SPLITTER = "|&&|";
+    private static final String UNIT_FIELD_NAME = "unit";
+
+    private static final Comparator<ErpOrderItemVo> MERGE_ORDER = Comparator.comparing(ErpOrderItemVo::getReceiver)
+            .thenComparing(ErpOrderItemVo::getReceiverContact1)
+            .thenComparing(ErpOrderItemVo::getDestination)
+            .thenComparing(ErpOrderItemVo::getProdName)
+            .thenComparing(ErpOrderItemVo::getOptionName);
+
+    private final Function<ErpOrderItemVo, String> groupKey;
+    private final boolean sumUnit;
+    private final String fixedUnit;
+    private final FieldAccessor[] mergeAccessors;
+    private final int[] mergeRepeats;
+    private final List<ViewColumn> viewColumns;
+    private final Map<FieldAccessor, String> fixedValues;
+
+    private ErpOrderItemMergePlan(Function<ErpOrderItemVo, String> groupKey, boolean sumUnit, Map<String, Integer> mergeColumnRepeats,
+                                  List<ViewColumn> viewColumns, Map<String, String> fixedValueMap) {
+        // 고정값이 지정된 컬럼은 어차피 고정값으로 덮어쓰기 때문에 나열하지 않는다
+        Map<String, Integer> mergeColumns = mergeColumnRepeats.entrySet().stream()
+                .filter(r -> !fixedValueMap.containsKey(r.getKey()))
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+        List<FieldAccessor> accessors = CustomFieldAccessorUtils.getAccessors(ErpOrderItemVo.class, new ArrayList<>(mergeColumns.keySet()));
+
+        this.groupKey = groupKey;
+        this.sumUnit = sumUnit;
+        this.fixedUnit = fixedValueMap.get(UNIT_FIELD_NAME);
+        this.mergeAccessors = accessors.toArray(new FieldAccessor[0]);
+        this.mergeRepeats = mergeColumns.values().stream().mapToInt(Integer::intValue).toArray();
+        this.viewColumns = viewColumns;
+        this.fixedValues = new LinkedHashMap<>();
+        CustomFieldAccessorUtils.getAccessorMap(ErpOrderItemVo.class, fixedValueMap.keySet())
+                .forEach((columnName, accessor) -> this.fixedValues.put(accessor, fixedValueMap.get(columnName)));
+    }
+
+    /**
+     * 1차 병합 계획을 만든다.
+     * 수령인 + 연락처 + 주소 + 상품명 + 옵션명이 같은 데이터의 수량을 더하고, mergeYn 이 y 인 컬럼을 나열한다.
+     *
+     * @param headerDto : ErpFirstMergeHeaderDto
+     * @return ErpOrderItemMergePlan
+     */
+    public static ErpOrderItemMergePlan ofFirstMerge(ErpFirstMergeHeaderDto headerDto) {
+        // 나열 컬럼명 추출 (수량은 나열하지 않고 더한다)
+        Map<String, Integer> mergeColumnRepeats = new LinkedHashMap<>();
+        headerDto.getHeaderDetail().getDetails().stream().filter(r -> r.getMergeYn().equals("y"))
+                .map(r -> r.getMatchedColumnName())
+                .filter(columnName -> !columnName.equals(UNIT_FIELD_NAME))
+                .forEach(columnName -> mergeColumnRepeats.merge(columnName, 1, Integer::sum));
+
+        // fixedValue가 존재하는 컬럼의 컬럼명과 fixedValue값 추출
+        Map<String, String> fixedValueMap = headerDto.getHeaderDetail().getDetails().stream().filter(r -> !r.getFixedValue().isBlank())
+                .collect(Collectors.toMap(r -> r.getMatchedColumnName(), r -> r.getFixedValue()));
+
+        return new ErpOrderItemMergePlan(
+                vo -> vo.getReceiver() + vo.getReceiverContact1() + vo.getDestination() + vo.getProdName() + vo.getOptionName(),
+                true,
+                mergeColumnRepeats,
+                new ArrayList<>(),
+                fixedValueMap
+        );
+    }
+
+    /**
+     * 2차 병합 계획을 만든다.
+     * mergeYn 이 y 인 컬럼은 viewDetails 로 지정된 컬럼 값을 splitter 로 나열한 값으로 채우고,
+     * 수령인 + 연락처 + 주소가 같은 데이터끼리 병합한다.
+     *
+     * @param headerDto : ErpSecondMergeHeaderDto
+     * @return ErpOrderItemMergePlan
+     */
+    public static ErpOrderItemMergePlan ofSecondMerge(ErpSecondMergeHeaderDto headerDto) {
+        Map<String, String> splitterMap = headerDto.getHeaderDetail().getDetails().stream().filter(r -> r.getMergeYn().equals("y"))
+                .collect(Collectors.toMap(r -> r.getMatchedColumnName(), r -> r.getSplitter()));
+
+        // fixedValue가 존재하는 컬럼의 컬럼명과 fixedValue값 추출
+        Map<String, String> fixedValueMap = headerDto.getHeaderDetail().getDetails().stream().filter(r -> !r.getFixedValue().isBlank())
+                .collect(Collectors.toMap(r -> r.getMatchedColumnName(), r -> r.getFixedValue()));
+
+        CustomFieldAccessorUtils.validateFieldNames(ErpOrderItemVo.class, splitterMap.keySet());
+
+        Map<String, Integer> mergeColumnRepeats = new LinkedHashMap<>();
+        List<ViewColumn> viewColumns = new ArrayList<>();
+        splitterMap.forEach((columnName, splitter) -> {
+            DetailDto matchedDetail = headerDto.getHeaderDetail().getDetails().stream().filter(r -> r.getMatchedColumnName().equals(columnName)).findFirst().get();
+            List<String> viewColumnNames = matchedDetail.getViewDetails().stream().map(r -> r.getMatchedColumnName()).collect(Collectors.toList());
+
+            mergeColumnRepeats.put(columnName, 1);
+            viewColumns.add(new ViewColumn(
+                    CustomFieldAccessorUtils.getAccessor(ErpOrderItemVo.class, columnName),
+                    CustomFieldAccessorUtils.getAccessors(ErpOrderItemDto.class, viewColumnNames).toArray(new FieldAccessor[0]),
+                    String.valueOf(splitter)
+            ));
+        });
+
+        return new ErpOrderItemMergePlan(
+                vo -> vo.getReceiver() + vo.getReceiverContact1() + vo.getDestination(),
+                false,
+                mergeColumnRepeats,
+                viewColumns,
+                fixedValueMap
+        );
+    }
+
+    /**
+     * dtos 를 병합 기준으로 정렬한 후 한번에 병합한다.
+     *
+     * @param dtos : List::ErpOrderItemDto::
+     * @return List::ErpOrderItemVo::
+     */
+    public List<ErpOrderItemVo> merge(List<ErpOrderItemDto> dtos) {
+        List<ErpOrderItemVo> itemVos = dtos.stream().map(r -> ErpOrderItemVo.toVo(r)).collect(Collectors.toList());
+        itemVos.sort(MERGE_ORDER);
+
+        Set<String> groupKeys = new HashSet<>();
+        List<MergeGroup> groups = new ArrayList<>();
+        MergeGroup currentGroup = null;
+
+        for (int i = 0; i < itemVos.size(); i++) {
+            ErpOrderItemVo itemVo = itemVos.get(i);
+
+            // 2차 병합 - view 컬럼 값을 나열해서 채운다
+            if (!viewColumns.isEmpty() && i < dtos.size()) {
+                ErpOrderItemDto originDto = dtos.get(i);
+                viewColumns.forEach(viewColumn -> viewColumn.apply(itemVo, originDto));
+            }
+
+            // 처음 나온 병합 키라면 새로운 출력 행을 만들고, 이미 나온 키라면 직전 출력 행에 병합한다
+            if (groupKeys.add(groupKey.apply(itemVo)) || currentGroup == null) {
+                currentGroup = new MergeGroup(itemVo);
+                groups.add(currentGroup);
+            } else {
+                currentGroup.append(itemVo);
+            }
+        }
+
+        return groups.stream().map(MergeGroup::complete).collect(Collectors.toList());
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private class MergeGroup {
+        private final ErpOrderItemVo firstVo;
+        private StringJoiner[] joiners;
+        private boolean unitSummed;
+        private int unitSum;
+
+        MergeGroup(ErpOrderItemVo firstVo) {
+            this.firstVo = firstVo;
+        }
+
+        void append(ErpOrderItemVo itemVo) {
+            if (sumUnit) {
+                if (!unitSummed) {
+                    unitSum = Integer.parseInt(fixedUnit != null ? fixedUnit : firstVo.getUnit());
+                    unitSummed = true;
+                }
+                unitSum += Integer.parseInt(itemVo.getUnit());
+            }
+
+            if (joiners == null) {
+                joiners = new StringJoiner[mergeAccessors.length];
+                for (int i = 0; i < mergeAccessors.length; i++) {
+                    joiners[i] = new StringJoiner(MERGE_SPLITTER);
+                    joiners[i].add(nullToEmpty(mergeAccessors[i].get(firstVo)));
+                }
+            }
+
+            for (int i = 0; i < mergeAccessors.length; i++) {
+                String value = nullToEmpty(mergeAccessors[i].get(itemVo));
+                for (int repeat = 0; repeat < mergeRepeats[i]; repeat++) {
+                    joiners[i].add(value);
+                }
+            }
+        }
+
+        ErpOrderItemVo complete() {
+            if (unitSummed) {
+                firstVo.setUnit(String.valueOf(unitSum));
+            }
+
+            if (joiners != null) {
+                for (int i = 0; i < mergeAccessors.length; i++) {
+                    mergeAccessors[i].set(firstVo, joiners[i].toString());
+                }
+            }
+
+            // fixedValue가 지정된 column들은 fixedValue값으로 데이터를 덮어씌운다
+            fixedValues.forEach((accessor, fixedValue) -> accessor.set(firstVo, fixedValue));
+            return firstVo;
+        }
+    }
+
+    private static class ViewColumn {
+        private final FieldAccessor targetAccessor;
+        private final FieldAccessor[] sourceAccessors;
+        private final String splitter;
+
+        ViewColumn(FieldAccessor targetAccessor, FieldAccessor[] sourceAccessors, String splitter) {
+            this.targetAccessor = targetAccessor;
+            this.sourceAccessors = sourceAccessors;
+            this.splitter = splitter;
+        }
+
+        void apply(ErpOrderItemVo itemVo, ErpOrderItemDto originDto) {
+            StringJoiner joiner = new StringJoiner(splitter);
+            for (FieldAccessor sourceAccessor : sourceAccessors) {
+                joiner.add(sourceAccessor.get(originDto).toString());
+            }
+            targetAccessor.set(itemVo, joiner.toString());
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.piaar_store_manager.server.domain.erp_order_item.service;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import com.piaar_store_manager.server.utils.CustomVersionedCache;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 1차, 2차 병합 헤더 id 별 병합 계획 캐시.
+ * <p>
+ * 헤더의 수정 일시(updated_at)는 초 단위로 저장되어 같은 초에 수정된 변경을 version 만으로 확인할 수 없으므로
+ * 헤더를 수정, 삭제하는 서비스에서 해당 id 의 계획을 직접 제거한다.
+ */
+@Component
+public class ErpOrderItemMergePlanCache {
+    private final CustomVersionedCache<UUID, ErpOrderItemMergePlan> firstMergePlanCache = new CustomVersionedCache<>();
+    private final CustomVersionedCache<UUID, ErpOrderItemMergePlan> secondMergePlanCache = new CustomVersionedCache<>();
+
+    public ErpOrderItemMergePlan getFirstMergePlan(UUID firstMergeHeaderId, Optional<?> version, Supplier<ErpOrderItemMergePlan> loader) {
+        return firstMergePlanCache.get(firstMergeHeaderId, version, loader);
+    }
+
+    public ErpOrderItemMergePlan getSecondMergePlan(UUID secondMergeHeaderId, Optional<?> version, Supplier<ErpOrderItemMergePlan> loader) {
+        return secondMergePlanCache.get(secondMergeHeaderId, version, loader);
+    }
+
+    public void removeFirstMergePlan(UUID firstMergeHeaderId) {
+        firstMergePlanCache.remove(firstMergeHeaderId);
+    }
+
+    public void removeSecondMergePlan(UUID secondMergeHeaderId) {
+        secondMergePlanCache.remove(secondMergeHeaderId);
+    }
+}
@@ -1,11 +1,18 @@
 package com.piaar_store_manager.server.domain.erp_order_item.service;
 
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import javax.persistence.EntityManager;
 import javax.transaction.Transactional;
 
 import com.piaar_store_manager.server.domain.erp_order_item.dto.ErpOrderItemDto;
@@ -13,9 +20,15 @@ import com.piaar_store_manager.server.domain.erp_order_item.entity.ErpOrderItemE
 import com.piaar_store_manager.server.domain.erp_order_item.proj.ErpOrderItemProj;
 import com.piaar_store_manager.server.domain.erp_order_item.repository.ErpOrderItemCustomJdbc;
 import com.piaar_store_manager.server.domain.erp_order_item.repository.ErpOrderItemRepository;
+import com.piaar_store_manager.server.domain.pagenation.CursorPageDto;
+import com.piaar_store_manager.server.domain.product_catalog.dto.ProductCatalogEntry;
+import com.piaar_store_manager.server.domain.product_catalog.service.ProductCatalogCache;
+import com.piaar_store_manager.server.domain.sales_analysis.entity.SalesDailyRollupEntity;
+import com.piaar_store_manager.server.domain.sales_analysis.service.SalesDailyRollupService;
 import com.piaar_store_manager.server.exception.CustomNotFoundDataException;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
@@ -26,6 +39,11 @@ import lombok.RequiredArgsConstructor;
 public class ErpOrderItemService {
     private final ErpOrderItemRepository erpOrderItemRepository;
     private final ErpOrderItemCustomJdbc erpOrderItemCustomJdbc;
+    private final EntityManager entityManager;
+    private final ProductCatalogCache productCatalogCache;
+    private final SalesDailyRollupService salesDailyRollupService;
+
+    private static final int DUPLICATION_HASH_CHUNK_SIZE = 1000;
 
     /**
      * <b>DB Insert Or Update Related Method</b>
@@ -37,6 +55,7 @@ public class ErpOrderItemService {
      */
     public void saveAndModify(ErpOrderItemEntity itemEntity) {
         erpOrderItemRepository.save(itemEntity);
+        salesDailyRollupService.markDirty(SalesDailyRollupEntity.CHANNEL_ERP, Collections.singletonList(itemEntity.getCreatedAt()));
     }
 
     /**
@@ -50,11 +69,88 @@ public class ErpOrderItemService {
     @Transactional
     public void saveListAndModify(List<ErpOrderItemEntity> itemEntities) {
         erpOrderItemRepository.saveAll(itemEntities);
+        salesDailyRollupService.markDirty(SalesDailyRollupEntity.CHANNEL_ERP, itemEntities.stream().map(ErpOrderItemEntity::getCreatedAt).collect(Collectors.toList()));
     }
 
     @Transactional
     public void bulkInsert(List<ErpOrderItemEntity> itemEntities){
         erpOrderItemCustomJdbc.jdbcBulkInsert(itemEntities);
+        salesDailyRollupService.markDirty(SalesDailyRollupEntity.CHANNEL_ERP, itemEntities.stream().map(ErpOrderItemEntity::getCreatedAt).collect(Collectors.toList()));
+    }
+
+    /**
+     * <b>DB Update Related Method</b>
+     * <p>
+     * 엔터티에 설정된 운송장번호, 배송방식, 택배사를 일괄 업데이트한다.
+     *
+     * @param itemEntities : List::ErpOrderItemEntity::
+     * @see ErpOrderItemCustomJdbc#jdbcBulkUpdateWaybill
+     */
+    @Transactional
+    public void bulkUpdateWaybill(List<ErpOrderItemEntity> itemEntities) {
+        erpOrderItemCustomJdbc.jdbcBulkUpdateWaybill(itemEntities);
+    }
+
+    /**
+     * <b>DB Update Related Method</b>
+     * <p>
+     * ids에 대응하는 데이터의 판매 여부와 판매 일시를 일괄 업데이트한다.
+     *
+     * @param ids : List::UUID::
+     * @param salesYn : String
+     * @param salesAt : LocalDateTime
+     * @return int
+     * @see ErpOrderItemCustomJdbc#jdbcBulkUpdateSalesYn
+     */
+    @Transactional
+    public int bulkUpdateSalesYn(List<UUID> ids, String salesYn, LocalDateTime salesAt) {
+        return erpOrderItemCustomJdbc.jdbcBulkUpdateSalesYn(ids, salesYn, salesAt);
+    }
+
+    /**
+     * <b>DB Update Related Method</b>
+     * <p>
+     * ids에 대응하는 데이터의 출고 여부와 출고 일시를 일괄 업데이트한다.
+     *
+     * @param ids : List::UUID::
+     * @param releaseYn : String
+     * @param releaseAt : LocalDateTime
+     * @return int
+     * @see ErpOrderItemCustomJdbc#jdbcBulkUpdateReleaseYn
+     */
+    @Transactional
+    public int bulkUpdateReleaseYn(List<UUID> ids, String releaseYn, LocalDateTime releaseAt) {
+        return erpOrderItemCustomJdbc.jdbcBulkUpdateReleaseYn(ids, releaseYn, releaseAt);
+    }
+
+    /**
+     * <b>DB Update Related Method</b>
+     * <p>
+     * 엔터티에 설정된 주문 옵션코드와 출고 옵션코드를 일괄 업데이트한다.
+     *
+     * @param itemEntities : List::ErpOrderItemEntity::
+     * @return int
+     * @see ErpOrderItemCustomJdbc#jdbcBulkUpdateOptionCode
+     * @see SalesDailyRollupService#markDirtyByIds
+     */
+    @Transactional
+    public int bulkUpdateOptionCode(List<ErpOrderItemEntity> itemEntities) {
+        salesDailyRollupService.markDirtyByIds(SalesDailyRollupEntity.CHANNEL_ERP, itemEntities.stream().map(ErpOrderItemEntity::getId).collect(Collectors.toList()));
+        return erpOrderItemCustomJdbc.jdbcBulkUpdateOptionCode(itemEntities);
+    }
+
+    /**
+     * <b>DB Update Related Method</b>
+     * <p>
+     * 엔터티에 설정된 출고 옵션코드를 일괄 업데이트한다.
+     *
+     * @param itemEntities : List::ErpOrderItemEntity::
+     * @return int
+     * @see ErpOrderItemCustomJdbc#jdbcBulkUpdateReleaseOptionCode
+     */
+    @Transactional
+    public int bulkUpdateReleaseOptionCode(List<ErpOrderItemEntity> itemEntities) {
+        return erpOrderItemCustomJdbc.jdbcBulkUpdateReleaseOptionCode(itemEntities);
     }
 
     /**
@@ -69,8 +165,81 @@ public class ErpOrderItemService {
         return erpOrderItemRepository.qfindAllM2OJ(params);
     }
 
+    /**
+     * <b>DB Select Related Method</b>
+     * <p>
+     * ids 에 대응하는 피아르 엑셀 데이터를 조회한다.
+     * product, option, category 는 테이블을 JOIN 하지 않고 상품 카탈로그 캐시에서 옵션코드로 채운다.
+     *
+     * @param ids    : List::UUID::
+     * @param params : Map::String, Object::
+     * @return List::ErpOrderItemProj::
+     * @see ErpOrderItemRepository#qfindAllByIdList
+     * @see ProductCatalogCache#getByOptionCodes
+     */
     public List<ErpOrderItemProj> findAllM2OJ(List<UUID> ids, Map<String, Object> params) {
-        return erpOrderItemRepository.qfindAllM2OJByIdList(ids, params);
+        List<ErpOrderItemEntity> itemEntities = erpOrderItemRepository.qfindAllByIdList(ids, params);
+        Map<String, ProductCatalogEntry> catalogEntries = productCatalogCache.getByOptionCodes(
+                itemEntities.stream().map(ErpOrderItemEntity::getOptionCode).collect(Collectors.toList())
+        );
+
+        return itemEntities.stream().map(itemEntity -> {
+            ProductCatalogEntry catalogEntry = catalogEntries.get(itemEntity.getOptionCode());
+            if (catalogEntry == null) {
+                return new ErpOrderItemProj(itemEntity, null, null, null);
+            }
+            return new ErpOrderItemProj(itemEntity, catalogEntry.getProduct(), catalogEntry.getProductOption(), catalogEntry.getProductCategory());
+        }).collect(Collectors.toList());
+    }
+
+    /**
+     * <b>DB Select Related Method</b>
+     * <p>
+     * findAllM2OJ 와 같은 조건의 피아르 엑셀 데이터를 cid desc 순서로 chunkSize 개씩 keyset 조회해 chunkConsumer 에 전달한다.
+     * chunk 를 전달한 후 영속성 컨텍스트를 비우기 때문에 조회 건수와 관계없이 한 chunk 만큼의 엔터티만 메모리에 유지된다.
+     * 영속성 컨텍스트를 비우므로 변경 작업이 있는 트랜잭션 안에서는 호출하지 않는다.
+     *
+     * @param params        : Map::String, Object::
+     * @param chunkSize     : int
+     * @param chunkConsumer : Consumer::List::ErpOrderItemProj::::
+     * @see ErpOrderItemRepository#qfindAllM2OJByCursor
+     */
+    public void findAllM2OJByChunk(Map<String, Object> params, int chunkSize, Consumer<List<ErpOrderItemProj>> chunkConsumer) {
+        Map<String, Object> chunkParams = new HashMap<>(params);
+        chunkParams.remove("cursor");
+        Pageable pageable = PageRequest.of(0, chunkSize);
+
+        CursorPageDto<ErpOrderItemProj> itemPage;
+        do {
+            itemPage = erpOrderItemRepository.qfindAllM2OJByCursor(chunkParams, pageable);
+            if (!itemPage.getContent().isEmpty()) {
+                chunkConsumer.accept(itemPage.getContent());
+            }
+            entityManager.clear();
+            chunkParams.put("cursor", itemPage.getNextCursor());
+        } while (itemPage.getHasNext());
+    }
+
+    /**
+     * <b>DB Select Related Method</b>
+     * <p>
+     * ids 를 chunkSize 개씩 나누어 피아르 엑셀 데이터를 조회하고 chunkConsumer 에 전달한다.
+     *
+     * @param ids           : List::UUID::
+     * @param params        : Map::String, Object::
+     * @param chunkSize     : int
+     * @param chunkConsumer : Consumer::List::ErpOrderItemProj::::
+     * @see ErpOrderItemService#findAllM2OJ
+     */
+    public void findAllM2OJByChunk(List<UUID> ids, Map<String, Object> params, int chunkSize, Consumer<List<ErpOrderItemProj>> chunkConsumer) {
+        for (int i = 0; i < ids.size(); i += chunkSize) {
+            List<UUID> chunkIds = ids.subList(i, Math.min(i + chunkSize, ids.size()));
+            List<ErpOrderItemProj> itemProjs = this.findAllM2OJ(chunkIds, params);
+            if (!itemProjs.isEmpty()) {
+                chunkConsumer.accept(itemProjs);
+            }
+            entityManager.clear();
+        }
     }
 
     /**
@@ -89,6 +258,38 @@ public class ErpOrderItemService {
         return erpOrderItemRepository.qfindReleaseItemM2OJByPage(params, pageable);
     }
 
+    /**
+     * <b>DB Select Related Method</b>
+     * <p>
+     * 커서(정렬 컬럼 값, cid) 이후의 피아르 엑셀 데이터를 조회한다.
+     * 전체 개수는 withTotal 파라미터가 true 인 경우에만 조회한다.
+     *
+     * @return CursorPageDto::ErpOrderItemProj::
+     * @see ErpOrderItemRepository#qfindAllM2OJByCursor
+     * @see ErpOrderItemRepository#qcountAllM2OJ
+     */
+    public CursorPageDto<ErpOrderItemProj> findAllM2OJByCursor(Map<String, Object> params, Pageable pageable) {
+        CursorPageDto<ErpOrderItemProj> itemPage = erpOrderItemRepository.qfindAllM2OJByCursor(params, pageable);
+
+        if (this.isWithTotal(params)) {
+            itemPage.setTotalElements(erpOrderItemRepository.qcountAllM2OJ(params));
+        }
+        return itemPage;
+    }
+
+    public CursorPageDto<ErpOrderItemProj> findReleaseItemM2OJByCursor(Map<String, Object> params, Pageable pageable) {
+        CursorPageDto<ErpOrderItemProj> itemPage = erpOrderItemRepository.qfindReleaseItemM2OJByCursor(params, pageable);
+
+        if (this.isWithTotal(params)) {
+            itemPage.setTotalElements(erpOrderItemRepository.qcountReleaseItemM2OJ(params));
+        }
+        return itemPage;
+    }
+
+    private boolean isWithTotal(Map<String, Object> params) {
+        return params.get("withTotal") != null && params.get("withTotal").toString().equals("true");
+    }
+
     /**
      * <b>DB Select Related Method</b>
      * <p>
@@ -102,6 +303,19 @@ public class ErpOrderItemService {
         return erpOrderItemRepository.qfindAllByIdList(idList);
     }
 
+    /**
+     * <b>DB Select Related Method</b>
+     * <p>
+     * id 값들과 대응하는 엑셀 데이터의 id, 수취인명, 운임코드를 조회한다.
+     *
+     * @param idList : List::UUID::
+     * @return List::ErpOrderItemEntity::
+     * @see ErpOrderItemRepository#qfindWaybillMatchFieldsByIdList
+     */
+    public List<ErpOrderItemEntity> findWaybillMatchFieldsByIdList(List<UUID> idList) {
+        return erpOrderItemRepository.qfindWaybillMatchFieldsByIdList(idList);
+    }
+
     /**
      * <b>DB Delete Related Method</b>
      * <p>
@@ -114,6 +328,7 @@ public class ErpOrderItemService {
     public void delete(UUID id) {
         erpOrderItemRepository.findById(id).ifPresent(item -> {
             erpOrderItemRepository.delete(item);
+            salesDailyRollupService.markDirty(SalesDailyRollupEntity.CHANNEL_ERP, Collections.singletonList(item.getCreatedAt()));
         });
     }
 
@@ -126,6 +341,7 @@ public class ErpOrderItemService {
      * @ErpOrderItemRepository#deleteAllById
      */
     public void deleteBatch(List<UUID> ids) {
+        salesDailyRollupService.markDirtyByIds(SalesDailyRollupEntity.CHANNEL_ERP, ids);
         erpOrderItemRepository.deleteAllById(ids);
     }
 
@@ -139,8 +355,24 @@ public class ErpOrderItemService {
         }
     }
 
-    public List<ErpOrderItemEntity> findDuplicationItems(List<String> orderNumber1, List<String> receiver, List<String> prodName, List<String> optionName, List<Integer> unit) {
-        return erpOrderItemRepository.findDuplicationItems(orderNumber1, receiver, prodName, optionName, unit);
+    /**
+     * <b>DB Select Related Method</b>
+     * <p>
+     * duplicationHash 값들 중 이미 저장된 해시값을 조회한다.
+     * IN 절이 과도하게 길어지지 않도록 DUPLICATION_HASH_CHUNK_SIZE 단위로 나누어 조회한다.
+     *
+     * @param duplicationHashes : List::String::
+     * @return Set::String::
+     * @see ErpOrderItemRepository#findDuplicationHashes
+     */
+    public Set<String> findDuplicationHashes(List<String> duplicationHashes) {
+        Set<String> storedHashes = new HashSet<>();
+
+        for (int i = 0; i < duplicationHashes.size(); i += DUPLICATION_HASH_CHUNK_SIZE) {
+            List<String> subHashes = duplicationHashes.subList(i, Math.min(i + DUPLICATION_HASH_CHUNK_SIZE, duplicationHashes.size()));
+            storedHashes.addAll(erpOrderItemRepository.findDuplicationHashes(subHashes));
+        }
+        return storedHashes;
     }
 
     public List<ErpOrderItemEntity> getEntities(List<ErpOrderItemDto> itemDtos) {
@@ -0,0 +1,139 @@
+package com.piaar_store_manager.server.domain.erp_order_item.service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import com.piaar_store_manager.server.domain.erp_order_item.entity.ErpOrderItemEntity;
+import com.piaar_store_manager.server.domain.excel_form.waybill.WaybillExcelFormDto;
+
+/**
+ * 운송장 엑셀 데이터를 (수취인명, 운임코드) 키로 한번만 색인해두고 주문건과 대조한다.
+ * <p>
+ * 운송장 행의 운임코드는 ',' 로 여러개가 묶여 있을 수 있으므로 운임코드별로 분해해서 색인한다.
+ * 같은 키에 운송장 정보(운송장번호, 배송방식, 택배사)가 서로 다른 행이 존재하면 어떤 값을 반영해야 할지 알 수 없으므로
+ * 해당 키는 반영하지 않고 ambiguous 로 분류한다. 주문건과 한번도 일치하지 않은 행은 unmatched 로 분류한다.
+ */
+public class ErpOrderItemWaybillMatcher {
+    private static final String FREIGHT_CODE_SPLITTER = ",";
+
+    private final Map<WaybillKey, WaybillExcelFormDto> waybillByKey = new LinkedHashMap<>();
+    private final Map<WaybillKey, List<WaybillExcelFormDto>> ambiguousWaybillsByKey = new LinkedHashMap<>();
+    private final Set<WaybillKey> matchedKeys = new HashSet<>();
+
+    private ErpOrderItemWaybillMatcher(List<WaybillExcelFormDto> waybillExcelFormDtos) {
+        for (WaybillExcelFormDto waybill : waybillExcelFormDtos) {
+            for (String freightCode : waybill.getFreightCode().split(FREIGHT_CODE_SPLITTER)) {
+                WaybillExcelFormDto dismantled = WaybillExcelFormDto.builder()
+                        .receiver(waybill.getReceiver())
+                        .freightCode(freightCode)
+                        .waybillNumber(waybill.getWaybillNumber())
+                        .transportType(waybill.getTransportType())
+                        .courier(waybill.getCourier())
+                        .build();
+                this.index(new WaybillKey(dismantled.getReceiver(), freightCode), dismantled);
+            }
+        }
+    }
+
+    public static ErpOrderItemWaybillMatcher of(List<WaybillExcelFormDto> waybillExcelFormDtos) {
+        return new ErpOrderItemWaybillMatcher(waybillExcelFormDtos);
+    }
+
+    private void index(WaybillKey key, WaybillExcelFormDto waybill) {
+        List<WaybillExcelFormDto> ambiguousWaybills = ambiguousWaybillsByKey.get(key);
+        if (ambiguousWaybills != null) {
+            ambiguousWaybills.add(waybill);
+            return;
+        }
+
+        WaybillExcelFormDto indexed = waybillByKey.putIfAbsent(key, waybill);
+        if (indexed != null && !isSameWaybill(indexed, waybill)) {
+            waybillByKey.remove(key);
+            ambiguousWaybills = new ArrayList<>();
+            ambiguousWaybills.add(indexed);
+            ambiguousWaybills.add(waybill);
+            ambiguousWaybillsByKey.put(key, ambiguousWaybills);
+        }
+    }
+
+    /**
+     * 주문건의 수취인명 + 운임코드와 일치하는 운송장 정보를 주문건 엔터티에 반영하고, 반영된 엔터티를 반환한다.
+     *
+     * @param erpOrderItemEntities : List::ErpOrderItemEntity::
+     * @return List::ErpOrderItemEntity::
+     */
+    public List<ErpOrderItemEntity> match(List<ErpOrderItemEntity> erpOrderItemEntities) {
+        List<ErpOrderItemEntity> updatedEntities = new ArrayList<>();
+
+        for (ErpOrderItemEntity entity : erpOrderItemEntities) {
+            WaybillKey key = new WaybillKey(entity.getReceiver(), entity.getFreightCode());
+            WaybillExcelFormDto waybill = waybillByKey.get(key);
+
+            if (waybill == null) {
+                continue;
+            }
+
+            entity.setWaybillNumber(waybill.getWaybillNumber())
+                    .setTransportType(waybill.getTransportType())
+                    .setCourier(waybill.getCourier());
+            updatedEntities.add(entity);
+            matchedKeys.add(key);
+        }
+        return updatedEntities;
+    }
+
+    /**
+     * match 이후 어떤 주문건과도 일치하지 않은 운송장 행을 반환한다. 모호한 행은 포함하지 않는다.
+     *
+     * @return List::WaybillExcelFormDto::
+     */
+    public List<WaybillExcelFormDto> getUnmatchedWaybills() {
+        List<WaybillExcelFormDto> unmatchedWaybills = new ArrayList<>();
+        waybillByKey.forEach((key, waybill) -> {
+            if (!matchedKeys.contains(key)) {
+                unmatchedWaybills.add(waybill);
+            }
+        });
+        return unmatchedWaybills;
+    }
+
+    public List<WaybillExcelFormDto> getAmbiguousWaybills() {
+        List<WaybillExcelFormDto> ambiguousWaybills = new ArrayList<>();
+        ambiguousWaybillsByKey.values().forEach(ambiguousWaybills::addAll);
+        return ambiguousWaybills;
+    }
+
+    private boolean isSameWaybill(WaybillExcelFormDto a, WaybillExcelFormDto b) {
+        return Objects.equals(a.getWaybillNumber(), b.getWaybillNumber())
+                && Objects.equals(a.getTransportType(), b.getTransportType())
+                && Objects.equals(a.getCourier(), b.getCourier());
+    }
+
+    private static class WaybillKey {
+        private final String receiver;
+        private final String freightCode;
+
+        private WaybillKey(String receiver, String freightCode) {
+            this.receiver = receiver;
+            this.freightCode = freightCode;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof WaybillKey)) return false;
+            WaybillKey that = (WaybillKey) o;
+            return Objects.equals(receiver, that.receiver) && Objects.equals(freightCode, that.freightCode);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(receiver, freightCode);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.piaar_store_manager.server.domain.erp_order_item.vo;
 
+import java.io.InputStream;
+import java.nio.file.Path;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -7,6 +9,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.piaar_store_manager.server.domain.erp_order_item.dto.ErpOrderItemDto;
@@ -14,6 +19,9 @@ import com.piaar_store_manager.server.domain.erp_order_item.proj.ErpOrderItemPro
 import com.piaar_store_manager.server.domain.product_option.entity.ProductOptionEntity;
 import com.piaar_store_manager.server.exception.CustomInvalidDataException;
 import com.piaar_store_manager.server.utils.CustomDateUtils;
+import com.piaar_store_manager.server.utils.CustomExcelStreamReader;
+import com.piaar_store_manager.server.utils.CustomExcelStreamReader.StreamCell;
+import com.piaar_store_manager.server.utils.CustomExcelStreamReader.StreamRow;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -210,11 +218,11 @@ public class ErpOrderItemVo {
         });
     }
 
-    public static List<ErpOrderItemVo> excelSheetToVos(Sheet worksheet) {
-        Integer PIAAR_ERP_ORDER_ITEM_SIZE = 34;
-        Integer PIAAR_ERP_ORDER_MEMO_START_INDEX = 24;
+    private static final Integer PIAAR_ERP_ORDER_ITEM_SIZE = 34;
+    private static final Integer PIAAR_ERP_ORDER_MEMO_START_INDEX = 24;
+    private static final List<Integer> PIAAR_ERP_ORDER_REQUIRED_HEADER_INDEX = Arrays.asList(1, 2, 3, 4, 5, 7);
 
-        List<Integer> PIAAR_ERP_ORDER_REQUIRED_HEADER_INDEX = Arrays.asList(1, 2, 3, 4, 5, 7);
+    public static List<ErpOrderItemVo> excelSheetToVos(Sheet worksheet) {
 
         // List<String> PIAAR_ERP_ORDER_HEADER_NAME_LIST = Arrays.asList(
         //         "피아르 고유번호",
@@ -344,4 +352,170 @@ public class ErpOrderItemVo {
         }
         return itemVos;
     }
+
+    /**
+     * xlsx 파일을 한 행씩 읽어 ErpOrderItemVo 로 변환한 후 consumer 에 전달한다.
+     * excelSheetToVos 와 동일하게 헤더 다음 행부터 읽고, 중간에 비어있는 행을 만나면 읽기를 종료한다.
+     *
+     * @param inputStream : InputStream
+     * @param consumer    : Consumer::ErpOrderItemVo::
+     * @see CustomExcelStreamReader#readFirstSheet
+     */
+    public static void excelStreamToVos(InputStream inputStream, Consumer<ErpOrderItemVo> consumer) {
+        AtomicInteger expectedRowIndex = new AtomicInteger(1);
+
+        CustomExcelStreamReader.readFirstSheet(inputStream, row -> {
+            if (row.getRowIndex() == 0) {
+                return true;
+            }
+            if (row.getRowIndex() != expectedRowIndex.getAndIncrement()) {
+                return false;
+            }
+
+            consumer.accept(ErpOrderItemVo.excelRowToVo(row));
+            return true;
+        });
+    }
+
+    /**
+     * 로컬에 저장된 xlsx 파일을 한 행씩 읽어 ErpOrderItemVo 로 변환한다.
+     * excelStreamToVos 와 달리 변환에 실패한 행은 읽기를 중단하지 않고 errorConsumer 에 전달한 후 다음 행을 읽는다.
+     * 두 consumer 모두 시트 기준 행 index(헤더 = 0)를 함께 전달받는다.
+     *
+     * @param file          : Path
+     * @param consumer      : ObjIntConsumer::ErpOrderItemVo::
+     * @param errorConsumer : ObjIntConsumer::RuntimeException::
+     * @see CustomExcelStreamReader#readFirstSheet
+     */
+    public static void excelFileToVos(Path file, ObjIntConsumer<ErpOrderItemVo> consumer, ObjIntConsumer<RuntimeException> errorConsumer) {
+        AtomicInteger expectedRowIndex = new AtomicInteger(1);
+
+        CustomExcelStreamReader.readFirstSheet(file, row -> {
+            if (row.getRowIndex() == 0) {
+                return true;
+            }
+            if (row.getRowIndex() != expectedRowIndex.getAndIncrement()) {
+                return false;
+            }
+
+            ErpOrderItemVo vo;
+            try {
+                vo = ErpOrderItemVo.excelRowToVo(row);
+            } catch (RuntimeException e) {
+                errorConsumer.accept(e, row.getRowIndex());
+                return true;
+            }
+            consumer.accept(vo, row.getRowIndex());
+            return true;
+        });
+    }
+
+    /**
+     * excelFileToVos 가 읽게 될 데이터 행 수를 반환한다.
+     *
+     * @param file : Path
+     * @return int
+     */
+    public static int countExcelFileRows(Path file) {
+        AtomicInteger expectedRowIndex = new AtomicInteger(1);
+
+        CustomExcelStreamReader.readFirstSheet(file, row -> {
+            if (row.getRowIndex() == 0) {
+                return true;
+            }
+            if (row.getRowIndex() != expectedRowIndex.get()) {
+                return false;
+            }
+
+            expectedRowIndex.incrementAndGet();
+            return true;
+        });
+        return expectedRowIndex.get() - 1;
+    }
+
+    private static ErpOrderItemVo excelRowToVo(StreamRow row) {
+        Object cellValue = new Object();
+        List<String> customManagementMemo = new ArrayList<>();
+
+        // type check and data setting of managementMemo1~10.
+        for (int j = PIAAR_ERP_ORDER_MEMO_START_INDEX; j < PIAAR_ERP_ORDER_ITEM_SIZE; j++) {
+            StreamCell cell = row.getCell(j);
+
+            if (cell == null || cell.getCellType().equals(CellType.BLANK)) {
+                cellValue = "";
+            } else if (cell.getCellType().equals(CellType.NUMERIC)) {
+                if (cell.isDateFormatted()) {
+                    Instant instant = Instant.ofEpochMilli(cell.getDateCellValue().getTime());
+                    LocalDateTime localDateTime = instant.atZone(ZoneId.systemDefault()).toLocalDateTime();
+
+                    // yyyy-MM-dd'T'HH:mm:ss -> yyyy-MM-dd HH:mm:ss로 변경
+                    cellValue = CustomDateUtils.getLocalDateTimeToyyyyMMddHHmmss(localDateTime);
+                } else {
+                    cellValue = cell.getNumericCellValue();
+                }
+            } else {
+                cellValue = cell.getStringCellValue();
+            }
+            customManagementMemo.add(cellValue.toString());
+        }
+
+        // 피아르 양식 필수값 검사
+        for (Integer requiredHeaderIdx : PIAAR_ERP_ORDER_REQUIRED_HEADER_INDEX) {
+            if (row.getCell(requiredHeaderIdx) == null || row.getCell(requiredHeaderIdx).getCellType().equals(CellType.BLANK)) {
+                throw new CustomInvalidDataException("필수값 항목이 비어있습니다. 수정 후 재업로드 해주세요.");
+            }
+        }
+
+        // price, deliveryCharge - 엑셀 타입 string, number 허용
+        String priceStr = (row.getCell(18) == null) ? "0" : (row.getCell(18).getCellType().equals(CellType.NUMERIC) ?
+                Integer.toString((int) row.getCell(18).getNumericCellValue()) : row.getCell(18).getStringCellValue());
+
+        String deliveryChargeStr = (row.getCell(19) == null) ? "0" : (row.getCell(19).getCellType().equals(CellType.NUMERIC) ?
+                Integer.toString((int) row.getCell(19).getNumericCellValue()) : row.getCell(19).getStringCellValue());
+
+        // '출고 옵션코드' 값이 입력되지 않았다면 '피아르 옵션코드'로 대체한다
+        String releaseOptionCode = (row.getCell(23) != null) ? row.getCell(23).getStringCellValue() : (row.getCell(22) == null ? "" : row.getCell(22).getStringCellValue());
+
+        return ErpOrderItemVo.builder()
+                .uniqueCode(null)
+                .prodName(getStringCellValue(row, 1))
+                .optionName(getStringCellValue(row, 2))
+                .unit(row.getCell(3) != null ? Integer.toString((int) row.getCell(3).getNumericCellValue()) : "")
+                .receiver(getStringCellValue(row, 4))
+                .receiverContact1(getStringCellValue(row, 5))
+                .receiverContact2(getStringCellValue(row, 6))
+                .destination(getStringCellValue(row, 7))
+                .salesChannel(getStringCellValue(row, 8))
+                .orderNumber1(getStringCellValue(row, 9))
+                .orderNumber2(getStringCellValue(row, 10))
+                .channelProdCode(getStringCellValue(row, 11))
+                .channelOptionCode(getStringCellValue(row, 12))
+                .zipCode(getStringCellValue(row, 13))
+                .courier(getStringCellValue(row, 14))
+                .transportType(getStringCellValue(row, 15))
+                .deliveryMessage(getStringCellValue(row, 16))
+                .waybillNumber(getStringCellValue(row, 17))
+                .price(priceStr)
+                .deliveryCharge(deliveryChargeStr)
+                .barcode(getStringCellValue(row, 20))
+                .prodCode(getStringCellValue(row, 21))
+                .optionCode(getStringCellValue(row, 22))
+                .releaseOptionCode(releaseOptionCode)
+                .managementMemo1(customManagementMemo.get(0))
+                .managementMemo2(customManagementMemo.get(1))
+                .managementMemo3(customManagementMemo.get(2))
+                .managementMemo4(customManagementMemo.get(3))
+                .managementMemo5(customManagementMemo.get(4))
+                .managementMemo6(customManagementMemo.get(5))
+                .managementMemo7(customManagementMemo.get(6))
+                .managementMemo8(customManagementMemo.get(7))
+                .managementMemo9(customManagementMemo.get(8))
+                .managementMemo10(customManagementMemo.get(9))
+                .freightCode(null)
+                .build();
+    }
+
+    private static String getStringCellValue(StreamRow row, int columnIndex) {
+        return row.getCell(columnIndex) != null ? row.getCell(columnIndex).getStringCellValue() : "";
+    }
 }
@@ -0,0 +1,26 @@
+package com.piaar_store_manager.server.domain.erp_order_item_staging.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 피아르 엑셀 파일 업로드 결과.
+ * 업로드된 행은 uploadToken 으로 미리보기, 등록하며 expiresAt 이후에는 삭제된다.
+ * 데이터 행이 없는 파일은 저장된 행이 없으므로 totalCount 만 0 으로 반환한다.
+ */
+@Builder
+@Getter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+public class ErpOrderItemUploadDto {
+    private UUID uploadToken;
+    private Integer totalCount;
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,192 @@
+package com.piaar_store_manager.server.domain.erp_order_item_staging.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+import com.piaar_store_manager.server.domain.erp_order_item.dto.ErpOrderItemDto;
+import com.piaar_store_manager.server.domain.erp_order_item.entity.ErpOrderItemEntity;
+
+import org.hibernate.annotations.Type;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import lombok.experimental.Accessors;
+
+/**
+ * 업로드된 피아르 엑셀 파일의 행을 등록 전까지 보관하는 테이블.
+ * <p>
+ * 업로드 토큰(upload_token) 단위로 미리보기, 등록(erp_order_item 으로 INSERT ... SELECT), 만료 삭제된다.
+ * id, unique_code, freight_code 는 업로드 시점에 생성해두고 등록 시 그대로 사용한다.
+ */
+@Entity
+@Builder
+@Getter
+@Table(name = "erp_order_item_staging", indexes = {
+        @Index(name = "idx_erp_order_item_staging_upload_token", columnList = "upload_token, row_index"),
+        @Index(name = "idx_erp_order_item_staging_duplication_hash", columnList = "upload_token, duplication_hash"),
+        @Index(name = "idx_erp_order_item_staging_expires_at", columnList = "expires_at")
+})
+@ToString
+@Accessors(chain = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class ErpOrderItemStagingEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "cid")
+    private Integer cid;
+
+    @Type(type = "uuid-compact")
+    @Column(name = "upload_token")
+    private UUID uploadToken;
+
+    @Column(name = "row_index")
+    private Integer rowIndex; // 업로드 파일 내 데이터 순번(0부터 시작, 헤더 다음 행이 0)
+
+    @Type(type = "uuid-compact")
+    @Column(name = "id")
+    private UUID id;
+
+    @Column(name = "unique_code")
+    private String uniqueCode; // 피아르 고유코드
+    @Column(name = "prod_name")
+    private String prodName; // 상품명
+    @Column(name = "option_name")
+    private String optionName; // 옵션정보
+    @Column(name = "unit")
+    private Integer unit; // 수량
+    @Column(name = "receiver")
+    private String receiver; // 수취인명
+    @Column(name = "receiver_contact1")
+    private String receiverContact1; // 전화번호1
+    @Column(name = "receiver_contact2")
+    private String receiverContact2; // 전화번호2
+    @Column(name = "destination")
+    private String destination; // 주소
+    @Column(name = "sales_channel")
+    private String salesChannel; // 판매채널
+    @Column(name = "order_number1")
+    private String orderNumber1; // 판매채널 주문번호1
+    @Column(name = "order_number2")
+    private String orderNumber2; // 판매채널 주문번호2
+    @Column(name = "channel_prod_code")
+    private String channelProdCode; // 판매채널 상품코드
+    @Column(name = "channel_option_code")
+    private String channelOptionCode; // 판매채널 옵션코드
+    @Column(name = "zip_code")
+    private String zipCode; // 우편번호
+    @Column(name = "courier")
+    private String courier; // 택배사
+    @Column(name = "transport_type")
+    private String transportType; // 배송방식
+    @Column(name = "delivery_message")
+    private String deliveryMessage; // 배송메세지
+    @Column(name = "waybill_number")
+    private String waybillNumber; // 운송장번호
+    @Column(name = "price")
+    private Integer price; // 판매금액
+    @Column(name = "delivery_charge")
+    private Integer deliveryCharge; // 배송비
+    @Column(name = "barcode")
+    private String barcode; // 바코드
+    @Column(name = "prod_code")
+    private String prodCode; // 피아르 상품코드
+    @Column(name = "option_code")
+    private String optionCode; // 피아르 옵션코드
+    @Column(name = "release_option_code")
+    private String releaseOptionCode; // 출고 옵션코드
+    @Column(name = "management_memo1")
+    private String managementMemo1; // 관리메모1
+    @Column(name = "management_memo2")
+    private String managementMemo2; // 관리메모2
+    @Column(name = "management_memo3")
+    private String managementMemo3; // 관리메모3
+    @Column(name = "management_memo4")
+    private String managementMemo4; // 관리메모4
+    @Column(name = "management_memo5")
+    private String managementMemo5; // 관리메모5
+    @Column(name = "management_memo6")
+    private String managementMemo6; // 관리메모6
+    @Column(name = "management_memo7")
+    private String managementMemo7; // 관리메모7
+    @Column(name = "management_memo8")
+    private String managementMemo8; // 관리메모8
+    @Column(name = "management_memo9")
+    private String managementMemo9; // 관리메모9
+    @Column(name = "management_memo10")
+    private String managementMemo10; // 관리메모10
+    @Column(name = "freight_code")
+    private String freightCode; // 운송코드
+    @Column(name = "duplication_hash")
+    private String duplicationHash; // erp_order_item.duplication_hash 와 동일한 값
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Type(type = "uuid-compact")
+    @Column(name = "created_by")
+    private UUID createdBy;
+
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+
+    public static ErpOrderItemStagingEntity toEntity(ErpOrderItemDto dto, UUID uploadToken, int rowIndex, LocalDateTime expiresAt) {
+        ErpOrderItemStagingEntity entity = ErpOrderItemStagingEntity.builder()
+                .uploadToken(uploadToken)
+                .rowIndex(rowIndex)
+                .id(dto.getId())
+                .uniqueCode(dto.getUniqueCode())
+                .prodName(dto.getProdName())
+                .optionName(dto.getOptionName())
+                .unit(dto.getUnit())
+                .receiver(dto.getReceiver())
+                .receiverContact1(dto.getReceiverContact1())
+                .receiverContact2(dto.getReceiverContact2())
+                .destination(dto.getDestination())
+                .salesChannel(dto.getSalesChannel())
+                .orderNumber1(dto.getOrderNumber1())
+                .orderNumber2(dto.getOrderNumber2())
+                .channelProdCode(dto.getChannelProdCode())
+                .channelOptionCode(dto.getChannelOptionCode())
+                .zipCode(dto.getZipCode())
+                .courier(dto.getCourier())
+                .transportType(dto.getTransportType())
+                .deliveryMessage(dto.getDeliveryMessage())
+                .waybillNumber(dto.getWaybillNumber())
+                .price(dto.getPrice())
+                .deliveryCharge(dto.getDeliveryCharge())
+                .barcode(dto.getBarcode())
+                .prodCode(dto.getProdCode())
+                .optionCode(dto.getOptionCode())
+                .releaseOptionCode(dto.getReleaseOptionCode())
+                .managementMemo1(dto.getManagementMemo1())
+                .managementMemo2(dto.getManagementMemo2())
+                .managementMemo3(dto.getManagementMemo3())
+                .managementMemo4(dto.getManagementMemo4())
+                .managementMemo5(dto.getManagementMemo5())
+                .managementMemo6(dto.getManagementMemo6())
+                .managementMemo7(dto.getManagementMemo7())
+                .managementMemo8(dto.getManagementMemo8())
+                .managementMemo9(dto.getManagementMemo9())
+                .managementMemo10(dto.getManagementMemo10())
+                .freightCode(dto.getFreightCode())
+                .duplicationHash(ErpOrderItemEntity.generateDuplicationHash(dto.getOrderNumber1(), dto.getReceiver(), dto.getProdName(), dto.getOptionName(), dto.getUnit()))
+                .createdAt(dto.getCreatedAt())
+                .createdBy(dto.getCreatedBy())
+                .expiresAt(expiresAt)
+                .build();
+
+        return entity;
+    }
+}
@@ -0,0 +1,19 @@
+package com.piaar_store_manager.server.domain.erp_order_item_staging.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import com.piaar_store_manager.server.domain.erp_order_item_staging.entity.ErpOrderItemStagingEntity;
+
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ErpOrderItemStagingCustomJdbc {
+    void jdbcBulkInsert(List<ErpOrderItemStagingEntity> entities);
+    int jdbcLockByUploadToken(UUID uploadToken, UUID createdBy, LocalDateTime now);
+    int jdbcInsertIntoErpOrderItem(UUID uploadToken, UUID createdBy, LocalDateTime createdAt);
+    List<UUID> jdbcSearchInsertedIds(UUID uploadToken);
+    int jdbcDeleteByUploadToken(UUID uploadToken);
+    int jdbcDeleteExpired(LocalDateTime now, int limit);
+}
@@ -0,0 +1,174 @@
+package com.piaar_store_manager.server.domain.erp_order_item_staging.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.piaar_store_manager.server.config.jpa.UuidStorage;
+import com.piaar_store_manager.server.domain.erp_order_item_staging.entity.ErpOrderItemStagingEntity;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class ErpOrderItemStagingJdbcImpl implements ErpOrderItemStagingCustomJdbc {
+    private final JdbcTemplate jdbcTemplate;
+    private final UuidStorage uuidStorage;
+    private int batchSize = 300;
+
+    @Override
+    public void jdbcBulkInsert(List<ErpOrderItemStagingEntity> entities) {
+        List<ErpOrderItemStagingEntity> subItems = new ArrayList<>();
+        for (int i = 0; i < entities.size(); i++) {
+            subItems.add(entities.get(i));
+            if ((i + 1) % batchSize == 0) {
+                batchInsert(subItems);
+                subItems.clear();
+            }
+        }
+        if (!subItems.isEmpty()) {
+            batchInsert(subItems);
+        }
+    }
+
+    private void batchInsert(List<ErpOrderItemStagingEntity> subItems) {
+        String sql = "INSERT INTO erp_order_item_staging" +
+                "(upload_token, row_index, id, unique_code, prod_name, option_name, unit, receiver," +
+                " receiver_contact1, receiver_contact2, destination, sales_channel, order_number1, order_number2, channel_prod_code, channel_option_code," +
+                " zip_code, courier, transport_type, delivery_message, waybill_number, price, delivery_charge, barcode," +
+                " prod_code, option_code, release_option_code, management_memo1, management_memo2, management_memo3, management_memo4, management_memo5," +
+                " management_memo6, management_memo7, management_memo8, management_memo9, management_memo10, freight_code, duplication_hash, created_at," +
+                " created_by, expires_at)" +
+                " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ErpOrderItemStagingEntity entity = subItems.get(i);
+                ps.setObject(1, uuidStorage.toParameter(entity.getUploadToken()));
+                ps.setObject(2, entity.getRowIndex());
+                ps.setObject(3, uuidStorage.toParameter(entity.getId()));
+                ps.setString(4, entity.getUniqueCode());
+                ps.setString(5, entity.getProdName());
+                ps.setString(6, entity.getOptionName());
+                ps.setObject(7, entity.getUnit());
+                ps.setString(8, entity.getReceiver());
+                ps.setString(9, entity.getReceiverContact1());
+                ps.setString(10, entity.getReceiverContact2());
+                ps.setString(11, entity.getDestination());
+                ps.setString(12, entity.getSalesChannel());
+                ps.setString(13, entity.getOrderNumber1());
+                ps.setString(14, entity.getOrderNumber2());
+                ps.setString(15, entity.getChannelProdCode());
+                ps.setString(16, entity.getChannelOptionCode());
+                ps.setString(17, entity.getZipCode());
+                ps.setString(18, entity.getCourier());
+                ps.setString(19, entity.getTransportType());
+                ps.setString(20, entity.getDeliveryMessage());
+                ps.setString(21, entity.getWaybillNumber());
+                ps.setObject(22, entity.getPrice());
+                ps.setObject(23, entity.getDeliveryCharge());
+                ps.setString(24, entity.getBarcode());
+                ps.setString(25, entity.getProdCode());
+                ps.setString(26, entity.getOptionCode());
+                ps.setString(27, entity.getReleaseOptionCode());
+                ps.setString(28, entity.getManagementMemo1());
+                ps.setString(29, entity.getManagementMemo2());
+                ps.setString(30, entity.getManagementMemo3());
+                ps.setString(31, entity.getManagementMemo4());
+                ps.setString(32, entity.getManagementMemo5());
+                ps.setString(33, entity.getManagementMemo6());
+                ps.setString(34, entity.getManagementMemo7());
+                ps.setString(35, entity.getManagementMemo8());
+                ps.setString(36, entity.getManagementMemo9());
+                ps.setString(37, entity.getManagementMemo10());
+                ps.setString(38, entity.getFreightCode());
+                ps.setString(39, entity.getDuplicationHash());
+                ps.setObject(40, entity.getCreatedAt());
+                ps.setObject(41, uuidStorage.toParameter(entity.getCreatedBy()));
+                ps.setObject(42, entity.getExpiresAt());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return subItems.size();
+            }
+        });
+    }
+
+    /**
+     * 등록할 업로드 데이터에 쓰기 잠금을 건다. 같은 토큰의 등록 요청이 동시에 들어오면 뒤의 요청은
+     * 앞의 요청이 끝날 때까지 기다린 후 이미 삭제된 데이터를 보게 되므로 중복 등록되지 않는다.
+     */
+    @Override
+    public int jdbcLockByUploadToken(UUID uploadToken, UUID createdBy, LocalDateTime now) {
+        String sql = "SELECT cid FROM erp_order_item_staging" +
+                " WHERE upload_token = ? AND created_by = ? AND expires_at > ?" +
+                " FOR UPDATE";
+
+        return jdbcTemplate.queryForList(sql, Integer.class, uuidStorage.toParameter(uploadToken), uuidStorage.toParameter(createdBy), now).size();
+    }
+
+    /**
+     * 업로드 데이터를 erp_order_item 으로 옮긴다.
+     * duplication_hash 가 이미 저장되어 있거나 같은 업로드 내에서 앞 순번에 존재하는 행은 제외한다.
+     * 출고 옵션코드는 createBatch 와 동일하게 피아르 옵션코드로 등록한다.
+     */
+    @Override
+    public int jdbcInsertIntoErpOrderItem(UUID uploadToken, UUID createdBy, LocalDateTime createdAt) {
+        String sql = "INSERT INTO erp_order_item" +
+                "(id, unique_code, prod_name, option_name, unit, receiver, receiver_contact1, receiver_contact2," +
+                " destination, sales_channel, order_number1, order_number2, channel_prod_code, channel_option_code, zip_code, courier," +
+                " transport_type, delivery_message, waybill_number, price, delivery_charge, barcode, prod_code, option_code," +
+                " release_option_code, management_memo1, management_memo2, management_memo3, management_memo4, management_memo5, management_memo6, management_memo7," +
+                " management_memo8, management_memo9, management_memo10, freight_code, sales_yn, release_yn, stock_reflect_yn, created_at," +
+                " created_by, duplication_hash)" +
+                " SELECT s.id, s.unique_code, s.prod_name, s.option_name, s.unit, s.receiver, s.receiver_contact1, s.receiver_contact2," +
+                " s.destination, s.sales_channel, s.order_number1, s.order_number2, s.channel_prod_code, s.channel_option_code, s.zip_code, s.courier," +
+                " s.transport_type, s.delivery_message, s.waybill_number, s.price, s.delivery_charge, s.barcode, s.prod_code, s.option_code," +
+                " s.option_code, s.management_memo1, s.management_memo2, s.management_memo3, s.management_memo4, s.management_memo5, s.management_memo6, s.management_memo7," +
+                " s.management_memo8, s.management_memo9, s.management_memo10, s.freight_code, 'n', 'n', 'n', ?," +
+                " ?, s.duplication_hash" +
+                " FROM erp_order_item_staging s" +
+                " WHERE s.upload_token = ?" +
+                " AND (s.duplication_hash IS NULL OR (" +
+                "   NOT EXISTS (SELECT 1 FROM erp_order_item e WHERE e.duplication_hash = s.duplication_hash)" +
+                "   AND NOT EXISTS (SELECT 1 FROM erp_order_item_staging d" +
+                "     WHERE d.upload_token = s.upload_token AND d.duplication_hash = s.duplication_hash AND d.row_index < s.row_index)" +
+                " ))" +
+                " ORDER BY s.row_index";
+
+        return jdbcTemplate.update(sql, createdAt, uuidStorage.toParameter(createdBy), uuidStorage.toParameter(uploadToken));
+    }
+
+    @Override
+    public List<UUID> jdbcSearchInsertedIds(UUID uploadToken) {
+        String sql = "SELECT s.id FROM erp_order_item_staging s" +
+                " JOIN erp_order_item e ON e.id = s.id" +
+                " WHERE s.upload_token = ?" +
+                " ORDER BY s.row_index";
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> uuidStorage.getUuid(rs, "id"), uuidStorage.toParameter(uploadToken));
+    }
+
+    @Override
+    public int jdbcDeleteByUploadToken(UUID uploadToken) {
+        String sql = "DELETE FROM erp_order_item_staging WHERE upload_token = ?";
+
+        return jdbcTemplate.update(sql, uuidStorage.toParameter(uploadToken));
+    }
+
+    @Override
+    public int jdbcDeleteExpired(LocalDateTime now, int limit) {
+        String sql = "DELETE FROM erp_order_item_staging WHERE expires_at <= ? LIMIT ?";
+
+        return jdbcTemplate.update(sql, now, limit);
+    }
+}
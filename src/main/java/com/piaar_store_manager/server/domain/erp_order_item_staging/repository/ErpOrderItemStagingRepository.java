@@ -0,0 +1,31 @@
+package com.piaar_store_manager.server.domain.erp_order_item_staging.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.piaar_store_manager.server.domain.erp_order_item_staging.entity.ErpOrderItemStagingEntity;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ErpOrderItemStagingRepository extends JpaRepository<ErpOrderItemStagingEntity, Integer> {
+    /**
+     * 만료되지 않은 업로드 데이터를 업로드 순서대로 조회한다.
+     *
+     * @param uploadToken : UUID
+     * @param createdBy   : UUID
+     * @param now         : LocalDateTime
+     * @param pageable    : Pageable
+     * @return Page::ErpOrderItemStagingEntity::
+     */
+    @Query(value = "SELECT s FROM ErpOrderItemStagingEntity s\n" +
+            "WHERE s.uploadToken=:uploadToken AND s.createdBy=:createdBy AND s.expiresAt > :now\n" +
+            "ORDER BY s.rowIndex ASC",
+            countQuery = "SELECT COUNT(s) FROM ErpOrderItemStagingEntity s\n" +
+            "WHERE s.uploadToken=:uploadToken AND s.createdBy=:createdBy AND s.expiresAt > :now")
+    Page<ErpOrderItemStagingEntity> selectPageByUploadToken(UUID uploadToken, UUID createdBy, LocalDateTime now, Pageable pageable);
+}
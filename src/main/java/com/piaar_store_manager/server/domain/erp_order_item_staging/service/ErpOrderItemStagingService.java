@@ -0,0 +1,113 @@
+package com.piaar_store_manager.server.domain.erp_order_item_staging.service;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import com.piaar_store_manager.server.domain.erp_order_item_staging.entity.ErpOrderItemStagingEntity;
+import com.piaar_store_manager.server.domain.erp_order_item_staging.repository.ErpOrderItemStagingCustomJdbc;
+import com.piaar_store_manager.server.domain.erp_order_item_staging.repository.ErpOrderItemStagingRepository;
+import com.piaar_store_manager.server.domain.sales_analysis.entity.SalesDailyRollupEntity;
+import com.piaar_store_manager.server.domain.sales_analysis.service.SalesDailyRollupService;
+import com.piaar_store_manager.server.exception.CustomNotFoundDataException;
+import com.piaar_store_manager.server.utils.CustomDateUtils;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ErpOrderItemStagingService {
+    private final ErpOrderItemStagingRepository erpOrderItemStagingRepository;
+    private final ErpOrderItemStagingCustomJdbc erpOrderItemStagingCustomJdbc;
+    private final SalesDailyRollupService salesDailyRollupService;
+
+    // 만료 데이터는 한 문장에서 EXPIRED_DELETE_CHUNK_SIZE 개씩 나누어 삭제해 잠금 시간을 짧게 유지한다.
+    private static final int EXPIRED_DELETE_CHUNK_SIZE = 5000;
+
+    /**
+     * <b>DB Insert Related Method</b>
+     * <p>
+     * 업로드된 행을 일괄 저장한다.
+     *
+     * @param entities : List::ErpOrderItemStagingEntity::
+     * @see ErpOrderItemStagingCustomJdbc#jdbcBulkInsert
+     */
+    public void bulkInsert(List<ErpOrderItemStagingEntity> entities) {
+        erpOrderItemStagingCustomJdbc.jdbcBulkInsert(entities);
+    }
+
+    /**
+     * <b>DB Select Related Method</b>
+     * <p>
+     * 만료되지 않은 업로드 데이터를 업로드 순서대로 페이지 조회한다. 업로드한 사용자만 조회할 수 있다.
+     *
+     * @param uploadToken : UUID
+     * @param createdBy   : UUID
+     * @param pageable    : Pageable
+     * @return Page::ErpOrderItemStagingEntity::
+     * @see ErpOrderItemStagingRepository#selectPageByUploadToken
+     */
+    public Page<ErpOrderItemStagingEntity> searchPage(UUID uploadToken, UUID createdBy, Pageable pageable) {
+        return erpOrderItemStagingRepository.selectPageByUploadToken(uploadToken, createdBy, CustomDateUtils.getCurrentDateTime(), pageable);
+    }
+
+    /**
+     * <b>DB Insert Related Method</b>
+     * <p>
+     * 업로드 데이터를 중복 제거하여 erp_order_item 으로 옮기고, 업로드 데이터를 삭제한다.
+     * 존재하지 않거나 만료된 업로드라면 CustomNotFoundDataException 을 던진다.
+     *
+     * @param uploadToken : UUID
+     * @param createdBy   : UUID
+     * @return List::UUID:: : 등록된 주문 데이터의 id
+     * @see ErpOrderItemStagingCustomJdbc#jdbcLockByUploadToken
+     * @see ErpOrderItemStagingCustomJdbc#jdbcInsertIntoErpOrderItem
+     * @see ErpOrderItemStagingCustomJdbc#jdbcDeleteByUploadToken
+     */
+    @Transactional
+    public List<UUID> commit(UUID uploadToken, UUID createdBy) {
+        LocalDateTime now = CustomDateUtils.getCurrentDateTime();
+
+        if (erpOrderItemStagingCustomJdbc.jdbcLockByUploadToken(uploadToken, createdBy, now) == 0) {
+            throw new CustomNotFoundDataException("업로드 데이터가 존재하지 않거나 만료되었습니다.\n엑셀 파일을 다시 업로드해주세요.");
+        }
+
+        erpOrderItemStagingCustomJdbc.jdbcInsertIntoErpOrderItem(uploadToken, createdBy, now);
+        List<UUID> insertedIds = erpOrderItemStagingCustomJdbc.jdbcSearchInsertedIds(uploadToken);
+        erpOrderItemStagingCustomJdbc.jdbcDeleteByUploadToken(uploadToken);
+        salesDailyRollupService.markDirty(SalesDailyRollupEntity.CHANNEL_ERP, Collections.singletonList(now));
+        return insertedIds;
+    }
+
+    /**
+     * <b>DB Delete Related Method</b>
+     * <p>
+     * 만료된 업로드 데이터를 주기적으로 삭제한다.
+     *
+     * @see ErpOrderItemStagingCustomJdbc#jdbcDeleteExpired
+     */
+    @Scheduled(fixedDelayString = "${app.erp-order-item.upload-cleanup-delay-millis:600000}")
+    public void deleteExpired() {
+        LocalDateTime now = CustomDateUtils.getCurrentDateTime();
+        int deletedCount = 0;
+        int chunkDeletedCount;
+
+        do {
+            chunkDeletedCount = erpOrderItemStagingCustomJdbc.jdbcDeleteExpired(now, EXPIRED_DELETE_CHUNK_SIZE);
+            deletedCount += chunkDeletedCount;
+        } while (chunkDeletedCount == EXPIRED_DELETE_CHUNK_SIZE);
+
+        if (deletedCount > 0) {
+            log.info("erp order item staging expired rows deleted. count={}", deletedCount);
+        }
+    }
+}
@@ -2,20 +2,23 @@ package com.piaar_store_manager.server.domain.erp_release_complete_header.contro
 
 import com.piaar_store_manager.server.domain.erp_release_complete_header.dto.ErpReleaseCompleteHeaderDto;
 import com.piaar_store_manager.server.domain.erp_release_complete_header.service.ErpReleaseCompleteHeaderBusinessService;
-import com.piaar_store_manager.server.domain.message.Message;
+import com.piaar_store_manager.server.domain.message.SocketChangeEvent;
+import com.piaar_store_manager.server.domain.message.SocketChangeEventPublisher;
 
-import org.springframework.http.HttpStatus;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.web.bind.annotation.*;
 
 import lombok.RequiredArgsConstructor;
 
+import java.util.Collections;
+
 @RestController
 @RequestMapping("/ws/v1/erp-release-complete-headers")
 @RequiredArgsConstructor
 public class ErpReleaseCompleteHeaderSocket {
+    private static final String TOPIC = "/topic/erp.erp-release-complete-header";
+
     private final ErpReleaseCompleteHeaderBusinessService erpReleaseCompleteHeaderBusinessService;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final SocketChangeEventPublisher socketChangeEventPublisher;
 
     /**
      * Create one api for erp release complete header.
@@ -28,14 +31,10 @@ public class ErpReleaseCompleteHeaderSocket {
      */
     @PostMapping("")
     public void saveOne(@RequestBody ErpReleaseCompleteHeaderDto headerDto) {
-        Message message = new Message();
-
         erpReleaseCompleteHeaderBusinessService.saveOne(headerDto);
-        message.setStatus(HttpStatus.OK);
-        message.setMessage("success");
 
-//        return new ResponseEntity<>(message, message.getStatus());
-        messagingTemplate.convertAndSend("/topic/erp.erp-release-complete-header", message);
+        socketChangeEventPublisher.publish(TOPIC, SocketChangeEvent.created(Collections.singletonList(headerDto.getId()))
+                .value("headerDetail", headerDto.getHeaderDetail()));
     }
 
     /**
@@ -49,13 +48,9 @@ public class ErpReleaseCompleteHeaderSocket {
      */
     @PutMapping("")
     public void updateOne(@RequestBody ErpReleaseCompleteHeaderDto headerDto) {
-        Message message = new Message();
-
         erpReleaseCompleteHeaderBusinessService.updateOne(headerDto);
-        message.setStatus(HttpStatus.OK);
-        message.setMessage("success");
 
-//        return new ResponseEntity<>(message, message.getStatus());
-        messagingTemplate.convertAndSend("/topic/erp.erp-release-complete-header", message);
+        socketChangeEventPublisher.publish(TOPIC, SocketChangeEvent.updated(Collections.singletonList(headerDto.getId()))
+                .value("headerDetail", headerDto.getHeaderDetail()));
     }
 }
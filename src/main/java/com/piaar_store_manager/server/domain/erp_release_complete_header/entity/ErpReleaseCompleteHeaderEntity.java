@@ -41,7 +41,7 @@ public class ErpReleaseCompleteHeaderEntity {
     @Column(name = "cid")
     private Integer cid;
 
-    @Type(type = "uuid-char")
+    @Type(type = "uuid-compact")
     @Column(name = "id")
     private UUID id;
 
@@ -54,7 +54,7 @@ public class ErpReleaseCompleteHeaderEntity {
     private LocalDateTime createdAt;
 
     @Setter
-    @Type(type = "uuid-char")
+    @Type(type = "uuid-compact")
     @Column(name = "created_by")
     private UUID createdBy;
 
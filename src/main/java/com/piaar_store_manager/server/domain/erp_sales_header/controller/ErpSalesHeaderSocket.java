@@ -2,20 +2,23 @@ package com.piaar_store_manager.server.domain.erp_sales_header.controller;
 
 import com.piaar_store_manager.server.domain.erp_sales_header.dto.ErpSalesHeaderDto;
 import com.piaar_store_manager.server.domain.erp_sales_header.service.ErpSalesHeaderBusinessService;
-import com.piaar_store_manager.server.domain.message.Message;
+import com.piaar_store_manager.server.domain.message.SocketChangeEvent;
+import com.piaar_store_manager.server.domain.message.SocketChangeEventPublisher;
 
-import org.springframework.http.HttpStatus;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.web.bind.annotation.*;
 
 import lombok.RequiredArgsConstructor;
 
+import java.util.Collections;
+
 @RestController
 @RequestMapping("/ws/v1/erp-sales-headers")
 @RequiredArgsConstructor
 public class ErpSalesHeaderSocket {
+    private static final String TOPIC = "/topic/erp.erp-sales-header";
+
     private final ErpSalesHeaderBusinessService erpSalesHeaderBusinessService;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final SocketChangeEventPublisher socketChangeEventPublisher;
 
     /**
      * Create one api for erp sales header.
@@ -28,13 +31,10 @@ public class ErpSalesHeaderSocket {
      */
     @PostMapping("")
     public void saveOne(@RequestBody ErpSalesHeaderDto headerDto) {
-        Message message = new Message();
-
         erpSalesHeaderBusinessService.saveOne(headerDto);
-        message.setStatus(HttpStatus.OK);
-        message.setMessage("success");
 
-        messagingTemplate.convertAndSend("/topic/erp.erp-sales-header", message);
+        socketChangeEventPublisher.publish(TOPIC, SocketChangeEvent.created(Collections.singletonList(headerDto.getId()))
+                .value("headerDetail", headerDto.getHeaderDetail()));
     }
 
     /**
@@ -48,12 +48,9 @@ public class ErpSalesHeaderSocket {
      */
     @PutMapping("")
     public void updateOne(@RequestBody ErpSalesHeaderDto headerDto) {
-        Message message = new Message();
-
         erpSalesHeaderBusinessService.updateOne(headerDto);
-        message.setStatus(HttpStatus.OK);
-        message.setMessage("success");
 
-        messagingTemplate.convertAndSend("/topic/erp.erp-sales-header", message);
+        socketChangeEventPublisher.publish(TOPIC, SocketChangeEvent.updated(Collections.singletonList(headerDto.getId()))
+                .value("headerDetail", headerDto.getHeaderDetail()));
     }
 }
@@ -9,6 +9,7 @@ import java.util.stream.Collectors;
 
 import com.piaar_store_manager.server.domain.erp_second_merge_header.dto.ErpSecondMergeHeaderDto;
 import com.piaar_store_manager.server.domain.erp_second_merge_header.entity.ErpSecondMergeHeaderEntity;
+import com.piaar_store_manager.server.domain.erp_order_item.service.ErpOrderItemMergePlanCache;
 import com.piaar_store_manager.server.domain.user.service.UserService;
 import com.piaar_store_manager.server.utils.CustomDateUtils;
 
@@ -17,6 +18,7 @@ import com.piaar_store_manager.server.utils.CustomDateUtils;
 public class ErpSecondMergeHeaderBusinessService {
     private final ErpSecondMergeHeaderService erpSecondMergeHeaderService;
     private final UserService userService;
+    private final ErpOrderItemMergePlanCache erpOrderItemMergePlanCache;
 
     /**
      * <b>DB Insert Related Method</b>
@@ -82,9 +84,11 @@ public class ErpSecondMergeHeaderBusinessService {
         entity.setTitle(headerDto.getTitle()).setUpdatedAt(CustomDateUtils.getCurrentDateTime());
 
         erpSecondMergeHeaderService.saveAndModify(entity);
+        erpOrderItemMergePlanCache.removeSecondMergePlan(entity.getId());
     }
 
     public void deleteOne(UUID id) {
         erpSecondMergeHeaderService.deleteOne(id);
+        erpOrderItemMergePlanCache.removeSecondMergePlan(id);
     }
 }
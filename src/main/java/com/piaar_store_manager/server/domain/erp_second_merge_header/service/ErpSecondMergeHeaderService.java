@@ -5,6 +5,7 @@ import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -61,6 +62,19 @@ public class ErpSecondMergeHeaderService {
         }
     }
 
+    /**
+     * <b>DB Select Related Method</b>
+     * <p>
+     * id에 대응하는 erp second merge header의 수정 일시를 조회한다. 수정 일시와 생성 일시가 모두 없다면 empty 를 반환한다.
+     *
+     * @param id : UUID
+     * @return Optional::LocalDateTime::
+     * @see ErpSecondMergeHeaderRepository#findVersionById
+     */
+    public Optional<LocalDateTime> searchVersion(UUID id) {
+        return erpSecondMergeHeaderRepository.findVersionById(id);
+    }
+
     /**
      * <b>DB Delete Related Method</b>
      * <p>
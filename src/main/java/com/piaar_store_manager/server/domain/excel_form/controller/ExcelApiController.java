@@ -14,6 +14,8 @@ import com.piaar_store_manager.server.domain.waybill.dto.WaybillAssembledDto;
 import com.piaar_store_manager.server.domain.waybill.dto.WaybillGetDto;
 import com.piaar_store_manager.server.domain.waybill.dto.WaybillOptionInfo;
 import com.piaar_store_manager.server.domain.waybill.service.WaybillService;
+import com.piaar_store_manager.server.utils.CustomExcelStreamWriter;
+import com.piaar_store_manager.server.utils.CustomExcelStreamWriter.SheetTemplate;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.io.FilenameUtils;
@@ -46,6 +48,35 @@ public class ExcelApiController {
 
     private final WaybillService waybillService;
 
+    private static final SheetTemplate<WaybillAssembledDto> LOGEN_WAYBILL_TEMPLATE = SheetTemplate.<WaybillAssembledDto>builder("첫번째 시트")
+            .column("수하인명", ExcelApiController::getReceiverWithOptionInfos, 10000)
+            .column("", dto -> "", 1000)
+            .column("수하인주소", WaybillAssembledDto::getDestination, 15000)
+            .column("수하인전화번호", WaybillAssembledDto::getBuyerContact, 5000)
+            .column("수하인핸드폰번호", WaybillAssembledDto::getBuyerContact, 5000)
+            .column("박스수량", dto -> 1, 3000)
+            .column("택배운임", dto -> 5000, 3000)
+            .column("운임구분", dto -> "선불", 3000)
+            .column("품목명", WaybillAssembledDto::getProdName, 20000)
+            .column("", dto -> "", 1000)
+            .column("배송메세지", WaybillAssembledDto::getDeliveryMessage, 10000)
+            .build();
+
+    private static final SheetTemplate<WaybillAssembledDto> LOGEN_ALL_WAYBILL_TEMPLATE = SheetTemplate.<WaybillAssembledDto>builder("첫번째 시트")
+            .column("수하인명", WaybillAssembledDto::getReceiver)
+            .column("", dto -> "")
+            .column("수하인주소", WaybillAssembledDto::getDestination)
+            .column("수하인전화번호", WaybillAssembledDto::getReceiverContact1)
+            .column("수하인핸드폰번호", WaybillAssembledDto::getReceiverContact2)
+            .column("박스수량", dto -> 1)
+            .column("택배운임", dto -> 5000)
+            .column("운임구분", dto -> "선불")
+            .column("품목명", dto -> ((dto.getProdCode() == null || dto.getProdCode().equals("")) ? "품목코드지정바람" : dto.getProdCode()) + "\n" + getOptionInfosString(dto.getOptionInfos()))
+            .column("", dto -> "")
+            .column("배송메세지", WaybillAssembledDto::getDeliveryMessage)
+            .column("마지막컬럼은지워주세요", WaybillAssembledDto::getProdName)
+            .build();
+
     // /api/excel/order-confirm/read
     @PostMapping("/order-confirm/read")
     public ResponseEntity<?> readOrderConfirm(@RequestParam("file") MultipartFile file) throws IOException {
@@ -105,209 +136,19 @@ public class ExcelApiController {
     // /api/excel/waybill/logen/write
     @PostMapping("/waybill/logen/write")
     public void writeLogenWaybill(HttpServletResponse response, @RequestBody WaybillGetDto getDto) {
-        Workbook wb = new XSSFWorkbook();
-        Sheet sheet = wb.createSheet("첫번째 시트");
-        Row row = null;
-        Cell cell = null;
-        int rowNum = 0;
-
-        sheet.setColumnWidth(0, 10000);
-        sheet.setColumnWidth(1, 1000);
-        sheet.setColumnWidth(2, 15000);
-        sheet.setColumnWidth(3, 5000);
-        sheet.setColumnWidth(4, 5000);
-        sheet.setColumnWidth(5, 3000);
-        sheet.setColumnWidth(6, 3000);
-        sheet.setColumnWidth(7, 3000);
-        sheet.setColumnWidth(8, 20000);
-        sheet.setColumnWidth(9, 1000);
-        sheet.setColumnWidth(10, 10000);
-
-        // Header
-        row = sheet.createRow(rowNum++);
-        cell = row.createCell(0);
-        cell.setCellValue("수하인명");
-        cell = row.createCell(1);
-        cell.setCellValue("");
-        cell = row.createCell(2);
-        cell.setCellValue("수하인주소");
-        cell = row.createCell(3);
-        cell.setCellValue("수하인전화번호");
-        cell = row.createCell(4);
-        cell.setCellValue("수하인핸드폰번호");
-        cell = row.createCell(5);
-        cell.setCellValue("박스수량");
-        cell = row.createCell(6);
-        cell.setCellValue("택배운임");
-        cell = row.createCell(7);
-        cell.setCellValue("운임구분");
-        cell = row.createCell(8);
-        cell.setCellValue("품목명");
-        cell = row.createCell(9);
-        cell.setCellValue("");
-        cell = row.createCell(10);
-        cell.setCellValue("배송메세지");
-
-        // Body
-        for (int i = 0; i < getDto.getList().size(); i++) {
-            WaybillAssembledDto assembledDto = getDto.getList().get(i);
-            String receiverStr = assembledDto.getReceiver() + " ";
-            for (int j = 0; j < assembledDto.getOptionInfos().size(); j++) {
-                receiverStr += assembledDto.getOptionInfos().get(j).getOptionInfo() + "-"
-                        + assembledDto.getOptionInfos().get(j).getUnit() + ", ";
-            }
-            row = sheet.createRow(rowNum++);
-            cell = row.createCell(0);
-            cell.setCellValue(receiverStr);
-            cell = row.createCell(1);
-            cell.setCellValue("");
-            cell = row.createCell(2);
-            cell.setCellValue(assembledDto.getDestination());
-            cell = row.createCell(3);
-            cell.setCellValue(assembledDto.getBuyerContact());
-            cell = row.createCell(4);
-            cell.setCellValue(assembledDto.getBuyerContact());
-            cell = row.createCell(5);
-            cell.setCellValue(1);
-            cell = row.createCell(6);
-            cell.setCellValue(5000);
-            cell = row.createCell(7);
-            cell.setCellValue("선불");
-            cell = row.createCell(8);
-            cell.setCellValue(assembledDto.getProdName());
-            cell = row.createCell(9);
-            cell.setCellValue("");
-            cell = row.createCell(10);
-            cell.setCellValue(assembledDto.getDeliveryMessage());
-            
-        }
-
-        // 컨텐츠 타입과 파일명 지정
-        response.setContentType("ms-vnd/excel");
-        // response.setHeader("Content-Disposition", "attachment;filename=example.xls");
-        response.setHeader("Content-Disposition", "attachment;filename=example.xlsx");
-
-        // Excel File Output
-        try {
-            wb.write(response.getOutputStream());
-            wb.close();
-        } catch (IOException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        CustomExcelStreamWriter.writeToResponse(response, LOGEN_WAYBILL_TEMPLATE, getDto.getList());
     }
 
     // /api/excel/waybill/logen/write
     @PostMapping("/waybill/logen-all/write")
     public void writeLogenAllWaybill(HttpServletResponse response, @RequestBody List<WaybillGetDto> getDtos) {
-        Workbook wb = new XSSFWorkbook();
-        Sheet sheet = wb.createSheet("첫번째 시트");
-        Row row = null;
-        Cell cell = null;
-        int rowNum = 0;
-
-        // Header
-        row = sheet.createRow(rowNum++);
-        cell = row.createCell(0);
-        cell.setCellValue("수하인명");
-        cell = row.createCell(1);
-        cell.setCellValue("");
-        cell = row.createCell(2);
-        cell.setCellValue("수하인주소");
-        cell = row.createCell(3);
-        cell.setCellValue("수하인전화번호");
-        cell = row.createCell(4);
-        cell.setCellValue("수하인핸드폰번호");
-        cell = row.createCell(5);
-        cell.setCellValue("박스수량");
-        cell = row.createCell(6);
-        cell.setCellValue("택배운임");
-        cell = row.createCell(7);
-        cell.setCellValue("운임구분");
-        cell = row.createCell(8);
-        cell.setCellValue("품목명");
-        cell = row.createCell(9);
-        cell.setCellValue("");
-        cell = row.createCell(10);
-        cell.setCellValue("배송메세지");
-        cell = row.createCell(11);
-        cell.setCellValue("마지막컬럼은지워주세요");
-
         List<WaybillAssembledDto> assembledDtos = new ArrayList<>();
 
         for (WaybillGetDto getDto : getDtos) {
             assembledDtos.addAll(getDto.getList());
         }
 
-        // Body
-        for (WaybillAssembledDto dto : assembledDtos) {
-            row = sheet.createRow(rowNum++);
-
-            cell = row.createCell(0);
-            cell.setCellValue(dto.getReceiver());
-
-            cell = row.createCell(1);
-            cell.setCellValue("");
-
-            cell = row.createCell(2);
-            cell.setCellValue(dto.getDestination());
-
-            cell = row.createCell(3);
-            cell.setCellValue(dto.getReceiverContact1());
-
-            cell = row.createCell(4);
-            cell.setCellValue(dto.getReceiverContact2());
-
-            cell = row.createCell(5);
-            cell.setCellValue(1);
-
-            cell = row.createCell(6);
-            cell.setCellValue(5000);
-
-            cell = row.createCell(7);
-            cell.setCellValue("선불");
-
-            cell = row.createCell(8);
-            cell.setCellValue(((dto.getProdCode()==null || dto.getProdCode().equals(""))?"품목코드지정바람":dto.getProdCode()) +"\n"+getOptionInfosString(dto.getOptionInfos()));
-
-            cell = row.createCell(9);
-            cell.setCellValue("");
-
-            cell = row.createCell(10);
-            cell.setCellValue(dto.getDeliveryMessage());
-
-            cell = row.createCell(11);
-            cell.setCellValue(dto.getProdName());
-
-            row.setHeight((short) -1);
-        }
-
-        sheet.autoSizeColumn(0);
-        sheet.autoSizeColumn(1);
-        sheet.autoSizeColumn(2);
-        sheet.autoSizeColumn(3);
-        sheet.autoSizeColumn(4);
-        sheet.autoSizeColumn(5);
-        sheet.autoSizeColumn(6);
-        sheet.autoSizeColumn(7);
-        sheet.autoSizeColumn(8);
-        sheet.autoSizeColumn(9);
-        sheet.autoSizeColumn(10);
-        sheet.autoSizeColumn(11);
-
-        // 컨텐츠 타입과 파일명 지정
-        response.setContentType("ms-vnd/excel");
-        // response.setHeader("Content-Disposition", "attachment;filename=example.xls");
-        response.setHeader("Content-Disposition", "attachment;filename=example.xlsx");
-
-        // Excel File Output
-        try {
-            wb.write(response.getOutputStream());
-            wb.close();
-        } catch (IOException e) {
-            // TODO Auto-generated catch block
-            e.printStackTrace();
-        }
+        CustomExcelStreamWriter.writeToResponse(response, LOGEN_ALL_WAYBILL_TEMPLATE, assembledDtos);
     }
 
     // /api/excel/waybill/send-today/write
@@ -461,7 +302,15 @@ public class ExcelApiController {
         }
     }
 
-    private String getOptionInfosString(List<WaybillOptionInfo> optionInfos) {
+    private static String getReceiverWithOptionInfos(WaybillAssembledDto assembledDto) {
+        String receiverStr = assembledDto.getReceiver() + " ";
+        for (WaybillOptionInfo optionInfo : assembledDto.getOptionInfos()) {
+            receiverStr += optionInfo.getOptionInfo() + "-" + optionInfo.getUnit() + ", ";
+        }
+        return receiverStr;
+    }
+
+    private static String getOptionInfosString(List<WaybillOptionInfo> optionInfos) {
         String optionInfosString = "";
 
         for (WaybillOptionInfo dto : optionInfos) {
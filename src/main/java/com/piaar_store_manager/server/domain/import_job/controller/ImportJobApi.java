@@ -0,0 +1,45 @@
+package com.piaar_store_manager.server.domain.import_job.controller;
+
+import java.util.UUID;
+
+import com.piaar_store_manager.server.annotation.RequiredLogin;
+import com.piaar_store_manager.server.domain.import_job.service.ImportJobBusinessService;
+import com.piaar_store_manager.server.domain.message.Message;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/v1/import-jobs")
+@RequiredArgsConstructor
+@RequiredLogin
+public class ImportJobApi {
+    private final ImportJobBusinessService importJobBusinessService;
+
+    /**
+     * Search import job state.
+     * 진행 상황 메세지를 구독하기 전에 끝난 작업이나 재시작으로 중단된 작업의 상태를 확인할 때 사용한다.
+     * <p>
+     * <b>GET : API URL => /api/v1/import-jobs/{jobId}</b>
+     *
+     * @param jobId : UUID
+     * @return ResponseEntity(message, HttpStatus)
+     * @see ImportJobBusinessService#searchOne
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<?> searchOne(@PathVariable(value = "jobId") UUID jobId) {
+        Message message = new Message();
+
+        message.setData(importJobBusinessService.searchOne(jobId));
+        message.setStatus(HttpStatus.OK);
+        message.setMessage("success");
+
+        return new ResponseEntity<>(message, message.getStatus());
+    }
+}
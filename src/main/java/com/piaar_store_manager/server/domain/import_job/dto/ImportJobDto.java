@@ -0,0 +1,59 @@
+package com.piaar_store_manager.server.domain.import_job.dto;
+
+import com.piaar_store_manager.server.domain.import_job.entity.ImportJobEntity;
+
+import lombok.*;
+import lombok.experimental.Accessors;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Builder
+@Getter
+@Setter
+@ToString
+@Accessors(chain = true)
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImportJobDto {
+    public static final String DESTINATION_PREFIX = "/topic/import-job.";
+
+    private UUID id;
+    private String jobType;
+    private String status;
+    private String fileName;
+    private Integer totalCount;
+    private Integer processedCount;
+    private Integer insertedCount;
+    private Integer skippedCount;
+    private Integer errorCount;
+    private String errorSummary;
+    private String destination;     // 진행 상황을 구독할 STOMP destination
+    private LocalDateTime createdAt;
+    private UUID createdBy;
+    private LocalDateTime updatedAt;
+    private LocalDateTime finishedAt;
+
+    public static ImportJobDto toDto(ImportJobEntity entity) {
+        if (entity == null) return null;
+
+        ImportJobDto dto = ImportJobDto.builder()
+                .id(entity.getId())
+                .jobType(entity.getJobType())
+                .status(entity.getStatus())
+                .fileName(entity.getFileName())
+                .totalCount(entity.getTotalCount())
+                .processedCount(entity.getProcessedCount())
+                .insertedCount(entity.getInsertedCount())
+                .skippedCount(entity.getSkippedCount())
+                .errorCount(entity.getErrorCount())
+                .errorSummary(entity.getErrorSummary())
+                .destination(DESTINATION_PREFIX + entity.getId())
+                .createdAt(entity.getCreatedAt())
+                .createdBy(entity.getCreatedBy())
+                .updatedAt(entity.getUpdatedAt())
+                .finishedAt(entity.getFinishedAt())
+                .build();
+        return dto;
+    }
+}
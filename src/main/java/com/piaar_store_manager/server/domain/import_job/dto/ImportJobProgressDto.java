@@ -0,0 +1,19 @@
+package com.piaar_store_manager.server.domain.import_job.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 작업 단위(chunk) 처리가 끝날 때마다 작업별 destination 으로 전송하는 진행 상황.
+ * rowErrors 는 해당 chunk 에서 발생한 행 단위 오류만 담는다.
+ */
+@Builder
+@Getter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImportJobProgressDto {
+    private ImportJobDto job;
+    private List<ImportJobRowErrorDto> rowErrors;
+}
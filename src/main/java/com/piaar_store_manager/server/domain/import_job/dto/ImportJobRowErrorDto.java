@@ -0,0 +1,17 @@
+package com.piaar_store_manager.server.domain.import_job.dto;
+
+import lombok.*;
+
+@Builder
+@Getter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImportJobRowErrorDto {
+    private Integer rowNumber;  // 엑셀 파일 기준 행 번호(1부터 시작), 배열 데이터는 순번
+    private String message;
+
+    public static ImportJobRowErrorDto of(int rowNumber, String message) {
+        return new ImportJobRowErrorDto(rowNumber, message);
+    }
+}
@@ -0,0 +1,76 @@
+package com.piaar_store_manager.server.domain.import_job.entity;
+
+import lombok.*;
+import lombok.experimental.Accessors;
+import org.hibernate.annotations.Type;
+
+import javax.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@ToString
+@Accessors(chain = true)
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "import_job")
+public class ImportJobEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "cid")
+    private Integer cid;
+
+    @Column(name = "id")
+    @Type(type = "uuid-char")
+    private UUID id;
+
+    @Column(name = "job_type")
+    private String jobType;
+
+    @Column(name = "status")
+    private String status;
+
+    @Column(name = "file_name")
+    private String fileName;
+
+    @Column(name = "file_path")
+    private String filePath;    // 작업이 끝날 때까지 보관하는 업로드 파일의 로컬 경로
+
+    @Column(name = "reference_cid")
+    private Integer referenceCid;   // 작업 대상 데이터의 cid (ex. delivery_ready_file.cid)
+
+    @Column(name = "total_count")
+    private Integer totalCount;
+
+    @Column(name = "processed_count")
+    private Integer processedCount;
+
+    @Column(name = "inserted_count")
+    private Integer insertedCount;
+
+    @Column(name = "skipped_count")
+    private Integer skippedCount;
+
+    @Column(name = "error_count")
+    private Integer errorCount;
+
+    @Column(name = "error_summary", columnDefinition = "TEXT")
+    private String errorSummary;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "created_by")
+    @Type(type = "uuid-char")
+    private UUID createdBy;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+}
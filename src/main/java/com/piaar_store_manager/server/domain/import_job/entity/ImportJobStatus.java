@@ -0,0 +1,21 @@
+package com.piaar_store_manager.server.domain.import_job.entity;
+
+/**
+ * import_job.status 값.
+ * <p>
+ * PENDING, RUNNING 상태로 남아있는 작업은 서버 재시작 시 이어서 처리하거나 INTERRUPTED 로 마감한다.
+ */
+public final class ImportJobStatus {
+    public static final String PENDING = "PENDING";
+    public static final String RUNNING = "RUNNING";
+    public static final String COMPLETED = "COMPLETED";
+    public static final String FAILED = "FAILED";
+    public static final String INTERRUPTED = "INTERRUPTED";
+
+    private ImportJobStatus() {
+    }
+
+    public static boolean isFinished(String status) {
+        return COMPLETED.equals(status) || FAILED.equals(status) || INTERRUPTED.equals(status);
+    }
+}
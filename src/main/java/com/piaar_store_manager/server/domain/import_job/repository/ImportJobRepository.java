@@ -0,0 +1,24 @@
+package com.piaar_store_manager.server.domain.import_job.repository;
+
+import com.piaar_store_manager.server.domain.import_job.entity.ImportJobEntity;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface ImportJobRepository extends JpaRepository<ImportJobEntity, Integer> {
+    @Query("SELECT ij FROM ImportJobEntity ij\n" +
+            "WHERE ij.id=:id")
+    Optional<ImportJobEntity> selectById(UUID id);
+
+    @Query("SELECT ij FROM ImportJobEntity ij\n" +
+            "WHERE ij.status IN :statuses\n" +
+            "ORDER BY ij.cid ASC")
+    List<ImportJobEntity> selectAllByStatusIn(Collection<String> statuses);
+}
@@ -0,0 +1,252 @@
+package com.piaar_store_manager.server.domain.import_job.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+
+import com.piaar_store_manager.server.domain.import_job.dto.ImportJobDto;
+import com.piaar_store_manager.server.domain.import_job.dto.ImportJobProgressDto;
+import com.piaar_store_manager.server.domain.import_job.entity.ImportJobEntity;
+import com.piaar_store_manager.server.domain.import_job.entity.ImportJobStatus;
+import com.piaar_store_manager.server.domain.message.Message;
+import com.piaar_store_manager.server.domain.user.service.UserService;
+import com.piaar_store_manager.server.exception.CustomInvalidDataException;
+import com.piaar_store_manager.server.utils.CustomDateUtils;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class ImportJobBusinessService {
+    public static final String SOCKET_BEHAVIOR = "import-job-progress";
+
+    private final ImportJobService importJobService;
+    private final UserService userService;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor importJobExecutor;
+    // handler 가 도메인 BusinessService 를 참조하고, BusinessService 가 이 클래스를 참조하므로 실행 시점에 조회한다.
+    private final ObjectProvider<ImportJobHandler> importJobHandlers;
+
+    @Value("${app.import-job.work-dir:${java.io.tmpdir}/piaar-import-jobs}")
+    private String workDir;
+
+    @Value("${app.import-job.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${app.import-job.resume-on-startup:true}")
+    private boolean resumeOnStartup;
+
+    @Autowired
+    public ImportJobBusinessService(
+            ImportJobService importJobService,
+            UserService userService,
+            SimpMessagingTemplate messagingTemplate,
+            PlatformTransactionManager transactionManager,
+            @Qualifier("importJobExecutor") TaskExecutor importJobExecutor,
+            ObjectProvider<ImportJobHandler> importJobHandlers
+    ) {
+        this.importJobService = importJobService;
+        this.userService = userService;
+        this.messagingTemplate = messagingTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.importJobExecutor = importJobExecutor;
+        this.importJobHandlers = importJobHandlers;
+    }
+
+    /**
+     * <b>Import Job Related Method</b>
+     * <p>
+     * 업로드 데이터를 작업 디렉토리에 복사하고 PENDING 상태의 작업을 등록한 후 executor 에 제출한다.
+     * 데이터 파싱, 검증, 저장은 작업 스레드에서 처리되며 등록된 작업 정보는 즉시 반환한다.
+     * 요청 스레드에서만 조회 가능한 사용자 정보는 createdBy 로 전달받는다.
+     *
+     * @param jobType      : String
+     * @param fileName     : String
+     * @param source       : InputStream
+     * @param referenceCid : Integer
+     * @param createdBy    : UUID
+     * @return ImportJobDto
+     * @throws CustomInvalidDataException
+     * @see ImportJobBusinessService#dispatch
+     */
+    public ImportJobDto submit(String jobType, String fileName, InputStream source, Integer referenceCid, UUID createdBy) {
+        this.getHandler(jobType);
+
+        UUID jobId = UUID.randomUUID();
+        Path filePath = Paths.get(workDir, jobId.toString());
+        try {
+            Files.createDirectories(filePath.getParent());
+            Files.copy(source, filePath, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new CustomInvalidDataException("업로드 파일을 저장할 수 없습니다.", e);
+        }
+
+        ImportJobEntity entity = ImportJobEntity.builder()
+                .id(jobId)
+                .jobType(jobType)
+                .status(ImportJobStatus.PENDING)
+                .fileName(fileName)
+                .filePath(filePath.toString())
+                .referenceCid(referenceCid)
+                .processedCount(0)
+                .insertedCount(0)
+                .skippedCount(0)
+                .errorCount(0)
+                .createdAt(CustomDateUtils.getCurrentDateTime())
+                .createdBy(createdBy)
+                .updatedAt(CustomDateUtils.getCurrentDateTime())
+                .build();
+        ImportJobDto dto = ImportJobDto.toDto(importJobService.saveAndGet(entity));
+
+        if (!this.dispatch(jobId)) {
+            throw new CustomInvalidDataException("진행 중인 가져오기 작업이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return dto;
+    }
+
+    /**
+     * <b>DB Select Related Method</b>
+     * <p>
+     * 가져오기 작업의 현재 상태를 조회한다. 진행 상황 메세지를 놓친 경우 이 결과로 복구한다.
+     * 작업을 등록한 사용자가 아니라면 매니저 권한이 필요하다.
+     *
+     * @param jobId : UUID
+     * @return ImportJobDto
+     * @see ImportJobService#searchOne
+     */
+    public ImportJobDto searchOne(UUID jobId) {
+        // access check
+        userService.userLoginCheck();
+
+        ImportJobEntity job = importJobService.searchOne(jobId);
+        if (!userService.getUserId().equals(job.getCreatedBy())) {
+            userService.userManagerRoleCheck();
+        }
+        return ImportJobDto.toDto(job);
+    }
+
+    /**
+     * <b>Import Job Related Method</b>
+     * <p>
+     * 서버 시작 시 PENDING, RUNNING 상태로 남아있는 작업을 다시 제출한다.
+     * 작업 파일이 없거나 처리기가 없는 작업, 다시 제출할 수 없는 작업은 INTERRUPTED 로 마감한다.
+     * RUNNING 작업은 processedCount 이후의 행부터 이어서 처리된다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinishedJobs() {
+        List<ImportJobEntity> unfinishedJobs = importJobService.searchListByStatuses(Arrays.asList(ImportJobStatus.PENDING, ImportJobStatus.RUNNING));
+
+        for (ImportJobEntity job : unfinishedJobs) {
+            boolean resumable = resumeOnStartup
+                    && job.getFilePath() != null
+                    && Files.exists(Paths.get(job.getFilePath()))
+                    && this.findHandler(job.getJobType()) != null;
+
+            if (resumable) {
+                importJobService.changeStatus(job.getId(), ImportJobStatus.PENDING, null);
+                if (this.dispatch(job.getId())) {
+                    log.info("import job resumed. jobId={}, processedCount={}", job.getId(), job.getProcessedCount());
+                }
+                continue;
+            }
+
+            this.finish(importJobService.changeStatus(job.getId(), ImportJobStatus.INTERRUPTED, "서버 재시작으로 작업이 중단되었습니다."));
+        }
+    }
+
+    /**
+     * executor 에 작업 실행을 제출한다. 대기열이 가득 찼다면 작업을 FAILED 로 마감하고 false 를 반환한다.
+     */
+    private boolean dispatch(UUID jobId) {
+        try {
+            importJobExecutor.execute(() -> this.run(jobId));
+            return true;
+        } catch (TaskRejectedException e) {
+            this.finish(importJobService.changeStatus(jobId, ImportJobStatus.FAILED, "진행 중인 가져오기 작업이 많아 작업을 시작할 수 없습니다."));
+            return false;
+        }
+    }
+
+    private void run(UUID jobId) {
+        ImportJobEntity job = importJobService.changeStatus(jobId, ImportJobStatus.RUNNING, null);
+        this.publishProgress(ImportJobProgressDto.builder().job(ImportJobDto.toDto(job)).rowErrors(Collections.emptyList()).build());
+
+        ImportJobContext context = new ImportJobContext(job, chunkSize, transactionTemplate, importJobService, this::publishProgress);
+        try {
+            this.getHandler(job.getJobType()).execute(context);
+            job = importJobService.changeStatus(jobId, ImportJobStatus.COMPLETED, null);
+        } catch (CancellationException e) {
+            // 서버 종료로 중단된 작업은 RUNNING 상태와 작업 파일을 유지하고 재시작 시 이어서 처리한다.
+            log.info("import job interrupted. jobId={}", jobId);
+            return;
+        } catch (Exception e) {
+            log.error("import job failed. jobId={}", jobId, e);
+            job = importJobService.changeStatus(jobId, ImportJobStatus.FAILED, e.getMessage() != null ? e.getMessage() : "가져오기 작업 중 오류가 발생했습니다.");
+        }
+        this.finish(job);
+    }
+
+    private void finish(ImportJobEntity job) {
+        if (job.getFilePath() != null) {
+            try {
+                Files.deleteIfExists(Paths.get(job.getFilePath()));
+            } catch (IOException e) {
+                log.warn("import job file delete failed. path={}", job.getFilePath());
+            }
+        }
+        this.publishProgress(ImportJobProgressDto.builder().job(ImportJobDto.toDto(job)).rowErrors(Collections.emptyList()).build());
+    }
+
+    private void publishProgress(ImportJobProgressDto progressDto) {
+        Message message = new Message();
+        message.setStatus(HttpStatus.OK);
+        message.setMessage("success");
+        message.setSocketBehavior(SOCKET_BEHAVIOR);
+        message.setData(progressDto);
+
+        try {
+            messagingTemplate.convertAndSend(progressDto.getJob().getDestination(), message);
+        } catch (RuntimeException e) {
+            // broker 연결 오류가 작업을 실패시키지 않도록 한다. 진행 상황은 조회 API 로 확인할 수 있다.
+            log.error("import job progress publish failed. jobId={}", progressDto.getJob().getId(), e);
+        }
+    }
+
+    private ImportJobHandler findHandler(String jobType) {
+        return importJobHandlers.orderedStream()
+                .filter(handler -> handler.getJobType().equals(jobType))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private ImportJobHandler getHandler(String jobType) {
+        ImportJobHandler handler = this.findHandler(jobType);
+        if (handler == null) {
+            throw new CustomInvalidDataException("지원하지 않는 가져오기 작업입니다. " + jobType);
+        }
+        return handler;
+    }
+}
@@ -0,0 +1,54 @@
+package com.piaar_store_manager.server.domain.import_job.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import com.piaar_store_manager.server.domain.import_job.dto.ImportJobRowErrorDto;
+
+/**
+ * 변환된 행과 행 단위 오류를 모아두었다가 chunkSize 개의 행이 모이면 하나의 트랜잭션으로 저장한다.
+ * 마지막 chunk 는 flush 로 저장한다.
+ */
+public class ImportJobChunkWriter<T> {
+    private final ImportJobContext context;
+    private final int chunkSize;
+    private final Function<List<T>, Integer> chunkInserter;
+
+    private final List<T> items = new ArrayList<>();
+    private final List<ImportJobRowErrorDto> rowErrors = new ArrayList<>();
+    private int rowCount = 0;
+
+    ImportJobChunkWriter(ImportJobContext context, int chunkSize, Function<List<T>, Integer> chunkInserter) {
+        this.context = context;
+        this.chunkSize = chunkSize;
+        this.chunkInserter = chunkInserter;
+    }
+
+    public void add(T item) {
+        items.add(item);
+        this.increaseRowCount();
+    }
+
+    public void addError(int rowNumber, String message) {
+        rowErrors.add(ImportJobRowErrorDto.of(rowNumber, message));
+        this.increaseRowCount();
+    }
+
+    public void flush() {
+        if (rowCount == 0) {
+            return;
+        }
+
+        context.commitChunk(rowCount, items, rowErrors, chunkInserter);
+        items.clear();
+        rowErrors.clear();
+        rowCount = 0;
+    }
+
+    private void increaseRowCount() {
+        if (++rowCount >= chunkSize) {
+            this.flush();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.piaar_store_manager.server.domain.import_job.service;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import com.piaar_store_manager.server.domain.import_job.dto.ImportJobDto;
+import com.piaar_store_manager.server.domain.import_job.dto.ImportJobProgressDto;
+import com.piaar_store_manager.server.domain.import_job.dto.ImportJobRowErrorDto;
+import com.piaar_store_manager.server.domain.import_job.entity.ImportJobEntity;
+
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 실행 중인 가져오기 작업의 정보와 chunk 저장 수단을 handler 에 제공한다.
+ * <p>
+ * handler 는 요청 스레드가 아닌 작업 스레드에서 실행되므로 SecurityContext 대신 getCreatedBy 를 사용한다.
+ */
+public class ImportJobContext {
+    private final ImportJobEntity job;
+    private final int resumeOffset;
+    private final int chunkSize;
+    private final TransactionTemplate transactionTemplate;
+    private final ImportJobService importJobService;
+    private final Consumer<ImportJobProgressDto> progressListener;
+
+    ImportJobContext(ImportJobEntity job, int chunkSize, TransactionTemplate transactionTemplate, ImportJobService importJobService, Consumer<ImportJobProgressDto> progressListener) {
+        this.job = job;
+        this.resumeOffset = job.getProcessedCount();
+        this.chunkSize = chunkSize;
+        this.transactionTemplate = transactionTemplate;
+        this.importJobService = importJobService;
+        this.progressListener = progressListener;
+    }
+
+    public UUID getJobId() {
+        return job.getId();
+    }
+
+    public Path getFilePath() {
+        return Paths.get(job.getFilePath());
+    }
+
+    public Integer getReferenceCid() {
+        return job.getReferenceCid();
+    }
+
+    public UUID getCreatedBy() {
+        return job.getCreatedBy();
+    }
+
+    /**
+     * 이전 실행에서 처리가 끝난 행 수. handler 는 앞쪽의 resumeOffset 개 행을 건너뛴다.
+     */
+    public int getResumeOffset() {
+        return resumeOffset;
+    }
+
+    public Integer getTotalCount() {
+        return job.getTotalCount();
+    }
+
+    public void changeTotalCount(int totalCount) {
+        job.setTotalCount(totalCount);
+        importJobService.changeTotalCount(job.getId(), totalCount);
+    }
+
+    /**
+     * chunkInserter 는 chunk 데이터를 저장하고 저장된 건수를 반환한다.
+     * 저장되지 않은 나머지 행(오류 행 제외)은 중복 등으로 제외된 행으로 집계한다.
+     *
+     * @param chunkInserter : Function::List::T::, Integer::
+     * @return ImportJobChunkWriter::T::
+     */
+    public <T> ImportJobChunkWriter<T> chunkWriter(Function<List<T>, Integer> chunkInserter) {
+        return new ImportJobChunkWriter<>(this, chunkSize, chunkInserter);
+    }
+
+    /**
+     * chunk 데이터 저장과 진행 상황 기록을 하나의 트랜잭션으로 처리하고, 커밋된 후 진행 상황을 전송한다.
+     * 작업 스레드가 interrupt 되었다면(서버 종료) 저장하지 않고 CancellationException 을 던진다.
+     */
+    <T> void commitChunk(int rowCount, List<T> items, List<ImportJobRowErrorDto> rowErrors, Function<List<T>, Integer> chunkInserter) {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new CancellationException();
+        }
+
+        ImportJobEntity updatedJob = transactionTemplate.execute(status -> {
+            int insertedCount = items.isEmpty() ? 0 : chunkInserter.apply(items);
+            return importJobService.increaseProgress(job.getId(), rowCount, insertedCount, rowErrors);
+        });
+        job.setProcessedCount(updatedJob.getProcessedCount());
+
+        progressListener.accept(ImportJobProgressDto.builder()
+                .job(ImportJobDto.toDto(updatedJob))
+                .rowErrors(new ArrayList<>(rowErrors))
+                .build());
+    }
+}
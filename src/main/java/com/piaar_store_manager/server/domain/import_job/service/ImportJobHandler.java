@@ -0,0 +1,13 @@
+package com.piaar_store_manager.server.domain.import_job.service;
+
+/**
+ * jobType 별 가져오기 작업 처리기.
+ * <p>
+ * ImportJobContext#chunkWriter 로 데이터를 chunk 단위로 저장해야 진행 상황이 기록되고,
+ * 재시작 시 ImportJobContext#getResumeOffset 이후의 행부터 이어서 처리할 수 있다.
+ */
+public interface ImportJobHandler {
+    String getJobType();
+
+    void execute(ImportJobContext context) throws Exception;
+}
@@ -0,0 +1,150 @@
+package com.piaar_store_manager.server.domain.import_job.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import javax.transaction.Transactional;
+
+import com.piaar_store_manager.server.domain.import_job.dto.ImportJobRowErrorDto;
+import com.piaar_store_manager.server.domain.import_job.entity.ImportJobEntity;
+import com.piaar_store_manager.server.domain.import_job.entity.ImportJobStatus;
+import com.piaar_store_manager.server.domain.import_job.repository.ImportJobRepository;
+import com.piaar_store_manager.server.exception.CustomNotFoundDataException;
+import com.piaar_store_manager.server.utils.CustomDateUtils;
+
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class ImportJobService {
+    private final ImportJobRepository importJobRepository;
+
+    // error_summary 에는 앞쪽 오류만 남기고, 전체 오류는 진행 상황 메세지로 전달한다.
+    private static final int ERROR_SUMMARY_MAX_LINES = 100;
+
+    /**
+     * <b>DB Insert Related Method</b>
+     * <p>
+     * 가져오기 작업을 저장한다.
+     *
+     * @param entity : ImportJobEntity
+     * @return ImportJobEntity
+     * @see ImportJobRepository#save
+     */
+    public ImportJobEntity saveAndGet(ImportJobEntity entity) {
+        return importJobRepository.save(entity);
+    }
+
+    /**
+     * <b>DB Select Related Method</b>
+     * <p>
+     * id 에 대응하는 가져오기 작업을 조회한다.
+     *
+     * @param id : UUID
+     * @return ImportJobEntity
+     * @see ImportJobRepository#selectById
+     */
+    public ImportJobEntity searchOne(UUID id) {
+        return importJobRepository.selectById(id).orElseThrow(() -> new CustomNotFoundDataException("데이터를 찾을 수 없습니다."));
+    }
+
+    /**
+     * <b>DB Select Related Method</b>
+     * <p>
+     * statuses 에 해당하는 가져오기 작업을 등록 순서대로 조회한다.
+     *
+     * @param statuses : Collection::String::
+     * @return List::ImportJobEntity::
+     * @see ImportJobRepository#selectAllByStatusIn
+     */
+    public List<ImportJobEntity> searchListByStatuses(Collection<String> statuses) {
+        return importJobRepository.selectAllByStatusIn(statuses);
+    }
+
+    /**
+     * <b>DB Update Related Method</b>
+     * <p>
+     * 작업 상태를 변경한다. 종료 상태로 변경되면 종료 시각을 기록하고, errorMessage 가 존재하면 오류 요약 앞에 추가한다.
+     *
+     * @param id           : UUID
+     * @param status       : String
+     * @param errorMessage : String
+     * @return ImportJobEntity
+     */
+    @Transactional
+    public ImportJobEntity changeStatus(UUID id, String status, String errorMessage) {
+        ImportJobEntity entity = this.searchOne(id);
+
+        entity.setStatus(status).setUpdatedAt(CustomDateUtils.getCurrentDateTime());
+        if (ImportJobStatus.isFinished(status)) {
+            entity.setFinishedAt(entity.getUpdatedAt());
+        }
+        if (errorMessage != null) {
+            entity.setErrorSummary(entity.getErrorSummary() == null ? errorMessage : errorMessage + "\n" + entity.getErrorSummary());
+        }
+        return entity;
+    }
+
+    /**
+     * <b>DB Update Related Method</b>
+     * <p>
+     * 작업 대상 전체 행 수를 기록한다.
+     *
+     * @param id         : UUID
+     * @param totalCount : int
+     */
+    @Transactional
+    public void changeTotalCount(UUID id, int totalCount) {
+        ImportJobEntity entity = this.searchOne(id);
+        entity.setTotalCount(totalCount).setUpdatedAt(CustomDateUtils.getCurrentDateTime());
+    }
+
+    /**
+     * <b>DB Update Related Method</b>
+     * <p>
+     * chunk 처리 결과를 누적한다. chunk 데이터 저장과 같은 트랜잭션에서 호출해야
+     * 재시작 시 processedCount 이후의 행부터 이어서 처리할 수 있다.
+     *
+     * @param id             : UUID
+     * @param processedCount : int
+     * @param insertedCount  : int
+     * @param rowErrors      : List::ImportJobRowErrorDto::
+     * @return ImportJobEntity
+     */
+    @Transactional
+    public ImportJobEntity increaseProgress(UUID id, int processedCount, int insertedCount, List<ImportJobRowErrorDto> rowErrors) {
+        ImportJobEntity entity = this.searchOne(id);
+        int skippedCount = processedCount - insertedCount - rowErrors.size();
+
+        entity.setProcessedCount(entity.getProcessedCount() + processedCount)
+                .setInsertedCount(entity.getInsertedCount() + insertedCount)
+                .setSkippedCount(entity.getSkippedCount() + skippedCount)
+                .setErrorCount(entity.getErrorCount() + rowErrors.size())
+                .setUpdatedAt(CustomDateUtils.getCurrentDateTime());
+
+        if (!rowErrors.isEmpty()) {
+            entity.setErrorSummary(appendErrorSummary(entity.getErrorSummary(), rowErrors));
+        }
+        return entity;
+    }
+
+    private String appendErrorSummary(String errorSummary, List<ImportJobRowErrorDto> rowErrors) {
+        StringBuilder sb = new StringBuilder(errorSummary == null ? "" : errorSummary);
+        int lineCount = errorSummary == null || errorSummary.isEmpty() ? 0 : errorSummary.split("\n").length;
+
+        for (ImportJobRowErrorDto rowError : rowErrors) {
+            if (lineCount >= ERROR_SUMMARY_MAX_LINES) {
+                break;
+            }
+            if (sb.length() > 0) {
+                sb.append("\n");
+            }
+            sb.append("[").append(rowError.getRowNumber()).append("행] ").append(rowError.getMessage());
+            lineCount++;
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,77 @@
+package com.piaar_store_manager.server.domain.message;
+
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * 소켓 topic 으로 전달되는 데이터 변경 이벤트.
+ * <p>
+ * type : CREATED, UPDATED, DELETED
+ * <p>
+ * ids : 변경된 데이터의 id. 클라이언트는 이 id 로 화면의 행을 갱신하거나 searchBatchByIds 로 해당 행만 다시 조회한다.
+ * <p>
+ * values : ids 전체에 공통으로 적용된 변경 값. (ex. salesYn, salesAt)
+ * <p>
+ * rows : 행마다 다른 변경 값. 각 행은 id 를 포함한다.
+ */
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class SocketChangeEvent {
+    public static final String CREATED = "CREATED";
+    public static final String UPDATED = "UPDATED";
+    public static final String DELETED = "DELETED";
+
+    private String type;
+    private List<UUID> ids = new ArrayList<>();
+    private Map<String, Object> values = new LinkedHashMap<>();
+    private List<Map<String, Object>> rows = new ArrayList<>();
+
+    public static SocketChangeEvent created(Collection<UUID> ids) {
+        return of(CREATED, ids);
+    }
+
+    public static SocketChangeEvent updated(Collection<UUID> ids) {
+        return of(UPDATED, ids);
+    }
+
+    public static SocketChangeEvent deleted(Collection<UUID> ids) {
+        return of(DELETED, ids);
+    }
+
+    private static SocketChangeEvent of(String type, Collection<UUID> ids) {
+        SocketChangeEvent event = new SocketChangeEvent();
+        event.type = type;
+        ids.stream().filter(Objects::nonNull).forEach(event.ids::add);
+        return event;
+    }
+
+    public SocketChangeEvent value(String fieldName, Object value) {
+        this.values.put(fieldName, value);
+        return this;
+    }
+
+    public SocketChangeEvent row(Map<String, Object> row) {
+        this.rows.add(row);
+        return this;
+    }
+
+    /**
+     * 같은 type, 같은 공통 변경 값을 가진 이벤트라면 하나로 합칠 수 있다.
+     */
+    public boolean canMerge(SocketChangeEvent other) {
+        return this.type.equals(other.type) && this.values.equals(other.values);
+    }
+
+    void merge(SocketChangeEvent other) {
+        this.ids.addAll(other.ids);
+        this.rows.addAll(other.rows);
+    }
+}
@@ -0,0 +1,47 @@
+package com.piaar_store_manager.server.domain.message;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 한 topic 에 짧은 시간동안 발행된 변경 이벤트를 모아 하나의 메세지로 전달하기 위한 버퍼.
+ * <p>
+ * 연속으로 추가된 이벤트가 같은 type, 같은 공통 변경 값을 가지면 id 와 행을 합친다.
+ * 순서가 다른 이벤트(ex. UPDATED 후 DELETED)는 합치지 않고 발생 순서대로 유지한다.
+ */
+public class SocketChangeEventBuffer {
+    private final List<SocketChangeEvent> events = new ArrayList<>();
+    private final Set<String> socketMemos = new LinkedHashSet<>();
+    private final Set<String> memos = new LinkedHashSet<>();
+
+    public void add(SocketChangeEvent event, String socketMemo, String memo) {
+        SocketChangeEvent last = events.isEmpty() ? null : events.get(events.size() - 1);
+
+        if (last != null && last.canMerge(event)) {
+            last.merge(event);
+        } else {
+            events.add(event);
+        }
+
+        if (socketMemo != null) {
+            socketMemos.add(socketMemo);
+        }
+        if (memo != null) {
+            memos.add(memo);
+        }
+    }
+
+    public List<SocketChangeEvent> getEvents() {
+        return events;
+    }
+
+    public String getSocketMemo() {
+        return socketMemos.isEmpty() ? null : String.join("\n", socketMemos);
+    }
+
+    public String getMemo() {
+        return memos.isEmpty() ? null : String.join("\n", memos);
+    }
+}
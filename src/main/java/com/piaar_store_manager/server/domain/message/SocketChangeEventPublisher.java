@@ -0,0 +1,95 @@
+package com.piaar_store_manager.server.domain.message;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 데이터 변경 이벤트를 소켓 topic 으로 발행한다.
+ * <p>
+ * 같은 topic 에 coalesce-window-millis 이내로 발행된 이벤트는 SocketChangeEventBuffer 로 모아 한 번만 전송한다.
+ * 메세지는 기존과 같이 Message 형식이며 message 는 success, socketBehavior 는 change-events, data 는 SocketChangeEvent 리스트이다.
+ */
+@Component
+@Slf4j
+public class SocketChangeEventPublisher {
+    public static final String SOCKET_BEHAVIOR = "change-events";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final long coalesceWindowMillis;
+    private final Map<String, SocketChangeEventBuffer> bufferByTopic = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "socket-change-event-publisher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SocketChangeEventPublisher(
+            SimpMessagingTemplate messagingTemplate,
+            @Value("${app.socket.coalesce-window-millis:200}") long coalesceWindowMillis
+    ) {
+        this.messagingTemplate = messagingTemplate;
+        this.coalesceWindowMillis = coalesceWindowMillis;
+    }
+
+    public void publish(String topic, SocketChangeEvent event) {
+        this.publish(topic, event, null, null);
+    }
+
+    /**
+     * topic 의 버퍼에 이벤트를 추가한다. 버퍼가 새로 생성되었다면 coalesceWindowMillis 이후 전송을 예약한다.
+     *
+     * @param topic      : String
+     * @param event      : SocketChangeEvent
+     * @param socketMemo : String
+     * @param memo       : String
+     */
+    public void publish(String topic, SocketChangeEvent event, String socketMemo, String memo) {
+        bufferByTopic.compute(topic, (key, buffer) -> {
+            if (buffer == null) {
+                buffer = new SocketChangeEventBuffer();
+                scheduler.schedule(() -> this.flush(topic), coalesceWindowMillis, TimeUnit.MILLISECONDS);
+            }
+            buffer.add(event, socketMemo, memo);
+            return buffer;
+        });
+    }
+
+    private void flush(String topic) {
+        SocketChangeEventBuffer buffer = bufferByTopic.remove(topic);
+        if (buffer == null) {
+            return;
+        }
+
+        Message message = new Message();
+        message.setStatus(HttpStatus.OK);
+        message.setMessage("success");
+        message.setSocketBehavior(SOCKET_BEHAVIOR);
+        message.setSocketMemo(buffer.getSocketMemo());
+        message.setMemo(buffer.getMemo());
+        message.setData(buffer.getEvents());
+
+        try {
+            messagingTemplate.convertAndSend(topic, message);
+        } catch (RuntimeException e) {
+            log.error("socket change event publish failed. topic={}", topic, e);
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        scheduler.shutdownNow();
+        bufferByTopic.keySet().forEach(this::flush);
+    }
+}
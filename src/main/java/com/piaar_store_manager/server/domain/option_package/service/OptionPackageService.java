@@ -1,22 +1,38 @@
 package com.piaar_store_manager.server.domain.option_package.service;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 import com.piaar_store_manager.server.domain.option_package.entity.OptionPackageEntity;
 import com.piaar_store_manager.server.domain.option_package.repository.OptionPackageRepository;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
 public class OptionPackageService {
+    private static final long COMPONENT_CACHE_TTL_MILLIS = 5 * 60 * 1000L;
+
     private final OptionPackageRepository optionPackageRepository;
 
+    // parentOptionId => 세트상품 구성옵션(bill of materials). 구성옵션이 없는 옵션은 빈 리스트로 캐싱한다.
+    private final Map<UUID, CachedComponents> componentCache = new ConcurrentHashMap<>();
+
     public void saveListAndModify(List<OptionPackageEntity> entities) {
         optionPackageRepository.saveAll(entities);
+        this.evictComponentCache(entities.stream().map(OptionPackageEntity::getParentOptionId).collect(Collectors.toSet()));
     }
 
     /**
@@ -45,6 +61,48 @@ public class OptionPackageService {
         return optionPackageRepository.findAllByParentOptionIdList(parentOptionIdList);
     }
 
+    /**
+     * <b>DB Select Related Method</b>
+     * <p>
+     * parentOptionIds에 대응하는 option package를 parentOptionId별로 묶어 반환한다.
+     * 캐시에 없거나 만료된 parentOptionId만 한 번의 IN 쿼리로 조회하고, 나머지는 캐시된 구성옵션을 사용한다.
+     * 반환되는 리스트는 수정할 수 없다.
+     *
+     * @param parentOptionIds : Collection::UUID::
+     * @return Map::UUID, List::OptionPackageEntity::::
+     * @see OptionPackageRepository#findAllByParentOptionIdList
+     */
+    public Map<UUID, List<OptionPackageEntity>> searchComponentMapByParentOptionIds(Collection<UUID> parentOptionIds) {
+        long now = System.currentTimeMillis();
+        Map<UUID, List<OptionPackageEntity>> componentMap = new HashMap<>();
+        Set<UUID> missingIds = new HashSet<>();
+
+        for (UUID parentOptionId : parentOptionIds) {
+            if (parentOptionId == null || componentMap.containsKey(parentOptionId)) {
+                continue;
+            }
+
+            CachedComponents cached = componentCache.get(parentOptionId);
+            if (cached != null && cached.expiredAt > now) {
+                componentMap.put(parentOptionId, cached.components);
+            } else {
+                missingIds.add(parentOptionId);
+            }
+        }
+
+        if (!missingIds.isEmpty()) {
+            Map<UUID, List<OptionPackageEntity>> loaded = optionPackageRepository.findAllByParentOptionIdList(List.copyOf(missingIds)).stream()
+                    .collect(Collectors.groupingBy(OptionPackageEntity::getParentOptionId));
+
+            missingIds.forEach(parentOptionId -> {
+                List<OptionPackageEntity> components = Collections.unmodifiableList(loaded.getOrDefault(parentOptionId, Collections.emptyList()));
+                componentCache.put(parentOptionId, new CachedComponents(components, now + COMPONENT_CACHE_TTL_MILLIS));
+                componentMap.put(parentOptionId, components);
+            });
+        }
+        return componentMap;
+    }
+
     /**
      * <b>DB Select Related Method</b>
      * <p>
@@ -55,5 +113,37 @@ public class OptionPackageService {
      */
     public void deleteBatchByParentOptionId(UUID parentOptionId) {
         optionPackageRepository.deleteBatchByParentOptionId(parentOptionId);
+        this.evictComponentCache(Collections.singleton(parentOptionId));
+    }
+
+    /**
+     * 구성옵션이 변경된 parentOptionId의 캐시를 제거한다.
+     * 트랜잭션 안에서 호출되면 커밋 이전의 데이터가 다시 캐싱되지 않도록 커밋 이후에 한 번 더 제거한다.
+     *
+     * @param parentOptionIds : Collection::UUID::
+     */
+    private void evictComponentCache(Collection<UUID> parentOptionIds) {
+        Set<UUID> ids = new HashSet<>(parentOptionIds);
+        ids.remove(null);
+        componentCache.keySet().removeAll(ids);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    componentCache.keySet().removeAll(ids);
+                }
+            });
+        }
+    }
+
+    private static class CachedComponents {
+        private final List<OptionPackageEntity> components;
+        private final long expiredAt;
+
+        private CachedComponents(List<OptionPackageEntity> components, long expiredAt) {
+            this.components = components;
+            this.expiredAt = expiredAt;
+        }
     }
 }
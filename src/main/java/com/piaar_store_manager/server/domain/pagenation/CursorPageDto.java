@@ -0,0 +1,31 @@
+package com.piaar_store_manager.server.domain.pagenation;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.experimental.Accessors;
+
+/**
+ * Keyset(seek) 페이지 조회 결과.
+ * nextCursor 를 다음 요청의 cursor 파라미터로 전달하면 이어지는 데이터를 조회한다.
+ * totalElements 는 전체 개수를 요청한 경우에만 채워진다.
+ */
+@Builder
+@Getter
+@Setter
+@ToString
+@Accessors(chain = true)
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPageDto<T> {
+    private List<T> content;
+    private Integer size;
+    private Boolean hasNext;
+    private String nextCursor;
+    private Long totalElements;
+}
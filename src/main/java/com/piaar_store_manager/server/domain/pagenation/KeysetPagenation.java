@@ -0,0 +1,136 @@
+package com.piaar_store_manager.server.domain.pagenation;
+
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.piaar_store_manager.server.exception.CustomInvalidDataException;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.JPQLQuery;
+
+import org.springframework.data.domain.Sort;
+
+/**
+ * Keyset(seek) 페이지 조회의 정렬, 커서 조건, 결과 변환을 처리한다.
+ * <p>
+ * 첫번째 정렬 키(sortPath) + cid desc 로 정렬하며, 정렬 키가 cid 라면 cid 로만 정렬한다.
+ * 정렬 키 값이 같은 데이터는 cid 로 구분하므로 정렬 키에 null 이나 중복 값이 있어도 누락, 중복 없이 조회된다.
+ */
+public final class KeysetPagenation {
+    public static final String CID_PROPERTY = "cid";
+
+    private KeysetPagenation() {
+    }
+
+    public static boolean isCidOrder(Sort.Order order) {
+        return order.getProperty().equals(CID_PROPERTY);
+    }
+
+    /**
+     * params 의 cursor 를 PagenationCursor 로 변환한다. 첫 페이지라면 null 을 반환한다.
+     *
+     * @param params : Map::String, Object::
+     * @return PagenationCursor
+     */
+    public static PagenationCursor getCursor(Map<String, Object> params) {
+        Object cursor = params.get("cursor");
+
+        if (cursor == null || cursor.toString().isBlank()) {
+            return null;
+        }
+        return PagenationCursor.decode(cursor.toString());
+    }
+
+    /**
+     * 정렬 조건을 추가한다. 정렬 키가 cid 라면 sortPath 는 사용하지 않는다.
+     *
+     * @param customQuery : JPQLQuery
+     * @param order       : Sort.Order
+     * @param cid         : NumberPath::Integer::
+     * @param sortPath    : Expression
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public static void orderBy(JPQLQuery<?> customQuery, Sort.Order order, NumberPath<Integer> cid, Expression<?> sortPath) {
+        if (isCidOrder(order)) {
+            customQuery.orderBy(order.isAscending() ? cid.asc() : cid.desc());
+            return;
+        }
+        customQuery.orderBy(new OrderSpecifier(order.isAscending() ? Order.ASC : Order.DESC, sortPath), cid.desc());
+    }
+
+    /**
+     * 커서 이후의 데이터 조건을 만든다. (정렬 키 order, cid desc 기준)
+     * MySQL 은 ASC 정렬 시 null 을 가장 앞에, DESC 정렬 시 가장 뒤에 위치시킨다.
+     *
+     * @param order          : Sort.Order
+     * @param cursor         : PagenationCursor
+     * @param cid            : NumberPath::Integer::
+     * @param sortPath       : Expression
+     * @param valueConverter : Function::String, Object:: : 커서의 정렬 키 값을 sortPath 타입으로 변환한다.
+     * @return BooleanExpression
+     */
+    public static BooleanExpression afterCursor(Sort.Order order, PagenationCursor cursor, NumberPath<Integer> cid, Expression<?> sortPath, Function<String, ?> valueConverter) {
+        if (cursor == null) {
+            return null;
+        }
+
+        if (isCidOrder(order)) {
+            return order.isAscending() ? cid.gt(cursor.getCid()) : cid.lt(cursor.getCid());
+        }
+
+        BooleanExpression isNull = Expressions.booleanOperation(Ops.IS_NULL, sortPath);
+        BooleanExpression isNotNull = Expressions.booleanOperation(Ops.IS_NOT_NULL, sortPath);
+
+        if (cursor.getSortValue() == null) {
+            BooleanExpression sameValue = isNull.and(cid.lt(cursor.getCid()));
+            return order.isAscending() ? sameValue.or(isNotNull) : sameValue;
+        }
+
+        Expression<?> sortValue = Expressions.constant(convertCursorValue(valueConverter, cursor.getSortValue()));
+        BooleanExpression nextValue = Expressions.booleanOperation(order.isAscending() ? Ops.GT : Ops.LT, sortPath, sortValue);
+        BooleanExpression sameValue = Expressions.booleanOperation(Ops.EQ, sortPath, sortValue).and(cid.lt(cursor.getCid()));
+
+        return order.isAscending() ? nextValue.or(sameValue) : nextValue.or(sameValue).or(isNull);
+    }
+
+    /**
+     * pageSize + 1 개를 조회한 결과로 다음 페이지 존재 여부를 판단하고, 마지막 데이터로 다음 커서를 만든다.
+     *
+     * @param results   : List::T::
+     * @param pageSize  : int
+     * @param cursorOf  : Function::T, PagenationCursor::
+     * @return CursorPageDto::T::
+     */
+    public static <T> CursorPageDto<T> toCursorPage(List<? extends T> results, int pageSize, Function<T, PagenationCursor> cursorOf) {
+        boolean hasNext = results.size() > pageSize;
+        List<T> content = new ArrayList<>(hasNext ? results.subList(0, pageSize) : results);
+
+        String nextCursor = null;
+        if (hasNext) {
+            nextCursor = cursorOf.apply(content.get(content.size() - 1)).encode();
+        }
+
+        return CursorPageDto.<T>builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private static Object convertCursorValue(Function<String, ?> valueConverter, String value) {
+        try {
+            return valueConverter.apply(value);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CustomInvalidDataException("올바른 커서 값이 아닙니다.");
+        }
+    }
+}
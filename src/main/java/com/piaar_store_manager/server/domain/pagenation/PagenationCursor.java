@@ -0,0 +1,46 @@
+package com.piaar_store_manager.server.domain.pagenation;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.piaar_store_manager.server.exception.CustomInvalidDataException;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Keyset(seek) 페이지 조회에 사용하는 커서.
+ * 마지막으로 조회된 데이터의 정렬 컬럼 값(sortValue)과 cid 를 가진다.
+ * <p>
+ * 클라이언트에는 "cid:N" 또는 "cid:V{sortValue}" 형태의 문자열을 Base64 URL 인코딩해서 전달한다.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class PagenationCursor {
+    private String sortValue;   // 정렬 컬럼 값이 null 이라면 null
+    private Integer cid;
+
+    public static PagenationCursor of(Object sortValue, Integer cid) {
+        return new PagenationCursor(sortValue != null ? sortValue.toString() : null, cid);
+    }
+
+    public String encode() {
+        String raw = cid + ":" + (sortValue == null ? "N" : "V" + sortValue);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PagenationCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.indexOf(":");
+            Integer cid = Integer.valueOf(raw.substring(0, separatorIndex));
+            String sortValue = raw.charAt(separatorIndex + 1) == 'N' ? null : raw.substring(separatorIndex + 2);
+
+            return new PagenationCursor(sortValue, cid);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new CustomInvalidDataException("올바른 커서 값이 아닙니다.");
+        }
+    }
+}
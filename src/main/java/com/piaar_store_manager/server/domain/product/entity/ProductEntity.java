@@ -21,7 +21,7 @@ import java.util.UUID;
 @ToString
 @Table(name = "product")
 @Accessors(chain = true)
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class ProductEntity {
@@ -10,6 +10,7 @@ import com.piaar_store_manager.server.domain.option_package.service.OptionPackag
 import com.piaar_store_manager.server.domain.product.dto.ProductGetDto;
 import com.piaar_store_manager.server.domain.product.entity.ProductEntity;
 import com.piaar_store_manager.server.domain.product.proj.ProductProj;
+import com.piaar_store_manager.server.domain.product_catalog.service.ProductCatalogCache;
 import com.piaar_store_manager.server.domain.product_option.dto.ProductOptionGetDto;
 import com.piaar_store_manager.server.domain.product_option.entity.ProductOptionEntity;
 import com.piaar_store_manager.server.domain.product_option.service.ProductOptionService;
@@ -30,6 +31,7 @@ public class ProductBusinessService {
     private final ProductOptionService productOptionService;
     private final OptionPackageService optionPackageService;
     private final UserService userService;
+    private final ProductCatalogCache productCatalogCache;
 
     public ProductGetDto searchOne(Integer productCid) {
         ProductEntity entity = productService.searchOne(productCid);
@@ -159,6 +161,8 @@ public class ProductBusinessService {
 
         ProductEntity entity = ProductEntity.toEntity(productGetDto);
         productService.saveAndModify(entity);
+
+        productCatalogCache.invalidateAll();
     }
 
     public void createList(List<ProductGetDto> productGetDto) {
@@ -172,6 +176,8 @@ public class ProductBusinessService {
         }).collect(Collectors.toList());
 
         productService.saveListAndModify(productEntities);
+
+        productCatalogCache.invalidateAll();
     }
 
     /**
@@ -226,6 +232,8 @@ public class ProductBusinessService {
 
         // Save OptionPackage
         optionPackageService.saveListAndModify(optionPackageEntities);
+
+        productCatalogCache.invalidateAll();
     }
 
     /**
@@ -242,6 +250,8 @@ public class ProductBusinessService {
 
     public void destroyOne(Integer productCid) {
         productService.destroyOne(productCid);
+
+        productCatalogCache.invalidateAll();
     }
 
     /**
@@ -277,6 +287,8 @@ public class ProductBusinessService {
         optionEntities.stream().forEach(r -> r.setTotalPurchasePrice(productEntity.getDefaultTotalPurchasePrice()));
 
         productOptionService.saveListAndModify(optionEntities);
+
+        productCatalogCache.invalidateAll();
     }
 
     /**
@@ -360,5 +372,7 @@ public class ProductBusinessService {
         }
         productEntity.setUpdatedAt(DateHandler.getCurrentDate2()).setUpdatedBy(USER_ID);
         productService.saveAndModify(productEntity);
+
+        productCatalogCache.invalidateAll();
     }
 }
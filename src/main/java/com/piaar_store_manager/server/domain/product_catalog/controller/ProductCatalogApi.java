@@ -0,0 +1,41 @@
+package com.piaar_store_manager.server.domain.product_catalog.controller;
+
+import com.piaar_store_manager.server.annotation.RequiredLogin;
+import com.piaar_store_manager.server.domain.message.Message;
+import com.piaar_store_manager.server.domain.product_catalog.service.ProductCatalogCache;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/v1/product-catalog")
+@RequiredArgsConstructor
+@RequiredLogin
+public class ProductCatalogApi {
+    private final ProductCatalogCache productCatalogCache;
+
+    /**
+     * Search product catalog cache stats.
+     * 상품 카탈로그 캐시의 크기와 hit, miss, 적재, 제거, 무효화 횟수를 조회한다.
+     * <p>
+     * <b>GET : API URL => /api/v1/product-catalog/cache-stats</b>
+     *
+     * @return ResponseEntity(message, HttpStatus)
+     * @see ProductCatalogCache#getStats
+     */
+    @GetMapping("/cache-stats")
+    public ResponseEntity<?> searchCacheStats() {
+        Message message = new Message();
+
+        message.setData(productCatalogCache.getStats());
+        message.setStatus(HttpStatus.OK);
+        message.setMessage("success");
+
+        return new ResponseEntity<>(message, message.getStatus());
+    }
+}
@@ -0,0 +1,29 @@
+package com.piaar_store_manager.server.domain.product_catalog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 상품 카탈로그 캐시 통계. 애플리케이션 시작 이후 누적값이다.
+ * hitCount, missCount 는 옵션코드 단위이며 전체 목록 조회는 allHitCount, allMissCount 로 따로 센다.
+ */
+@Builder
+@Getter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProductCatalogCacheStatsDto {
+    private Integer size;
+    private Integer maxSize;
+    private Long hitCount;
+    private Long missCount;
+    private Double hitRate;
+    private Long allHitCount;
+    private Long allMissCount;
+    private Long loadCount;
+    private Long evictionCount;
+    private Long invalidationCount;
+}
@@ -0,0 +1,65 @@
+package com.piaar_store_manager.server.domain.product_catalog.dto;
+
+import com.piaar_store_manager.server.domain.product.entity.ProductEntity;
+import com.piaar_store_manager.server.domain.product_catalog.proj.ProductCatalogProj;
+import com.piaar_store_manager.server.domain.product_category.entity.ProductCategoryEntity;
+import com.piaar_store_manager.server.domain.product_option.entity.ProductOptionEntity;
+
+/**
+ * 상품 카탈로그 캐시에 저장되는 option, product, category 의 사본.
+ * <p>
+ * 캐시된 값은 여러 요청이 공유하기 때문에 getter 는 매번 새로운 사본을 반환한다.
+ * 반환된 엔터티는 영속성 컨텍스트에서 관리되지 않으며, 수정해도 캐시에 반영되지 않는다.
+ */
+public class ProductCatalogEntry {
+    private final ProductOptionEntity productOption;
+    private final ProductEntity product;
+    private final ProductCategoryEntity productCategory;
+
+    private ProductCatalogEntry(ProductOptionEntity productOption, ProductEntity product, ProductCategoryEntity productCategory) {
+        this.productOption = productOption;
+        this.product = product;
+        this.productCategory = productCategory;
+    }
+
+    public static ProductCatalogEntry of(ProductOptionEntity productOption, ProductEntity product, ProductCategoryEntity productCategory) {
+        return new ProductCatalogEntry(copy(productOption), copy(product), copy(productCategory));
+    }
+
+    public static ProductCatalogEntry toEntry(ProductCatalogProj proj) {
+        return of(proj.getProductOption(), proj.getProduct(), proj.getProductCategory());
+    }
+
+    public String getOptionCode() {
+        return productOption.getCode();
+    }
+
+    public boolean hasProduct() {
+        return product != null;
+    }
+
+    public ProductOptionEntity getProductOption() {
+        return copy(productOption);
+    }
+
+    public ProductEntity getProduct() {
+        return copy(product);
+    }
+
+    public ProductCategoryEntity getProductCategory() {
+        return copy(productCategory);
+    }
+
+    private static ProductOptionEntity copy(ProductOptionEntity entity) {
+        // 재고수량(receivedSum, releasedSum, stockSumUnit)은 캐시하지 않는다.
+        return entity == null ? null : entity.toBuilder().receivedSum(null).releasedSum(null).stockSumUnit(null).build();
+    }
+
+    private static ProductEntity copy(ProductEntity entity) {
+        return entity == null ? null : entity.toBuilder().build();
+    }
+
+    private static ProductCategoryEntity copy(ProductCategoryEntity entity) {
+        return entity == null ? null : entity.toBuilder().build();
+    }
+}
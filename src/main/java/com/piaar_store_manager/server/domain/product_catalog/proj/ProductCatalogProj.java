@@ -0,0 +1,14 @@
+package com.piaar_store_manager.server.domain.product_catalog.proj;
+
+import com.piaar_store_manager.server.domain.product.entity.ProductEntity;
+import com.piaar_store_manager.server.domain.product_category.entity.ProductCategoryEntity;
+import com.piaar_store_manager.server.domain.product_option.entity.ProductOptionEntity;
+
+/**
+ * option 과 option 이 속한 product, category 를 LEFT JOIN 한 결과
+ */
+public interface ProductCatalogProj {
+    ProductOptionEntity getProductOption();
+    ProductEntity getProduct();
+    ProductCategoryEntity getProductCategory();
+}
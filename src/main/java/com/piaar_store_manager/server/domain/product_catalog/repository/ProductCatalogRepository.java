@@ -0,0 +1,38 @@
+package com.piaar_store_manager.server.domain.product_catalog.repository;
+
+import java.util.List;
+
+import com.piaar_store_manager.server.domain.product_catalog.proj.ProductCatalogProj;
+import com.piaar_store_manager.server.domain.product_option.entity.ProductOptionEntity;
+
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ProductCatalogRepository extends org.springframework.data.repository.Repository<ProductOptionEntity, Integer> {
+    /**
+     * codes 에 대응하는 option 과 option 이 속한 product, category 를 조회한다.
+     *
+     * @param codes : List::String::
+     * @return List::ProductCatalogProj::
+     */
+    @Query(
+        "SELECT po AS productOption, p AS product, pc AS productCategory FROM ProductOptionEntity po\n" +
+        "LEFT JOIN ProductEntity p ON p.cid = po.productCid\n" +
+        "LEFT JOIN ProductCategoryEntity pc ON pc.cid = p.productCategoryCid\n" +
+        "WHERE po.code IN :codes"
+    )
+    List<ProductCatalogProj> selectListByOptionCodes(List<String> codes);
+
+    /**
+     * 모든 option 과 option 이 속한 product, category 를 조회한다.
+     *
+     * @return List::ProductCatalogProj::
+     */
+    @Query(
+        "SELECT po AS productOption, p AS product, pc AS productCategory FROM ProductOptionEntity po\n" +
+        "LEFT JOIN ProductEntity p ON p.cid = po.productCid\n" +
+        "LEFT JOIN ProductCategoryEntity pc ON pc.cid = p.productCategoryCid"
+    )
+    List<ProductCatalogProj> selectAll();
+}
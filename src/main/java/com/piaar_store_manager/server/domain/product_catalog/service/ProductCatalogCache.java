@@ -0,0 +1,257 @@
+package com.piaar_store_manager.server.domain.product_catalog.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import com.piaar_store_manager.server.domain.product_catalog.dto.ProductCatalogCacheStatsDto;
+import com.piaar_store_manager.server.domain.product_catalog.dto.ProductCatalogEntry;
+import com.piaar_store_manager.server.domain.product_catalog.repository.ProductCatalogRepository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 옵션코드로 option, product, category 를 조회하는 read-through 캐시.
+ * <p>
+ * 옵션코드 단위로 최대 maxSize 개를 LRU 순서로 유지하고, 존재하지 않는 옵션코드도 함께 캐시한다.
+ * 저장된 값은 expireAfterWriteMillis 가 지나면 다시 조회하므로 다른 서버에서 변경된 데이터도 그 이후에는 반영된다.
+ * <p>
+ * product, option, category 가 변경되면 invalidateAll 로 전체를 비운다. 트랜잭션 안에서 호출되면 커밋(또는 롤백) 후에 한번 더 비워
+ * 커밋 전에 다른 요청이 이전 값을 다시 캐시하는 경우를 막는다.
+ * 조회 도중 무효화가 일어났다면 조회한 값은 캐시하지 않는다.
+ */
+@Component
+public class ProductCatalogCache {
+    private static final int LOAD_CHUNK_SIZE = 1000;
+
+    private final ProductCatalogRepository productCatalogRepository;
+    private final int maxSize;
+    private final long expireAfterWriteMillis;
+
+    // access order LinkedHashMap. this 로 동기화한다.
+    private final LinkedHashMap<String, CachedValue> entries;
+    private CachedAll cachedAll;
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder allHitCount = new LongAdder();
+    private final LongAdder allMissCount = new LongAdder();
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder invalidationCount = new LongAdder();
+
+    @Autowired
+    public ProductCatalogCache(
+            ProductCatalogRepository productCatalogRepository,
+            @Value("${app.product-catalog.cache.max-size:20000}") int maxSize,
+            @Value("${app.product-catalog.cache.expire-after-write-seconds:300}") long expireAfterWriteSeconds
+    ) {
+        this.productCatalogRepository = productCatalogRepository;
+        this.maxSize = maxSize;
+        this.expireAfterWriteMillis = expireAfterWriteSeconds * 1000;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedValue> eldest) {
+                if (size() > ProductCatalogCache.this.maxSize) {
+                    evictionCount.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * optionCodes 에 대응하는 카탈로그를 옵션코드 key 로 반환한다. 존재하지 않는 옵션코드는 결과에 포함되지 않는다.
+     * 캐시에 없는 옵션코드만 LOAD_CHUNK_SIZE 개씩 나누어 조회한다.
+     *
+     * @param optionCodes : Collection::String::
+     * @return Map::String, ProductCatalogEntry::
+     * @see ProductCatalogRepository#selectListByOptionCodes
+     */
+    public Map<String, ProductCatalogEntry> getByOptionCodes(Collection<String> optionCodes) {
+        Map<String, ProductCatalogEntry> result = new HashMap<>();
+        List<String> missCodes = new ArrayList<>();
+        long now = System.currentTimeMillis();
+
+        synchronized (this) {
+            for (String optionCode : new LinkedHashSet<>(optionCodes)) {
+                if (optionCode == null) {
+                    continue;
+                }
+
+                CachedValue cachedValue = entries.get(optionCode);
+                if (cachedValue == null || cachedValue.isExpired(now, expireAfterWriteMillis)) {
+                    missCodes.add(optionCode);
+                    continue;
+                }
+
+                hitCount.increment();
+                if (cachedValue.entry != null) {
+                    result.put(optionCode, cachedValue.entry);
+                }
+            }
+        }
+
+        if (missCodes.isEmpty()) {
+            return result;
+        }
+
+        missCount.add(missCodes.size());
+        long loadGeneration = generation.get();
+        Map<String, ProductCatalogEntry> loadedEntries = new HashMap<>();
+        for (int i = 0; i < missCodes.size(); i += LOAD_CHUNK_SIZE) {
+            List<String> chunkCodes = missCodes.subList(i, Math.min(i + LOAD_CHUNK_SIZE, missCodes.size()));
+            productCatalogRepository.selectListByOptionCodes(chunkCodes).stream()
+                    .map(ProductCatalogEntry::toEntry)
+                    .forEach(entry -> loadedEntries.putIfAbsent(entry.getOptionCode(), entry));
+            loadCount.increment();
+        }
+
+        synchronized (this) {
+            if (generation.get() == loadGeneration) {
+                long loadedAt = System.currentTimeMillis();
+                missCodes.forEach(optionCode -> entries.put(optionCode, new CachedValue(loadedEntries.get(optionCode), loadedAt)));
+            }
+        }
+
+        result.putAll(loadedEntries);
+        return result;
+    }
+
+    /**
+     * optionCode 에 대응하는 카탈로그를 반환한다. 존재하지 않는다면 null 을 반환한다.
+     *
+     * @param optionCode : String
+     * @return ProductCatalogEntry
+     */
+    public ProductCatalogEntry getByOptionCode(String optionCode) {
+        return this.getByOptionCodes(Collections.singletonList(optionCode)).get(optionCode);
+    }
+
+    /**
+     * 모든 카탈로그를 반환한다.
+     * 옵션 수가 maxSize 이하일 때만 전체 목록을 캐시하며, 조회한 값으로 옵션코드 단위 캐시도 함께 채운다.
+     *
+     * @return List::ProductCatalogEntry::
+     * @see ProductCatalogRepository#selectAll
+     */
+    public List<ProductCatalogEntry> getAll() {
+        long now = System.currentTimeMillis();
+
+        synchronized (this) {
+            if (cachedAll != null && !cachedAll.isExpired(now, expireAfterWriteMillis)) {
+                allHitCount.increment();
+                return cachedAll.entries;
+            }
+        }
+
+        allMissCount.increment();
+        long loadGeneration = generation.get();
+        List<ProductCatalogEntry> loadedEntries = productCatalogRepository.selectAll().stream()
+                .map(ProductCatalogEntry::toEntry)
+                .collect(Collectors.toList());
+        loadCount.increment();
+
+        if (loadedEntries.size() <= maxSize) {
+            synchronized (this) {
+                if (generation.get() == loadGeneration) {
+                    long loadedAt = System.currentTimeMillis();
+                    cachedAll = new CachedAll(Collections.unmodifiableList(loadedEntries), loadedAt);
+                    loadedEntries.forEach(entry -> entries.put(entry.getOptionCode(), new CachedValue(entry, loadedAt)));
+                }
+            }
+        }
+        return loadedEntries;
+    }
+
+    /**
+     * 캐시를 모두 비운다. 트랜잭션 안에서 호출되면 트랜잭션이 끝난 후 한번 더 비운다.
+     */
+    public void invalidateAll() {
+        invalidationCount.increment();
+        this.clear();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    clear();
+                }
+            });
+        }
+    }
+
+    public ProductCatalogCacheStatsDto getStats() {
+        long hits = hitCount.sum();
+        long misses = missCount.sum();
+        int size;
+        synchronized (this) {
+            size = entries.size();
+        }
+
+        return ProductCatalogCacheStatsDto.builder()
+                .size(size)
+                .maxSize(maxSize)
+                .hitCount(hits)
+                .missCount(misses)
+                .hitRate(hits + misses == 0 ? 0.0 : (double) hits / (hits + misses))
+                .allHitCount(allHitCount.sum())
+                .allMissCount(allMissCount.sum())
+                .loadCount(loadCount.sum())
+                .evictionCount(evictionCount.sum())
+                .invalidationCount(invalidationCount.sum())
+                .build();
+    }
+
+    private synchronized void clear() {
+        generation.incrementAndGet();
+        entries.clear();
+        cachedAll = null;
+    }
+
+    /*
+    entry 가 null 이라면 존재하지 않는 옵션코드이다.
+     */
+    private static class CachedValue {
+        private final ProductCatalogEntry entry;
+        private final long loadedAt;
+
+        private CachedValue(ProductCatalogEntry entry, long loadedAt) {
+            this.entry = entry;
+            this.loadedAt = loadedAt;
+        }
+
+        private boolean isExpired(long now, long expireAfterWriteMillis) {
+            return now - loadedAt >= expireAfterWriteMillis;
+        }
+    }
+
+    private static class CachedAll {
+        private final List<ProductCatalogEntry> entries;
+        private final long loadedAt;
+
+        private CachedAll(List<ProductCatalogEntry> entries, long loadedAt) {
+            this.entries = Objects.requireNonNull(entries);
+            this.loadedAt = loadedAt;
+        }
+
+        private boolean isExpired(long now, long expireAfterWriteMillis) {
+            return now - loadedAt >= expireAfterWriteMillis;
+        }
+    }
+}
@@ -1,13 +1,20 @@
 package com.piaar_store_manager.server.domain.product_category.controller;
 
+import com.piaar_store_manager.server.annotation.PermissionRole;
 import com.piaar_store_manager.server.annotation.RequiredLogin;
 import com.piaar_store_manager.server.domain.message.Message;
+import com.piaar_store_manager.server.domain.product_category.dto.ProductCategoryGetDto;
 import com.piaar_store_manager.server.domain.product_category.service.ProductCategoryBusinessService;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -33,4 +40,55 @@ public class ProductCategoryApiController {
 
         return new ResponseEntity<>(message, message.getStatus());
     }
+
+    /**
+     * Create one api for product category.
+     * <p>
+     * <b>POST : API URL => /api/v1/product-category/one</b>
+     */
+    @PostMapping("/one")
+    @PermissionRole
+    public ResponseEntity<?> createOne(@RequestBody ProductCategoryGetDto categoryDto) {
+        Message message = new Message();
+
+        productCategoryBusinessService.createOne(categoryDto);
+        message.setStatus(HttpStatus.OK);
+        message.setMessage("success");
+
+        return new ResponseEntity<>(message, message.getStatus());
+    }
+
+    /**
+     * Change one api for product category.
+     * <p>
+     * <b>PUT : API URL => /api/v1/product-category/one</b>
+     */
+    @PutMapping("/one")
+    @PermissionRole
+    public ResponseEntity<?> changeOne(@RequestBody ProductCategoryGetDto categoryDto) {
+        Message message = new Message();
+
+        productCategoryBusinessService.changeOne(categoryDto);
+        message.setStatus(HttpStatus.OK);
+        message.setMessage("success");
+
+        return new ResponseEntity<>(message, message.getStatus());
+    }
+
+    /**
+     * Destroy( Delete or Remove ) one api for product category.
+     * <p>
+     * <b>DELETE : API URL => /api/v1/product-category/one/{categoryCid}</b>
+     */
+    @PermissionRole(role = "ROLE_SUPERADMIN")
+    @DeleteMapping("/one/{categoryCid}")
+    public ResponseEntity<?> destroyOne(@PathVariable(value = "categoryCid") Integer categoryCid) {
+        Message message = new Message();
+
+        productCategoryBusinessService.destroyOne(categoryCid);
+        message.setStatus(HttpStatus.OK);
+        message.setMessage("success");
+
+        return new ResponseEntity<>(message, message.getStatus());
+    }
 }
@@ -19,7 +19,7 @@ import com.piaar_store_manager.server.domain.product_category.dto.ProductCategor
 @Data
 @Accessors(chain = true)
 @Table(name = "product_category")
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class ProductCategoryEntity {
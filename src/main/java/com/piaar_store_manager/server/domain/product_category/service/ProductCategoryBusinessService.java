@@ -3,20 +3,71 @@ package com.piaar_store_manager.server.domain.product_category.service;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import com.piaar_store_manager.server.domain.product_catalog.service.ProductCatalogCache;
 import com.piaar_store_manager.server.domain.product_category.dto.ProductCategoryGetDto;
 import com.piaar_store_manager.server.domain.product_category.entity.ProductCategoryEntity;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class ProductCategoryBusinessService {
     private final ProductCategoryService productCategoryService;
+    private final ProductCatalogCache productCatalogCache;
 
     public List<ProductCategoryGetDto> searchList(){
         List<ProductCategoryEntity> productCategoryEntities = productCategoryService.searchList();
         List<ProductCategoryGetDto> productCategoryGetDtos = productCategoryEntities.stream().map(entity -> ProductCategoryGetDto.toDto(entity)).collect(Collectors.toList());
         return productCategoryGetDtos;
     }
+
+    /**
+     * <b>DB Insert Related Method</b>
+     * <p>
+     * 단일 category 를 등록한다. 상품 카탈로그 캐시에는 category 가 함께 저장되므로 캐시를 비운다.
+     *
+     * @param categoryDto : ProductCategoryGetDto
+     * @see ProductCategoryService#saveAndModify
+     * @see ProductCatalogCache#invalidateAll
+     */
+    public void createOne(ProductCategoryGetDto categoryDto) {
+        productCategoryService.saveAndModify(ProductCategoryEntity.toEntity(categoryDto));
+
+        productCatalogCache.invalidateAll();
+    }
+
+    /**
+     * <b>DB Update Related Method</b>
+     * <p>
+     * 단일 category 의 id, name 을 수정한다.
+     *
+     * @param categoryDto : ProductCategoryGetDto
+     * @see ProductCategoryService#searchOne
+     * @see ProductCatalogCache#invalidateAll
+     */
+    @Transactional
+    public void changeOne(ProductCategoryGetDto categoryDto) {
+        ProductCategoryEntity categoryEntity = productCategoryService.searchOne(categoryDto.getCid());
+
+        categoryEntity.setId(categoryDto.getId()).setName(categoryDto.getName());
+
+        productCatalogCache.invalidateAll();
+    }
+
+    /**
+     * <b>DB Delete Related Method</b>
+     * <p>
+     * 단일 category 를 삭제한다.
+     *
+     * @param categoryCid : Integer
+     * @see ProductCategoryService#destroyOne
+     * @see ProductCatalogCache#invalidateAll
+     */
+    public void destroyOne(Integer categoryCid) {
+        productCategoryService.destroyOne(categoryCid);
+
+        productCatalogCache.invalidateAll();
+    }
 }
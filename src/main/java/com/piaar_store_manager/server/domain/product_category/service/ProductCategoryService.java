@@ -4,9 +4,11 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Optional;
 
 import com.piaar_store_manager.server.domain.product_category.entity.ProductCategoryEntity;
 import com.piaar_store_manager.server.domain.product_category.repository.ProductCategoryRepository;
+import com.piaar_store_manager.server.exception.CustomNotFoundDataException;
 
 @Service
 @RequiredArgsConstructor
@@ -16,4 +18,24 @@ public class ProductCategoryService {
     public List<ProductCategoryEntity> searchList(){
         return productCategoryRepository.findAll();
     }
+
+    public ProductCategoryEntity searchOne(Integer categoryCid) {
+        Optional<ProductCategoryEntity> categoryEntityOpt = productCategoryRepository.findById(categoryCid);
+
+        if (categoryEntityOpt.isPresent()) {
+            return categoryEntityOpt.get();
+        } else {
+            throw new CustomNotFoundDataException("데이터를 찾을 수 없습니다.");
+        }
+    }
+
+    public void saveAndModify(ProductCategoryEntity entity) {
+        productCategoryRepository.save(entity);
+    }
+
+    public void destroyOne(Integer categoryCid) {
+        productCategoryRepository.findById(categoryCid).ifPresent(category -> {
+            productCategoryRepository.delete(category);
+        });
+    }
 }
@@ -21,7 +21,7 @@ import java.util.stream.Collectors;
 @Data
 @Table(name = "product_option")
 @Accessors(chain = true)
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class ProductOptionEntity {
@@ -3,8 +3,6 @@ package com.piaar_store_manager.server.domain.product_option.repository;
 import java.util.List;
 import java.util.Optional;
 
-import javax.persistence.Tuple;
-
 import com.piaar_store_manager.server.domain.product_option.entity.ProductOptionEntity;
 import com.piaar_store_manager.server.domain.product_option.proj.ProductOptionProj;
 
@@ -85,20 +83,6 @@ public interface ProductOptionRepository extends JpaRepository<ProductOptionEnti
     )
     List<ProductOptionEntity> searchListByProductCids(List<Integer> productCids);
 
-    /**
-     * 다중 ProductOption cid에 대응하는 옵션데이터의 재고수량을 계산한다.
-     * option cid값에 대응하는 입고데이터의 모든 수량합을 조회한다.
-     * option cid값에 대응하는 출고데이터의 모든 수량합을 조회한다.
-     * 
-     * @param optionCids : List::Integer::
-     * @return po.cid, sum(receive_unit), sum(release_unit)
-     */
-    @Query(value="SELECT po.cid AS cid, \n" +
-                "(SELECT SUM(prl.release_unit) FROM product_release prl WHERE po.cid=prl.product_option_cid) AS releasedSum, \n" + 
-                "(SELECT SUM(prc.receive_unit) FROM product_receive prc WHERE po.cid=prc.product_option_cid) AS receivedSum \n" +
-                "FROM product_option po WHERE po.cid IN :optionCids", nativeQuery = true)
-    List<Tuple> sumStockUnitByOption(List<Integer> optionCids);
-
     @Query(
         "SELECT po FROM ProductOptionEntity po\n" +
         "WHERE po.cid IN :cids"
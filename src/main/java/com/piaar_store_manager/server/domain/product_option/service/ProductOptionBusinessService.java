@@ -13,6 +13,7 @@ import com.piaar_store_manager.server.domain.product_option.dto.ProductOptionGet
 import com.piaar_store_manager.server.domain.product_option.dto.ProductOptionStockStatusDto;
 import com.piaar_store_manager.server.domain.product_option.entity.ProductOptionEntity;
 import com.piaar_store_manager.server.domain.product_option.proj.ProductOptionProj;
+import com.piaar_store_manager.server.domain.product_catalog.service.ProductCatalogCache;
 import com.piaar_store_manager.server.domain.product_receive.dto.ProductReceiveGetDto;
 import com.piaar_store_manager.server.domain.product_receive.entity.ProductReceiveEntity;
 import com.piaar_store_manager.server.domain.product_receive.proj.ProductReceiveProj;
@@ -38,6 +39,7 @@ public class ProductOptionBusinessService {
     private final ProductOptionService productOptionService;
     private final OptionPackageService optionPackageService;
     private final UserService userService;
+    private final ProductCatalogCache productCatalogCache;
 
     public ProductOptionGetDto searchOne(Integer productOptionCid) {
         ProductOptionEntity entity = productOptionService.searchOne(productOptionCid);
@@ -188,6 +190,8 @@ public class ProductOptionBusinessService {
             .setUpdatedAt(DateHandler.getCurrentDate2()).setUpdatedBy(USER_ID);
 
         productOptionService.saveAndModify(ProductOptionEntity.toEntity(optionGetDto));
+
+        productCatalogCache.invalidateAll();
     }
 
     /**
@@ -227,10 +231,14 @@ public class ProductOptionBusinessService {
 
         // option package save
         optionPackageService.saveListAndModify(optionPackageEntities);
+
+        productCatalogCache.invalidateAll();
     }
 
     public void destroyOne(Integer productOptionCid) {
         productOptionService.destroyOne(productOptionCid);
+
+        productCatalogCache.invalidateAll();
     }
 
     public void changeOne(ProductOptionGetDto productOptionDto) {
@@ -253,6 +261,8 @@ public class ProductOptionBusinessService {
                 .setProductCid(productOptionDto.getProductCid());
 
         productOptionService.saveAndModify(optionEntity);
+
+        productCatalogCache.invalidateAll();
     }
 
     /**
@@ -311,6 +321,8 @@ public class ProductOptionBusinessService {
         }).collect(Collectors.toList());
 
         optionPackageService.saveListAndModify(newOptionPackageEntities);
+
+        productCatalogCache.invalidateAll();
     }
 
     public void patchOne(ProductOptionGetDto productOptionDto) {
@@ -364,5 +376,7 @@ public class ProductOptionBusinessService {
         }
         productOptionEntity.setUpdatedAt(DateHandler.getCurrentDate2()).setUpdatedBy(USER_ID);
         productOptionService.saveAndModify(productOptionEntity);
+
+        productCatalogCache.invalidateAll();
     }
 }
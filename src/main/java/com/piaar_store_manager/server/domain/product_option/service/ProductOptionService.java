@@ -1,27 +1,32 @@
 package com.piaar_store_manager.server.domain.product_option.service;
 
+import com.piaar_store_manager.server.domain.product_catalog.dto.ProductCatalogEntry;
+import com.piaar_store_manager.server.domain.product_catalog.service.ProductCatalogCache;
 import com.piaar_store_manager.server.domain.product_option.dto.ProductOptionGetDto;
 import com.piaar_store_manager.server.domain.product_option.dto.ReceiveReleaseSumOnlyDto;
 import com.piaar_store_manager.server.domain.product_option.entity.ProductOptionEntity;
 import com.piaar_store_manager.server.domain.product_option.proj.ProductOptionProj;
 import com.piaar_store_manager.server.domain.product_option.repository.ProductOptionRepository;
+import com.piaar_store_manager.server.domain.product_option_stock.entity.ProductOptionStockEntity;
+import com.piaar_store_manager.server.domain.product_option_stock.service.ProductOptionStockService;
 import com.piaar_store_manager.server.exception.CustomNotFoundDataException;
 
 import org.springframework.stereotype.Service;
 
 import lombok.RequiredArgsConstructor;
 
-import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import javax.persistence.Tuple;
-
 @Service
 @RequiredArgsConstructor
 public class ProductOptionService {
     private final ProductOptionRepository productOptionRepository;
+    private final ProductOptionStockService productOptionStockService;
+    private final ProductCatalogCache productCatalogCache;
 
     public ProductOptionEntity searchOne(Integer productOptionCid) {
         Optional<ProductOptionEntity> productOptionEntityOpt = productOptionRepository.findById(productOptionCid);
@@ -93,6 +98,22 @@ public class ProductOptionService {
         return productOptionRepository.findAllByCids(cids);
     }
 
+    /**
+     * <b>DB Select Related Method</b>
+     * <p>
+     * optionCodes에 대응되는 option 데이터를 모두 조회한다. 재고수량은 계산하지 않는다.
+     * 상품 카탈로그 캐시에서 조회하므로 반환된 엔터티는 영속성 컨텍스트에서 관리되지 않는다.
+     *
+     * @param optionCodes : List::String::
+     * @return List::ProductOptionEntity::
+     * @see ProductCatalogCache#getByOptionCodes
+     */
+    public List<ProductOptionEntity> searchEntityListByOptionCodes(List<String> optionCodes) {
+        return productCatalogCache.getByOptionCodes(optionCodes).values().stream()
+                .map(ProductCatalogEntry::getProductOption)
+                .collect(Collectors.toList());
+    }
+
     /**
      * <b>DB Select Related Method</b>
      * <p>
@@ -118,11 +139,11 @@ public class ProductOptionService {
      *
      * @param productCids : List::Integer::
      * @return List::ProductOptionGetDto::
-     * @see ProductOptionRepository#selectListByCodes
+     * @see ProductOptionService#searchEntityListByOptionCodes
      * @see ProductOptionService#searchStockUnit
      */
     public List<ProductOptionGetDto> searchListByOptionCodes(List<String> optionCodes) {
-        List<ProductOptionEntity> productOptionEntities = productOptionRepository.selectListByCodes(optionCodes);
+        List<ProductOptionEntity> productOptionEntities = this.searchEntityListByOptionCodes(optionCodes);
         List<ProductOptionGetDto> productOptionGetDtos = this.searchStockUnit(productOptionEntities);
         return productOptionGetDtos;
     }
@@ -142,15 +163,15 @@ public class ProductOptionService {
         List<Integer> productOptionCids = entities.stream().map(r -> r.getCid()).collect(Collectors.toList());
         List<ProductOptionGetDto> productOptionGetDtos = entities.stream().map(entity -> ProductOptionGetDto.toDto(entity)).collect(Collectors.toList());
 
-        List<ReceiveReleaseSumOnlyDto> stockUnitByOption = this.sumStockUnit(productOptionCids);
+        Map<Integer, ReceiveReleaseSumOnlyDto> stockUnitByOption = this.sumStockUnit(productOptionCids).stream()
+                .collect(Collectors.toMap(ReceiveReleaseSumOnlyDto::getOptionCid, Function.identity(), (a, b) -> a));
 
         for(ProductOptionGetDto dto : productOptionGetDtos) {
-            stockUnitByOption.stream().forEach(r -> {
-                if(dto.getCid().equals(r.getOptionCid())){
-                    dto.setReceivedSumUnit(r.getReceivedSum()).setReleasedSumUnit(r.getReleasedSum())
-                        .setStockSumUnit(r.getReceivedSum() - r.getReleasedSum());
-                }
-            });
+            ReceiveReleaseSumOnlyDto r = stockUnitByOption.get(dto.getCid());
+            if(r != null) {
+                dto.setReceivedSumUnit(r.getReceivedSum()).setReleasedSumUnit(r.getReleasedSum())
+                    .setStockSumUnit(r.getReceivedSum() - r.getReleasedSum());
+            }
         }
         return productOptionGetDtos;
     }
@@ -173,18 +194,18 @@ public class ProductOptionService {
      * <b>DB Select Related Method</b>
      * <p>
      * cids에 대응되는 옵션 조회,
-     * receive(입고)와 release(출고) 데이터를 이용해 재고수량을 계산한다.
+     * 옵션별 재고 집계 데이터(product_option_stock)에서 입고수량합과 출고수량합을 조회한다.
      * 
      * @param cids : List::Integer::
-     * @see ProductOptionRepository#sumStockUnitByOption
+     * @see ProductOptionStockService#searchListByOptionCids
      */
     public List<ReceiveReleaseSumOnlyDto> sumStockUnit(List<Integer> cids) {
-        List<Tuple> stockUnitTuple = productOptionRepository.sumStockUnitByOption(cids);
-        List<ReceiveReleaseSumOnlyDto> stockUnitByOption = stockUnitTuple.stream().map(r -> {
+        List<ProductOptionStockEntity> stockEntities = productOptionStockService.searchListByOptionCids(cids);
+        List<ReceiveReleaseSumOnlyDto> stockUnitByOption = stockEntities.stream().map(r -> {
             ReceiveReleaseSumOnlyDto dto = ReceiveReleaseSumOnlyDto.builder()
-                    .optionCid(r.get("cid", Integer.class))
-                    .receivedSum(r.get("receivedSum", BigDecimal.class) != null ? r.get("receivedSum", BigDecimal.class).intValue() : 0)
-                    .releasedSum(r.get("releasedSum", BigDecimal.class) != null ? r.get("releasedSum", BigDecimal.class).intValue() : 0)
+                    .optionCid(r.getProductOptionCid())
+                    .receivedSum(r.getReceivedSum())
+                    .releasedSum(r.getReleasedSum())
                     .build();
 
             return dto;
@@ -201,10 +222,10 @@ public class ProductOptionService {
      * @return Integer
      */
     public Integer findOptionCidByCode(String optionCode) {
-        Optional<ProductOptionEntity> optionEntityOpt = productOptionRepository.findByCode(optionCode);
+        ProductCatalogEntry catalogEntry = productCatalogCache.getByOptionCode(optionCode);
         
-        if(optionEntityOpt.isPresent()) {
-            return optionEntityOpt.get().getCid();
+        if(catalogEntry != null) {
+            return catalogEntry.getProductOption().getCid();
         }else{
             throw new CustomNotFoundDataException("존재하지 않는 데이터입니다.");
         }
@@ -216,24 +237,21 @@ public class ProductOptionService {
      * productOptionCids값에 대응되는 총 옵션수량, 출고수량, 재고수량을 조회한다.
      * 
      * @param entities List::ProductOptionEntity::
-     * @see ProductOptionRepository#sumStockUnitByOption
+     * @see ProductOptionStockService#searchListByOptionCids
      */
     public void setReceivedAndReleasedAndStockSum(List<ProductOptionEntity> entities){
         List<Integer> productOptionCids = entities.stream().map(r -> r.getCid()).collect(Collectors.toList());
 
-        List<Tuple> stockUnitTuple = productOptionRepository.sumStockUnitByOption(productOptionCids);
-        stockUnitTuple.forEach(r -> {
-            Integer cid = r.get("cid", Integer.class);
-            Integer receivedSum = r.get("receivedSum", BigDecimal.class) != null ? r.get("receivedSum", BigDecimal.class).intValue() : 0;
-            Integer releasedSum = r.get("releasedSum", BigDecimal.class) != null ? r.get("releasedSum", BigDecimal.class).intValue() : 0;
-
-            entities.forEach(entity -> {
-                if(entity.getCid().equals(cid)){
-                    entity.setReceivedSum(receivedSum);
-                    entity.setReleasedSum(releasedSum);
-                    entity.setStockSumUnit(receivedSum - releasedSum);
-                }
-            });
+        Map<Integer, ProductOptionStockEntity> stockMap = productOptionStockService.searchListByOptionCids(productOptionCids).stream()
+                .collect(Collectors.toMap(ProductOptionStockEntity::getProductOptionCid, Function.identity(), (a, b) -> a));
+
+        entities.forEach(entity -> {
+            ProductOptionStockEntity stock = stockMap.get(entity.getCid());
+            if(stock != null) {
+                entity.setReceivedSum(stock.getReceivedSum());
+                entity.setReleasedSum(stock.getReleasedSum());
+                entity.setStockSumUnit(stock.getStockSumUnit());
+            }
         });
     }
 
@@ -0,0 +1,29 @@
+package com.piaar_store_manager.server.domain.product_option_stock.dto;
+
+import lombok.*;
+import lombok.experimental.Accessors;
+
+import java.util.UUID;
+
+/**
+ * 재고 입출고 요청 한 건.
+ * <p>
+ * optionCode 또는 optionCid 로 옵션을 지정하며 optionCode 가 우선한다. 세트상품 옵션은 구성옵션별로 분해되어 반영된다.
+ * <p>
+ * erpOrderItemId : 출고 데이터에만 기록되며, 재고 반영된 주문건을 식별하는 데 사용한다.
+ */
+@Builder
+@Getter
+@Setter
+@ToString
+@Accessors(chain = true)
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProductOptionStockMovementDto {
+    private String optionCode;
+    private Integer optionCid;
+    private Integer unit;
+    private String memo;
+    private UUID erpOrderItemId;
+    private UUID createdBy;
+}
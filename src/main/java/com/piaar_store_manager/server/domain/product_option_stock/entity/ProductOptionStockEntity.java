@@ -0,0 +1,45 @@
+package com.piaar_store_manager.server.domain.product_option_stock.entity;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+
+/**
+ * 옵션별 입고수량합, 출고수량합을 누적 관리하는 재고 집계 테이블.
+ * <p>
+ * product_receive, product_release 에 데이터가 등록/수정/삭제될 때 같은 트랜잭션에서 함께 갱신된다.
+ */
+@Entity
+@Table(name = "product_option_stock")
+@Data
+@Accessors(chain = true)
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductOptionStockEntity {
+    @Id
+    @Column(name = "product_option_cid")
+    private Integer productOptionCid;
+
+    @Column(name = "received_sum")
+    private Integer receivedSum;
+
+    @Column(name = "released_sum")
+    private Integer releasedSum;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public Integer getStockSumUnit() {
+        return receivedSum - releasedSum;
+    }
+}
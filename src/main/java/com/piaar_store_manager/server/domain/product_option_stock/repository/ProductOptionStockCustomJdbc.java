@@ -0,0 +1,17 @@
+package com.piaar_store_manager.server.domain.product_option_stock.repository;
+
+import java.util.List;
+
+import com.piaar_store_manager.server.domain.product_option_stock.entity.ProductOptionStockEntity;
+
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ProductOptionStockCustomJdbc {
+    void jdbcInitialize(List<Integer> optionCids);
+    void jdbcBulkIncrease(List<ProductOptionStockEntity> deltas);
+    void jdbcRefresh(List<Integer> optionCids);
+    List<ProductOptionStockEntity> jdbcSumLedgerByOptionCids(List<Integer> optionCids);
+    List<Integer> jdbcSearchAllOptionCids();
+    int jdbcDeleteOrphans();
+}
@@ -0,0 +1,176 @@
+package com.piaar_store_manager.server.domain.product_option_stock.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.piaar_store_manager.server.domain.product_option_stock.entity.ProductOptionStockEntity;
+import com.piaar_store_manager.server.utils.CustomDateUtils;
+
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class ProductOptionStockJdbcImpl implements ProductOptionStockCustomJdbc {
+    private final JdbcTemplate jdbcTemplate;
+    private final int DEFAULT_BATCH_SIZE = 300;
+
+    private static final String LEDGER_SUM_COLUMNS =
+            "IFNULL((SELECT SUM(prc.receive_unit) FROM product_receive prc WHERE prc.product_option_cid=po.cid), 0), " +
+            "IFNULL((SELECT SUM(prl.release_unit) FROM product_release prl WHERE prl.product_option_cid=po.cid), 0)";
+
+    /**
+     * 집계 데이터가 없는 옵션의 집계 데이터를 입고, 출고 테이블의 수량합으로 생성한다.
+     * 이미 집계 데이터가 존재하는 옵션은 변경하지 않는다.
+     * 입고, 출고 데이터를 등록하기 전에 호출해야 이후 반영되는 증감분이 중복으로 더해지지 않는다.
+     *
+     * @param optionCids : List::Integer::
+     */
+    @Override
+    public void jdbcInitialize(List<Integer> optionCids) {
+        if (optionCids.isEmpty()) {
+            return;
+        }
+
+        String sql = "INSERT IGNORE INTO product_option_stock" +
+                "(product_option_cid, received_sum, released_sum, updated_at)\n" +
+                "SELECT po.cid, " + LEDGER_SUM_COLUMNS + ", ?\n" +
+                "FROM product_option po\n" +
+                "WHERE po.cid IN (" + placeholders(optionCids.size()) + ")\n" +
+                "AND NOT EXISTS (SELECT 1 FROM product_option_stock pos WHERE pos.product_option_cid=po.cid)";
+
+        List<Object> args = new ArrayList<>();
+        args.add(CustomDateUtils.getCurrentDateTime());
+        args.addAll(optionCids);
+        jdbcTemplate.update(sql, args.toArray());
+    }
+
+    /**
+     * 옵션별 입고수량, 출고수량 증감분을 집계 데이터에 더한다.
+     *
+     * @param deltas : List::ProductOptionStockEntity::
+     */
+    @Override
+    public void jdbcBulkIncrease(List<ProductOptionStockEntity> deltas) {
+        List<ProductOptionStockEntity> subItems = new ArrayList<>();
+        for (int i = 0; i < deltas.size(); i++) {
+            subItems.add(deltas.get(i));
+            if ((i + 1) % DEFAULT_BATCH_SIZE == 0) {
+                batchIncrease(subItems);
+            }
+        }
+        if (!subItems.isEmpty()) {
+            batchIncrease(subItems);
+        }
+    }
+
+    private void batchIncrease(List<ProductOptionStockEntity> subItems) {
+        String sql = "INSERT INTO product_option_stock" +
+                "(product_option_cid, received_sum, released_sum, updated_at)" +
+                "VALUES" +
+                "(?, ?, ?, ?)\n" +
+                "ON DUPLICATE KEY UPDATE\n" +
+                "received_sum=received_sum+VALUES(received_sum),\n" +
+                "released_sum=released_sum+VALUES(released_sum),\n" +
+                "updated_at=VALUES(updated_at)";
+
+        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ProductOptionStockEntity entity = subItems.get(i);
+                ps.setInt(1, entity.getProductOptionCid());
+                ps.setInt(2, entity.getReceivedSum());
+                ps.setInt(3, entity.getReleasedSum());
+                ps.setObject(4, entity.getUpdatedAt());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return subItems.size();
+            }
+        });
+
+        subItems.clear();
+    }
+
+    /**
+     * 옵션의 집계 데이터를 입고, 출고 테이블의 수량합으로 다시 계산한다.
+     * 하나의 문장으로 실행되기 때문에 계산 도중 등록된 입고, 출고 데이터의 증감분을 덮어쓰지 않는다.
+     *
+     * @param optionCids : List::Integer::
+     */
+    @Override
+    public void jdbcRefresh(List<Integer> optionCids) {
+        if (optionCids.isEmpty()) {
+            return;
+        }
+
+        String sql = "INSERT INTO product_option_stock" +
+                "(product_option_cid, received_sum, released_sum, updated_at)\n" +
+                "SELECT po.cid, " + LEDGER_SUM_COLUMNS + ", ?\n" +
+                "FROM product_option po\n" +
+                "WHERE po.cid IN (" + placeholders(optionCids.size()) + ")\n" +
+                "ON DUPLICATE KEY UPDATE\n" +
+                "received_sum=VALUES(received_sum),\n" +
+                "released_sum=VALUES(released_sum),\n" +
+                "updated_at=VALUES(updated_at)";
+
+        List<Object> args = new ArrayList<>();
+        args.add(CustomDateUtils.getCurrentDateTime());
+        args.addAll(optionCids);
+        jdbcTemplate.update(sql, args.toArray());
+    }
+
+    /**
+     * 입고, 출고 테이블에서 직접 옵션별 수량합을 계산한다.
+     *
+     * @param optionCids : List::Integer::
+     * @return List::ProductOptionStockEntity::
+     */
+    @Override
+    public List<ProductOptionStockEntity> jdbcSumLedgerByOptionCids(List<Integer> optionCids) {
+        if (optionCids.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        String sql = "SELECT po.cid, " + LEDGER_SUM_COLUMNS + "\n" +
+                "FROM product_option po\n" +
+                "WHERE po.cid IN (" + placeholders(optionCids.size()) + ")";
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> ProductOptionStockEntity.builder()
+                .productOptionCid(rs.getInt(1))
+                .receivedSum(rs.getInt(2))
+                .releasedSum(rs.getInt(3))
+                .build(), optionCids.toArray());
+    }
+
+    @Override
+    public List<Integer> jdbcSearchAllOptionCids() {
+        return jdbcTemplate.queryForList("SELECT cid FROM product_option ORDER BY cid", Integer.class);
+    }
+
+    /**
+     * 삭제된 옵션의 집계 데이터를 제거한다.
+     *
+     * @return int : 제거된 데이터 수
+     */
+    @Override
+    public int jdbcDeleteOrphans() {
+        String sql = "DELETE pos FROM product_option_stock pos\n" +
+                "LEFT JOIN product_option po ON po.cid=pos.product_option_cid\n" +
+                "WHERE po.cid IS NULL";
+
+        return jdbcTemplate.update(sql);
+    }
+
+    private String placeholders(int size) {
+        return String.join(", ", Collections.nCopies(size, "?"));
+    }
+}
@@ -0,0 +1,25 @@
+package com.piaar_store_manager.server.domain.product_option_stock.repository;
+
+import java.util.List;
+
+import com.piaar_store_manager.server.domain.product_option_stock.entity.ProductOptionStockEntity;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ProductOptionStockRepository extends JpaRepository<ProductOptionStockEntity, Integer> {
+
+    /**
+     * 다중 ProductOption cid에 대응하는 재고 집계 데이터를 조회한다.
+     *
+     * @param optionCids : List::Integer::
+     * @return List::ProductOptionStockEntity::
+     */
+    @Query(
+        "SELECT pos FROM ProductOptionStockEntity pos\n" +
+        "WHERE pos.productOptionCid IN :optionCids"
+    )
+    List<ProductOptionStockEntity> findAllByOptionCids(List<Integer> optionCids);
+}
@@ -0,0 +1,116 @@
+package com.piaar_store_manager.server.domain.product_option_stock.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.piaar_store_manager.server.domain.option_package.entity.OptionPackageEntity;
+import com.piaar_store_manager.server.domain.product_option.entity.ProductOptionEntity;
+import com.piaar_store_manager.server.domain.product_option_stock.dto.ProductOptionStockMovementDto;
+
+/**
+ * 입출고 요청을 실제 재고가 변동되는 옵션 단위(StockLeg)로 분해한다.
+ * <p>
+ * 옵션은 code, cid 로, 세트상품 구성옵션은 parentOptionId 로 미리 색인해두기 때문에
+ * 요청 수 x 옵션 수 x 구성옵션 수 만큼 비교하던 중첩 반복 없이 요청 수 + 구성옵션 수에 비례하는 시간에 분해된다.
+ * 옵션을 찾을 수 없는 요청은 분해 결과에서 제외한다.
+ */
+public class ProductOptionStockMovementPlan {
+    private static final String PACKAGE_Y = "y";
+
+    private final Map<String, ProductOptionEntity> optionByCode = new HashMap<>();
+    private final Map<Integer, ProductOptionEntity> optionByCid = new HashMap<>();
+    private final Map<UUID, List<OptionPackageEntity>> componentsByParentOptionId;
+
+    private ProductOptionStockMovementPlan(Collection<ProductOptionEntity> options, Map<UUID, List<OptionPackageEntity>> componentsByParentOptionId) {
+        options.forEach(option -> {
+            if (option.getCode() != null) {
+                optionByCode.putIfAbsent(option.getCode(), option);
+            }
+            optionByCid.putIfAbsent(option.getCid(), option);
+        });
+        this.componentsByParentOptionId = componentsByParentOptionId;
+    }
+
+    /**
+     * @param options                    : Collection::ProductOptionEntity::
+     * @param componentsByParentOptionId : Map::UUID, List::OptionPackageEntity::::
+     * @return ProductOptionStockMovementPlan
+     */
+    public static ProductOptionStockMovementPlan of(Collection<ProductOptionEntity> options, Map<UUID, List<OptionPackageEntity>> componentsByParentOptionId) {
+        return new ProductOptionStockMovementPlan(options, componentsByParentOptionId);
+    }
+
+    public static boolean isPackageOption(ProductOptionEntity option) {
+        return PACKAGE_Y.equals(option.getPackageYn());
+    }
+
+    /**
+     * 요청 순서를 유지하면서 일반 옵션은 그대로, 세트상품은 구성옵션별로 (packageUnit x unit) 수량의 StockLeg 를 만든다.
+     *
+     * @param movements : List::ProductOptionStockMovementDto::
+     * @return List::StockLeg::
+     */
+    public List<StockLeg> expand(List<ProductOptionStockMovementDto> movements) {
+        List<StockLeg> legs = new ArrayList<>(movements.size());
+
+        for (ProductOptionStockMovementDto movement : movements) {
+            ProductOptionEntity option = this.resolveOption(movement);
+            if (option == null || movement.getUnit() == null) {
+                continue;
+            }
+
+            if (!isPackageOption(option)) {
+                legs.add(new StockLeg(movement, option.getCid(), option.getId(), movement.getUnit()));
+                continue;
+            }
+
+            List<OptionPackageEntity> components = componentsByParentOptionId.getOrDefault(option.getId(), Collections.emptyList());
+            for (OptionPackageEntity component : components) {
+                legs.add(new StockLeg(movement, component.getOriginOptionCid(), component.getOriginOptionId(), component.getPackageUnit() * movement.getUnit()));
+            }
+        }
+        return legs;
+    }
+
+    private ProductOptionEntity resolveOption(ProductOptionStockMovementDto movement) {
+        if (movement.getOptionCode() != null) {
+            return optionByCode.get(movement.getOptionCode());
+        }
+        return movement.getOptionCid() == null ? null : optionByCid.get(movement.getOptionCid());
+    }
+
+    public static class StockLeg {
+        private final ProductOptionStockMovementDto movement;
+        private final Integer optionCid;
+        private final UUID optionId;
+        private final int unit;
+
+        private StockLeg(ProductOptionStockMovementDto movement, Integer optionCid, UUID optionId, int unit) {
+            this.movement = movement;
+            this.optionCid = optionCid;
+            this.optionId = optionId;
+            this.unit = unit;
+        }
+
+        public ProductOptionStockMovementDto getMovement() {
+            return movement;
+        }
+
+        public Integer getOptionCid() {
+            return optionCid;
+        }
+
+        public UUID getOptionId() {
+            return optionId;
+        }
+
+        public int getUnit() {
+            return unit;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.piaar_store_manager.server.domain.product_option_stock.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import com.piaar_store_manager.server.domain.option_package.entity.OptionPackageEntity;
+import com.piaar_store_manager.server.domain.option_package.service.OptionPackageService;
+import com.piaar_store_manager.server.domain.product_option.entity.ProductOptionEntity;
+import com.piaar_store_manager.server.domain.product_option.service.ProductOptionService;
+import com.piaar_store_manager.server.domain.product_option_stock.dto.ProductOptionStockMovementDto;
+import com.piaar_store_manager.server.domain.product_receive.entity.ProductReceiveEntity;
+import com.piaar_store_manager.server.domain.product_receive.service.ProductReceiveService;
+import com.piaar_store_manager.server.domain.product_release.entity.ProductReleaseEntity;
+import com.piaar_store_manager.server.domain.product_release.service.ProductReleaseService;
+import com.piaar_store_manager.server.utils.CustomDateUtils;
+import com.piaar_store_manager.server.utils.CustomUuidUtils;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주문 재고반영, 배송준비 출고/출고취소, 입출고 일괄등록이 공통으로 사용하는 재고 입출고 처리.
+ * <p>
+ * 옵션 조회 1회, 세트상품 구성옵션 조회(캐시) 1회, jdbc batch insert 로 요청 수에 비례하는 시간에 처리한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProductOptionStockMovementService {
+    private final ProductOptionService productOptionService;
+    private final OptionPackageService optionPackageService;
+    private final ProductReleaseService productReleaseService;
+    private final ProductReceiveService productReceiveService;
+
+    /**
+     * <b>DB Insert Related Method</b>
+     * <p>
+     * 요청을 옵션 단위로 분해해 release 데이터를 일괄 등록하고 재고 집계 데이터에 반영한다.
+     * 옵션을 찾을 수 없는 요청은 제외되며, 등록된 release 의 erpOrderItemId 로 반영된 주문건을 확인할 수 있다.
+     *
+     * @param movements : List::ProductOptionStockMovementDto::
+     * @return List::ProductReleaseEntity::
+     * @see ProductOptionStockMovementService#createPlan
+     * @see ProductReleaseService#bulkInsert
+     */
+    @Transactional
+    public List<ProductReleaseEntity> release(List<ProductOptionStockMovementDto> movements) {
+        LocalDateTime now = CustomDateUtils.getCurrentDateTime();
+        List<ProductReleaseEntity> releaseEntities = this.createPlan(movements).expand(movements).stream().map(leg -> {
+            ProductOptionStockMovementDto movement = leg.getMovement();
+            return new ProductReleaseEntity()
+                    .setId(CustomUuidUtils.timeOrderedUuid())
+                    .setReleaseUnit(leg.getUnit())
+                    .setMemo(movement.getMemo())
+                    .setCreatedAt(now)
+                    .setCreatedBy(movement.getCreatedBy())
+                    .setProductOptionCid(leg.getOptionCid())
+                    .setProductOptionId(leg.getOptionId())
+                    .setErpOrderItemId(movement.getErpOrderItemId());
+        }).collect(Collectors.toList());
+
+        if (!releaseEntities.isEmpty()) {
+            productReleaseService.bulkInsert(releaseEntities);
+        }
+        return releaseEntities;
+    }
+
+    /**
+     * <b>DB Insert Related Method</b>
+     * <p>
+     * 요청을 옵션 단위로 분해해 receive 데이터를 일괄 등록하고 재고 집계 데이터에 반영한다.
+     *
+     * @param movements : List::ProductOptionStockMovementDto::
+     * @return List::ProductReceiveEntity::
+     * @see ProductOptionStockMovementService#createPlan
+     * @see ProductReceiveService#bulkInsert
+     */
+    @Transactional
+    public List<ProductReceiveEntity> receive(List<ProductOptionStockMovementDto> movements) {
+        LocalDateTime now = CustomDateUtils.getCurrentDateTime();
+        List<ProductReceiveEntity> receiveEntities = this.createPlan(movements).expand(movements).stream().map(leg -> {
+            ProductOptionStockMovementDto movement = leg.getMovement();
+            return new ProductReceiveEntity()
+                    .setId(UUID.randomUUID())
+                    .setReceiveUnit(leg.getUnit())
+                    .setMemo(movement.getMemo())
+                    .setCreatedAt(now)
+                    .setCreatedBy(movement.getCreatedBy())
+                    .setProductOptionCid(leg.getOptionCid());
+        }).collect(Collectors.toList());
+
+        if (!receiveEntities.isEmpty()) {
+            productReceiveService.bulkInsert(receiveEntities);
+        }
+        return receiveEntities;
+    }
+
+    /**
+     * <b>DB Select Related Method</b>
+     * <p>
+     * 요청에 포함된 옵션코드, 옵션cid 로 옵션을 조회하고 세트상품 옵션의 구성옵션을 함께 불러온다.
+     *
+     * @param movements : List::ProductOptionStockMovementDto::
+     * @return ProductOptionStockMovementPlan
+     * @see ProductOptionService#searchEntityListByOptionCodes
+     * @see ProductOptionService#searchListByCids
+     * @see OptionPackageService#searchComponentMapByParentOptionIds
+     */
+    private ProductOptionStockMovementPlan createPlan(List<ProductOptionStockMovementDto> movements) {
+        Set<String> optionCodes = new HashSet<>();
+        Set<Integer> optionCids = new HashSet<>();
+        movements.forEach(movement -> {
+            if (movement.getOptionCode() != null) {
+                optionCodes.add(movement.getOptionCode());
+            } else if (movement.getOptionCid() != null) {
+                optionCids.add(movement.getOptionCid());
+            }
+        });
+
+        List<ProductOptionEntity> optionEntities = new ArrayList<>();
+        if (!optionCodes.isEmpty()) {
+            optionEntities.addAll(productOptionService.searchEntityListByOptionCodes(new ArrayList<>(optionCodes)));
+        }
+        if (!optionCids.isEmpty()) {
+            optionEntities.addAll(productOptionService.searchListByCids(new ArrayList<>(optionCids)));
+        }
+
+        List<UUID> parentOptionIds = optionEntities.stream()
+                .filter(ProductOptionStockMovementPlan::isPackageOption)
+                .map(ProductOptionEntity::getId)
+                .collect(Collectors.toList());
+        Map<UUID, List<OptionPackageEntity>> componentMap = parentOptionIds.isEmpty() ? Map.of() : optionPackageService.searchComponentMapByParentOptionIds(parentOptionIds);
+
+        return ProductOptionStockMovementPlan.of(optionEntities, componentMap);
+    }
+}
@@ -0,0 +1,168 @@
+package com.piaar_store_manager.server.domain.product_option_stock.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.piaar_store_manager.server.domain.product_option_stock.entity.ProductOptionStockEntity;
+import com.piaar_store_manager.server.domain.product_option_stock.repository.ProductOptionStockCustomJdbc;
+import com.piaar_store_manager.server.domain.product_option_stock.repository.ProductOptionStockRepository;
+import com.piaar_store_manager.server.utils.CustomDateUtils;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProductOptionStockService {
+    private static final int RECONCILE_CHUNK_SIZE = 1000;
+
+    private final ProductOptionStockRepository productOptionStockRepository;
+    private final ProductOptionStockCustomJdbc productOptionStockCustomJdbc;
+
+    /**
+     * <b>DB Select Related Method</b>
+     * <p>
+     * optionCids에 대응되는 재고 집계 데이터를 조회한다.
+     * 집계 데이터가 아직 생성되지 않은 옵션은 입고, 출고 테이블에서 직접 수량합을 계산한다.
+     *
+     * @param optionCids : List::Integer::
+     * @return List::ProductOptionStockEntity::
+     * @see ProductOptionStockRepository#findAllByOptionCids
+     * @see ProductOptionStockCustomJdbc#jdbcSumLedgerByOptionCids
+     */
+    public List<ProductOptionStockEntity> searchListByOptionCids(List<Integer> optionCids) {
+        if (optionCids.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<ProductOptionStockEntity> stockEntities = productOptionStockRepository.findAllByOptionCids(optionCids);
+
+        Set<Integer> foundCids = stockEntities.stream().map(ProductOptionStockEntity::getProductOptionCid).collect(Collectors.toSet());
+        List<Integer> missingCids = optionCids.stream().filter(cid -> !foundCids.contains(cid)).distinct().collect(Collectors.toList());
+
+        if (!missingCids.isEmpty()) {
+            stockEntities.addAll(productOptionStockCustomJdbc.jdbcSumLedgerByOptionCids(missingCids));
+        }
+        return stockEntities;
+    }
+
+    /**
+     * <b>DB Insert Related Method</b>
+     * <p>
+     * 입고, 출고 데이터가 등록되기 전에 대상 옵션의 집계 데이터를 준비한다.
+     *
+     * @param optionCids : Collection::Integer::
+     * @see ProductOptionStockCustomJdbc#jdbcInitialize
+     */
+    @Transactional
+    public void initialize(Collection<Integer> optionCids) {
+        productOptionStockCustomJdbc.jdbcInitialize(this.toCidList(optionCids));
+    }
+
+    /**
+     * <b>DB Update Related Method</b>
+     * <p>
+     * 옵션별 입고수량 증감분을 집계 데이터에 반영한다. 삭제된 입고 데이터는 음수로 전달한다.
+     *
+     * @param receiveUnitByOptionCid : Map::Integer, Integer::
+     * @see ProductOptionStockCustomJdbc#jdbcBulkIncrease
+     */
+    @Transactional
+    public void increaseReceivedUnit(Map<Integer, Integer> receiveUnitByOptionCid) {
+        LocalDateTime now = CustomDateUtils.getCurrentDateTime();
+        List<ProductOptionStockEntity> deltas = receiveUnitByOptionCid.entrySet().stream()
+                .map(r -> ProductOptionStockEntity.builder().productOptionCid(r.getKey()).receivedSum(r.getValue()).releasedSum(0).updatedAt(now).build())
+                .collect(Collectors.toList());
+
+        productOptionStockCustomJdbc.jdbcBulkIncrease(deltas);
+    }
+
+    /**
+     * <b>DB Update Related Method</b>
+     * <p>
+     * 옵션별 출고수량 증감분을 집계 데이터에 반영한다. 삭제된 출고 데이터는 음수로 전달한다.
+     *
+     * @param releaseUnitByOptionCid : Map::Integer, Integer::
+     * @see ProductOptionStockCustomJdbc#jdbcBulkIncrease
+     */
+    @Transactional
+    public void increaseReleasedUnit(Map<Integer, Integer> releaseUnitByOptionCid) {
+        LocalDateTime now = CustomDateUtils.getCurrentDateTime();
+        List<ProductOptionStockEntity> deltas = releaseUnitByOptionCid.entrySet().stream()
+                .map(r -> ProductOptionStockEntity.builder().productOptionCid(r.getKey()).receivedSum(0).releasedSum(r.getValue()).updatedAt(now).build())
+                .collect(Collectors.toList());
+
+        productOptionStockCustomJdbc.jdbcBulkIncrease(deltas);
+    }
+
+    /**
+     * <b>DB Update Related Method</b>
+     * <p>
+     * 입고, 출고 데이터의 수량이 수정된 옵션의 집계 데이터를 다시 계산한다.
+     *
+     * @param optionCids : Collection::Integer::
+     * @see ProductOptionStockCustomJdbc#jdbcRefresh
+     */
+    @Transactional
+    public void refresh(Collection<Integer> optionCids) {
+        productOptionStockCustomJdbc.jdbcRefresh(this.toCidList(optionCids));
+    }
+
+    /**
+     * <b>Scheduled Method</b>
+     * <p>
+     * 재고 집계 데이터를 입고, 출고 테이블의 수량합과 비교한다.
+     * 값이 다른 옵션은 집계 데이터를 다시 계산하고, 삭제된 옵션의 집계 데이터는 제거한다.
+     *
+     * @see ProductOptionStockCustomJdbc#jdbcSumLedgerByOptionCids
+     * @see ProductOptionStockCustomJdbc#jdbcRefresh
+     */
+    @Scheduled(cron = "${app.product-option-stock.reconcile-cron:0 0 4 * * *}", zone = "Asia/Seoul")
+    public void reconcile() {
+        List<Integer> optionCids = productOptionStockCustomJdbc.jdbcSearchAllOptionCids();
+        int mismatchCount = 0;
+
+        for (int i = 0; i < optionCids.size(); i += RECONCILE_CHUNK_SIZE) {
+            List<Integer> chunk = optionCids.subList(i, Math.min(i + RECONCILE_CHUNK_SIZE, optionCids.size()));
+
+            Map<Integer, ProductOptionStockEntity> stockMap = productOptionStockRepository.findAllByOptionCids(chunk).stream()
+                    .collect(Collectors.toMap(ProductOptionStockEntity::getProductOptionCid, Function.identity()));
+            List<ProductOptionStockEntity> ledgerSums = productOptionStockCustomJdbc.jdbcSumLedgerByOptionCids(chunk);
+
+            List<Integer> mismatchCids = ledgerSums.stream().filter(ledger -> {
+                ProductOptionStockEntity stock = stockMap.get(ledger.getProductOptionCid());
+                return stock == null
+                        || !Objects.equals(stock.getReceivedSum(), ledger.getReceivedSum())
+                        || !Objects.equals(stock.getReleasedSum(), ledger.getReleasedSum());
+            }).map(ProductOptionStockEntity::getProductOptionCid).collect(Collectors.toList());
+
+            if (!mismatchCids.isEmpty()) {
+                log.warn("product_option_stock mismatch. optionCids={}", mismatchCids);
+                productOptionStockCustomJdbc.jdbcRefresh(mismatchCids);
+                mismatchCount += mismatchCids.size();
+            }
+        }
+
+        int orphanCount = productOptionStockCustomJdbc.jdbcDeleteOrphans();
+        log.info("product_option_stock reconciled. options={}, refreshed={}, orphans={}", optionCids.size(), mismatchCount, orphanCount);
+    }
+
+    private List<Integer> toCidList(Collection<Integer> optionCids) {
+        Set<Integer> cidSet = new HashSet<>(optionCids);
+        cidSet.remove(null);
+        return new ArrayList<>(cidSet);
+    }
+}
@@ -0,0 +1,12 @@
+package com.piaar_store_manager.server.domain.product_receive.repository;
+
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+import com.piaar_store_manager.server.domain.product_receive.entity.ProductReceiveEntity;
+
+@Repository
+public interface ProductReceiveCustomJdbc {
+    void jdbcBulkInsert(List<ProductReceiveEntity> entities);
+}
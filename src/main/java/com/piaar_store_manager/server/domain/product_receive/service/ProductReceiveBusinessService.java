@@ -1,21 +1,19 @@
 package com.piaar_store_manager.server.domain.product_receive.service;
 
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
 
-import com.piaar_store_manager.server.domain.option_package.entity.OptionPackageEntity;
-import com.piaar_store_manager.server.domain.option_package.service.OptionPackageService;
-import com.piaar_store_manager.server.domain.product_option.entity.ProductOptionEntity;
 import com.piaar_store_manager.server.domain.product_option.service.ProductOptionService;
+import com.piaar_store_manager.server.domain.product_option_stock.dto.ProductOptionStockMovementDto;
+import com.piaar_store_manager.server.domain.product_option_stock.service.ProductOptionStockMovementService;
 import com.piaar_store_manager.server.domain.product_receive.dto.ProductReceiveGetDto;
 import com.piaar_store_manager.server.domain.product_receive.entity.ProductReceiveEntity;
 import com.piaar_store_manager.server.domain.product_receive.proj.ProductReceiveProj;
 import com.piaar_store_manager.server.domain.user.service.UserService;
-import com.piaar_store_manager.server.utils.CustomDateUtils;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -24,8 +22,8 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class ProductReceiveBusinessService {
     private final ProductReceiveService productReceiveService;
+    private final ProductOptionStockMovementService productOptionStockMovementService;
     private final ProductOptionService productOptionService;
-    private final OptionPackageService optionPackageService;
     private final UserService userService;
 
     public ProductReceiveGetDto searchOne(Integer productReceiveCid) {
@@ -86,52 +84,18 @@ public class ProductReceiveBusinessService {
      * <b>DB Insert Related Method</b>
      * <p>
      * 단일 receive등록.
-     * receive로 넘어온 productOptionCid로 option 데이터를 조회한다.
-     * 1) - option의 packageYn이 n인 상품은 receive 데이터를 바로 생성하고,
-     * 2) - option의 packageYn이 y인 상품은 package를 구성하는 option을 찾아 receive 데이터 생성.
+     * 세트상품 옵션은 package를 구성하는 option을 찾아 receive 데이터를 생성한다.
+     * 존재하지 않는 option이라면 등록하지 않는다.
      *
      * @param productReceiveGetDto : ProductReceiveGetDto
-     * @see ProductReceiveService#saveAndModify
-     * @see ProductReceiveService#saveListAndModify
-     * @see OptionPackageService#searchListByParentOptionId
+     * @see ProductOptionService#searchOne
+     * @see ProductReceiveBusinessService#createList
      */
     @Transactional
     public void createOne(ProductReceiveGetDto productReceiveGetDto) {
-        UUID USER_ID = userService.getUserId();
-        productReceiveGetDto.setCreatedAt(CustomDateUtils.getCurrentDateTime()).setCreatedBy(USER_ID);
-
-        ProductOptionEntity optionEntity = productOptionService.searchOne(productReceiveGetDto.getProductOptionCid());
-
-        if(optionEntity.getPackageYn().equals("n")) {
-            // 1) 실행
-            ProductReceiveGetDto receiveGetDto = ProductReceiveGetDto.builder()
-                    .id(UUID.randomUUID())
-                    .receiveUnit(productReceiveGetDto.getReceiveUnit())
-                    .memo(productReceiveGetDto.getMemo())
-                    .createdAt(CustomDateUtils.getCurrentDateTime())
-                    .createdBy(USER_ID)
-                    .productOptionCid(productReceiveGetDto.getCid())
-                    .build();
-            productReceiveService.saveAndModify(ProductReceiveEntity.toEntity(receiveGetDto));
-        } else {
-            // 2) 실행
-            List<OptionPackageEntity> optionPackageEntities = optionPackageService.searchListByParentOptionId(optionEntity.getId());
-            
-            List<ProductReceiveEntity> productReceiveEntities = new ArrayList<>();
-            optionPackageEntities.forEach(option -> {
-                ProductReceiveGetDto receiveGetDto = ProductReceiveGetDto.builder()
-                        .id(UUID.randomUUID())
-                        .receiveUnit(option.getPackageUnit() * productReceiveGetDto.getReceiveUnit())
-                        .memo(productReceiveGetDto.getMemo())
-                        .createdAt(CustomDateUtils.getCurrentDateTime())
-                        .createdBy(USER_ID)
-                        .productOptionCid(option.getOriginOptionCid())
-                        .build();
-
-                productReceiveEntities.add(ProductReceiveEntity.toEntity(receiveGetDto));
-            });
-            productReceiveService.saveListAndModify(productReceiveEntities);
-        }
+        // 존재하지 않는 option이라면 CustomNotFoundDataException
+        productOptionService.searchOne(productReceiveGetDto.getProductOptionCid());
+        this.createList(Collections.singletonList(productReceiveGetDto));
     }
 
     /**
@@ -142,66 +106,22 @@ public class ProductReceiveBusinessService {
      * 1) - option의 packageYn이 n인 상품은 receive 데이터를 바로 생성,
      * 2) - option의 packageYn이 y인 상품은 package를 구성하는 option을 찾아 receive 데이터 생성.
      *
-     * @param productReceiveGetDto : List::ProductReceiveGetDto::
-     * @see ProductReceiveService#saveAndModify
+     * @param productReceiveGetDtos : List::ProductReceiveGetDto::
+     * @see ProductOptionStockMovementService#receive
      */
     @Transactional
     public void createList(List<ProductReceiveGetDto> productReceiveGetDtos) {
         UUID USER_ID = userService.getUserId();
-        List<Integer> optionCids = productReceiveGetDtos.stream().map(r -> r.getProductOptionCid()).collect(Collectors.toList());
-        List<ProductOptionEntity> optionEntities = productOptionService.searchListByCids(optionCids);
-        List<ProductOptionEntity> originOptionEntities = optionEntities.stream().filter(r -> r.getPackageYn().equals("n")).collect(Collectors.toList());
-        List<ProductOptionEntity> parentOptionEntities = optionEntities.stream().filter(r -> r.getPackageYn().equals("y")).collect(Collectors.toList());
-
-        // 1) 실행
-        List<ProductReceiveEntity> productReceiveEntities = new ArrayList<>();
-        productReceiveGetDtos.forEach(dto -> {
-            originOptionEntities.forEach(option -> {
-                if(dto.getProductOptionCid().equals(option.getCid())){
-                    ProductReceiveGetDto receiveGetDto = ProductReceiveGetDto.builder()
-                        .id(UUID.randomUUID())
-                        .receiveUnit(dto.getReceiveUnit())
-                        .memo(dto.getMemo())
-                        .createdAt(CustomDateUtils.getCurrentDateTime())
-                        .createdBy(USER_ID)
-                        .productOptionCid(option.getCid())
-                        .build();
-
-                    productReceiveEntities.add(ProductReceiveEntity.toEntity(receiveGetDto));
-                }
-            });
-        });
-
-        productReceiveService.saveListAndModify(productReceiveEntities);
-        productReceiveEntities.clear();
-
-        // 2) 실행
-        if (parentOptionEntities.size() > 0) {
-            List<UUID> parentOptionIdList = parentOptionEntities.stream().map(r -> r.getId()).collect(Collectors.toList());
-            List<OptionPackageEntity> optionPackageEntities = optionPackageService.searchListByParentOptionIdList(parentOptionIdList);
-
-            productReceiveGetDtos.forEach(dto -> {
-                parentOptionEntities.forEach(parentOption -> {
-                    if (dto.getProductOptionCid().equals(parentOption.getCid())) {
-                        optionPackageEntities.forEach(option -> {
-                            if (option.getParentOptionId().equals(parentOption.getId())) {
-                                ProductReceiveGetDto receiveGetDto = ProductReceiveGetDto.builder()
-                                        .id(UUID.randomUUID())
-                                        .receiveUnit(option.getPackageUnit() * dto.getReceiveUnit())
-                                        .memo(dto.getMemo())
-                                        .createdAt(CustomDateUtils.getCurrentDateTime())
-                                        .createdBy(USER_ID)
-                                        .productOptionCid(option.getOriginOptionCid())
-                                        .build();
-
-                                productReceiveEntities.add(ProductReceiveEntity.toEntity(receiveGetDto));
-                            }
-                        });
-                    }
-                });
-            });
-            productReceiveService.saveListAndModify(productReceiveEntities);
-        }
+
+        List<ProductOptionStockMovementDto> movements = productReceiveGetDtos.stream().map(dto -> ProductOptionStockMovementDto.builder()
+                .optionCid(dto.getProductOptionCid())
+                .unit(dto.getReceiveUnit())
+                .memo(dto.getMemo())
+                .createdBy(USER_ID)
+                .build()
+        ).collect(Collectors.toList());
+
+        productOptionStockMovementService.receive(movements);
     }
 
     public void destroyOne(Integer productReceiveCid) {
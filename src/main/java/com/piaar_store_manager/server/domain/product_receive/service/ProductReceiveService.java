@@ -1,11 +1,17 @@
 package com.piaar_store_manager.server.domain.product_receive.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
+import com.piaar_store_manager.server.domain.product_option_stock.service.ProductOptionStockService;
 import com.piaar_store_manager.server.domain.product_receive.entity.ProductReceiveEntity;
 import com.piaar_store_manager.server.domain.product_receive.proj.ProductReceiveProj;
+import com.piaar_store_manager.server.domain.product_receive.repository.ProductReceiveCustomJdbc;
 import com.piaar_store_manager.server.domain.product_receive.repository.ProductReceiveRepository;
 import com.piaar_store_manager.server.exception.CustomNotFoundDataException;
 
@@ -18,6 +24,8 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ProductReceiveService {
     private final ProductReceiveRepository productReceiveRepository;
+    private final ProductReceiveCustomJdbc productReceiveCustomJdbc;
+    private final ProductOptionStockService productOptionStockService;
 
     public ProductReceiveEntity searchOne(Integer productReceiveCid) {
         Optional<ProductReceiveEntity> receiveEntityOpt = productReceiveRepository.findById(productReceiveCid);
@@ -104,18 +112,80 @@ public class ProductReceiveService {
         return productReceiveRepository.searchListM2OJ(startDate, endDate);
     }
 
+    /**
+     * <b>DB Insert Related Method</b>
+     * <p>
+     * receive를 등록 또는 수정하고, option의 재고 집계 데이터에 반영한다.
+     * 1) - 신규 receive는 입고수량을 집계 데이터에 더한다.
+     * 2) - 기존 receive는 수정 후 option의 집계 데이터를 다시 계산한다.
+     *
+     * @param entity : ProductReceiveEntity
+     * @see ProductOptionStockService#increaseReceivedUnit
+     * @see ProductOptionStockService#refresh
+     */
+    @Transactional
     public void saveAndModify(ProductReceiveEntity entity) {
-        productReceiveRepository.save(entity);
+        this.saveListAndModify(Collections.singletonList(entity));
     }
 
     @Transactional
     public List<ProductReceiveEntity> saveListAndModify(List<ProductReceiveEntity> entities) {
-        return productReceiveRepository.saveAll(entities);
+        List<ProductReceiveEntity> newEntities = entities.stream().filter(r -> r.getCid() == null).collect(Collectors.toList());
+        List<ProductReceiveEntity> savedEntities = entities.stream().filter(r -> r.getCid() != null).collect(Collectors.toList());
+        List<ProductReceiveEntity> resultEntities = new ArrayList<>();
+
+        if (!newEntities.isEmpty()) {
+            // 1) 실행
+            Map<Integer, Integer> receiveUnitByOptionCid = this.sumReceiveUnitByOptionCid(newEntities);
+            productOptionStockService.initialize(receiveUnitByOptionCid.keySet());
+            resultEntities.addAll(productReceiveRepository.saveAll(newEntities));
+            productOptionStockService.increaseReceivedUnit(receiveUnitByOptionCid);
+        }
+
+        if (!savedEntities.isEmpty()) {
+            // 2) 실행
+            resultEntities.addAll(productReceiveRepository.saveAll(savedEntities));
+            productReceiveRepository.flush();
+            productOptionStockService.refresh(savedEntities.stream().map(ProductReceiveEntity::getProductOptionCid).collect(Collectors.toSet()));
+        }
+        return resultEntities;
     }
 
+    @Transactional
     public void destroyOne(Integer productReceiveCid) {
         productReceiveRepository.findById(productReceiveCid).ifPresent(receive -> {
+            if (receive.getProductOptionCid() == null) {
+                productReceiveRepository.delete(receive);
+                return;
+            }
+
+            // 집계 데이터가 없다면 삭제 전의 receive 데이터로 먼저 생성한 후 삭제분을 뺀다.
+            productOptionStockService.initialize(Collections.singleton(receive.getProductOptionCid()));
             productReceiveRepository.delete(receive);
+            productOptionStockService.increaseReceivedUnit(Collections.singletonMap(receive.getProductOptionCid(), -receive.getReceiveUnit()));
         });
     }
+
+    /**
+     * <b>DB Insert Related Method</b>
+     * <p>
+     * receive를 jdbc batch로 등록하고, 같은 트랜잭션에서 option의 재고 집계 데이터에 입고수량을 더한다.
+     *
+     * @param entities : List::ProductReceiveEntity::
+     * @see ProductReceiveCustomJdbc#jdbcBulkInsert
+     * @see ProductOptionStockService#increaseReceivedUnit
+     */
+    @Transactional
+    public void bulkInsert(List<ProductReceiveEntity> entities) {
+        Map<Integer, Integer> receiveUnitByOptionCid = this.sumReceiveUnitByOptionCid(entities);
+        productOptionStockService.initialize(receiveUnitByOptionCid.keySet());
+        productReceiveCustomJdbc.jdbcBulkInsert(entities);
+        productOptionStockService.increaseReceivedUnit(receiveUnitByOptionCid);
+    }
+
+    private Map<Integer, Integer> sumReceiveUnitByOptionCid(List<ProductReceiveEntity> entities) {
+        return entities.stream()
+                .filter(r -> r.getProductOptionCid() != null && r.getReceiveUnit() != null)
+                .collect(Collectors.groupingBy(ProductReceiveEntity::getProductOptionCid, Collectors.summingInt(ProductReceiveEntity::getReceiveUnit)));
+    }
 }
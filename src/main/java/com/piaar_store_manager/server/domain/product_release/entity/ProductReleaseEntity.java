@@ -12,6 +12,7 @@ import javax.persistence.Id;
 import javax.persistence.Table;
 
 import com.piaar_store_manager.server.domain.product_release.dto.ProductReleaseGetDto;
+import com.piaar_store_manager.server.utils.CustomUuidUtils;
 
 import org.hibernate.annotations.Type;
 
@@ -34,7 +35,7 @@ public class ProductReleaseEntity {
     @Column(name = "cid")
     private Integer cid;
 
-    @Type(type = "uuid-char")
+    @Type(type = "uuid-compact")
     @Column(name = "id")
     private UUID id;
 
@@ -47,6 +48,7 @@ public class ProductReleaseEntity {
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
+    // user.id(uuid-char) 와 조인하므로 문자열로 저장한다.
     @Type(type = "uuid-char")
     @Column(name = "created_by")
     private UUID createdBy;
@@ -55,11 +57,11 @@ public class ProductReleaseEntity {
     private Integer productOptionCid;
 
     @Column(name = "product_option_id")
-    @Type(type ="uuid-char")
+    @Type(type = "uuid-compact")
     private UUID productOptionId;
 
     @Column(name = "erp_order_item_id")
-    @Type(type ="uuid-char")
+    @Type(type = "uuid-compact")
     private UUID erpOrderItemId;
 
     /**
@@ -73,7 +75,7 @@ public class ProductReleaseEntity {
      */
     public static ProductReleaseEntity toEntity(ProductReleaseGetDto dto) {
         ProductReleaseEntity entity = ProductReleaseEntity.builder()
-              .id(UUID.randomUUID())
+              .id(CustomUuidUtils.timeOrderedUuid())
               .releaseUnit(dto.getReleaseUnit())
               .memo(dto.getMemo())
               .createdAt(dto.getCreatedAt())
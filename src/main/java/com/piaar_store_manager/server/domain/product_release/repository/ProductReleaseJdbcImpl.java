@@ -11,6 +11,7 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.piaar_store_manager.server.config.jpa.UuidStorage;
 import com.piaar_store_manager.server.domain.product_release.entity.ProductReleaseEntity;
 
 @Repository
@@ -18,6 +19,7 @@ import com.piaar_store_manager.server.domain.product_release.entity.ProductRelea
 @Slf4j
 public class ProductReleaseJdbcImpl implements ProductReleaseCustomJdbc{
     private final JdbcTemplate jdbcTemplate;
+    private final UuidStorage uuidStorage;
     private final int DEFAULT_BATCH_SIZE = 300;
 
     @Override
@@ -47,14 +49,14 @@ public class ProductReleaseJdbcImpl implements ProductReleaseCustomJdbc{
             public void setValues(PreparedStatement ps, int i) throws SQLException {
                 ProductReleaseEntity entity = subItems.get(i);
                 ps.setObject(1, entity.getCid());
-                ps.setObject(2, entity.getId().toString());
+                ps.setObject(2, uuidStorage.toParameter(entity.getId()));
                 ps.setInt(3, entity.getReleaseUnit());
                 ps.setString(4, entity.getMemo());
                 ps.setObject(5, entity.getCreatedAt());
-                ps.setObject(6, entity.getCreatedBy().toString());
+                ps.setObject(6, entity.getCreatedBy() == null ? null : entity.getCreatedBy().toString());
                 ps.setInt(7, entity.getProductOptionCid());
-                ps.setObject(8, entity.getProductOptionId().toString());
-                ps.setObject(9, entity.getErpOrderItemId().toString());
+                ps.setObject(8, uuidStorage.toParameter(entity.getProductOptionId()));
+                ps.setObject(9, uuidStorage.toParameter(entity.getErpOrderItemId()));
 
             }
 
@@ -5,6 +5,8 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import javax.persistence.Tuple;
+
 import com.piaar_store_manager.server.domain.product_release.entity.ProductReleaseEntity;
 import com.piaar_store_manager.server.domain.product_release.proj.ProductReleaseProj;
 
@@ -85,6 +87,20 @@ public interface ProductReleaseRepository extends JpaRepository<ProductReleaseEn
      */
     List<ProductReleaseEntity> findByProductOptionCid(Integer productOptionCid);
 
+    /**
+     * 다중 erpOrderItemId값에 대응되는 release의 출고수량합을 option cid별로 조회한다.
+     *
+     * @param ids : List::UUID::
+     * @return productOptionCid, sum(release_unit)
+     */
+    @Query(
+        "SELECT rs.productOptionCid AS productOptionCid, SUM(rs.releaseUnit) AS releaseUnit\n" +
+        "FROM ProductReleaseEntity rs\n" +
+        "WHERE rs.erpOrderItemId IN :ids\n" +
+        "GROUP BY rs.productOptionCid"
+    )
+    List<Tuple> sumReleaseUnitByErpOrderItemIds(List<UUID> ids);
+
     /**
      * 다중 erpOrderItemId값에 대응되는 release를 모두 제거한다.
      * 
@@ -1,21 +1,19 @@
 package com.piaar_store_manager.server.domain.product_release.service;
 
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
 
-import com.piaar_store_manager.server.domain.option_package.entity.OptionPackageEntity;
-import com.piaar_store_manager.server.domain.option_package.service.OptionPackageService;
-import com.piaar_store_manager.server.domain.product_option.entity.ProductOptionEntity;
 import com.piaar_store_manager.server.domain.product_option.service.ProductOptionService;
+import com.piaar_store_manager.server.domain.product_option_stock.dto.ProductOptionStockMovementDto;
+import com.piaar_store_manager.server.domain.product_option_stock.service.ProductOptionStockMovementService;
 import com.piaar_store_manager.server.domain.product_release.dto.ProductReleaseGetDto;
 import com.piaar_store_manager.server.domain.product_release.entity.ProductReleaseEntity;
 import com.piaar_store_manager.server.domain.product_release.proj.ProductReleaseProj;
 import com.piaar_store_manager.server.domain.user.service.UserService;
-import com.piaar_store_manager.server.utils.CustomDateUtils;
 
 import org.springframework.stereotype.Service;
 
@@ -25,8 +23,8 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ProductReleaseBusinessService {
     private final ProductReleaseService productReleaseService;
+    private final ProductOptionStockMovementService productOptionStockMovementService;
     private final ProductOptionService productOptionService;
-    private final OptionPackageService optionPackageService;
     private final UserService userService;
 
     public ProductReleaseGetDto searchOne(Integer productReleaseCid) {
@@ -86,52 +84,18 @@ public class ProductReleaseBusinessService {
      * <b>DB Insert Related Method</b>
      * <p>
      * 단일 release등록.
-     * release로 넘어온 productOptionCid로 option 데이터를 조회한다.
-     * 1) - option의 packageYn이 n인 상품은 release 데이터를 바로 생성하고,
-     * 2) - option의 packageYn이 y인 상품은 package를 구성하는 option을 찾아 release 데이터 생성.
+     * 세트상품 옵션은 package를 구성하는 option을 찾아 release 데이터를 생성한다.
+     * 존재하지 않는 option이라면 등록하지 않는다.
      *
      * @param productReleaseGetDto : ProductReleaseGetDto
-     * @see ProductReleaseService#saveAndModify
-     * @see ProductReleaseService#saveListAndModify
-     * @see OptionPackageService#searchListByParentOptionId
+     * @see ProductOptionService#searchOne
+     * @see ProductReleaseBusinessService#createList
      */
     @Transactional
     public void createOne(ProductReleaseGetDto productReleaseGetDto) {
-        UUID USER_ID = userService.getUserId();
-        productReleaseGetDto.setCreatedAt(CustomDateUtils.getCurrentDateTime()).setCreatedBy(USER_ID);
-
-        ProductOptionEntity optionEntity = productOptionService.searchOne(productReleaseGetDto.getProductOptionCid());
-        
-        if(optionEntity.getPackageYn().equals("n")) {
-            // 1) 실행
-            ProductReleaseGetDto releaseGetDto = ProductReleaseGetDto.builder()
-                    .id(UUID.randomUUID())
-                    .releaseUnit(productReleaseGetDto.getReleaseUnit())
-                    .memo(productReleaseGetDto.getMemo())
-                    .createdAt(CustomDateUtils.getCurrentDateTime())
-                    .createdBy(USER_ID)
-                    .productOptionCid(productReleaseGetDto.getCid())
-                    .build();
-            productReleaseService.saveAndModify(ProductReleaseEntity.toEntity(releaseGetDto));
-        } else {
-            // 2) 실행
-            List<OptionPackageEntity> optionPackageEntities = optionPackageService.searchListByParentOptionId(optionEntity.getId());
-            
-            List<ProductReleaseEntity> productReleaseEntities = new ArrayList<>();
-            optionPackageEntities.forEach(option -> {
-                ProductReleaseGetDto releaseGetDto = ProductReleaseGetDto.builder()
-                        .id(UUID.randomUUID())
-                        .releaseUnit(option.getPackageUnit() * productReleaseGetDto.getReleaseUnit())
-                        .memo(productReleaseGetDto.getMemo())
-                        .createdAt(CustomDateUtils.getCurrentDateTime())
-                        .createdBy(USER_ID)
-                        .productOptionCid(option.getOriginOptionCid())
-                        .build();
-
-                productReleaseEntities.add(ProductReleaseEntity.toEntity(releaseGetDto));
-            });
-            productReleaseService.saveListAndModify(productReleaseEntities);
-        }
+        // 존재하지 않는 option이라면 CustomNotFoundDataException
+        productOptionService.searchOne(productReleaseGetDto.getProductOptionCid());
+        this.createList(Collections.singletonList(productReleaseGetDto));
     }
 
     /**
@@ -142,66 +106,22 @@ public class ProductReleaseBusinessService {
      * 1) - option의 packageYn이 n인 상품은 release 데이터를 바로 생성,
      * 2) - option의 packageYn이 y인 상품은 package를 구성하는 option을 찾아 release 데이터 생성.
      *
-     * @param productReleaseGetDto : List::ProductReleaseGetDto::
-     * @see ProductReleaseService#saveAndModify
+     * @param productReleaseGetDtos : List::ProductReleaseGetDto::
+     * @see ProductOptionStockMovementService#release
      */
     @Transactional
     public void createList(List<ProductReleaseGetDto> productReleaseGetDtos) {
         UUID USER_ID = userService.getUserId();
-        List<Integer> optionCids = productReleaseGetDtos.stream().map(r -> r.getProductOptionCid()).collect(Collectors.toList());
-        List<ProductOptionEntity> optionEntities = productOptionService.searchListByCids(optionCids);
-        List<ProductOptionEntity> originOptionEntities = optionEntities.stream().filter(r -> r.getPackageYn().equals("n")).collect(Collectors.toList());
-        List<ProductOptionEntity> parentOptionEntities = optionEntities.stream().filter(r -> r.getPackageYn().equals("y")).collect(Collectors.toList());
-
-        // 1) 실행
-        List<ProductReleaseEntity> productReleaseEntities = new ArrayList<>();
-        productReleaseGetDtos.forEach(dto -> {
-            originOptionEntities.forEach(option -> {
-                if(dto.getProductOptionCid().equals(option.getCid())){
-                    ProductReleaseGetDto releaseGetDto = ProductReleaseGetDto.builder()
-                        .id(UUID.randomUUID())
-                        .releaseUnit(dto.getReleaseUnit())
-                        .memo(dto.getMemo())
-                        .createdAt(CustomDateUtils.getCurrentDateTime())
-                        .createdBy(USER_ID)
-                        .productOptionCid(option.getCid())
-                        .build();
-
-                    productReleaseEntities.add(ProductReleaseEntity.toEntity(releaseGetDto));
-                }
-            });
-        });
-
-        productReleaseService.saveListAndModify(productReleaseEntities);
-        productReleaseEntities.clear();
-
-        // 2) 실행
-        if (parentOptionEntities.size() > 0) {
-            List<UUID> parentOptionIdList = parentOptionEntities.stream().map(r -> r.getId()).collect(Collectors.toList());
-            List<OptionPackageEntity> optionPackageEntities = optionPackageService.searchListByParentOptionIdList(parentOptionIdList);
-
-            productReleaseGetDtos.forEach(dto -> {
-                parentOptionEntities.forEach(parentOption -> {
-                    if (dto.getProductOptionCid().equals(parentOption.getCid())) {
-                        optionPackageEntities.forEach(option -> {
-                            if (option.getParentOptionId().equals(parentOption.getId())) {
-                                ProductReleaseGetDto releaseGetDto = ProductReleaseGetDto.builder()
-                                        .id(UUID.randomUUID())
-                                        .releaseUnit(option.getPackageUnit() * dto.getReleaseUnit())
-                                        .memo(dto.getMemo())
-                                        .createdAt(CustomDateUtils.getCurrentDateTime())
-                                        .createdBy(USER_ID)
-                                        .productOptionCid(option.getOriginOptionCid())
-                                        .build();
-
-                                productReleaseEntities.add(ProductReleaseEntity.toEntity(releaseGetDto));
-                            }
-                        });
-                    }
-                });
-            });
-            productReleaseService.saveListAndModify(productReleaseEntities);
-        }
+
+        List<ProductOptionStockMovementDto> movements = productReleaseGetDtos.stream().map(dto -> ProductOptionStockMovementDto.builder()
+                .optionCid(dto.getProductOptionCid())
+                .unit(dto.getReleaseUnit())
+                .memo(dto.getMemo())
+                .createdBy(USER_ID)
+                .build()
+        ).collect(Collectors.toList());
+
+        productOptionStockMovementService.release(movements);
     }
 
     public void destroyOne(Integer productReleaseCid) {
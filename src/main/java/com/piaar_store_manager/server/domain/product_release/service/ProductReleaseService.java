@@ -1,11 +1,16 @@
 package com.piaar_store_manager.server.domain.product_release.service;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import com.piaar_store_manager.server.domain.product_option.service.ProductOptionService;
+import com.piaar_store_manager.server.domain.product_option_stock.service.ProductOptionStockService;
 import com.piaar_store_manager.server.domain.product_release.entity.ProductReleaseEntity;
 import com.piaar_store_manager.server.domain.product_release.proj.ProductReleaseProj;
 import com.piaar_store_manager.server.domain.product_release.repository.ProductReleaseCustomJdbc;
@@ -23,6 +28,7 @@ public class ProductReleaseService {
     private final ProductReleaseRepository productReleaseRepository;
     private final ProductOptionService productOptionService;
     private final ProductReleaseCustomJdbc productReleaseCustomJdbc;
+    private final ProductOptionStockService productOptionStockService;
 
     public ProductReleaseEntity searchOne(Integer productReleaseCid) {
         Optional<ProductReleaseEntity> releaseEntityOpt = productReleaseRepository.findById(productReleaseCid);
@@ -109,34 +115,119 @@ public class ProductReleaseService {
         return productReleaseRepository.searchListM2OJ(startDate, endDate);
     }
 
+    /**
+     * <b>DB Insert Related Method</b>
+     * <p>
+     * release를 등록 또는 수정하고, option의 재고 집계 데이터에 반영한다.
+     * 1) - 신규 release는 출고수량을 집계 데이터에 더한다.
+     * 2) - 기존 release는 수정 후 option의 집계 데이터를 다시 계산한다.
+     *
+     * @param entity : ProductReleaseEntity
+     * @see ProductOptionStockService#increaseReleasedUnit
+     * @see ProductOptionStockService#refresh
+     */
+    @Transactional
     public void saveAndModify(ProductReleaseEntity entity) {
-        productReleaseRepository.save(entity);
+        this.saveListAndModify(Collections.singletonList(entity));
     }
 
     @Transactional
     public void saveListAndModify(List<ProductReleaseEntity> entities) {
-        productReleaseRepository.saveAll(entities);
+        List<ProductReleaseEntity> newEntities = entities.stream().filter(r -> r.getCid() == null).collect(Collectors.toList());
+        List<ProductReleaseEntity> savedEntities = entities.stream().filter(r -> r.getCid() != null).collect(Collectors.toList());
+
+        if (!newEntities.isEmpty()) {
+            // 1) 실행
+            Map<Integer, Integer> releaseUnitByOptionCid = this.sumReleaseUnitByOptionCid(newEntities);
+            productOptionStockService.initialize(releaseUnitByOptionCid.keySet());
+            productReleaseRepository.saveAll(newEntities);
+            productOptionStockService.increaseReleasedUnit(releaseUnitByOptionCid);
+        }
+
+        if (!savedEntities.isEmpty()) {
+            // 2) 실행
+            productReleaseRepository.saveAll(savedEntities);
+            productReleaseRepository.flush();
+            productOptionStockService.refresh(savedEntities.stream().map(ProductReleaseEntity::getProductOptionCid).collect(Collectors.toSet()));
+        }
     }
 
+    @Transactional
     public void destroyOne(Integer productReleaseCid) {
-        productReleaseRepository.findById(productReleaseCid).ifPresent(product -> {
-            productReleaseRepository.delete(product);
+        productReleaseRepository.findById(productReleaseCid).ifPresent(release -> {
+            if (release.getProductOptionCid() == null) {
+                productReleaseRepository.delete(release);
+                return;
+            }
+
+            // 집계 데이터가 없다면 삭제 전의 release 데이터로 먼저 생성한 후 삭제분을 뺀다.
+            productOptionStockService.initialize(Collections.singleton(release.getProductOptionCid()));
+            productReleaseRepository.delete(release);
+            productOptionStockService.increaseReleasedUnit(Collections.singletonMap(release.getProductOptionCid(), -release.getReleaseUnit()));
         });
     }
 
+    /**
+     * <b>DB Insert Related Method</b>
+     * <p>
+     * release를 jdbc batch로 등록하고, 같은 트랜잭션에서 option의 재고 집계 데이터에 출고수량을 더한다.
+     *
+     * @param entities : List::ProductReleaseEntity::
+     * @see ProductReleaseCustomJdbc#jdbcBulkInsert
+     * @see ProductOptionStockService#increaseReleasedUnit
+     */
+    @Transactional
     public void bulkInsert(List<ProductReleaseEntity> entities){
         // access check
         // userService.userLoginCheck();
         // userService.userManagerRoleCheck();
         
+        Map<Integer, Integer> releaseUnitByOptionCid = this.sumReleaseUnitByOptionCid(entities);
+        productOptionStockService.initialize(releaseUnitByOptionCid.keySet());
         productReleaseCustomJdbc.jdbcBulkInsert(entities);
+        productOptionStockService.increaseReleasedUnit(releaseUnitByOptionCid);
     }
 
+    /**
+     * <b>DB Delete Related Method</b>
+     * <p>
+     * 다중 erpOrderItemId에 대응되는 release를 제거하고, 같은 트랜잭션에서 option의 재고 집계 데이터에서 출고수량을 뺀다.
+     *
+     * @param erpOrderItemIds : List::UUID::
+     * @see ProductReleaseRepository#sumReleaseUnitByErpOrderItemIds
+     * @see ProductOptionStockService#initialize
+     * @see ProductReleaseRepository#deleteByErpOrderItemIds
+     * @see ProductOptionStockService#increaseReleasedUnit
+     */
+    @Transactional
     public void deleteByErpOrderItemIds(List<UUID> erpOrderItemIds){
         // access check
         // userService.userLoginCheck();
         // userService.userManagerRoleCheck();
-        
+
+        if (erpOrderItemIds.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, Integer> releaseUnitByOptionCid = new HashMap<>();
+        productReleaseRepository.sumReleaseUnitByErpOrderItemIds(erpOrderItemIds).forEach(r -> {
+            Integer optionCid = r.get("productOptionCid", Integer.class);
+            Long releaseUnit = r.get("releaseUnit", Long.class);
+
+            if (optionCid != null && releaseUnit != null) {
+                releaseUnitByOptionCid.put(optionCid, -releaseUnit.intValue());
+            }
+        });
+
+        // 집계 데이터가 없다면 삭제 전의 release 데이터로 먼저 생성한 후 삭제분을 뺀다.
+        productOptionStockService.initialize(releaseUnitByOptionCid.keySet());
         productReleaseRepository.deleteByErpOrderItemIds(erpOrderItemIds);
+        productOptionStockService.increaseReleasedUnit(releaseUnitByOptionCid);
+    }
+
+    private Map<Integer, Integer> sumReleaseUnitByOptionCid(List<ProductReleaseEntity> entities) {
+        return entities.stream()
+                .filter(r -> r.getProductOptionCid() != null && r.getReleaseUnit() != null)
+                .collect(Collectors.groupingBy(ProductReleaseEntity::getProductOptionCid, Collectors.summingInt(ProductReleaseEntity::getReleaseUnit)));
     }
 }
@@ -10,6 +10,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -31,4 +32,20 @@ public class SalesAnalysisItemApi {
 
         return new ResponseEntity<>(message, message.getStatus());
     }
+
+    /**
+     * Backfill sales daily rollup.
+     * <p>
+     * <b>POST : API URL => /api/v1/sales-analysis/rollup/backfill?startDate=yyyy-MM-dd&endDate=yyyy-MM-dd</b>
+     */
+    @PostMapping("/rollup/backfill")
+    public ResponseEntity<?> backfillRollup(@RequestParam Map<String, Object> params){
+        Message message = new Message();
+
+        message.setData(salesAnalysisItemBusinessService.backfillRollup(params));
+        message.setStatus(HttpStatus.OK);
+        message.setMessage("success");
+
+        return new ResponseEntity<>(message, message.getStatus());
+    }
 }
@@ -2,6 +2,9 @@ package com.piaar_store_manager.server.domain.sales_analysis.dto;
 
 import java.util.UUID;
 
+import com.piaar_store_manager.server.domain.product.entity.ProductEntity;
+import com.piaar_store_manager.server.domain.product_catalog.dto.ProductCatalogEntry;
+import com.piaar_store_manager.server.domain.product_option.entity.ProductOptionEntity;
 import com.piaar_store_manager.server.domain.sales_analysis.proj.SalesAnalysisItemProj;
 
 import lombok.AllArgsConstructor;
@@ -49,4 +52,25 @@ public class SalesAnalysisItemDto {
 
         return dto;
     }
+
+    public static SalesAnalysisItemDto toDto(ProductCatalogEntry entry, int naverSalesUnit, int coupangSalesUnit, int erpSalesUnit) {
+        ProductEntity product = entry.getProduct();
+        ProductOptionEntity productOption = entry.getProductOption();
+
+        SalesAnalysisItemDto dto = SalesAnalysisItemDto.builder()
+            .salesProdManagementName(product.getManagementName())
+            .salesOptionManagementName(productOption.getManagementName())
+            .salesOptionCode(productOption.getCode())
+            .salesProdImageUrl(product.getImageUrl())
+            .naverSalesUnit(naverSalesUnit)
+            .coupangSalesUnit(coupangSalesUnit)
+            .erpSalesUnit(erpSalesUnit)
+            .totalSalesUnit(naverSalesUnit + coupangSalesUnit + erpSalesUnit)
+            .salesOptionPrice(productOption.getSalesPrice())
+            .categoryName(entry.getProductCategory().getName())
+            .salesProductId(product.getId())
+            .build();
+
+        return dto;
+    }
 }
@@ -0,0 +1,23 @@
+package com.piaar_store_manager.server.domain.sales_analysis.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import lombok.experimental.Accessors;
+
+/**
+ * 조회기간의 판매채널 + 옵션코드 별 판매 수량 합계
+ */
+@Getter
+@ToString
+@Accessors(chain = true)
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalesDailyRollupSumDto {
+    private String channel;
+    private String optionCode;
+    private Integer unit;
+}
@@ -0,0 +1,60 @@
+package com.piaar_store_manager.server.domain.sales_analysis.entity;
+
+import java.time.LocalDate;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import lombok.experimental.Accessors;
+
+/**
+ * 일자(주문 등록일) + 판매채널 + 옵션코드 별 판매 수량 집계.
+ * <p>
+ * 판매 분석 화면은 원본 주문 테이블 대신 이 테이블의 기간 합계를 조회한다.
+ * 행은 SalesDailyRollupService 가 (판매채널, 일자) 단위로 원본 테이블에서 다시 집계해 교체한다.
+ */
+@Entity
+@Builder
+@Getter
+@Table(name = "sales_daily_rollup", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_sales_daily_rollup_sales_date_channel_option_code", columnNames = {"sales_date", "channel", "option_code"})
+}, indexes = {
+        @Index(name = "idx_sales_daily_rollup_sales_date", columnList = "sales_date")
+})
+@ToString
+@Accessors(chain = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalesDailyRollupEntity {
+    public static final String CHANNEL_NAVER = "naver";
+    public static final String CHANNEL_COUPANG = "coupang";
+    public static final String CHANNEL_ERP = "erp";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "cid")
+    private Integer cid;
+
+    @Column(name = "sales_date")
+    private LocalDate salesDate;
+
+    @Column(name = "channel", length = 20)
+    private String channel;     // naver, coupang, erp
+
+    @Column(name = "option_code")
+    private String optionCode;
+
+    @Column(name = "unit")
+    private Integer unit;
+}
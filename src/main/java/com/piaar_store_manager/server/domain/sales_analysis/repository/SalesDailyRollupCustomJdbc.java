@@ -0,0 +1,16 @@
+package com.piaar_store_manager.server.domain.sales_analysis.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import com.piaar_store_manager.server.domain.sales_analysis.dto.SalesDailyRollupSumDto;
+
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SalesDailyRollupCustomJdbc {
+    int jdbcRebuild(String channel, LocalDate startDate, LocalDate endDate);
+    List<SalesDailyRollupSumDto> jdbcSumByChannelAndOptionCode(LocalDate startDate, LocalDate endDate);
+    List<LocalDate> jdbcSearchSalesDatesByIds(String channel, List<UUID> ids);
+}
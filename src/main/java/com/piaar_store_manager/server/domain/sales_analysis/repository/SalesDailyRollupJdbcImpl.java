@@ -0,0 +1,149 @@
+package com.piaar_store_manager.server.domain.sales_analysis.repository;
+
+import java.sql.Date;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import com.piaar_store_manager.server.config.jpa.UuidStorage;
+import com.piaar_store_manager.server.domain.erp_order_item.repository.ErpOrderItemArchive;
+import com.piaar_store_manager.server.domain.sales_analysis.dto.SalesDailyRollupSumDto;
+import com.piaar_store_manager.server.domain.sales_analysis.entity.SalesDailyRollupEntity;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class SalesDailyRollupJdbcImpl implements SalesDailyRollupCustomJdbc {
+    private static final int ID_CHUNK_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UuidStorage uuidStorage;
+    private final ErpOrderItemArchive erpOrderItemArchive;
+
+    // 집계 일자의 기준 시간대. created_at 은 서버 시간대(LocalDateTime.now())로 저장된다.
+    @Value("${app.sales-rollup.zone:Asia/Seoul}")
+    private String salesZone;
+
+    /**
+     * startDate ~ endDate 의 channel 집계 행을 삭제하고 원본 테이블에서 다시 집계해 저장한다. 트랜잭션 안에서 호출해야 한다.
+     * 원본 테이블의 created_at 인덱스로 해당 기간의 행만 읽는다.
+     * erp 는 보관 테이블을 사용한다면 보관 테이블로 옮겨진 주문도 함께 집계한다.
+     */
+    @Override
+    public int jdbcRebuild(String channel, LocalDate startDate, LocalDate endDate) {
+        List<String> sourceTables = this.getSourceTables(channel);
+        String optionCodeColumn = this.getOptionCodeColumn(channel);
+        LocalDateTime createdAtFrom = this.toServerDateTime(startDate);
+        LocalDateTime createdAtTo = this.toServerDateTime(endDate.plusDays(1));
+        int offsetMinutes = this.getOffsetMinutes();
+
+        jdbcTemplate.update("DELETE FROM sales_daily_rollup WHERE channel = ? AND sales_date >= ? AND sales_date <= ?",
+                channel, Date.valueOf(startDate), Date.valueOf(endDate));
+
+        String sourceSql = sourceTables.stream()
+                .map(table -> "SELECT created_at, " + optionCodeColumn + " AS option_code, unit FROM " + table
+                        + " WHERE created_at >= ? AND created_at < ? AND " + optionCodeColumn + " IS NOT NULL")
+                .collect(Collectors.joining(" UNION ALL "));
+        String sql = "INSERT INTO sales_daily_rollup (sales_date, channel, option_code, unit)"
+                + " SELECT DATE(DATE_ADD(s.created_at, INTERVAL ? MINUTE)), ?, s.option_code, COALESCE(SUM(s.unit), 0)"
+                + " FROM (" + sourceSql + ") s"
+                + " GROUP BY DATE(DATE_ADD(s.created_at, INTERVAL ? MINUTE)), s.option_code";
+
+        List<Object> params = new ArrayList<>();
+        params.add(offsetMinutes);
+        params.add(channel);
+        sourceTables.forEach(table -> {
+            params.add(createdAtFrom);
+            params.add(createdAtTo);
+        });
+        params.add(offsetMinutes);
+
+        return jdbcTemplate.update(sql, params.toArray());
+    }
+
+    /**
+     * startDate ~ endDate 의 판매채널 + 옵션코드 별 판매 수량 합계를 조회한다.
+     */
+    @Override
+    public List<SalesDailyRollupSumDto> jdbcSumByChannelAndOptionCode(LocalDate startDate, LocalDate endDate) {
+        String sql = "SELECT channel, option_code, SUM(unit) AS unit FROM sales_daily_rollup"
+                + " WHERE sales_date >= ? AND sales_date <= ?"
+                + " GROUP BY channel, option_code";
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> SalesDailyRollupSumDto.builder()
+                .channel(rs.getString("channel"))
+                .optionCode(rs.getString("option_code"))
+                .unit(rs.getInt("unit"))
+                .build(), Date.valueOf(startDate), Date.valueOf(endDate));
+    }
+
+    /**
+     * ids 에 대응하는 원본 데이터의 집계 일자를 조회한다. 삭제, 옵션코드 변경 등 id 만 전달되는 수정의 집계 대상 일자를 찾을 때 사용한다.
+     * 보관 테이블은 수정하지 않으므로 운영 테이블만 조회한다.
+     */
+    @Override
+    public List<LocalDate> jdbcSearchSalesDatesByIds(String channel, List<UUID> ids) {
+        String table = this.getSourceTables(channel).get(0);
+        int offsetMinutes = this.getOffsetMinutes();
+        Set<LocalDate> salesDates = new LinkedHashSet<>();
+
+        for (int i = 0; i < ids.size(); i += ID_CHUNK_SIZE) {
+            List<UUID> chunk = ids.subList(i, Math.min(i + ID_CHUNK_SIZE, ids.size()));
+            String sql = "SELECT DISTINCT DATE(DATE_ADD(created_at, INTERVAL ? MINUTE)) FROM " + table
+                    + " WHERE created_at IS NOT NULL AND id IN (" + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")";
+
+            List<Object> params = new ArrayList<>(chunk.size() + 1);
+            params.add(offsetMinutes);
+            chunk.forEach(id -> params.add(uuidStorage.toParameter(id)));
+
+            jdbcTemplate.queryForList(sql, Date.class, params.toArray()).forEach(date -> salesDates.add(date.toLocalDate()));
+        }
+        return new ArrayList<>(salesDates);
+    }
+
+    private List<String> getSourceTables(String channel) {
+        switch (channel) {
+            case SalesDailyRollupEntity.CHANNEL_NAVER:
+                return Collections.singletonList("delivery_ready_naver_item");
+            case SalesDailyRollupEntity.CHANNEL_COUPANG:
+                return Collections.singletonList("delivery_ready_coupang_item");
+            case SalesDailyRollupEntity.CHANNEL_ERP:
+                if (erpOrderItemArchive.isEnabled()) {
+                    return List.of(ErpOrderItemArchive.TABLE_NAME, ErpOrderItemArchive.ARCHIVE_TABLE_NAME);
+                }
+                return Collections.singletonList(ErpOrderItemArchive.TABLE_NAME);
+            default:
+                throw new IllegalArgumentException("unknown sales channel : " + channel);
+        }
+    }
+
+    private String getOptionCodeColumn(String channel) {
+        return SalesDailyRollupEntity.CHANNEL_ERP.equals(channel) ? "option_code" : "option_management_code";
+    }
+
+    // 집계 일자 0시를 created_at 기준(서버 시간대)으로 변환한다.
+    private LocalDateTime toServerDateTime(LocalDate salesDate) {
+        return salesDate.atStartOfDay(ZoneId.of(salesZone)).withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+    }
+
+    // created_at(서버 시간대)에 더하면 집계 시간대의 일시가 되는 분
+    private int getOffsetMinutes() {
+        Instant now = Instant.now();
+        int salesOffsetSeconds = ZoneId.of(salesZone).getRules().getOffset(now).getTotalSeconds();
+        int serverOffsetSeconds = ZoneId.systemDefault().getRules().getOffset(now).getTotalSeconds();
+        return (salesOffsetSeconds - serverOffsetSeconds) / 60;
+    }
+}
@@ -1,16 +1,22 @@
 package com.piaar_store_manager.server.domain.sales_analysis.service;
 
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.Calendar;
-import java.util.Comparator;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.piaar_store_manager.server.domain.delivery_ready.naver.repository.DeliveryReadyNaverItemRepository;
+import com.piaar_store_manager.server.domain.product_catalog.service.ProductCatalogCache;
 import com.piaar_store_manager.server.domain.sales_analysis.dto.SalesAnalysisItemDto;
+import com.piaar_store_manager.server.domain.sales_analysis.dto.SalesDailyRollupSumDto;
+import com.piaar_store_manager.server.domain.sales_analysis.entity.SalesDailyRollupEntity;
 import com.piaar_store_manager.server.domain.sales_analysis.proj.SalesAnalysisItemProj;
 import com.piaar_store_manager.server.domain.user.service.UserService;
+import com.piaar_store_manager.server.exception.CustomInvalidDataException;
 
 import org.springframework.stereotype.Service;
 
@@ -20,13 +26,35 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class SalesAnalysisItemBusinessService {
     private final DeliveryReadyNaverItemRepository itemRepository;
+    private final SalesDailyRollupService salesDailyRollupService;
+    private final ProductCatalogCache productCatalogCache;
     private final UserService userService;
 
+    private static final LocalDate MIN_SALES_DATE = LocalDate.of(1970, 1, 1);
+
+    /**
+     * <b>DB Select Related Method</b>
+     * <p>
+     * 조회기간(startDate ~ endDate)의 판매채널 별 판매 수량을 조회하고, groupBy(option, product, category) 기준으로 합친다.
+     * 일자별 판매 수량 집계를 사용한다면 집계 테이블의 기간 합계를 조회하며, 조회기간은 일 단위로 적용된다.
+     *
+     * @param params : Map::String, Object::
+     * @return List::SalesAnalysisItemDto::
+     * @see SalesDailyRollupService#sumUnits
+     * @see SalesAnalysisItemGrouping#group
+     */
     public List<SalesAnalysisItemDto> searchAll(Map<String, Object> params) {
         // access check
         userService.userLoginCheck();
         userService.userManagerRoleCheck();
-        
+
+        String groupBy = params.get("groupBy") != null ? params.get("groupBy").toString() : null;
+        List<SalesAnalysisItemDto> salesItemDtos = salesDailyRollupService.isEnabled() ? this.searchAllByRollup(params) : this.searchAllBySource(params);
+
+        return SalesAnalysisItemGrouping.group(salesItemDtos, groupBy);
+    }
+
+    private List<SalesAnalysisItemDto> searchAllBySource(Map<String, Object> params) {
         Calendar startDateCalendar = Calendar.getInstance();
         startDateCalendar.set(Calendar.YEAR, 1970);
         Date startDate = params.get("startDate") != null ? new Date(params.get("startDate").toString())
@@ -38,8 +66,77 @@ public class SalesAnalysisItemBusinessService {
         List<SalesAnalysisItemDto> salesItemDtos = salesItemList.stream().map(proj -> SalesAnalysisItemDto.toDto(proj)).collect(Collectors.toList());
 
         salesItemDtos.stream().forEach(r -> r.setTotalSalesUnit(r.getNaverSalesUnit() + r.getCoupangSalesUnit() + r.getErpSalesUnit()));
-        salesItemDtos.sort(Comparator.comparing(SalesAnalysisItemDto::getTotalSalesUnit).reversed());
-
         return salesItemDtos;
     }
+
+    /*
+    집계 테이블의 옵션코드 별 합계를 상품 카탈로그와 합친다.
+    기존 조회와 동일하게 상품, 카테고리가 존재하는 모든 옵션을 반환하며 판매 수량이 없다면 0 으로 채운다.
+     */
+    private List<SalesAnalysisItemDto> searchAllByRollup(Map<String, Object> params) {
+        LocalDate startDate = params.get("startDate") != null ? salesDailyRollupService.toSalesDate(new Date(params.get("startDate").toString()).toInstant())
+                : MIN_SALES_DATE;
+        LocalDate endDate = params.get("endDate") != null ? salesDailyRollupService.toSalesDate(new Date(params.get("endDate").toString()).toInstant())
+                : salesDailyRollupService.toSalesDate(Instant.now());
+
+        // 옵션코드 - [naver, coupang, erp] 판매 수량
+        Map<String, int[]> salesUnitsByOptionCode = new HashMap<>();
+        for (SalesDailyRollupSumDto sumDto : salesDailyRollupService.sumUnits(startDate, endDate)) {
+            int[] salesUnits = salesUnitsByOptionCode.computeIfAbsent(sumDto.getOptionCode(), optionCode -> new int[3]);
+            salesUnits[getChannelIndex(sumDto.getChannel())] += sumDto.getUnit();
+        }
+
+        return productCatalogCache.getAll().stream()
+                .filter(entry -> entry.hasProduct() && entry.getProductCategory() != null)
+                .map(entry -> {
+                    int[] salesUnits = salesUnitsByOptionCode.getOrDefault(entry.getOptionCode(), new int[3]);
+                    return SalesAnalysisItemDto.toDto(entry, salesUnits[0], salesUnits[1], salesUnits[2]);
+                })
+                .collect(Collectors.toList());
+    }
+
+    private static int getChannelIndex(String channel) {
+        switch (channel) {
+            case SalesDailyRollupEntity.CHANNEL_NAVER:
+                return 0;
+            case SalesDailyRollupEntity.CHANNEL_COUPANG:
+                return 1;
+            default:
+                return 2;
+        }
+    }
+
+    /**
+     * <b>DB Insert Related Method</b>
+     * <p>
+     * 조회기간(startDate ~ endDate, yyyy-MM-dd)의 일자별 판매 수량을 원본 테이블에서 다시 집계한다.
+     *
+     * @param params : Map::String, Object::
+     * @return int : 저장된 집계 행 수
+     * @see SalesDailyRollupService#backfill
+     */
+    public int backfillRollup(Map<String, Object> params) {
+        // access check
+        userService.userLoginCheck();
+        userService.userManagerRoleCheck();
+
+        if (!salesDailyRollupService.isEnabled()) {
+            throw new CustomInvalidDataException("일자별 판매 수량 집계를 사용하지 않습니다.");
+        }
+
+        LocalDate startDate;
+        LocalDate endDate;
+        try {
+            startDate = LocalDate.parse(params.get("startDate").toString());
+            endDate = LocalDate.parse(params.get("endDate").toString());
+        } catch (RuntimeException e) {
+            throw new CustomInvalidDataException("조회기간을 정확히 선택해 주세요.");
+        }
+
+        if (startDate.isAfter(endDate)) {
+            throw new CustomInvalidDataException("조회기간을 정확히 선택해 주세요.");
+        }
+
+        return salesDailyRollupService.backfill(startDate, endDate);
+    }
 }
@@ -0,0 +1,92 @@
+package com.piaar_store_manager.server.domain.sales_analysis.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import com.piaar_store_manager.server.domain.sales_analysis.dto.SalesAnalysisItemDto;
+import com.piaar_store_manager.server.exception.CustomInvalidDataException;
+
+/**
+ * 옵션 별 판매 수량을 상품 또는 카테고리 별로 합친다.
+ * <p>
+ * option : 옵션 별(기본값), product : 상품 별, category : 카테고리 별.
+ * 상품, 카테고리 별 데이터는 해당 그룹의 공통 필드만 채우고 옵션 필드(옵션명, 옵션코드, 판매가)는 비워둔다.
+ * 결과는 총 판매 수량 내림차순으로 정렬한다.
+ */
+public class SalesAnalysisItemGrouping {
+    public static final String GROUP_BY_OPTION = "option";
+    public static final String GROUP_BY_PRODUCT = "product";
+    public static final String GROUP_BY_CATEGORY = "category";
+
+    private SalesAnalysisItemGrouping() {
+    }
+
+    /**
+     * @param optionItems : List::SalesAnalysisItemDto:: : 옵션 별 판매 수량
+     * @param groupBy     : String
+     * @return List::SalesAnalysisItemDto::
+     */
+    public static List<SalesAnalysisItemDto> group(List<SalesAnalysisItemDto> optionItems, String groupBy) {
+        List<SalesAnalysisItemDto> resultDtos;
+
+        if (groupBy == null || GROUP_BY_OPTION.equals(groupBy)) {
+            resultDtos = new ArrayList<>(optionItems);
+        } else if (GROUP_BY_PRODUCT.equals(groupBy)) {
+            resultDtos = merge(optionItems, SalesAnalysisItemDto::getSalesProductId, (dto, salesUnits) -> SalesAnalysisItemDto.builder()
+                    .salesProdManagementName(dto.getSalesProdManagementName())
+                    .salesProdImageUrl(dto.getSalesProdImageUrl())
+                    .categoryName(dto.getCategoryName())
+                    .salesProductId(dto.getSalesProductId())
+                    .naverSalesUnit(salesUnits[0])
+                    .coupangSalesUnit(salesUnits[1])
+                    .erpSalesUnit(salesUnits[2])
+                    .totalSalesUnit(salesUnits[0] + salesUnits[1] + salesUnits[2])
+                    .build());
+        } else if (GROUP_BY_CATEGORY.equals(groupBy)) {
+            resultDtos = merge(optionItems, SalesAnalysisItemDto::getCategoryName, (dto, salesUnits) -> SalesAnalysisItemDto.builder()
+                    .categoryName(dto.getCategoryName())
+                    .naverSalesUnit(salesUnits[0])
+                    .coupangSalesUnit(salesUnits[1])
+                    .erpSalesUnit(salesUnits[2])
+                    .totalSalesUnit(salesUnits[0] + salesUnits[1] + salesUnits[2])
+                    .build());
+        } else {
+            throw new CustomInvalidDataException("지원하지 않는 집계 기준입니다.");
+        }
+
+        resultDtos.sort(Comparator.comparing(SalesAnalysisItemDto::getTotalSalesUnit).reversed());
+        return resultDtos;
+    }
+
+    /*
+    keyExtractor 가 같은 데이터의 판매채널 별 수량([naver, coupang, erp])을 합치고, 그룹의 첫번째 데이터와 합계로 그룹 데이터를 만든다.
+     */
+    private static List<SalesAnalysisItemDto> merge(
+            List<SalesAnalysisItemDto> optionItems,
+            Function<SalesAnalysisItemDto, Object> keyExtractor,
+            BiFunction<SalesAnalysisItemDto, int[], SalesAnalysisItemDto> groupDtoFactory
+    ) {
+        Map<Object, SalesAnalysisItemDto> headDtos = new LinkedHashMap<>();
+        Map<Object, int[]> salesUnitsByKey = new HashMap<>();
+
+        for (SalesAnalysisItemDto dto : optionItems) {
+            Object key = keyExtractor.apply(dto);
+            headDtos.putIfAbsent(key, dto);
+
+            int[] salesUnits = salesUnitsByKey.computeIfAbsent(key, k -> new int[3]);
+            salesUnits[0] += dto.getNaverSalesUnit();
+            salesUnits[1] += dto.getCoupangSalesUnit();
+            salesUnits[2] += dto.getErpSalesUnit();
+        }
+
+        List<SalesAnalysisItemDto> groupDtos = new ArrayList<>(headDtos.size());
+        headDtos.forEach((key, headDto) -> groupDtos.add(groupDtoFactory.apply(headDto, salesUnitsByKey.get(key))));
+        return groupDtos;
+    }
+}
@@ -0,0 +1,229 @@
+package com.piaar_store_manager.server.domain.sales_analysis.service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import com.piaar_store_manager.server.domain.sales_analysis.dto.SalesDailyRollupSumDto;
+import com.piaar_store_manager.server.domain.sales_analysis.entity.SalesDailyRollupEntity;
+import com.piaar_store_manager.server.domain.sales_analysis.repository.SalesDailyRollupCustomJdbc;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 일자별 판매 수량 집계(sales_daily_rollup)를 관리한다.
+ * <p>
+ * 네이버, 쿠팡 배송준비 데이터와 피아르 주문 데이터가 등록, 수정, 삭제되면 해당 데이터의 (판매채널, 주문 등록일)을 변경 일자로 표시하고,
+ * 트랜잭션이 커밋된 후 flushDirtyDates 가 표시된 일자를 원본 테이블에서 다시 집계한다.
+ * 다시 집계하는 방식이므로 같은 일자를 여러 번 집계해도 결과는 같다.
+ * <p>
+ * 변경 일자는 이 서버의 메모리에만 기록되므로, 서버 종료 등으로 누락된 일자는 매일 최근 refreshDays 일을 다시 집계해 보정한다.
+ * 그 이전 기간은 backfill 로 다시 집계한다.
+ */
+@Slf4j
+@Service
+public class SalesDailyRollupService {
+    private final SalesDailyRollupCustomJdbc salesDailyRollupCustomJdbc;
+    private final TransactionTemplate transactionTemplate;
+    private final Set<DirtyDate> dirtyDates = ConcurrentHashMap.newKeySet();
+
+    private static final List<String> CHANNELS = List.of(SalesDailyRollupEntity.CHANNEL_NAVER, SalesDailyRollupEntity.CHANNEL_COUPANG, SalesDailyRollupEntity.CHANNEL_ERP);
+
+    // false 라면 집계하지 않으며, 판매 분석은 원본 테이블을 조회한다.
+    @Value("${app.sales-rollup.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.sales-rollup.zone:Asia/Seoul}")
+    private String salesZone;
+
+    @Value("${app.sales-rollup.refresh-days:7}")
+    private int refreshDays;
+
+    @Value("${app.sales-rollup.backfill-chunk-days:31}")
+    private int backfillChunkDays;
+
+    @Autowired
+    public SalesDailyRollupService(SalesDailyRollupCustomJdbc salesDailyRollupCustomJdbc, PlatformTransactionManager transactionManager) {
+        this.salesDailyRollupCustomJdbc = salesDailyRollupCustomJdbc;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 일시를 집계 시간대의 일자로 변환한다.
+     *
+     * @param instant : Instant
+     * @return LocalDate
+     */
+    public LocalDate toSalesDate(Instant instant) {
+        return instant.atZone(ZoneId.of(salesZone)).toLocalDate();
+    }
+
+    /**
+     * 주문 등록일(created_at)에 해당하는 channel 의 집계 일자를 변경 일자로 표시한다.
+     * 트랜잭션 안에서 호출했다면 커밋된 후 표시한다.
+     *
+     * @param channel    : String
+     * @param createdAts : Collection::LocalDateTime:: : 서버 시간대 기준 등록일시
+     */
+    public void markDirty(String channel, Collection<LocalDateTime> createdAts) {
+        if (!enabled) {
+            return;
+        }
+
+        this.markDirtySalesDates(channel, createdAts.stream()
+                .filter(Objects::nonNull)
+                .map(createdAt -> this.toSalesDate(createdAt.atZone(ZoneId.systemDefault()).toInstant()))
+                .collect(Collectors.toSet()));
+    }
+
+    /**
+     * ids 에 대응하는 데이터의 집계 일자를 변경 일자로 표시한다. 삭제하는 경우 삭제하기 전에 호출한다.
+     *
+     * @param channel : String
+     * @param ids     : List::UUID::
+     * @see SalesDailyRollupCustomJdbc#jdbcSearchSalesDatesByIds
+     */
+    public void markDirtyByIds(String channel, List<UUID> ids) {
+        if (!enabled || ids.isEmpty()) {
+            return;
+        }
+
+        this.markDirtySalesDates(channel, salesDailyRollupCustomJdbc.jdbcSearchSalesDatesByIds(channel, ids));
+    }
+
+    private void markDirtySalesDates(String channel, Collection<LocalDate> salesDates) {
+        if (salesDates.isEmpty()) {
+            return;
+        }
+
+        List<DirtyDate> targets = salesDates.stream().map(salesDate -> new DirtyDate(channel, salesDate)).collect(Collectors.toList());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dirtyDates.addAll(targets);
+                }
+            });
+        } else {
+            dirtyDates.addAll(targets);
+        }
+    }
+
+    /**
+     * <b>DB Insert Related Method</b>
+     * <p>
+     * 변경 일자로 표시된 (판매채널, 일자)를 다시 집계한다. 실패한 일자는 다음 실행에서 다시 집계한다.
+     *
+     * @see SalesDailyRollupCustomJdbc#jdbcRebuild
+     */
+    @Scheduled(fixedDelayString = "${app.sales-rollup.flush-delay-ms:60000}")
+    public void flushDirtyDates() {
+        if (!enabled || dirtyDates.isEmpty()) {
+            return;
+        }
+
+        for (DirtyDate dirtyDate : new ArrayList<>(dirtyDates)) {
+            dirtyDates.remove(dirtyDate);
+            try {
+                transactionTemplate.execute(status -> salesDailyRollupCustomJdbc.jdbcRebuild(dirtyDate.channel, dirtyDate.salesDate, dirtyDate.salesDate));
+            } catch (RuntimeException e) {
+                dirtyDates.add(dirtyDate);
+                log.error("sales daily rollup failed. channel={}, salesDate={}", dirtyDate.channel, dirtyDate.salesDate, e);
+            }
+        }
+    }
+
+    /**
+     * <b>DB Insert Related Method</b>
+     * <p>
+     * 최근 refreshDays 일과 오늘의 모든 판매채널을 다시 집계한다.
+     *
+     * @see SalesDailyRollupCustomJdbc#jdbcRebuild
+     */
+    @Scheduled(cron = "${app.sales-rollup.refresh-cron:0 20 0 * * *}", zone = "Asia/Seoul")
+    public void refreshRecentDates() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDate today = this.toSalesDate(Instant.now());
+        this.rebuild(today.minusDays(refreshDays), today);
+    }
+
+    /**
+     * <b>DB Insert Related Method</b>
+     * <p>
+     * startDate ~ endDate 의 모든 판매채널을 backfillChunkDays 일 단위 트랜잭션으로 나누어 다시 집계한다.
+     *
+     * @param startDate : LocalDate
+     * @param endDate   : LocalDate
+     * @return int : 저장된 집계 행 수
+     * @see SalesDailyRollupCustomJdbc#jdbcRebuild
+     */
+    public int backfill(LocalDate startDate, LocalDate endDate) {
+        int rollupCount = 0;
+
+        for (LocalDate chunkStartDate = startDate; !chunkStartDate.isAfter(endDate); chunkStartDate = chunkStartDate.plusDays(backfillChunkDays)) {
+            LocalDate chunkEndDate = chunkStartDate.plusDays(backfillChunkDays - 1L);
+            rollupCount += this.rebuild(chunkStartDate, chunkEndDate.isAfter(endDate) ? endDate : chunkEndDate);
+        }
+
+        log.info("sales daily rollup backfilled. startDate={}, endDate={}, count={}", startDate, endDate, rollupCount);
+        return rollupCount;
+    }
+
+    private int rebuild(LocalDate startDate, LocalDate endDate) {
+        int rollupCount = 0;
+        for (String channel : CHANNELS) {
+            rollupCount += transactionTemplate.execute(status -> salesDailyRollupCustomJdbc.jdbcRebuild(channel, startDate, endDate));
+        }
+        return rollupCount;
+    }
+
+    /**
+     * <b>DB Select Related Method</b>
+     * <p>
+     * startDate ~ endDate 의 판매채널 + 옵션코드 별 판매 수량 합계를 조회한다.
+     *
+     * @param startDate : LocalDate
+     * @param endDate   : LocalDate
+     * @return List::SalesDailyRollupSumDto::
+     * @see SalesDailyRollupCustomJdbc#jdbcSumByChannelAndOptionCode
+     */
+    public List<SalesDailyRollupSumDto> sumUnits(LocalDate startDate, LocalDate endDate) {
+        return salesDailyRollupCustomJdbc.jdbcSumByChannelAndOptionCode(startDate, endDate);
+    }
+
+    // 판매채널 + 집계 일자
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class DirtyDate {
+        private final String channel;
+        private final LocalDate salesDate;
+    }
+}
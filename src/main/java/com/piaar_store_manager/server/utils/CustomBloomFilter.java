@@ -0,0 +1,80 @@
+package com.piaar_store_manager.server.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 Bloom filter.
+ * <p>
+ * mightContain 이 false 라면 put 된 적이 없는 값이고, true 라면 put 된 적이 있거나 falsePositiveRate 확률의 오탐이다.
+ * 삭제는 지원하지 않는다. put, mightContain 은 여러 스레드에서 동시에 호출할 수 있다.
+ */
+public class CustomBloomFilter {
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    /**
+     * expectedInsertions 개의 값을 저장했을 때 오탐률이 falsePositiveRate 가 되도록 크기를 정한다.
+     *
+     * @param expectedInsertions : long
+     * @param falsePositiveRate  : double
+     */
+    public CustomBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long insertions = Math.max(1, expectedInsertions);
+        long optimalBitSize = (long) Math.ceil(-insertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+
+        this.bits = new AtomicLongArray((int) Math.max(1, (optimalBitSize + 63) / 64));
+        this.bitSize = (long) bits.length() * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / insertions * Math.log(2)));
+    }
+
+    public void put(String value) {
+        long hash = hash64(value);
+        long hash1 = hash;
+        long hash2 = hash >>> 32 | 1;
+
+        for (int i = 0; i < hashCount; i++) {
+            long bitIndex = Math.floorMod(hash1 + i * hash2, bitSize);
+            int wordIndex = (int) (bitIndex >>> 6);
+            long mask = 1L << bitIndex;
+
+            long word;
+            do {
+                word = bits.get(wordIndex);
+                if ((word & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(wordIndex, word, word | mask));
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long hash = hash64(value);
+        long hash1 = hash;
+        long hash2 = hash >>> 32 | 1;
+
+        for (int i = 0; i < hashCount; i++) {
+            long bitIndex = Math.floorMod(hash1 + i * hash2, bitSize);
+            if ((bits.get((int) (bitIndex >>> 6)) & (1L << bitIndex)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /*
+    UTF-8 바이트의 FNV-1a 해시에 splitmix64 finalizer 를 적용해 상위, 하위 비트를 고르게 섞는다.
+     */
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+
+        hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+        return hash ^ (hash >>> 31);
+    }
+}
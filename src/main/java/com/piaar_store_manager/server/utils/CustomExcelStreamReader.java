@@ -0,0 +1,345 @@
+package com.piaar_store_manager.server.utils;
+
+import com.piaar_store_manager.server.exception.CustomExcelFileUploadException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * xlsx 파일의 첫번째 시트를 XSSF event model(SAX)로 한 행씩 읽어들인다.
+ * <p>
+ * Workbook DOM 을 만들지 않기 때문에 메모리 사용량은 파일 크기가 아닌 행의 너비(셀 수)와 공유 문자열 테이블에 비례한다.
+ * 셀 값은 POI usermodel 의 Cell 과 동일한 규칙(타입 불일치 시 IllegalStateException)으로 꺼낼 수 있도록 StreamCell 로 제공한다.
+ */
+public class CustomExcelStreamReader {
+    private static final String TEMP_FILE_PREFIX = "piaar-excel-";
+    private static final String TEMP_FILE_SUFFIX = ".xlsx";
+
+    @FunctionalInterface
+    public interface RowHandler {
+        /**
+         * @return false 를 반환하면 나머지 행은 읽지 않는다.
+         */
+        boolean handle(StreamRow row);
+    }
+
+    /**
+     * 업로드된 xlsx 스트림을 임시 파일로 내린 후 첫번째 시트의 행들을 순서대로 rowHandler 에 전달한다.
+     * OPCPackage 를 InputStream 으로 열면 zip entry 전체를 메모리에 풀어두기 때문에 임시 파일을 사용한다.
+     * <p>
+     * rowHandler 에서 발생한 RuntimeException 은 그대로 전달된다.
+     *
+     * @param inputStream : InputStream
+     * @param rowHandler  : RowHandler
+     */
+    public static void readFirstSheet(InputStream inputStream, RowHandler rowHandler) {
+        Path tempFile = null;
+
+        try {
+            tempFile = Files.createTempFile(TEMP_FILE_PREFIX, TEMP_FILE_SUFFIX);
+            Files.copy(inputStream, tempFile, StandardCopyOption.REPLACE_EXISTING);
+
+            readFirstSheet(tempFile, rowHandler);
+        } catch (IOException e) {
+            throw new CustomExcelFileUploadException("올바른 양식의 엑셀 파일이 아닙니다.\n올바른 엑셀 파일을 업로드해주세요.", e);
+        } finally {
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (IOException e) {
+                    tempFile.toFile().deleteOnExit();
+                }
+            }
+        }
+    }
+
+    /**
+     * 로컬에 저장된 xlsx 파일의 첫번째 시트의 행들을 순서대로 rowHandler 에 전달한다. 파일은 삭제하지 않는다.
+     * <p>
+     * rowHandler 에서 발생한 RuntimeException 은 그대로 전달된다.
+     *
+     * @param file       : Path
+     * @param rowHandler : RowHandler
+     */
+    public static void readFirstSheet(Path file, RowHandler rowHandler) {
+        try (OPCPackage pkg = OPCPackage.open(file.toFile(), PackageAccess.READ)) {
+            XSSFReader xssfReader = new XSSFReader(pkg);
+            // 일본어 후리가나 등 발음 표기(rPh)는 셀 값에 포함하지 않는다.
+            SharedStrings sharedStrings = new ReadOnlySharedStringsTable(pkg, false);
+            StylesTable stylesTable = xssfReader.getStylesTable();
+
+            Iterator<InputStream> sheets = xssfReader.getSheetsData();
+            if (!sheets.hasNext()) {
+                throw new CustomExcelFileUploadException("올바른 양식의 엑셀 파일이 아닙니다.\n올바른 엑셀 파일을 업로드해주세요.");
+            }
+
+            try (InputStream sheetStream = sheets.next()) {
+                XMLReader sheetParser = XMLHelper.newXMLReader();
+                sheetParser.setContentHandler(new SheetHandler(sharedStrings, stylesTable, rowHandler));
+                sheetParser.parse(new InputSource(sheetStream));
+            } catch (StopReadingException e) {
+                // rowHandler 가 읽기 중단을 요청한 경우
+            }
+        } catch (SAXException e) {
+            if (e.getException() instanceof RuntimeException) {
+                throw (RuntimeException) e.getException();
+            }
+            throw new CustomExcelFileUploadException("올바른 양식의 엑셀 파일이 아닙니다.\n올바른 엑셀 파일을 업로드해주세요.", e);
+        } catch (IOException | OpenXML4JException | ParserConfigurationException e) {
+            throw new CustomExcelFileUploadException("올바른 양식의 엑셀 파일이 아닙니다.\n올바른 엑셀 파일을 업로드해주세요.", e);
+        }
+    }
+
+    private static class StopReadingException extends SAXException {
+        private static final long serialVersionUID = 1L;
+    }
+
+    /**
+     * 한 행의 셀 데이터. 셀이 존재하지 않는 컬럼은 null 을 반환한다.
+     */
+    public static class StreamRow {
+        private final int rowIndex;
+        private final Map<Integer, StreamCell> cells = new HashMap<>();
+
+        StreamRow(int rowIndex) {
+            this.rowIndex = rowIndex;
+        }
+
+        public int getRowIndex() {
+            return rowIndex;
+        }
+
+        public StreamCell getCell(int columnIndex) {
+            return cells.get(columnIndex);
+        }
+
+        public int getPhysicalNumberOfCells() {
+            return cells.size();
+        }
+    }
+
+    /**
+     * SAX 로 읽은 셀 값.
+     * getStringCellValue, getNumericCellValue 는 POI XSSFCell 과 동일하게 타입이 맞지 않으면 IllegalStateException 을 던진다.
+     */
+    public static class StreamCell {
+        private final CellType cellType;
+        private final CellType resultType;
+        private final String value;
+        private final boolean dateFormatted;
+
+        StreamCell(CellType cellType, CellType resultType, String value, boolean dateFormatted) {
+            this.cellType = cellType;
+            this.resultType = resultType;
+            this.value = value;
+            this.dateFormatted = dateFormatted;
+        }
+
+        public CellType getCellType() {
+            return cellType;
+        }
+
+        public String getStringCellValue() {
+            switch (resultType) {
+                case BLANK:
+                    return "";
+                case STRING:
+                    return value;
+                default:
+                    throw new IllegalStateException("Cannot get a STRING value from a " + resultType + " cell");
+            }
+        }
+
+        public double getNumericCellValue() {
+            switch (resultType) {
+                case BLANK:
+                    return 0.0;
+                case NUMERIC:
+                    return Double.parseDouble(value);
+                default:
+                    throw new IllegalStateException("Cannot get a NUMERIC value from a " + resultType + " cell");
+            }
+        }
+
+        /**
+         * DateUtil#isCellDateFormatted 와 동일하게 날짜 서식이면서 유효한 엑셀 날짜 값인지 확인한다.
+         */
+        public boolean isDateFormatted() {
+            return resultType == CellType.NUMERIC && dateFormatted && DateUtil.isValidExcelDate(getNumericCellValue());
+        }
+
+        public Date getDateCellValue() {
+            return DateUtil.getJavaDate(getNumericCellValue());
+        }
+    }
+
+    private static class SheetHandler extends DefaultHandler {
+        private final SharedStrings sharedStrings;
+        private final StylesTable stylesTable;
+        private final RowHandler rowHandler;
+        private final Map<Integer, Boolean> dateStyleCache = new HashMap<>();
+
+        private final StringBuilder textBuffer = new StringBuilder();
+        private boolean textOpen;
+        private boolean phoneticOpen;
+
+        private StreamRow currentRow;
+        private int nextRowIndex = 0;
+
+        private int columnIndex;
+        private int nextColumnIndex;
+        private String cellTypeAttr;
+        private String styleAttr;
+        private boolean formula;
+        private boolean hasValue;
+
+        SheetHandler(SharedStrings sharedStrings, StylesTable stylesTable, RowHandler rowHandler) {
+            this.sharedStrings = sharedStrings;
+            this.stylesTable = stylesTable;
+            this.rowHandler = rowHandler;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            switch (localName) {
+                case "row":
+                    String rowRef = attributes.getValue("r");
+                    int rowIndex = rowRef != null ? Integer.parseInt(rowRef) - 1 : nextRowIndex;
+                    currentRow = new StreamRow(rowIndex);
+                    nextRowIndex = rowIndex + 1;
+                    nextColumnIndex = 0;
+                    break;
+                case "c":
+                    String cellRef = attributes.getValue("r");
+                    columnIndex = cellRef != null ? new CellReference(cellRef).getCol() : nextColumnIndex;
+                    nextColumnIndex = columnIndex + 1;
+                    cellTypeAttr = attributes.getValue("t");
+                    styleAttr = attributes.getValue("s");
+                    formula = false;
+                    hasValue = false;
+                    textBuffer.setLength(0);
+                    break;
+                case "f":
+                    formula = true;
+                    break;
+                case "rPh":
+                    phoneticOpen = true;
+                    break;
+                case "v":
+                case "t":
+                    // <t> 는 inline string(<is>) 안에서만 셀 값으로 사용된다. 발음 표기(<rPh>) 안의 <t> 는 XSSFSheetXMLHandler 와 같이 제외한다.
+                    if (phoneticOpen) {
+                        break;
+                    }
+                    textOpen = true;
+                    hasValue = true;
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            if (textOpen) {
+                textBuffer.append(ch, start, length);
+            }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) throws SAXException {
+            switch (localName) {
+                case "v":
+                case "t":
+                    textOpen = false;
+                    break;
+                case "rPh":
+                    phoneticOpen = false;
+                    break;
+                case "c":
+                    currentRow.cells.put(columnIndex, toStreamCell());
+                    break;
+                case "row":
+                    if (!rowHandler.handle(currentRow)) {
+                        throw new StopReadingException();
+                    }
+                    currentRow = null;
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        private StreamCell toStreamCell() {
+            if (!hasValue) {
+                return new StreamCell(CellType.BLANK, CellType.BLANK, "", false);
+            }
+
+            String rawValue = textBuffer.toString();
+            CellType resultType;
+            String value;
+
+            if (cellTypeAttr == null || cellTypeAttr.equals("n")) {
+                resultType = CellType.NUMERIC;
+                value = rawValue;
+            } else if (cellTypeAttr.equals("s")) {
+                resultType = CellType.STRING;
+                value = sharedStrings.getItemAt(Integer.parseInt(rawValue)).getString();
+            } else if (cellTypeAttr.equals("b")) {
+                resultType = CellType.BOOLEAN;
+                value = rawValue;
+            } else if (cellTypeAttr.equals("e")) {
+                resultType = CellType.ERROR;
+                value = rawValue;
+            } else {
+                // inlineStr, str(formula string result), d
+                resultType = CellType.STRING;
+                value = rawValue;
+            }
+
+            CellType cellType = formula ? CellType.FORMULA : resultType;
+            boolean dateFormatted = resultType == CellType.NUMERIC && isDateStyle();
+            return new StreamCell(cellType, resultType, value, dateFormatted);
+        }
+
+        private boolean isDateStyle() {
+            if (styleAttr == null || stylesTable == null) {
+                return false;
+            }
+
+            int styleIndex = Integer.parseInt(styleAttr);
+            return dateStyleCache.computeIfAbsent(styleIndex, idx -> {
+                XSSFCellStyle style = stylesTable.getStyleAt(idx);
+                if (style == null) {
+                    return false;
+                }
+                return DateUtil.isADateFormat(style.getDataFormat(), style.getDataFormatString());
+            });
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.piaar_store_manager.server.utils;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.FillPatternType;
+import org.apache.poi.ss.usermodel.IndexedColors;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * SheetTemplate 에 선언된 컬럼 순서대로 xlsx 파일을 SXSSF(streaming usermodel)로 작성한다.
+ * <p>
+ * 메모리에는 최근 ROW_ACCESS_WINDOW_SIZE 개의 행만 유지하고 나머지 행은 압축된 임시 파일로 내려보내기 때문에
+ * 행 수와 관계없이 힙 사용량이 일정하다. 작성이 끝나면 임시 파일은 dispose 로 제거한다.
+ */
+public class CustomExcelStreamWriter {
+    private static final int ROW_ACCESS_WINDOW_SIZE = 100;
+    private static final int AUTO_SIZE_SAMPLE_ROW_SIZE = 1000;
+    private static final String CONTENT_TYPE = "ms-vnd/excel";
+    private static final String CONTENT_DISPOSITION = "attachment;filename=example.xlsx";
+
+    /**
+     * response 헤더를 설정하고 rows 를 template 형식의 엑셀 파일로 response 에 작성한다.
+     *
+     * @param response : HttpServletResponse
+     * @param template : SheetTemplate
+     * @param rows     : Iterable
+     * @throws IllegalArgumentException
+     */
+    public static <T> void writeToResponse(HttpServletResponse response, SheetTemplate<T> template, Iterable<? extends T> rows) {
+        response.setContentType(CONTENT_TYPE);
+        response.setHeader("Content-Disposition", CONTENT_DISPOSITION);
+
+        try {
+            write(response.getOutputStream(), template, rows);
+        } catch (IOException e) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    /**
+     * rows 를 template 형식의 엑셀 파일로 outputStream 에 작성한다. outputStream 은 닫지 않는다.
+     *
+     * @param outputStream : OutputStream
+     * @param template     : SheetTemplate
+     * @param rows         : Iterable
+     * @throws IOException
+     */
+    public static <T> void write(OutputStream outputStream, SheetTemplate<T> template, Iterable<? extends T> rows) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW_SIZE);
+        workbook.setCompressTempFiles(true);
+
+        try {
+            SXSSFSheet sheet = workbook.createSheet(template.getSheetName());
+            List<Column<T>> columns = template.getColumns();
+            CellStyle highlightStyle = null;
+
+            // 자동 너비는 행이 임시 파일로 내려갈 때마다 갱신되므로 행을 작성하기 전에 추적을 시작한다.
+            // 셀마다 글꼴 너비를 계산하는 비용이 크기 때문에 앞쪽 AUTO_SIZE_SAMPLE_ROW_SIZE 개의 행으로만 너비를 정한다.
+            for (int i = 0; i < columns.size(); i++) {
+                if (columns.get(i).getWidth() != null) {
+                    sheet.setColumnWidth(i, columns.get(i).getWidth());
+                } else {
+                    sheet.trackColumnForAutoSizing(i);
+                }
+
+                if (columns.get(i).getHighlightCondition() != null && highlightStyle == null) {
+                    highlightStyle = workbook.createCellStyle();
+                    highlightStyle.setFillForegroundColor(IndexedColors.YELLOW.getIndex());
+                    highlightStyle.setFillPattern(FillPatternType.BRICKS);
+                }
+            }
+
+            int rowNum = 0;
+            Row row = sheet.createRow(rowNum++);
+            for (int i = 0; i < columns.size(); i++) {
+                row.createCell(i).setCellValue(columns.get(i).getHeaderName());
+            }
+
+            boolean autoSized = false;
+            for (T data : rows) {
+                if (!autoSized && rowNum > AUTO_SIZE_SAMPLE_ROW_SIZE) {
+                    autoSizeColumns(sheet, columns);
+                    autoSized = true;
+                }
+
+                row = sheet.createRow(rowNum++);
+                for (int i = 0; i < columns.size(); i++) {
+                    Column<T> column = columns.get(i);
+                    Object value = column.getValueExtractor().apply(data);
+
+                    if (value == null) {
+                        continue;
+                    }
+
+                    Cell cell = row.createCell(i);
+                    setCellValue(cell, value);
+
+                    if (column.getHighlightCondition() != null && column.getHighlightCondition().test(data)) {
+                        cell.setCellStyle(highlightStyle);
+                    }
+                }
+                // 줄바꿈이 포함된 값(로젠 품목 정보 등)이 모두 보이도록 행 높이는 엑셀의 자동 높이를 사용한다.
+                row.setHeight((short) -1);
+            }
+
+            if (!autoSized) {
+                autoSizeColumns(sheet, columns);
+            }
+
+            workbook.write(outputStream);
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    private static <T> void autoSizeColumns(SXSSFSheet sheet, List<Column<T>> columns) {
+        for (int i = 0; i < columns.size(); i++) {
+            if (columns.get(i).getWidth() == null) {
+                sheet.autoSizeColumn(i);
+            }
+        }
+        sheet.untrackAllColumnsForAutoSizing();
+    }
+
+    private static void setCellValue(Cell cell, Object value) {
+        if (value instanceof Number) {
+            cell.setCellValue(((Number) value).doubleValue());
+        } else if (value instanceof Boolean) {
+            cell.setCellValue((Boolean) value);
+        } else if (value instanceof Date) {
+            cell.setCellValue((Date) value);
+        } else if (value instanceof LocalDateTime) {
+            cell.setCellValue((LocalDateTime) value);
+        } else if (value instanceof LocalDate) {
+            cell.setCellValue((LocalDate) value);
+        } else if (value instanceof Calendar) {
+            cell.setCellValue((Calendar) value);
+        } else {
+            cell.setCellValue(value.toString());
+        }
+    }
+
+    /**
+     * 시트명과 컬럼 목록으로 엑셀 양식을 선언한다.
+     */
+    public static class SheetTemplate<T> {
+        private final String sheetName;
+        private final List<Column<T>> columns;
+
+        private SheetTemplate(String sheetName, List<Column<T>> columns) {
+            this.sheetName = sheetName;
+            this.columns = Collections.unmodifiableList(columns);
+        }
+
+        public static <T> Builder<T> builder(String sheetName) {
+            return new Builder<>(sheetName);
+        }
+
+        public String getSheetName() {
+            return sheetName;
+        }
+
+        public List<Column<T>> getColumns() {
+            return columns;
+        }
+
+        public static class Builder<T> {
+            private final String sheetName;
+            private final List<Column<T>> columns = new ArrayList<>();
+
+            private Builder(String sheetName) {
+                this.sheetName = sheetName;
+            }
+
+            /**
+             * valueExtractor 가 null 을 반환하면 해당 셀은 비워둔다.
+             */
+            public Builder<T> column(String headerName, Function<? super T, ?> valueExtractor) {
+                columns.add(new Column<>(headerName, valueExtractor, null, null));
+                return this;
+            }
+
+            /**
+             * 고정 너비 컬럼. 너비가 지정된 컬럼은 자동 너비 조정을 하지 않는다.
+             */
+            public Builder<T> column(String headerName, Function<? super T, ?> valueExtractor, int width) {
+                columns.add(new Column<>(headerName, valueExtractor, width, null));
+                return this;
+            }
+
+            /**
+             * highlightCondition 을 만족하는 행의 셀은 강조 스타일(노란색 배경)로 표시한다.
+             */
+            public Builder<T> highlightedColumn(String headerName, Function<? super T, ?> valueExtractor, Predicate<? super T> highlightCondition) {
+                columns.add(new Column<>(headerName, valueExtractor, null, highlightCondition));
+                return this;
+            }
+
+            public SheetTemplate<T> build() {
+                return new SheetTemplate<>(sheetName, new ArrayList<>(columns));
+            }
+        }
+    }
+
+    public static class Column<T> {
+        private final String headerName;
+        private final Function<? super T, ?> valueExtractor;
+        private final Integer width;
+        private final Predicate<? super T> highlightCondition;
+
+        private Column(String headerName, Function<? super T, ?> valueExtractor, Integer width, Predicate<? super T> highlightCondition) {
+            this.headerName = headerName;
+            this.valueExtractor = valueExtractor;
+            this.width = width;
+            this.highlightCondition = highlightCondition;
+        }
+
+        public String getHeaderName() {
+            return headerName;
+        }
+
+        public Function<? super T, ?> getValueExtractor() {
+            return valueExtractor;
+        }
+
+        public Integer getWidth() {
+            return width;
+        }
+
+        public Predicate<? super T> getHighlightCondition() {
+            return highlightCondition;
+        }
+    }
+}
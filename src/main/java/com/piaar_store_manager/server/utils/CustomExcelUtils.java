@@ -24,6 +24,12 @@ public class CustomExcelUtils {
         return false;
     }
 
+    public static boolean isXlsxFile(MultipartFile file) {
+        String extension = FilenameUtils.getExtension(Objects.requireNonNull(file.getOriginalFilename()).toLowerCase());
+
+        return extension.equals("xlsx");
+    }
+
     public static Workbook getWorkbook(MultipartFile file) {
         Workbook workbook = null;
 
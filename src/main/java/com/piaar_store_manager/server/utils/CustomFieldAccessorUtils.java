@@ -0,0 +1,220 @@
+package com.piaar_store_manager.server.utils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import com.piaar_store_manager.server.exception.CustomInvalidDataException;
+
+/**
+ * 클래스의 필드명에 대응하는 getter, setter 를 MethodHandle 로 한번만 생성해 캐싱한다.
+ * <p>
+ * CustomFieldUtils 는 호출할 때마다 getDeclaredField, setAccessible 을 수행하기 때문에
+ * 행 x 컬럼 단위로 반복되는 병합, 다운로드, 엑셀 변환 로직에서는 이 클래스를 사용한다.
+ * 반복문 밖에서 getAccessors 로 필드명을 미리 검증하고 FieldAccessor 를 꺼내두고 사용한다.
+ * <p>
+ * accessor 는 필드를 선언한 클래스 단위로 생성하므로, 상위 클래스의 필드는 모든 하위 클래스가 같은 accessor 를 사용한다.
+ */
+public class CustomFieldAccessorUtils {
+    private static final Map<Class<?>, Map<String, FieldAccessor>> ACCESSOR_CACHE = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Map<String, FieldAccessor>> DECLARED_ACCESSOR_CACHE = new ConcurrentHashMap<>();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    /**
+     * clazz 의 fieldName 에 대응하는 accessor 를 반환한다. 상위 클래스의 필드도 포함하며, 존재하지 않으면 null 을 반환한다.
+     *
+     * @param clazz     : Class
+     * @param fieldName : String
+     * @return FieldAccessor
+     */
+    public static FieldAccessor getAccessor(Class<?> clazz, String fieldName) {
+        Objects.requireNonNull(clazz);
+
+        if (fieldName == null) {
+            return null;
+        }
+        return ACCESSOR_CACHE.computeIfAbsent(clazz, CustomFieldAccessorUtils::createAccessors).get(fieldName);
+    }
+
+    /**
+     * fieldNames 순서대로 accessor 를 반환한다.
+     * clazz 에 존재하지 않는 필드명이 하나라도 있다면 CustomInvalidDataException 을 던진다.
+     *
+     * @param clazz      : Class
+     * @param fieldNames : List::String::
+     * @return List::FieldAccessor::
+     */
+    public static List<FieldAccessor> getAccessors(Class<?> clazz, List<String> fieldNames) {
+        validateFieldNames(clazz, fieldNames);
+        return fieldNames.stream().map(fieldName -> getAccessor(clazz, fieldName)).collect(Collectors.toList());
+    }
+
+    /**
+     * fieldNames 에 대응하는 accessor 를 필드명 key 로 반환한다.
+     * clazz 에 존재하지 않는 필드명이 하나라도 있다면 CustomInvalidDataException 을 던진다.
+     *
+     * @param clazz      : Class
+     * @param fieldNames : Collection::String::
+     * @return Map::String, FieldAccessor::
+     */
+    public static Map<String, FieldAccessor> getAccessorMap(Class<?> clazz, Collection<String> fieldNames) {
+        validateFieldNames(clazz, fieldNames);
+
+        Map<String, FieldAccessor> accessorMap = new LinkedHashMap<>();
+        fieldNames.forEach(fieldName -> accessorMap.put(fieldName, getAccessor(clazz, fieldName)));
+        return accessorMap;
+    }
+
+    public static void validateFieldNames(Class<?> clazz, Collection<String> fieldNames) {
+        List<String> invalidFieldNames = fieldNames.stream()
+                .filter(fieldName -> getAccessor(clazz, fieldName) == null)
+                .distinct()
+                .collect(Collectors.toList());
+
+        if (!invalidFieldNames.isEmpty()) {
+            throw new CustomInvalidDataException("허용되지 않은 컬럼명이 존재합니다. " + invalidFieldNames);
+        }
+    }
+
+    public static <T> T getFieldValue(Object obj, String fieldName) {
+        Objects.requireNonNull(obj);
+
+        FieldAccessor accessor = getAccessor(obj.getClass(), fieldName);
+        return accessor == null ? null : accessor.get(obj);
+    }
+
+    public static void setFieldValue(Object obj, String fieldName, Object value) {
+        Objects.requireNonNull(obj);
+
+        FieldAccessor accessor = getAccessor(obj.getClass(), fieldName);
+        if (accessor != null) {
+            accessor.set(obj, value);
+        }
+    }
+
+    private static Map<String, FieldAccessor> createAccessors(Class<?> clazz) {
+        Map<String, FieldAccessor> accessors = new LinkedHashMap<>();
+
+        Class<?> current = clazz;
+        while (current != null) {    // 하위 클래스의 필드가 상위 클래스의 같은 이름 필드보다 우선한다.
+            DECLARED_ACCESSOR_CACHE.computeIfAbsent(current, CustomFieldAccessorUtils::createDeclaredAccessors)
+                    .forEach(accessors::putIfAbsent);
+            current = current.getSuperclass();
+        }
+        return Collections.unmodifiableMap(accessors);
+    }
+
+    /*
+    clazz 에 직접 선언된 필드의 accessor 만 생성한다.
+     */
+    private static Map<String, FieldAccessor> createDeclaredAccessors(Class<?> clazz) {
+        Map<String, FieldAccessor> accessors = new LinkedHashMap<>();
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+        for (Field field : clazz.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                continue;
+            }
+            accessors.put(field.getName(), createAccessor(lookup, field));
+        }
+        return Collections.unmodifiableMap(accessors);
+    }
+
+    private static FieldAccessor createAccessor(MethodHandles.Lookup lookup, Field field) {
+        try {
+            field.setAccessible(true);
+            MethodHandle getter = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+            MethodHandle setter = Modifier.isFinal(field.getModifiers()) ? null : lookup.unreflectSetter(field).asType(SETTER_TYPE);
+            return new FieldAccessor(field.getName(), field.getDeclaringClass(), field.getType(), getter, setter);
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new IllegalStateException("필드 접근자를 생성할 수 없습니다. " + field, e);
+        }
+    }
+
+    public static class FieldAccessor {
+        private final String name;
+        private final Class<?> declaringClass;
+        private final Class<?> type;
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        private FieldAccessor(String name, Class<?> declaringClass, Class<?> type, MethodHandle getter, MethodHandle setter) {
+            this.name = name;
+            this.declaringClass = declaringClass;
+            this.type = type;
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Class<?> getDeclaringClass() {
+            return declaringClass;
+        }
+
+        public Class<?> getType() {
+            return type;
+        }
+
+        /**
+         * obj 가 필드를 선언한 클래스의 인스턴스가 아니라면 null 을 반환한다.
+         */
+        @SuppressWarnings("unchecked")
+        public <T> T get(Object obj) {
+            if (!declaringClass.isInstance(obj)) {
+                return null;
+            }
+
+            try {
+                return (T) (Object) getter.invokeExact(obj);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        /**
+         * obj 가 필드를 선언한 클래스의 인스턴스가 아니라면 값을 변경하지 않는다.
+         * value 가 필드 타입과 맞지 않는다면 CustomInvalidDataException 을 던진다.
+         */
+        public void set(Object obj, Object value) {
+            if (setter == null) {
+                throw new IllegalStateException("final 필드는 값을 변경할 수 없습니다. " + name);
+            }
+
+            if (!declaringClass.isInstance(obj)) {
+                return;
+            }
+
+            if (value == null ? type.isPrimitive() : !wrap(type).isInstance(value)) {
+                throw new CustomInvalidDataException("필드 타입과 일치하지 않는 값입니다. " + name);
+            }
+
+            try {
+                setter.invokeExact(obj, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private static Class<?> wrap(Class<?> type) {
+            return type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type;
+        }
+    }
+}
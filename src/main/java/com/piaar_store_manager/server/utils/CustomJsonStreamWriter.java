@@ -0,0 +1,104 @@
+package com.piaar_store_manager.server.utils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * 조회 결과를 Jackson streaming generator 로 response 에 바로 작성한다.
+ * <p>
+ * 전체 결과를 Message 로 감싸 한번에 직렬화하지 않고 chunk 단위로 작성한 후 flush 하기 때문에
+ * 결과 행 수와 관계없이 힙 사용량이 일정하고, 첫번째 chunk 가 조회되는 즉시 응답이 시작된다.
+ * <p>
+ * NDJSON 형식은 한 줄에 하나의 JSON 객체를, JSON 형식은 하나의 배열을 작성한다.
+ * 작성 도중 예외가 발생하면 finish 를 호출하지 않으므로 응답이 완결되지 않은 형태(마지막 줄바꿈 또는 배열 닫기 누락)로 끝난다.
+ */
+public class CustomJsonStreamWriter {
+    public static final String NDJSON_CONTENT_TYPE = "application/x-ndjson";
+    public static final String JSON_CONTENT_TYPE = "application/json";
+    public static final String FORMAT_JSON = "json";
+
+    private final HttpServletResponse response;
+    private final ObjectMapper objectMapper;
+    private final boolean ndjson;
+    private JsonGenerator generator;
+
+    private CustomJsonStreamWriter(HttpServletResponse response, ObjectMapper objectMapper, boolean ndjson) {
+        this.response = response;
+        this.objectMapper = objectMapper;
+        this.ndjson = ndjson;
+    }
+
+    /**
+     * format 이 "json" 이라면 JSON 배열, 그 외에는 NDJSON 형식으로 작성한다.
+     *
+     * @param response     : HttpServletResponse
+     * @param objectMapper : ObjectMapper
+     * @param format       : String
+     * @return CustomJsonStreamWriter
+     */
+    public static CustomJsonStreamWriter of(HttpServletResponse response, ObjectMapper objectMapper, String format) {
+        return new CustomJsonStreamWriter(response, objectMapper, !FORMAT_JSON.equals(format));
+    }
+
+    /**
+     * rows 를 작성하고 response 로 flush 한다.
+     *
+     * @param rows : List
+     * @throws UncheckedIOException
+     */
+    public void writeAll(List<?> rows) {
+        try {
+            JsonGenerator jsonGenerator = this.getGenerator();
+            for (Object row : rows) {
+                jsonGenerator.writeObject(row);
+                if (ndjson) {
+                    jsonGenerator.writeRaw('\n');
+                }
+            }
+            jsonGenerator.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 응답을 완결한다. 작성된 행이 없다면 빈 응답(NDJSON) 또는 빈 배열(JSON)을 작성한다.
+     *
+     * @throws UncheckedIOException
+     */
+    public void finish() {
+        try {
+            JsonGenerator jsonGenerator = this.getGenerator();
+            if (!ndjson) {
+                jsonGenerator.writeEndArray();
+            }
+            jsonGenerator.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /*
+    첫 행을 작성하기 전까지는 response 를 건드리지 않아, 조회 전 예외가 발생하면 일반 오류 응답이 반환된다.
+     */
+    private JsonGenerator getGenerator() throws IOException {
+        if (generator == null) {
+            response.setContentType(ndjson ? NDJSON_CONTENT_TYPE : JSON_CONTENT_TYPE);
+            response.setCharacterEncoding("UTF-8");
+
+            OutputStream outputStream = response.getOutputStream();
+            generator = objectMapper.getFactory().createGenerator(outputStream);
+            generator.setRootValueSeparator(null);
+            if (!ndjson) {
+                generator.writeStartArray();
+            }
+        }
+        return generator;
+    }
+}
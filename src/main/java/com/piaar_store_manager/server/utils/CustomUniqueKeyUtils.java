@@ -1,7 +1,5 @@
 package com.piaar_store_manager.server.utils;
 
-import java.util.Random;
-
 import org.apache.commons.lang3.RandomStringUtils;
 
 public class CustomUniqueKeyUtils {
@@ -21,23 +19,6 @@ public class CustomUniqueKeyUtils {
         return sb.toString();
     }
 
-    // total : 4 random characters => upper case, lower case, Number 1~9
-    public static String generateFreightCode() {
-        int[] NUMBER_BOUND = {49, 57};     // asci 49~57 => number 1~9
-        int[] UPPER_CASE_BOUND = {65, 90};      // asci 65~90 => upper case A~Z
-        int[] LOWER_CASE_BOUND = {97, 122};     // asci 97~122 => lower case a~z
-
-        int targetLength = 4;
-        Random random = new Random();
-        String generatedCode = random.ints(NUMBER_BOUND[0], LOWER_CASE_BOUND[1]+1)
-                            .filter(i -> (i <= NUMBER_BOUND[1] || i >= UPPER_CASE_BOUND[0]) && (i <= UPPER_CASE_BOUND[1] || i >= LOWER_CASE_BOUND[0]))
-                            .limit(targetLength)
-                            .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
-                            .toString();
-
-        return generatedCode;
-    }
-
     public static Long getCurrentMillis() {
         Long l = System.currentTimeMillis();
         return l;
@@ -0,0 +1,58 @@
+package com.piaar_store_manager.server.utils;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * key 별로 version 과 함께 값을 보관하는 캐시.
+ * <p>
+ * 저장된 version 과 현재 version 이 다르다면 loader 로 다시 만든다. 설정 데이터처럼 수가 적고 수정 일시로 변경을 확인할 수 있는 값에 사용한다.
+ * 같은 key 를 동시에 다시 만들 수 있지만 loader 는 부수효과가 없어야 하므로 마지막에 저장된 값이 남는다.
+ */
+public class CustomVersionedCache<K, V> {
+    private final ConcurrentHashMap<K, Versioned<V>> entries = new ConcurrentHashMap<>();
+
+    /**
+     * version 이 비어있다면 변경 여부를 확인할 수 없으므로 캐시하지 않고 loader 의 결과를 그대로 반환한다.
+     *
+     * @param key     : K
+     * @param version : Optional::Object::
+     * @param loader  : Supplier::V::
+     * @return V
+     */
+    public V get(K key, Optional<?> version, Supplier<V> loader) {
+        if (version.isEmpty()) {
+            entries.remove(key);
+            return loader.get();
+        }
+
+        Versioned<V> cached = entries.get(key);
+        if (cached != null && Objects.equals(cached.version, version.get())) {
+            return cached.value;
+        }
+
+        V value = loader.get();
+        entries.put(key, new Versioned<>(version.get(), value));
+        return value;
+    }
+
+    public void remove(K key) {
+        entries.remove(key);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private static class Versioned<V> {
+        private final Object version;
+        private final V value;
+
+        private Versioned(Object version, V value) {
+            this.version = version;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.piaar_store_manager.server.service.code_generator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import com.piaar_store_manager.server.domain.code_generator.service.FreightCodeAllocator;
+import com.piaar_store_manager.server.domain.code_generator.service.UniqueCodeGenerator;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CodeGeneratorTest {
+    private static final int THREAD_SIZE = 16;
+    private static final int CODE_SIZE = 1_000_000;
+
+    @Test
+    public void uniqueCode_noCollisionsAcrossThreads() throws Exception {
+        UniqueCodeGenerator generator = new UniqueCodeGenerator(3);
+
+        Set<String> codes = generateConcurrently(generator::generate);
+
+        Assertions.assertEquals(CODE_SIZE, codes.size());
+    }
+
+    @Test
+    public void uniqueCode_monotonicAndFixedLength() {
+        UniqueCodeGenerator generator = new UniqueCodeGenerator(UniqueCodeGenerator.MAX_NODE_ID);
+
+        String previous = generator.generate();
+        for (int i = 0; i < 100_000; i++) {
+            String code = generator.generate();
+            Assertions.assertEquals(14, code.length());
+            Assertions.assertTrue(code.compareTo(previous) > 0);
+            previous = code;
+        }
+    }
+
+    @Test
+    public void uniqueCode_differentNodesDoNotCollide() {
+        UniqueCodeGenerator first = new UniqueCodeGenerator(1);
+        UniqueCodeGenerator second = new UniqueCodeGenerator(2);
+        Set<String> codes = ConcurrentHashMap.newKeySet();
+
+        for (int i = 0; i < 100_000; i++) {
+            codes.add(first.generate());
+            codes.add(second.generate());
+        }
+
+        Assertions.assertEquals(200_000, codes.size());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new UniqueCodeGenerator(UniqueCodeGenerator.MAX_NODE_ID + 1));
+    }
+
+    @Test
+    public void freightCode_noCollisionsAcrossThreads() throws Exception {
+        AtomicLong sequence = new AtomicLong();
+        AtomicInteger reserveCount = new AtomicInteger();
+        FreightCodeAllocator allocator = new FreightCodeAllocator(size -> {
+            reserveCount.incrementAndGet();
+            return sequence.getAndAdd(size);
+        }, 1000);
+
+        Set<String> codes = generateConcurrently(allocator::allocate);
+
+        Assertions.assertEquals(CODE_SIZE, codes.size());
+        Assertions.assertTrue(codes.stream().allMatch(code -> code.length() == FreightCodeAllocator.CODE_LENGTH
+                && code.chars().allMatch(c -> FreightCodeAllocator.CODE_CHARACTERS.indexOf(c) >= 0)));
+        // 범위를 모두 사용한 스레드만 새 범위를 예약한다.
+        Assertions.assertTrue(reserveCount.get() <= CODE_SIZE / 1000 + THREAD_SIZE);
+    }
+
+    @Test
+    public void freightCode_separateAllocatorsShareSequence() {
+        AtomicLong sequence = new AtomicLong();
+        FreightCodeAllocator first = new FreightCodeAllocator(sequence::getAndAdd, 100);
+        FreightCodeAllocator second = new FreightCodeAllocator(sequence::getAndAdd, 100);
+        Set<String> codes = ConcurrentHashMap.newKeySet();
+
+        for (int i = 0; i < 50_000; i++) {
+            codes.add(first.allocate());
+            codes.add(second.allocate());
+        }
+
+        Assertions.assertEquals(100_000, codes.size());
+    }
+
+    @Test
+    public void freightCode_repeatsOnlyAfterCodeSpace() {
+        Assertions.assertEquals(FreightCodeAllocator.toCode(42), FreightCodeAllocator.toCode(42 + FreightCodeAllocator.CODE_SPACE));
+        Assertions.assertNotEquals(FreightCodeAllocator.toCode(42), FreightCodeAllocator.toCode(43));
+    }
+
+    private Set<String> generateConcurrently(Supplier<String> generator) throws Exception {
+        Set<String> codes = ConcurrentHashMap.newKeySet(CODE_SIZE);
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_SIZE);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREAD_SIZE; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < CODE_SIZE / THREAD_SIZE; i++) {
+                        codes.add(generator.get());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+        return codes;
+    }
+}
@@ -0,0 +1,306 @@
+package com.piaar_store_manager.server.service.delivery_ready;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.piaar_store_manager.server.domain.delivery_ready.common.dto.DeliveryReadyItemHansanExcelFormDto;
+import com.piaar_store_manager.server.domain.delivery_ready.common.dto.DeliveryReadyItemLotteExcelFormDto;
+import com.piaar_store_manager.server.domain.delivery_ready.common.service.DeliveryReadyCourierFormBuilder;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class DeliveryReadyCourierFormBuilderTest {
+
+    @Test
+    public void buildHansanForms_matchesLegacy() {
+        List<DeliveryReadyItemHansanExcelFormDto> formDtos = this.hansanFixture();
+
+        List<String> results = DeliveryReadyCourierFormBuilder.buildHansanForms(formDtos).stream()
+                .map(this::hansanSummary)
+                .collect(Collectors.toList());
+        List<String> legacyResults = legacyChangeDuplicationHansanDtos(this.hansanFixture()).stream()
+                .map(this::hansanSummary)
+                .collect(Collectors.toList());
+
+        Assertions.assertEquals(legacyResults, results);
+        // 입력 리스트의 순서는 변경하지 않는다.
+        Assertions.assertEquals("P4", formDtos.get(0).getProdOrderNumber());
+    }
+
+    @Test
+    public void buildLotteForms_matchesLegacy() {
+        List<String> results = DeliveryReadyCourierFormBuilder.buildLotteForms(this.lotteFixture()).stream()
+                .map(this::lotteSummary)
+                .collect(Collectors.toList());
+        List<String> legacyResults = legacyChangeDuplicationLotteDtos(this.lotteFixture()).stream()
+                .map(this::lotteSummary)
+                .collect(Collectors.toList());
+
+        Assertions.assertEquals(legacyResults, results);
+    }
+
+    @Test
+    public void buildHansanForms_mergesNonAdjacentDuplicates() {
+        // 다른 주문번호의 같은 상품은 정렬 후 이웃하지 않지만 같은 행으로 합친다. 세 개 이상이어도 상품주문번호를 모두 남긴다.
+        List<DeliveryReadyItemHansanExcelFormDto> formDtos = Arrays.asList(
+                hansan("김철수", "010-1111-1111", "서울 마포구 A", "O1", "P1", "티셔츠", "블랙-M", 1),
+                hansan("김철수", "010-1111-1111", "서울 마포구 A", "O1", "P2", "티셔츠", "화이트-L", 1),
+                hansan("김철수", "010-1111-1111", "서울 마포구 A", "O2", "P3", "티셔츠", "블랙-M", 2),
+                hansan("김철수", "010-1111-1111", "서울 마포구 A", "O3", "P4", "티셔츠", "블랙-M", 4)
+        );
+
+        List<DeliveryReadyItemHansanExcelFormDto> results = DeliveryReadyCourierFormBuilder.buildHansanForms(formDtos);
+
+        Assertions.assertEquals(2, results.size());
+        Assertions.assertEquals(7, results.get(0).getUnit());
+        Assertions.assertEquals("P1/P3/P4", results.get(0).getAllProdOrderNumber());
+        Assertions.assertEquals(1, results.get(1).getUnit());
+        Assertions.assertEquals("P2", results.get(1).getAllProdOrderNumber());
+    }
+
+    @Test
+    public void buildLotteForms_omitsRepeatedProdName() {
+        // 바로 앞에 붙인 상품과 상품명이 같다면 상품명을 생략한다.
+        List<DeliveryReadyItemLotteExcelFormDto> formDtos = Arrays.asList(
+                lotte("김철수", "010-1111-1111", "서울 마포구 A", "P1", "모자", "FREE", 1),
+                lotte("김철수", "010-1111-1111", "서울 마포구 A", "P2", "티셔츠", "블랙-M", 1),
+                lotte("김철수", "010-1111-1111", "서울 마포구 A", "P3", "티셔츠", "블루-M", 1),
+                lotte("김철수", "010-1111-1111", "서울 마포구 A", "P4", "티셔츠", "화이트-M", 1)
+        );
+
+        List<DeliveryReadyItemLotteExcelFormDto> results = DeliveryReadyCourierFormBuilder.buildLotteForms(formDtos);
+
+        Assertions.assertEquals(1, results.size());
+        Assertions.assertEquals("모자 [FREE-1] | 티셔츠 [블랙-M-1] | [블루-M-1] | [화이트-M-1]", results.get(0).getAllProdInfo());
+        Assertions.assertEquals("P1/P2/P3/P4", results.get(0).getAllProdOrderNumber());
+    }
+
+    @Test
+    public void buildForms_50kLines() {
+        // 하루 5만 건 출고 : 수취인 2만 명, 수취인별 상품 1~3개, 일부 상품은 2건 이상 주문
+        int lineCount = 50000;
+        List<DeliveryReadyItemHansanExcelFormDto> hansanDtos = new ArrayList<>(lineCount);
+        List<DeliveryReadyItemLotteExcelFormDto> lotteDtos = new ArrayList<>(lineCount);
+
+        for (int i = 0; i < lineCount; i++) {
+            int receiverIdx = i % 20000;
+            int productIdx = (i / 20000) % 3;
+            String receiver = "수취인" + receiverIdx;
+            String contact = "010-" + receiverIdx;
+            String destination = "주소" + receiverIdx;
+            String prodName = "상품" + (receiverIdx + productIdx) % 500;
+            String optionName = "옵션" + productIdx % 2;
+
+            hansanDtos.add(hansan(receiver, contact, destination, "O" + i, "P" + i, prodName, optionName, 1));
+            lotteDtos.add(lotte(receiver, contact, destination, "P" + i, prodName, optionName, 1));
+        }
+
+        List<DeliveryReadyItemHansanExcelFormDto> hansanResults = Assertions.assertTimeoutPreemptively(Duration.ofSeconds(10), () -> DeliveryReadyCourierFormBuilder.buildHansanForms(hansanDtos));
+        List<DeliveryReadyItemLotteExcelFormDto> lotteResults = Assertions.assertTimeoutPreemptively(Duration.ofSeconds(10), () -> DeliveryReadyCourierFormBuilder.buildLotteForms(lotteDtos));
+
+        Assertions.assertEquals(lineCount, hansanResults.stream().mapToInt(DeliveryReadyItemHansanExcelFormDto::getUnit).sum());
+        Assertions.assertEquals(lineCount, hansanResults.stream().mapToInt(dto -> dto.getAllProdOrderNumber().split("/").length).sum());
+        Assertions.assertEquals(20000, lotteResults.size());
+        Assertions.assertEquals(lineCount, lotteResults.stream().mapToInt(dto -> dto.getAllProdOrderNumber().split("/").length).sum());
+    }
+
+    /*
+    기존 구현은 같은 그룹이 이웃한 경우에만 올바르게 합치므로, 같은 (받는사람 + 주소 + 상품명 + 상품상세) 데이터가 정렬 후 이웃하고 2개 이하인 데이터로 비교한다.
+     */
+    private List<DeliveryReadyItemHansanExcelFormDto> hansanFixture() {
+        return new ArrayList<>(Arrays.asList(
+                hansan("이영희", "010-2222-2222", "부산 해운대구 B", "O2", "P4", "양말", "3족", 1),
+                hansan("김철수", "010-1111-1111", "서울 마포구 A", "O1", "P3", "티셔츠", "화이트-L", 1),
+                hansan("박민수", "010-3333-3333", "대구 중구 C", "O3", "P6", "모자", "FREE", 1),
+                hansan("김철수", "010-1111-1111", "서울 마포구 A", "O1", "P1", "티셔츠", "블랙-M", 1),
+                hansan("박민수", "010-3333-3333", "대구 중구 C", "O3", "P5", "모자", "FREE", 2),
+                hansan("김철수", "010-1111-1111", "서울 마포구 A", "O1", "P2", "티셔츠", "블랙-M", 2),
+                hansan("최지우", "010-4444-4444", "인천 남동구 D", "O4", "P7", "바지", "블루-30", 1),
+                hansan("최지우", "010-4444-4444", "인천 남동구 D", "O5", "P8", "셔츠", "화이트-100", 1)
+        ));
+    }
+
+    private List<DeliveryReadyItemLotteExcelFormDto> lotteFixture() {
+        return new ArrayList<>(Arrays.asList(
+                lotte("이영희", "010-2222-2222", "부산 해운대구 B", "P4", "양말", "3족", 1),
+                lotte("김철수", "010-1111-1111", "서울 마포구 A", "P3", "티셔츠", "화이트-L", 1),
+                lotte("박민수", "010-3333-3333", "대구 중구 C", "P6", "모자", "FREE", 1),
+                lotte("김철수", "010-1111-1111", "서울 마포구 A", "P1", "티셔츠", "블랙-M", 1),
+                lotte("박민수", "010-3333-3333", "대구 중구 C", "P5", "모자", "FREE", 2),
+                lotte("김철수", "010-1111-1111", "서울 마포구 A", "P2", "티셔츠", "블랙-M", 2),
+                lotte("김철수", "010-1111-1111", "서울 마포구 A", "P9", "양말", "3족", 2),
+                lotte("최지우", "010-4444-4444", "인천 남동구 D", "P7", "바지", "블루-30", 1),
+                lotte("최지우", "010-4444-4444", "인천 남동구 D", "P8", "셔츠", "화이트-100", 1)
+        ));
+    }
+
+    // 받는사람|상품명|상품상세|수량|총 상품주문번호|중복여부
+    private String hansanSummary(DeliveryReadyItemHansanExcelFormDto dto) {
+        return dto.getReceiver() + "|" + dto.getStoreProdName() + "|" + dto.getStoreOptionName() + "|" + dto.getUnit() + "|" + dto.getAllProdOrderNumber() + "|" + dto.isDuplication();
+    }
+
+    // 받는사람|수량|총 상품정보|총 상품주문번호
+    private String lotteSummary(DeliveryReadyItemLotteExcelFormDto dto) {
+        return dto.getReceiver() + "|" + dto.getUnit() + "|" + dto.getAllProdInfo() + "|" + dto.getAllProdOrderNumber();
+    }
+
+    /*
+    DeliveryReadyNaverBusinessService#changeDuplicationHansanDtos 의 기존 구현(이웃한 데이터만 합친다).
+    뷰 데이터 대신 DeliveryReadyItemHansanExcelFormDto#toFormDto 로 변환된 발주서 데이터를 받는다.
+     */
+    private static List<DeliveryReadyItemHansanExcelFormDto> legacyChangeDuplicationHansanDtos(List<DeliveryReadyItemHansanExcelFormDto> dtos) {
+        List<DeliveryReadyItemHansanExcelFormDto> newOrderList = new ArrayList<>();
+
+        // 받는사람 > 주문번호 > 상품명 > 상품상세 정렬
+        dtos.sort(Comparator.comparing(DeliveryReadyItemHansanExcelFormDto::getReceiver)
+                .thenComparing(DeliveryReadyItemHansanExcelFormDto::getOrderNumber)
+                .thenComparing(DeliveryReadyItemHansanExcelFormDto::getStoreProdName)
+                .thenComparing(DeliveryReadyItemHansanExcelFormDto::getStoreOptionName));
+
+        Set<String> optionSet = new HashSet<>();        // 받는사람 + 주소 + 상품명 + 상품상세
+
+        for (int i = 0; i < dtos.size(); i++) {
+            StringBuilder sb = new StringBuilder();
+            sb.append(dtos.get(i).getReceiver());
+            sb.append(dtos.get(i).getDestination());
+            sb.append(dtos.get(i).getStoreProdName());
+            sb.append(dtos.get(i).getStoreOptionName());
+
+            StringBuilder receiverSb = new StringBuilder();
+            receiverSb.append(dtos.get(i).getReceiver());
+            receiverSb.append(dtos.get(i).getReceiverContact1());
+            receiverSb.append(dtos.get(i).getDestination());
+
+            String resultStr = sb.toString();
+            String receiverStr = receiverSb.toString();
+            int prevOrderIdx = newOrderList.size() - 1;   // 추가되는 데이터 리스트의 마지막 index
+
+            DeliveryReadyItemHansanExcelFormDto currentProd = dtos.get(i);
+
+            // 받는사람 + 주소 + 상품명 + 상품상세 : 중복인 경우
+            if (!optionSet.add(resultStr)) {
+                DeliveryReadyItemHansanExcelFormDto prevProd = newOrderList.get(prevOrderIdx);
+
+                newOrderList.get(prevOrderIdx).setUnit(prevProd.getUnit() + currentProd.getUnit());     // 중복데이터의 수량을 더한다
+                newOrderList.get(prevOrderIdx).setAllProdOrderNumber(prevProd.getProdOrderNumber() + "/" + currentProd.getProdOrderNumber());     // 총 상품번호 수정
+            } else {
+                // 받는사람 + 번호 + 주소 : 중복인 경우
+                if (!optionSet.add(receiverStr)) {
+                    newOrderList.get(prevOrderIdx).setDuplication(true);
+                    currentProd.setDuplication(true);
+                }
+                newOrderList.add(currentProd);
+            }
+        }
+        return newOrderList;
+    }
+
+    /*
+    DeliveryReadyNaverBusinessService#changeDuplicationLotteDtos 의 기존 구현(이웃한 데이터만 합친다).
+     */
+    private static List<DeliveryReadyItemLotteExcelFormDto> legacyChangeDuplicationLotteDtos(List<DeliveryReadyItemLotteExcelFormDto> dtos) {
+        List<DeliveryReadyItemLotteExcelFormDto> newOrderList = new ArrayList<>();
+        List<DeliveryReadyItemLotteExcelFormDto> resultList = new ArrayList<>();
+
+        // 받는사람 > 주소 > 상품명 > 상품상세 정렬
+        dtos.sort(Comparator.comparing(DeliveryReadyItemLotteExcelFormDto::getReceiver)
+                .thenComparing(DeliveryReadyItemLotteExcelFormDto::getDestination)
+                .thenComparing(DeliveryReadyItemLotteExcelFormDto::getProdName1)
+                .thenComparing(DeliveryReadyItemLotteExcelFormDto::getOptionInfo1));
+
+        Set<String> optionSet = new HashSet<>(); // 받는사람 + 주소 + 상품명 + 상품상세
+
+        for (int i = 0; i < dtos.size(); i++) {
+            StringBuilder sb = new StringBuilder();
+            sb.append(dtos.get(i).getReceiver());
+            sb.append(dtos.get(i).getDestination());
+            sb.append(dtos.get(i).getProdName1());
+            sb.append(dtos.get(i).getOptionInfo1());
+
+            String resultStr = sb.toString();
+            int prevOrderIdx = newOrderList.size() - 1;     // 추가되는 데이터 리스트의 마지막 index
+
+            // 받는사람 + 주소 + 상품명 + 상품상세 : 중복인 경우
+            if (!optionSet.add(resultStr)) {
+                DeliveryReadyItemLotteExcelFormDto prevProd = newOrderList.get(prevOrderIdx);
+                DeliveryReadyItemLotteExcelFormDto currentProd = dtos.get(i);
+
+                prevProd.setUnit(prevProd.getUnit() + currentProd.getUnit());     // 중복데이터의 수량을 더한다
+                newOrderList.get(prevOrderIdx).setAllProdInfo(prevProd.getProdName1() + " [" + prevProd.getOptionInfo1() + "-" + prevProd.getUnit() + "]");
+                prevProd.setAllProdOrderNumber(prevProd.getAllProdOrderNumber() + "/" + currentProd.getProdOrderNumber());
+                newOrderList.get(prevOrderIdx).setAllProdOrderNumber(prevProd.getAllProdOrderNumber());   // 총 상품번호 수정
+            } else {
+                newOrderList.add(dtos.get(i));
+            }
+        }
+
+        String prevProdName = "";
+
+        for (int i = 0; i < newOrderList.size(); i++) {
+            StringBuilder receiverSb = new StringBuilder();
+            receiverSb.append(newOrderList.get(i).getReceiver());
+            receiverSb.append(newOrderList.get(i).getReceiverContact1());
+            receiverSb.append(newOrderList.get(i).getDestination());
+
+            String receiverStr = receiverSb.toString();
+            int prevOrderIdx = resultList.size() - 1;     // 추가되는 데이터 리스트의 마지막 index
+
+            // 받는사람 + 연락처 + 주소 + 상품상세 : 중복이 아니면서
+            // 받는사람 + 연락처 + 주소 : 중복인 경우
+            if (!optionSet.add(receiverStr)) {
+                DeliveryReadyItemLotteExcelFormDto prevProd = resultList.get(prevOrderIdx);
+                DeliveryReadyItemLotteExcelFormDto currentProd = newOrderList.get(i);
+
+                // 상품명이 동일한 경우, 중복처리 되었을 때 바로 이전의 상품명과 동일한 경우.
+                if (prevProd.getProdName1().equals(currentProd.getProdName1()) || prevProdName.equals(currentProd.getProdName1())) {
+                    prevProdName = "";
+                    resultList.get(prevOrderIdx).setAllProdInfo(prevProd.getAllProdInfo() + " | " + "[" + currentProd.getOptionInfo1() + "-" + currentProd.getUnit() + "]");
+                } else {      // 상품명이 동일하지 않은 경우
+                    prevProdName = currentProd.getProdName1();
+                    resultList.get(prevOrderIdx).setAllProdInfo(prevProd.getAllProdInfo() + " | " + currentProd.getAllProdInfo());
+                }
+                resultList.get(prevOrderIdx).setAllProdOrderNumber(prevProd.getAllProdOrderNumber() + "/" + currentProd.getAllProdOrderNumber());    // 총 상품번호 수정
+            } else {
+                prevProdName = "";
+                resultList.add(newOrderList.get(i));
+            }
+        }
+        return resultList;
+    }
+
+    private DeliveryReadyItemHansanExcelFormDto hansan(String receiver, String receiverContact1, String destination, String orderNumber, String prodOrderNumber, String prodName, String optionName, int unit) {
+        return DeliveryReadyItemHansanExcelFormDto.builder()
+                .receiver(receiver)
+                .receiverContact1(receiverContact1)
+                .destination(destination)
+                .orderNumber(orderNumber)
+                .prodOrderNumber(prodOrderNumber)
+                .storeProdName(prodName)
+                .storeOptionName(optionName)
+                .unit(unit)
+                .allProdOrderNumber(prodOrderNumber)
+                .duplication(false)
+                .build();
+    }
+
+    private DeliveryReadyItemLotteExcelFormDto lotte(String receiver, String receiverContact1, String destination, String prodOrderNumber, String prodName, String optionName, int unit) {
+        return DeliveryReadyItemLotteExcelFormDto.builder()
+                .receiver(receiver)
+                .receiverContact1(receiverContact1)
+                .destination(destination)
+                .prodOrderNumber(prodOrderNumber)
+                .prodName1(prodName)
+                .optionInfo1(optionName)
+                .unit(unit)
+                .allProdOrderNumber(prodOrderNumber)
+                .allProdInfo(prodName + " [" + optionName + "-" + unit + "]")
+                .build();
+    }
+}
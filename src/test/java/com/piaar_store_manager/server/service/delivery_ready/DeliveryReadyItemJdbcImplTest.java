@@ -0,0 +1,80 @@
+package com.piaar_store_manager.server.service.delivery_ready;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.piaar_store_manager.server.config.jpa.UuidStorage;
+import com.piaar_store_manager.server.domain.delivery_ready.naver.entity.DeliveryReadyNaverItemEntity;
+import com.piaar_store_manager.server.domain.delivery_ready.naver.repository.DeliveryReadyNaverItemJdbcImpl;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class DeliveryReadyItemJdbcImplTest {
+
+    @Test
+    public void jdbcBulkInsert_multiRowStatements() {
+        RecordingJdbcTemplate jdbcTemplate = new RecordingJdbcTemplate();
+        DeliveryReadyNaverItemJdbcImpl jdbcImpl = new DeliveryReadyNaverItemJdbcImpl(jdbcTemplate, new UuidStorage(false));
+        ReflectionTestUtils.setField(jdbcImpl, "batchSize", 500);
+
+        List<DeliveryReadyNaverItemEntity> entities = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            entities.add(DeliveryReadyNaverItemEntity.builder()
+                    .id(UUID.randomUUID())
+                    .prodOrderNumber("P" + i)
+                    .unit(1)
+                    .createdAt(LocalDateTime.of(2022, 5, 1, 0, 0))
+                    .released(false)
+                    .releaseCompleted(false)
+                    .deliveryReadyFileCid(1)
+                    .build());
+        }
+
+        int insertedCount = jdbcImpl.jdbcBulkInsert(entities);
+
+        Assertions.assertEquals(20000, insertedCount);
+        Assertions.assertEquals(40, jdbcTemplate.sqls.size());
+
+        String firstSql = jdbcTemplate.sqls.get(0);
+        int columnCount = firstSql.substring(firstSql.indexOf('(') + 1, firstSql.indexOf(')')).split(", ").length;
+        Object[] firstParams = jdbcTemplate.params.get(0);
+        Assertions.assertEquals(500 * columnCount, firstParams.length);
+        Assertions.assertEquals(entities.get(0).getId().toString(), firstParams[0]);
+        Assertions.assertEquals("P0", firstParams[1]);
+        Assertions.assertEquals("P1", firstParams[columnCount + 1]);
+    }
+
+    @Test
+    public void jdbcBulkUpdateReleaseCompleted_chunksCids() {
+        RecordingJdbcTemplate jdbcTemplate = new RecordingJdbcTemplate();
+        DeliveryReadyNaverItemJdbcImpl jdbcImpl = new DeliveryReadyNaverItemJdbcImpl(jdbcTemplate, new UuidStorage(false));
+        ReflectionTestUtils.setField(jdbcImpl, "batchSize", 500);
+
+        List<Integer> cids = new ArrayList<>();
+        for (int i = 0; i < 1200; i++) {
+            cids.add(i);
+        }
+        jdbcImpl.jdbcBulkUpdateReleaseCompleted(cids, true);
+
+        Assertions.assertEquals(3, jdbcTemplate.sqls.size());
+        Assertions.assertEquals(true, jdbcTemplate.params.get(0)[0]);
+        Assertions.assertEquals(201, jdbcTemplate.params.get(2).length);
+    }
+
+    private static class RecordingJdbcTemplate extends JdbcTemplate {
+        private final List<String> sqls = new ArrayList<>();
+        private final List<Object[]> params = new ArrayList<>();
+
+        @Override
+        public int update(String sql, Object... args) {
+            sqls.add(sql);
+            params.add(args);
+            return sql.startsWith("INSERT") ? (int) sql.chars().filter(c -> c == '(').count() - 1 : args.length - 1;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.piaar_store_manager.server.service.delivery_ready;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.piaar_store_manager.server.domain.delivery_ready.coupang.entity.QDeliveryReadyCoupangItemEntity;
+import com.piaar_store_manager.server.domain.delivery_ready.naver.entity.QDeliveryReadyNaverItemEntity;
+import com.piaar_store_manager.server.domain.pagenation.CursorPageDto;
+import com.piaar_store_manager.server.domain.pagenation.KeysetPagenation;
+import com.piaar_store_manager.server.domain.pagenation.PagenationCursor;
+import com.piaar_store_manager.server.exception.CustomInvalidDataException;
+import com.querydsl.core.types.Constant;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Operation;
+import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberPath;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 배송준비 데이터 keyset 페이지 조회가 출고일시(releasedAt) null, 중복 값이 있어도 누락, 중복 없이 모든 데이터를 조회하는지 확인한다.
+ * 커서 조건은 MySQL 의 정렬 규칙(ASC 는 null 이 가장 앞, DESC 는 가장 뒤)과 같이 동작하는 메모리 데이터로 평가한다.
+ */
+public class DeliveryReadyKeysetPagenationTest {
+    private final QDeliveryReadyNaverItemEntity qNaverItem = QDeliveryReadyNaverItemEntity.deliveryReadyNaverItemEntity;
+    private final QDeliveryReadyCoupangItemEntity qCoupangItem = QDeliveryReadyCoupangItemEntity.deliveryReadyCoupangItemEntity;
+
+    @Test
+    public void naver_releasedAtWithNull_bothDirections() {
+        LocalDateTime base = LocalDateTime.of(2022, 5, 1, 9, 0);
+        List<Row> rows = Arrays.asList(
+                new Row(1, base), new Row(2, null), new Row(3, base.plusHours(1)), new Row(4, null),
+                new Row(5, base), new Row(6, base.plusHours(2)), new Row(7, null), new Row(8, base.plusHours(1))
+        );
+
+        for (Sort.Order order : Arrays.asList(Sort.Order.asc("releasedAt"), Sort.Order.desc("releasedAt"))) {
+            for (int pageSize = 1; pageSize <= 4; pageSize++) {
+                // DeliveryReadyNaverItemRepositoryImpl 은 LocalDateTime 문자열을 커서에 담는다.
+                List<Integer> pagedCids = this.fetchAllPages(rows, order, pageSize, qNaverItem.cid, qNaverItem.releasedAt, LocalDateTime::parse, Function.identity());
+                Assertions.assertEquals(this.sortedCids(rows, order), pagedCids, order + ", pageSize=" + pageSize);
+            }
+        }
+    }
+
+    @Test
+    public void coupang_releasedAtWithNull_bothDirections() {
+        long base = new Date().getTime();
+        List<Row> rows = Arrays.asList(
+                new Row(1, null), new Row(2, new Date(base)), new Row(3, new Date(base)), new Row(4, null),
+                new Row(5, new Date(base - 1000)), new Row(6, null), new Row(7, new Date(base + 1000))
+        );
+
+        for (Sort.Order order : Arrays.asList(Sort.Order.asc("releasedAt"), Sort.Order.desc("releasedAt"))) {
+            for (int pageSize = 1; pageSize <= 4; pageSize++) {
+                // DeliveryReadyCoupangItemRepositoryImpl 은 epoch millis 를 커서에 담는다.
+                List<Integer> pagedCids = this.fetchAllPages(rows, order, pageSize, qCoupangItem.cid, qCoupangItem.releasedAt,
+                        value -> new Date(Long.parseLong(value)), releasedAt -> ((Date) releasedAt).getTime());
+                Assertions.assertEquals(this.sortedCids(rows, order), pagedCids, order + ", pageSize=" + pageSize);
+            }
+        }
+    }
+
+    @Test
+    public void cidOrder_bothDirections() {
+        List<Row> rows = Arrays.asList(new Row(3, null), new Row(1, null), new Row(2, null), new Row(5, null));
+
+        Assertions.assertEquals(Arrays.asList(1, 2, 3, 5),
+                this.fetchAllPages(rows, Sort.Order.asc("cid"), 2, qNaverItem.cid, null, null, Function.identity()));
+        Assertions.assertEquals(Arrays.asList(5, 3, 2, 1),
+                this.fetchAllPages(rows, Sort.Order.desc("cid"), 3, qCoupangItem.cid, null, null, Function.identity()));
+    }
+
+    @Test
+    public void afterCursor_invalidSortValue() {
+        PagenationCursor cursor = PagenationCursor.of("not-a-date", 1);
+
+        Assertions.assertThrows(CustomInvalidDataException.class,
+                () -> KeysetPagenation.afterCursor(Sort.Order.asc("releasedAt"), cursor, qNaverItem.cid, qNaverItem.releasedAt, LocalDateTime::parse));
+        Assertions.assertThrows(CustomInvalidDataException.class,
+                () -> KeysetPagenation.afterCursor(Sort.Order.asc("releasedAt"), cursor, qCoupangItem.cid, qCoupangItem.releasedAt, value -> new Date(Long.parseLong(value))));
+    }
+
+    /*
+    repository 와 같이 pageSize + 1 개씩 조회하며 nextCursor 로 마지막 페이지까지 조회한다.
+     */
+    private List<Integer> fetchAllPages(List<Row> rows, Sort.Order order, int pageSize, NumberPath<Integer> cidPath, Path<?> sortPath,
+                                        Function<String, ?> valueConverter, Function<Object, Object> cursorValueOf) {
+        List<Integer> cids = new ArrayList<>();
+        String cursor = null;
+
+        for (int page = 0; page <= rows.size(); page++) {
+            BooleanExpression condition = KeysetPagenation.afterCursor(order, cursor == null ? null : PagenationCursor.decode(cursor), cidPath, sortPath, valueConverter);
+            List<Row> results = rows.stream()
+                    .filter(row -> condition == null || Boolean.TRUE.equals(this.evaluate(condition, row, cidPath)))
+                    .sorted(this.mysqlOrder(order))
+                    .limit(pageSize + 1)
+                    .collect(Collectors.toList());
+
+            CursorPageDto<Row> cursorPage = KeysetPagenation.toCursorPage(results, pageSize, row -> PagenationCursor.of(
+                    KeysetPagenation.isCidOrder(order) || row.releasedAt == null ? null : cursorValueOf.apply(row.releasedAt), row.cid));
+            cursorPage.getContent().forEach(row -> cids.add(row.cid));
+
+            if (!cursorPage.getHasNext()) {
+                return cids;
+            }
+            cursor = cursorPage.getNextCursor();
+        }
+        throw new AssertionError("커서 조회가 끝나지 않습니다.");
+    }
+
+    private List<Integer> sortedCids(List<Row> rows, Sort.Order order) {
+        return rows.stream().sorted(this.mysqlOrder(order)).map(row -> row.cid).collect(Collectors.toList());
+    }
+
+    /*
+    정렬 키 + cid desc. MySQL 은 ASC 정렬 시 null 을 가장 앞에, DESC 정렬 시 가장 뒤에 위치시킨다.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private Comparator<Row> mysqlOrder(Sort.Order order) {
+        if (KeysetPagenation.isCidOrder(order)) {
+            Comparator<Row> byCid = Comparator.comparing(row -> row.cid);
+            return order.isAscending() ? byCid : byCid.reversed();
+        }
+
+        Comparator<Comparable> values = Comparator.nullsFirst(Comparator.<Comparable>naturalOrder());
+        Comparator<Row> bySortValue = Comparator.comparing(row -> (Comparable) row.releasedAt, order.isAscending() ? values : values.reversed());
+        return bySortValue.thenComparing(row -> row.cid, Comparator.reverseOrder());
+    }
+
+    /*
+    커서 조건에 사용되는 연산만 SQL 의 null 비교 규칙으로 평가한다.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private Object evaluate(Expression<?> expression, Row row, Path<?> cidPath) {
+        if (expression instanceof Constant) {
+            return ((Constant<?>) expression).getConstant();
+        }
+        if (expression instanceof Path) {
+            return expression.equals(cidPath) ? row.cid : row.releasedAt;
+        }
+
+        Operation<?> operation = (Operation<?>) expression;
+        List<Object> args = operation.getArgs().stream().map(arg -> this.evaluate(arg, row, cidPath)).collect(Collectors.toList());
+
+        if (operation.getOperator() == Ops.AND) {
+            return Boolean.TRUE.equals(args.get(0)) && Boolean.TRUE.equals(args.get(1));
+        } else if (operation.getOperator() == Ops.OR) {
+            return Boolean.TRUE.equals(args.get(0)) || Boolean.TRUE.equals(args.get(1));
+        } else if (operation.getOperator() == Ops.IS_NULL) {
+            return args.get(0) == null;
+        } else if (operation.getOperator() == Ops.IS_NOT_NULL) {
+            return args.get(0) != null;
+        }
+
+        if (args.get(0) == null || args.get(1) == null) {
+            return false;
+        }
+        int compared = ((Comparable) args.get(0)).compareTo(args.get(1));
+        if (operation.getOperator() == Ops.EQ) {
+            return compared == 0;
+        } else if (operation.getOperator() == Ops.GT) {
+            return compared > 0;
+        } else if (operation.getOperator() == Ops.LT) {
+            return compared < 0;
+        }
+        throw new UnsupportedOperationException(operation.getOperator().toString());
+    }
+
+    private static class Row {
+        private final Integer cid;
+        private final Object releasedAt;
+
+        Row(Integer cid, Object releasedAt) {
+            this.cid = cid;
+            this.releasedAt = releasedAt;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.piaar_store_manager.server.service.delivery_ready;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import com.piaar_store_manager.server.domain.delivery_ready.common.service.DeliveryReadyProdOrderNumberFilter;
+import com.piaar_store_manager.server.utils.CustomBloomFilter;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class DeliveryReadyProdOrderNumberFilterTest {
+
+    @Test
+    public void bloomFilter_noFalseNegatives() {
+        CustomBloomFilter bloomFilter = new CustomBloomFilter(100000, 0.01);
+        for (int i = 0; i < 100000; i++) {
+            bloomFilter.put("2022050" + i);
+        }
+
+        int falsePositiveCount = 0;
+        for (int i = 0; i < 100000; i++) {
+            Assertions.assertTrue(bloomFilter.mightContain("2022050" + i));
+            if (bloomFilter.mightContain("2022060" + i)) {
+                falsePositiveCount++;
+            }
+        }
+        Assertions.assertTrue(falsePositiveCount < 2000, "falsePositiveCount=" + falsePositiveCount);
+    }
+
+    @Test
+    public void searchStored_chunksLookups() {
+        Set<String> stored = IntStream.range(0, 2500).mapToObj(i -> "P" + i).collect(Collectors.toSet());
+        FakeFinder finder = new FakeFinder(stored);
+        DeliveryReadyProdOrderNumberFilter filter = new DeliveryReadyProdOrderNumberFilter();
+
+        List<String> fileProdOrderNumbers = IntStream.range(2000, 4500).mapToObj(i -> "P" + i).collect(Collectors.toList());
+        fileProdOrderNumbers.add("P2000");
+        Set<String> result = filter.searchStored(fileProdOrderNumbers, finder);
+
+        Assertions.assertEquals(IntStream.range(2000, 2500).mapToObj(i -> "P" + i).collect(Collectors.toSet()), result);
+        Assertions.assertEquals(3, finder.chunkSizes.size());
+        Assertions.assertTrue(finder.chunkSizes.stream().allMatch(size -> size <= 1000));
+    }
+
+    @Test
+    public void searchStored_skipsNumbersNotInBloomFilter() {
+        Set<String> stored = IntStream.range(0, 1000).mapToObj(i -> "P" + i).collect(Collectors.toSet());
+        FakeFinder finder = new FakeFinder(stored);
+        DeliveryReadyProdOrderNumberFilter filter = new DeliveryReadyProdOrderNumberFilter();
+        filter.rebuild(new CustomBloomFilter(10000, 0.01), stored.stream());
+
+        List<String> fileProdOrderNumbers = IntStream.range(900, 1100).mapToObj(i -> "P" + i).collect(Collectors.toList());
+        Set<String> result = filter.searchStored(fileProdOrderNumbers, finder);
+
+        Assertions.assertEquals(IntStream.range(900, 1000).mapToObj(i -> "P" + i).collect(Collectors.toSet()), result);
+        Assertions.assertTrue(finder.lookedUp.size() < 110, "lookedUp=" + finder.lookedUp.size());
+
+        // 저장 후 반영된 값은 다시 조회 대상이 된다.
+        filter.put(List.of("P1050"));
+        stored.add("P1050");
+        Assertions.assertTrue(filter.searchStored(List.of("P1050"), finder).contains("P1050"));
+    }
+
+    private static class FakeFinder implements Function<List<String>, Collection<String>> {
+        private final Set<String> stored;
+        private final List<Integer> chunkSizes = new ArrayList<>();
+        private final Set<String> lookedUp = new HashSet<>();
+
+        private FakeFinder(Set<String> stored) {
+            this.stored = stored;
+        }
+
+        @Override
+        public Collection<String> apply(List<String> prodOrderNumbers) {
+            chunkSizes.add(prodOrderNumbers.size());
+            lookedUp.addAll(prodOrderNumbers);
+            return prodOrderNumbers.stream().filter(stored::contains).collect(Collectors.toSet());
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.piaar_store_manager.server.service.erp_download_excel_header;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.piaar_store_manager.server.domain.erp_download_excel_header.dto.DetailDto;
+import com.piaar_store_manager.server.domain.erp_download_excel_header.dto.ErpDownloadExcelHeaderDetailDto;
+import com.piaar_store_manager.server.domain.erp_download_excel_header.dto.ErpDownloadExcelHeaderDto;
+import com.piaar_store_manager.server.domain.erp_download_excel_header.service.ErpDownloadExcelPlan;
+import com.piaar_store_manager.server.domain.erp_order_item.dto.ErpDownloadOrderItemDto;
+import com.piaar_store_manager.server.domain.erp_order_item.dto.ErpOrderItemDto;
+import com.piaar_store_manager.server.domain.erp_order_item.vo.ErpDownloadItemVo;
+import com.piaar_store_manager.server.utils.CustomDateUtils;
+import com.piaar_store_manager.server.utils.CustomFieldUtils;
+import com.piaar_store_manager.server.utils.CustomVersionedCache;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ErpDownloadExcelPlan 의 결과가 기존 다운로드 로직(downloadByErpDownloadExcelHeader)과 동일한지 검증한다.
+ * 기존 로직은 legacyDownload 에 그대로 옮겨두었다.
+ */
+public class ErpDownloadExcelPlanTest {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Test
+    public void toDownloadItemVos_sameAsLegacy() {
+        ErpDownloadExcelHeaderDto headerDto = downloadHeader(
+                detail("일반", "n", "", "", "-", "receiver", "receiverContact1"),
+                detail("일반", "y", "", "|", "/", "prodName", "optionName", "unit"),
+                detail("일반", "y", "", ",", "", "orderNumber1"),
+                detail("일반", "n", "", "", " ", "createdAt", "deliveryMessage"),
+                detail("고정값", "n", "택배", "", "", "courier"),
+                detail("운송코드", "n", "", "", "", "freightCode")
+        );
+
+        for (long seed = 0; seed < 20; seed++) {
+            List<ErpDownloadOrderItemDto> legacyDtos = randomDownloadDtos(seed, 200);
+            List<ErpDownloadOrderItemDto> planDtos = randomDownloadDtos(seed, 200);
+
+            Assertions.assertEquals(
+                    cellValues(legacyDownload(headerDto, legacyDtos)),
+                    cellValues(ErpDownloadExcelPlan.of(headerDto).toDownloadItemVos(planDtos))
+            );
+        }
+    }
+
+    @Test
+    public void toSheetTemplate_resolvesFieldTypes() {
+        ErpDownloadExcelHeaderDto headerDto = downloadHeader(
+                detail("일반", "y", "", "|", "", "prodName"),
+                detail("고정값", "n", "택배", "", "", "courier"),
+                detail("운송코드", "n", "", "", "", "freightCode")
+        );
+        List<ErpDownloadOrderItemDto> dtos = randomDownloadDtos(1, 3);
+        ErpDownloadExcelPlan plan = ErpDownloadExcelPlan.of(headerDto);
+        List<ErpDownloadItemVo> vos = plan.toDownloadItemVos(dtos);
+
+        var columns = plan.toSheetTemplate(vos, dtos).getColumns();
+
+        Assertions.assertEquals(List.of("상품명", "고정값", "운송코드"), columns.stream().map(r -> r.getHeaderName()).collect(Collectors.toList()));
+        Assertions.assertEquals(vos.get(2).getCellValue().get(0), columns.get(0).getValueExtractor().apply(2));
+        Assertions.assertEquals("택배", columns.get(1).getValueExtractor().apply(2));
+        Assertions.assertEquals(dtos.get(2).getCombinedFreightCode(), columns.get(2).getValueExtractor().apply(2));
+    }
+
+    @Test
+    public void versionedCache_reloadsOnlyWhenVersionChanges() {
+        CustomVersionedCache<String, ErpDownloadExcelPlan> cache = new CustomVersionedCache<>();
+        ErpDownloadExcelHeaderDto headerDto = downloadHeader(detail("일반", "n", "", "", "", "prodName"));
+        AtomicInteger compileCount = new AtomicInteger();
+        LocalDateTime version = LocalDateTime.of(2022, 5, 1, 10, 0);
+
+        ErpDownloadExcelPlan first = cache.get("header", Optional.of(version), () -> {
+            compileCount.incrementAndGet();
+            return ErpDownloadExcelPlan.of(headerDto);
+        });
+        ErpDownloadExcelPlan second = cache.get("header", Optional.of(version), () -> {
+            compileCount.incrementAndGet();
+            return ErpDownloadExcelPlan.of(headerDto);
+        });
+        ErpDownloadExcelPlan updated = cache.get("header", Optional.of(version.plusSeconds(1)), () -> {
+            compileCount.incrementAndGet();
+            return ErpDownloadExcelPlan.of(headerDto);
+        });
+        cache.get("header", Optional.empty(), () -> {
+            compileCount.incrementAndGet();
+            return ErpDownloadExcelPlan.of(headerDto);
+        });
+
+        Assertions.assertSame(first, second);
+        Assertions.assertNotSame(first, updated);
+        Assertions.assertEquals(3, compileCount.get());
+        Assertions.assertEquals(0, cache.size());
+    }
+
+    private static List<List<Object>> cellValues(List<ErpDownloadItemVo> vos) {
+        return vos.stream().map(ErpDownloadItemVo::getCellValue).collect(Collectors.toList());
+    }
+
+    private static List<ErpDownloadOrderItemDto> randomDownloadDtos(long seed, int size) {
+        Random random = new Random(seed);
+        String[] prodNames = {"사과", "배", "포도"};
+        String[] optionCodes = {"O1", "O2", "O3"};
+        List<ErpDownloadOrderItemDto> downloadDtos = new ArrayList<>();
+
+        for (int i = 0; i < size; i++) {
+            List<ErpOrderItemDto> collections = new ArrayList<>();
+            int collectionSize = 1 + random.nextInt(4);
+            for (int j = 0; j < collectionSize; j++) {
+                collections.add(ErpOrderItemDto.builder()
+                        .receiver("수취인" + i)
+                        .receiverContact1(random.nextInt(5) == 0 ? null : "010-0000-" + i)
+                        .prodName(prodNames[random.nextInt(prodNames.length)])
+                        .optionName("옵션" + random.nextInt(3))
+                        .releaseOptionCode(optionCodes[random.nextInt(optionCodes.length)])
+                        .unit(1 + random.nextInt(3))
+                        .orderNumber1("N" + random.nextInt(1000))
+                        .deliveryMessage(random.nextBoolean() ? "문앞" : null)
+                        .createdAt(LocalDateTime.of(2022, 5, 1, 0, 0).plusMinutes(random.nextInt(10000)))
+                        .freightCode("F" + i + j)
+                        .build());
+            }
+            downloadDtos.add(ErpDownloadOrderItemDto.builder()
+                    .receiver("수취인" + i)
+                    .combinedFreightCode("F" + i)
+                    .collections(collections)
+                    .build());
+        }
+        return downloadDtos;
+    }
+
+    private static DetailDto detail(String fieldType, String mergeYn, String fixedValue, String mergeSplitter, String valueSplitter, String... viewColumnNames) {
+        Map<String, Object> detail = new HashMap<>();
+        detail.put("customCellName", fieldType.equals("일반") ? "상품명" : fieldType);
+        detail.put("fieldType", fieldType);
+        detail.put("fixedValue", fixedValue);
+        detail.put("mergeYn", mergeYn);
+        detail.put("mergeSplitter", mergeSplitter);
+        detail.put("valueSplitter", valueSplitter);
+        detail.put("viewDetails", Arrays.stream(viewColumnNames).map(r -> Map.of("matchedColumnName", r)).collect(Collectors.toList()));
+        return OBJECT_MAPPER.convertValue(detail, DetailDto.class);
+    }
+
+    private static ErpDownloadExcelHeaderDto downloadHeader(DetailDto... details) {
+        return ErpDownloadExcelHeaderDto.builder()
+                .headerDetail(ErpDownloadExcelHeaderDetailDto.builder().details(Arrays.asList(details)).build())
+                .build();
+    }
+
+    /*
+    기존 downloadByErpDownloadExcelHeader 로직
+     */
+    private static List<ErpDownloadItemVo> legacyDownload(ErpDownloadExcelHeaderDto headerDto, List<ErpDownloadOrderItemDto> erpDownloadOrderItemDtos) {
+        int HEADER_COLUMN_SIZE = headerDto.getHeaderDetail().getDetails().size();
+        int ERP_DOWNLOAD_ITEM_SIZE = erpDownloadOrderItemDtos.size();
+
+        int currentMergeItemIndex = 0;
+        List<ErpDownloadItemVo> downloadItemVos = new ArrayList<>();
+
+        for (int i = 0; i < ERP_DOWNLOAD_ITEM_SIZE; i++) {
+            List<ErpOrderItemDto> dtos = erpDownloadOrderItemDtos.get(i).getCollections();
+
+            dtos.sort(Comparator.comparing(ErpOrderItemDto::getProdName)
+                    .thenComparing(ErpOrderItemDto::getReleaseOptionCode));
+
+            for (int j = 0; j < dtos.size(); j++) {
+                ErpOrderItemDto originDto = dtos.get(j);
+                List<Object> cellValueList = new ArrayList<>();
+
+                for (int k = 0; k < HEADER_COLUMN_SIZE; k++) {
+                    DetailDto detailDto = headerDto.getHeaderDetail().getDetails().get(k);
+                    int VIEW_DETAIL_SIZE = detailDto.getViewDetails().size();
+
+                    String appendFieldValue = "";
+                    for (int z = 0; z < VIEW_DETAIL_SIZE; z++) {
+                        String matchedColumnName = detailDto.getViewDetails().get(z).getMatchedColumnName();
+                        Object fieldValue = CustomFieldUtils.getFieldValue(originDto, matchedColumnName);
+                        Object obj = fieldValue != null ? fieldValue : "";
+                        appendFieldValue += obj.getClass().equals(LocalDateTime.class) ? CustomDateUtils.getLocalDateTimeToDownloadFormat((LocalDateTime) obj) : obj.toString();
+
+                        if (z < VIEW_DETAIL_SIZE - 1) {
+                            appendFieldValue += detailDto.getValueSplitter().toString();
+                        }
+                    }
+                    cellValueList.add(appendFieldValue);
+                }
+                ErpDownloadItemVo downloadItemVo = ErpDownloadItemVo.builder().cellValue(cellValueList).build();
+                downloadItemVos.add(downloadItemVo);
+
+                if (j != 0) {
+                    ErpDownloadItemVo prevVo = downloadItemVos.get(currentMergeItemIndex - 1);
+                    ErpDownloadItemVo currentVo = downloadItemVos.get(currentMergeItemIndex);
+
+                    for (int k = 0; k < HEADER_COLUMN_SIZE; k++) {
+                        if (headerDto.getHeaderDetail().getDetails().get(k).getMergeYn().equals("y")) {
+                            String result = prevVo.getCellValue().get(k) + headerDto.getHeaderDetail().getDetails().get(k).getMergeSplitter() + currentVo.getCellValue().get(k);
+                            downloadItemVos.get(currentMergeItemIndex - 1).getCellValue().set(k, result);
+                        }
+                    }
+                    downloadItemVos.remove(currentMergeItemIndex);
+                } else {
+                    currentMergeItemIndex++;
+                }
+            }
+        }
+        return downloadItemVos;
+    }
+}
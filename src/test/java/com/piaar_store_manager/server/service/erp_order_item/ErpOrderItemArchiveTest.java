@@ -0,0 +1,143 @@
+package com.piaar_store_manager.server.service.erp_order_item;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.piaar_store_manager.server.config.jpa.TableRoutingConfiguration;
+import com.piaar_store_manager.server.config.jpa.TableRoutingConfiguration.TableRoutingStatementInspector;
+import com.piaar_store_manager.server.domain.erp_order_item.repository.ErpOrderItemArchive;
+import com.piaar_store_manager.server.domain.erp_order_item.service.ErpOrderItemArchiveService;
+import com.piaar_store_manager.server.exception.CustomInvalidDataException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class ErpOrderItemArchiveTest {
+    private final TableRoutingStatementInspector inspector = new TableRoutingStatementInspector();
+
+    @Test
+    public void withRoutedTable_rewritesOnlyTheTable() {
+        String sql = "select erporderit0_.cid from erp_order_item erporderit0_" +
+                " left outer join product_option productopt1_ on (erporderit0_.option_code=productopt1_.code)" +
+                " where not exists (select 1 from erp_order_item_staging s where s.cid = erporderit0_.cid)";
+
+        String routedSql = TableRoutingConfiguration.withRoutedTable(ErpOrderItemArchive.TABLE_NAME, ErpOrderItemArchive.ARCHIVE_TABLE_NAME, () -> inspector.inspect(sql));
+
+        Assertions.assertEquals(
+                "select erporderit0_.cid from erp_order_item_archive erporderit0_" +
+                        " left outer join product_option productopt1_ on (erporderit0_.option_code=productopt1_.code)" +
+                        " where not exists (select 1 from erp_order_item_staging s where s.cid = erporderit0_.cid)",
+                routedSql
+        );
+        Assertions.assertEquals(sql, inspector.inspect(sql));
+    }
+
+    @Test
+    public void withRoutedTable_restoresRouteOnException() {
+        Assertions.assertThrows(IllegalStateException.class, () -> TableRoutingConfiguration.withRoutedTable(ErpOrderItemArchive.TABLE_NAME, ErpOrderItemArchive.ARCHIVE_TABLE_NAME, () -> {
+            throw new IllegalStateException();
+        }));
+
+        Assertions.assertEquals("select * from erp_order_item", inspector.inspect("select * from erp_order_item"));
+    }
+
+    @Test
+    public void getArchiveCreatedBefore_startOfMonth() {
+        Assertions.assertEquals(
+                LocalDateTime.of(2021, 5, 1, 0, 0),
+                ErpOrderItemArchiveService.getArchiveCreatedBefore(LocalDateTime.of(2022, 5, 31, 23, 59, 59), 12)
+        );
+        Assertions.assertEquals(
+                LocalDateTime.of(2021, 12, 1, 0, 0),
+                ErpOrderItemArchiveService.getArchiveCreatedBefore(LocalDateTime.of(2022, 3, 1, 0, 0), 3)
+        );
+    }
+
+    @Test
+    public void fetch_registrationRoutesByBoundaries() {
+        ErpOrderItemArchive archive = this.createArchive(LocalDateTime.of(2021, 3, 1, 0, 0),
+                Map.of("created_at", LocalDateTime.of(2021, 4, 30, 0, 0), "sales_at", LocalDateTime.of(2021, 4, 30, 0, 0), "release_at", LocalDateTime.of(2021, 4, 30, 0, 0)));
+        String sql = "select * from erp_order_item";
+
+        Assertions.assertEquals("select * from erp_order_item_archive",
+                archive.fetch(null, "registration", LocalDateTime.of(2021, 1, 1, 0, 0), LocalDateTime.of(2021, 2, 28, 23, 59), () -> inspector.inspect(sql)));
+        Assertions.assertEquals(sql,
+                archive.fetch(null, "registration", LocalDateTime.of(2021, 5, 1, 0, 0), LocalDateTime.of(2021, 6, 1, 0, 0), () -> inspector.inspect(sql)));
+        Assertions.assertEquals(sql, archive.fetch(null, null, null, null, () -> inspector.inspect(sql)));
+
+        // 처리가 끝나지 않아 운영 테이블에 남은 오래된 주문과 보관된 주문이 함께 있는 기간은 archiveYn 을 지정해야 한다.
+        Assertions.assertThrows(CustomInvalidDataException.class,
+                () -> archive.fetch(null, "registration", LocalDateTime.of(2021, 4, 1, 0, 0), LocalDateTime.of(2021, 5, 31, 0, 0), () -> inspector.inspect(sql)));
+        Assertions.assertEquals("select * from erp_order_item_archive",
+                archive.fetch("y", "registration", LocalDateTime.of(2021, 4, 1, 0, 0), LocalDateTime.of(2021, 5, 31, 0, 0), () -> inspector.inspect(sql)));
+        Assertions.assertEquals(sql,
+                archive.fetch("n", "registration", LocalDateTime.of(2021, 4, 1, 0, 0), LocalDateTime.of(2021, 5, 31, 0, 0), () -> inspector.inspect(sql)));
+    }
+
+    @Test
+    public void fetch_salesAndReleaseNeverRouteToArchiveAutomatically() {
+        ErpOrderItemArchive archive = this.createArchive(LocalDateTime.of(2022, 1, 1, 0, 0),
+                Map.of("created_at", LocalDateTime.of(2021, 4, 30, 0, 0), "sales_at", LocalDateTime.of(2021, 5, 10, 0, 0), "release_at", LocalDateTime.of(2021, 5, 12, 0, 0)));
+        String sql = "select * from erp_order_item";
+
+        // 보관된 주문의 판매일, 출고일 이후의 조회기간은 운영 테이블만 조회한다.
+        Assertions.assertEquals(sql,
+                archive.fetch(null, "sales", LocalDateTime.of(2021, 5, 11, 0, 0), LocalDateTime.of(2021, 6, 1, 0, 0), () -> inspector.inspect(sql)));
+        Assertions.assertEquals(sql,
+                archive.fetch(null, "release", LocalDateTime.of(2021, 5, 13, 0, 0), LocalDateTime.of(2021, 6, 1, 0, 0), () -> inspector.inspect(sql)));
+
+        // 등록일이 운영 테이블의 가장 오래된 등록일보다 이전이더라도 판매일, 출고일 기준 조회는 보관 데이터 조회 여부를 지정해야 한다.
+        Assertions.assertThrows(CustomInvalidDataException.class,
+                () -> archive.fetch(null, "sales", LocalDateTime.of(2021, 5, 1, 0, 0), LocalDateTime.of(2021, 6, 1, 0, 0), () -> inspector.inspect(sql)));
+        Assertions.assertThrows(CustomInvalidDataException.class,
+                () -> archive.fetch(null, "release", LocalDateTime.of(2021, 1, 1, 0, 0), LocalDateTime.of(2021, 2, 1, 0, 0), () -> inspector.inspect(sql)));
+        Assertions.assertEquals("select * from erp_order_item_archive",
+                archive.fetch("y", "sales", LocalDateTime.of(2021, 5, 1, 0, 0), LocalDateTime.of(2021, 6, 1, 0, 0), () -> inspector.inspect(sql)));
+    }
+
+    @Test
+    public void fetch_cachesBoundaries() {
+        AtomicInteger loadCount = new AtomicInteger();
+        ErpOrderItemArchive archive = new ErpOrderItemArchive(null) {
+            @Override
+            protected LocalDateTime searchHotCreatedAtLowerBound() {
+                loadCount.incrementAndGet();
+                return LocalDateTime.of(2021, 5, 1, 0, 0);
+            }
+
+            @Override
+            protected Map<String, LocalDateTime> searchArchiveUpperBounds() {
+                return Map.of("created_at", LocalDateTime.of(2021, 4, 30, 0, 0));
+            }
+        };
+        ReflectionTestUtils.setField(archive, "enabled", true);
+        ReflectionTestUtils.setField(archive, "boundaryCacheMillis", 600000L);
+
+        for (int i = 0; i < 3; i++) {
+            archive.fetch(null, "registration", LocalDateTime.of(2021, 1, 1, 0, 0), LocalDateTime.of(2021, 2, 1, 0, 0), () -> null);
+        }
+        Assertions.assertEquals(1, loadCount.get());
+
+        archive.invalidateBoundaries();
+        archive.fetch(null, "registration", LocalDateTime.of(2021, 1, 1, 0, 0), LocalDateTime.of(2021, 2, 1, 0, 0), () -> null);
+        Assertions.assertEquals(2, loadCount.get());
+    }
+
+    private ErpOrderItemArchive createArchive(LocalDateTime hotCreatedAtLowerBound, Map<String, LocalDateTime> archiveUpperBounds) {
+        ErpOrderItemArchive archive = new ErpOrderItemArchive(null) {
+            @Override
+            protected LocalDateTime searchHotCreatedAtLowerBound() {
+                return hotCreatedAtLowerBound;
+            }
+
+            @Override
+            protected Map<String, LocalDateTime> searchArchiveUpperBounds() {
+                return archiveUpperBounds;
+            }
+        };
+        ReflectionTestUtils.setField(archive, "enabled", true);
+        return archive;
+    }
+}
@@ -0,0 +1,32 @@
+package com.piaar_store_manager.server.service.erp_order_item;
+
+import com.piaar_store_manager.server.domain.erp_order_item.entity.ErpOrderItemEntity;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ErpOrderItemDuplicationHashTest {
+
+    @Test
+    public void generateDuplicationHash_keepsNullPosition() {
+        // null 값을 제외하고 연결하면 두 데이터의 해시가 같아진다.
+        Assertions.assertNotEquals(
+                ErpOrderItemEntity.generateDuplicationHash("order-1", null, "상품", "옵션", 1),
+                ErpOrderItemEntity.generateDuplicationHash("order-1", "상품", null, "옵션", 1)
+        );
+        Assertions.assertNotEquals(
+                ErpOrderItemEntity.generateDuplicationHash("order-1", "", "상품", "옵션", 1),
+                ErpOrderItemEntity.generateDuplicationHash("order-1", null, "상품", "옵션", 1)
+        );
+        Assertions.assertEquals(
+                ErpOrderItemEntity.generateDuplicationHash("order-1", null, "상품", "옵션", 1),
+                ErpOrderItemEntity.generateDuplicationHash("order-1", null, "상품", "옵션", 1)
+        );
+    }
+
+    @Test
+    public void generateDuplicationHash_skipsEmptyOrderNumber() {
+        Assertions.assertNull(ErpOrderItemEntity.generateDuplicationHash("", "수령인", "상품", "옵션", 1));
+        Assertions.assertNull(ErpOrderItemEntity.generateDuplicationHash(null, "수령인", "상품", "옵션", 1));
+    }
+}
@@ -0,0 +1,308 @@
+package com.piaar_store_manager.server.service.erp_order_item;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.piaar_store_manager.server.domain.erp_first_merge_header.dto.ErpFirstMergeHeaderDetailDto;
+import com.piaar_store_manager.server.domain.erp_first_merge_header.dto.ErpFirstMergeHeaderDto;
+import com.piaar_store_manager.server.domain.erp_order_item.dto.ErpOrderItemDto;
+import com.piaar_store_manager.server.domain.erp_order_item.service.ErpOrderItemMergePlan;
+import com.piaar_store_manager.server.domain.erp_order_item.vo.ErpOrderItemVo;
+import com.piaar_store_manager.server.domain.erp_second_merge_header.dto.DetailDto;
+import com.piaar_store_manager.server.domain.erp_second_merge_header.dto.ErpSecondMergeHeaderDetailDto;
+import com.piaar_store_manager.server.domain.erp_second_merge_header.dto.ErpSecondMergeHeaderDto;
+import com.piaar_store_manager.server.utils.CustomFieldUtils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ErpOrderItemMergePlan 의 병합 결과가 기존 병합 로직(getFirstMergeItem, getSecondMergeItem)과 동일한지 검증한다.
+ * 기존 로직은 legacyFirstMerge, legacySecondMerge 에 그대로 옮겨두었다.
+ */
+public class ErpOrderItemMergePlanTest {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Test
+    public void firstMerge_sameAsLegacy() {
+        ErpFirstMergeHeaderDto headerDto = firstMergeHeader(
+                firstDetail("prodName", "n", ""),
+                firstDetail("unit", "y", ""),
+                firstDetail("salesChannel", "y", ""),
+                firstDetail("orderNumber1", "y", ""),
+                firstDetail("deliveryMessage", "y", ""),
+                firstDetail("courier", "n", "CJ대한통운")
+        );
+
+        for (long seed = 0; seed < 20; seed++) {
+            List<ErpOrderItemDto> dtos = randomDtos(seed, 300);
+            Assertions.assertEquals(legacyFirstMerge(headerDto, dtos), ErpOrderItemMergePlan.ofFirstMerge(headerDto).merge(dtos));
+        }
+    }
+
+    @Test
+    public void firstMerge_fixedAndRepeatedColumns_sameAsLegacy() {
+        ErpFirstMergeHeaderDto headerDto = firstMergeHeader(
+                firstDetail("unit", "n", "1"),
+                firstDetail("salesChannel", "y", ""),
+                firstDetail("salesChannel", "y", ""),
+                firstDetail("orderNumber2", "y", "고정"),
+                firstDetail("receiver", "y", "")
+        );
+
+        for (long seed = 0; seed < 20; seed++) {
+            List<ErpOrderItemDto> dtos = randomDtos(seed, 200);
+            Assertions.assertEquals(legacyFirstMerge(headerDto, dtos), ErpOrderItemMergePlan.ofFirstMerge(headerDto).merge(dtos));
+        }
+    }
+
+    @Test
+    public void firstMerge_concatenatedKeyCollision_sameAsLegacy() {
+        ErpFirstMergeHeaderDto headerDto = firstMergeHeader(
+                firstDetail("salesChannel", "y", "")
+        );
+
+        List<ErpOrderItemDto> dtos = Arrays.asList(
+                dto("ab", "c", "addr", "prod", "opt", 1, "A"),
+                dto("a", "bc", "addr", "prod", "opt", 2, "B"),
+                dto("aa", "c", "addr", "prod", "opt", 3, "C"),
+                dto("ab", "c", "addr", "prod", "opt", 4, null)
+        );
+        Assertions.assertEquals(legacyFirstMerge(headerDto, dtos), ErpOrderItemMergePlan.ofFirstMerge(headerDto).merge(dtos));
+    }
+
+    @Test
+    public void secondMerge_sameAsLegacy() {
+        ErpSecondMergeHeaderDto headerDto = secondMergeHeader(
+                secondDetail("optionName", "y", "", "-", "prodName", "optionName", "unit"),
+                secondDetail("salesChannel", "y", "", "/", "orderNumber1", "courier"),
+                secondDetail("receiver", "y", "", " ", "receiver"),
+                secondDetail("transportType", "n", "택배", null),
+                secondDetail("courier", "y", "CJ대한통운", ",", "courier")
+        );
+
+        for (long seed = 0; seed < 20; seed++) {
+            List<ErpOrderItemDto> dtos = randomDtos(seed, 300);
+            Assertions.assertEquals(legacySecondMerge(headerDto, dtos), ErpOrderItemMergePlan.ofSecondMerge(headerDto).merge(dtos));
+        }
+    }
+
+    private static List<ErpOrderItemDto> randomDtos(long seed, int size) {
+        Random random = new Random(seed);
+        String[] receivers = {"김철수", "이영희", "박민수", "최지은"};
+        String[] contacts = {"010-1111-2222", "010-3333-4444"};
+        String[] destinations = {"서울시 강남구", "부산시 해운대구"};
+        String[] prodNames = {"상품A", "상품B", "상품C"};
+        String[] optionNames = {"옵션1", "옵션2"};
+        String[] channels = {"네이버", "쿠팡", null, ""};
+
+        List<ErpOrderItemDto> dtos = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            ErpOrderItemDto dto = dto(
+                    receivers[random.nextInt(receivers.length)],
+                    contacts[random.nextInt(contacts.length)],
+                    destinations[random.nextInt(destinations.length)],
+                    prodNames[random.nextInt(prodNames.length)],
+                    optionNames[random.nextInt(optionNames.length)],
+                    random.nextInt(20) + 1,
+                    channels[random.nextInt(channels.length)]
+            );
+            dto.setOrderNumber1("ORD-" + random.nextInt(1000))
+                    .setDeliveryMessage(random.nextBoolean() ? null : "문 앞에 놓아주세요")
+                    .setCourier("택배사" + random.nextInt(3));
+            dtos.add(dto);
+        }
+        return dtos;
+    }
+
+    private static ErpOrderItemDto dto(String receiver, String contact, String destination, String prodName, String optionName, Integer unit, String salesChannel) {
+        return ErpOrderItemDto.builder()
+                .id(UUID.randomUUID())
+                .receiver(receiver)
+                .receiverContact1(contact)
+                .destination(destination)
+                .prodName(prodName)
+                .optionName(optionName)
+                .unit(unit)
+                .salesChannel(salesChannel)
+                .build();
+    }
+
+    private static com.piaar_store_manager.server.domain.erp_first_merge_header.dto.DetailDto firstDetail(String matchedColumnName, String mergeYn, String fixedValue) {
+        Map<String, Object> detail = new HashMap<>();
+        detail.put("matchedColumnName", matchedColumnName);
+        detail.put("mergeYn", mergeYn);
+        detail.put("fixedValue", fixedValue);
+        return OBJECT_MAPPER.convertValue(detail, com.piaar_store_manager.server.domain.erp_first_merge_header.dto.DetailDto.class);
+    }
+
+    private static DetailDto secondDetail(String matchedColumnName, String mergeYn, String fixedValue, String splitter, String... viewColumnNames) {
+        Map<String, Object> detail = new HashMap<>();
+        detail.put("matchedColumnName", matchedColumnName);
+        detail.put("mergeYn", mergeYn);
+        detail.put("fixedValue", fixedValue);
+        detail.put("splitter", splitter);
+        detail.put("viewDetails", Arrays.stream(viewColumnNames).map(r -> {
+            Map<String, Object> viewDetail = new HashMap<>();
+            viewDetail.put("matchedColumnName", r);
+            return viewDetail;
+        }).collect(Collectors.toList()));
+        return OBJECT_MAPPER.convertValue(detail, DetailDto.class);
+    }
+
+    private static ErpFirstMergeHeaderDto firstMergeHeader(com.piaar_store_manager.server.domain.erp_first_merge_header.dto.DetailDto... details) {
+        return ErpFirstMergeHeaderDto.builder()
+                .headerDetail(ErpFirstMergeHeaderDetailDto.builder().details(Arrays.asList(details)).build())
+                .build();
+    }
+
+    private static ErpSecondMergeHeaderDto secondMergeHeader(DetailDto... details) {
+        return ErpSecondMergeHeaderDto.builder()
+                .headerDetail(ErpSecondMergeHeaderDetailDto.builder().details(Arrays.asList(details)).build())
+                .build();
+    }
+
+    /*
+    기존 ErpOrderItemBusinessService#getFirstMergeItem
+     */
+    private static List<ErpOrderItemVo> legacyFirstMerge(ErpFirstMergeHeaderDto headerDto, List<ErpOrderItemDto> dtos) {
+        List<ErpOrderItemVo> itemVos = dtos.stream().map(r -> ErpOrderItemVo.toVo(r)).collect(Collectors.toList());
+
+        List<String> matchedColumnName = headerDto.getHeaderDetail().getDetails().stream().filter(r -> r.getMergeYn().equals("y")).collect(Collectors.toList())
+                .stream().map(r -> r.getMatchedColumnName()).collect(Collectors.toList());
+
+        Map<String, String> fixedValueMap = headerDto.getHeaderDetail().getDetails().stream().filter(r -> !r.getFixedValue().isBlank()).collect(Collectors.toList())
+                .stream().collect(Collectors.toMap(
+                        key -> key.getMatchedColumnName(),
+                        value -> value.getFixedValue()
+                ));
+
+        itemVos.sort(Comparator.comparing(ErpOrderItemVo::getReceiver)
+                .thenComparing(ErpOrderItemVo::getReceiverContact1)
+                .thenComparing(ErpOrderItemVo::getDestination)
+                .thenComparing(ErpOrderItemVo::getProdName)
+                .thenComparing(ErpOrderItemVo::getOptionName));
+
+        List<ErpOrderItemVo> mergeItemVos = new ArrayList<>();
+
+        Set<String> deliverySet = new HashSet<>();
+        for (int i = 0; i < itemVos.size(); i++) {
+            StringBuilder sb = new StringBuilder();
+            sb.append(itemVos.get(i).getReceiver());
+            sb.append(itemVos.get(i).getReceiverContact1());
+            sb.append(itemVos.get(i).getDestination());
+            sb.append(itemVos.get(i).getProdName());
+            sb.append(itemVos.get(i).getOptionName());
+
+            String resultStr = sb.toString();
+
+            mergeItemVos.add(itemVos.get(i));
+            int currentMergeItemIndex = mergeItemVos.size() - 1;
+
+            if (!deliverySet.add(resultStr)) {
+                ErpOrderItemVo currentVo = mergeItemVos.get(currentMergeItemIndex);
+                ErpOrderItemVo prevVo = mergeItemVos.get(currentMergeItemIndex - 1);
+
+                int sumUnit = Integer.parseInt(prevVo.getUnit()) + Integer.parseInt(currentVo.getUnit());
+                CustomFieldUtils.setFieldValue(prevVo, "unit", String.valueOf(sumUnit));
+
+                matchedColumnName.forEach(columnName -> {
+                    if (!columnName.equals("unit")) {
+                        String prevFieldValue = CustomFieldUtils.getFieldValue(prevVo, columnName) == null ? "" : CustomFieldUtils.getFieldValue(prevVo, columnName);
+                        String currentFieldValue = CustomFieldUtils.getFieldValue(currentVo, columnName) == null ? "" : CustomFieldUtils.getFieldValue(currentVo, columnName);
+                        CustomFieldUtils.setFieldValue(prevVo, columnName, prevFieldValue + "|&&|" + currentFieldValue);
+                    }
+                });
+
+                mergeItemVos.remove(currentMergeItemIndex);
+            }
+
+            fixedValueMap.entrySet().stream().forEach(map -> {
+                CustomFieldUtils.setFieldValue(mergeItemVos.get(mergeItemVos.size() - 1), map.getKey(), map.getValue());
+            });
+        }
+        return mergeItemVos;
+    }
+
+    /*
+    기존 ErpOrderItemBusinessService#getSecondMergeItem
+     */
+    private static List<ErpOrderItemVo> legacySecondMerge(ErpSecondMergeHeaderDto headerDto, List<ErpOrderItemDto> dtos) {
+        List<ErpOrderItemVo> itemVos = dtos.stream().map(r -> ErpOrderItemVo.toVo(r)).collect(Collectors.toList());
+
+        Map<String, String> splitterMap = headerDto.getHeaderDetail().getDetails().stream().filter(r -> r.getMergeYn().equals("y")).collect(Collectors.toList())
+                .stream().collect(Collectors.toMap(
+                        r -> r.getMatchedColumnName(),
+                        r -> r.getSplitter()
+                ));
+
+        Map<String, String> fixedValueMap = headerDto.getHeaderDetail().getDetails().stream().filter(r -> !r.getFixedValue().isBlank()).collect(Collectors.toList())
+                .stream().collect(Collectors.toMap(
+                        r -> r.getMatchedColumnName(),
+                        r -> r.getFixedValue()));
+
+        itemVos.sort(Comparator.comparing(ErpOrderItemVo::getReceiver)
+                .thenComparing(ErpOrderItemVo::getReceiverContact1)
+                .thenComparing(ErpOrderItemVo::getDestination)
+                .thenComparing(ErpOrderItemVo::getProdName)
+                .thenComparing(ErpOrderItemVo::getOptionName));
+
+        for (int i = 0; i < itemVos.size() && i < dtos.size(); i++) {
+            ErpOrderItemVo currentVo = itemVos.get(i);
+            ErpOrderItemDto originDto = dtos.get(i);
+
+            splitterMap.entrySet().stream().forEach(mergeMap -> {
+                DetailDto matchedDetail = headerDto.getHeaderDetail().getDetails().stream().filter(r -> r.getMatchedColumnName().equals(mergeMap.getKey())).collect(Collectors.toList()).get(0);
+                String appendFieldValue = "";
+
+                for (int j = 0; j < matchedDetail.getViewDetails().size(); j++) {
+                    appendFieldValue += CustomFieldUtils.getFieldValue(originDto, matchedDetail.getViewDetails().get(j).getMatchedColumnName()).toString();
+                    if (j < matchedDetail.getViewDetails().size() - 1) {
+                        appendFieldValue += mergeMap.getValue();
+                    }
+                }
+                CustomFieldUtils.setFieldValue(currentVo, mergeMap.getKey(), appendFieldValue);
+            });
+        }
+
+        List<ErpOrderItemVo> mergeItemVos = new ArrayList<>();
+
+        Set<String> deliverySet = new HashSet<>();
+        for (ErpOrderItemVo itemVo : itemVos) {
+
+            String resultStr = itemVo.getReceiver() +
+                    itemVo.getReceiverContact1() +
+                    itemVo.getDestination();
+
+            mergeItemVos.add(itemVo);
+            int currentMergeItemIndex = mergeItemVos.size() - 1;
+
+            if (!deliverySet.add(resultStr)) {
+                ErpOrderItemVo currentVo = mergeItemVos.get(currentMergeItemIndex);
+                ErpOrderItemVo prevVo = mergeItemVos.get(currentMergeItemIndex - 1);
+
+                splitterMap.forEach((key, value) -> {
+                    String prevFieldValue = CustomFieldUtils.getFieldValue(prevVo, key) == null ? "" : CustomFieldUtils.getFieldValue(prevVo, key);
+                    String currentFieldValue = CustomFieldUtils.getFieldValue(currentVo, key) == null ? "" : CustomFieldUtils.getFieldValue(currentVo, key);
+                    CustomFieldUtils.setFieldValue(prevVo, key, prevFieldValue + "|&&|" + currentFieldValue);
+                });
+
+                mergeItemVos.remove(currentMergeItemIndex);
+            }
+
+            fixedValueMap.forEach((key, value) -> CustomFieldUtils.setFieldValue(mergeItemVos.get(mergeItemVos.size() - 1), key, value));
+        }
+
+        return mergeItemVos;
+    }
+}
@@ -0,0 +1,134 @@
+package com.piaar_store_manager.server.service.erp_order_item;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import com.piaar_store_manager.server.config.jpa.UuidStorage;
+import com.piaar_store_manager.server.domain.erp_order_item.repository.ErpOrderItemJdbcImpl;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class ErpOrderItemMoveToArchiveTest {
+    private static final LocalDateTime ARCHIVE_BEFORE = LocalDateTime.of(2021, 5, 1, 0, 0);
+    private static final LocalDateTime OLD = LocalDateTime.of(2021, 1, 1, 0, 0);
+
+    @Test
+    public void jdbcMoveToArchive_movesOnlyFinishedOldRows() {
+        InMemoryJdbcTemplate jdbcTemplate = new InMemoryJdbcTemplate();
+        jdbcTemplate.addRow(1, OLD, "y", OLD.plusDays(1), "y", OLD.plusDays(2), "y");
+        // 출고되지 않은 오래된 주문
+        jdbcTemplate.addRow(2, OLD, "y", OLD.plusDays(1), "n", null, "n");
+        // 판매되지 않은 오래된 주문
+        jdbcTemplate.addRow(3, OLD, "n", null, "n", null, "n");
+        // 출고되었지만 재고반영되지 않은 오래된 주문
+        jdbcTemplate.addRow(4, OLD, "y", OLD.plusDays(1), "y", OLD.plusDays(2), "n");
+        // 보관 기준일 이후에 출고된 오래된 주문
+        jdbcTemplate.addRow(5, OLD, "y", OLD.plusDays(1), "y", ARCHIVE_BEFORE.plusDays(1), "y");
+        // 보관 기준일 이후에 등록된 주문
+        jdbcTemplate.addRow(6, ARCHIVE_BEFORE.plusDays(1), "y", ARCHIVE_BEFORE.plusDays(1), "y", ARCHIVE_BEFORE.plusDays(2), "y");
+
+        ErpOrderItemJdbcImpl jdbcImpl = new ErpOrderItemJdbcImpl(jdbcTemplate, new UuidStorage(false));
+
+        Assertions.assertEquals(1, jdbcImpl.jdbcMoveToArchive(ARCHIVE_BEFORE, 100));
+        Assertions.assertEquals(List.of(1), jdbcTemplate.archivedCids);
+        Assertions.assertEquals(List.of(2, 3, 4, 5, 6), jdbcTemplate.hotCids());
+        Assertions.assertEquals(0, jdbcImpl.jdbcMoveToArchive(ARCHIVE_BEFORE, 100));
+    }
+
+    /*
+    jdbcMoveToArchive 가 실행하는 SELECT 의 WHERE 조건(col = 'y', col < ?, COALESCE(a, b) < ?)을 메모리 데이터로 평가한다.
+     */
+    private static class InMemoryJdbcTemplate extends JdbcTemplate {
+        private static final Pattern EQUALS_CONDITION = Pattern.compile("(\\w+) = '(\\w+)'");
+        private static final Pattern BEFORE_CONDITION = Pattern.compile("(\\w+) < \\?");
+        private static final Pattern COALESCE_BEFORE_CONDITION = Pattern.compile("COALESCE\\((\\w+), (\\w+)\\) < \\?");
+
+        private final List<Map<String, Object>> rows = new ArrayList<>();
+        private final List<Integer> archivedCids = new ArrayList<>();
+
+        private void addRow(int cid, LocalDateTime createdAt, String salesYn, LocalDateTime salesAt, String releaseYn, LocalDateTime releaseAt, String stockReflectYn) {
+            Map<String, Object> row = new HashMap<>();
+            row.put("cid", cid);
+            row.put("created_at", createdAt);
+            row.put("sales_yn", salesYn);
+            row.put("sales_at", salesAt);
+            row.put("release_yn", releaseYn);
+            row.put("release_at", releaseAt);
+            row.put("stock_reflect_yn", stockReflectYn);
+            rows.add(row);
+        }
+
+        private List<Integer> hotCids() {
+            return rows.stream().map(row -> (Integer) row.get("cid")).collect(Collectors.toList());
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> List<T> queryForList(String sql, Class<T> elementType, Object... args) {
+            String whereClause = sql.substring(sql.indexOf(" WHERE ") + 7, sql.indexOf(" ORDER BY "));
+            List<String> conditions = Arrays.asList(whereClause.split(" AND "));
+            int limit = (Integer) args[args.length - 1];
+
+            return (List<T>) rows.stream()
+                    .filter(row -> this.matches(row, conditions, args))
+                    .sorted(Comparator.comparing(row -> (LocalDateTime) row.get("created_at")))
+                    .limit(limit)
+                    .map(row -> row.get("cid"))
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        public int update(String sql, Object... args) {
+            List<Object> cids = Arrays.asList(args);
+            if (sql.startsWith("INSERT")) {
+                cids.forEach(cid -> archivedCids.add((Integer) cid));
+                return cids.size();
+            }
+
+            int size = rows.size();
+            rows.removeIf(row -> cids.contains(row.get("cid")));
+            return size - rows.size();
+        }
+
+        private boolean matches(Map<String, Object> row, List<String> conditions, Object[] args) {
+            int paramIndex = 0;
+            for (String condition : conditions) {
+                Matcher coalesce = COALESCE_BEFORE_CONDITION.matcher(condition);
+                Matcher before = BEFORE_CONDITION.matcher(condition);
+                Matcher equals = EQUALS_CONDITION.matcher(condition);
+
+                boolean matched;
+                if (coalesce.matches()) {
+                    Object value = row.get(coalesce.group(1)) != null ? row.get(coalesce.group(1)) : row.get(coalesce.group(2));
+                    matched = this.isBefore(value, args[paramIndex++]);
+                } else if (before.matches()) {
+                    matched = this.isBefore(row.get(before.group(1)), args[paramIndex++]);
+                } else if (equals.matches()) {
+                    matched = equals.group(2).equals(row.get(equals.group(1)));
+                } else {
+                    throw new UnsupportedOperationException(condition);
+                }
+
+                if (!matched) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // SQL 과 같이 null 과의 비교는 거짓이다.
+        private boolean isBefore(Object value, Object param) {
+            return value != null && ((LocalDateTime) value).isBefore((LocalDateTime) param);
+        }
+    }
+}
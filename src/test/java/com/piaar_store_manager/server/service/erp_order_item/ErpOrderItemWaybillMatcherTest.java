@@ -0,0 +1,105 @@
+package com.piaar_store_manager.server.service.erp_order_item;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.piaar_store_manager.server.domain.erp_order_item.entity.ErpOrderItemEntity;
+import com.piaar_store_manager.server.domain.erp_order_item.service.ErpOrderItemWaybillMatcher;
+import com.piaar_store_manager.server.domain.excel_form.waybill.WaybillExcelFormDto;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ErpOrderItemWaybillMatcherTest {
+
+    @Test
+    public void match_dismantledFreightCodes() {
+        ErpOrderItemWaybillMatcher matcher = ErpOrderItemWaybillMatcher.of(List.of(
+                waybill("홍길동", "F1,F2", "W100")
+        ));
+        ErpOrderItemEntity first = item("홍길동", "F1");
+        ErpOrderItemEntity second = item("홍길동", "F2");
+        ErpOrderItemEntity otherReceiver = item("김철수", "F1");
+
+        List<ErpOrderItemEntity> updatedEntities = matcher.match(List.of(first, second, otherReceiver));
+
+        Assertions.assertEquals(List.of(first, second), updatedEntities);
+        Assertions.assertEquals("W100", first.getWaybillNumber());
+        Assertions.assertEquals("W100", second.getWaybillNumber());
+        Assertions.assertEquals("택배", first.getTransportType());
+        Assertions.assertEquals("CJ", first.getCourier());
+        Assertions.assertNull(otherReceiver.getWaybillNumber());
+        Assertions.assertTrue(matcher.getUnmatchedWaybills().isEmpty());
+    }
+
+    @Test
+    public void match_reportsUnmatchedWaybills() {
+        ErpOrderItemWaybillMatcher matcher = ErpOrderItemWaybillMatcher.of(List.of(
+                waybill("홍길동", "F1", "W100"),
+                waybill("김철수", "F9", "W200")
+        ));
+
+        matcher.match(List.of(item("홍길동", "F1")));
+
+        List<WaybillExcelFormDto> unmatchedWaybills = matcher.getUnmatchedWaybills();
+        Assertions.assertEquals(1, unmatchedWaybills.size());
+        Assertions.assertEquals("W200", unmatchedWaybills.get(0).getWaybillNumber());
+    }
+
+    @Test
+    public void match_skipsAmbiguousWaybills() {
+        ErpOrderItemWaybillMatcher matcher = ErpOrderItemWaybillMatcher.of(List.of(
+                waybill("홍길동", "F1", "W100"),
+                waybill("홍길동", "F1", "W101"),
+                waybill("홍길동", "F1", "W102"),
+                waybill("김철수", "F2", "W200"),
+                waybill("김철수", "F2", "W200")
+        ));
+        ErpOrderItemEntity ambiguous = item("홍길동", "F1");
+        ErpOrderItemEntity duplicated = item("김철수", "F2");
+
+        List<ErpOrderItemEntity> updatedEntities = matcher.match(List.of(ambiguous, duplicated));
+
+        Assertions.assertEquals(List.of(duplicated), updatedEntities);
+        Assertions.assertNull(ambiguous.getWaybillNumber());
+        Assertions.assertEquals(3, matcher.getAmbiguousWaybills().size());
+        Assertions.assertTrue(matcher.getUnmatchedWaybills().isEmpty());
+    }
+
+    @Test
+    public void match_largeReturnFile() {
+        List<WaybillExcelFormDto> waybills = new ArrayList<>();
+        List<ErpOrderItemEntity> items = new ArrayList<>();
+        for (int i = 0; i < 30000; i++) {
+            waybills.add(waybill("수취인" + i, "F" + i + ",G" + i, "W" + i));
+            items.add(item("수취인" + i, "F" + i));
+            items.add(item("수취인" + i, "G" + i));
+        }
+
+        ErpOrderItemWaybillMatcher matcher = ErpOrderItemWaybillMatcher.of(waybills);
+        List<ErpOrderItemEntity> updatedEntities = matcher.match(items);
+
+        Assertions.assertEquals(60000, updatedEntities.size());
+        Assertions.assertEquals("W29999", items.get(59999).getWaybillNumber());
+        Assertions.assertTrue(matcher.getUnmatchedWaybills().isEmpty());
+    }
+
+    private WaybillExcelFormDto waybill(String receiver, String freightCode, String waybillNumber) {
+        return WaybillExcelFormDto.builder()
+                .receiver(receiver)
+                .freightCode(freightCode)
+                .waybillNumber(waybillNumber)
+                .transportType("택배")
+                .courier("CJ")
+                .build();
+    }
+
+    private ErpOrderItemEntity item(String receiver, String freightCode) {
+        return ErpOrderItemEntity.builder()
+                .id(UUID.randomUUID())
+                .receiver(receiver)
+                .freightCode(freightCode)
+                .build();
+    }
+}
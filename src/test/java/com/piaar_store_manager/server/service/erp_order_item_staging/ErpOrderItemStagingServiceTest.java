@@ -0,0 +1,119 @@
+package com.piaar_store_manager.server.service.erp_order_item_staging;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.piaar_store_manager.server.domain.erp_order_item.service.ErpOrderItemBusinessService;
+import com.piaar_store_manager.server.domain.erp_order_item_staging.dto.ErpOrderItemUploadDto;
+import com.piaar_store_manager.server.domain.erp_order_item_staging.entity.ErpOrderItemStagingEntity;
+import com.piaar_store_manager.server.domain.erp_order_item_staging.repository.ErpOrderItemStagingCustomJdbc;
+import com.piaar_store_manager.server.domain.erp_order_item_staging.service.ErpOrderItemStagingService;
+import com.piaar_store_manager.server.domain.user.service.UserService;
+import com.piaar_store_manager.server.exception.CustomNotFoundDataException;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+public class ErpOrderItemStagingServiceTest {
+
+    @Test
+    public void upload_headerOnlyFile_returnsZeroRowsWithoutStaging() throws IOException {
+        RecordingStagingCustomJdbc customJdbc = new RecordingStagingCustomJdbc();
+        ErpOrderItemStagingService stagingService = new ErpOrderItemStagingService(null, customJdbc, null);
+        ErpOrderItemBusinessService businessService = new ErpOrderItemBusinessService(null, null, null, null, null, null,
+                new FixedUserService(), null, null, stagingService, null, null, null);
+
+        ErpOrderItemUploadDto uploadDto = businessService.uploadErpOrderExcelToStaging(this.headerOnlyXlsx());
+
+        Assertions.assertEquals(0, uploadDto.getTotalCount());
+        Assertions.assertNull(uploadDto.getUploadToken());
+        Assertions.assertTrue(customJdbc.calls.isEmpty());
+    }
+
+    @Test
+    public void commit_expiredUpload_throwsNotFound() {
+        RecordingStagingCustomJdbc customJdbc = new RecordingStagingCustomJdbc();
+        ErpOrderItemStagingService stagingService = new ErpOrderItemStagingService(null, customJdbc, null);
+
+        Assertions.assertThrows(CustomNotFoundDataException.class, () -> stagingService.commit(UUID.randomUUID(), UUID.randomUUID()));
+        Assertions.assertEquals(List.of("lock"), customJdbc.calls);
+    }
+
+    private MockMultipartFile headerOnlyXlsx() throws IOException {
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+            Row header = workbook.createSheet().createRow(0);
+            header.createCell(0).setCellValue("주문번호1");
+            header.createCell(1).setCellValue("상품명");
+            workbook.write(outputStream);
+            return new MockMultipartFile("file", "empty.xlsx", null, outputStream.toByteArray());
+        }
+    }
+
+    private static class FixedUserService extends UserService {
+        FixedUserService() {
+            super(null, null);
+        }
+
+        @Override
+        public void userLoginCheck() {
+        }
+
+        @Override
+        public void userManagerRoleCheck() {
+        }
+
+        @Override
+        public UUID getUserId() {
+            return UUID.randomUUID();
+        }
+    }
+
+    /*
+    잠금 조회 결과가 항상 0건인(존재하지 않거나 만료된) 업로드 데이터
+     */
+    private static class RecordingStagingCustomJdbc implements ErpOrderItemStagingCustomJdbc {
+        private final List<String> calls = new ArrayList<>();
+
+        @Override
+        public void jdbcBulkInsert(List<ErpOrderItemStagingEntity> entities) {
+            calls.add("bulkInsert");
+        }
+
+        @Override
+        public int jdbcLockByUploadToken(UUID uploadToken, UUID createdBy, LocalDateTime now) {
+            calls.add("lock");
+            return 0;
+        }
+
+        @Override
+        public int jdbcInsertIntoErpOrderItem(UUID uploadToken, UUID createdBy, LocalDateTime createdAt) {
+            calls.add("insert");
+            return 0;
+        }
+
+        @Override
+        public List<UUID> jdbcSearchInsertedIds(UUID uploadToken) {
+            calls.add("searchInsertedIds");
+            return List.of();
+        }
+
+        @Override
+        public int jdbcDeleteByUploadToken(UUID uploadToken) {
+            calls.add("delete");
+            return 0;
+        }
+
+        @Override
+        public int jdbcDeleteExpired(LocalDateTime now, int limit) {
+            calls.add("deleteExpired");
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package com.piaar_store_manager.server.service.import_job;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import com.piaar_store_manager.server.domain.import_job.dto.ImportJobDto;
+import com.piaar_store_manager.server.domain.import_job.entity.ImportJobEntity;
+import com.piaar_store_manager.server.domain.import_job.entity.ImportJobStatus;
+import com.piaar_store_manager.server.domain.import_job.service.ImportJobBusinessService;
+import com.piaar_store_manager.server.domain.import_job.service.ImportJobChunkWriter;
+import com.piaar_store_manager.server.domain.import_job.service.ImportJobContext;
+import com.piaar_store_manager.server.domain.import_job.service.ImportJobHandler;
+import com.piaar_store_manager.server.domain.import_job.service.ImportJobService;
+import com.piaar_store_manager.server.domain.user.service.UserService;
+import com.piaar_store_manager.server.exception.CustomAccessDeniedException;
+import com.piaar_store_manager.server.exception.CustomNotFoundDataException;
+import com.piaar_store_manager.server.utils.CustomDateUtils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+public class ImportJobBusinessServiceTest {
+    private static final String JOB_TYPE = "test-lines";
+
+    @TempDir
+    Path workDir;
+
+    private InMemoryImportJobService importJobService;
+    private LineImportJobHandler handler;
+    private FixedUserService userService;
+    private ImportJobBusinessService importJobBusinessService;
+
+    @BeforeEach
+    public void setUp() {
+        importJobService = new InMemoryImportJobService();
+        handler = new LineImportJobHandler();
+        userService = new FixedUserService();
+
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("lineImportJobHandler", handler);
+
+        importJobBusinessService = new ImportJobBusinessService(
+                importJobService,
+                userService,
+                new SimpMessagingTemplate((message, timeout) -> true),
+                new NoOpTransactionManager(),
+                new SyncTaskExecutor(),
+                beanFactory.getBeanProvider(ImportJobHandler.class)
+        );
+        ReflectionTestUtils.setField(importJobBusinessService, "workDir", workDir.toString());
+        ReflectionTestUtils.setField(importJobBusinessService, "chunkSize", 2);
+        ReflectionTestUtils.setField(importJobBusinessService, "resumeOnStartup", true);
+    }
+
+    @Test
+    public void submit_storesRowsByChunkAndCompletes() {
+        ImportJobDto jobDto = importJobBusinessService.submit(JOB_TYPE, "lines.txt", this.lines("a", "b", "", "c"), 1, userService.userId);
+
+        ImportJobEntity job = importJobService.jobs.get(jobDto.getId());
+        Assertions.assertEquals(ImportJobStatus.COMPLETED, job.getStatus());
+        Assertions.assertEquals(4, job.getProcessedCount());
+        Assertions.assertEquals(3, job.getInsertedCount());
+        Assertions.assertEquals(1, job.getErrorCount());
+        Assertions.assertEquals("[3행] 빈 행입니다.", job.getErrorSummary());
+        Assertions.assertEquals(List.of("a", "b", "c"), handler.insertedLines);
+        // 끝난 작업의 업로드 파일은 삭제한다.
+        Assertions.assertFalse(Files.exists(Path.of(job.getFilePath())));
+    }
+
+    @Test
+    public void submit_handlerFailure_marksFailed() {
+        handler.failAt = "b";
+
+        ImportJobDto jobDto = importJobBusinessService.submit(JOB_TYPE, "lines.txt", this.lines("a", "b", "c"), 1, userService.userId);
+
+        ImportJobEntity job = importJobService.jobs.get(jobDto.getId());
+        Assertions.assertEquals(ImportJobStatus.FAILED, job.getStatus());
+        Assertions.assertEquals("잘못된 행입니다. b", job.getErrorSummary());
+        Assertions.assertNotNull(job.getFinishedAt());
+        Assertions.assertFalse(Files.exists(Path.of(job.getFilePath())));
+    }
+
+    @Test
+    public void resumeUnfinishedJobs_continuesFromProcessedCount() throws Exception {
+        Path filePath = Files.write(workDir.resolve("running-job"), "a\nb\nc\n".getBytes(StandardCharsets.UTF_8));
+        ImportJobEntity runningJob = importJobService.saveAndGet(this.unfinishedJob(ImportJobStatus.RUNNING, filePath.toString(), 2));
+        ImportJobEntity missingFileJob = importJobService.saveAndGet(this.unfinishedJob(ImportJobStatus.PENDING, workDir.resolve("missing").toString(), 0));
+
+        importJobBusinessService.resumeUnfinishedJobs();
+
+        Assertions.assertEquals(ImportJobStatus.COMPLETED, runningJob.getStatus());
+        Assertions.assertEquals(3, runningJob.getProcessedCount());
+        Assertions.assertEquals(List.of("c"), handler.insertedLines);
+        Assertions.assertEquals(ImportJobStatus.INTERRUPTED, missingFileJob.getStatus());
+    }
+
+    @Test
+    public void searchOne_otherUsersJobRequiresManager() {
+        ImportJobEntity job = importJobService.saveAndGet(this.unfinishedJob(ImportJobStatus.COMPLETED, null, 0));
+
+        Assertions.assertEquals(job.getId(), importJobBusinessService.searchOne(job.getId()).getId());
+
+        userService.userId = UUID.randomUUID();
+        Assertions.assertThrows(CustomAccessDeniedException.class, () -> importJobBusinessService.searchOne(job.getId()));
+
+        userService.manager = true;
+        Assertions.assertEquals(job.getId(), importJobBusinessService.searchOne(job.getId()).getId());
+    }
+
+    private ByteArrayInputStream lines(String... lines) {
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private ImportJobEntity unfinishedJob(String status, String filePath, int processedCount) {
+        return ImportJobEntity.builder()
+                .id(UUID.randomUUID())
+                .jobType(JOB_TYPE)
+                .status(status)
+                .filePath(filePath)
+                .processedCount(processedCount)
+                .insertedCount(processedCount)
+                .skippedCount(0)
+                .errorCount(0)
+                .createdAt(CustomDateUtils.getCurrentDateTime())
+                .createdBy(userService.userId)
+                .updatedAt(CustomDateUtils.getCurrentDateTime())
+                .build();
+    }
+
+    /*
+    파일의 각 행을 저장한다. 빈 행은 행 단위 오류로, failAt 과 같은 행은 작업 실패로 처리한다.
+     */
+    private static class LineImportJobHandler implements ImportJobHandler {
+        private final List<String> insertedLines = new ArrayList<>();
+        private String failAt;
+
+        @Override
+        public String getJobType() {
+            return JOB_TYPE;
+        }
+
+        @Override
+        public void execute(ImportJobContext context) throws Exception {
+            List<String> lines = Files.readAllLines(context.getFilePath(), StandardCharsets.UTF_8);
+            context.changeTotalCount(lines.size());
+
+            ImportJobChunkWriter<String> chunkWriter = context.chunkWriter(items -> {
+                insertedLines.addAll(items);
+                return items.size();
+            });
+            for (int i = context.getResumeOffset(); i < lines.size(); i++) {
+                String line = lines.get(i);
+                if (line.equals(failAt)) {
+                    throw new IllegalStateException("잘못된 행입니다. " + line);
+                }
+
+                if (line.isEmpty()) {
+                    chunkWriter.addError(i + 1, "빈 행입니다.");
+                } else {
+                    chunkWriter.add(line);
+                }
+            }
+            chunkWriter.flush();
+        }
+    }
+
+    private static class InMemoryImportJobService extends ImportJobService {
+        private final Map<UUID, ImportJobEntity> jobs = new LinkedHashMap<>();
+
+        InMemoryImportJobService() {
+            super(null);
+        }
+
+        @Override
+        public ImportJobEntity saveAndGet(ImportJobEntity entity) {
+            jobs.put(entity.getId(), entity);
+            return entity;
+        }
+
+        @Override
+        public ImportJobEntity searchOne(UUID id) {
+            return Optional.ofNullable(jobs.get(id)).orElseThrow(() -> new CustomNotFoundDataException("데이터를 찾을 수 없습니다."));
+        }
+
+        @Override
+        public List<ImportJobEntity> searchListByStatuses(Collection<String> statuses) {
+            return jobs.values().stream().filter(job -> statuses.contains(job.getStatus())).collect(Collectors.toList());
+        }
+    }
+
+    private static class FixedUserService extends UserService {
+        private UUID userId = UUID.randomUUID();
+        private boolean manager;
+
+        FixedUserService() {
+            super(null, null);
+        }
+
+        @Override
+        public void userLoginCheck() {
+        }
+
+        @Override
+        public boolean isManager() {
+            return manager;
+        }
+
+        @Override
+        public UUID getUserId() {
+            return userId;
+        }
+    }
+
+    private static class NoOpTransactionManager implements PlatformTransactionManager {
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.piaar_store_manager.server.service.message;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.piaar_store_manager.server.domain.message.SocketChangeEvent;
+import com.piaar_store_manager.server.domain.message.SocketChangeEventBuffer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SocketChangeEventBufferTest {
+
+    @Test
+    public void add_mergesSameTypeAndValues() {
+        SocketChangeEventBuffer buffer = new SocketChangeEventBuffer();
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        buffer.add(SocketChangeEvent.updated(List.of(first)).value("salesYn", "y"), null, null);
+        buffer.add(SocketChangeEvent.updated(List.of(second)).value("salesYn", "y"), null, null);
+
+        Assertions.assertEquals(1, buffer.getEvents().size());
+        Assertions.assertEquals(List.of(first, second), buffer.getEvents().get(0).getIds());
+        Assertions.assertEquals(Map.of("salesYn", "y"), buffer.getEvents().get(0).getValues());
+    }
+
+    @Test
+    public void add_keepsOrderOfDifferentEvents() {
+        SocketChangeEventBuffer buffer = new SocketChangeEventBuffer();
+        UUID id = UUID.randomUUID();
+
+        buffer.add(SocketChangeEvent.updated(List.of(id)).value("salesYn", "y"), null, null);
+        buffer.add(SocketChangeEvent.updated(List.of(id)).value("salesYn", "n"), null, null);
+        buffer.add(SocketChangeEvent.deleted(List.of(id)), null, null);
+
+        List<SocketChangeEvent> events = buffer.getEvents();
+        Assertions.assertEquals(3, events.size());
+        Assertions.assertEquals("n", events.get(1).getValues().get("salesYn"));
+        Assertions.assertEquals(SocketChangeEvent.DELETED, events.get(2).getType());
+    }
+
+    @Test
+    public void add_collectsDistinctMemos() {
+        SocketChangeEventBuffer buffer = new SocketChangeEventBuffer();
+
+        buffer.add(SocketChangeEvent.created(List.of(UUID.randomUUID())), "추가된 데이터가 있습니다.", null);
+        buffer.add(SocketChangeEvent.created(List.of(UUID.randomUUID())), "추가된 데이터가 있습니다.", "3 건");
+
+        Assertions.assertEquals(1, buffer.getEvents().size());
+        Assertions.assertEquals(2, buffer.getEvents().get(0).getIds().size());
+        Assertions.assertEquals("추가된 데이터가 있습니다.", buffer.getSocketMemo());
+        Assertions.assertEquals("3 건", buffer.getMemo());
+    }
+}
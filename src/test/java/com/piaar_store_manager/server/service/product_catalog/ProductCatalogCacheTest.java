@@ -0,0 +1,201 @@
+package com.piaar_store_manager.server.service.product_catalog;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.piaar_store_manager.server.domain.product.entity.ProductEntity;
+import com.piaar_store_manager.server.domain.product_catalog.dto.ProductCatalogEntry;
+import com.piaar_store_manager.server.domain.product_catalog.proj.ProductCatalogProj;
+import com.piaar_store_manager.server.domain.product_catalog.repository.ProductCatalogRepository;
+import com.piaar_store_manager.server.domain.product_catalog.service.ProductCatalogCache;
+import com.piaar_store_manager.server.domain.product_category.dto.ProductCategoryGetDto;
+import com.piaar_store_manager.server.domain.product_category.entity.ProductCategoryEntity;
+import com.piaar_store_manager.server.domain.product_category.service.ProductCategoryBusinessService;
+import com.piaar_store_manager.server.domain.product_category.service.ProductCategoryService;
+import com.piaar_store_manager.server.domain.product_option.entity.ProductOptionEntity;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ProductCatalogCacheTest {
+
+    @Test
+    public void getByOptionCodes_loadsOnlyMisses() {
+        FakeProductCatalogRepository repository = new FakeProductCatalogRepository("O1", "O2", "O3");
+        ProductCatalogCache cache = new ProductCatalogCache(repository, 100, 300);
+
+        Assertions.assertEquals(2, cache.getByOptionCodes(List.of("O1", "O2")).size());
+        Map<String, ProductCatalogEntry> result = cache.getByOptionCodes(List.of("O1", "O2", "O3"));
+
+        Assertions.assertEquals(3, result.size());
+        Assertions.assertEquals(List.of(List.of("O1", "O2"), List.of("O3")), repository.requestedCodes);
+        Assertions.assertEquals("P-O3", result.get("O3").getProduct().getDefaultName());
+        Assertions.assertEquals(2, cache.getStats().getHitCount());
+        Assertions.assertEquals(3, cache.getStats().getMissCount());
+    }
+
+    @Test
+    public void getByOptionCode_cachesAbsentCodes() {
+        FakeProductCatalogRepository repository = new FakeProductCatalogRepository("O1");
+        ProductCatalogCache cache = new ProductCatalogCache(repository, 100, 300);
+
+        Assertions.assertNull(cache.getByOptionCode("NONE"));
+        Assertions.assertNull(cache.getByOptionCode("NONE"));
+
+        Assertions.assertEquals(1, repository.requestedCodes.size());
+    }
+
+    @Test
+    public void getByOptionCodes_evictsLeastRecentlyUsed() {
+        FakeProductCatalogRepository repository = new FakeProductCatalogRepository("O1", "O2", "O3");
+        ProductCatalogCache cache = new ProductCatalogCache(repository, 2, 300);
+
+        cache.getByOptionCode("O1");
+        cache.getByOptionCode("O2");
+        cache.getByOptionCode("O1");
+        cache.getByOptionCode("O3");
+        cache.getByOptionCode("O1");
+        cache.getByOptionCode("O2");
+
+        Assertions.assertEquals(List.of(List.of("O1"), List.of("O2"), List.of("O3"), List.of("O2")), repository.requestedCodes);
+        Assertions.assertEquals(2, cache.getStats().getSize());
+        Assertions.assertEquals(2, cache.getStats().getEvictionCount());
+    }
+
+    @Test
+    public void invalidateAll_reloadsChangedValues() {
+        FakeProductCatalogRepository repository = new FakeProductCatalogRepository("O1");
+        ProductCatalogCache cache = new ProductCatalogCache(repository, 100, 300);
+
+        Assertions.assertEquals("P-O1", cache.getByOptionCode("O1").getProduct().getDefaultName());
+        Assertions.assertEquals(1, cache.getAll().size());
+
+        repository.products.put("O1", ProductEntity.builder().cid(1).defaultName("변경").build());
+        Assertions.assertEquals("P-O1", cache.getByOptionCode("O1").getProduct().getDefaultName());
+
+        cache.invalidateAll();
+
+        Assertions.assertEquals("변경", cache.getByOptionCode("O1").getProduct().getDefaultName());
+        Assertions.assertEquals("변경", cache.getAll().get(0).getProduct().getDefaultName());
+        Assertions.assertEquals(2, repository.selectAllCount);
+    }
+
+    @Test
+    public void getAll_fillsOptionCodeCache() {
+        FakeProductCatalogRepository repository = new FakeProductCatalogRepository("O1", "O2");
+        ProductCatalogCache cache = new ProductCatalogCache(repository, 100, 300);
+
+        cache.getAll();
+        cache.getAll();
+        cache.getByOptionCodes(List.of("O1", "O2"));
+
+        Assertions.assertEquals(1, repository.selectAllCount);
+        Assertions.assertTrue(repository.requestedCodes.isEmpty());
+    }
+
+    @Test
+    public void getByOptionCode_returnsCopies() {
+        FakeProductCatalogRepository repository = new FakeProductCatalogRepository("O1");
+        ProductCatalogCache cache = new ProductCatalogCache(repository, 100, 300);
+
+        cache.getByOptionCode("O1").getProduct().setDefaultName("수정");
+        cache.getByOptionCode("O1").getProductOption().setDefaultName("수정");
+
+        Assertions.assertEquals("P-O1", cache.getByOptionCode("O1").getProduct().getDefaultName());
+        Assertions.assertEquals("O-O1", cache.getByOptionCode("O1").getProductOption().getDefaultName());
+    }
+
+    @Test
+    public void categoryChanges_invalidateCache() {
+        FakeProductCatalogRepository repository = new FakeProductCatalogRepository("O1");
+        ProductCatalogCache cache = new ProductCatalogCache(repository, 100, 300);
+        ProductCategoryBusinessService categoryBusinessService = new ProductCategoryBusinessService(new FakeProductCategoryService(repository), cache);
+
+        Assertions.assertEquals("C-1", cache.getByOptionCode("O1").getProductCategory().getName());
+
+        categoryBusinessService.changeOne(ProductCategoryGetDto.builder().cid(1).id("C1").name("변경").build());
+        Assertions.assertEquals("변경", cache.getByOptionCode("O1").getProductCategory().getName());
+
+        categoryBusinessService.createOne(ProductCategoryGetDto.builder().id("C2").name("추가").build());
+        categoryBusinessService.destroyOne(2);
+        Assertions.assertEquals(3, cache.getStats().getInvalidationCount());
+    }
+
+    private static class FakeProductCategoryService extends ProductCategoryService {
+        private final FakeProductCatalogRepository repository;
+
+        private FakeProductCategoryService(FakeProductCatalogRepository repository) {
+            super(null);
+            this.repository = repository;
+        }
+
+        @Override
+        public ProductCategoryEntity searchOne(Integer categoryCid) {
+            return repository.productCategory;
+        }
+
+        @Override
+        public void saveAndModify(ProductCategoryEntity entity) {
+        }
+
+        @Override
+        public void destroyOne(Integer categoryCid) {
+        }
+    }
+
+    private static class FakeProductCatalogRepository implements ProductCatalogRepository {
+        private final List<String> optionCodes;
+        private final Map<String, ProductEntity> products = new HashMap<>();
+        private final List<List<String>> requestedCodes = new ArrayList<>();
+        private final ProductCategoryEntity productCategory = ProductCategoryEntity.builder().cid(1).id("C1").name("C-1").build();
+        private int selectAllCount;
+
+        private FakeProductCatalogRepository(String... optionCodes) {
+            this.optionCodes = List.of(optionCodes);
+            for (int i = 0; i < optionCodes.length; i++) {
+                products.put(optionCodes[i], ProductEntity.builder().cid(i + 1).defaultName("P-" + optionCodes[i]).build());
+            }
+        }
+
+        @Override
+        public List<ProductCatalogProj> selectListByOptionCodes(List<String> codes) {
+            requestedCodes.add(new ArrayList<>(codes));
+            return codes.stream()
+                    .filter(optionCodes::contains)
+                    .map(this::proj)
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        public List<ProductCatalogProj> selectAll() {
+            selectAllCount++;
+            return optionCodes.stream().map(this::proj).collect(Collectors.toList());
+        }
+
+        private ProductCatalogProj proj(String optionCode) {
+            ProductOptionEntity productOption = ProductOptionEntity.builder().code(optionCode).defaultName("O-" + optionCode).build();
+            ProductEntity product = products.get(optionCode);
+            ProductCategoryEntity productCategory = this.productCategory.toBuilder().build();
+
+            return new ProductCatalogProj() {
+                @Override
+                public ProductOptionEntity getProductOption() {
+                    return productOption;
+                }
+
+                @Override
+                public ProductEntity getProduct() {
+                    return product;
+                }
+
+                @Override
+                public ProductCategoryEntity getProductCategory() {
+                    return productCategory;
+                }
+            };
+        }
+    }
+}
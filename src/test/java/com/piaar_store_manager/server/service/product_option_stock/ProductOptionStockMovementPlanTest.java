@@ -0,0 +1,100 @@
+package com.piaar_store_manager.server.service.product_option_stock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.piaar_store_manager.server.domain.option_package.entity.OptionPackageEntity;
+import com.piaar_store_manager.server.domain.product_option.entity.ProductOptionEntity;
+import com.piaar_store_manager.server.domain.product_option_stock.dto.ProductOptionStockMovementDto;
+import com.piaar_store_manager.server.domain.product_option_stock.service.ProductOptionStockMovementPlan;
+import com.piaar_store_manager.server.domain.product_option_stock.service.ProductOptionStockMovementPlan.StockLeg;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ProductOptionStockMovementPlanTest {
+
+    @Test
+    public void expand_originOptionByCodeAndCid() {
+        ProductOptionEntity origin = option(1, "A", "n");
+        ProductOptionStockMovementPlan plan = ProductOptionStockMovementPlan.of(List.of(origin), Map.of());
+
+        List<StockLeg> legs = plan.expand(List.of(
+                movementByCode("A", 3),
+                ProductOptionStockMovementDto.builder().optionCid(1).unit(2).build(),
+                movementByCode("UNKNOWN", 5)
+        ));
+
+        Assertions.assertEquals(2, legs.size());
+        Assertions.assertEquals(1, legs.get(0).getOptionCid());
+        Assertions.assertEquals(origin.getId(), legs.get(0).getOptionId());
+        Assertions.assertEquals(3, legs.get(0).getUnit());
+        Assertions.assertEquals(2, legs.get(1).getUnit());
+    }
+
+    @Test
+    public void expand_packageOptionByComponents() {
+        ProductOptionEntity parent = option(10, "SET", "y");
+        UUID componentId = UUID.randomUUID();
+        ProductOptionStockMovementPlan plan = ProductOptionStockMovementPlan.of(List.of(parent), Map.of(parent.getId(), List.of(
+                component(parent.getId(), 1, componentId, 2),
+                component(parent.getId(), 2, UUID.randomUUID(), 1)
+        )));
+        UUID erpOrderItemId = UUID.randomUUID();
+
+        List<StockLeg> legs = plan.expand(List.of(movementByCode("SET", 3).setErpOrderItemId(erpOrderItemId)));
+
+        Assertions.assertEquals(2, legs.size());
+        Assertions.assertEquals(1, legs.get(0).getOptionCid());
+        Assertions.assertEquals(componentId, legs.get(0).getOptionId());
+        Assertions.assertEquals(6, legs.get(0).getUnit());
+        Assertions.assertEquals(3, legs.get(1).getUnit());
+        Assertions.assertEquals(erpOrderItemId, legs.get(1).getMovement().getErpOrderItemId());
+    }
+
+    @Test
+    public void expand_packageOptionWithoutComponents() {
+        ProductOptionStockMovementPlan plan = ProductOptionStockMovementPlan.of(List.of(option(10, "SET", "y")), Map.of());
+
+        Assertions.assertTrue(plan.expand(List.of(movementByCode("SET", 1))).isEmpty());
+    }
+
+    @Test
+    public void expand_dailyOrders() {
+        List<ProductOptionEntity> options = new ArrayList<>();
+        List<ProductOptionStockMovementDto> movements = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            options.add(option(i, "CODE" + i, "n"));
+            movements.add(movementByCode("CODE" + i, 1));
+        }
+
+        List<StockLeg> legs = ProductOptionStockMovementPlan.of(options, Map.of()).expand(movements);
+
+        Assertions.assertEquals(10000, legs.size());
+        Assertions.assertEquals(9999, legs.get(9999).getOptionCid());
+    }
+
+    private ProductOptionEntity option(Integer cid, String code, String packageYn) {
+        return ProductOptionEntity.builder()
+                .cid(cid)
+                .id(UUID.randomUUID())
+                .code(code)
+                .packageYn(packageYn)
+                .build();
+    }
+
+    private OptionPackageEntity component(UUID parentOptionId, Integer originOptionCid, UUID originOptionId, Integer packageUnit) {
+        return OptionPackageEntity.builder()
+                .parentOptionId(parentOptionId)
+                .originOptionCid(originOptionCid)
+                .originOptionId(originOptionId)
+                .packageUnit(packageUnit)
+                .build();
+    }
+
+    private ProductOptionStockMovementDto movementByCode(String optionCode, Integer unit) {
+        return ProductOptionStockMovementDto.builder().optionCode(optionCode).unit(unit).build();
+    }
+}
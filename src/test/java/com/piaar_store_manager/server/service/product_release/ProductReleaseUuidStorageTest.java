@@ -0,0 +1,82 @@
+package com.piaar_store_manager.server.service.product_release;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.List;
+
+import com.piaar_store_manager.server.config.jpa.UuidStorage;
+import com.piaar_store_manager.server.config.jpa.UuidStorageConfiguration;
+import com.piaar_store_manager.server.domain.erp_order_item.entity.ErpOrderItemEntity;
+import com.piaar_store_manager.server.domain.product.entity.ProductEntity;
+import com.piaar_store_manager.server.domain.product_option.entity.ProductOptionEntity;
+import com.piaar_store_manager.server.domain.product_receive.entity.ProductReceiveEntity;
+import com.piaar_store_manager.server.domain.product_release.entity.ProductReleaseEntity;
+import com.piaar_store_manager.server.domain.user.entity.UserEntity;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.MySQL8Dialect;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * BINARY(16) 저장 형식에서 JPQL 조인(JOIN UserEntity u ON u.id = x.createdBy)의 양쪽 컬럼 타입이 같은지 확인한다.
+ * 타입이 다르면 MySQL 은 문자열과 byte 를 비교하므로 조인 결과가 항상 비어있다.
+ */
+public class ProductReleaseUuidStorageTest {
+    private StandardServiceRegistry registry;
+
+    @BeforeEach
+    public void setUp() {
+        registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.DIALECT, MySQL8Dialect.class.getName())
+                .applySetting("hibernate.temp.use_jdbc_metadata_defaults", false)
+                .build();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        StandardServiceRegistryBuilder.destroy(registry);
+    }
+
+    @Test
+    public void userJoinColumns_sameSqlTypeInBinaryMode() {
+        Metadata metadata = this.buildMetadata(true);
+        int[] userIdSqlTypes = this.sqlTypes(metadata, UserEntity.class, "id");
+
+        // ProductReleaseRepository, ProductReceiveRepository, ProductOptionRepository, ProductRepository 의 사용자 조인
+        List<Class<?>> createdByEntities = Arrays.asList(ProductReleaseEntity.class, ProductReceiveEntity.class, ProductOptionEntity.class, ProductEntity.class);
+        for (Class<?> entityClass : createdByEntities) {
+            Assertions.assertArrayEquals(userIdSqlTypes, this.sqlTypes(metadata, entityClass, "createdBy"), entityClass.getSimpleName() + ".createdBy");
+        }
+    }
+
+    @Test
+    public void compactColumns_followStorageMode() {
+        Assertions.assertArrayEquals(new int[] { Types.BINARY }, this.sqlTypes(this.buildMetadata(true), ErpOrderItemEntity.class, "id"));
+        Assertions.assertArrayEquals(new int[] { Types.BINARY }, this.sqlTypes(this.buildMetadata(true), ProductReleaseEntity.class, "erpOrderItemId"));
+        Assertions.assertArrayEquals(new int[] { Types.VARCHAR }, this.sqlTypes(this.buildMetadata(false), ErpOrderItemEntity.class, "id"));
+    }
+
+    private Metadata buildMetadata(boolean binary) {
+        return new MetadataSources(registry)
+                .addAnnotatedClass(UserEntity.class)
+                .addAnnotatedClass(ProductReleaseEntity.class)
+                .addAnnotatedClass(ProductReceiveEntity.class)
+                .addAnnotatedClass(ProductOptionEntity.class)
+                .addAnnotatedClass(ProductEntity.class)
+                .addAnnotatedClass(ErpOrderItemEntity.class)
+                .getMetadataBuilder()
+                .applyTypes(UuidStorageConfiguration.typeContributor(new UuidStorage(binary)))
+                .build();
+    }
+
+    private int[] sqlTypes(Metadata metadata, Class<?> entityClass, String propertyName) {
+        return metadata.getEntityBinding(entityClass.getName()).getProperty(propertyName).getType().sqlTypes(metadata);
+    }
+}
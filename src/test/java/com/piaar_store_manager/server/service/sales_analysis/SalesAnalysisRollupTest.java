@@ -0,0 +1,185 @@
+package com.piaar_store_manager.server.service.sales_analysis;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import com.piaar_store_manager.server.domain.sales_analysis.dto.SalesAnalysisItemDto;
+import com.piaar_store_manager.server.domain.sales_analysis.dto.SalesDailyRollupSumDto;
+import com.piaar_store_manager.server.domain.sales_analysis.entity.SalesDailyRollupEntity;
+import com.piaar_store_manager.server.domain.sales_analysis.repository.SalesDailyRollupCustomJdbc;
+import com.piaar_store_manager.server.domain.sales_analysis.service.SalesAnalysisItemGrouping;
+import com.piaar_store_manager.server.domain.sales_analysis.service.SalesDailyRollupService;
+import com.piaar_store_manager.server.exception.CustomInvalidDataException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class SalesAnalysisRollupTest {
+
+    @Test
+    public void flushDirtyDates_rebuildsEachChannelDateOnce() {
+        RecordingRollupJdbc rollupJdbc = new RecordingRollupJdbc();
+        SalesDailyRollupService rollupService = this.createRollupService(rollupJdbc);
+
+        rollupService.markDirty(SalesDailyRollupEntity.CHANNEL_NAVER, Arrays.asList(
+                LocalDateTime.of(2022, 5, 1, 9, 0), LocalDateTime.of(2022, 5, 1, 18, 0), LocalDateTime.of(2022, 5, 2, 9, 0), null));
+        rollupService.markDirty(SalesDailyRollupEntity.CHANNEL_ERP, Arrays.asList(LocalDateTime.of(2022, 5, 1, 10, 0)));
+        rollupService.markDirty(SalesDailyRollupEntity.CHANNEL_NAVER, Arrays.asList(LocalDateTime.of(2022, 5, 1, 23, 0)));
+        rollupService.flushDirtyDates();
+
+        Assertions.assertEquals(new HashSet<>(Arrays.asList("naver|2022-05-01|2022-05-01", "naver|2022-05-02|2022-05-02", "erp|2022-05-01|2022-05-01")),
+                new HashSet<>(rollupJdbc.rebuilds));
+        Assertions.assertEquals(3, rollupJdbc.rebuilds.size());
+
+        // 이미 집계한 일자는 다시 집계하지 않는다.
+        rollupService.flushDirtyDates();
+        Assertions.assertEquals(3, rollupJdbc.rebuilds.size());
+    }
+
+    @Test
+    public void flushDirtyDates_retriesFailedDate() {
+        RecordingRollupJdbc rollupJdbc = new RecordingRollupJdbc();
+        SalesDailyRollupService rollupService = this.createRollupService(rollupJdbc);
+
+        rollupJdbc.failCount = 1;
+        rollupService.markDirty(SalesDailyRollupEntity.CHANNEL_COUPANG, Arrays.asList(LocalDateTime.of(2022, 5, 1, 9, 0)));
+        rollupService.flushDirtyDates();
+        Assertions.assertTrue(rollupJdbc.rebuilds.isEmpty());
+
+        rollupService.flushDirtyDates();
+        Assertions.assertEquals(Arrays.asList("coupang|2022-05-01|2022-05-01"), rollupJdbc.rebuilds);
+    }
+
+    @Test
+    public void markDirty_disabled() {
+        RecordingRollupJdbc rollupJdbc = new RecordingRollupJdbc();
+        SalesDailyRollupService rollupService = this.createRollupService(rollupJdbc);
+        ReflectionTestUtils.setField(rollupService, "enabled", false);
+
+        rollupService.markDirty(SalesDailyRollupEntity.CHANNEL_NAVER, Arrays.asList(LocalDateTime.of(2022, 5, 1, 9, 0)));
+        rollupService.markDirtyByIds(SalesDailyRollupEntity.CHANNEL_NAVER, Arrays.asList(UUID.randomUUID()));
+        rollupService.flushDirtyDates();
+
+        Assertions.assertTrue(rollupJdbc.rebuilds.isEmpty());
+        Assertions.assertEquals(0, rollupJdbc.idLookupCount);
+    }
+
+    @Test
+    public void backfill_chunksByDays() {
+        RecordingRollupJdbc rollupJdbc = new RecordingRollupJdbc();
+        SalesDailyRollupService rollupService = this.createRollupService(rollupJdbc);
+
+        rollupService.backfill(LocalDate.of(2022, 1, 1), LocalDate.of(2022, 3, 15));
+
+        List<String> naverRebuilds = rollupJdbc.rebuilds.stream().filter(rebuild -> rebuild.startsWith("naver|")).collect(Collectors.toList());
+        Assertions.assertEquals(Arrays.asList("naver|2022-01-01|2022-01-31", "naver|2022-02-01|2022-03-03", "naver|2022-03-04|2022-03-15"), naverRebuilds);
+        Assertions.assertEquals(9, rollupJdbc.rebuilds.size());
+    }
+
+    @Test
+    public void group_byProductAndCategory() {
+        UUID productId1 = UUID.randomUUID();
+        UUID productId2 = UUID.randomUUID();
+        List<SalesAnalysisItemDto> optionItems = Arrays.asList(
+                option("상의", productId1, "티셔츠", "블랙", 1, 2, 3),
+                option("상의", productId1, "티셔츠", "화이트", 4, 0, 0),
+                option("상의", productId2, "셔츠", "블루", 0, 0, 20),
+                option("하의", UUID.randomUUID(), "바지", "블루", 0, 1, 0)
+        );
+
+        List<SalesAnalysisItemDto> productItems = SalesAnalysisItemGrouping.group(optionItems, SalesAnalysisItemGrouping.GROUP_BY_PRODUCT);
+        Assertions.assertEquals(3, productItems.size());
+        Assertions.assertEquals("셔츠", productItems.get(0).getSalesProdManagementName());
+        Assertions.assertEquals("티셔츠", productItems.get(1).getSalesProdManagementName());
+        Assertions.assertEquals(5, productItems.get(1).getNaverSalesUnit());
+        Assertions.assertEquals(10, productItems.get(1).getTotalSalesUnit());
+        Assertions.assertNull(productItems.get(1).getSalesOptionCode());
+
+        List<SalesAnalysisItemDto> categoryItems = SalesAnalysisItemGrouping.group(optionItems, SalesAnalysisItemGrouping.GROUP_BY_CATEGORY);
+        Assertions.assertEquals(Arrays.asList("상의", "하의"), categoryItems.stream().map(SalesAnalysisItemDto::getCategoryName).collect(Collectors.toList()));
+        Assertions.assertEquals(30, categoryItems.get(0).getTotalSalesUnit());
+
+        List<SalesAnalysisItemDto> sortedOptionItems = SalesAnalysisItemGrouping.group(optionItems, null);
+        Assertions.assertEquals(4, sortedOptionItems.size());
+        Assertions.assertEquals(20, sortedOptionItems.get(0).getTotalSalesUnit());
+
+        Assertions.assertThrows(CustomInvalidDataException.class, () -> SalesAnalysisItemGrouping.group(optionItems, "day"));
+    }
+
+    private SalesDailyRollupService createRollupService(RecordingRollupJdbc rollupJdbc) {
+        SalesDailyRollupService rollupService = new SalesDailyRollupService(rollupJdbc, new NoOpTransactionManager());
+        ReflectionTestUtils.setField(rollupService, "enabled", true);
+        // created_at 과 같은 시간대로 집계한다.
+        ReflectionTestUtils.setField(rollupService, "salesZone", ZoneId.systemDefault().getId());
+        ReflectionTestUtils.setField(rollupService, "backfillChunkDays", 31);
+        return rollupService;
+    }
+
+    private SalesAnalysisItemDto option(String categoryName, UUID productId, String prodName, String optionName, int naver, int coupang, int erp) {
+        return SalesAnalysisItemDto.builder()
+                .categoryName(categoryName)
+                .salesProductId(productId)
+                .salesProdManagementName(prodName)
+                .salesOptionManagementName(optionName)
+                .salesOptionCode(prodName + "-" + optionName)
+                .naverSalesUnit(naver)
+                .coupangSalesUnit(coupang)
+                .erpSalesUnit(erp)
+                .totalSalesUnit(naver + coupang + erp)
+                .build();
+    }
+
+    private static class RecordingRollupJdbc implements SalesDailyRollupCustomJdbc {
+        private final List<String> rebuilds = new ArrayList<>();
+        private int failCount;
+        private int idLookupCount;
+
+        @Override
+        public int jdbcRebuild(String channel, LocalDate startDate, LocalDate endDate) {
+            if (failCount > 0) {
+                failCount--;
+                throw new IllegalStateException("rebuild failed");
+            }
+            rebuilds.add(channel + "|" + startDate + "|" + endDate);
+            return 1;
+        }
+
+        @Override
+        public List<SalesDailyRollupSumDto> jdbcSumByChannelAndOptionCode(LocalDate startDate, LocalDate endDate) {
+            return new ArrayList<>();
+        }
+
+        @Override
+        public List<LocalDate> jdbcSearchSalesDatesByIds(String channel, List<UUID> ids) {
+            idLookupCount++;
+            return new ArrayList<>();
+        }
+    }
+
+    private static class NoOpTransactionManager implements PlatformTransactionManager {
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}